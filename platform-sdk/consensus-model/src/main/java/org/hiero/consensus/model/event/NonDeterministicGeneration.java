@@ -2,6 +2,7 @@
 package org.hiero.consensus.model.event;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.function.Function;
 import org.hiero.consensus.model.sequence.map.SequenceMap;
 
 /**
@@ -30,9 +31,22 @@ public class NonDeterministicGeneration {
     public static void assignNGen(
             @NonNull final PlatformEvent event,
             @NonNull final SequenceMap<EventDescriptorWrapper, PlatformEvent> eventsWithParents) {
+        assignNGen(event, eventsWithParents::get);
+    }
+
+    /**
+     * Assigns the non-deterministic generation to an event. The nGen value is relative to the parents of the event if
+     * the parent can be found.
+     *
+     * @param event        the event to set the nGen of
+     * @param parentLookup finds a non-ancient, non-orphaned event by its descriptor, returns null if there is none
+     */
+    public static void assignNGen(
+            @NonNull final PlatformEvent event,
+            @NonNull final Function<EventDescriptorWrapper, PlatformEvent> parentLookup) {
         long maxParentNGen = GENERATION_UNDEFINED;
         for (final EventDescriptorWrapper parentDesc : event.getAllParents()) {
-            final PlatformEvent parent = eventsWithParents.get(parentDesc);
+            final PlatformEvent parent = parentLookup.apply(parentDesc);
             if (parent != null) {
                 maxParentNGen = Math.max(maxParentNGen, parent.getNGen());
             }
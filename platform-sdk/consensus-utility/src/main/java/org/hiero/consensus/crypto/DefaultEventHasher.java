@@ -6,14 +6,19 @@ import java.util.Objects;
 import org.hiero.consensus.model.event.PlatformEvent;
 
 /**
- * Default implementation of the {@link EventHasher}.
+ * Default implementation of the {@link EventHasher}. Building message digests is expensive, so each thread reuses its
+ * own {@link PbjStreamHasher} instead of creating one per event.
  */
 public class DefaultEventHasher implements EventHasher {
+
+    /** The hasher of each thread, with its digests. */
+    private static final ThreadLocal<PbjStreamHasher> HASHERS = ThreadLocal.withInitial(PbjStreamHasher::new);
+
     @Override
     @NonNull
     public PlatformEvent hashEvent(@NonNull final PlatformEvent event) {
         Objects.requireNonNull(event);
-        new PbjStreamHasher().hashEvent(event);
+        HASHERS.get().hashEvent(event);
         return event;
     }
 }
@@ -66,6 +66,9 @@ public class PbjStreamHasher implements EventHasher {
             @NonNull final EventCore eventCore,
             @NonNull final List<EventDescriptor> parents,
             @NonNull final List<TransactionWrapper> transactions) {
+        // instances are reused, and a previous call may have failed half way
+        eventDigest.reset();
+        transactionDigest.reset();
         try {
             EventCore.PROTOBUF.write(eventCore, eventStream);
             for (final EventDescriptor parent : parents) {
@@ -0,0 +1,206 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.consensus.crypto;
+
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.Objects;
+import org.hiero.base.crypto.DigestType;
+import org.hiero.base.crypto.Hash;
+import org.hiero.consensus.model.event.PlatformEvent;
+import org.hiero.consensus.model.transaction.TransactionWrapper;
+
+/**
+ * Hashes an event directly from the bytes of its serialized {@code GossipEvent}, without encoding the event core and
+ * the parents again. The hash is the same as the one computed by {@link PbjStreamHasher}, provided that the bytes are a
+ * canonical protobuf encoding of the event, which is what every node writes. If a peer sends a non-canonical encoding,
+ * the hash differs from the one the creator signed and the event fails signature validation.
+ * <p>
+ * Fields are fed to the digests straight from the bytes through a small reusable buffer, so hashing does not allocate
+ * anything besides the hashes themselves. An instance is not thread safe, use one per thread.
+ */
+public class SerializedEventHasher {
+
+    /** The field number of {@code event_core} in {@code GossipEvent}. */
+    private static final int EVENT_CORE_FIELD = 1;
+    /** The field number of {@code transactions} in {@code GossipEvent}. */
+    private static final int TRANSACTIONS_FIELD = 4;
+    /** The field number of {@code parents} in {@code GossipEvent}. */
+    private static final int PARENTS_FIELD = 5;
+
+    private static final int WIRE_TYPE_VARINT = 0;
+    private static final int WIRE_TYPE_FIXED_64 = 1;
+    private static final int WIRE_TYPE_DELIMITED = 2;
+    private static final int WIRE_TYPE_FIXED_32 = 5;
+
+    /** The size of the buffer used to move bytes into the digests. */
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private final MessageDigest eventDigest = DigestType.SHA_384.buildDigest();
+    private final MessageDigest transactionDigest = DigestType.SHA_384.buildDigest();
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+
+    /** The position of the next field to read. */
+    private long position;
+    /** The number of the field that was read last. */
+    private int fieldNumber;
+    /** The offset of the value of the field that was read last, if it is length delimited. */
+    private long valueOffset;
+    /** The length of the value of the field that was read last, or -1 if it is not length delimited. */
+    private long valueLength;
+
+    /**
+     * Hashes the given event from its serialized form and sets the hash on the event and on its transactions.
+     *
+     * @param event           the event to hash
+     * @param serializedEvent the {@code GossipEvent} protobuf bytes the event was parsed from
+     * @return the event
+     * @throws IllegalArgumentException if the bytes are not a valid serialized event with the same transaction count
+     */
+    @NonNull
+    public PlatformEvent hashEvent(@NonNull final PlatformEvent event, @NonNull final Bytes serializedEvent) {
+        Objects.requireNonNull(event);
+        event.setHash(hashEvent(serializedEvent, event.getTransactions()));
+        return event;
+    }
+
+    /**
+     * Hashes a serialized {@code GossipEvent} and sets the hashes of the given transactions.
+     *
+     * @param serializedEvent the {@code GossipEvent} protobuf bytes
+     * @param transactions    the transactions of the event, in the order they appear in the bytes
+     * @return the hash of the event
+     * @throws IllegalArgumentException if the bytes are not a valid serialized event with the same transaction count
+     */
+    @NonNull
+    public Hash hashEvent(@NonNull final Bytes serializedEvent, @NonNull final List<TransactionWrapper> transactions) {
+        Objects.requireNonNull(serializedEvent);
+        Objects.requireNonNull(transactions);
+
+        // a previous call may have failed half way
+        eventDigest.reset();
+        transactionDigest.reset();
+
+        // The event core, then the parents, then the transaction hashes, the same order as PbjStreamHasher
+        int eventCoreCount = 0;
+        position = 0;
+        while (nextField(serializedEvent)) {
+            if (fieldNumber == EVENT_CORE_FIELD) {
+                update(eventDigest, serializedEvent);
+                eventCoreCount++;
+            }
+        }
+        if (eventCoreCount != 1) {
+            throw new IllegalArgumentException("Expected one event core, found " + eventCoreCount);
+        }
+
+        position = 0;
+        while (nextField(serializedEvent)) {
+            if (fieldNumber == PARENTS_FIELD) {
+                update(eventDigest, serializedEvent);
+            }
+        }
+
+        int transactionIndex = 0;
+        position = 0;
+        while (nextField(serializedEvent)) {
+            if (fieldNumber == TRANSACTIONS_FIELD) {
+                if (transactionIndex >= transactions.size()) {
+                    throw new IllegalArgumentException(
+                            "The serialized event has more than " + transactions.size() + " transactions");
+                }
+                update(transactionDigest, serializedEvent);
+                final byte[] transactionHash = transactionDigest.digest();
+                transactions.get(transactionIndex++).setHash(Bytes.wrap(transactionHash));
+                eventDigest.update(transactionHash);
+            }
+        }
+        if (transactionIndex != transactions.size()) {
+            throw new IllegalArgumentException("The serialized event has " + transactionIndex
+                    + " transactions, expected " + transactions.size());
+        }
+
+        return new Hash(eventDigest.digest(), DigestType.SHA_384);
+    }
+
+    /**
+     * Read the next top level field. Only the fields hashed by this class are checked for their wire type, other
+     * fields are skipped.
+     *
+     * @param bytes the serialized event
+     * @return true if a field was read, false if the end of the bytes was reached
+     */
+    private boolean nextField(@NonNull final Bytes bytes) {
+        if (position >= bytes.length()) {
+            return false;
+        }
+        final long tag = readVarLong(bytes);
+        fieldNumber = (int) (tag >>> 3);
+        final int wireType = (int) (tag & 0b111);
+        valueLength = -1;
+        switch (wireType) {
+            case WIRE_TYPE_VARINT -> readVarLong(bytes);
+            case WIRE_TYPE_FIXED_64 -> position += Long.BYTES;
+            case WIRE_TYPE_FIXED_32 -> position += Integer.BYTES;
+            case WIRE_TYPE_DELIMITED -> {
+                valueLength = readVarLong(bytes);
+                if (valueLength < 0 || valueLength > bytes.length() - position) {
+                    throw new IllegalArgumentException("Field " + fieldNumber + " ends past the end of the event");
+                }
+                valueOffset = position;
+                position += valueLength;
+            }
+            default -> throw new IllegalArgumentException("Unsupported wire type " + wireType);
+        }
+        if (position > bytes.length()) {
+            throw new IllegalArgumentException("Field " + fieldNumber + " ends past the end of the event");
+        }
+        if (valueLength == -1
+                && (fieldNumber == EVENT_CORE_FIELD
+                        || fieldNumber == TRANSACTIONS_FIELD
+                        || fieldNumber == PARENTS_FIELD)) {
+            throw new IllegalArgumentException("Field " + fieldNumber + " is not length delimited");
+        }
+        return true;
+    }
+
+    /**
+     * Read a varint at the current position and move the position past it.
+     *
+     * @param bytes the serialized event
+     * @return the value of the varint
+     */
+    private long readVarLong(@NonNull final Bytes bytes) {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            if (position >= bytes.length()) {
+                throw new IllegalArgumentException("Truncated varint at the end of the event");
+            }
+            final byte b = bytes.getByte(position++);
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint in the event");
+    }
+
+    /**
+     * Feed the value of the field that was read last to a digest.
+     *
+     * @param digest the digest to update
+     * @param bytes  the serialized event
+     */
+    private void update(@NonNull final MessageDigest digest, @NonNull final Bytes bytes) {
+        long offset = valueOffset;
+        long remaining = valueLength;
+        while (remaining > 0) {
+            final int length = (int) Math.min(remaining, buffer.length);
+            bytes.getBytes(offset, buffer, 0, length);
+            digest.update(buffer, 0, length);
+            offset += length;
+            remaining -= length;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.consensus.crypto;
+
+import static org.hiero.base.utility.test.fixtures.RandomUtils.getRandomPrintSeed;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.hedera.hapi.platform.event.GossipEvent;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.hiero.base.crypto.Hash;
+import org.hiero.consensus.model.event.PlatformEvent;
+import org.hiero.consensus.model.test.fixtures.event.TestingEventBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class SerializedEventHasherTests {
+
+    /**
+     * Build a random event with parents.
+     *
+     * @param random           the source of randomness
+     * @param transactionCount the number of application transactions
+     * @return the event
+     */
+    private static PlatformEvent buildEvent(final Random random, final int transactionCount) {
+        return new TestingEventBuilder(random)
+                .setAppTransactionCount(transactionCount)
+                .setSystemTransactionCount(0)
+                .setSelfParent(new TestingEventBuilder(random).build())
+                .setOtherParent(new TestingEventBuilder(random).build())
+                .build();
+    }
+
+    /**
+     * Hashing the serialized event gives the same event and transaction hashes as encoding the event again.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 20})
+    void sameHashAsPbjStreamHasherTest(final int transactionCount) {
+        final Random random = getRandomPrintSeed();
+        final PbjStreamHasher expectedHasher = new PbjStreamHasher();
+        final SerializedEventHasher hasher = new SerializedEventHasher();
+
+        for (int i = 0; i < 10; i++) {
+            final PlatformEvent event = buildEvent(random, transactionCount);
+            final Bytes serializedEvent = GossipEvent.PROTOBUF.toBytes(event.getGossipEvent());
+
+            expectedHasher.hashEvent(event);
+            final Hash expectedHash = event.getHash();
+            final List<Bytes> expectedTransactionHashes = new ArrayList<>();
+            event.getTransactions().forEach(transaction -> expectedTransactionHashes.add(transaction.getHash()));
+
+            hasher.hashEvent(event, serializedEvent);
+
+            assertEquals(expectedHash, event.getHash());
+            assertEquals(transactionCount, event.getTransactions().size());
+            for (int j = 0; j < transactionCount; j++) {
+                assertEquals(expectedTransactionHashes.get(j), event.getTransactions().get(j).getHash());
+            }
+        }
+    }
+
+    /**
+     * Bytes that do not describe the event are rejected, and a failure does not affect the next hash.
+     */
+    @Test
+    void invalidBytesTest() {
+        final Random random = getRandomPrintSeed();
+        final SerializedEventHasher hasher = new SerializedEventHasher();
+
+        final PlatformEvent event = buildEvent(random, 5);
+        final Bytes serializedEvent = GossipEvent.PROTOBUF.toBytes(event.getGossipEvent());
+        final PlatformEvent otherEvent = buildEvent(random, 3);
+
+        // a different number of transactions
+        assertThrows(IllegalArgumentException.class, () -> hasher.hashEvent(otherEvent, serializedEvent));
+        // truncated bytes
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> hasher.hashEvent(event, serializedEvent.slice(0, serializedEvent.length() - 1)));
+        // no event core
+        assertThrows(IllegalArgumentException.class, () -> hasher.hashEvent(Bytes.EMPTY, List.of()));
+
+        hasher.hashEvent(event, serializedEvent);
+        final Hash hash = event.getHash();
+        new PbjStreamHasher().hashEvent(event);
+        assertEquals(event.getHash(), hash);
+    }
+}
@@ -5,6 +5,7 @@ import com.swirlds.merkledb.config.MerkleDbConfig;
 import com.swirlds.merkledb.files.DataFileCompactor;
 import com.swirlds.merkledb.files.hashmap.HalfDiskHashMap;
 import java.util.Arrays;
+import java.util.Random;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
@@ -84,4 +85,50 @@ public class HalfDiskMapBench extends BaseBench {
 
         afterTest(store::close);
     }
+
+    /**
+     * Measures key lookups. Keys are looked up in random order, both existing and missing keys, so every
+     * lookup scans entries of a whole bucket.
+     */
+    @Benchmark
+    public void get() throws Exception {
+        String storeName = "getBench";
+        beforeTest(storeName);
+
+        final var store = new HalfDiskHashMap(configuration, maxKey, getTestDir(), storeName, null, false);
+
+        // Write files
+        final BenchmarkKeySerializer keySerializer = new BenchmarkKeySerializer();
+        long start = System.currentTimeMillis();
+        long maxWrittenKey = 0;
+        for (int i = 0; i < numFiles; i++) {
+            store.startWriting();
+            resetKeys();
+            for (int j = 0; j < numRecords; ++j) {
+                long id = nextAscKey();
+                BenchmarkKey key = new BenchmarkKey(id);
+                store.put(keySerializer.toBytes(key), key.hashCode(), id);
+                maxWrittenKey = Math.max(maxWrittenKey, id);
+            }
+            store.endWriting();
+        }
+        System.out.println("Created " + numFiles + " files in " + (System.currentTimeMillis() - start) + "ms");
+
+        // Look up keys
+        final Random random = new Random(maxKey);
+        final int numLookups = numFiles * numRecords;
+        start = System.currentTimeMillis();
+        long found = 0;
+        for (int i = 0; i < numLookups; i++) {
+            final BenchmarkKey key = new BenchmarkKey(random.nextLong(maxWrittenKey + 1));
+            if (store.get(keySerializer.toBytes(key), key.hashCode(), INVALID_PATH) != INVALID_PATH) {
+                found++;
+            }
+        }
+        final long duration = Math.max(1, System.currentTimeMillis() - start);
+        System.out.println("Looked up " + numLookups + " keys (" + found + " found) in " + duration + "ms, "
+                + (numLookups * 1000L / duration) + " lookups/s");
+
+        afterTest(store::close);
+    }
 }
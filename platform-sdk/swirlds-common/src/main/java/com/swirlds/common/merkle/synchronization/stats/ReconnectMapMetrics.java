@@ -5,7 +5,9 @@ import com.swirlds.metrics.api.LongGauge;
 import com.swirlds.metrics.api.Metrics;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 /**
  * An implementation of ReconnectMapStats that emits all the stats as LongGauge metrics.
@@ -20,6 +22,15 @@ public class ReconnectMapMetrics implements ReconnectMapStats {
 
     private final ReconnectMapStats aggregateStats;
 
+    private final Metrics metrics;
+
+    /** A normalized map label used in metric names, may be null. */
+    @Nullable
+    private final String label;
+
+    /** Per-stream metrics, created on first use, sorted by stream index. */
+    private final Map<Integer, StreamMetrics> streamMetrics = new ConcurrentSkipListMap<>();
+
     private final LongGauge transfersFromTeacher;
     private final LongGauge transfersFromLearner;
 
@@ -45,11 +56,11 @@ public class ReconnectMapMetrics implements ReconnectMapStats {
             @NonNull final Metrics metrics,
             @Nullable final String originalLabel,
             @Nullable final ReconnectMapStats aggregateStats) {
-        Objects.requireNonNull(metrics, "metrics must not be null");
+        this.metrics = Objects.requireNonNull(metrics, "metrics must not be null");
         this.originalLabel = originalLabel;
         this.aggregateStats = aggregateStats;
         // Normalize the label
-        final String label = originalLabel == null ? null : originalLabel.replace('.', '_');
+        this.label = originalLabel == null ? null : originalLabel.replace('.', '_');
 
         this.transfersFromTeacher = metrics.getOrCreate(
                 new LongGauge.Config(RECONNECT_MAP_CATEGORY, formatName("transfersFromTeacher", label))
@@ -92,7 +103,36 @@ public class ReconnectMapMetrics implements ReconnectMapStats {
     }
 
     private static void add(final LongGauge metric, final long value) {
-        metric.set(metric.get() + value);
+        // Metrics may be updated from multiple reconnect threads at the same time
+        synchronized (metric) {
+            metric.set(metric.get() + value);
+        }
+    }
+
+    /**
+     * Metrics of a single reconnect stream.
+     */
+    private record StreamMetrics(
+            LongGauge transfersFromTeacher, LongGauge transfersFromLearner, LongGauge creditWaits) {}
+
+    private StreamMetrics getStreamMetrics(final int stream) {
+        return streamMetrics.computeIfAbsent(stream, s -> {
+            final StreamMetrics m = new StreamMetrics(
+                    metrics.getOrCreate(new LongGauge.Config(
+                                    RECONNECT_MAP_CATEGORY, formatName("stream" + s + "TransfersFromTeacher", label))
+                            .withDescription("number of transfers from teacher to learner in stream " + s)),
+                    metrics.getOrCreate(new LongGauge.Config(
+                                    RECONNECT_MAP_CATEGORY, formatName("stream" + s + "TransfersFromLearner", label))
+                            .withDescription("number of transfers from learner to teacher in stream " + s)),
+                    metrics.getOrCreate(new LongGauge.Config(
+                                    RECONNECT_MAP_CATEGORY, formatName("stream" + s + "CreditWaits", label))
+                            .withDescription("number of times stream " + s + " waited for flow control credits")));
+            // Stream metrics are created lazily, reset them to zeros on the first use in this reconnect
+            m.transfersFromTeacher().set(0);
+            m.transfersFromLearner().set(0);
+            m.creditWaits().set(0);
+            return m;
+        });
     }
 
     /**
@@ -187,6 +227,39 @@ public class ReconnectMapMetrics implements ReconnectMapStats {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void incrementStreamTransfersFromTeacher(final int stream) {
+        add(getStreamMetrics(stream).transfersFromTeacher(), 1);
+        if (aggregateStats != null) {
+            aggregateStats.incrementStreamTransfersFromTeacher(stream);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void incrementStreamTransfersFromLearner(final int stream) {
+        add(getStreamMetrics(stream).transfersFromLearner(), 1);
+        if (aggregateStats != null) {
+            aggregateStats.incrementStreamTransfersFromLearner(stream);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void incrementStreamCreditWaits(final int stream) {
+        add(getStreamMetrics(stream).creditWaits(), 1);
+        if (aggregateStats != null) {
+            aggregateStats.incrementStreamCreditWaits(stream);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -210,6 +283,15 @@ public class ReconnectMapMetrics implements ReconnectMapStats {
         sb.append("leafData=").append(leafData.get()).append("; ");
         sb.append("leafCleanData=").append(leafCleanData.get());
 
+        streamMetrics.forEach((stream, m) -> {
+            sb.append("; stream").append(stream).append("TransfersFromTeacher=");
+            sb.append(m.transfersFromTeacher().get());
+            sb.append("; stream").append(stream).append("TransfersFromLearner=");
+            sb.append(m.transfersFromLearner().get());
+            sb.append("; stream").append(stream).append("CreditWaits=");
+            sb.append(m.creditWaits().get());
+        });
+
         return sb.toString();
     }
 }
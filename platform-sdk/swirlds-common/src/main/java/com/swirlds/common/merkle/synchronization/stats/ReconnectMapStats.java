@@ -58,6 +58,28 @@ public interface ReconnectMapStats {
      */
     default void incrementLeafData(int dataNum, int cleanDataNum) {}
 
+    /**
+     * Increment a transfers from teacher counter for a single reconnect stream, when a reconnect
+     * algorithm uses multiple streams.
+     * @param stream the stream index
+     */
+    default void incrementStreamTransfersFromTeacher(int stream) {}
+
+    /**
+     * Increment a transfers from learner counter for a single reconnect stream, when a reconnect
+     * algorithm uses multiple streams.
+     * @param stream the stream index
+     */
+    default void incrementStreamTransfersFromLearner(int stream) {}
+
+    /**
+     * Increment a counter of times a reconnect stream had to wait for flow control credits before
+     * sending the next transfer. Large values indicate the number of credits per stream is too low
+     * for the connection latency.
+     * @param stream the stream index
+     */
+    default void incrementStreamCreditWaits(int stream) {}
+
     /**
      * Formats a string with all the accumulated stats and any other useful information
      * maintained by the implementation of this interface, such as the map name and similar.
@@ -3,6 +3,7 @@ package com.swirlds.component.framework.component;
 
 import static com.swirlds.component.framework.model.diagram.HyperlinkBuilder.platformCoreHyperlink;
 
+import com.swirlds.component.framework.component.internal.BatchInputWireToBind;
 import com.swirlds.component.framework.component.internal.FilterToBind;
 import com.swirlds.component.framework.component.internal.InputWireToBind;
 import com.swirlds.component.framework.component.internal.TransformerToBind;
@@ -64,6 +65,12 @@ public class ComponentWiring<COMPONENT_TYPE, OUTPUT_TYPE> {
      */
     private final List<InputWireToBind<COMPONENT_TYPE, Object, OUTPUT_TYPE>> inputsToBind = new ArrayList<>();
 
+    /**
+     * Input wires with batch handlers that need to be bound.
+     */
+    private final List<BatchInputWireToBind<COMPONENT_TYPE, Object, OUTPUT_TYPE>> batchInputsToBind =
+            new ArrayList<>();
+
     /**
      * Previously created transformers/splitters/filters.
      */
@@ -290,6 +297,46 @@ public class ComponentWiring<COMPONENT_TYPE, OUTPUT_TYPE> {
         return getOrBuildInputWire(proxy.getMostRecentlyInvokedMethod(), null, null, null, handler);
     }
 
+    /**
+     * Get an input wire for this component that is handled in batches. Data is inserted into the wire one object at a
+     * time as usual, but the component method receives a list of consecutive inputs if the scheduler drains its tasks
+     * in batches (e.g. a {@link TaskSchedulerType#SEQUENTIAL_THREAD SEQUENTIAL_THREAD} scheduler with a ring buffer).
+     * With other schedulers, the method receives each input in a list of its own.
+     *
+     * @param handler      the component method that will handle the inputs, e.g. "MyComponent::handleInputs". Should be
+     *                     a method on the class, not a method on a specific instance. The list is only valid for the
+     *                     duration of the call. Each non-null value in the returned list is passed to the output wire.
+     * @param <INPUT_TYPE> the input type
+     * @return the input wire
+     */
+    @NonNull
+    public <INPUT_TYPE> InputWire<INPUT_TYPE> getBatchInputWire(
+            @NonNull final BiFunction<COMPONENT_TYPE, List<INPUT_TYPE>, List<OUTPUT_TYPE>> handler) {
+        Objects.requireNonNull(handler);
+
+        handler.apply(proxyComponent, null);
+        final Method method = proxy.getMostRecentlyInvokedMethod();
+
+        if (inputWires.containsKey(method)) {
+            // We've already created this wire
+            return (InputWire<INPUT_TYPE>) inputWires.get(method);
+        }
+
+        final BindableInputWire<INPUT_TYPE, OUTPUT_TYPE> inputWire =
+                scheduler.buildInputWire(getInputWireLabel(method, null));
+        inputWires.put(method, (BindableInputWire<Object, Object>) inputWire);
+
+        if (component == null) {
+            // we will bind this later
+            batchInputsToBind.add((BatchInputWireToBind<COMPONENT_TYPE, Object, OUTPUT_TYPE>)
+                    new BatchInputWireToBind<>(inputWire, handler));
+        } else {
+            inputWire.bindBatch(x -> handler.apply(component, x));
+        }
+
+        return inputWire;
+    }
+
     /**
      * Get the output wire of this component, transformed by a function.
      *
@@ -667,19 +714,8 @@ public class ComponentWiring<COMPONENT_TYPE, OUTPUT_TYPE> {
             return (InputWire<INPUT_TYPE>) inputWires.get(method);
         }
 
-        final String label;
-        if (name != null) {
-            label = name;
-        } else {
-            final InputWireLabel inputWireLabel = method.getAnnotation(InputWireLabel.class);
-            if (inputWireLabel == null) {
-                label = method.getName();
-            } else {
-                label = inputWireLabel.value();
-            }
-        }
-
-        final BindableInputWire<INPUT_TYPE, OUTPUT_TYPE> inputWire = scheduler.buildInputWire(label);
+        final BindableInputWire<INPUT_TYPE, OUTPUT_TYPE> inputWire =
+                scheduler.buildInputWire(getInputWireLabel(method, name));
         inputWires.put(method, (BindableInputWire<Object, Object>) inputWire);
 
         if (component == null) {
@@ -711,6 +747,26 @@ public class ComponentWiring<COMPONENT_TYPE, OUTPUT_TYPE> {
         return inputWire;
     }
 
+    /**
+     * Get the label of the input wire for a specified method.
+     *
+     * @param method the method that will handle data on the input wire
+     * @param name   the optional name of the input wire
+     * @return the name if not null, otherwise the value of the {@link InputWireLabel} annotation of the method if
+     * present, otherwise the name of the method
+     */
+    @NonNull
+    private static String getInputWireLabel(@NonNull final Method method, @Nullable final String name) {
+        if (name != null) {
+            return name;
+        }
+        final InputWireLabel inputWireLabel = method.getAnnotation(InputWireLabel.class);
+        if (inputWireLabel == null) {
+            return method.getName();
+        }
+        return inputWireLabel.value();
+    }
+
     /**
      * Flush all data in the task scheduler. Blocks until all data currently in flight has been processed.
      *
@@ -774,6 +830,11 @@ public class ComponentWiring<COMPONENT_TYPE, OUTPUT_TYPE> {
             }
         }
 
+        // Bind input wires with batch handlers
+        for (final BatchInputWireToBind<COMPONENT_TYPE, Object, OUTPUT_TYPE> wireToBind : batchInputsToBind) {
+            wireToBind.inputWire().bindBatch(x -> wireToBind.handler().apply(component, x));
+        }
+
         // Bind transformers
         for (final TransformerToBind<COMPONENT_TYPE, Object, Object> transformerToBind : transformersToBind) {
             final WireTransformer<Object, Object> transformer = transformerToBind.transformer();
@@ -0,0 +1,21 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.component.framework.component.internal;
+
+import com.swirlds.component.framework.wires.input.BindableInputWire;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * Contains information necessary to bind an input wire with a batch handler when we eventually get the implementation
+ * of the component.
+ *
+ * @param inputWire        the input wire to bind
+ * @param handler          the component method that handles a batch of inputs
+ * @param <COMPONENT_TYPE> the type of the component
+ * @param <INPUT_TYPE>     the input type of the input wire
+ * @param <OUTPUT_TYPE>    the output type of the component
+ */
+public record BatchInputWireToBind<COMPONENT_TYPE, INPUT_TYPE, OUTPUT_TYPE>(
+        @NonNull BindableInputWire<INPUT_TYPE, OUTPUT_TYPE> inputWire,
+        @NonNull BiFunction<COMPONENT_TYPE, List<INPUT_TYPE>, List<OUTPUT_TYPE>> handler) {}
@@ -5,6 +5,8 @@ import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerT
 import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.SEQUENTIAL;
 import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.SEQUENTIAL_THREAD;
 
+import com.swirlds.base.state.Startable;
+import com.swirlds.base.state.Stoppable;
 import com.swirlds.base.time.Time;
 import com.swirlds.component.framework.model.diagram.HyperlinkBuilder;
 import com.swirlds.component.framework.model.internal.monitor.HealthMonitor;
@@ -15,6 +17,7 @@ import com.swirlds.component.framework.schedulers.ExceptionHandlers;
 import com.swirlds.component.framework.schedulers.TaskScheduler;
 import com.swirlds.component.framework.schedulers.builders.TaskSchedulerBuilder;
 import com.swirlds.component.framework.schedulers.builders.internal.StandardTaskSchedulerBuilder;
+import com.swirlds.component.framework.schedulers.internal.RingBufferTaskScheduler;
 import com.swirlds.component.framework.schedulers.internal.SequentialThreadTaskScheduler;
 import com.swirlds.component.framework.wires.input.BindableInputWire;
 import com.swirlds.component.framework.wires.output.OutputWire;
@@ -59,9 +62,10 @@ public class StandardWiringModel extends TraceableWiringModel {
     private final BindableInputWire<Instant, Duration> healthMonitorInputWire;
 
     /**
-     * Thread schedulers need to have their threads started/stopped.
+     * Thread schedulers need to have their threads started/stopped. Holds {@link SequentialThreadTaskScheduler}s and
+     * {@link RingBufferTaskScheduler}s.
      */
-    private final List<SequentialThreadTaskScheduler<?>> threadSchedulers = new ArrayList<>();
+    private final List<TaskScheduler<?>> threadSchedulers = new ArrayList<>();
 
     /**
      * The default fork join pool, schedulers not explicitly assigned a pool will use this one.
@@ -193,7 +197,7 @@ public class StandardWiringModel extends TraceableWiringModel {
     public void registerScheduler(@NonNull final TaskScheduler<?> scheduler, @Nullable final String hyperlink) {
         super.registerScheduler(scheduler, hyperlink);
         if (scheduler.getType() == SEQUENTIAL_THREAD) {
-            threadSchedulers.add((SequentialThreadTaskScheduler<?>) scheduler);
+            threadSchedulers.add(scheduler);
         }
     }
 
@@ -235,8 +239,8 @@ public class StandardWiringModel extends TraceableWiringModel {
             heartbeatScheduler.start();
         }
 
-        for (final SequentialThreadTaskScheduler<?> threadScheduler : threadSchedulers) {
-            threadScheduler.start();
+        for (final TaskScheduler<?> threadScheduler : threadSchedulers) {
+            ((Startable) threadScheduler).start();
         }
     }
 
@@ -251,8 +255,8 @@ public class StandardWiringModel extends TraceableWiringModel {
             heartbeatScheduler.stop();
         }
 
-        for (final SequentialThreadTaskScheduler<?> threadScheduler : threadSchedulers) {
-            threadScheduler.stop();
+        for (final TaskScheduler<?> threadScheduler : threadSchedulers) {
+            ((Stoppable) threadScheduler).stop();
         }
 
         if (anchor != null) {
@@ -31,8 +31,8 @@ public final class DirectSchedulerChecks {
      * <ul>
      * <li>
      * Calling into a component with type {@link TaskSchedulerType#DIRECT DIRECT}
-     * from a component with {@link TaskSchedulerType#CONCURRENT CONCURRENT} is not
-     * allowed.
+     * from a component with {@link TaskSchedulerType#CONCURRENT CONCURRENT} or type
+     * {@link TaskSchedulerType#PARTITIONED PARTITIONED} is not allowed.
      * </li>
      * <li>
      * Calling into a component with type {@link TaskSchedulerType#DIRECT DIRECT}
@@ -74,12 +74,15 @@ public final class DirectSchedulerChecks {
 
             final Set<ModelVertex> directSchedulersAccessed = collectDirectVerticesAccessedByScheduler(vertex);
 
-            if (vertexType == TaskSchedulerType.CONCURRENT && !directSchedulersAccessed.isEmpty()) {
-                // It is illegal for a concurrent scheduler to call into a direct scheduler.
+            if ((vertexType == TaskSchedulerType.CONCURRENT || vertexType == TaskSchedulerType.PARTITIONED)
+                    && !directSchedulersAccessed.isEmpty()) {
+                // It is illegal for a concurrent or partitioned scheduler to call into a direct scheduler.
                 illegalAccessDetected = true;
                 sb.append("  ")
                         .append(vertex.getName())
-                        .append(" is a concurrent scheduler that calls into direct scheduler(s):\n");
+                        .append(" is a ")
+                        .append(vertexType == TaskSchedulerType.CONCURRENT ? "concurrent" : "partitioned")
+                        .append(" scheduler that calls into direct scheduler(s):\n");
                 for (final ModelVertex directScheduler : directSchedulersAccessed) {
                     sb.append("    - ").append(directScheduler.getName()).append("\n");
                 }
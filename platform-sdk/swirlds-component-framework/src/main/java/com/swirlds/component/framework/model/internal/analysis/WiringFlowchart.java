@@ -6,6 +6,7 @@ import static com.swirlds.component.framework.model.internal.analysis.ModelVerte
 import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.CONCURRENT;
 import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.DIRECT;
 import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.DIRECT_THREADSAFE;
+import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.PARTITIONED;
 import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.SEQUENTIAL;
 import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.SEQUENTIAL_THREAD;
 
@@ -290,7 +291,7 @@ public class WiringFlowchart {
         boolean hasState = false;
 
         for (final ModelVertex vertex : groupVertices) {
-            if (vertex.getType() == CONCURRENT) {
+            if (vertex.getType() == CONCURRENT || vertex.getType() == PARTITIONED) {
                 return CONCURRENT;
             }
 
@@ -8,6 +8,7 @@ import static org.hiero.base.CompareTo.isGreaterThanOrEqualTo;
 import com.swirlds.base.time.Time;
 import com.swirlds.component.framework.schedulers.TaskScheduler;
 import com.swirlds.component.framework.schedulers.builders.TaskSchedulerBuilder;
+import com.swirlds.component.framework.schedulers.internal.PartitionedTaskScheduler;
 import com.swirlds.metrics.api.Metrics;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
@@ -94,6 +95,9 @@ public class HealthMonitor {
                 this.schedulers.add(Objects.requireNonNull(scheduler));
                 lastHealthyTimes.add(null);
             }
+            if (scheduler instanceof final PartitionedTaskScheduler<?> partitionedScheduler) {
+                this.metrics.registerPartitionedScheduler(partitionedScheduler);
+            }
         }
 
         logger = new HealthMonitorLogger(time, this.schedulers, healthLogThreshold, healthLogPeriod);
@@ -7,6 +7,7 @@ import static com.swirlds.logging.legacy.LogMarker.STARTUP;
 import com.swirlds.base.time.Time;
 import com.swirlds.common.utility.throttle.RateLimitedLogger;
 import com.swirlds.component.framework.schedulers.TaskScheduler;
+import com.swirlds.component.framework.schedulers.internal.PartitionedTaskScheduler;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.time.Duration;
 import java.util.HashMap;
@@ -71,6 +72,19 @@ public class HealthMonitorLogger {
         final RateLimitedLogger rateLimitedLogger = schedulerLoggers.get(scheduler.getName());
         final String formattedDuration =
                 UNIT_NANOSECONDS.buildFormatter(unhealthyDuration.toNanos()).render();
+        if (scheduler instanceof final PartitionedTaskScheduler<?> partitionedScheduler) {
+            rateLimitedLogger.warn(
+                    STARTUP.getMarker(),
+                    "Task scheduler {} has been unhealthy for {}. It currently has {}/{} unhandled tasks, "
+                            + "{} of them in its busiest partition (out of {} partitions).",
+                    scheduler.getName(),
+                    formattedDuration,
+                    scheduler.getUnprocessedTaskCount(),
+                    scheduler.getCapacity(),
+                    partitionedScheduler.getLargestPartitionTaskCount(),
+                    partitionedScheduler.getPartitionCount());
+            return;
+        }
         rateLimitedLogger.warn(
                 STARTUP.getMarker(),
                 "Task scheduler {} has been unhealthy for {}. It currently has {}/{} unhandled tasks.",
@@ -4,6 +4,8 @@ package com.swirlds.component.framework.model.internal.monitor;
 import static org.hiero.base.CompareTo.isLessThan;
 
 import com.swirlds.common.metrics.DurationGauge;
+import com.swirlds.common.metrics.FunctionGauge;
+import com.swirlds.component.framework.schedulers.internal.PartitionedTaskScheduler;
 import com.swirlds.metrics.api.IntegerGauge;
 import com.swirlds.metrics.api.Metrics;
 import edu.umd.cs.findbugs.annotations.NonNull;
@@ -27,6 +29,8 @@ public class HealthMonitorMetrics {
 
     private final Duration healthThreshold;
 
+    private final Metrics metrics;
+
     /**
      * Constructor.
      *
@@ -41,6 +45,23 @@ public class HealthMonitorMetrics {
         healthy.set(1);
 
         healthThreshold = healthLogThreshold;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Register a metric that tracks the number of unhandled tasks in the busiest partition of a partitioned scheduler.
+     *
+     * @param scheduler the partitioned scheduler
+     */
+    public void registerPartitionedScheduler(@NonNull final PartitionedTaskScheduler<?> scheduler) {
+        final FunctionGauge.Config<Long> config = new FunctionGauge.Config<>(
+                        "platform",
+                        scheduler.getName() + "_largest_partition_task_count",
+                        Long.class,
+                        scheduler::getLargestPartitionTaskCount)
+                .withDescription("The number of unhandled tasks in the busiest partition of the scheduler "
+                        + scheduler.getName());
+        metrics.getOrCreate(config);
     }
 
     /**
@@ -20,6 +20,11 @@ public interface TaskSchedulerBuilder<OUT> {
 
     long UNLIMITED_CAPACITY = -1;
 
+    /**
+     * The largest supported ring buffer size, see {@link #withRingBufferSize(int)}.
+     */
+    int MAX_RING_BUFFER_SIZE = 1 << 30;
+
     /**
      * Configure this task scheduler with values from settings.
      *
@@ -173,6 +178,56 @@ public interface TaskSchedulerBuilder<OUT> {
     @NonNull
     TaskSchedulerBuilder<OUT> withDataCounter(@NonNull ToLongFunction<Object> dataCounter);
 
+    /**
+     * Provide a function that returns the partition key of a data object. Required by
+     * {@link TaskSchedulerType#PARTITIONED} schedulers, ignored by all other scheduler types. Data objects with the
+     * same key are always handled in the order they were received. Data objects with different keys may be handled in
+     * parallel.
+     *
+     * @param partitioner returns the partition key of a data object, must be threadsafe
+     * @return this
+     */
+    @NonNull
+    TaskSchedulerBuilder<OUT> withPartitioner(@NonNull ToLongFunction<Object> partitioner);
+
+    /**
+     * Set the number of partitions of a {@link TaskSchedulerType#PARTITIONED} scheduler. Keys are mapped onto
+     * partitions, so two keys may share a partition and be handled one after the other. Default is the number of
+     * available processors. Ignored by all other scheduler types.
+     *
+     * @param partitionCount the number of partitions, must be at least 1
+     * @return this
+     */
+    @NonNull
+    TaskSchedulerBuilder<OUT> withPartitionCount(int partitionCount);
+
+    /**
+     * Set whether a {@link TaskSchedulerType#PARTITIONED} scheduler executes tasks on virtual threads instead of a fork
+     * join pool. Default false. Ignored by all other scheduler types.
+     *
+     * @param virtualThreadsEnabled true if tasks should be executed on virtual threads
+     * @return this
+     */
+    @NonNull
+    TaskSchedulerBuilder<OUT> withVirtualThreadsEnabled(boolean virtualThreadsEnabled);
+
+    /**
+     * Back a {@link TaskSchedulerType#SEQUENTIAL_THREAD} scheduler with a preallocated multi-producer/single-consumer
+     * ring buffer instead of a linked queue. The scheduler thread drains the ring buffer in batches, and consecutive
+     * tasks for an input wire bound with a batch handler (see
+     * {@link com.swirlds.component.framework.wires.input.BindableInputWire#bindBatch(java.util.function.Function)}) are
+     * passed to the handler in a single call. Default 0, which means no ring buffer is used. Ignored by all other
+     * scheduler types.
+     * <p>
+     * A producer that finds the ring buffer full waits until there is space, even when injecting. The size should be
+     * comfortably larger than the capacity of the scheduler.
+     *
+     * @param ringBufferSize the number of slots, rounded up to a power of two, or 0 to not use a ring buffer
+     * @return this
+     */
+    @NonNull
+    TaskSchedulerBuilder<OUT> withRingBufferSize(int ringBufferSize);
+
     /**
      * Build the task scheduler.
      *
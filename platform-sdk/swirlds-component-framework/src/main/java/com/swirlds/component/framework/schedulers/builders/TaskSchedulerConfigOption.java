@@ -21,11 +21,30 @@ public enum TaskSchedulerConfigOption {
     /**
      * If present, the scheduler will be capable of squelching.
      */
-    SQUELCHABLE;
+    SQUELCHABLE,
+    /**
+     * If present, a {@link TaskSchedulerType#PARTITIONED} scheduler will execute tasks on virtual threads instead of a
+     * fork join pool.
+     */
+    VIRTUAL_THREADS;
 
     /**
      * This is not defined as an enum constant because it is used in a special way. To specify the capacity,
      * use a string in the form "CAPACITY(1234)" where 1234 is the desired capacity.
      */
     public static final String CAPACITY = "CAPACITY";
+
+    /**
+     * This is not defined as an enum constant because it is used in a special way. To specify the number of partitions
+     * of a {@link TaskSchedulerType#PARTITIONED} scheduler, use a string in the form "PARTITIONS(16)" where 16 is the
+     * desired number of partitions.
+     */
+    public static final String PARTITIONS = "PARTITIONS";
+
+    /**
+     * This is not defined as an enum constant because it is used in a special way. To back a
+     * {@link TaskSchedulerType#SEQUENTIAL_THREAD} scheduler with a preallocated ring buffer, use a string in the form
+     * "RING_BUFFER(4096)" where 4096 is the desired number of slots.
+     */
+    public static final String RING_BUFFER = "RING_BUFFER";
 }
@@ -1,10 +1,12 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.swirlds.component.framework.schedulers.builders;
 
+import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerBuilder.MAX_RING_BUFFER_SIZE;
 import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerConfigOption.BUSY_FRACTION_METRIC;
 import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerConfigOption.FLUSHABLE;
 import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerConfigOption.SQUELCHABLE;
 import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerConfigOption.UNHANDLED_TASK_METRIC;
+import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerConfigOption.VIRTUAL_THREADS;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
@@ -20,6 +22,13 @@ import edu.umd.cs.findbugs.annotations.Nullable;
  * @param busyFractionMetricEnabled  whether the busy fraction metric should be enabled, if null then false is used
  * @param flushingEnabled            whether flushing is enabled, if null then false is used
  * @param squelchingEnabled          whether squelching is enabled, if null then false is used
+ * @param partitionCount             the number of partitions of a {@link TaskSchedulerType#PARTITIONED} scheduler, if
+ *                                   null then the number of available processors is used
+ * @param virtualThreadsEnabled      whether a {@link TaskSchedulerType#PARTITIONED} scheduler executes tasks on virtual
+ *                                   threads, if null then false is used
+ * @param ringBufferSize             the number of slots of the ring buffer backing a
+ *                                   {@link TaskSchedulerType#SEQUENTIAL_THREAD} scheduler, if null then no ring buffer
+ *                                   is used
  */
 public record TaskSchedulerConfiguration(
         @Nullable TaskSchedulerType type,
@@ -27,28 +36,31 @@ public record TaskSchedulerConfiguration(
         @Nullable Boolean unhandledTaskMetricEnabled,
         @Nullable Boolean busyFractionMetricEnabled,
         @Nullable Boolean flushingEnabled,
-        @Nullable Boolean squelchingEnabled) {
+        @Nullable Boolean squelchingEnabled,
+        @Nullable Integer partitionCount,
+        @Nullable Boolean virtualThreadsEnabled,
+        @Nullable Integer ringBufferSize) {
 
     /**
      * This configuration is for a no-op task scheduler. It is not necessary to use this constant for a no-op task
      * scheduler, but it is provided for convenience.
      */
     public static final TaskSchedulerConfiguration NO_OP_CONFIGURATION =
-            new TaskSchedulerConfiguration(TaskSchedulerType.NO_OP, 0L, false, false, false, false);
+            new TaskSchedulerConfiguration(TaskSchedulerType.NO_OP, 0L, false, false, false, false, null, null, null);
 
     /**
      * This configuration is for a simple direct task scheduler. It is not necessary to use this constant for a direct
      * task scheduler, but it is provided for convenience.
      */
     public static final TaskSchedulerConfiguration DIRECT_CONFIGURATION =
-            new TaskSchedulerConfiguration(TaskSchedulerType.DIRECT, 0L, false, false, false, false);
+            new TaskSchedulerConfiguration(TaskSchedulerType.DIRECT, 0L, false, false, false, false, null, null, null);
 
     /**
      * This configuration is for a thread-safe direct task scheduler. It is not necessary to use this constant for a
      * thread-safe direct task scheduler, but it is provided for convenience.
      */
-    public static final TaskSchedulerConfiguration DIRECT_THREADSAFE_CONFIGURATION =
-            new TaskSchedulerConfiguration(TaskSchedulerType.DIRECT_THREADSAFE, 0L, false, false, false, false);
+    public static final TaskSchedulerConfiguration DIRECT_THREADSAFE_CONFIGURATION = new TaskSchedulerConfiguration(
+            TaskSchedulerType.DIRECT_THREADSAFE, 0L, false, false, false, false, null, null, null);
 
     /**
      * Parse a string representation of a task scheduler configuration.
@@ -63,6 +75,14 @@ public record TaskSchedulerConfiguration(
      *         Zero or one string of the form "CAPACITY(1234)", specifies the maximum number of unhandled tasks.
      *     </li>
      *     <li>
+     *         Zero or one string of the form "PARTITIONS(16)", specifies the number of partitions of a
+     *         {@link TaskSchedulerType#PARTITIONED} scheduler.
+     *     </li>
+     *     <li>
+     *         Zero or one string of the form "RING_BUFFER(4096)", specifies the number of slots of the ring buffer
+     *         backing a {@link TaskSchedulerType#SEQUENTIAL_THREAD} scheduler.
+     *     </li>
+     *     <li>
      *         Zero or more values from the {@link TaskSchedulerConfigOption} enum, specifies the configuration options.
      *         Sets a boolean configuration option to true if the value is present, and false if the value is prefixed
      *         with a "!". If not present then the default is used.
@@ -84,6 +104,9 @@ public record TaskSchedulerConfiguration(
         Boolean busyFractionMetricEnabled = null;
         Boolean flushingEnabled = null;
         Boolean squelchingEnabled = null;
+        Integer partitionCount = null;
+        Boolean virtualThreadsEnabled = null;
+        Integer ringBufferSize = null;
 
         final String[] parts = string.split(" ");
         for (final String part : parts) {
@@ -101,7 +124,7 @@ public record TaskSchedulerConfiguration(
                 continue;
             }
 
-            final Long parsedCapacity = tryToParseCapacity(strippedPart);
+            final Long parsedCapacity = tryToParseNumber(TaskSchedulerConfigOption.CAPACITY, strippedPart);
             if (parsedCapacity != null) {
                 if (unhandledTaskCapacity != null) {
                     throw new IllegalArgumentException("Multiple capacities specified: " + string);
@@ -110,6 +133,30 @@ public record TaskSchedulerConfiguration(
                 continue;
             }
 
+            final Long parsedPartitions = tryToParseNumber(TaskSchedulerConfigOption.PARTITIONS, strippedPart);
+            if (parsedPartitions != null) {
+                if (partitionCount != null) {
+                    throw new IllegalArgumentException("Multiple partition counts specified: " + string);
+                }
+                if (parsedPartitions < 1 || parsedPartitions > Integer.MAX_VALUE) {
+                    throw new IllegalArgumentException("Invalid partition count \"" + strippedPart + "\"");
+                }
+                partitionCount = parsedPartitions.intValue();
+                continue;
+            }
+
+            final Long parsedRingBufferSize = tryToParseNumber(TaskSchedulerConfigOption.RING_BUFFER, strippedPart);
+            if (parsedRingBufferSize != null) {
+                if (ringBufferSize != null) {
+                    throw new IllegalArgumentException("Multiple ring buffer sizes specified: " + string);
+                }
+                if (parsedRingBufferSize < 1 || parsedRingBufferSize > MAX_RING_BUFFER_SIZE) {
+                    throw new IllegalArgumentException("Invalid ring buffer size \"" + strippedPart + "\"");
+                }
+                ringBufferSize = parsedRingBufferSize.intValue();
+                continue;
+            }
+
             final Boolean parsedUnhandledTaskMetric = tryToParseOption(UNHANDLED_TASK_METRIC, strippedPart);
             if (parsedUnhandledTaskMetric != null) {
                 if (unhandledTaskMetricEnabled != null) {
@@ -148,6 +195,15 @@ public record TaskSchedulerConfiguration(
                 continue;
             }
 
+            final Boolean parsedVirtualThreads = tryToParseOption(VIRTUAL_THREADS, strippedPart);
+            if (parsedVirtualThreads != null) {
+                if (virtualThreadsEnabled != null) {
+                    throw new IllegalArgumentException("Multiple virtual thread configurations specified: " + string);
+                }
+                virtualThreadsEnabled = parsedVirtualThreads;
+                continue;
+            }
+
             throw new IllegalArgumentException("Invalid task scheduler configuration: " + part);
         }
 
@@ -157,7 +213,10 @@ public record TaskSchedulerConfiguration(
                 unhandledTaskMetricEnabled,
                 busyFractionMetricEnabled,
                 flushingEnabled,
-                squelchingEnabled);
+                squelchingEnabled,
+                partitionCount,
+                virtualThreadsEnabled,
+                ringBufferSize);
     }
 
     /**
@@ -176,26 +235,27 @@ public record TaskSchedulerConfiguration(
     }
 
     /**
-     * Try to parse a string as a capacity.
+     * Try to parse a string as a number with a name, e.g. a capacity.
      *
+     * @param name   the name of the number, e.g. {@link TaskSchedulerConfigOption#CAPACITY}
      * @param string the string to parse
-     * @return the parsed capacity, or null if the string is not a valid capacity
+     * @return the parsed number, or null if the string is not a number with the given name
      */
     @Nullable
-    private static Long tryToParseCapacity(@NonNull final String string) {
-        if (string.startsWith(TaskSchedulerConfigOption.CAPACITY)) {
+    private static Long tryToParseNumber(@NonNull final String name, @NonNull final String string) {
+        if (string.startsWith(name)) {
 
             try {
                 // parse a string in the form "CAPACITY(1234)"
                 final int openParenIndex = string.indexOf('(');
                 final int closeParenIndex = string.indexOf(')');
                 if (openParenIndex == -1 || closeParenIndex == -1) {
-                    throw new IllegalArgumentException("Invalid capacity \"" + string + "\"");
+                    throw new IllegalArgumentException("Invalid " + name.toLowerCase() + " \"" + string + "\"");
                 }
-                final String capacityString = string.substring(openParenIndex + 1, closeParenIndex);
-                return Long.parseLong(capacityString);
+                final String numberString = string.substring(openParenIndex + 1, closeParenIndex);
+                return Long.parseLong(numberString);
             } catch (final NumberFormatException e) {
-                throw new IllegalArgumentException("Invalid capacity \"" + string + "\"", e);
+                throw new IllegalArgumentException("Invalid " + name.toLowerCase() + " \"" + string + "\"", e);
             }
         }
         return null;
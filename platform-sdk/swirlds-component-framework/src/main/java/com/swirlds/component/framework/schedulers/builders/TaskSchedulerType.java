@@ -22,6 +22,17 @@ public enum TaskSchedulerType {
      * guaranteed.
      */
     CONCURRENT,
+    /**
+     * Each task is assigned to a partition by the key returned by the partitioner (see
+     * {@link TaskSchedulerBuilder#withPartitioner(java.util.function.ToLongFunction)}). Tasks in the same partition are
+     * executed one at a time in the order they were enqueued, and there is a happens before relationship between them.
+     * Tasks in different partitions may be executed in parallel with each other. Tasks are executed on a fork join
+     * pool, or on virtual threads if {@link TaskSchedulerConfigOption#VIRTUAL_THREADS} is enabled. A partition that has
+     * more than one task waiting executes several of them before giving up its thread.
+     * <p>
+     * For the purposes of wiring, this scheduler type is treated like {@link #CONCURRENT}.
+     */
+    PARTITIONED,
     /**
      * Tasks are executed immediately on the caller's thread. There is no queue for tasks waiting to be handled (logical
      * or otherwise). Useful for scenarios where tasks are extremely small and not worth the scheduling overhead.
@@ -29,18 +40,19 @@ public enum TaskSchedulerType {
      * Only a single logical thread of execution is permitted to send data to a direct task scheduler.
      * {@link #SEQUENTIAL} and {@link #SEQUENTIAL_THREAD} schedulers are permitted to send data to a direct task
      * scheduler, but it is illegal for more than one of these schedulers to send data to the same direct task
-     * scheduler. {@link #CONCURRENT} task schedulers are forbidden from sending data to a direct task scheduler. It is
-     * legal for operations that are executed on the calling thread (e.g. filters, transformers, stateless/stateful
-     * direct schedulers) to call into a direct scheduler as long as the calling thread is not in a concurrent scheduler
-     * or originating from more than one sequential scheduler.
+     * scheduler. {@link #CONCURRENT} and {@link #PARTITIONED} task schedulers are forbidden from sending data to a
+     * direct task scheduler. It is legal for operations that are executed on the calling thread (e.g. filters,
+     * transformers, stateless/stateful direct schedulers) to call into a direct scheduler as long as the calling thread
+     * is not in a concurrent or partitioned scheduler or originating from more than one sequential scheduler.
      * <p>
      * To decide if a direct scheduler is wired in a legal way, the following algorithm is used:
      * <ul>
      * <li>Create a directed graph where vertices are schedulers and edges are wires between schedulers</li>
      * <li>Starting from each vertex, walk over the graph in depth first order. Follow edges that lead to
      * DIRECT or DIRECT_THREADSAFE vertices, but do not follow edges that lead into SEQUENTIAL, SEQUENTIAL_THREAD,
-     * or CONCURRENT vertices.</li>
-     * <li>If a DIRECT vertex is reachable starting from a CONCURRENT vertex, the wiring is illegal.</li>
+     * CONCURRENT or PARTITIONED vertices.</li>
+     * <li>If a DIRECT vertex is reachable starting from a CONCURRENT or PARTITIONED vertex, the wiring is
+     * illegal.</li>
      * <li>For each vertex with type DIRECT, count the number of unique SEQUENTIAL or SEQUENTIAL_THREAD vertexes that
      * it can be reached by. If that number exceeds 1, then the wiring is illegal.</li>
      * </ul>
@@ -51,6 +51,10 @@ public abstract class AbstractTaskSchedulerBuilder<OUT> implements TaskScheduler
     protected UncaughtExceptionHandler uncaughtExceptionHandler;
     protected String hyperlink;
     protected ToLongFunction<Object> dataCounter = data -> 1L;
+    protected ToLongFunction<Object> partitioner = null;
+    protected int partitionCount = Runtime.getRuntime().availableProcessors();
+    protected boolean virtualThreadsEnabled = false;
+    protected int ringBufferSize = 0;
 
     protected boolean unhandledTaskMetricEnabled = false;
     protected boolean busyFractionMetricEnabled = false;
@@ -113,6 +117,15 @@ public abstract class AbstractTaskSchedulerBuilder<OUT> implements TaskScheduler
         if (configuration.squelchingEnabled() != null) {
             withSquelchingEnabled(configuration.squelchingEnabled());
         }
+        if (configuration.partitionCount() != null) {
+            withPartitionCount(configuration.partitionCount());
+        }
+        if (configuration.virtualThreadsEnabled() != null) {
+            withVirtualThreadsEnabled(configuration.virtualThreadsEnabled());
+        }
+        if (configuration.ringBufferSize() != null) {
+            withRingBufferSize(configuration.ringBufferSize());
+        }
         return this;
     }
 
@@ -257,6 +270,52 @@ public abstract class AbstractTaskSchedulerBuilder<OUT> implements TaskScheduler
         return this;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @NonNull
+    public AbstractTaskSchedulerBuilder<OUT> withPartitioner(@NonNull final ToLongFunction<Object> partitioner) {
+        this.partitioner = Objects.requireNonNull(partitioner);
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @NonNull
+    public AbstractTaskSchedulerBuilder<OUT> withPartitionCount(final int partitionCount) {
+        if (partitionCount < 1) {
+            throw new IllegalArgumentException("Partition count must be at least 1, was " + partitionCount);
+        }
+        this.partitionCount = partitionCount;
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @NonNull
+    public AbstractTaskSchedulerBuilder<OUT> withVirtualThreadsEnabled(final boolean virtualThreadsEnabled) {
+        this.virtualThreadsEnabled = virtualThreadsEnabled;
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @NonNull
+    public AbstractTaskSchedulerBuilder<OUT> withRingBufferSize(final int ringBufferSize) {
+        if (ringBufferSize < 0 || ringBufferSize > MAX_RING_BUFFER_SIZE) {
+            throw new IllegalArgumentException("Invalid ring buffer size " + ringBufferSize);
+        }
+        this.ringBufferSize = ringBufferSize;
+        return this;
+    }
+
     /**
      * Build an uncaught exception handler if one was not provided.
      *
@@ -15,12 +15,16 @@ import com.swirlds.component.framework.schedulers.builders.TaskSchedulerType;
 import com.swirlds.component.framework.schedulers.internal.ConcurrentTaskScheduler;
 import com.swirlds.component.framework.schedulers.internal.DirectTaskScheduler;
 import com.swirlds.component.framework.schedulers.internal.NoOpTaskScheduler;
+import com.swirlds.component.framework.schedulers.internal.PartitionedTaskScheduler;
+import com.swirlds.component.framework.schedulers.internal.RingBufferTaskScheduler;
 import com.swirlds.component.framework.schedulers.internal.SequentialTaskScheduler;
 import com.swirlds.component.framework.schedulers.internal.SequentialThreadTaskScheduler;
 import com.swirlds.metrics.api.Metrics;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ForkJoinPool;
 import java.util.function.Supplier;
 
@@ -65,12 +69,29 @@ public class StandardTaskSchedulerBuilder<OUT> extends AbstractTaskSchedulerBuil
         if (!busyFractionMetricEnabled || type == NO_OP) {
             return NoOpFractionalTimer.getInstance();
         }
-        if (type == TaskSchedulerType.CONCURRENT) {
-            throw new IllegalStateException("Busy fraction metric is not compatible with concurrent schedulers");
+        if (type == TaskSchedulerType.CONCURRENT || type == TaskSchedulerType.PARTITIONED) {
+            throw new IllegalStateException(
+                    "Busy fraction metric is not compatible with concurrent and partitioned schedulers");
         }
         return new StandardFractionalTimer(time);
     }
 
+    /**
+     * Build the executor for a partitioned scheduler.
+     *
+     * @return the executor
+     */
+    @NonNull
+    private Executor buildPartitionExecutor() {
+        if (partitioner == null) {
+            throw new IllegalStateException("Partitioned scheduler " + name + " requires a partitioner");
+        }
+        if (virtualThreadsEnabled) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-", 0).factory());
+        }
+        return pool;
+    }
+
     /**
      * Register all configured metrics.
      *
@@ -128,30 +149,57 @@ public class StandardTaskSchedulerBuilder<OUT> extends AbstractTaskSchedulerBuil
                             flushingEnabled,
                             squelchingEnabled,
                             insertionIsBlocking);
-                    case SEQUENTIAL -> new SequentialTaskScheduler<>(
+                    case PARTITIONED -> new PartitionedTaskScheduler<>(
                             model,
                             name,
-                            pool,
+                            buildPartitionExecutor(),
                             buildUncaughtExceptionHandler(),
                             counters.onRamp(),
                             counters.offRamp(),
-                            busyFractionTimer,
+                            partitioner,
+                            partitionCount,
                             unhandledTaskCapacity,
                             flushingEnabled,
                             squelchingEnabled,
                             insertionIsBlocking);
-                    case SEQUENTIAL_THREAD -> new SequentialThreadTaskScheduler<>(
+                    case SEQUENTIAL -> new SequentialTaskScheduler<>(
                             model,
                             name,
+                            pool,
                             buildUncaughtExceptionHandler(),
                             counters.onRamp(),
                             counters.offRamp(),
-                            dataCounter,
                             busyFractionTimer,
                             unhandledTaskCapacity,
                             flushingEnabled,
                             squelchingEnabled,
                             insertionIsBlocking);
+                    case SEQUENTIAL_THREAD -> ringBufferSize > 0
+                            ? new RingBufferTaskScheduler<>(
+                                    model,
+                                    name,
+                                    buildUncaughtExceptionHandler(),
+                                    counters.onRamp(),
+                                    counters.offRamp(),
+                                    dataCounter,
+                                    busyFractionTimer,
+                                    ringBufferSize,
+                                    unhandledTaskCapacity,
+                                    flushingEnabled,
+                                    squelchingEnabled,
+                                    insertionIsBlocking)
+                            : new SequentialThreadTaskScheduler<>(
+                                    model,
+                                    name,
+                                    buildUncaughtExceptionHandler(),
+                                    counters.onRamp(),
+                                    counters.offRamp(),
+                                    dataCounter,
+                                    busyFractionTimer,
+                                    unhandledTaskCapacity,
+                                    flushingEnabled,
+                                    squelchingEnabled,
+                                    insertionIsBlocking);
                     case DIRECT, DIRECT_THREADSAFE -> new DirectTaskScheduler<>(
                             model,
                             name,
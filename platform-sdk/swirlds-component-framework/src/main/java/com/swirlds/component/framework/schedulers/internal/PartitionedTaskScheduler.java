@@ -0,0 +1,173 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.component.framework.schedulers.internal;
+
+import com.swirlds.component.framework.counters.ObjectCounter;
+import com.swirlds.component.framework.model.TraceableWiringModel;
+import com.swirlds.component.framework.schedulers.TaskScheduler;
+import com.swirlds.component.framework.schedulers.builders.TaskSchedulerType;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.lang.Thread.UncaughtExceptionHandler;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * A {@link TaskScheduler} that splits its tasks into partitions using a key derived from the data of each task. Tasks
+ * with the same key are executed one at a time in the order they were scheduled, tasks in different partitions may be
+ * executed in parallel.
+ *
+ * @param <OUT> the output type of the scheduler (use {@link Void} for a task scheduler with no output type)
+ */
+public class PartitionedTaskScheduler<OUT> extends TaskScheduler<OUT> {
+
+    private final ObjectCounter onRamp;
+    private final ToLongFunction<Object> partitioner;
+    private final SchedulerPartition[] partitions;
+    private final long capacity;
+
+    /**
+     * Constructor.
+     *
+     * @param model                    the wiring model containing this scheduler
+     * @param name                     the name of the scheduler
+     * @param executor                 the executor that will execute the partitions of this scheduler
+     * @param uncaughtExceptionHandler the handler for uncaught exceptions
+     * @param onRamp                   an object counter that is incremented when data is added to the scheduler
+     * @param offRamp                  an object counter that is decremented when data is removed from the scheduler
+     * @param partitioner              derives the partition key from the data of a task
+     * @param partitionCount           the number of partitions
+     * @param capacity                 the maximum desired capacity for this scheduler
+     * @param flushEnabled             if true, then {@link #flush()} will be enabled, otherwise it will throw.
+     * @param squelchingEnabled        if true, then squelching will be enabled, otherwise trying to squelch will throw
+     * @param insertionIsBlocking      when data is inserted into this scheduler, will it block until capacity is
+     *                                 available?
+     */
+    public PartitionedTaskScheduler(
+            @NonNull final TraceableWiringModel model,
+            @NonNull final String name,
+            @NonNull final Executor executor,
+            @NonNull final UncaughtExceptionHandler uncaughtExceptionHandler,
+            @NonNull final ObjectCounter onRamp,
+            @NonNull final ObjectCounter offRamp,
+            @NonNull final ToLongFunction<Object> partitioner,
+            final int partitionCount,
+            final long capacity,
+            final boolean flushEnabled,
+            final boolean squelchingEnabled,
+            final boolean insertionIsBlocking) {
+
+        super(
+                model,
+                name,
+                TaskSchedulerType.PARTITIONED,
+                uncaughtExceptionHandler,
+                flushEnabled,
+                squelchingEnabled,
+                insertionIsBlocking);
+
+        if (partitionCount < 1) {
+            throw new IllegalArgumentException("Partition count must be at least 1, was " + partitionCount);
+        }
+
+        Objects.requireNonNull(executor);
+        Objects.requireNonNull(offRamp);
+        this.onRamp = Objects.requireNonNull(onRamp);
+        this.partitioner = Objects.requireNonNull(partitioner);
+        this.capacity = capacity;
+
+        partitions = new SchedulerPartition[partitionCount];
+        for (int i = 0; i < partitionCount; i++) {
+            partitions[i] = new SchedulerPartition(executor, offRamp, uncaughtExceptionHandler);
+        }
+    }
+
+    /**
+     * Get the partition that is responsible for the given data.
+     *
+     * @param data the data of a task
+     * @return the partition that will execute the task
+     */
+    @NonNull
+    private SchedulerPartition getPartition(@NonNull final Object data) {
+        return partitions[Math.floorMod(partitioner.applyAsLong(data), partitions.length)];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void put(@NonNull final Consumer<Object> handler, @NonNull final Object data) {
+        onRamp.onRamp();
+        getPartition(data).add(handler, data);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean offer(@NonNull final Consumer<Object> handler, @NonNull final Object data) {
+        final boolean accepted = onRamp.attemptOnRamp();
+        if (accepted) {
+            getPartition(data).add(handler, data);
+        }
+        return accepted;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void inject(@NonNull final Consumer<Object> handler, @NonNull final Object data) {
+        onRamp.forceOnRamp();
+        getPartition(data).add(handler, data);
+    }
+
+    /**
+     * Get the number of partitions of this scheduler.
+     *
+     * @return the number of partitions
+     */
+    public int getPartitionCount() {
+        return partitions.length;
+    }
+
+    /**
+     * Get the number of tasks that have not yet been executed by the partition with the most such tasks. When this is
+     * close to {@link #getUnprocessedTaskCount()}, the partitioner is not spreading the work well.
+     *
+     * @return the largest number of unprocessed tasks in a single partition
+     */
+    public long getLargestPartitionTaskCount() {
+        long largest = 0;
+        for (final SchedulerPartition partition : partitions) {
+            largest = Math.max(largest, partition.getTaskCount());
+        }
+        return largest;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getUnprocessedTaskCount() {
+        return onRamp.getCount();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void flush() {
+        throwIfFlushDisabled();
+        onRamp.waitUntilEmpty();
+    }
+}
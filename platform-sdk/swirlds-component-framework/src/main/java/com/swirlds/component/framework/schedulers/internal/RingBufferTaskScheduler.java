@@ -0,0 +1,286 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.component.framework.schedulers.internal;
+
+import com.swirlds.base.state.Startable;
+import com.swirlds.base.state.Stoppable;
+import com.swirlds.common.metrics.extensions.FractionalTimer;
+import com.swirlds.component.framework.counters.ObjectCounter;
+import com.swirlds.component.framework.model.TraceableWiringModel;
+import com.swirlds.component.framework.schedulers.TaskScheduler;
+import com.swirlds.component.framework.schedulers.builders.TaskSchedulerType;
+import com.swirlds.component.framework.wires.input.BatchHandler;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.lang.Thread.UncaughtExceptionHandler;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * A {@link TaskSchedulerType#SEQUENTIAL_THREAD SEQUENTIAL_THREAD} scheduler that keeps its tasks in a preallocated
+ * multi-producer/single-consumer ring buffer instead of a linked queue. The scheduler thread drains the ring buffer in
+ * batches. Consecutive tasks for an input wire bound with a {@link BatchHandler} are handled in a single call, and the
+ * off ramp is updated once per call instead of once per task.
+ * <p>
+ * A producer that finds the ring buffer full waits until the scheduler thread frees a slot. The scheduler thread can
+ * not wait for itself, so a handler that inserts into its own full scheduler fails.
+ *
+ * @param <OUT> the type of the primary output wire
+ */
+public class RingBufferTaskScheduler<OUT> extends TaskScheduler<OUT> implements Startable, Stoppable {
+
+    /**
+     * The maximum number of tasks taken from the ring buffer at once.
+     */
+    private static final int MAX_BATCH_SIZE = 1024;
+
+    /**
+     * How long a producer sleeps before trying again when the ring buffer is full.
+     */
+    private static final long FULL_SLEEP_NANOS = 10_000;
+
+    private final ObjectCounter onRamp;
+    private final ObjectCounter offRamp;
+    private final ToLongFunction<Object> dataCounter;
+    private final FractionalTimer busyTimer;
+    private final long capacity;
+
+    private final TaskRingBuffer ringBuffer;
+
+    private volatile boolean alive = true;
+
+    /**
+     * Set by the scheduler thread before it parks because the ring buffer is empty.
+     */
+    private volatile boolean consumerWaiting = false;
+
+    private final Thread thread;
+
+    /**
+     * Constructor.
+     *
+     * @param model                    the wiring model containing this task scheduler
+     * @param name                     the name of the task scheduler
+     * @param uncaughtExceptionHandler the handler to call when an exception is thrown by a task
+     * @param onRamp                   the counter to increment when a task is added to the ring buffer
+     * @param offRamp                  the counter to decrement when a task has been handled
+     * @param dataCounter              the function to weight input data objects for health monitoring
+     * @param busyTimer                the timer to activate when tasks are being handled
+     * @param ringBufferSize           the minimum number of slots in the ring buffer
+     * @param capacity                 the maximum desired capacity for this task scheduler
+     * @param flushEnabled             if true, then {@link #flush()} will be enabled, otherwise it will throw.
+     * @param squelchingEnabled        if true, then squelching will be enabled, otherwise trying to squelch will throw
+     * @param insertionIsBlocking      when data is inserted into this task scheduler, will it block until capacity is
+     *                                 available?
+     */
+    public RingBufferTaskScheduler(
+            @NonNull final TraceableWiringModel model,
+            @NonNull final String name,
+            @NonNull final UncaughtExceptionHandler uncaughtExceptionHandler,
+            @NonNull final ObjectCounter onRamp,
+            @NonNull final ObjectCounter offRamp,
+            @NonNull final ToLongFunction<Object> dataCounter,
+            @NonNull final FractionalTimer busyTimer,
+            final int ringBufferSize,
+            final long capacity,
+            final boolean flushEnabled,
+            final boolean squelchingEnabled,
+            final boolean insertionIsBlocking) {
+        super(
+                model,
+                name,
+                TaskSchedulerType.SEQUENTIAL_THREAD,
+                uncaughtExceptionHandler,
+                flushEnabled,
+                squelchingEnabled,
+                insertionIsBlocking);
+
+        this.onRamp = Objects.requireNonNull(onRamp);
+        this.offRamp = Objects.requireNonNull(offRamp);
+        this.dataCounter = Objects.requireNonNull(dataCounter);
+        this.busyTimer = Objects.requireNonNull(busyTimer);
+        this.capacity = capacity;
+        this.ringBuffer = new TaskRingBuffer(ringBufferSize);
+
+        thread = new Thread(
+                this::run,
+                SequentialThreadTaskScheduler.THREAD_NAME_PREFIX + name
+                        + SequentialThreadTaskScheduler.THREAD_NAME_SUFFIX);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getUnprocessedTaskCount() {
+        return onRamp.getCount();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void flush() {
+        throwIfFlushDisabled();
+        onRamp.waitUntilEmpty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void put(@NonNull final Consumer<Object> handler, @NonNull final Object data) {
+        onRamp.onRamp(dataCounter.applyAsLong(data));
+        publish(handler, data);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean offer(@NonNull final Consumer<Object> handler, @NonNull final Object data) {
+        final boolean accepted = onRamp.attemptOnRamp(dataCounter.applyAsLong(data));
+        if (!accepted) {
+            return false;
+        }
+        publish(handler, data);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void inject(@NonNull final Consumer<Object> handler, @NonNull final Object data) {
+        onRamp.forceOnRamp(dataCounter.applyAsLong(data));
+        publish(handler, data);
+    }
+
+    /**
+     * Add a task to the ring buffer, waiting for a free slot if necessary, and wake up the scheduler thread if it is
+     * waiting for work. The task must already be on ramped.
+     *
+     * @param handler the handler of the task
+     * @param data    the data of the task
+     */
+    private void publish(@NonNull final Consumer<Object> handler, @NonNull final Object data) {
+        while (!ringBuffer.offer(handler, data)) {
+            if (Thread.currentThread() == thread) {
+                offRamp.offRamp(dataCounter.applyAsLong(data));
+                throw new IllegalStateException("Task scheduler " + getName()
+                        + " can not insert into its own ring buffer, all " + ringBuffer.capacity()
+                        + " slots are full");
+            }
+            LockSupport.parkNanos(FULL_SLEEP_NANOS);
+        }
+        if (consumerWaiting) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void start() {
+        thread.start();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void stop() {
+        alive = false;
+        LockSupport.unpark(thread);
+    }
+
+    /**
+     * Take work off of the ring buffer and handle it.
+     */
+    @SuppressWarnings("unchecked")
+    private void run() {
+        final Consumer<Object>[] handlers = new Consumer[Math.min(MAX_BATCH_SIZE, ringBuffer.capacity())];
+        final Object[] data = new Object[handlers.length];
+        final List<Object> batch = new ArrayList<>(handlers.length);
+
+        while (alive) {
+            final int count = ringBuffer.drainTo(handlers, data);
+            if (count == 0) {
+                consumerWaiting = true;
+                // a producer that publishes after this check sees consumerWaiting and unparks this thread
+                if (ringBuffer.isEmpty() && alive) {
+                    LockSupport.park(this);
+                }
+                consumerWaiting = false;
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                continue;
+            }
+
+            busyTimer.activate();
+            int start = 0;
+            while (start < count && alive) {
+                final Consumer<Object> handler = handlers[start];
+                int end = start + 1;
+                if (handler instanceof BatchHandler) {
+                    while (end < count && handlers[end] == handler) {
+                        end++;
+                    }
+                }
+                handle(handler, data, start, end, batch);
+                start = end;
+            }
+            busyTimer.deactivate();
+        }
+    }
+
+    /**
+     * Handle a run of tasks with the same handler, and off ramp them.
+     *
+     * @param handler the handler of the tasks
+     * @param data    the data of the tasks
+     * @param start   the index of the first task, inclusive
+     * @param end     the index of the last task, exclusive. If the handler is not a {@link BatchHandler}, then
+     *                {@code end == start + 1}
+     * @param batch   a reusable list for the data of a batch
+     */
+    private void handle(
+            @NonNull final Consumer<Object> handler,
+            @NonNull final Object[] data,
+            final int start,
+            final int end,
+            @NonNull final List<Object> batch) {
+        try {
+            if (handler instanceof final BatchHandler batchHandler) {
+                for (int i = start; i < end; i++) {
+                    batch.add(data[i]);
+                }
+                batchHandler.acceptBatch(batch);
+            } else {
+                handler.accept(data[start]);
+            }
+        } catch (final Throwable t) {
+            getUncaughtExceptionHandler().uncaughtException(thread, t);
+        } finally {
+            batch.clear();
+            long weight = 0;
+            for (int i = start; i < end; i++) {
+                weight += dataCounter.applyAsLong(data[i]);
+                data[i] = null;
+            }
+            offRamp.offRamp(weight);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.component.framework.schedulers.internal;
+
+import com.swirlds.component.framework.counters.ObjectCounter;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.lang.Thread.UncaughtExceptionHandler;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * A partition of a {@link PartitionedTaskScheduler}. Tasks in a partition are executed one at a time in the order they
+ * were added. When a task is added to an idle partition, the partition is submitted to the executor, and then keeps
+ * executing tasks until it has none left. After {@link #MAX_TASKS_PER_RUN} tasks in a row, it is resubmitted to the
+ * executor so that a busy partition does not starve the others.
+ */
+class SchedulerPartition implements Runnable {
+
+    /**
+     * The maximum number of tasks executed before the partition gives up its thread.
+     */
+    private static final int MAX_TASKS_PER_RUN = 64;
+
+    /**
+     * A task waiting to be executed.
+     *
+     * @param handler the method that will be called when this task is executed
+     * @param data    the data to be passed to the consumer for this task
+     */
+    private record Task(@NonNull Consumer<Object> handler, @NonNull Object data) {}
+
+    private final Queue<Task> tasks = new ConcurrentLinkedQueue<>();
+
+    /**
+     * The number of tasks that have been added but not yet executed. The partition is running (or submitted to the
+     * executor) if and only if this is not zero.
+     */
+    private final AtomicInteger taskCount = new AtomicInteger();
+
+    private final Executor executor;
+    private final ObjectCounter offRamp;
+    private final UncaughtExceptionHandler uncaughtExceptionHandler;
+
+    /**
+     * Constructor.
+     *
+     * @param executor                 executes the partition when it has tasks
+     * @param offRamp                  an object counter that is decremented when a task is executed
+     * @param uncaughtExceptionHandler the handler for uncaught exceptions
+     */
+    SchedulerPartition(
+            @NonNull final Executor executor,
+            @NonNull final ObjectCounter offRamp,
+            @NonNull final UncaughtExceptionHandler uncaughtExceptionHandler) {
+        this.executor = executor;
+        this.offRamp = offRamp;
+        this.uncaughtExceptionHandler = uncaughtExceptionHandler;
+    }
+
+    /**
+     * Add a task to this partition. This should only be called after successfully on-ramping (one way or another).
+     *
+     * @param handler the method that will be called when this task is executed
+     * @param data    the data to be passed to the consumer for this task
+     */
+    void add(@NonNull final Consumer<Object> handler, @NonNull final Object data) {
+        // The task must be in the queue before it is counted, the running partition relies on every counted task being
+        // available to poll.
+        tasks.add(new Task(handler, data));
+        if (taskCount.getAndIncrement() == 0) {
+            executor.execute(this);
+        }
+    }
+
+    /**
+     * @return the number of tasks that have been added to this partition but not yet executed
+     */
+    int getTaskCount() {
+        return taskCount.get();
+    }
+
+    /**
+     * Execute tasks until there are none left, or until it is another partition's turn.
+     */
+    @Override
+    public void run() {
+        int executed = 0;
+        while (true) {
+            final Task task = tasks.poll();
+            try {
+                task.handler().accept(task.data());
+            } catch (final Throwable t) {
+                uncaughtExceptionHandler.uncaughtException(Thread.currentThread(), t);
+            } finally {
+                offRamp.offRamp();
+            }
+
+            if (taskCount.decrementAndGet() == 0) {
+                // The next task to be added will submit this partition again
+                return;
+            }
+            if (++executed == MAX_TASKS_PER_RUN) {
+                executor.execute(this);
+                return;
+            }
+        }
+    }
+}
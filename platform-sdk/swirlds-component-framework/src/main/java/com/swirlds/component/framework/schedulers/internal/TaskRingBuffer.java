@@ -0,0 +1,134 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.component.framework.schedulers.internal;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * A bounded, preallocated, lock-free queue of tasks with many producers and a single consumer. Each slot of the ring
+ * holds a handler and its data, and a sequence number that tells producers and the consumer whose turn it is to use the
+ * slot. Producers claim a slot by advancing the tail with a CAS, the consumer does not need any CAS at all.
+ * <p>
+ * Slots are reused, so adding a task does not allocate.
+ */
+class TaskRingBuffer {
+
+    private final int mask;
+    private final Consumer<Object>[] handlers;
+    private final Object[] data;
+
+    /**
+     * The sequence number of each slot. If equal to the position of a producer, the slot is free for that producer.
+     * If equal to the position of the consumer plus one, the slot holds a task for the consumer.
+     */
+    private final AtomicLongArray sequences;
+
+    /**
+     * The position of the next slot to be claimed by a producer.
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * The position of the next slot to be read by the consumer. Only accessed by the consumer thread.
+     */
+    private long head = 0;
+
+    /**
+     * Constructor.
+     *
+     * @param size the minimum number of slots, rounded up to the next power of two (and to at least two, with a single
+     *             slot a published task would look free to the next producer)
+     */
+    @SuppressWarnings("unchecked")
+    TaskRingBuffer(final int size) {
+        if (size < 1 || size > (1 << 30)) {
+            throw new IllegalArgumentException("Invalid ring buffer size " + size);
+        }
+        final int capacity = size <= 2 ? 2 : Integer.highestOneBit(size - 1) << 1;
+        mask = capacity - 1;
+        handlers = new Consumer[capacity];
+        data = new Object[capacity];
+        sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Get the number of slots in this ring buffer.
+     *
+     * @return the number of slots
+     */
+    int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Add a task if there is a free slot. Safe to call from any thread.
+     *
+     * @param handler the handler of the task
+     * @param value   the data of the task
+     * @return true if the task was added, false if the ring buffer is full
+     */
+    boolean offer(@NonNull final Consumer<Object> handler, @NonNull final Object value) {
+        long position = tail.get();
+        while (true) {
+            final int index = (int) (position & mask);
+            final long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    handlers[index] = handler;
+                    data[index] = value;
+                    // publishes the handler and data to the consumer
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                // the consumer has not yet freed this slot from the previous lap
+                return false;
+            } else {
+                // another producer claimed this slot
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Check if there are no tasks waiting for the consumer. Must only be called by the consumer thread.
+     *
+     * @return true if there is no task in the next slot
+     */
+    boolean isEmpty() {
+        return sequences.get((int) (head & mask)) != head + 1;
+    }
+
+    /**
+     * Move tasks to the given arrays, in the order they were added. Stops at the first slot that is claimed but not yet
+     * written by a producer. Must only be called by the consumer thread.
+     *
+     * @param handlerBuffer receives the handlers of the tasks
+     * @param dataBuffer    receives the data of the tasks
+     * @return the number of tasks moved, at most the length of the arrays
+     */
+    int drainTo(@NonNull final Consumer<Object>[] handlerBuffer, @NonNull final Object[] dataBuffer) {
+        int count = 0;
+        while (count < handlerBuffer.length) {
+            final int index = (int) (head & mask);
+            if (sequences.get(index) != head + 1) {
+                break;
+            }
+            handlerBuffer[count] = handlers[index];
+            dataBuffer[count] = data[index];
+            handlers[index] = null;
+            data[index] = null;
+            // frees the slot for the producer one lap ahead
+            sequences.set(index, head + mask + 1);
+            head++;
+            count++;
+        }
+        return count;
+    }
+}
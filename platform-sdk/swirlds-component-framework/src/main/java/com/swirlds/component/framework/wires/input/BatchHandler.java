@@ -0,0 +1,31 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.component.framework.wires.input;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A handler for an input wire that is able to handle several inputs in one call. Schedulers that drain their tasks in
+ * batches pass consecutive inputs for the same wire to {@link #acceptBatch(List)} together, all other schedulers pass
+ * each input on its own.
+ */
+public interface BatchHandler extends Consumer<Object> {
+
+    /**
+     * Handle a batch of inputs, in the order they were inserted into the wire.
+     *
+     * @param batch the inputs, never empty. Only valid for the duration of the call, the scheduler reuses the list.
+     */
+    void acceptBatch(@NonNull List<Object> batch);
+
+    /**
+     * Handle a single input as a batch of one.
+     *
+     * @param data the input
+     */
+    @Override
+    default void accept(@NonNull final Object data) {
+        acceptBatch(List.of(data));
+    }
+}
@@ -6,6 +6,7 @@ import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerT
 import com.swirlds.component.framework.model.TraceableWiringModel;
 import com.swirlds.component.framework.schedulers.TaskScheduler;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -100,4 +101,60 @@ public class BindableInputWire<IN, OUT> extends InputWire<IN> implements Bindabl
         });
         model.registerInputWireBinding(taskSchedulerName, getName());
     }
+
+    /**
+     * Bind this input wire to a handler that accepts several inputs at once. For things that don't send data to the
+     * output wire. Inputs are only handled in batches of more than one if the task scheduler drains its tasks in
+     * batches, see {@link BatchHandler}.
+     *
+     * @param handler the handler to bind to this input wire. The list is only valid for the duration of the call.
+     * @throws IllegalStateException if a handler is already bound and this method is called a second time
+     */
+    @SuppressWarnings("unchecked")
+    public void bindBatchConsumer(@NonNull final Consumer<List<IN>> handler) {
+        Objects.requireNonNull(handler);
+        if (noOp) {
+            return;
+        }
+        setHandler((BatchHandler) batch -> {
+            if (currentlySquelching.get()) {
+                return;
+            }
+
+            handler.accept((List<IN>) (List<?>) batch);
+        });
+        model.registerInputWireBinding(taskSchedulerName, getName());
+    }
+
+    /**
+     * Bind this input wire to a handler that accepts several inputs at once. Inputs are only handled in batches of more
+     * than one if the task scheduler drains its tasks in batches, see {@link BatchHandler}.
+     *
+     * @param handler the handler to bind to this input wire. The list is only valid for the duration of the call. Each
+     *                non-null value in the returned list is passed to the primary output wire, in order.
+     * @throws IllegalStateException if a handler is already bound and this method is called a second time
+     */
+    @SuppressWarnings("unchecked")
+    public void bindBatch(@NonNull final Function<List<IN>, List<OUT>> handler) {
+        Objects.requireNonNull(handler);
+        if (noOp) {
+            return;
+        }
+        setHandler((BatchHandler) batch -> {
+            if (currentlySquelching.get()) {
+                return;
+            }
+
+            final List<OUT> outputs = handler.apply((List<IN>) (List<?>) batch);
+            if (outputs == null) {
+                return;
+            }
+            for (final OUT output : outputs) {
+                if (output != null) {
+                    taskSchedulerInput.forward(output);
+                }
+            }
+        });
+        model.registerInputWireBinding(taskSchedulerName, getName());
+    }
 }
@@ -24,6 +24,9 @@ class TaskSchedulerConfigurationTests {
         assertNull(config.busyFractionMetricEnabled());
         assertNull(config.flushingEnabled());
         assertNull(config.squelchingEnabled());
+        assertNull(config.partitionCount());
+        assertNull(config.virtualThreadsEnabled());
+        assertNull(config.ringBufferSize());
     }
 
     @Test
@@ -87,6 +90,36 @@ class TaskSchedulerConfigurationTests {
                 expectedSquelchingEnabled = null;
             }
 
+            final Integer expectedPartitionCount;
+            if (random.nextBoolean()) {
+                expectedPartitionCount = random.nextInt(1, 100);
+                configStringBuilder
+                        .append("PARTITIONS(")
+                        .append(expectedPartitionCount)
+                        .append(") ");
+            } else {
+                expectedPartitionCount = null;
+            }
+
+            final Boolean expectedVirtualThreadsEnabled;
+            if (random.nextBoolean()) {
+                expectedVirtualThreadsEnabled = random.nextBoolean();
+                configStringBuilder.append(expectedVirtualThreadsEnabled ? "VIRTUAL_THREADS " : "!VIRTUAL_THREADS ");
+            } else {
+                expectedVirtualThreadsEnabled = null;
+            }
+
+            final Integer expectedRingBufferSize;
+            if (random.nextBoolean()) {
+                expectedRingBufferSize = random.nextInt(1, 100_000);
+                configStringBuilder
+                        .append("RING_BUFFER(")
+                        .append(expectedRingBufferSize)
+                        .append(") ");
+            } else {
+                expectedRingBufferSize = null;
+            }
+
             final String configString = configStringBuilder.toString();
 
             final TaskSchedulerConfiguration config = TaskSchedulerConfiguration.parse(configString);
@@ -97,6 +130,9 @@ class TaskSchedulerConfigurationTests {
             assertEquals(expectedBusyFractionMetricEnabled, config.busyFractionMetricEnabled());
             assertEquals(expectedFlushingEnabled, config.flushingEnabled());
             assertEquals(expectedSquelchingEnabled, config.squelchingEnabled());
+            assertEquals(expectedPartitionCount, config.partitionCount());
+            assertEquals(expectedVirtualThreadsEnabled, config.virtualThreadsEnabled());
+            assertEquals(expectedRingBufferSize, config.ringBufferSize());
         }
     }
 
@@ -130,6 +166,30 @@ class TaskSchedulerConfigurationTests {
         assertThrows(
                 IllegalArgumentException.class, () -> TaskSchedulerConfiguration.parse("SQUELCHABLE !SQUELCHABLE"));
         assertThrows(IllegalArgumentException.class, () -> TaskSchedulerConfiguration.parse("SQUELCHABLE SQUELCHABLE"));
+        assertThrows(
+                IllegalArgumentException.class, () -> TaskSchedulerConfiguration.parse("PARTITIONS(4) PARTITIONS(8)"));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> TaskSchedulerConfiguration.parse("VIRTUAL_THREADS !VIRTUAL_THREADS"));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> TaskSchedulerConfiguration.parse("RING_BUFFER(1024) RING_BUFFER(1024)"));
+    }
+
+    @Test
+    void invalidPartitionCountTest() {
+        assertThrows(IllegalArgumentException.class, () -> TaskSchedulerConfiguration.parse("PARTITIONS(0)"));
+        assertThrows(IllegalArgumentException.class, () -> TaskSchedulerConfiguration.parse("PARTITIONS(-1)"));
+        assertThrows(IllegalArgumentException.class, () -> TaskSchedulerConfiguration.parse("PARTITIONS(x)"));
+    }
+
+    @Test
+    void invalidRingBufferSizeTest() {
+        assertThrows(IllegalArgumentException.class, () -> TaskSchedulerConfiguration.parse("RING_BUFFER(0)"));
+        assertThrows(IllegalArgumentException.class, () -> TaskSchedulerConfiguration.parse("RING_BUFFER(-1)"));
+        assertThrows(
+                IllegalArgumentException.class, () -> TaskSchedulerConfiguration.parse("RING_BUFFER(2147483647)"));
+        assertThrows(IllegalArgumentException.class, () -> TaskSchedulerConfiguration.parse("RING_BUFFER(x)"));
     }
 
     @Test
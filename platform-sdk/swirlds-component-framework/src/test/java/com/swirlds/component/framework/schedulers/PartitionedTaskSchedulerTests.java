@@ -0,0 +1,259 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.component.framework.schedulers;
+
+import static com.swirlds.common.test.fixtures.AssertionUtils.assertEventuallyEquals;
+import static com.swirlds.common.test.fixtures.AssertionUtils.assertEventuallyTrue;
+import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerBuilder.UNLIMITED_CAPACITY;
+import static org.hiero.base.utility.test.fixtures.RandomUtils.getRandomPrintSeed;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.component.framework.TestWiringModelBuilder;
+import com.swirlds.component.framework.model.WiringModel;
+import com.swirlds.component.framework.schedulers.builders.TaskSchedulerBuilder;
+import com.swirlds.component.framework.schedulers.builders.TaskSchedulerType;
+import com.swirlds.component.framework.schedulers.internal.PartitionedTaskScheduler;
+import com.swirlds.component.framework.wires.input.BindableInputWire;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class PartitionedTaskSchedulerTests {
+
+    /**
+     * A task for a key.
+     *
+     * @param key      the partition key
+     * @param sequence the position of this task among the tasks with the same key
+     */
+    private record KeyedTask(int key, int sequence) {}
+
+    /**
+     * Verify that tasks with the same key are handled in the order they were scheduled, and that all tasks are
+     * eventually handled.
+     */
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void orderPerKeyTest(final boolean virtualThreads) {
+        final WiringModel model = TestWiringModelBuilder.create();
+        final Random random = getRandomPrintSeed();
+
+        final int keyCount = 10;
+        final int tasksPerKey = 1_000;
+
+        // Only ever accessed by the partition that owns the key
+        final List<List<Integer>> handledSequences = new ArrayList<>();
+        for (int key = 0; key < keyCount; key++) {
+            handledSequences.add(new ArrayList<>());
+        }
+        final AtomicLong handledCount = new AtomicLong();
+        final Consumer<KeyedTask> handler = task -> {
+            handledSequences.get(task.key()).add(task.sequence());
+            handledCount.incrementAndGet();
+        };
+
+        final TaskScheduler<Void> taskScheduler = model.<Void>schedulerBuilder("test")
+                .withType(TaskSchedulerType.PARTITIONED)
+                .withPartitioner(task -> ((KeyedTask) task).key())
+                .withPartitionCount(4)
+                .withVirtualThreadsEnabled(virtualThreads)
+                .withUnhandledTaskCapacity(UNLIMITED_CAPACITY)
+                .withFlushingEnabled(true)
+                .build();
+        final BindableInputWire<KeyedTask, Void> channel = taskScheduler.buildInputWire("channel");
+        channel.bindConsumer(handler);
+
+        final int[] nextSequence = new int[keyCount];
+        for (int i = 0; i < keyCount * tasksPerKey; i++) {
+            int key = random.nextInt(keyCount);
+            while (nextSequence[key] == tasksPerKey) {
+                key = (key + 1) % keyCount;
+            }
+            channel.put(new KeyedTask(key, nextSequence[key]++));
+        }
+
+        assertEventuallyEquals(
+                (long) keyCount * tasksPerKey,
+                handledCount::get,
+                Duration.ofSeconds(5),
+                "not all tasks were handled");
+        taskScheduler.flush();
+
+        for (int key = 0; key < keyCount; key++) {
+            final List<Integer> sequences = handledSequences.get(key);
+            assertEquals(tasksPerKey, sequences.size());
+            for (int i = 0; i < tasksPerKey; i++) {
+                assertEquals(i, sequences.get(i), "tasks for key " + key + " were handled out of order");
+            }
+        }
+    }
+
+    /**
+     * Verify that tasks in different partitions are handled in parallel, and that tasks in a partition wait for the
+     * tasks before them.
+     */
+    @Test
+    void parallelOperationTest() {
+        final WiringModel model = TestWiringModelBuilder.create();
+
+        // Operations that do not have a null latch & started variables will block
+        record Operation(int key, @Nullable CountDownLatch latch, @Nullable AtomicBoolean started) {}
+
+        final AtomicInteger handledCount = new AtomicInteger();
+        final AtomicInteger handledForKey0 = new AtomicInteger();
+        final Consumer<Operation> handler = x -> {
+            if (x.started != null) {
+                x.started.set(true);
+                try {
+                    x.latch.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+            if (x.key == 0) {
+                handledForKey0.incrementAndGet();
+            }
+            handledCount.incrementAndGet();
+        };
+
+        final TaskScheduler<Void> taskScheduler = model.<Void>schedulerBuilder("test")
+                .withType(TaskSchedulerType.PARTITIONED)
+                .withPartitioner(operation -> ((Operation) operation).key())
+                .withPartitionCount(2)
+                .withUnhandledTaskCapacity(UNLIMITED_CAPACITY)
+                .build();
+        final BindableInputWire<Operation, Void> channel = taskScheduler.buildInputWire("channel");
+        channel.bindConsumer(handler);
+
+        final CountDownLatch latch0 = new CountDownLatch(1);
+        final AtomicBoolean started0 = new AtomicBoolean();
+        final CountDownLatch latch1 = new CountDownLatch(1);
+        final AtomicBoolean started1 = new AtomicBoolean();
+
+        channel.put(new Operation(0, latch0, started0));
+        channel.put(new Operation(1, latch1, started1));
+        for (int i = 0; i < 100; i++) {
+            channel.put(new Operation(i % 2, null, null));
+        }
+
+        // Both blocking operations are in different partitions, so they should both start
+        assertEventuallyTrue(
+                () -> started0.get() && started1.get(), Duration.ofSeconds(1), "operations did not all start");
+        assertEquals(0, handledCount.get(), "operations should wait for the blocked operation in their partition");
+
+        latch0.countDown();
+        assertEventuallyEquals(51, handledForKey0::get, Duration.ofSeconds(1), "partition 0 did not finish");
+        assertEquals(51, handledCount.get(), "partition 1 should still be blocked");
+
+        latch1.countDown();
+        assertEventuallyEquals(102, handledCount::get, Duration.ofSeconds(1), "partition 1 did not finish");
+    }
+
+    /**
+     * Verify that the scheduler tracks unhandled tasks, both in total and for the busiest partition.
+     */
+    @Test
+    void unprocessedTaskCountTest() {
+        final WiringModel model = TestWiringModelBuilder.create();
+
+        final CountDownLatch latch = new CountDownLatch(1);
+        final Consumer<Integer> handler = x -> {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        };
+
+        final PartitionedTaskScheduler<Void> taskScheduler =
+                (PartitionedTaskScheduler<Void>) model.<Void>schedulerBuilder("test")
+                        .withType(TaskSchedulerType.PARTITIONED)
+                        .withPartitioner(x -> (Integer) x)
+                        .withPartitionCount(3)
+                        .withUnhandledTaskCapacity(UNLIMITED_CAPACITY)
+                        .withFlushingEnabled(true)
+                        .build();
+        final BindableInputWire<Integer, Void> channel = taskScheduler.buildInputWire("channel");
+        channel.bindConsumer(handler);
+
+        assertEquals(3, taskScheduler.getPartitionCount());
+
+        // Negative keys are allowed, -3 and 3 are in the same partition as 0
+        for (final int key : List.of(0, 3, -3, 1, 2, 5)) {
+            channel.put(key);
+        }
+        assertEquals(6, taskScheduler.getUnprocessedTaskCount());
+        assertEquals(3, taskScheduler.getLargestPartitionTaskCount());
+
+        latch.countDown();
+        taskScheduler.flush();
+        assertEquals(0, taskScheduler.getUnprocessedTaskCount());
+        // a partition counts a task as done just after the task is off-ramped
+        assertEventuallyEquals(
+                0L,
+                taskScheduler::getLargestPartitionTaskCount,
+                Duration.ofSeconds(1),
+                "partitions did not finish their tasks");
+    }
+
+    /**
+     * An exception thrown by a handler should not stop the partition.
+     */
+    @Test
+    void exceptionTest() {
+        final WiringModel model = TestWiringModelBuilder.create();
+
+        final AtomicInteger handledCount = new AtomicInteger();
+        final AtomicInteger exceptionCount = new AtomicInteger();
+        final Consumer<Integer> handler = x -> {
+            if (x % 10 == 0) {
+                throw new IllegalStateException("intentional exception");
+            }
+            handledCount.incrementAndGet();
+        };
+
+        final TaskScheduler<Void> taskScheduler = model.<Void>schedulerBuilder("test")
+                .withType(TaskSchedulerType.PARTITIONED)
+                .withPartitioner(x -> 0)
+                .withUnhandledTaskCapacity(UNLIMITED_CAPACITY)
+                .withUncaughtExceptionHandler((t, e) -> exceptionCount.incrementAndGet())
+                .withFlushingEnabled(true)
+                .build();
+        final BindableInputWire<Integer, Void> channel = taskScheduler.buildInputWire("channel");
+        channel.bindConsumer(handler);
+
+        for (int i = 0; i < 100; i++) {
+            channel.put(i);
+        }
+        taskScheduler.flush();
+
+        assertEquals(90, handledCount.get());
+        assertEquals(10, exceptionCount.get());
+    }
+
+    /**
+     * A partitioned scheduler can not be built without a partitioner.
+     */
+    @Test
+    void partitionerRequiredTest() {
+        final WiringModel model = TestWiringModelBuilder.create();
+
+        final TaskSchedulerBuilder<Void> builder =
+                model.<Void>schedulerBuilder("test").withType(TaskSchedulerType.PARTITIONED);
+
+        final IllegalStateException e = assertThrows(IllegalStateException.class, builder::build);
+        assertTrue(e.getMessage().contains("partitioner"));
+        assertThrows(IllegalArgumentException.class, () -> builder.withPartitionCount(0));
+    }
+}
@@ -0,0 +1,305 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.component.framework.schedulers;
+
+import static com.swirlds.common.test.fixtures.AssertionUtils.assertEventuallyEquals;
+import static com.swirlds.common.test.fixtures.AssertionUtils.assertEventuallyTrue;
+import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerBuilder.UNLIMITED_CAPACITY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.component.framework.TestWiringModelBuilder;
+import com.swirlds.component.framework.model.WiringModel;
+import com.swirlds.component.framework.schedulers.builders.TaskSchedulerBuilder;
+import com.swirlds.component.framework.schedulers.builders.TaskSchedulerType;
+import com.swirlds.component.framework.schedulers.internal.RingBufferTaskScheduler;
+import com.swirlds.component.framework.schedulers.internal.SequentialThreadTaskScheduler;
+import com.swirlds.component.framework.wires.input.BindableInputWire;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+class RingBufferTaskSchedulerTests {
+
+    /**
+     * Build a sequential thread scheduler backed by a ring buffer.
+     *
+     * @param model          the wiring model
+     * @param ringBufferSize the size of the ring buffer
+     * @return the scheduler
+     */
+    private static <T> TaskScheduler<T> buildScheduler(final WiringModel model, final int ringBufferSize) {
+        final TaskScheduler<T> taskScheduler = model.<T>schedulerBuilder("test")
+                .withType(TaskSchedulerType.SEQUENTIAL_THREAD)
+                .withRingBufferSize(ringBufferSize)
+                .withUnhandledTaskCapacity(UNLIMITED_CAPACITY)
+                .withFlushingEnabled(true)
+                .build();
+        assertInstanceOf(RingBufferTaskScheduler.class, taskScheduler);
+        return taskScheduler;
+    }
+
+    /**
+     * Without a ring buffer size, a sequential thread scheduler uses a linked queue.
+     */
+    @Test
+    void ringBufferIsOptInTest() {
+        final WiringModel model = TestWiringModelBuilder.create();
+        final TaskScheduler<Void> taskScheduler = model.<Void>schedulerBuilder("test")
+                .withType(TaskSchedulerType.SEQUENTIAL_THREAD)
+                .build();
+        assertInstanceOf(SequentialThreadTaskScheduler.class, taskScheduler);
+
+        final TaskSchedulerBuilder<Void> builder = model.schedulerBuilder("test2");
+        assertThrows(IllegalArgumentException.class, () -> builder.withRingBufferSize(-1));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> builder.withRingBufferSize(TaskSchedulerBuilder.MAX_RING_BUFFER_SIZE + 1));
+    }
+
+    /**
+     * Tasks are handled in the order they were inserted, also when the ring buffer wraps around many times.
+     */
+    @Test
+    void orderTest() {
+        final WiringModel model = TestWiringModelBuilder.create();
+        final TaskScheduler<Void> taskScheduler = buildScheduler(model, 16);
+
+        final List<Integer> handled = new ArrayList<>();
+        final BindableInputWire<Integer, Void> channel = taskScheduler.buildInputWire("channel");
+        channel.bindConsumer(handled::add);
+
+        model.start();
+        for (int i = 0; i < 10_000; i++) {
+            channel.put(i);
+        }
+        taskScheduler.flush();
+        model.stop();
+
+        assertEquals(10_000, handled.size());
+        for (int i = 0; i < handled.size(); i++) {
+            assertEquals(i, handled.get(i));
+        }
+        assertEquals(0, taskScheduler.getUnprocessedTaskCount());
+    }
+
+    /**
+     * Tasks that pile up while the handler is busy are passed to a batch handler together, and the outputs of a batch
+     * are forwarded one by one.
+     */
+    @Test
+    void batchTest() {
+        final WiringModel model = TestWiringModelBuilder.create();
+        final TaskScheduler<Integer> taskScheduler = buildScheduler(model, 64);
+
+        final CountDownLatch latch = new CountDownLatch(1);
+        final AtomicBoolean started = new AtomicBoolean();
+        final List<Integer> batchSizes = new ArrayList<>();
+        final BindableInputWire<Integer, Integer> channel = taskScheduler.buildInputWire("channel");
+        channel.bindBatch(batch -> {
+            started.set(true);
+            try {
+                latch.await();
+            } catch (final InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            batchSizes.add(batch.size());
+            // drop the odd values
+            return batch.stream().filter(x -> x % 2 == 0).toList();
+        });
+
+        final List<Integer> output = Collections.synchronizedList(new ArrayList<>());
+        taskScheduler.getOutputWire().solderTo("output", "output", output::add);
+
+        model.start();
+        channel.put(0);
+        // wait until the first task is being handled, all others are queued behind it
+        assertEventuallyTrue(started::get, Duration.ofSeconds(1), "task not started");
+        for (int i = 1; i < 50; i++) {
+            channel.put(i);
+        }
+        latch.countDown();
+        taskScheduler.flush();
+        model.stop();
+
+        assertEquals(List.of(1, 49), batchSizes);
+        final List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 50; i += 2) {
+            expected.add(i);
+        }
+        assertEquals(expected, output);
+    }
+
+    /**
+     * A batch only contains consecutive tasks for the same wire, so the order between wires is preserved.
+     */
+    @Test
+    void mixedWiresTest() {
+        final WiringModel model = TestWiringModelBuilder.create();
+        final TaskScheduler<Void> taskScheduler = buildScheduler(model, 64);
+
+        final CountDownLatch latch = new CountDownLatch(1);
+        final AtomicBoolean started = new AtomicBoolean();
+        final List<String> handled = new ArrayList<>();
+        final BindableInputWire<Integer, Void> blocker = taskScheduler.buildInputWire("blocker");
+        blocker.bindConsumer(x -> {
+            started.set(true);
+            try {
+                latch.await();
+            } catch (final InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        final BindableInputWire<Integer, Void> batched = taskScheduler.buildInputWire("batched");
+        batched.bindBatchConsumer(batch -> handled.add("batch" + batch));
+        final BindableInputWire<Integer, Void> single = taskScheduler.buildInputWire("single");
+        single.bindConsumer(x -> handled.add("single" + x));
+
+        model.start();
+        blocker.put(0);
+        assertEventuallyTrue(started::get, Duration.ofSeconds(1), "task not started");
+        batched.put(1);
+        batched.put(2);
+        single.put(3);
+        single.put(4);
+        batched.put(5);
+        latch.countDown();
+        taskScheduler.flush();
+        model.stop();
+
+        assertEquals(List.of("batch[1, 2]", "single3", "single4", "batch[5]"), handled);
+    }
+
+    /**
+     * An exception thrown by a handler is passed to the uncaught exception handler, and the tasks are still off ramped.
+     */
+    @Test
+    void exceptionTest() {
+        final WiringModel model = TestWiringModelBuilder.create();
+
+        final AtomicInteger exceptionCount = new AtomicInteger();
+        final TaskScheduler<Void> taskScheduler = model.<Void>schedulerBuilder("test")
+                .withType(TaskSchedulerType.SEQUENTIAL_THREAD)
+                .withRingBufferSize(8)
+                .withUnhandledTaskCapacity(UNLIMITED_CAPACITY)
+                .withUncaughtExceptionHandler((t, e) -> exceptionCount.incrementAndGet())
+                .withFlushingEnabled(true)
+                .build();
+
+        final AtomicInteger handledCount = new AtomicInteger();
+        final BindableInputWire<Integer, Void> channel = taskScheduler.buildInputWire("channel");
+        channel.bindConsumer(x -> {
+            if (x % 10 == 0) {
+                throw new IllegalStateException("intentional exception");
+            }
+            handledCount.incrementAndGet();
+        });
+
+        model.start();
+        for (int i = 0; i < 100; i++) {
+            channel.put(i);
+        }
+        taskScheduler.flush();
+        model.stop();
+
+        assertEquals(90, handledCount.get());
+        assertEquals(10, exceptionCount.get());
+        assertEquals(0, taskScheduler.getUnprocessedTaskCount());
+    }
+
+    /**
+     * Many producers can share a tiny ring buffer, they wait for free slots instead of losing tasks.
+     */
+    @Test
+    void manyProducersTest() throws InterruptedException {
+        final WiringModel model = TestWiringModelBuilder.create();
+        final TaskScheduler<Void> taskScheduler = buildScheduler(model, 2);
+
+        final int producerCount = 8;
+        final int tasksPerProducer = 2_000;
+
+        // Only accessed by the scheduler thread
+        final int[] nextSequence = new int[producerCount];
+        final AtomicReference<String> error = new AtomicReference<>();
+        final AtomicInteger handledCount = new AtomicInteger();
+        final BindableInputWire<int[], Void> channel = taskScheduler.buildInputWire("channel");
+        channel.bindBatchConsumer(batch -> {
+            for (final int[] task : batch) {
+                if (nextSequence[task[0]]++ != task[1]) {
+                    error.compareAndSet(null, "tasks of producer " + task[0] + " out of order");
+                }
+            }
+            handledCount.addAndGet(batch.size());
+        });
+
+        model.start();
+        final List<Thread> producers = new ArrayList<>();
+        for (int producer = 0; producer < producerCount; producer++) {
+            final int id = producer;
+            final Thread thread = new Thread(() -> {
+                for (int i = 0; i < tasksPerProducer; i++) {
+                    channel.put(new int[] {id, i});
+                }
+            });
+            producers.add(thread);
+            thread.start();
+        }
+        for (final Thread producer : producers) {
+            producer.join();
+        }
+
+        assertEventuallyEquals(
+                producerCount * tasksPerProducer,
+                handledCount::get,
+                Duration.ofSeconds(10),
+                "not all tasks were handled");
+        taskScheduler.flush();
+        model.stop();
+
+        assertNull(error.get(), error.get());
+    }
+
+    /**
+     * The scheduler thread can not wait for itself to free a slot, so inserting into its own full ring buffer fails.
+     */
+    @Test
+    void selfInsertIntoFullRingBufferTest() {
+        final WiringModel model = TestWiringModelBuilder.create();
+
+        final AtomicReference<Throwable> exception = new AtomicReference<>();
+        final TaskScheduler<Integer> taskScheduler = model.<Integer>schedulerBuilder("test")
+                .withType(TaskSchedulerType.SEQUENTIAL_THREAD)
+                .withRingBufferSize(2)
+                .withUnhandledTaskCapacity(UNLIMITED_CAPACITY)
+                .withUncaughtExceptionHandler((t, e) -> exception.compareAndSet(null, e))
+                .withFlushingEnabled(true)
+                .build();
+
+        final BindableInputWire<Integer, Integer> channel = taskScheduler.buildInputWire("channel");
+        final BindableInputWire<Integer, Void> loop = taskScheduler.buildInputWire("loop");
+        channel.bindConsumer(x -> {
+            for (int i = 0; i < 4; i++) {
+                loop.put(i);
+            }
+        });
+        loop.bindConsumer(x -> {});
+
+        model.start();
+        channel.put(0);
+        assertEventuallyTrue(() -> exception.get() != null, Duration.ofSeconds(1), "no exception was thrown");
+        taskScheduler.flush();
+        model.stop();
+
+        assertInstanceOf(IllegalStateException.class, exception.get());
+        assertTrue(exception.get().getMessage().contains("ring buffer"));
+        assertEquals(0, taskScheduler.getUnprocessedTaskCount());
+    }
+}
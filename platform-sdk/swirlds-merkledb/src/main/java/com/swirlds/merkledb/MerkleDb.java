@@ -388,6 +388,54 @@ public final class MerkleDb {
         return getDataSource(configuration, tableId, label, makeCopyPrimary, offlineUse);
     }
 
+    /**
+     * Imports a data source from a database snapshot in the specified folder into this database
+     * instance. The imported data source has the same label (table name) as the given data source,
+     * and it replaces the given data source as primary. The given data source isn't closed, it's the
+     * caller's responsibility.
+     *
+     * <p>This method is used by learners at the end of a file-level reconnect, when a snapshot of the
+     * teacher's table is assembled from files received from the teacher. Unlike {@link
+     * #restore(Path, Path, Configuration)}, it can be called when this database is in use.
+     *
+     * @param source Snapshot folder
+     * @param replaceMe Data source to replace, must be in this database
+     * @param dbCompactionEnabled Whether background compaction process needs to be enabled for the
+     *     imported data source
+     * @return The imported data source
+     * @throws IOException If an I/O error occurs
+     */
+    public MerkleDbDataSource importDataSource(
+            final Path source, final MerkleDbDataSource replaceMe, final boolean dbCompactionEnabled)
+            throws IOException {
+        if (this != replaceMe.getDatabase()) {
+            throw new IllegalArgumentException("Cannot replace a data source from a different database");
+        }
+        final MerkleDb sourceDb = getInstance(source, configuration);
+        if (this == sourceDb) {
+            throw new IllegalArgumentException("Cannot import a data source from the same database");
+        }
+        final String label = replaceMe.getTableName();
+        final TableMetadata sourceMetadata = sourceDb.getTableMetadata(label);
+        if (sourceMetadata == null) {
+            throw new IllegalStateException("Unknown table in the snapshot: " + label);
+        }
+        // The source data source is only needed to snapshot its files to this database
+        final MerkleDbDataSource sourceDataSource =
+                sourceDb.getDataSource(configuration, sourceMetadata.getTableId(), label, false, true);
+        try {
+            final int tableId = getNextTableId();
+            // The source data source isn't a part of this database, leave its status as is
+            importDataSource(sourceDataSource, tableId, true, true);
+        } finally {
+            sourceDataSource.close(true);
+        }
+        replaceMe.stopAndDisableBackgroundCompaction();
+        primaryTables.remove(replaceMe.getTableId());
+        storeMetadata();
+        return getDataSource(configuration, label, dbCompactionEnabled);
+    }
+
     private void importDataSource(
             final MerkleDbDataSource dataSource,
             final int tableId,
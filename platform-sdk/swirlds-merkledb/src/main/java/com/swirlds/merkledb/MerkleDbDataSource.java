@@ -21,6 +21,8 @@ import com.swirlds.base.units.UnitConstants;
 import com.swirlds.base.utility.ToStringBuilder;
 import com.swirlds.common.threading.framework.config.ThreadConfiguration;
 import com.swirlds.config.api.Configuration;
+import com.swirlds.merkledb.cache.HashChunkCache;
+import com.swirlds.merkledb.cache.LeafRecordCache;
 import com.swirlds.merkledb.collections.HashList;
 import com.swirlds.merkledb.collections.HashListByteBuffer;
 import com.swirlds.merkledb.collections.LongList;
@@ -46,17 +48,22 @@ import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
-import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
 import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -131,28 +138,40 @@ public final class MerkleDbDataSource implements VirtualDataSource {
     private final MemoryIndexDiskKeyValueStore pathToKeyValue;
 
     /**
-     * Cache size for reading virtual leaf records. Initialized in data source creation time from
-     * MerkleDb settings. If the value is zero, leaf records cache isn't used.
+     * Virtual leaf records cache. Initialized in data source creation time from MerkleDb settings,
+     * see {@link LeafRecordCache#create(MerkleDbConfig, String)}. If null, leaf records cache isn't
+     * used.
      */
-    private final int leafRecordCacheSize;
+    @Nullable
+    private final LeafRecordCache leafRecordCache;
 
     /**
-     * Virtual leaf records cache. It's a simple array indexed by leaf keys % cache size. Cache
-     * eviction is not needed, as array size is fixed and can be configured in MerkleDb settings.
-     * Index conflicts are resolved in a very straightforward way: whatever entry is read last, it's
-     * put to the cache.
+     * Cache for internal node hashes read from {@link #hashStoreDisk}. Initialized in data source
+     * creation time from {@link MerkleDbConfig#hashCacheMaxBytes()}. If null, hashes read from disk
+     * aren't cached.
      */
-    private final VirtualLeafBytes[] leafRecordCache;
+    @Nullable
+    private final HashChunkCache hashCache;
 
     /** Thread pool storing internal records */
     private final ExecutorService storeHashesExecutor;
 
-    /** Thread pool storing key-to-path mappings */
+    /** Thread pool storing path-to-key/value records */
     private final ExecutorService storeLeavesExecutor;
 
+    /** Thread pool storing key-to-path mappings, in parallel with path-to-key/value records */
+    private final ExecutorService storeLeafKeysExecutor;
+
     /** Thread pool creating snapshots, it is unbounded in threads, but we use at most 7 */
     private final ExecutorService snapshotExecutor;
 
+    /**
+     * Thread pool completing asynchronous leaf reads, see {@link #loadLeafRecords(long[])}. Its
+     * size is {@link MerkleDbConfig#asyncReadThreads()}, threads are only started when leaves are
+     * read asynchronously
+     */
+    private final ExecutorService asyncReadExecutor;
+
     /** Flag for if a snapshot is in progress */
     private final AtomicBoolean snapshotInProgress = new AtomicBoolean(false);
 
@@ -204,7 +223,15 @@ public final class MerkleDbDataSource implements VirtualDataSource {
                 .setExceptionHandler((t, ex) -> logger.error(
                         EXCEPTION.getMarker(), "[{}] Uncaught exception during storing leaves", tableName, ex))
                 .buildFactory());
-        // thread pool creating snapshots, it is unbounded in threads, but we use at most 7
+        // create thread pool storing virtual leaf keys
+        storeLeafKeysExecutor = Executors.newSingleThreadExecutor(new ThreadConfiguration(getStaticThreadManager())
+                .setComponent(MERKLEDB_COMPONENT)
+                .setThreadGroup(threadGroup)
+                .setThreadName("Store leaf keys")
+                .setExceptionHandler((t, ex) -> logger.error(
+                        EXCEPTION.getMarker(), "[{}] Uncaught exception during storing leaf keys", tableName, ex))
+                .buildFactory());
+        // thread pool creating snapshots and loading indices, it is unbounded in threads, but we use at most 7
         snapshotExecutor = Executors.newCachedThreadPool(new ThreadConfiguration(getStaticThreadManager())
                 .setComponent(MERKLEDB_COMPONENT)
                 .setThreadGroup(threadGroup)
@@ -212,6 +239,16 @@ public final class MerkleDbDataSource implements VirtualDataSource {
                 .setExceptionHandler(
                         (t, ex) -> logger.error(EXCEPTION.getMarker(), "Uncaught exception during snapshots", ex))
                 .buildFactory());
+        // thread pool completing async leaf reads
+        asyncReadExecutor = Executors.newFixedThreadPool(
+                merkleDbConfig.asyncReadThreads(),
+                new ThreadConfiguration(getStaticThreadManager())
+                        .setComponent(MERKLEDB_COMPONENT)
+                        .setThreadGroup(threadGroup)
+                        .setThreadName("Async read")
+                        .setExceptionHandler((t, ex) -> logger.error(
+                                EXCEPTION.getMarker(), "[{}] Uncaught exception during async read", tableName, ex))
+                        .buildFactory());
 
         final Path storageDir = database.getTableDir(tableName, tableId);
         dbPaths = new MerkleDbPaths(storageDir);
@@ -241,40 +278,79 @@ public final class MerkleDbDataSource implements VirtualDataSource {
         // size. If a new MerkleDb instance is created, both path indices will have size 0
         final long pathIndexCapacity = merkleDbConfig.maxNumOfKeys() * 2;
 
+        // Indices, the hashes store in RAM, and the key to path store are independent of each other, they
+        // are loaded from disk in parallel. Stores that depend on the indices are created after loading
         final boolean forceIndexRebuilding = merkleDbConfig.indexRebuildingEnforced();
+        final boolean diskBasedIndices = preferDiskBasedIndices;
         // Path to disk location index, hashes
         final Path pathToHashLocationFile = dbPaths.pathToDiskLocationInternalNodesFile;
-        if (Files.exists(pathToHashLocationFile) && !forceIndexRebuilding) {
-            pathToDiskLocationInternalNodes = preferDiskBasedIndices
-                    ? new LongListDisk(pathToHashLocationFile, pathIndexCapacity, config)
-                    : new LongListOffHeap(pathToHashLocationFile, pathIndexCapacity, config);
-        } else {
-            pathToDiskLocationInternalNodes = preferDiskBasedIndices
-                    ? new LongListDisk(pathIndexCapacity, config)
-                    : new LongListOffHeap(pathIndexCapacity, config);
-        }
+        final Future<LongList> internalNodesIndexFuture = snapshotExecutor.submit(() -> {
+            if (Files.exists(pathToHashLocationFile) && !forceIndexRebuilding) {
+                return diskBasedIndices
+                        ? new LongListDisk(pathToHashLocationFile, pathIndexCapacity, config)
+                        : new LongListOffHeap(pathToHashLocationFile, pathIndexCapacity, config);
+            } else {
+                return diskBasedIndices
+                        ? new LongListDisk(pathIndexCapacity, config)
+                        : new LongListOffHeap(pathIndexCapacity, config);
+            }
+        });
         // Path to disk location index, leaf nodes
         final Path pathToLeafLocationFile = dbPaths.pathToDiskLocationLeafNodesFile;
-        if (Files.exists(pathToLeafLocationFile) && !forceIndexRebuilding) {
-            pathToDiskLocationLeafNodes = preferDiskBasedIndices
-                    ? new LongListDisk(pathToLeafLocationFile, pathIndexCapacity, config)
-                    : new LongListOffHeap(pathToLeafLocationFile, pathIndexCapacity, config);
-        } else {
-            pathToDiskLocationLeafNodes = preferDiskBasedIndices
-                    ? new LongListDisk(pathIndexCapacity, config)
-                    : new LongListOffHeap(pathIndexCapacity, config);
-        }
+        final Future<LongList> leafNodesIndexFuture = snapshotExecutor.submit(() -> {
+            if (Files.exists(pathToLeafLocationFile) && !forceIndexRebuilding) {
+                return diskBasedIndices
+                        ? new LongListDisk(pathToLeafLocationFile, pathIndexCapacity, config)
+                        : new LongListOffHeap(pathToLeafLocationFile, pathIndexCapacity, config);
+            } else {
+                return diskBasedIndices
+                        ? new LongListDisk(pathIndexCapacity, config)
+                        : new LongListOffHeap(pathIndexCapacity, config);
+            }
+        });
 
         // Hashes store, RAM
         final long hashesRamToDiskThreshold = tableConfig.getHashesRamToDiskThreshold();
+        final Path hashStoreRamFile = dbPaths.hashStoreRamFile;
+        final Future<HashListByteBuffer> hashStoreRamFuture;
         if (hashesRamToDiskThreshold > 0) {
-            if (Files.exists(dbPaths.hashStoreRamFile)) {
-                hashStoreRam = new HashListByteBuffer(dbPaths.hashStoreRamFile, hashesRamToDiskThreshold, config);
-            } else {
-                hashStoreRam = new HashListByteBuffer(hashesRamToDiskThreshold, config);
-            }
+            hashStoreRamFuture = snapshotExecutor.submit(() -> {
+                if (Files.exists(hashStoreRamFile)) {
+                    return new HashListByteBuffer(hashStoreRamFile, hashesRamToDiskThreshold, config);
+                } else {
+                    return new HashListByteBuffer(hashesRamToDiskThreshold, config);
+                }
+            });
         } else {
-            hashStoreRam = null;
+            hashStoreRamFuture = null;
+        }
+
+        // Keys (keys to paths)
+        final String keyToPathStoreName = tableName + "_objectkeytopath";
+        final Path keyToPathDirectory = dbPaths.keyToPathDirectory;
+        final Future<HalfDiskHashMap> keyToPathFuture = snapshotExecutor.submit(() -> new HalfDiskHashMap(
+                config,
+                tableConfig.getInitialCapacity(),
+                keyToPathDirectory,
+                keyToPathStoreName,
+                tableName + ":objectKeyToPath",
+                diskBasedIndices));
+
+        try {
+            pathToDiskLocationInternalNodes = waitForLoading(internalNodesIndexFuture, "internal nodes index");
+            pathToDiskLocationLeafNodes = waitForLoading(leafNodesIndexFuture, "leaf nodes index");
+            hashStoreRam = (hashStoreRamFuture != null) ? waitForLoading(hashStoreRamFuture, "hashes store") : null;
+            keyToPath = waitForLoading(keyToPathFuture, "key to path store");
+        } catch (final IOException | RuntimeException e) {
+            final List<Future<? extends AutoCloseable>> loadingFutures = new ArrayList<>();
+            loadingFutures.add(internalNodesIndexFuture);
+            loadingFutures.add(leafNodesIndexFuture);
+            if (hashStoreRamFuture != null) {
+                loadingFutures.add(hashStoreRamFuture);
+            }
+            loadingFutures.add(keyToPathFuture);
+            closeLoaded(loadingFutures, e);
+            throw e;
         }
 
         // Hashes store, on disk (paths to hashes)
@@ -304,7 +380,8 @@ public final class MerkleDbDataSource implements VirtualDataSource {
                     hashStoreDiskStoreName,
                     tableName + ":internalHashes",
                     hashRecordLoadedCallback,
-                    pathToDiskLocationInternalNodes);
+                    pathToDiskLocationInternalNodes,
+                    merkleDbConfig.memoryMappedHashStore());
         } else {
             hashStoreDisk = null;
         }
@@ -336,17 +413,10 @@ public final class MerkleDbDataSource implements VirtualDataSource {
                 pathToKeyValueStoreName,
                 tableName + ":pathToHashKeyValue",
                 leafRecordLoadedCallback,
-                pathToDiskLocationLeafNodes);
+                pathToDiskLocationLeafNodes,
+                merkleDbConfig.memoryMappedLeafStore(),
+                tableConfig.getLeafStoreCompression());
 
-        // Keys (keys to paths)
-        String keyToPathStoreName = tableName + "_objectkeytopath";
-        keyToPath = new HalfDiskHashMap(
-                config,
-                tableConfig.getInitialCapacity(),
-                dbPaths.keyToPathDirectory,
-                keyToPathStoreName,
-                tableName + ":objectKeyToPath",
-                preferDiskBasedIndices);
         keyToPath.printStats();
         // Repair keyToPath based on pathToKeyValue data, if requested and not offlineUse
         if (!offlineUse) {
@@ -360,8 +430,13 @@ public final class MerkleDbDataSource implements VirtualDataSource {
         }
 
         // Leaf records cache
-        leafRecordCacheSize = merkleDbConfig.leafRecordCacheSize();
-        leafRecordCache = (leafRecordCacheSize > 0) ? new VirtualLeafBytes[leafRecordCacheSize] : null;
+        leafRecordCache = LeafRecordCache.create(merkleDbConfig, tableName);
+
+        // Disk hashes cache
+        final long hashCacheMaxBytes = merkleDbConfig.hashCacheMaxBytes();
+        hashCache = (hasDiskStoreForHashes && (hashCacheMaxBytes >= HashChunkCache.CHUNK_BYTES))
+                ? new HashChunkCache(hashCacheMaxBytes)
+                : null;
 
         // Stats
         statisticsUpdater = new MerkleDbStatisticsUpdater(merkleDbConfig, tableName);
@@ -372,6 +447,12 @@ public final class MerkleDbDataSource implements VirtualDataSource {
             enableBackgroundCompaction();
         }
 
+        // Indices memory-mapped from snapshot files are paged in lazily on first access. Page them in
+        // on a background thread, so the data source can be used while indices are warming up
+        if (merkleDbConfig.longListMemoryMappedChunks()) {
+            snapshotExecutor.submit(this::warmUpIndices);
+        }
+
         // Update count of open databases
         COUNT_OF_OPEN_DATABASES.increment();
 
@@ -507,7 +588,7 @@ public final class MerkleDbDataSource implements VirtualDataSource {
             storeLeavesExecutor.execute(() -> {
                 try {
                     // we might as well do this in the archive thread rather than leaving it waiting
-                    writeLeavesToPathToKeyValue(
+                    writeLeaves(
                             firstLeafPath,
                             lastLeafPath,
                             leafRecordsToAddOrUpdate,
@@ -543,6 +624,12 @@ public final class MerkleDbDataSource implements VirtualDataSource {
             statisticsUpdater.updateStoreFileStats(this);
             // update off-heap stats
             statisticsUpdater.updateOffHeapStats(this);
+            // update key filter stats
+            statisticsUpdater.updateKeyFilterStats(this);
+            // update leaf records cache stats
+            statisticsUpdater.updateLeafCacheStats(this);
+            // update hash cache stats
+            statisticsUpdater.updateHashCacheStats(this);
         }
     }
 
@@ -559,18 +646,9 @@ public final class MerkleDbDataSource implements VirtualDataSource {
         requireNonNull(keyBytes);
 
         final long path;
-        VirtualLeafBytes cached = null;
-        int cacheIndex = -1;
-        if (leafRecordCache != null) {
-            cacheIndex = Math.abs(keyHashCode % leafRecordCacheSize);
-            // No synchronization is needed here. Java guarantees (JLS 17.7) that reference writes
-            // are atomic, so we will never get corrupted objects from the array. The object may
-            // be overwritten in the cache in a different thread in parallel, but it isn't a
-            // problem as cached entry key is checked below anyway
-            cached = leafRecordCache[cacheIndex];
-        }
-        // If an entry is found in the cache, and entry key is the one requested
-        if ((cached != null) && keyBytes.equals(cached.keyBytes())) {
+        final VirtualLeafBytes cached = (leafRecordCache != null) ? leafRecordCache.get(keyBytes, keyHashCode) : null;
+        // If an entry is found in the cache
+        if (cached != null) {
             // Some cache entries contain just key and path, but no value. If the value is there,
             // just return the cached entry. If not, at least make use of the path
             if (cached.valueBytes() != null) {
@@ -579,8 +657,8 @@ public final class MerkleDbDataSource implements VirtualDataSource {
             // Note that the path may be INVALID_PATH here, this is perfectly legal
             path = cached.path();
         } else {
-            // Cache miss
-            cached = null;
+            // Cache miss. If key to path bucket key filters are enabled, they are checked
+            // first, and the bucket isn't read from disk, if the key is definitely not there
             statisticsUpdater.countLeafKeyReads();
             path = keyToPath.get(keyBytes, keyHashCode, INVALID_PATH);
         }
@@ -589,7 +667,7 @@ public final class MerkleDbDataSource implements VirtualDataSource {
         if (path == INVALID_PATH) {
             // Cache the result if not already cached
             if (leafRecordCache != null && cached == null) {
-                leafRecordCache[cacheIndex] = new VirtualLeafBytes(path, keyBytes, 0, null);
+                leafRecordCache.put(keyHashCode, new VirtualLeafBytes(path, keyBytes, 0, null));
             }
             return null;
         }
@@ -607,8 +685,7 @@ public final class MerkleDbDataSource implements VirtualDataSource {
         assert leafBytes != null && leafBytes.keyBytes().equals(keyBytes);
 
         if (leafRecordCache != null) {
-            // No synchronization is needed here, see the comment above
-            leafRecordCache[cacheIndex] = leafBytes;
+            leafRecordCache.put(keyHashCode, leafBytes);
         }
 
         return leafBytes;
@@ -636,6 +713,36 @@ public final class MerkleDbDataSource implements VirtualDataSource {
         return VirtualLeafBytes.parseFrom(pathToKeyValue.get(path));
     }
 
+    /**
+     * Load leaf records by paths asynchronously. Reads for all paths are issued at once, so
+     * multiple records are read from disk in parallel without blocking a thread per record. Records
+     * are read into new buffers, so they can be used by any thread.
+     *
+     * @param paths the paths for the leaves we are loading
+     * @return futures of loaded records, in the same order as paths. A future is completed with
+     *     null, if the path is outside the valid path range
+     */
+    public List<CompletableFuture<VirtualLeafBytes>> loadLeafRecords(final long[] paths) {
+        for (final long path : paths) {
+            if (path < 0) {
+                throw new IllegalArgumentException("Path (" + path + ") is not valid");
+            }
+        }
+        final KeyRange leafPathRange = validLeafPathRange;
+        final long[] pathsToRead = Arrays.stream(paths)
+                .map(path -> leafPathRange.withinRange(path) ? path : INVALID_PATH)
+                .toArray();
+        final List<CompletableFuture<BufferedData>> reads = pathToKeyValue.getAll(pathsToRead, asyncReadExecutor);
+        final List<CompletableFuture<VirtualLeafBytes>> result = new ArrayList<>(paths.length);
+        for (int i = 0; i < paths.length; i++) {
+            if (pathsToRead[i] != INVALID_PATH) {
+                statisticsUpdater.countLeafReads();
+            }
+            result.add(reads.get(i).thenApply(VirtualLeafBytes::parseFrom));
+        }
+        return result;
+    }
+
     /**
      * Find the path of the given key.
      *
@@ -648,23 +755,21 @@ public final class MerkleDbDataSource implements VirtualDataSource {
         requireNonNull(keyBytes);
 
         // Check the cache first
-        int cacheIndex = -1;
         if (leafRecordCache != null) {
-            cacheIndex = Math.abs(keyHashCode % leafRecordCacheSize);
-            // No synchronization is needed here. See the comment in loadLeafRecord(key) above
-            final VirtualLeafBytes cached = leafRecordCache[cacheIndex];
-            if (cached != null && keyBytes.equals(cached.keyBytes())) {
+            final VirtualLeafBytes cached = leafRecordCache.get(keyBytes, keyHashCode);
+            if (cached != null) {
                 // Cached path may be a valid path or INVALID_PATH, both are legal here
                 return cached.path();
             }
         }
 
         statisticsUpdater.countLeafKeyReads();
+        // Key to path map checks bucket key filters, if enabled, before reading buckets from disk
         final long path = keyToPath.get(keyBytes, keyHashCode, INVALID_PATH);
 
         if (leafRecordCache != null) {
             // Path may be INVALID_PATH here. Still needs to be cached (negative result)
-            leafRecordCache[cacheIndex] = new VirtualLeafBytes(path, keyBytes, keyHashCode, null);
+            leafRecordCache.put(keyHashCode, new VirtualLeafBytes(path, keyBytes, keyHashCode, null));
         }
 
         return path;
@@ -694,9 +799,7 @@ public final class MerkleDbDataSource implements VirtualDataSource {
             hash = hashStoreRam.get(path);
             // Should count hash reads here, too?
         } else {
-            final VirtualHashRecord rec = VirtualHashRecord.parseFrom(hashStoreDisk.get(path));
-            hash = (rec != null) ? rec.hash() : null;
-            statisticsUpdater.countHashReads();
+            hash = loadHashFromDisk(path);
         }
 
         return hash;
@@ -724,6 +827,12 @@ public final class MerkleDbDataSource implements VirtualDataSource {
                 return false;
             }
             hash.serialize(out);
+        } else if (hashCache != null) {
+            final Hash hash = loadHashFromDisk(path);
+            if (hash == null) {
+                return false;
+            }
+            hash.serialize(out);
         } else {
             final BufferedData hashBytes = hashStoreDisk.get(path);
             if (hashBytes == null) {
@@ -735,6 +844,30 @@ public final class MerkleDbDataSource implements VirtualDataSource {
         return true;
     }
 
+    /**
+     * Loads a hash from {@link #hashStoreDisk}, or from {@link #hashCache}, if the hash is cached.
+     * Hashes read from disk are put to the cache.
+     */
+    @Nullable
+    private Hash loadHashFromDisk(final long path) throws IOException {
+        if (hashCache != null) {
+            final Hash cached = hashCache.get(path);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        final long readStamp = (hashCache != null) ? hashCache.readStamp() : 0;
+        final VirtualHashRecord rec = VirtualHashRecord.parseFrom(hashStoreDisk.get(path));
+        statisticsUpdater.countHashReads();
+        if (rec == null) {
+            return null;
+        }
+        if (hashCache != null) {
+            hashCache.put(path, rec.hash(), readStamp);
+        }
+        return rec.hash();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -747,7 +880,10 @@ public final class MerkleDbDataSource implements VirtualDataSource {
                 // Shut down all executors. If a flush is currently in progress, it will be interrupted.
                 // It's critical to make sure there are no disk read/write operations before all indiced
                 // and file collections are closed below
-                shutdownThreadsAndWait(storeHashesExecutor, storeLeavesExecutor, snapshotExecutor);
+                // Leaf keys executor must be shut down after leaves executor, since leaf tasks wait for
+                // leaf key tasks to complete
+                shutdownThreadsAndWait(
+                        storeHashesExecutor, storeLeavesExecutor, storeLeafKeysExecutor, snapshotExecutor);
             } finally {
                 try {
                     // close all closable data stores
@@ -773,6 +909,8 @@ public final class MerkleDbDataSource implements VirtualDataSource {
                     logger.error(EXCEPTION.getMarker(), "Error while closing Data Source [{}]", tableName);
                     throw t;
                 } finally {
+                    // All file channels are closed, pending async reads are completed exceptionally
+                    asyncReadExecutor.shutdown();
                     // updated count of open databases
                     COUNT_OF_OPEN_DATABASES.decrement();
                     // Notify the database
@@ -1093,20 +1231,33 @@ public final class MerkleDbDataSource implements VirtualDataSource {
         if (hasDiskStoreForHashes) {
             hashStoreDisk.startWriting();
         }
+        if (hashCache != null) {
+            hashCache.startUpdates();
+        }
 
-        dirtyHashes.forEach(rec -> {
-            statisticsUpdater.countFlushHashesWritten();
-            if (rec.path() < tableConfig.getHashesRamToDiskThreshold()) {
-                hashStoreRam.put(rec.path(), rec.hash());
-            } else {
-                try {
-                    hashStoreDisk.put(rec.path(), rec::writeTo, rec.getSizeInBytes());
-                } catch (final IOException e) {
-                    logger.error(EXCEPTION.getMarker(), "[{}] IOException writing internal records", tableName, e);
-                    throw new UncheckedIOException(e);
+        try {
+            dirtyHashes.forEach(rec -> {
+                statisticsUpdater.countFlushHashesWritten();
+                if (rec.path() < tableConfig.getHashesRamToDiskThreshold()) {
+                    hashStoreRam.put(rec.path(), rec.hash());
+                } else {
+                    try {
+                        hashStoreDisk.put(rec.path(), rec::writeTo, rec.getSizeInBytes());
+                    } catch (final IOException e) {
+                        logger.error(
+                                EXCEPTION.getMarker(), "[{}] IOException writing internal records", tableName, e);
+                        throw new UncheckedIOException(e);
+                    }
+                    if (hashCache != null) {
+                        hashCache.update(rec.path(), rec.hash());
+                    }
                 }
+            });
+        } finally {
+            if (hashCache != null) {
+                hashCache.endUpdates();
             }
-        });
+        }
 
         if (hasDiskStoreForHashes) {
             final DataFileReader newHashesFile = hashStoreDisk.endWriting();
@@ -1115,23 +1266,29 @@ public final class MerkleDbDataSource implements VirtualDataSource {
         }
     }
 
-    /** Write all the given leaf records to pathToKeyValue */
-    private void writeLeavesToPathToKeyValue(
+    /**
+     * Write all the given leaf records to pathToKeyValue and keyToPath. These two stores are independent,
+     * they are updated in parallel: pathToKeyValue on the current thread, and keyToPath on the leaf keys
+     * thread. Each store gets a new data file. This method returns when both stores are done writing,
+     * so all new files become visible to the callers at once, when the flush is complete. The leaves
+     * are invalidated in the read cache after both stores are written, otherwise a reader could load
+     * a stale leaf from one of the stores and put it back to the cache.
+     */
+    private void writeLeaves(
             final long firstLeafPath,
             final long lastLeafPath,
             @NonNull final Stream<VirtualLeafBytes> dirtyLeaves,
             @NonNull final Stream<VirtualLeafBytes> deletedLeaves,
-            boolean isReconnect)
+            final boolean isReconnect)
             throws IOException {
-        // If both streams are empty, no new data files should be created. One simple way to
-        // check emptiness is to use iterators. The iterators are consumed on a single thread
-        // (the current thread), but it still makes sense to use parallel streams as supplying
-        // elements to the stream includes expensive operations like serialization to bytes
-        final Iterator<VirtualLeafBytes> dirtyIterator = dirtyLeaves
+        // Both stores need the same leaves, so the streams are collected to lists. It still makes
+        // sense to use parallel streams as supplying elements to the stream includes expensive
+        // operations like serialization to bytes
+        final List<VirtualLeafBytes> dirtyLeavesList = dirtyLeaves
                 .parallel()
                 .sorted(Comparator.comparingLong(VirtualLeafBytes::path))
-                .iterator();
-        final Iterator<VirtualLeafBytes> deletedIterator = deletedLeaves.iterator();
+                .toList();
+        final List<VirtualLeafBytes> deletedLeavesList = deletedLeaves.toList();
 
         if (lastLeafPath < 0) {
             // Empty store
@@ -1140,38 +1297,183 @@ public final class MerkleDbDataSource implements VirtualDataSource {
             pathToKeyValue.updateValidKeyRange(firstLeafPath, lastLeafPath);
         }
 
-        if (!dirtyIterator.hasNext() && !deletedIterator.hasNext()) {
-            // Nothing to do
+        if (dirtyLeavesList.isEmpty() && deletedLeavesList.isEmpty()) {
+            // Nothing to do. If both lists are empty, no new data files should be created
             return;
         }
 
+        // Use an executor to make sure the data source is not closed in parallel. See
+        // the comment in close() for details
+        final Future<?> leafKeysFuture = storeLeafKeysExecutor.submit(() -> {
+            writeLeavesToKeyToPath(firstLeafPath, lastLeafPath, dirtyLeavesList, deletedLeavesList, isReconnect);
+            return null;
+        });
+        try {
+            writeLeavesToPathToKeyValue(dirtyLeavesList);
+        } catch (final IOException | RuntimeException e) {
+            // Key to path store may still be writing. Wait for it, so the data source isn't closed
+            // while a flush is still in progress
+            try {
+                waitForLeafKeys(leafKeysFuture);
+            } catch (final IOException | RuntimeException ex) {
+                e.addSuppressed(ex);
+            }
+            throw e;
+        }
+        waitForLeafKeys(leafKeysFuture);
+
+        for (final VirtualLeafBytes leafBytes : dirtyLeavesList) {
+            invalidateReadCache(leafBytes.keyBytes(), leafBytes.keyHashCode());
+        }
+        for (final VirtualLeafBytes leafBytes : deletedLeavesList) {
+            invalidateReadCache(leafBytes.keyBytes(), leafBytes.keyHashCode());
+        }
+
+        runPathToKeyStoreCompaction();
+        runKeyToPathStoreCompaction();
+    }
+
+    /**
+     * Waits for a task loading an index or a store to complete.
+     *
+     * @param loadingFuture the task future
+     * @param name the name of the index or the store for logging
+     * @return the loaded index or store
+     * @throws IOException if the task failed with an I/O error, or the current thread is interrupted
+     */
+    private static <T> T waitForLoading(final Future<T> loadingFuture, final String name) throws IOException {
+        try {
+            return loadingFuture.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for " + name + " loading", e);
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException ioe) {
+                throw ioe;
+            }
+            if (cause instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IOException("Failed to load " + name, cause);
+        }
+    }
+
+    /**
+     * Waits for all tasks loading indices and stores to complete, and closes all indices and stores
+     * that are loaded successfully. This method is used when one of the tasks fails, so resources
+     * like off-heap memory and open files held by the other indices and stores are not leaked.
+     *
+     * @param loadingFutures the task futures
+     * @param failure the loading failure, other loading and closing errors are added to it as suppressed
+     */
+    private static void closeLoaded(
+            final List<Future<? extends AutoCloseable>> loadingFutures, final Exception failure) {
+        boolean interrupted = false;
+        for (final Future<? extends AutoCloseable> loadingFuture : loadingFutures) {
+            while (true) {
+                try {
+                    loadingFuture.get().close();
+                    break;
+                } catch (final InterruptedException e) {
+                    // Keep waiting, all tasks must complete before their results can be closed
+                    interrupted = true;
+                } catch (final ExecutionException e) {
+                    final Throwable cause = e.getCause();
+                    if ((cause != failure) && (cause != failure.getCause())) {
+                        failure.addSuppressed(cause);
+                    }
+                    break;
+                } catch (final Exception e) {
+                    failure.addSuppressed(e);
+                    break;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Loads indices memory-mapped from snapshot files into physical memory. Loading is stopped, if
+     * this data source is closed.
+     */
+    private void warmUpIndices() {
+        final long startMillis = System.currentTimeMillis();
+        final BooleanSupplier notClosed = () -> !closed.get();
+        if (pathToDiskLocationInternalNodes instanceof LongListOffHeap offHeapIndex) {
+            offHeapIndex.warmUp(notClosed);
+        }
+        if (pathToDiskLocationLeafNodes instanceof LongListOffHeap offHeapIndex) {
+            offHeapIndex.warmUp(notClosed);
+        }
+        keyToPath.warmUpIndices(notClosed);
+        final long warmUpMillis = System.currentTimeMillis() - startMillis;
+        logger.info(MERKLE_DB.getMarker(), "[{}] Indices warmed up in {} ms", tableName, warmUpMillis);
+    }
+
+    /**
+     * Waits for the key to path store writing task to complete.
+     *
+     * @param leafKeysFuture the task future
+     * @throws IOException if the task failed with an I/O error, or the current thread is interrupted
+     */
+    private void waitForLeafKeys(final Future<?> leafKeysFuture) throws IOException {
+        try {
+            leafKeysFuture.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for key to path store writing", e);
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException ioe) {
+                throw ioe;
+            }
+            if (cause instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IOException("Failed to write key to path store", cause);
+        }
+    }
+
+    /** Write all the given leaf records to pathToKeyValue */
+    private void writeLeavesToPathToKeyValue(@NonNull final List<VirtualLeafBytes> dirtyLeaves) throws IOException {
         pathToKeyValue.startWriting();
+
+        // Iterate over leaf records. Leaves to delete aren't explicitly deleted from pathToKeyValue,
+        // they will be deleted on next merge based on range of valid leaf paths. If a leaf at path X
+        // is deleted then a new leaf is inserted at path X then the record is just updated to new
+        // leaf's data.
+        for (final VirtualLeafBytes leafBytes : dirtyLeaves) {
+            pathToKeyValue.put(leafBytes.path(), leafBytes::writeTo, leafBytes.getSizeInBytes());
+            statisticsUpdater.countFlushLeavesWritten();
+        }
+
+        // end writing
+        final DataFileReader pathToKeyValueReader = pathToKeyValue.endWriting();
+        statisticsUpdater.setFlushLeavesStoreFileSize(pathToKeyValueReader);
+    }
+
+    /** Write all the given leaf records to keyToPath */
+    private void writeLeavesToKeyToPath(
+            final long firstLeafPath,
+            final long lastLeafPath,
+            @NonNull final List<VirtualLeafBytes> dirtyLeaves,
+            @NonNull final List<VirtualLeafBytes> deletedLeaves,
+            final boolean isReconnect)
+            throws IOException {
         keyToPath.startWriting();
 
         // Iterate over leaf records
-        while (dirtyIterator.hasNext()) {
-            final VirtualLeafBytes leafBytes = dirtyIterator.next();
-            final long path = leafBytes.path();
+        for (final VirtualLeafBytes leafBytes : dirtyLeaves) {
             // Update key to path index
-            keyToPath.put(leafBytes.keyBytes(), leafBytes.keyHashCode(), path);
+            keyToPath.put(leafBytes.keyBytes(), leafBytes.keyHashCode(), leafBytes.path());
             statisticsUpdater.countFlushLeafKeysWritten();
-
-            // Update path to K/V store
-            try {
-                pathToKeyValue.put(leafBytes.path(), leafBytes::writeTo, leafBytes.getSizeInBytes());
-            } catch (final IOException e) {
-                logger.error(EXCEPTION.getMarker(), "[{}] IOException writing to pathToKeyValue", tableName, e);
-                throw new UncheckedIOException(e);
-            }
-            statisticsUpdater.countFlushLeavesWritten();
-
-            // cache the record
-            invalidateReadCache(leafBytes.keyBytes(), leafBytes.keyHashCode());
         }
 
         // Iterate over leaf records to delete
-        while (deletedIterator.hasNext()) {
-            final VirtualLeafBytes leafBytes = deletedIterator.next();
+        for (final VirtualLeafBytes leafBytes : deletedLeaves) {
             final long path = leafBytes.path();
             // Update key to path index. In some cases (e.g. during reconnect), some leaves in the
             // deletedLeaves stream have been moved to different paths in the tree. This is good
@@ -1184,29 +1486,15 @@ public final class MerkleDbDataSource implements VirtualDataSource {
                 keyToPath.delete(leafBytes.keyBytes(), leafBytes.keyHashCode());
             }
             statisticsUpdater.countFlushLeavesDeleted();
-
-            // delete from pathToKeyValue, we don't need to explicitly delete leaves as
-            // they will be deleted on
-            // next merge based on range of valid leaf paths. If a leaf at path X is deleted
-            // then a new leaf is
-            // inserted at path X then the record is just updated to new leaf's data.
-
-            // delete the record from the cache
-            invalidateReadCache(leafBytes.keyBytes(), leafBytes.keyHashCode());
         }
 
         // end writing
-        final DataFileReader pathToKeyValueReader = pathToKeyValue.endWriting();
-        statisticsUpdater.setFlushLeavesStoreFileSize(pathToKeyValueReader);
         final DataFileReader keyToPathReader = keyToPath.endWriting();
         statisticsUpdater.setFlushLeafKeysStoreFileSize(keyToPathReader);
 
         if (!compactionCoordinator.isCompactionRunning(DataFileCompactor.OBJECT_KEY_TO_PATH)) {
             keyToPath.resizeIfNeeded(firstLeafPath, lastLeafPath);
         }
-
-        runPathToKeyStoreCompaction();
-        runKeyToPathStoreCompaction();
     }
 
     /**
@@ -1269,9 +1557,8 @@ public final class MerkleDbDataSource implements VirtualDataSource {
      * If the key is deleted, it's still updated in the cache. It means no record with the given
      * key exists in the data source, so further lookups for the key are skipped.
      * <p>
-     * Cache index is calculated as the key's hash code % cache size. The cache is only updated,
-     * if the current record at this index has the given key. If the key is different, no update is
-     * performed.
+     * The cache is only updated, if it contains a record with the given key. If the key isn't
+     * cached, no update is performed.
      *
      * @param keyBytes virtual key
      * @param keyHashCode virtual key hash code
@@ -1280,11 +1567,7 @@ public final class MerkleDbDataSource implements VirtualDataSource {
         if (leafRecordCache == null) {
             return;
         }
-        final int cacheIndex = Math.abs(keyHashCode % leafRecordCacheSize);
-        final VirtualLeafBytes cached = leafRecordCache[cacheIndex];
-        if ((cached != null) && keyBytes.equals(cached.keyBytes())) {
-            leafRecordCache[cacheIndex] = null;
-        }
+        leafRecordCache.invalidate(keyBytes, keyHashCode);
     }
 
     public void runHashStoreCompaction() {
@@ -1311,6 +1594,16 @@ public final class MerkleDbDataSource implements VirtualDataSource {
         return keyToPath;
     }
 
+    @Nullable
+    LeafRecordCache getLeafRecordCache() {
+        return leafRecordCache;
+    }
+
+    @Nullable
+    HashChunkCache getHashCache() {
+        return hashCache;
+    }
+
     public MemoryIndexDiskKeyValueStore getPathToKeyValue() {
         return pathToKeyValue;
     }
@@ -159,6 +159,34 @@ public class MerkleDbDataSourceBuilder implements VirtualDataSourceBuilder {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The directory is created in the temporary file location, which is also where the default
+     * {@link MerkleDb} instance is, so snapshot files can be hard linked rather than copied.
+     */
+    @NonNull
+    @Override
+    public Path createSnapshotDirectory(@NonNull final String postfix) throws IOException {
+        return LegacyTemporaryFileBuilder.buildTemporaryDirectory(postfix, configuration);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    public VirtualDataSource importSnapshot(@NonNull final Path source, @NonNull final VirtualDataSource replaceMe) {
+        if (!(replaceMe instanceof MerkleDbDataSource target)) {
+            throw new IllegalArgumentException("The datasource must be compatible with the MerkleDb");
+        }
+        try {
+            return target.getDatabase().importDataSource(source, target, true);
+        } catch (final IOException z) {
+            throw new UncheckedIOException(z);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -3,6 +3,7 @@ package com.swirlds.merkledb;
 
 import com.swirlds.merkledb.config.MerkleDbConfig;
 import com.swirlds.metrics.api.DoubleAccumulator;
+import com.swirlds.metrics.api.DoubleGauge;
 import com.swirlds.metrics.api.FloatFormats;
 import com.swirlds.metrics.api.IntegerGauge;
 import com.swirlds.metrics.api.LongAccumulator;
@@ -43,6 +44,22 @@ public class MerkleDbStatistics {
     private LongAccumulator leafReads;
     /** Leaf keys - reads / s */
     private LongAccumulator leafKeyReads;
+    /** Leaf keys - reads skipped by bucket key filters / s */
+    private LongAccumulator leafKeyFilterNegatives;
+    /** Leaf keys - bucket key filters false positive rate */
+    private DoubleGauge leafKeyFilterFalsePositiveRate;
+    /** Leaf records cache - hits / s */
+    private LongAccumulator leafCacheHits;
+    /** Leaf records cache - misses / s */
+    private LongAccumulator leafCacheMisses;
+    /** Leaf records cache - evictions and rejected admissions / s */
+    private LongAccumulator leafCacheEvictions;
+    /** Disk hashes cache - hits / s */
+    private LongAccumulator hashCacheHits;
+    /** Disk hashes cache - misses / s */
+    private LongAccumulator hashCacheMisses;
+    /** Disk hashes cache - chunk evictions / s */
+    private LongAccumulator hashCacheEvictions;
 
     /** Hashes store - file count */
     private IntegerGauge hashesStoreFileCount;
@@ -59,6 +76,12 @@ public class MerkleDbStatistics {
     /** Total file size in Mb */
     // Should all file sizes be doubles?
     private IntegerGauge totalFileSizeMb;
+    /** Hashes store - estimated size of obsolete data items pending compaction in Mb */
+    private IntegerGauge hashesStoreGarbageMb;
+    /** Leaves store - estimated size of obsolete data items pending compaction in Mb */
+    private IntegerGauge leavesStoreGarbageMb;
+    /** Leaf keys store - estimated size of obsolete data items pending compaction in Mb */
+    private IntegerGauge leafKeysStoreGarbageMb;
 
     private LongAccumulator flushHashesWritten;
     private DoubleAccumulator flushHashesStoreFileSizeMb;
@@ -88,6 +111,12 @@ public class MerkleDbStatistics {
 
     /** Leaf keys store - cumulative file size by compaction level in Mb */
     private final List<DoubleAccumulator> leafKeysStoreFileSizeByLevelMbList;
+    /** Hashes store - bytes written by flushes and compactions / bytes written by flushes */
+    private DoubleGauge hashesStoreWriteAmplification;
+    /** Leaves store - bytes written by flushes and compactions / bytes written by flushes */
+    private DoubleGauge leavesStoreWriteAmplification;
+    /** Leaf keys store - bytes written by flushes and compactions / bytes written by flushes */
+    private DoubleGauge leafKeysStoreWriteAmplification;
     /** Off-heap usage in MB of hashes store index */
     private IntegerGauge offHeapHashesIndexMb;
     /** Off-heap usage in MB of leaves store index */
@@ -134,6 +163,12 @@ public class MerkleDbStatistics {
                 .withDescription(description));
     }
 
+    private static DoubleGauge buildDoubleGauge(final Metrics metrics, final String name, final String description) {
+        return metrics.getOrCreate(new DoubleGauge.Config(STAT_CATEGORY, name)
+                .withDescription(description)
+                .withFormat(FloatFormats.FORMAT_9_6));
+    }
+
     private static DoubleAccumulator buildDoubleAccumulator(
             final Metrics metrics, final String name, final String description) {
         return metrics.getOrCreate(new DoubleAccumulator.Config(STAT_CATEGORY, name)
@@ -160,6 +195,30 @@ public class MerkleDbStatistics {
                 metrics, DS_PREFIX + READS_PREFIX + "leaves_" + label, "Number of leaf reads, " + label);
         leafKeyReads = buildLongAccumulator(
                 metrics, DS_PREFIX + READS_PREFIX + "leafKeys_" + label, "Number of leaf key reads, " + label);
+        leafKeyFilterNegatives = buildLongAccumulator(
+                metrics,
+                DS_PREFIX + READS_PREFIX + "leafKeysFilterNegatives_" + label,
+                "Number of leaf key reads skipped by bucket key filters, " + label);
+        leafKeyFilterFalsePositiveRate = metrics.getOrCreate(new DoubleGauge.Config(
+                        STAT_CATEGORY, DS_PREFIX + READS_PREFIX + "leafKeysFilterFpRate_" + label)
+                .withDescription("False positive rate of bucket key filters, leaf keys, " + label)
+                .withFormat(FloatFormats.FORMAT_9_6));
+        leafCacheHits = buildLongAccumulator(
+                metrics, DS_PREFIX + READS_PREFIX + "leafCacheHits_" + label, "Leaf records cache hits, " + label);
+        leafCacheMisses = buildLongAccumulator(
+                metrics, DS_PREFIX + READS_PREFIX + "leafCacheMisses_" + label, "Leaf records cache misses, " + label);
+        leafCacheEvictions = buildLongAccumulator(
+                metrics,
+                DS_PREFIX + READS_PREFIX + "leafCacheEvictions_" + label,
+                "Leaf records cache evictions and rejected admissions, " + label);
+        hashCacheHits = buildLongAccumulator(
+                metrics, DS_PREFIX + READS_PREFIX + "hashCacheHits_" + label, "Disk hashes cache hits, " + label);
+        hashCacheMisses = buildLongAccumulator(
+                metrics, DS_PREFIX + READS_PREFIX + "hashCacheMisses_" + label, "Disk hashes cache misses, " + label);
+        hashCacheEvictions = buildLongAccumulator(
+                metrics,
+                DS_PREFIX + READS_PREFIX + "hashCacheEvictions_" + label,
+                "Disk hashes cache chunk evictions, " + label);
 
         // File counts and sizes
         hashesStoreFileCount = metrics.getOrCreate(
@@ -187,6 +246,18 @@ public class MerkleDbStatistics {
                 metrics,
                 DS_PREFIX + FILES_PREFIX + "totalSizeMb_" + label,
                 "Total file size, data source, " + label + ", Mb");
+        hashesStoreGarbageMb = buildIntegerGauge(
+                metrics,
+                DS_PREFIX + FILES_PREFIX + "hashesStoreGarbageMb_" + label,
+                "Estimated size of obsolete data pending compaction, hashes store, " + label + ", Mb");
+        leavesStoreGarbageMb = buildIntegerGauge(
+                metrics,
+                DS_PREFIX + FILES_PREFIX + "leavesStoreGarbageMb_" + label,
+                "Estimated size of obsolete data pending compaction, leaves store, " + label + ", Mb");
+        leafKeysStoreGarbageMb = buildIntegerGauge(
+                metrics,
+                DS_PREFIX + FILES_PREFIX + "leafKeysStoreGarbageMb_" + label,
+                "Estimated size of obsolete data pending compaction, leaf keys store, " + label + ", Mb");
 
         // Flushes
         flushHashesWritten = buildLongAccumulator(
@@ -219,6 +290,18 @@ public class MerkleDbStatistics {
                 "Size of the new leaf keys store file created during flush, " + label + ", Mb");
 
         // Compaction
+        hashesStoreWriteAmplification = buildDoubleGauge(
+                metrics,
+                DS_PREFIX + COMPACTIONS_PREFIX + "hashesWriteAmplification_" + label,
+                "Write amplification by compactions, hashes store, " + label);
+        leavesStoreWriteAmplification = buildDoubleGauge(
+                metrics,
+                DS_PREFIX + COMPACTIONS_PREFIX + "leavesWriteAmplification_" + label,
+                "Write amplification by compactions, leaves store, " + label);
+        leafKeysStoreWriteAmplification = buildDoubleGauge(
+                metrics,
+                DS_PREFIX + COMPACTIONS_PREFIX + "leafKeysWriteAmplification_" + label,
+                "Write amplification by compactions, leaf keys store, " + label);
 
         for (int level = 0; level <= dbConfig.maxCompactionLevel(); level++) {
             // Hashes store
@@ -309,6 +392,68 @@ public class MerkleDbStatistics {
         }
     }
 
+    /**
+     * Increment {@link #leafKeyFilterNegatives} stat by the given value
+     *
+     * @param value the number of leaf key reads skipped by bucket key filters
+     */
+    public void countLeafKeyFilterNegatives(final long value) {
+        if (leafKeyFilterNegatives != null) {
+            leafKeyFilterNegatives.update(value);
+        }
+    }
+
+    /**
+     * Set the current value for the {@link #leafKeyFilterFalsePositiveRate} stat
+     *
+     * @param value the value to set
+     */
+    public void setLeafKeyFilterFalsePositiveRate(final double value) {
+        if (leafKeyFilterFalsePositiveRate != null) {
+            leafKeyFilterFalsePositiveRate.set(value);
+        }
+    }
+
+    /**
+     * Increment {@link #leafCacheHits}, {@link #leafCacheMisses}, and {@link #leafCacheEvictions}
+     * stats by the given values
+     *
+     * @param hits the number of leaf records cache hits
+     * @param misses the number of leaf records cache misses
+     * @param evictions the number of leaf records cache evictions
+     */
+    public void countLeafCacheAccesses(final long hits, final long misses, final long evictions) {
+        if (leafCacheHits != null) {
+            leafCacheHits.update(hits);
+        }
+        if (leafCacheMisses != null) {
+            leafCacheMisses.update(misses);
+        }
+        if (leafCacheEvictions != null) {
+            leafCacheEvictions.update(evictions);
+        }
+    }
+
+    /**
+     * Increment {@link #hashCacheHits}, {@link #hashCacheMisses}, and {@link #hashCacheEvictions}
+     * stats by the given values
+     *
+     * @param hits the number of disk hashes cache hits
+     * @param misses the number of disk hashes cache misses
+     * @param evictions the number of disk hashes cache chunk evictions
+     */
+    public void countHashCacheAccesses(final long hits, final long misses, final long evictions) {
+        if (hashCacheHits != null) {
+            hashCacheHits.update(hits);
+        }
+        if (hashCacheMisses != null) {
+            hashCacheMisses.update(misses);
+        }
+        if (hashCacheEvictions != null) {
+            hashCacheEvictions.update(evictions);
+        }
+    }
+
     /**
      * Set the current value for the {@link #hashesStoreFileCount} stat
      *
@@ -393,6 +538,78 @@ public class MerkleDbStatistics {
         }
     }
 
+    /**
+     * Set the current value for the {@link #hashesStoreGarbageMb} stat
+     *
+     * @param value
+     * 		the value to set
+     */
+    public void setHashesStoreGarbageMb(final int value) {
+        if (hashesStoreGarbageMb != null) {
+            hashesStoreGarbageMb.set(value);
+        }
+    }
+
+    /**
+     * Set the current value for the {@link #leavesStoreGarbageMb} stat
+     *
+     * @param value
+     * 		the value to set
+     */
+    public void setLeavesStoreGarbageMb(final int value) {
+        if (leavesStoreGarbageMb != null) {
+            leavesStoreGarbageMb.set(value);
+        }
+    }
+
+    /**
+     * Set the current value for the {@link #leafKeysStoreGarbageMb} stat
+     *
+     * @param value
+     * 		the value to set
+     */
+    public void setLeafKeysStoreGarbageMb(final int value) {
+        if (leafKeysStoreGarbageMb != null) {
+            leafKeysStoreGarbageMb.set(value);
+        }
+    }
+
+    /**
+     * Set the current value for the {@link #hashesStoreWriteAmplification} stat
+     *
+     * @param value
+     * 		the value to set
+     */
+    public void setHashesStoreWriteAmplification(final double value) {
+        if (hashesStoreWriteAmplification != null) {
+            hashesStoreWriteAmplification.set(value);
+        }
+    }
+
+    /**
+     * Set the current value for the {@link #leavesStoreWriteAmplification} stat
+     *
+     * @param value
+     * 		the value to set
+     */
+    public void setLeavesStoreWriteAmplification(final double value) {
+        if (leavesStoreWriteAmplification != null) {
+            leavesStoreWriteAmplification.set(value);
+        }
+    }
+
+    /**
+     * Set the current value for the {@link #leafKeysStoreWriteAmplification} stat
+     *
+     * @param value
+     * 		the value to set
+     */
+    public void setLeafKeysStoreWriteAmplification(final double value) {
+        if (leafKeysStoreWriteAmplification != null) {
+            leafKeysStoreWriteAmplification.set(value);
+        }
+    }
+
     public void countFlushHashesWritten(final long value) {
         if (flushHashesWritten != null) {
             flushHashesWritten.update(value);
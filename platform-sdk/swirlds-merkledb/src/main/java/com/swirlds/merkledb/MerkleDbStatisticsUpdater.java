@@ -4,10 +4,14 @@ package com.swirlds.merkledb;
 import static com.swirlds.base.units.UnitConstants.BYTES_TO_MEBIBYTES;
 
 import com.swirlds.common.metrics.FunctionGauge;
+import com.swirlds.merkledb.cache.HashChunkCache;
+import com.swirlds.merkledb.cache.LeafRecordCache;
 import com.swirlds.merkledb.collections.LongList;
 import com.swirlds.merkledb.collections.OffHeapUser;
 import com.swirlds.merkledb.config.MerkleDbConfig;
+import com.swirlds.merkledb.files.DataFileCollection;
 import com.swirlds.merkledb.files.DataFileReader;
+import com.swirlds.merkledb.files.hashmap.HalfDiskHashMap;
 import com.swirlds.metrics.api.Metrics;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.util.LongSummaryStatistics;
@@ -75,6 +79,9 @@ public class MerkleDbStatisticsUpdater {
             statistics.setHashesStoreFileCount((int) internalHashesFileSizeStats.getCount());
             final int fileSizeInMb = (int) (internalHashesFileSizeStats.getSum() * BYTES_TO_MEBIBYTES);
             statistics.setHashesStoreFileSizeMb(fileSizeInMb);
+            final DataFileCollection fileCollection = dataSource.getHashStoreDisk().getFileCollection();
+            statistics.setHashesStoreGarbageMb((int) (fileCollection.getEstimatedGarbageSize() * BYTES_TO_MEBIBYTES));
+            statistics.setHashesStoreWriteAmplification(fileCollection.getWriteAmplification());
             return fileSizeInMb;
         }
         return 0;
@@ -91,6 +98,9 @@ public class MerkleDbStatisticsUpdater {
         statistics.setLeavesStoreFileCount((int) leafDataFileSizeStats.getCount());
         final int fileSizeInMb = (int) (leafDataFileSizeStats.getSum() * BYTES_TO_MEBIBYTES);
         statistics.setLeavesStoreFileSizeMb(fileSizeInMb);
+        final DataFileCollection fileCollection = dataSource.getPathToKeyValue().getFileCollection();
+        statistics.setLeavesStoreGarbageMb((int) (fileCollection.getEstimatedGarbageSize() * BYTES_TO_MEBIBYTES));
+        statistics.setLeavesStoreWriteAmplification(fileCollection.getWriteAmplification());
         return fileSizeInMb;
     }
 
@@ -107,6 +117,9 @@ public class MerkleDbStatisticsUpdater {
             statistics.setLeafKeysStoreFileCount((int) leafKeyFileSizeStats.getCount());
             final int fileSizeInMb = (int) (leafKeyFileSizeStats.getSum() * BYTES_TO_MEBIBYTES);
             statistics.setLeafKeysStoreFileSizeMb(fileSizeInMb);
+            final DataFileCollection fileCollection = dataSource.getKeyToPath().getFileCollection();
+            statistics.setLeafKeysStoreGarbageMb((int) (fileCollection.getEstimatedGarbageSize() * BYTES_TO_MEBIBYTES));
+            statistics.setLeafKeysStoreWriteAmplification(fileCollection.getWriteAmplification());
             return fileSizeInMb;
         }
         return 0;
@@ -147,6 +160,52 @@ public class MerkleDbStatisticsUpdater {
         statistics.countLeafKeyReads();
     }
 
+    /**
+     * Updates bucket key filter stats: number of leaf key reads skipped by the filters, and
+     * filters false positive rate since the last update. No-op if bucket key filters are
+     * disabled.
+     */
+    void updateKeyFilterStats(final MerkleDbDataSource dataSource) {
+        final HalfDiskHashMap keyToPath = dataSource.getKeyToPath();
+        if (keyToPath == null) {
+            return;
+        }
+        final long negatives = keyToPath.getAndResetKeyFilterNegatives();
+        final long falsePositives = keyToPath.getAndResetKeyFilterFalsePositives();
+        statistics.countLeafKeyFilterNegatives(negatives);
+        if (negatives + falsePositives > 0) {
+            statistics.setLeafKeyFilterFalsePositiveRate((double) falsePositives / (negatives + falsePositives));
+        }
+    }
+
+    /**
+     * Updates leaf records cache stats: number of cache hits, misses, and evictions since the
+     * last update. No-op if leaf records cache is disabled.
+     */
+    void updateLeafCacheStats(final MerkleDbDataSource dataSource) {
+        final LeafRecordCache leafRecordCache = dataSource.getLeafRecordCache();
+        if (leafRecordCache == null) {
+            return;
+        }
+        statistics.countLeafCacheAccesses(
+                leafRecordCache.getAndResetHits(),
+                leafRecordCache.getAndResetMisses(),
+                leafRecordCache.getAndResetEvictions());
+    }
+
+    /**
+     * Updates disk hashes cache stats: number of cache hits, misses, and evictions since the
+     * last update. No-op if hashes cache is disabled.
+     */
+    void updateHashCacheStats(final MerkleDbDataSource dataSource) {
+        final HashChunkCache hashCache = dataSource.getHashCache();
+        if (hashCache == null) {
+            return;
+        }
+        statistics.countHashCacheAccesses(
+                hashCache.getAndResetHits(), hashCache.getAndResetMisses(), hashCache.getAndResetEvictions());
+    }
+
     /** Updates statistics with number of hash reads. */
     void countHashReads() {
         statistics.countHashReads();
@@ -10,6 +10,7 @@ import com.hedera.pbj.runtime.ProtoConstants;
 import com.hedera.pbj.runtime.ProtoWriterTools;
 import com.hedera.pbj.runtime.io.ReadableSequentialData;
 import com.hedera.pbj.runtime.io.WritableSequentialData;
+import com.swirlds.merkledb.files.DataFileCompression;
 import com.swirlds.virtualmap.serialize.KeySerializer;
 import com.swirlds.virtualmap.serialize.ValueSerializer;
 import java.io.IOException;
@@ -31,6 +32,7 @@ public final class MerkleDbTableConfig implements SelfSerializable {
 
     private static final class ClassVersion {
         public static final int ORIGINAL = 1;
+        public static final int LEAF_STORE_COMPRESSION = 2;
     }
 
     private static final FieldDefinition FIELD_TABLECONFIG_HASHVERSION =
@@ -65,6 +67,9 @@ public final class MerkleDbTableConfig implements SelfSerializable {
     private static final FieldDefinition FIELD_TABLECONFIG_HASHRAMTODISKTHRESHOLD =
             new FieldDefinition("hashesRamToDiskThreshold", FieldType.UINT64, false, true, false, 9);
 
+    private static final FieldDefinition FIELD_TABLECONFIG_LEAFSTORECOMPRESSION =
+            new FieldDefinition("leafStoreCompression", FieldType.UINT32, false, true, false, 10);
+
     /**
      * Hash version.
      */
@@ -116,6 +121,14 @@ public final class MerkleDbTableConfig implements SelfSerializable {
      */
     private long hashesRamToDiskThreshold;
 
+    /**
+     * Compression of leaf store (path to key/value) data files. Leaf records, e.g. accounts or
+     * contract bytecode, often compress well. Internal node hashes and key to path buckets are
+     * never compressed. Changing this value for an existing table only affects new data files,
+     * existing files are converted gradually by compaction.
+     */
+    private DataFileCompression leafStoreCompression = DataFileCompression.NONE;
+
     /**
      * Creates a new virtual table config with default values. This constructor should only be used
      * for deserialization.
@@ -141,6 +154,29 @@ public final class MerkleDbTableConfig implements SelfSerializable {
             final DigestType hashType,
             final long initialCapacity,
             final long hashesRamToDiskThreshold) {
+        this(hashVersion, hashType, initialCapacity, hashesRamToDiskThreshold, DataFileCompression.NONE);
+    }
+
+    /**
+     * Creates a new virtual table config with the specified params.
+     *
+     * @param hashVersion
+     *      Hash version
+     * @param hashType
+     *      Hash type
+     * @param initialCapacity
+     *      Initial database capacity. May be used to calculate index sizes
+     * @param hashesRamToDiskThreshold
+     *      Threshold where we switch from storing internal hashes in ram to storing them on disk.
+     * @param leafStoreCompression
+     *      Compression of leaf store data files
+     */
+    public MerkleDbTableConfig(
+            final short hashVersion,
+            final DigestType hashType,
+            final long initialCapacity,
+            final long hashesRamToDiskThreshold,
+            final DataFileCompression leafStoreCompression) {
         // Mandatory fields
         this.hashVersion = hashVersion;
         this.hashType = hashType;
@@ -155,6 +191,7 @@ public final class MerkleDbTableConfig implements SelfSerializable {
             throw new IllegalArgumentException("Hashes RAM/disk threshold must be greater or equal to 0");
         }
         this.hashesRamToDiskThreshold = hashesRamToDiskThreshold;
+        this.leafStoreCompression = requireNonNull(leafStoreCompression);
     }
 
     public MerkleDbTableConfig(final ReadableSequentialData in) {
@@ -167,6 +204,7 @@ public final class MerkleDbTableConfig implements SelfSerializable {
         hashType = DigestType.SHA_384;
         initialCapacity = 0;
         hashesRamToDiskThreshold = 0;
+        leafStoreCompression = DataFileCompression.NONE;
 
         while (in.hasRemaining()) {
             final int tag = in.readVarInt(false);
@@ -195,6 +233,8 @@ public final class MerkleDbTableConfig implements SelfSerializable {
                 initialCapacity = in.readVarLong(false);
             } else if (fieldNum == FIELD_TABLECONFIG_HASHRAMTODISKTHRESHOLD.number()) {
                 hashesRamToDiskThreshold = in.readVarLong(false);
+            } else if (fieldNum == FIELD_TABLECONFIG_LEAFSTORECOMPRESSION.number()) {
+                leafStoreCompression = DataFileCompression.fromId(in.readVarInt(false));
             } else {
                 throw new IllegalArgumentException("Unknown table config field: " + fieldNum);
             }
@@ -225,6 +265,11 @@ public final class MerkleDbTableConfig implements SelfSerializable {
                     FIELD_TABLECONFIG_HASHRAMTODISKTHRESHOLD, ProtoConstants.WIRE_TYPE_VARINT_OR_ZIGZAG);
             size += ProtoWriterTools.sizeOfVarInt64(hashesRamToDiskThreshold);
         }
+        if (leafStoreCompression != DataFileCompression.NONE) {
+            size += ProtoWriterTools.sizeOfTag(
+                    FIELD_TABLECONFIG_LEAFSTORECOMPRESSION, ProtoConstants.WIRE_TYPE_VARINT_OR_ZIGZAG);
+            size += ProtoWriterTools.sizeOfVarInt32(leafStoreCompression.id());
+        }
         return size;
     }
 
@@ -242,6 +287,10 @@ public final class MerkleDbTableConfig implements SelfSerializable {
             ProtoWriterTools.writeTag(out, FIELD_TABLECONFIG_HASHRAMTODISKTHRESHOLD);
             out.writeVarLong(hashesRamToDiskThreshold, false);
         }
+        if (leafStoreCompression != DataFileCompression.NONE) {
+            ProtoWriterTools.writeTag(out, FIELD_TABLECONFIG_LEAFSTORECOMPRESSION);
+            out.writeVarInt(leafStoreCompression.id(), false);
+        }
     }
 
     /**
@@ -307,6 +356,17 @@ public final class MerkleDbTableConfig implements SelfSerializable {
         return hashesRamToDiskThreshold;
     }
 
+    /**
+     * Leaf store data files compression. Value {@link DataFileCompression#NONE} indicates that
+     * leaf data files are not compressed.
+     *
+     * @return
+     *      Leaf store data files compression
+     */
+    public DataFileCompression getLeafStoreCompression() {
+        return leafStoreCompression;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -317,10 +377,15 @@ public final class MerkleDbTableConfig implements SelfSerializable {
 
     /**
      * {@inheritDoc}
+     *
+     * <p>Table configs without leaf store compression are serialized in the original format, so
+     * they can still be read by older software versions.
      */
     @Override
     public int getVersion() {
-        return ClassVersion.ORIGINAL;
+        return (leafStoreCompression != DataFileCompression.NONE)
+                ? ClassVersion.LEAF_STORE_COMPRESSION
+                : ClassVersion.ORIGINAL;
     }
 
     /**
@@ -337,6 +402,9 @@ public final class MerkleDbTableConfig implements SelfSerializable {
         out.writeSerializable(null, true); // key serializer
         out.writeShort(0); // value version
         out.writeSerializable(null, true); // value serializer
+        if (leafStoreCompression != DataFileCompression.NONE) {
+            out.writeInt(leafStoreCompression.id());
+        }
     }
 
     /**
@@ -353,6 +421,9 @@ public final class MerkleDbTableConfig implements SelfSerializable {
         in.readSerializable(); // key serializer
         in.readShort(); // value version
         in.readSerializable(); // value serializer
+        if (version >= ClassVersion.LEAF_STORE_COMPRESSION) {
+            leafStoreCompression = DataFileCompression.fromId(in.readInt());
+        }
     }
 
     /**
@@ -361,7 +432,8 @@ public final class MerkleDbTableConfig implements SelfSerializable {
      * @return Table config copy
      */
     public MerkleDbTableConfig copy() {
-        return new MerkleDbTableConfig(hashVersion, hashType, initialCapacity, hashesRamToDiskThreshold);
+        return new MerkleDbTableConfig(
+                hashVersion, hashType, initialCapacity, hashesRamToDiskThreshold, leafStoreCompression);
     }
 
     /**
@@ -369,7 +441,7 @@ public final class MerkleDbTableConfig implements SelfSerializable {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(hashVersion, hashType, initialCapacity, hashesRamToDiskThreshold);
+        return Objects.hash(hashVersion, hashType, initialCapacity, hashesRamToDiskThreshold, leafStoreCompression);
     }
 
     /**
@@ -383,6 +455,7 @@ public final class MerkleDbTableConfig implements SelfSerializable {
         return (initialCapacity == other.initialCapacity)
                 && (hashesRamToDiskThreshold == other.hashesRamToDiskThreshold)
                 && (hashVersion == other.hashVersion)
+                && (leafStoreCompression == other.leafStoreCompression)
                 && Objects.equals(hashType, other.hashType);
     }
 }
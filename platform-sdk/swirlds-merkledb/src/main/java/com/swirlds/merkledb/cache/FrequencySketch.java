@@ -0,0 +1,103 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.merkledb.cache;
+
+/**
+ * A probabilistic estimate of how frequently hash codes are accessed, used by {@link
+ * TinyLfuLeafRecordCache} to decide whether new records should be admitted to the cache.
+ *
+ * <p>This is a count-min sketch with four rows and 4-bit counters, sixteen counters are packed
+ * into every long. When the number of increments reaches the sample size, all counters are
+ * halved, so old accesses are gradually forgotten.
+ *
+ * <p>This class is not thread safe.
+ */
+final class FrequencySketch {
+
+    /** Counters are saturated at this value */
+    private static final int MAX_COUNTER = 15;
+
+    /** Seeds to compute counter indices in every row */
+    private static final long[] SEEDS = {
+        0x97CB3127L, 0xC2B2AE3DL, 0x9E3779B9L, 0x85EBCA6BL,
+    };
+
+    /** Counters, 16 per long */
+    private final long[] table;
+
+    /** Mask to get an index into {@link #table}, table length is a power of two */
+    private final int tableMask;
+
+    /** Number of increments before all counters are halved */
+    private final int sampleSize;
+
+    /** Number of increments since the last reset */
+    private int additions = 0;
+
+    /**
+     * Creates a new sketch.
+     *
+     * @param expectedEntries the expected number of entries in the cache
+     */
+    FrequencySketch(final long expectedEntries) {
+        final int tableSize = (int) Math.min(1 << 30, Long.highestOneBit(Math.max(expectedEntries, 4) - 1) << 1);
+        table = new long[tableSize];
+        tableMask = tableSize - 1;
+        sampleSize = (int) Math.min(Integer.MAX_VALUE, 10L * tableSize);
+    }
+
+    /**
+     * Returns the estimated number of accesses to the given hash code, up to {@link #MAX_COUNTER}.
+     */
+    int frequency(final int hashCode) {
+        final int spread = spread(hashCode);
+        int frequency = MAX_COUNTER;
+        for (int i = 0; i < SEEDS.length; i++) {
+            final int index = indexOf(spread, i);
+            final int shift = counterShift(spread, i);
+            frequency = Math.min(frequency, (int) ((table[index] >>> shift) & 0xFL));
+        }
+        return frequency;
+    }
+
+    /**
+     * Increments the access counters for the given hash code.
+     */
+    void increment(final int hashCode) {
+        final int spread = spread(hashCode);
+        boolean added = false;
+        for (int i = 0; i < SEEDS.length; i++) {
+            final int index = indexOf(spread, i);
+            final int shift = counterShift(spread, i);
+            if (((table[index] >>> shift) & 0xFL) < MAX_COUNTER) {
+                table[index] += 1L << shift;
+                added = true;
+            }
+        }
+        if (added && (++additions == sampleSize)) {
+            reset();
+        }
+    }
+
+    /** Halves all counters */
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & 0x7777777777777777L;
+        }
+        additions /= 2;
+    }
+
+    private int indexOf(final int spread, final int row) {
+        final long hash = (spread + SEEDS[row]) * SEEDS[row];
+        return (int) ((hash + (hash >>> 32)) & tableMask);
+    }
+
+    private static int counterShift(final int spread, final int row) {
+        // Every row uses a different 4-bit counter in the selected long
+        return (((spread >>> (row << 3)) & 0x3) + (row << 2)) << 2;
+    }
+
+    private static int spread(final int hashCode) {
+        int h = hashCode * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
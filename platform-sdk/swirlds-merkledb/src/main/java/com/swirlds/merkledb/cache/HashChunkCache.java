@@ -0,0 +1,262 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.merkledb.cache;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.hiero.base.crypto.DigestType;
+import org.hiero.base.crypto.Hash;
+
+/**
+ * A cache of internal node hashes by path, used by {@code MerkleDbDataSource} to keep recently
+ * read hashes from the disk hash store in RAM, regardless of their paths.
+ *
+ * <p>Hashes are cached in chunks of {@link #CHUNK_SIZE} consecutive paths. Hash reads during
+ * reconnects and state proofs usually access nearby paths, so a chunk is a cheap way to cache
+ * many of them with a single map entry. Chunks are filled lazily, a chunk may have some of its
+ * hashes cached, but not others. The max number of chunks is derived from the cache size in
+ * bytes.
+ *
+ * <p>When the cache is full, chunks are evicted using the CLOCK policy. Every chunk has a
+ * "referenced" flag, which is set on every read from the chunk. When a new chunk is needed,
+ * the clock hand walks over all chunks in a circle, clears the flags that are set, and evicts
+ * the first chunk with a cleared flag.
+ *
+ * <p>This class is thread safe. Hashes are read by multiple threads, and updated by the data
+ * source flushing thread. To make sure a hash read from disk before a flush is never put to the
+ * cache after the flush, every read captures a stamp using {@link #readStamp()}, and the hash is
+ * only cached, if no updates were started or in progress since then. Updates are enclosed into
+ * {@link #startUpdates()} and {@link #endUpdates()} calls.
+ */
+public class HashChunkCache {
+
+    /** Number of consecutive paths in a chunk */
+    public static final int CHUNK_SIZE = 64;
+
+    private static final int HASH_SIZE = DigestType.SHA_384.digestLength();
+
+    /** Estimated chunk size in RAM, including the chunk object and its arrays */
+    public static final int CHUNK_BYTES = CHUNK_SIZE * HASH_SIZE + 96;
+
+    /** Chunks by chunk index (path / CHUNK_SIZE) */
+    private final ConcurrentHashMap<Long, Chunk> chunks = new ConcurrentHashMap<>();
+
+    /** Clock slots. Every cached chunk occupies a slot. Guarded by this cache lock */
+    private final Chunk[] slots;
+
+    /** Clock hand. Guarded by this cache lock */
+    private int hand = 0;
+
+    /** Update stamp. Incremented when updates are started and when they are ended */
+    private final AtomicLong stamp = new AtomicLong(0);
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a new hash cache.
+     *
+     * @param maxBytes the cache size in bytes
+     * @throws IllegalArgumentException if the size is less than a single chunk size
+     */
+    public HashChunkCache(final long maxBytes) {
+        final long maxChunks = maxBytes / CHUNK_BYTES;
+        if (maxChunks <= 0) {
+            throw new IllegalArgumentException("Cache size is too small: " + maxBytes);
+        }
+        slots = new Chunk[Math.toIntExact(Math.min(maxChunks, Integer.MAX_VALUE - 8))];
+    }
+
+    /**
+     * Looks up a cached hash for the given path.
+     *
+     * @param path the internal node path
+     * @return the hash, or null if the hash is not in the cache
+     */
+    @Nullable
+    public Hash get(final long path) {
+        final Chunk chunk = chunks.get(path / CHUNK_SIZE);
+        if (chunk != null) {
+            final Hash hash = chunk.get((int) (path % CHUNK_SIZE));
+            if (hash != null) {
+                hits.increment();
+                return hash;
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Gets the current update stamp. It must be captured before a hash is read from disk, and
+     * then provided to {@link #put(long, Hash, long)}.
+     *
+     * @return the update stamp
+     */
+    public long readStamp() {
+        return stamp.get();
+    }
+
+    /**
+     * Puts a hash read from disk to the cache. If the chunk for the path is not cached yet,
+     * a new chunk is created, and another chunk may be evicted. If there were updates since the
+     * given stamp was read, or updates are in progress, the hash isn't cached.
+     *
+     * @param path the internal node path
+     * @param hash the hash
+     * @param readStamp the update stamp captured before the hash was read from disk
+     */
+    public void put(final long path, @NonNull final Hash hash, final long readStamp) {
+        if (!isValidStamp(readStamp)) {
+            return;
+        }
+        final long chunkIndex = path / CHUNK_SIZE;
+        Chunk chunk = chunks.get(chunkIndex);
+        if (chunk == null) {
+            synchronized (this) {
+                chunk = chunks.get(chunkIndex);
+                if (chunk == null) {
+                    chunk = new Chunk(chunkIndex);
+                    addChunk(chunk);
+                }
+            }
+        }
+        chunk.set((int) (path % CHUNK_SIZE), hash, readStamp);
+    }
+
+    /**
+     * Marks the start of updates. Hashes read from disk before the updates are ended aren't cached.
+     */
+    public void startUpdates() {
+        stamp.incrementAndGet();
+    }
+
+    /**
+     * Marks the end of updates.
+     */
+    public void endUpdates() {
+        stamp.incrementAndGet();
+    }
+
+    private boolean isValidStamp(final long readStamp) {
+        // Odd stamps mean updates are in progress
+        return ((readStamp & 1) == 0) && (readStamp == stamp.get());
+    }
+
+    /**
+     * Updates a hash in the cache, if the chunk for the path is cached. This method is called
+     * when hashes are written to disk, it doesn't create new chunks, so hashes that aren't read
+     * don't pollute the cache.
+     *
+     * @param path the internal node path
+     * @param hash the new hash
+     */
+    public void update(final long path, @NonNull final Hash hash) {
+        final Chunk chunk = chunks.get(path / CHUNK_SIZE);
+        if (chunk != null) {
+            chunk.set((int) (path % CHUNK_SIZE), hash, -1);
+        }
+    }
+
+    /**
+     * Places a new chunk to a clock slot, evicting another chunk, if needed. Must be called
+     * under this cache lock.
+     */
+    private void addChunk(final Chunk chunk) {
+        while (true) {
+            final Chunk current = slots[hand];
+            if (current == null) {
+                break;
+            }
+            if (current.referenced) {
+                // Second chance
+                current.referenced = false;
+                hand = (hand + 1) % slots.length;
+            } else {
+                chunks.remove(current.chunkIndex);
+                evictions.increment();
+                break;
+            }
+        }
+        slots[hand] = chunk;
+        chunks.put(chunk.chunkIndex, chunk);
+        hand = (hand + 1) % slots.length;
+    }
+
+    /**
+     * Returns the number of cache hits since the last call to this method, and resets the counter.
+     */
+    public long getAndResetHits() {
+        return hits.sumThenReset();
+    }
+
+    /**
+     * Returns the number of cache misses since the last call to this method, and resets the counter.
+     */
+    public long getAndResetMisses() {
+        return misses.sumThenReset();
+    }
+
+    /**
+     * Returns the number of chunks evicted from the cache since the last call to this method, and
+     * resets the counter.
+     */
+    public long getAndResetEvictions() {
+        return evictions.sumThenReset();
+    }
+
+    /**
+     * Hashes of {@link #CHUNK_SIZE} consecutive paths. Hash bytes are stored in a single array,
+     * there are no hash objects per path.
+     */
+    private final class Chunk {
+
+        private final long chunkIndex;
+
+        /** Hash bytes. Guarded by this chunk lock */
+        private final byte[] hashBytes = new byte[CHUNK_SIZE * HASH_SIZE];
+
+        /** A bit per path, set if the hash for the path is cached. Guarded by this chunk lock */
+        private long present = 0;
+
+        /** Set on every read, cleared by the clock hand */
+        private volatile boolean referenced = true;
+
+        Chunk(final long chunkIndex) {
+            this.chunkIndex = chunkIndex;
+        }
+
+        synchronized Hash get(final int index) {
+            if ((present & (1L << index)) == 0) {
+                return null;
+            }
+            referenced = true;
+            final byte[] bytes = new byte[HASH_SIZE];
+            System.arraycopy(hashBytes, index * HASH_SIZE, bytes, 0, HASH_SIZE);
+            return new Hash(bytes, DigestType.SHA_384);
+        }
+
+        /**
+         * Sets a hash for the given index in this chunk. If the read stamp is not -1, it's checked
+         * under the chunk lock, the same lock as used by updates, so a stale hash never overwrites
+         * an updated one.
+         */
+        synchronized void set(final int index, final Hash hash, final long readStamp) {
+            if ((readStamp != -1) && !isValidStamp(readStamp)) {
+                return;
+            }
+            if (hash.getDigestType() != DigestType.SHA_384) {
+                // Should never happen, MerkleDb stores SHA-384 hashes only
+                present &= ~(1L << index);
+                return;
+            }
+            System.arraycopy(hash.copyToByteArray(), 0, hashBytes, index * HASH_SIZE, HASH_SIZE);
+            present |= 1L << index;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.merkledb.cache;
+
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.merkledb.config.MerkleDbConfig;
+import com.swirlds.virtualmap.datasource.VirtualLeafBytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.Arrays;
+
+/**
+ * A cache of virtual leaf records by leaf key, used by {@code MerkleDbDataSource} to avoid
+ * reading key-to-path buckets and leaf records from disk for hot keys.
+ *
+ * <p>Cached records may have no value. Such records are used to cache just key to path
+ * mappings, including negative results, when the path is {@code INVALID_PATH}.
+ *
+ * <p>Implementations must be thread safe. Records are read and put by multiple transaction
+ * handling and prefetch threads, and invalidated by the data source flushing thread.
+ */
+public interface LeafRecordCache {
+
+    /**
+     * Looks up a cached record for the given key.
+     *
+     * @param keyBytes the leaf key
+     * @param keyHashCode the leaf key hash code
+     * @return the cached record, or null if the key is not in the cache
+     */
+    @Nullable
+    VirtualLeafBytes get(@NonNull Bytes keyBytes, int keyHashCode);
+
+    /**
+     * Puts a record to the cache. Implementations may decide not to cache the record, for
+     * example, if it's too large or not accessed frequently enough.
+     *
+     * @param keyHashCode the leaf key hash code
+     * @param leafBytes the record to cache
+     */
+    void put(int keyHashCode, @NonNull VirtualLeafBytes leafBytes);
+
+    /**
+     * Removes a record with the given key from the cache, if present.
+     *
+     * @param keyBytes the leaf key
+     * @param keyHashCode the leaf key hash code
+     */
+    void invalidate(@NonNull Bytes keyBytes, int keyHashCode);
+
+    /**
+     * Returns the number of cache hits since the last call to this method, and resets the counter.
+     */
+    long getAndResetHits();
+
+    /**
+     * Returns the number of cache misses since the last call to this method, and resets the counter.
+     */
+    long getAndResetMisses();
+
+    /**
+     * Returns the number of records evicted from the cache since the last call to this method, and
+     * resets the counter. This includes records rejected by the admission policy.
+     */
+    long getAndResetEvictions();
+
+    /**
+     * Creates a leaf record cache for the given table based on MerkleDb config. The cache type
+     * is set by {@link MerkleDbConfig#leafRecordCacheType()}. If the type is {@link
+     * LeafRecordCacheType#DIRECT_MAPPED}, the cache size in entries is {@link
+     * MerkleDbConfig#leafRecordCacheSize()}. If the type is {@link LeafRecordCacheType#TINY_LFU},
+     * the cache size in bytes is taken from {@link MerkleDbConfig#leafRecordCacheTableBudgets()},
+     * if the table is listed there, or {@link MerkleDbConfig#leafRecordCacheMaxBytes()} otherwise.
+     *
+     * @param config MerkleDb config
+     * @param tableName the table name
+     * @return the cache, or null if the cache is disabled for the table
+     */
+    @Nullable
+    static LeafRecordCache create(@NonNull final MerkleDbConfig config, @NonNull final String tableName) {
+        return switch (config.leafRecordCacheType()) {
+            case NONE -> null;
+            case DIRECT_MAPPED -> {
+                final int size = config.leafRecordCacheSize();
+                yield (size > 0) ? new DirectMappedLeafRecordCache(size) : null;
+            }
+            case TINY_LFU -> {
+                final long maxBytes = tableBudget(config, tableName);
+                yield (maxBytes > 0) ? new TinyLfuLeafRecordCache(maxBytes) : null;
+            }
+        };
+    }
+
+    /**
+     * Finds the cache budget in bytes for the given table. {@link MerkleDbConfig#leafRecordCacheTableBudgets()}
+     * is a comma-delimited list of "table:bytes" pairs. Its format is checked when the config is loaded,
+     * see {@link MerkleDbConfig#leafRecordCacheTableBudgetsValidation}.
+     */
+    private static long tableBudget(@NonNull final MerkleDbConfig config, @NonNull final String tableName) {
+        final String budgets = config.leafRecordCacheTableBudgets();
+        if (budgets != null) {
+            return Arrays.stream(budgets.split(","))
+                    .map(String::trim)
+                    .map(s -> s.split(":"))
+                    .filter(pair -> (pair.length == 2) && pair[0].trim().equals(tableName))
+                    .mapToLong(pair -> Long.parseLong(pair[1].trim()))
+                    .findFirst()
+                    .orElse(config.leafRecordCacheMaxBytes());
+        }
+        return config.leafRecordCacheMaxBytes();
+    }
+}
@@ -0,0 +1,22 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.merkledb.cache;
+
+/**
+ * Types of {@link LeafRecordCache} implementations.
+ */
+public enum LeafRecordCacheType {
+    /**
+     * No leaf record cache.
+     */
+    NONE,
+    /**
+     * A fixed size array of records indexed by key hash code. Any index collision evicts the
+     * old record. The cache is bounded by the number of entries, but not by bytes.
+     */
+    DIRECT_MAPPED,
+    /**
+     * A cache bounded by bytes, with frequency based admission policy (W-TinyLFU). New records
+     * only replace old records, if they are accessed more frequently.
+     */
+    TINY_LFU
+}
@@ -0,0 +1,279 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.merkledb.cache;
+
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.virtualmap.datasource.VirtualLeafBytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Virtual leaf records cache bounded by bytes, with W-TinyLFU admission policy.
+ *
+ * <p>The cache is split into segments by key hash code, each segment is guarded by its own
+ * lock. Every segment has a small LRU admission window and a large LRU main area. New records
+ * are put to the window. Records evicted from the window are moved to the main area only if
+ * they are estimated to be accessed more frequently than the main area eviction candidates.
+ * Access frequencies are tracked by a {@link FrequencySketch} per segment. This protects the
+ * cache from being flushed by one-off reads, e.g. during reconnects or large scans.
+ *
+ * <p>Record weight is the sum of key and value lengths plus {@link #ENTRY_OVERHEAD}.
+ */
+public class TinyLfuLeafRecordCache implements LeafRecordCache {
+
+    /** Estimated Java heap overhead of a single cache entry, in bytes */
+    static final int ENTRY_OVERHEAD = 96;
+
+    /** Admission window size, percent of the cache size */
+    private static final int WINDOW_PERCENT = 1;
+
+    /** Max number of cache segments. Segments should not be too small, see {@link #MIN_SEGMENT_BYTES} */
+    private static final int MAX_SEGMENTS = 64;
+
+    /** Min segment size, in bytes */
+    private static final long MIN_SEGMENT_BYTES = 1024 * 1024;
+
+    /** Average record size used to size frequency sketches */
+    private static final int EXPECTED_RECORD_SIZE = 128;
+
+    private final Segment[] segments;
+
+    private final int segmentMask;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a new cache.
+     *
+     * @param maxBytes the cache size, in bytes
+     */
+    public TinyLfuLeafRecordCache(final long maxBytes) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive: " + maxBytes);
+        }
+        int segmentCount = 1;
+        while ((segmentCount < MAX_SEGMENTS) && (maxBytes / (segmentCount * 2L) >= MIN_SEGMENT_BYTES)) {
+            segmentCount *= 2;
+        }
+        segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(maxBytes / segmentCount);
+        }
+        segmentMask = segmentCount - 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nullable
+    @Override
+    public VirtualLeafBytes get(@NonNull final Bytes keyBytes, final int keyHashCode) {
+        final VirtualLeafBytes cached = segmentFor(keyHashCode).get(keyBytes, keyHashCode);
+        if (cached != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return cached;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void put(final int keyHashCode, @NonNull final VirtualLeafBytes leafBytes) {
+        evictions.add(segmentFor(keyHashCode).put(keyHashCode, leafBytes));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void invalidate(@NonNull final Bytes keyBytes, final int keyHashCode) {
+        segmentFor(keyHashCode).invalidate(keyBytes);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getAndResetHits() {
+        return hits.sumThenReset();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getAndResetMisses() {
+        return misses.sumThenReset();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getAndResetEvictions() {
+        return evictions.sumThenReset();
+    }
+
+    /**
+     * Returns the total weight of all records in the cache, in bytes. Used in tests.
+     */
+    long getWeightedSize() {
+        long size = 0;
+        for (final Segment segment : segments) {
+            size += segment.weightedSize();
+        }
+        return size;
+    }
+
+    private Segment segmentFor(final int keyHashCode) {
+        // Use high bits, low bits are used by frequency sketches
+        return segments[((keyHashCode * 0x9E3779B9) >>> 16) & segmentMask];
+    }
+
+    private static long weightOf(final VirtualLeafBytes leafBytes) {
+        final Bytes valueBytes = leafBytes.valueBytes();
+        return leafBytes.keyBytes().length() + (valueBytes != null ? valueBytes.length() : 0) + ENTRY_OVERHEAD;
+    }
+
+    /**
+     * A cached record with its key hash code and weight. Records may have no key hash code
+     * set, so it's stored separately.
+     */
+    private record Node(VirtualLeafBytes leafBytes, int keyHashCode, long weight) {}
+
+    /**
+     * A single cache segment. All methods are synchronized.
+     */
+    private static final class Segment {
+
+        private final long windowMaxBytes;
+
+        private final long mainMaxBytes;
+
+        private final LinkedHashMap<Bytes, Node> window = new LinkedHashMap<>(16, 0.75f, true);
+
+        private final LinkedHashMap<Bytes, Node> main = new LinkedHashMap<>(16, 0.75f, true);
+
+        private final FrequencySketch sketch;
+
+        private long windowBytes = 0;
+
+        private long mainBytes = 0;
+
+        Segment(final long maxBytes) {
+            windowMaxBytes = Math.max(1, maxBytes * WINDOW_PERCENT / 100);
+            mainMaxBytes = maxBytes - windowMaxBytes;
+            sketch = new FrequencySketch(maxBytes / EXPECTED_RECORD_SIZE);
+        }
+
+        synchronized VirtualLeafBytes get(final Bytes keyBytes, final int keyHashCode) {
+            sketch.increment(keyHashCode);
+            Node node = window.get(keyBytes);
+            if (node == null) {
+                node = main.get(keyBytes);
+            }
+            return (node != null) ? node.leafBytes() : null;
+        }
+
+        /**
+         * Puts a record to this segment.
+         *
+         * @return the number of evicted or rejected records
+         */
+        synchronized int put(final int keyHashCode, final VirtualLeafBytes leafBytes) {
+            final Node node = new Node(leafBytes, keyHashCode, weightOf(leafBytes));
+            final Bytes keyBytes = leafBytes.keyBytes();
+            // Existing records are updated in place
+            final Node oldInMain = main.get(keyBytes);
+            if (oldInMain != null) {
+                main.put(keyBytes, node);
+                mainBytes += node.weight() - oldInMain.weight();
+                return evictMain();
+            }
+            final Node oldInWindow = window.put(keyBytes, node);
+            if (oldInWindow != null) {
+                windowBytes -= oldInWindow.weight();
+            }
+            windowBytes += node.weight();
+            return evictWindow();
+        }
+
+        synchronized void invalidate(final Bytes keyBytes) {
+            final Node inWindow = window.remove(keyBytes);
+            if (inWindow != null) {
+                windowBytes -= inWindow.weight();
+            }
+            final Node inMain = main.remove(keyBytes);
+            if (inMain != null) {
+                mainBytes -= inMain.weight();
+            }
+        }
+
+        synchronized long weightedSize() {
+            return windowBytes + mainBytes;
+        }
+
+        /**
+         * Moves the least recently used records from the window to the main area, until the
+         * window fits its budget. The records are only admitted to the main area, if they are
+         * more frequent than main area victims.
+         */
+        private int evictWindow() {
+            int evicted = 0;
+            final Iterator<Node> it = window.values().iterator();
+            while ((windowBytes > windowMaxBytes) && it.hasNext()) {
+                final Node candidate = it.next();
+                it.remove();
+                windowBytes -= candidate.weight();
+                if (admit(candidate)) {
+                    main.put(candidate.leafBytes().keyBytes(), candidate);
+                    mainBytes += candidate.weight();
+                    evicted += evictMain();
+                } else {
+                    evicted++;
+                }
+            }
+            return evicted;
+        }
+
+        /**
+         * Checks if a window candidate should be admitted to the main area. It is admitted if
+         * there is enough space, or if it is more frequent than the main area eviction victim.
+         */
+        private boolean admit(final Node candidate) {
+            if (candidate.weight() > mainMaxBytes) {
+                return false;
+            }
+            if (mainBytes + candidate.weight() <= mainMaxBytes) {
+                return true;
+            }
+            final Node victim = main.values().iterator().next();
+            return sketch.frequency(candidate.keyHashCode()) > sketch.frequency(victim.keyHashCode());
+        }
+
+        /**
+         * Evicts the least recently used records from the main area, until it fits its budget.
+         *
+         * @return the number of evicted records
+         */
+        private int evictMain() {
+            int evicted = 0;
+            final Iterator<Node> it = main.values().iterator();
+            while ((mainBytes > mainMaxBytes) && it.hasNext()) {
+                mainBytes -= it.next().weight();
+                it.remove();
+                evicted++;
+            }
+            return evicted;
+        }
+    }
+}
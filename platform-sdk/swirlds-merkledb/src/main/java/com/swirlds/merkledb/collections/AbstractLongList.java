@@ -2,12 +2,15 @@
 package com.swirlds.merkledb.collections;
 
 import static com.swirlds.base.units.UnitConstants.MEBIBYTES_TO_BYTES;
+import static com.swirlds.logging.legacy.LogMarker.MERKLE_DB;
 import static com.swirlds.merkledb.utilities.MerkleDbFileUtils.readFromFileChannel;
 import static java.lang.Math.max;
 import static java.lang.Math.min;
 import static java.lang.Math.toIntExact;
 import static java.util.Objects.requireNonNull;
 
+import com.swirlds.common.io.utility.FileUtils;
+import com.swirlds.common.io.utility.LegacyTemporaryFileBuilder;
 import com.swirlds.config.api.Configuration;
 import com.swirlds.merkledb.config.MerkleDbConfig;
 import com.swirlds.merkledb.utilities.MerkleDbFileUtils;
@@ -15,27 +18,44 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.OpenOption;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.BooleanSupplier;
 import java.util.stream.LongStream;
 import java.util.stream.StreamSupport;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 /**
  * Common parent class for long list implementations. It takes care of loading a snapshot from disk,
  * chunk management and other common functionality.
  *
+ * <p>If enabled in {@link MerkleDbConfig#longListMaxIncrementalSnapshots()}, the list tracks chunks
+ * modified since the last snapshot. When the list is written to a file next time, only modified chunks
+ * are written, and all other chunks are referenced from the files of the previous snapshot. These files
+ * are hard-linked next to the new file, so every snapshot directory is self-contained. After the
+ * configured number of incremental snapshots, a full snapshot is written again. Snapshot directories
+ * may be moved or deleted after snapshots are written or loaded, so the list keeps its own hard links
+ * to the files of the last snapshot in a temporary directory.
+ *
  * @param <C> a type that represents a chunk (byte buffer, array or long that represents an offset of the chunk)
  */
 public abstract class AbstractLongList<C> implements LongList {
 
+    private static final Logger logger = LogManager.getLogger(AbstractLongList.class);
+
     public static final String MAX_CHUNKS_EXCEEDED_MSG = "The maximum number of memory chunks should not exceed %s. "
             + "Either increase longsPerChunk or decrease capacity";
     public static final String CHUNK_SIZE_ZERO_OR_NEGATIVE_MSG = "Cannot store %d per chunk (min is 1)";
@@ -63,6 +83,12 @@ public abstract class AbstractLongList<C> implements LongList {
     /** The version number for format of current data files */
     private static final int CURRENT_FILE_FORMAT_VERSION = NO_CAPACITY_VERSION;
 
+    /** File format of incremental snapshots, which only contain chunks changed since the previous snapshot */
+    private static final int INCREMENTAL_VERSION = 4;
+
+    /** Postfix of temporary directories with links to the files of the last snapshot */
+    private static final String SNAPSHOT_LINKS_POSTFIX = "longlist-snapshot";
+
     /** The number of bytes required to store file version */
     protected static final int VERSION_METADATA_SIZE = Integer.BYTES;
 
@@ -84,6 +110,15 @@ public abstract class AbstractLongList<C> implements LongList {
     /** The number for bytes to read for file header, v3 */
     protected static final int FILE_HEADER_SIZE_V3 = VERSION_METADATA_SIZE + FORMAT_METADATA_SIZE_V3;
 
+    /** The number of bytes to read for fixed size format metadata, v4:
+     * - number of longs per chunk<br>
+     * - min valid index<br>
+     * - size<br>
+     * - number of base files<br>
+     * Base file names, the number of chunks in the file, and chunk indices follow.
+     */
+    protected static final int FORMAT_METADATA_SIZE_V4 = Integer.BYTES + Long.BYTES + Long.BYTES + Integer.BYTES;
+
     /**
      * The number of longs to store in each allocated buffer. Must be a positive integer. If the
      * value is small, then we will end up allocating a very large number of buffers. If the value
@@ -130,6 +165,48 @@ public abstract class AbstractLongList<C> implements LongList {
      */
     protected final long reservedBufferSize;
 
+    /**
+     * Max number of consecutive incremental snapshots after a full snapshot. If zero, incremental
+     * snapshots are disabled, and every snapshot contains all list data.
+     */
+    private final int maxIncrementalSnapshots;
+
+    /**
+     * Chunks modified since the last snapshot, one bit per chunk. Only tracked when incremental
+     * snapshots are enabled, null otherwise. A bit is set after the chunk is modified, and it's
+     * cleared before the chunk is written to a snapshot, so no modifications are lost.
+     */
+    @Nullable
+    private final AtomicLongArray dirtyChunks;
+
+    /**
+     * The last snapshot written or loaded by this list. It's the base for the next incremental
+     * snapshot. Null if incremental snapshots are disabled, or the next snapshot must be full.
+     */
+    @Nullable
+    private volatile LastSnapshot lastSnapshot;
+
+    /**
+     * A directory with hard links to all files of the last snapshot. Names of the links are the same
+     * as the names of the snapshot files. Null if incremental snapshots are disabled, or there is no
+     * base for the next incremental snapshot.
+     */
+    @Nullable
+    private Path snapshotLinksDir;
+
+    /**
+     * Platform configuration used to create {@link #snapshotLinksDir}. Null if incremental snapshots
+     * are disabled.
+     */
+    @Nullable
+    private final Configuration snapshotConfiguration;
+
+    /**
+     * Files of an incremental snapshot, the oldest file first. Only set while the list is being loaded.
+     */
+    @Nullable
+    private List<SnapshotPart> loadingParts;
+
     /**
      * Create a new long list with the specified capacity. Number of longs per chunk and
      * reserved buffer size are read from the provided configuration.
@@ -143,8 +220,11 @@ public abstract class AbstractLongList<C> implements LongList {
         this.capacity = capacity;
         this.longsPerChunk = merkleDbConfig.longListChunkSize();
         this.reservedBufferSize = merkleDbConfig.longListReservedBufferSize();
+        this.maxIncrementalSnapshots = merkleDbConfig.longListMaxIncrementalSnapshots();
+        this.snapshotConfiguration = (maxIncrementalSnapshots > 0) ? configuration : null;
 
         chunkList = new AtomicReferenceArray<>(calculateNumberOfChunks(capacity));
+        dirtyChunks = createDirtyChunks();
         // multiplyExact throws exception if we overflow and int
         memoryChunkSize = Math.multiplyExact(this.longsPerChunk, Long.BYTES);
     }
@@ -164,8 +244,11 @@ public abstract class AbstractLongList<C> implements LongList {
         checkLongsPerChunk(longsPerChunk);
         this.longsPerChunk = longsPerChunk;
         this.reservedBufferSize = reservedBufferSize;
+        this.maxIncrementalSnapshots = 0;
+        this.snapshotConfiguration = null;
 
         chunkList = new AtomicReferenceArray<>(calculateNumberOfChunks(capacity));
+        dirtyChunks = null;
         // multiplyExact throws exception if we overflow and int
         memoryChunkSize = Math.multiplyExact(this.longsPerChunk, Long.BYTES);
     }
@@ -191,8 +274,11 @@ public abstract class AbstractLongList<C> implements LongList {
         this.longsPerChunk = merkleDbConfig.longListChunkSize();
         this.memoryChunkSize = longsPerChunk * Long.BYTES;
         this.reservedBufferSize = merkleDbConfig.longListReservedBufferSize();
+        this.maxIncrementalSnapshots = merkleDbConfig.longListMaxIncrementalSnapshots();
+        this.snapshotConfiguration = (maxIncrementalSnapshots > 0) ? configuration : null;
 
         chunkList = new AtomicReferenceArray<>(calculateNumberOfChunks(this.capacity));
+        dirtyChunks = createDirtyChunks();
         loadFromFile(file, configuration);
     }
 
@@ -222,21 +308,34 @@ public abstract class AbstractLongList<C> implements LongList {
         this.memoryChunkSize = longsPerChunk * Long.BYTES;
         this.capacity = capacity;
         this.reservedBufferSize = reservedBufferSize;
+        this.maxIncrementalSnapshots =
+                configuration.getConfigData(MerkleDbConfig.class).longListMaxIncrementalSnapshots();
+        this.snapshotConfiguration = (maxIncrementalSnapshots > 0) ? configuration : null;
 
         chunkList = new AtomicReferenceArray<>(calculateNumberOfChunks(this.capacity));
+        dirtyChunks = createDirtyChunks();
         loadFromFile(path, configuration);
     }
 
+    @Nullable
+    private AtomicLongArray createDirtyChunks() {
+        return (maxIncrementalSnapshots > 0) ? new AtomicLongArray((chunkList.length() + 63) / 64) : null;
+    }
+
     private void loadFromFile(@NonNull final Path file, @NonNull Configuration configuration) throws IOException {
         requireNonNull(file);
         requireNonNull(configuration);
         if (!Files.exists(file)) {
             throw new IOException("Cannot load index, file doesn't exist: " + file.toAbsolutePath());
         }
-        try (final FileChannel fileChannel = FileChannel.open(file, StandardOpenOption.READ)) {
+        try (final FileChannel fileChannel = FileChannel.open(file, loadFileOpenOptions(configuration))) {
             // read header from existing file
             final ByteBuffer versionBuffer = readFromFileChannel(fileChannel, VERSION_METADATA_SIZE);
             final int formatVersion = versionBuffer.getInt();
+            if (formatVersion == INCREMENTAL_VERSION) {
+                loadFromIncrementalSnapshot(file, fileChannel, configuration);
+                return;
+            }
             final int formatMetadataSize;
             final int currentFileHeaderSize;
             if (formatVersion == MIN_VALID_INDEX_SUPPORT_VERSION) {
@@ -249,7 +348,7 @@ public abstract class AbstractLongList<C> implements LongList {
                 throw new IOException("File format version is not supported. File format version ["
                         + formatVersion
                         + "], the latest supported version is ["
-                        + CURRENT_FILE_FORMAT_VERSION
+                        + INCREMENTAL_VERSION
                         + "].");
             }
 
@@ -285,9 +384,147 @@ public abstract class AbstractLongList<C> implements LongList {
             }
 
             readBodyFromFileChannelOnInit(file.getFileName().toString(), fileChannel, configuration);
+            if ((dirtyChunks != null) && (formatVersion == NO_CAPACITY_VERSION)) {
+                rememberSnapshot(file, List.of(), minValidIndex.get(), size.get());
+            }
         }
     }
 
+    /**
+     * Loads the list from an incremental snapshot file. The version is already read from the file
+     * channel. All base files of the snapshot are expected to be in the same directory as the file.
+     * Every chunk is read from the newest file that contains it.
+     */
+    private void loadFromIncrementalSnapshot(
+            @NonNull final Path file,
+            @NonNull final FileChannel fileChannel,
+            @NonNull final Configuration configuration)
+            throws IOException {
+        final IncrementalHeader header = readIncrementalHeader(file, fileChannel);
+        final Path dir = file.toAbsolutePath().normalize().getParent();
+        final List<SnapshotPart> parts = new ArrayList<>(header.baseNames().size() + 1);
+        try {
+            for (final String baseName : header.baseNames()) {
+                final Path base = dir.resolve(baseName).normalize();
+                if (!dir.equals(base.getParent())) {
+                    throw new IOException("Snapshot base file is not in the snapshot directory: " + baseName);
+                }
+                final FileChannel baseChannel = FileChannel.open(base, loadFileOpenOptions(configuration));
+                try {
+                    parts.add(openSnapshotPart(base, baseChannel, parts.isEmpty()));
+                } catch (final IOException e) {
+                    baseChannel.close();
+                    throw e;
+                }
+            }
+            parts.add(new SnapshotPart(
+                    fileChannel, header.minValidIndex(), header.size(), fileChannel.position(), header.chunks()));
+
+            if (header.size() > capacity) {
+                throw new IllegalArgumentException(
+                        "Failed to read index from file, " + "size=" + header.size() + ", capacity=" + capacity);
+            }
+            size.set(header.size());
+            minValidIndex.set(header.minValidIndex());
+            maxValidIndex.set(header.size() - 1);
+
+            loadingParts = parts;
+            readBodyFromFileChannelOnInit(file.getFileName().toString(), fileChannel, configuration);
+        } finally {
+            loadingParts = null;
+            for (final SnapshotPart part : parts) {
+                if (part.channel() != fileChannel) {
+                    part.channel().close();
+                }
+            }
+        }
+        if (dirtyChunks != null) {
+            rememberSnapshot(file, header.baseNames(), minValidIndex.get(), size.get());
+        }
+    }
+
+    /**
+     * Opens a base file of an incremental snapshot. The first base file in the chain is a full
+     * snapshot, all other base files are incremental snapshots.
+     */
+    private SnapshotPart openSnapshotPart(
+            @NonNull final Path base, @NonNull final FileChannel baseChannel, final boolean full) throws IOException {
+        final int baseVersion = readFromFileChannel(baseChannel, VERSION_METADATA_SIZE).getInt();
+        if (full) {
+            if (baseVersion != NO_CAPACITY_VERSION) {
+                throw new IOException("Unexpected full snapshot file format version, file=" + base + " version="
+                        + baseVersion);
+            }
+            final long baseMinValidIndex = readFromFileChannel(baseChannel, FORMAT_METADATA_SIZE_V3).getLong();
+            final long longsInFile = (baseChannel.size() - FILE_HEADER_SIZE_V3) / Long.BYTES;
+            return new SnapshotPart(
+                    baseChannel, baseMinValidIndex, baseMinValidIndex + longsInFile, FILE_HEADER_SIZE_V3, null);
+        }
+        if (baseVersion != INCREMENTAL_VERSION) {
+            throw new IOException("Unexpected incremental snapshot file format version, file=" + base + " version="
+                    + baseVersion);
+        }
+        final IncrementalHeader baseHeader = readIncrementalHeader(base, baseChannel);
+        return new SnapshotPart(
+                baseChannel,
+                baseHeader.minValidIndex(),
+                baseHeader.size(),
+                baseChannel.position(),
+                baseHeader.chunks());
+    }
+
+    /**
+     * Reads an incremental snapshot header from the given file channel, starting from the current
+     * channel position, right after the file format version. After this method is complete, the
+     * channel is positioned at the start of chunk data.
+     */
+    private IncrementalHeader readIncrementalHeader(@NonNull final Path file, @NonNull final FileChannel fileChannel)
+            throws IOException {
+        final ByteBuffer headerBuffer = readFromFileChannel(fileChannel, FORMAT_METADATA_SIZE_V4);
+        final int fileLongsPerChunk = headerBuffer.getInt();
+        if (fileLongsPerChunk != longsPerChunk) {
+            throw new IOException("Incremental snapshot chunk size mismatch, file=" + file + " expected="
+                    + longsPerChunk + " actual=" + fileLongsPerChunk);
+        }
+        final long fileMinValidIndex = headerBuffer.getLong();
+        final long fileSize = headerBuffer.getLong();
+        final int baseCount = headerBuffer.getInt();
+        if ((fileMinValidIndex < 0) || (fileMinValidIndex >= fileSize) || (baseCount <= 0)) {
+            throw new IOException("Invalid incremental snapshot header, file=" + file + " minValidIndex="
+                    + fileMinValidIndex + " size=" + fileSize + " bases=" + baseCount);
+        }
+        final List<String> baseNames = new ArrayList<>(baseCount);
+        for (int i = 0; i < baseCount; i++) {
+            final int nameLength = Short.toUnsignedInt(readFromFileChannel(fileChannel, Short.BYTES).getShort());
+            final byte[] nameBytes = readFromFileChannel(fileChannel, nameLength).array();
+            baseNames.add(new String(nameBytes, StandardCharsets.UTF_8));
+        }
+        final int chunkCount = readFromFileChannel(fileChannel, Integer.BYTES).getInt();
+        if ((chunkCount < 0) || (chunkCount > chunkList.length())) {
+            throw new IOException("Invalid number of chunks in incremental snapshot, file=" + file + " chunks="
+                    + chunkCount);
+        }
+        final ByteBuffer chunksBuffer = readFromFileChannel(fileChannel, chunkCount * Integer.BYTES);
+        final int[] chunks = new int[chunkCount];
+        for (int i = 0; i < chunkCount; i++) {
+            chunks[i] = chunksBuffer.getInt();
+        }
+        return new IncrementalHeader(fileMinValidIndex, fileSize, baseNames, chunks);
+    }
+
+    /**
+     * Returns the options to open files with, when the list is loaded. Files are only read from
+     * during loading, but subclasses that map file contents to memory with copy-on-write semantics
+     * need the files to be opened for writing, too. This method is called during the initialization,
+     * before subclass fields are initialized.
+     *
+     * @param configuration platform configuration
+     * @return the options to open files with
+     */
+    protected OpenOption[] loadFileOpenOptions(@NonNull final Configuration configuration) {
+        return new OpenOption[] {StandardOpenOption.READ};
+    }
+
     /**
      * Initializes the list from the given file channel. At the moment of the call all the class metadata
      * is already initialized from the file header.
@@ -313,11 +550,50 @@ public abstract class AbstractLongList<C> implements LongList {
             final int startIndexInChunk = (chunkIndex == firstChunkIndex) ? minValidIndexInChunk : 0;
             final int endIndexInChunk = (chunkIndex == lastChunkIndex) ? (maxValidIndexInChunk + 1) : longsPerChunk;
 
-            C chunk = readChunkData(fileChannel, chunkIndex, startIndexInChunk, endIndexInChunk);
+            final FileChannel chunkChannel =
+                    positionChunkData(fileChannel, chunkIndex, startIndexInChunk, endIndexInChunk);
+            C chunk = readChunkData(chunkChannel, chunkIndex, startIndexInChunk, endIndexInChunk);
             setChunk(chunkIndex, chunk);
         }
     }
 
+    /**
+     * Finds a file channel to read chunk data from and sets its position to the start of the data. If
+     * the list is loaded from a full snapshot, chunks are read sequentially from the given file channel.
+     * If the list is loaded from an incremental snapshot, the newest snapshot file that contains the
+     * chunk is used.
+     */
+    private FileChannel positionChunkData(
+            final FileChannel fileChannel, final int chunkIndex, final int startIndex, final int endIndex)
+            throws IOException {
+        final List<SnapshotPart> parts = loadingParts;
+        if (parts == null) {
+            return fileChannel;
+        }
+        for (int i = parts.size() - 1; i >= 0; i--) {
+            final SnapshotPart part = parts.get(i);
+            final long position;
+            if (part.chunks() != null) {
+                final int pos = Arrays.binarySearch(part.chunks(), chunkIndex);
+                if (pos < 0) {
+                    continue;
+                }
+                position = part.dataOffset() + ((long) pos * longsPerChunk + startIndex) * Long.BYTES;
+            } else {
+                final long firstIndex = (long) chunkIndex * longsPerChunk + startIndex;
+                final long lastIndex = (long) chunkIndex * longsPerChunk + endIndex;
+                if ((firstIndex < part.minValidIndex()) || (lastIndex > part.size())) {
+                    throw new IOException("Chunk is out of full snapshot range, chunkIndex=" + chunkIndex
+                            + " minValidIndex=" + part.minValidIndex() + " size=" + part.size());
+                }
+                position = part.dataOffset() + (firstIndex - part.minValidIndex()) * Long.BYTES;
+            }
+            part.channel().position(position);
+            return part.channel();
+        }
+        throw new IOException("Chunk is not found in snapshot files, chunkIndex=" + chunkIndex);
+    }
+
     /**
      * Reads data from the specified {@code fileChannel} and stores it into a chunk.
      * The data is read from the specified range within the chunk.
@@ -438,6 +714,7 @@ public abstract class AbstractLongList<C> implements LongList {
         final C chunk = createOrGetChunk(index);
         final int subIndex = toIntExact(index % longsPerChunk);
         putToChunk(chunk, subIndex, value);
+        markChunkDirty(toIntExact(index / longsPerChunk));
     }
 
     /**
@@ -475,6 +752,7 @@ public abstract class AbstractLongList<C> implements LongList {
         if (result) {
             // update the size if necessary
             size.getAndUpdate(oldSize -> index >= oldSize ? (index + 1) : oldSize);
+            markChunkDirty(chunkIndex);
         }
         return result;
     }
@@ -544,12 +822,30 @@ public abstract class AbstractLongList<C> implements LongList {
      * via put methods while this LongList is being written to a file. If you need consistency while
      * calling put concurrently then use a BufferedLongListWrapper. </b>
      *
+     * <p>If incremental snapshots are enabled, and there is a previous snapshot to use as a base,
+     * only chunks changed since the previous snapshot are written to the file. Files of the previous
+     * snapshot are hard-linked to the same directory as the file, with ".N" suffixes added to the
+     * file name.
+     *
      * @param file The file to write into, it should not exist but its parent directory should exist
      *             and be writable.
      * @throws IOException If there was a problem creating or writing to the file.
      */
     @Override
     public void writeToFile(final Path file) throws IOException {
+        // If this snapshot fails, the next one must be full, since some dirty chunk bits may be cleared
+        final LastSnapshot base = lastSnapshot;
+        lastSnapshot = null;
+        if ((base != null) && canWriteIncrementalSnapshot(base) && writeIncrementalSnapshot(file, base)) {
+            return;
+        }
+        if (dirtyChunks != null) {
+            for (int i = 0; i < dirtyChunks.length(); i++) {
+                dirtyChunks.set(i, 0);
+            }
+        }
+        final long snapshotMinValidIndex = minValidIndex.get();
+        final long snapshotSize = size();
         try (final FileChannel fc = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
             // write header
             writeHeader(fc);
@@ -559,6 +855,197 @@ public abstract class AbstractLongList<C> implements LongList {
             }
             fc.force(true);
         }
+        if (dirtyChunks != null) {
+            rememberSnapshot(file, List.of(), snapshotMinValidIndex, snapshotSize);
+        }
+    }
+
+    /**
+     * Checks if an incremental snapshot can be written on top of the given base snapshot. Indices to
+     * the left of the base snapshot min valid index are not stored in base files, so if the min valid
+     * index is decreased, a full snapshot is needed.
+     */
+    private boolean canWriteIncrementalSnapshot(@NonNull final LastSnapshot base) {
+        final long currentMinValidIndex = minValidIndex.get();
+        return (base.baseNames().size() < maxIncrementalSnapshots)
+                && (base.minValidIndex() >= 0)
+                && (currentMinValidIndex >= base.minValidIndex())
+                && (currentMinValidIndex < size());
+    }
+
+    /**
+     * Writes an incremental snapshot to the given file. All files of the base snapshot are hard-linked
+     * from {@link #snapshotLinksDir} first. If it fails, no incremental snapshot is written, and this
+     * method returns false.
+     *
+     * @param file the file to write into
+     * @param base the previous snapshot
+     * @return whether the snapshot was written
+     * @throws IOException if there was a problem writing to the file
+     */
+    private boolean writeIncrementalSnapshot(@NonNull final Path file, @NonNull final LastSnapshot base)
+            throws IOException {
+        assert dirtyChunks != null;
+        final Path dir = file.toAbsolutePath().normalize().getParent();
+        final String fileName = file.getFileName().toString();
+        final Path linksDir = snapshotLinksDir;
+        final List<String> chain = new ArrayList<>(base.baseNames());
+        chain.add(base.fileName());
+        final List<Path> links = new ArrayList<>(chain.size());
+        try {
+            if (linksDir == null) {
+                throw new IOException("No links to the last snapshot files");
+            }
+            for (int i = 0; i < chain.size(); i++) {
+                final Path link = dir.resolve(fileName + "." + i);
+                Files.createLink(link, linksDir.resolve(chain.get(i)));
+                links.add(link);
+            }
+        } catch (final IOException | UnsupportedOperationException e) {
+            logger.info(MERKLE_DB.getMarker(), "Cannot link long list snapshot files, writing full snapshot", e);
+            for (final Path link : links) {
+                Files.deleteIfExists(link);
+            }
+            return false;
+        }
+
+        final long snapshotMinValidIndex = minValidIndex.get();
+        final long snapshotSize = size();
+        final int firstChunkIndex = toIntExact(snapshotMinValidIndex / longsPerChunk);
+        final int lastChunkIndex = toIntExact((snapshotSize - 1) / longsPerChunk);
+        // Dirty bits are cleared before chunks are read, so concurrent modifications are not lost.
+        // Chunks that were not fully covered by the previous snapshot are always written
+        final int[] chunks = new int[lastChunkIndex - firstChunkIndex + 1];
+        int chunkCount = 0;
+        for (int i = firstChunkIndex; i <= lastChunkIndex; i++) {
+            if (clearChunkDirty(i) || ((long) (i + 1) * longsPerChunk > base.size())) {
+                chunks[chunkCount++] = i;
+            }
+        }
+
+        int headerSize = VERSION_METADATA_SIZE + FORMAT_METADATA_SIZE_V4 + Integer.BYTES + chunkCount * Integer.BYTES;
+        final List<String> linkNames = new ArrayList<>(links.size());
+        for (final Path link : links) {
+            final String linkName = link.getFileName().toString();
+            linkNames.add(linkName);
+            headerSize += Short.BYTES + linkName.getBytes(StandardCharsets.UTF_8).length;
+        }
+        final ByteBuffer headerBuffer = ByteBuffer.allocate(headerSize);
+        headerBuffer.putInt(INCREMENTAL_VERSION);
+        headerBuffer.putInt(longsPerChunk);
+        headerBuffer.putLong(snapshotMinValidIndex);
+        headerBuffer.putLong(snapshotSize);
+        headerBuffer.putInt(linkNames.size());
+        for (final String linkName : linkNames) {
+            final byte[] linkNameBytes = linkName.getBytes(StandardCharsets.UTF_8);
+            headerBuffer.putShort((short) linkNameBytes.length);
+            headerBuffer.put(linkNameBytes);
+        }
+        headerBuffer.putInt(chunkCount);
+        for (int i = 0; i < chunkCount; i++) {
+            headerBuffer.putInt(chunks[i]);
+        }
+        headerBuffer.flip();
+
+        try (final FileChannel fc = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            if (MerkleDbFileUtils.completelyWrite(fc, headerBuffer) != headerSize) {
+                throw new IOException("Failed to write long list header to the file channel " + fc);
+            }
+            for (int i = 0; i < chunkCount; i++) {
+                writeChunkData(fc, chunkList.get(chunks[i]));
+            }
+            fc.force(true);
+        }
+        rememberSnapshot(file, linkNames, snapshotMinValidIndex, snapshotSize);
+        return true;
+    }
+
+    /**
+     * Remembers the given snapshot as the base for the next incremental snapshot. All snapshot files
+     * are hard-linked to a new {@link #snapshotLinksDir}, and the previous links directory is deleted.
+     * If the files can't be linked, the next snapshot is full.
+     *
+     * @param file the snapshot file
+     * @param baseNames names of the base files of the snapshot, in the same directory as the file
+     * @param snapshotMinValidIndex min valid index in the snapshot
+     * @param snapshotSize list size in the snapshot
+     */
+    private void rememberSnapshot(
+            @NonNull final Path file,
+            @NonNull final List<String> baseNames,
+            final long snapshotMinValidIndex,
+            final long snapshotSize) {
+        assert snapshotConfiguration != null;
+        final Path snapshotDir = file.toAbsolutePath().normalize().getParent();
+        final String fileName = file.getFileName().toString();
+        Path linksDir = null;
+        try {
+            linksDir =
+                    LegacyTemporaryFileBuilder.buildTemporaryDirectory(SNAPSHOT_LINKS_POSTFIX, snapshotConfiguration);
+            for (final String baseName : baseNames) {
+                Files.createLink(linksDir.resolve(baseName), snapshotDir.resolve(baseName));
+            }
+            Files.createLink(linksDir.resolve(fileName), snapshotDir.resolve(fileName));
+        } catch (final IOException | UnsupportedOperationException e) {
+            logger.info(MERKLE_DB.getMarker(), "Cannot link long list snapshot files, next snapshot will be full", e);
+            deleteSnapshotLinks(linksDir);
+            linksDir = null;
+        }
+        deleteSnapshotLinks(snapshotLinksDir);
+        snapshotLinksDir = linksDir;
+        lastSnapshot = (linksDir != null)
+                ? new LastSnapshot(fileName, List.copyOf(baseNames), snapshotMinValidIndex, snapshotSize)
+                : null;
+    }
+
+    private static void deleteSnapshotLinks(@Nullable final Path linksDir) {
+        if (linksDir == null) {
+            return;
+        }
+        try {
+            FileUtils.deleteDirectory(linksDir);
+        } catch (final IOException e) {
+            logger.warn(MERKLE_DB.getMarker(), "Cannot delete long list snapshot links {}", linksDir, e);
+        }
+    }
+
+    /**
+     * Writes all longs of the given chunk to the file channel, starting at the channel's current
+     * position. If the chunk is null, zeroes are written. This method is used to write incremental
+     * snapshots, subclasses may override it with a more efficient implementation.
+     *
+     * @param fc the file channel to write to
+     * @param chunk the chunk to write, may be null
+     * @throws IOException if there was a problem writing longs
+     */
+    protected void writeChunkData(@NonNull final FileChannel fc, @Nullable final C chunk) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(memoryChunkSize).order(ByteOrder.nativeOrder());
+        if (chunk != null) {
+            for (int i = 0; i < longsPerChunk; i++) {
+                buffer.putLong(lookupInChunk(chunk, i));
+            }
+            buffer.flip();
+        }
+        if (MerkleDbFileUtils.completelyWrite(fc, buffer) != memoryChunkSize) {
+            throw new IOException("Failed to write long list chunk to the file channel " + fc);
+        }
+    }
+
+    private void markChunkDirty(final int chunkIndex) {
+        if (dirtyChunks != null) {
+            final long mask = 1L << chunkIndex;
+            final int word = chunkIndex >>> 6;
+            // Avoid a write to the shared array, if the bit is already set
+            if ((dirtyChunks.get(word) & mask) == 0) {
+                dirtyChunks.getAndAccumulate(word, mask, (bits, m) -> bits | m);
+            }
+        }
+    }
+
+    private boolean clearChunkDirty(final int chunkIndex) {
+        assert dirtyChunks != null;
+        final long mask = 1L << chunkIndex;
+        return (dirtyChunks.getAndAccumulate(chunkIndex >>> 6, ~mask, (bits, m) -> bits & m) & mask) != 0;
     }
 
     /**
@@ -665,6 +1152,7 @@ public abstract class AbstractLongList<C> implements LongList {
             final C chunk = chunkList.get(i);
             if (chunk != null && chunkList.compareAndSet(i, chunk, null)) {
                 closeChunk(chunk);
+                markChunkDirty(i);
             }
         }
 
@@ -674,6 +1162,7 @@ public abstract class AbstractLongList<C> implements LongList {
         C chunk = chunkList.get(firstChunkWithDataIndex);
         if (chunk != null && numberOfElementsToCleanUp > 0) {
             partialChunkCleanup(chunk, true, numberOfElementsToCleanUp);
+            markChunkDirty(firstChunkWithDataIndex);
         }
 
         // clean up chunk(s) reserved for buffer
@@ -681,6 +1170,7 @@ public abstract class AbstractLongList<C> implements LongList {
             chunk = chunkList.get(i);
             if (chunk != null) {
                 partialChunkCleanup(chunk, true, longsPerChunk);
+                markChunkDirty(i);
             }
         }
     }
@@ -702,6 +1192,7 @@ public abstract class AbstractLongList<C> implements LongList {
             final C chunk = chunkList.get(i);
             if (chunk != null && chunkList.compareAndSet(i, chunk, null)) {
                 closeChunk(chunk);
+                markChunkDirty(i);
             }
         }
 
@@ -711,6 +1202,7 @@ public abstract class AbstractLongList<C> implements LongList {
         C chunk = chunkList.get(firstChunkWithDataIndex);
         if (chunk != null && numberOfEntriesToCleanUp > 0) {
             partialChunkCleanup(chunk, false, numberOfEntriesToCleanUp);
+            markChunkDirty(firstChunkWithDataIndex);
         }
 
         // clean up chunk(s) reserved for buffer
@@ -718,6 +1210,7 @@ public abstract class AbstractLongList<C> implements LongList {
             chunk = chunkList.get(i);
             if (chunk != null) {
                 partialChunkCleanup(chunk, false, longsPerChunk);
+                markChunkDirty(i);
             }
         }
     }
@@ -827,6 +1320,9 @@ public abstract class AbstractLongList<C> implements LongList {
     /** {@inheritDoc} */
     @Override
     public void close() {
+        lastSnapshot = null;
+        deleteSnapshotLinks(snapshotLinksDir);
+        snapshotLinksDir = null;
         size.set(0);
         for (int i = 0; i < chunkList.length(); i++) {
             final C chunk = chunkList.getAndSet(i, null);
@@ -857,4 +1353,36 @@ public abstract class AbstractLongList<C> implements LongList {
             throw new IllegalArgumentException(MAX_CHUNKS_EXCEEDED_MSG.formatted(MAX_NUM_CHUNKS));
         }
     }
+
+    /**
+     * A snapshot written or loaded by this list. File names are relative to {@link #snapshotLinksDir}.
+     *
+     * @param fileName the snapshot file name
+     * @param baseNames base file names of the snapshot, the oldest first, or an empty list for full snapshots
+     * @param minValidIndex min valid index in the snapshot
+     * @param size list size in the snapshot
+     */
+    private record LastSnapshot(String fileName, List<String> baseNames, long minValidIndex, long size) {}
+
+    /**
+     * Incremental snapshot header.
+     *
+     * @param minValidIndex min valid index in the snapshot
+     * @param size list size in the snapshot
+     * @param baseNames base file names, the oldest first
+     * @param chunks sorted indices of chunks stored in the snapshot file
+     */
+    private record IncrementalHeader(long minValidIndex, long size, List<String> baseNames, int[] chunks) {}
+
+    /**
+     * A file of an incremental snapshot, which is used to load chunk data.
+     *
+     * @param channel the file channel
+     * @param minValidIndex min valid index in the file
+     * @param size list size in the file
+     * @param dataOffset offset of list data in the file
+     * @param chunks sorted indices of chunks stored in the file, or null if the file is a full snapshot
+     */
+    private record SnapshotPart(
+            FileChannel channel, long minValidIndex, long size, long dataOffset, @Nullable int[] chunks) {}
 }
@@ -9,6 +9,7 @@ import com.swirlds.common.io.utility.LegacyTemporaryFileBuilder;
 import com.swirlds.config.api.Configuration;
 import com.swirlds.merkledb.utilities.MerkleDbFileUtils;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
@@ -349,6 +350,24 @@ public class LongListDisk extends AbstractLongList<Long> {
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected void writeChunkData(@NonNull final FileChannel fc, @Nullable final Long chunkOffset)
+            throws IOException {
+        final ByteBuffer transferBuffer = initOrGetTransferBuffer();
+        // fillBufferWithZeroes() takes care of buffer position and limit. The end of the last chunk
+        // may be missing in the current file, if the list was loaded from a snapshot
+        fillBufferWithZeroes(transferBuffer);
+        if (chunkOffset != null) {
+            MerkleDbFileUtils.completelyRead(currentFileChannel, transferBuffer, chunkOffset);
+            transferBuffer.position(0);
+            transferBuffer.limit(memoryChunkSize);
+        }
+        if (MerkleDbFileUtils.completelyWrite(fc, transferBuffer) != memoryChunkSize) {
+            throw new IOException("Failed to write long list chunk to the file channel " + fc);
+        }
+    }
+
     /**
      * Lookup a long in data
      *
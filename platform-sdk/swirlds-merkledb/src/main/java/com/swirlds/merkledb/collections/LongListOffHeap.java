@@ -6,14 +6,24 @@ import static java.lang.Math.toIntExact;
 import static java.util.Objects.requireNonNullElse;
 
 import com.swirlds.config.api.Configuration;
+import com.swirlds.merkledb.config.MerkleDbConfig;
 import com.swirlds.merkledb.utilities.MerkleDbFileUtils;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.OpenOption;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BooleanSupplier;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.hiero.base.utility.MemoryUtils;
@@ -30,6 +40,12 @@ import org.hiero.base.utility.MemoryUtils;
  * is a good chance that the indices in this range may be used (e.g. in case of mass deletion from
  * an instance of {@link com.swirlds.merkledb.files.MemoryIndexDiskKeyValueStore})
  *
+ * <p>If enabled in {@link MerkleDbConfig#longListMemoryMappedChunks()}, full chunks are memory-mapped
+ * from the file the list is loaded from rather than read into direct buffers. Mappings are private, so
+ * updates to mapped chunks are never written back to the file. Mapped chunks are paged in on first
+ * access, or in advance by {@link #warmUp(BooleanSupplier)}. The file must not be modified while the
+ * list is in use.
+ *
  * <p>Per the {@link LongList} contract, this class is thread-safe for both concurrent reads and
  * writes.
  */
@@ -37,6 +53,15 @@ public final class LongListOffHeap extends AbstractLongList<ByteBuffer> implemen
 
     private static final Logger logger = LogManager.getLogger(LongListOffHeap.class);
 
+    /**
+     * Chunks memory-mapped from the file the list is loaded from, or null if chunks are not mapped.
+     * Mapped chunks are not unmapped explicitly when closed, they are unmapped by GC, when no longer
+     * referenced. The set is created during the initialization, before field initializers are run,
+     * so the field must not have an initializer.
+     */
+    @Nullable
+    private Set<ByteBuffer> mappedChunks;
+
     /**
      * Create a new off-heap long list with the specified capacity. Number of longs per chunk and
      * reserved buffer size are read from the provided configuration.
@@ -104,10 +129,41 @@ public final class LongListOffHeap extends AbstractLongList<ByteBuffer> implemen
         super(path, longsPerChunk, capacity, reservedBufferSize, configuration);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected OpenOption[] loadFileOpenOptions(@NonNull final Configuration configuration) {
+        if (configuration.getConfigData(MerkleDbConfig.class).longListMemoryMappedChunks()) {
+            // Private mappings require files to be opened for writing. Nothing is written to the files
+            return new OpenOption[] {StandardOpenOption.READ, StandardOpenOption.WRITE};
+        }
+        return super.loadFileOpenOptions(configuration);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void readBodyFromFileChannelOnInit(
+            final String sourceFileName, final FileChannel fileChannel, final Configuration configuration)
+            throws IOException {
+        if (configuration.getConfigData(MerkleDbConfig.class).longListMemoryMappedChunks()) {
+            mappedChunks = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+        }
+        super.readBodyFromFileChannelOnInit(sourceFileName, fileChannel, configuration);
+    }
+
     /** {@inheritDoc} */
     @Override
     protected ByteBuffer readChunkData(FileChannel fileChannel, int chunkIndex, int startIndex, int endIndex)
             throws IOException {
+        if ((mappedChunks != null) && (startIndex == 0) && (endIndex == longsPerChunk)) {
+            // Only full chunks are mapped. The first and the last chunks may contain data outside
+            // the valid range in the file, they are read into direct buffers
+            final long position = fileChannel.position();
+            final MappedByteBuffer chunk = fileChannel.map(MapMode.PRIVATE, position, memoryChunkSize);
+            chunk.order(ByteOrder.nativeOrder());
+            fileChannel.position(position + memoryChunkSize);
+            mappedChunks.add(chunk);
+            return chunk;
+        }
         final ByteBuffer chunk = createChunk();
         readDataIntoBuffer(fileChannel, chunkIndex, startIndex, endIndex, chunk);
         // All chunks (byte buffers) in LongListOffHeap are stored with position == 0 and
@@ -120,7 +176,35 @@ public final class LongListOffHeap extends AbstractLongList<ByteBuffer> implemen
     /** {@inheritDoc} */
     @Override
     protected void closeChunk(@NonNull final ByteBuffer directBuffer) {
-        MemoryUtils.closeDirectByteBuffer(directBuffer);
+        // Mapped chunks may still be accessed by concurrent readers or by warming up, unmapping
+        // them explicitly would not be safe
+        if ((mappedChunks == null) || !mappedChunks.remove(directBuffer)) {
+            MemoryUtils.closeDirectByteBuffer(directBuffer);
+        }
+    }
+
+    /**
+     * Loads the contents of all chunks memory-mapped from the file into physical memory, so later
+     * reads from these chunks don't have to wait for disk. This method may take a long time and is
+     * expected to be called on a background thread. It is safe to read and update the list while
+     * the chunks are being loaded. If no chunks are mapped, this method does nothing.
+     *
+     * @param whileCondition if not null, loading is stopped as soon as the condition is false
+     */
+    public void warmUp(@Nullable final BooleanSupplier whileCondition) {
+        if (mappedChunks == null) {
+            return;
+        }
+        final ByteBuffer[] chunks;
+        synchronized (mappedChunks) {
+            chunks = mappedChunks.toArray(new ByteBuffer[0]);
+        }
+        for (final ByteBuffer chunk : chunks) {
+            if ((whileCondition != null) && !whileCondition.getAsBoolean()) {
+                return;
+            }
+            ((MappedByteBuffer) chunk).load();
+        }
     }
 
     /** {@inheritDoc} */
@@ -189,6 +273,20 @@ public final class LongListOffHeap extends AbstractLongList<ByteBuffer> implemen
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected void writeChunkData(@NonNull final FileChannel fc, @Nullable final ByteBuffer chunk) throws IOException {
+        if (chunk == null) {
+            super.writeChunkData(fc, null);
+            return;
+        }
+        // Slice so we don't mess with the byte buffer pointers
+        final ByteBuffer buf = chunk.slice(0, memoryChunkSize);
+        if (MerkleDbFileUtils.completelyWrite(fc, buf) != memoryChunkSize) {
+            throw new IOException("Failed to write long list chunk to the file channel " + fc);
+        }
+    }
+
     /**
      * Lookup a long in a data chunk.
      *
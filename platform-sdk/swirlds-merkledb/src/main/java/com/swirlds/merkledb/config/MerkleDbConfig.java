@@ -11,6 +11,7 @@ import com.swirlds.config.api.validation.annotation.ConstraintMethod;
 import com.swirlds.config.api.validation.annotation.Min;
 import com.swirlds.config.api.validation.annotation.Positive;
 import com.swirlds.config.extensions.validators.DefaultConfigViolation;
+import com.swirlds.merkledb.cache.LeafRecordCacheType;
 
 /**
  * Instance-wide config for {@code MerkleDbDataSource}.
@@ -32,9 +33,29 @@ import com.swirlds.config.extensions.validators.DefaultConfigViolation;
  *      Number of longs to store in a single chunk in long lists (heap, off-heap, disk).
  * @param longListReservedBufferSize
  *      Length of a reserved buffer in long lists. Value in bytes.
+ * @param longListMaxIncrementalSnapshots
+ *      Max number of consecutive incremental long list snapshots, which only contain chunks changed since
+ *      the previous snapshot and reference unchanged chunks in earlier snapshot files, before a full
+ *      snapshot is written again. If zero, incremental snapshots are disabled. Incremental snapshots
+ *      can only be loaded with the same longListChunkSize as they were written with.
+ * @param longListMemoryMappedChunks
+ *      Indicates whether full chunks of off-heap long lists should be memory-mapped from snapshot files on
+ *      startup rather than read into direct buffers. Mapped chunks are paged in on first access or in the
+ *      background, which reduces the time to load a data source. Snapshot files must not be modified while
+ *      the lists loaded from them are in use.
  * @param minNumberOfFilesInCompaction
  * 	    The minimum number of files before we do a compaction. If there are less than this number then it is
  * 	    acceptable to not do a compaction.
+ * @param compactionGarbageRatioThreshold
+ *      If there are not enough files to compact by compaction levels, files with at least this estimated
+ *      ratio of obsolete data items are compacted. If zero (the default) or above 1.0, garbage based
+ *      compactions are disabled. To enable them, set a ratio in (0, 1], for example 0.5.
+ * @param compactionMaxBytesPerTask
+ *      Max total size of files compacted in a single compaction task, in bytes. Files that don't fit are
+ *      compacted by subsequent tasks. If zero, compaction tasks are not limited by size.
+ * @param compactionMaxBytesPerSecond
+ *      Max rate of data copied by all compaction tasks, in bytes per second. If zero, compactions are not
+ *      throttled.
  * @param iteratorInputBufferBytes
  *      Size of buffer used by data file iterators, in bytes.
  * @param reconnectKeyLeakMitigationEnabled
@@ -50,6 +71,14 @@ import com.swirlds.config.extensions.validators.DefaultConfigViolation;
  *      Target average number of entries in HalfDiskHashMap buckets. This number is used to calculate the number
  *      of buckets to allocate based on projected virtual map size, and also to check if it's time to double the
  *      number of HalfDiskHashMap buckets.
+ * @param bucketKeyFiltersEnabled
+ *      Indicates whether HalfDiskHashMap should keep a small in-memory key filter per bucket. Filters are
+ *      checked before buckets are read from disk, so most lookups for keys that don't exist in the map don't
+ *      result in disk reads. Filters take 8 bytes of RAM (or disk, if disk based indices are used) per bucket.
+ *      The fraction of lookups for missing keys that still read a bucket from disk depends on the bucket size:
+ *      about 40% with the default {@code goodAverageBucketEntryCount} of 32, about 16% with 16, and about 5%
+ *      with 8. To make filters effective, lower {@code goodAverageBucketEntryCount} too, which increases the
+ *      number of buckets and the bucket index size.
  * @param tablesToRepairHdhm
  *      Comma-delimited list of data source names, may be empty. When a MerkleDb data source with a name from the
  *      list is loaded from a snapshot, its key to path map will be rebuilt from path to KV data files. Note that
@@ -62,11 +91,38 @@ import com.swirlds.config.extensions.validators.DefaultConfigViolation;
  *      threads to use is calculated based on {@link #percentHalfDiskHashMapFlushThreads}
  * @param leafRecordCacheSize
  *      Cache size in bytes for reading virtual leaf records. Initialized in data source creation time from MerkleDb config.
- *      If the value is zero, leaf records cache isn't used.
+ *      If the value is zero, leaf records cache isn't used. Only used by {@link LeafRecordCacheType#DIRECT_MAPPED}
+ *      caches.
+ * @param leafRecordCacheType
+ *      Leaf records cache implementation, see {@link LeafRecordCacheType}.
+ * @param leafRecordCacheMaxBytes
+ *      Default leaf records cache size in bytes, per data source. Only used by {@link LeafRecordCacheType#TINY_LFU}
+ *      caches. If the value is zero, leaf records cache isn't used.
+ * @param leafRecordCacheTableBudgets
+ *      Comma-delimited list of "table:bytes" pairs, may be empty. Overrides {@link #leafRecordCacheMaxBytes} for
+ *      the listed data sources. Only used by {@link LeafRecordCacheType#TINY_LFU} caches. Bytes must be a
+ *      non-negative number, otherwise the config is rejected.
  * @param maxFileChannelsPerFileReader
  *     Maximum number of file channels per file reader.
  * @param maxThreadsPerFileChannel
  *    Maximum number of threads per file channel.
+ * @param asyncReadThreads
+ *    Number of threads to complete asynchronous leaf reads, per MerkleDb data source. Threads are
+ *    only started when leaves are read asynchronously, and stopped when the data source is closed.
+ * @param memoryMappedHashStore
+ *    If true, completed internal node hash store files are memory mapped for reads.
+ * @param memoryMappedLeafStore
+ *    If true, completed leaf store (path to key/value) files are memory mapped for reads.
+ * @param memoryMappedKeyToPathStore
+ *    If true, completed key to path store (HDHM bucket) files are memory mapped for reads.
+ * @param compressedBlockSize
+ *    Target uncompressed size of data item blocks in compressed data files, in bytes. Larger blocks
+ *    compress better, but every random read has to decompress a whole block. Compression is
+ *    enabled per table, see {@link com.swirlds.merkledb.MerkleDbTableConfig}.
+ * @param hashCacheMaxBytes
+ *    Size of the cache for internal node hashes read from the disk hash store, in bytes, per data
+ *    source. Recently read hashes are kept in RAM regardless of their paths. If less than a single
+ *    cache chunk size, hashes read from disk aren't cached.
  */
 @ConfigData("merkleDb")
 public record MerkleDbConfig(
@@ -76,21 +132,37 @@ public record MerkleDbConfig(
         @ConfigProperty(defaultValue = "true") boolean hashStoreRamOffHeapBuffers,
         @Positive @ConfigProperty(defaultValue = "" + MEBIBYTES_TO_BYTES) int longListChunkSize,
         @Positive @ConfigProperty(defaultValue = "" + MEBIBYTES_TO_BYTES / 4) int longListReservedBufferSize,
+        @Min(0) @ConfigProperty(defaultValue = "0") int longListMaxIncrementalSnapshots,
+        @ConfigProperty(defaultValue = "false") boolean longListMemoryMappedChunks,
         @Min(1) @ConfigProperty(defaultValue = "3") int compactionThreads,
         @ConstraintMethod("minNumberOfFilesInCompactionValidation") @ConfigProperty(defaultValue = "8")
                 int minNumberOfFilesInCompaction,
         @Min(3) @ConfigProperty(defaultValue = "5") int maxCompactionLevel,
+        @ConfigProperty(defaultValue = "0") double compactionGarbageRatioThreshold,
+        @Min(0) @ConfigProperty(defaultValue = "0") long compactionMaxBytesPerTask,
+        @Min(0) @ConfigProperty(defaultValue = "0") long compactionMaxBytesPerSecond,
         /* FUTURE WORK - https://github.com/hashgraph/hedera-services/issues/5178 */
         @Positive @ConfigProperty(defaultValue = "16777216") int iteratorInputBufferBytes,
         @ConfigProperty(defaultValue = "false") boolean reconnectKeyLeakMitigationEnabled,
         @ConfigProperty(defaultValue = "false") boolean indexRebuildingEnforced,
         @ConfigProperty(defaultValue = "32") int goodAverageBucketEntryCount,
+        @ConfigProperty(defaultValue = "false") boolean bucketKeyFiltersEnabled,
         @ConfigProperty(defaultValue = "") String tablesToRepairHdhm,
         @ConfigProperty(defaultValue = "75.0") double percentHalfDiskHashMapFlushThreads,
         @ConfigProperty(defaultValue = "-1") int numHalfDiskHashMapFlushThreads,
         @ConfigProperty(defaultValue = "1048576") int leafRecordCacheSize,
+        @ConfigProperty(defaultValue = "DIRECT_MAPPED") LeafRecordCacheType leafRecordCacheType,
+        @Min(0) @ConfigProperty(defaultValue = "" + 64 * MEBIBYTES_TO_BYTES) long leafRecordCacheMaxBytes,
+        @ConstraintMethod("leafRecordCacheTableBudgetsValidation") @ConfigProperty(defaultValue = "")
+                String leafRecordCacheTableBudgets,
         @Min(1) @ConfigProperty(defaultValue = "8") int maxFileChannelsPerFileReader,
-        @Min(1) @ConfigProperty(defaultValue = "8") int maxThreadsPerFileChannel) {
+        @Min(1) @ConfigProperty(defaultValue = "8") int maxThreadsPerFileChannel,
+        @Min(1) @ConfigProperty(defaultValue = "16") int asyncReadThreads,
+        @ConfigProperty(defaultValue = "false") boolean memoryMappedHashStore,
+        @ConfigProperty(defaultValue = "false") boolean memoryMappedLeafStore,
+        @ConfigProperty(defaultValue = "false") boolean memoryMappedKeyToPathStore,
+        @Positive @ConfigProperty(defaultValue = "65536") int compressedBlockSize,
+        @Min(0) @ConfigProperty(defaultValue = "0") long hashCacheMaxBytes) {
 
     static double UNIT_FRACTION_PERCENT = 100.0;
 
@@ -108,6 +180,36 @@ public record MerkleDbConfig(
         return null;
     }
 
+    public ConfigViolation leafRecordCacheTableBudgetsValidation(final Configuration configuration) {
+        final String budgets = configuration.getConfigData(MerkleDbConfig.class).leafRecordCacheTableBudgets();
+        if (budgets == null) {
+            return null;
+        }
+        for (final String budget : budgets.split(",")) {
+            if (budget.isBlank()) {
+                continue;
+            }
+            final String[] pair = budget.trim().split(":");
+            boolean valid = (pair.length == 2) && !pair[0].isBlank();
+            if (valid) {
+                try {
+                    valid = Long.parseLong(pair[1].trim()) >= 0;
+                } catch (final NumberFormatException e) {
+                    valid = false;
+                }
+            }
+            if (!valid) {
+                return new DefaultConfigViolation(
+                        "leafRecordCacheTableBudgets",
+                        budgets,
+                        true,
+                        "Cannot configure leaf record cache table budget \"" + budget.trim()
+                                + "\", it must be \"table:bytes\" with non-negative bytes");
+            }
+        }
+        return null;
+    }
+
     public int getNumHalfDiskHashMapFlushThreads() {
         final int numProcessors = Runtime.getRuntime().availableProcessors();
         final int threads = (numHalfDiskHashMapFlushThreads() == -1)
@@ -0,0 +1,103 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.merkledb.files;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * A token bucket to limit the rate of data copied by compaction tasks. The bucket is refilled
+ * at a fixed number of bytes per second and holds up to one second worth of bytes, so short
+ * bursts are allowed. The limiter is shared by all compaction tasks, which prevents compactions
+ * from taking all disk bandwidth from flushes.
+ *
+ * <p>Data items are copied under the snapshot / compaction lock, and their sizes are only known
+ * after they are read. To never wait while holding the lock, bytes are acquired after they are
+ * copied. The bucket may go into debt, and the next call to {@link #acquire(long, BooleanSupplier)}
+ * waits until the debt is paid off.
+ *
+ * <p>This class is thread safe.
+ */
+final class CompactionRateLimiter {
+
+    /** Max time to park the thread at once, so compaction interruptions are handled promptly */
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final long bytesPerSecond;
+
+    private final LongSupplier nanoClock;
+
+    /** Available bytes in the bucket, may be negative. Synchronized on this */
+    private long availableBytes;
+
+    /** The last time the bucket was refilled. Synchronized on this */
+    private long lastRefillNanos;
+
+    /**
+     * Creates a new rate limiter.
+     *
+     * @param bytesPerSecond the max rate, in bytes per second
+     */
+    CompactionRateLimiter(final long bytesPerSecond) {
+        this(bytesPerSecond, System::nanoTime);
+    }
+
+    /**
+     * Creates a new rate limiter with a custom clock. Used in tests.
+     *
+     * @param bytesPerSecond the max rate, in bytes per second
+     * @param nanoClock the clock, in nanoseconds
+     */
+    CompactionRateLimiter(final long bytesPerSecond, final LongSupplier nanoClock) {
+        if (bytesPerSecond <= 0) {
+            throw new IllegalArgumentException("Rate must be positive: " + bytesPerSecond);
+        }
+        this.bytesPerSecond = bytesPerSecond;
+        this.nanoClock = nanoClock;
+        availableBytes = bytesPerSecond;
+        lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Takes the given number of bytes from the bucket. If the bucket is in debt after that, waits
+     * until the debt is paid off, or the while condition is false, or the current thread is
+     * interrupted. The interrupted status of the thread is preserved.
+     *
+     * @param bytes the number of bytes to acquire
+     * @param whileCondition the condition to keep waiting
+     */
+    void acquire(final long bytes, final BooleanSupplier whileCondition) {
+        long waitNanos = reserve(bytes);
+        if (waitNanos <= 0) {
+            return;
+        }
+        final long deadline = nanoClock.getAsLong() + waitNanos;
+        while ((waitNanos > 0) && whileCondition.getAsBoolean() && !Thread.currentThread().isInterrupted()) {
+            LockSupport.parkNanos(Math.min(waitNanos, MAX_PARK_NANOS));
+            waitNanos = deadline - nanoClock.getAsLong();
+        }
+    }
+
+    /**
+     * Takes the given number of bytes from the bucket.
+     *
+     * @param bytes the number of bytes to take
+     * @return time to wait until the bucket is not in debt, in nanoseconds
+     */
+    synchronized long reserve(final long bytes) {
+        final long now = nanoClock.getAsLong();
+        final long elapsedNanos = now - lastRefillNanos;
+        final long refill = (long) ((double) elapsedNanos * bytesPerSecond / TimeUnit.SECONDS.toNanos(1));
+        // If the refill is less than a byte, keep the last refill time, so slow rates still work
+        if (refill > 0) {
+            availableBytes = Math.min(bytesPerSecond, availableBytes + refill);
+            lastRefillNanos = now;
+        }
+        availableBytes -= bytes;
+        if (availableBytes >= 0) {
+            return 0;
+        }
+        return (long) ((double) -availableBytes * TimeUnit.SECONDS.toNanos(1) / bytesPerSecond);
+    }
+}
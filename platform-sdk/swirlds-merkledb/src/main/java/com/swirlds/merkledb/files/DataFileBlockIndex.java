@@ -0,0 +1,165 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.merkledb.files;
+
+import com.hedera.pbj.runtime.ProtoWriterTools;
+import com.hedera.pbj.runtime.io.ReadableSequentialData;
+import com.hedera.pbj.runtime.io.WritableSequentialData;
+import java.util.Arrays;
+
+/**
+ * Block index of a compressed data file. In compressed files, data item offsets are not offsets
+ * in the file, but offsets in the uncompressed stream of all data items in the file. For every
+ * compressed block, this index stores the offset of its first byte in the uncompressed stream,
+ * the block offset in the file, and compressed and uncompressed block sizes. It allows to find
+ * and decompress the block that contains a data item, given the data item offset.
+ *
+ * <p>Blocks are only added to the index by a single {@link DataFileWriter}, but the index can be
+ * read concurrently by any number of threads, while the file is still being written.
+ *
+ * <p>In the file, the index is stored as a {@link DataFileCommon#FIELD_DATAFILE_BLOCK_INDEX} field.
+ * Its content is a sequence of unsigned varints, four per block: uncompressed offset, offset in
+ * the file, compressed size, and uncompressed size.
+ */
+final class DataFileBlockIndex {
+
+    /** Number of longs per block in {@link #blocks} */
+    private static final int STRIDE = 4;
+
+    /**
+     * Block data, {@link #STRIDE} longs per block: uncompressed offset, offset in the file,
+     * compressed size, uncompressed size. The array is replaced when it's full
+     */
+    private volatile long[] blocks;
+
+    /** Number of blocks in the index. Updated after block data is written to {@link #blocks} */
+    private volatile int blockCount = 0;
+
+    /** Creates a new empty block index. */
+    DataFileBlockIndex() {
+        blocks = new long[STRIDE * 16];
+    }
+
+    /**
+     * Reads a block index from the given input. All remaining bytes are read.
+     *
+     * @param in the input to read from
+     */
+    DataFileBlockIndex(final ReadableSequentialData in) {
+        this();
+        while (in.hasRemaining()) {
+            final long uncompressedOffset = in.readVarLong(false);
+            final long fileOffset = in.readVarLong(false);
+            final int compressedSize = in.readVarInt(false);
+            final int uncompressedSize = in.readVarInt(false);
+            addBlock(uncompressedOffset, fileOffset, compressedSize, uncompressedSize);
+        }
+    }
+
+    /**
+     * Adds a block to the index. Blocks must be added in the order of their uncompressed offsets.
+     * This method must not be called from multiple threads concurrently.
+     *
+     * @param uncompressedOffset the offset of the first block byte in the uncompressed stream
+     * @param fileOffset the offset of the block in the file
+     * @param compressedSize compressed block size, including block header, in bytes
+     * @param uncompressedSize uncompressed block size, in bytes
+     */
+    void addBlock(
+            final long uncompressedOffset,
+            final long fileOffset,
+            final int compressedSize,
+            final int uncompressedSize) {
+        final int count = blockCount;
+        long[] data = blocks;
+        if ((count + 1) * STRIDE > data.length) {
+            data = Arrays.copyOf(data, data.length * 2);
+            blocks = data;
+        }
+        final int pos = count * STRIDE;
+        data[pos] = uncompressedOffset;
+        data[pos + 1] = fileOffset;
+        data[pos + 2] = compressedSize;
+        data[pos + 3] = uncompressedSize;
+        // Publish the block
+        blockCount = count + 1;
+    }
+
+    /**
+     * Returns the number of blocks in the index.
+     */
+    int getBlockCount() {
+        return blockCount;
+    }
+
+    /**
+     * Finds a block that contains the given offset in the uncompressed stream.
+     *
+     * @param uncompressedOffset the offset in the uncompressed stream
+     * @return block number, or -1 if no block in the index contains the offset
+     */
+    int findBlock(final long uncompressedOffset) {
+        // Read the count first, the array is at least as recent as the count
+        final int count = blockCount;
+        final long[] data = blocks;
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final long blockStart = data[mid * STRIDE];
+            if (uncompressedOffset < blockStart) {
+                high = mid - 1;
+            } else if (uncompressedOffset >= blockStart + data[mid * STRIDE + 3]) {
+                low = mid + 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /** Returns the offset of the first byte of the given block in the uncompressed stream. */
+    long getUncompressedOffset(final int block) {
+        return blocks[block * STRIDE];
+    }
+
+    /** Returns the offset of the given block in the file. */
+    long getFileOffset(final int block) {
+        return blocks[block * STRIDE + 1];
+    }
+
+    /** Returns the size of the given block in the file, including block header. */
+    int getCompressedSize(final int block) {
+        return (int) blocks[block * STRIDE + 2];
+    }
+
+    /** Returns uncompressed size of the given block. */
+    int getUncompressedSize(final int block) {
+        return (int) blocks[block * STRIDE + 3];
+    }
+
+    /**
+     * Returns the size of this index in bytes, when written using {@link #writeTo}.
+     */
+    int sizeInBytes() {
+        final int count = blockCount;
+        final long[] data = blocks;
+        int size = 0;
+        for (int i = 0; i < count * STRIDE; i++) {
+            size += ProtoWriterTools.sizeOfUnsignedVarInt64(data[i]);
+        }
+        return size;
+    }
+
+    /**
+     * Writes this index to the given output.
+     *
+     * @param out the output to write to
+     */
+    void writeTo(final WritableSequentialData out) {
+        final int count = blockCount;
+        final long[] data = blocks;
+        for (int i = 0; i < count * STRIDE; i++) {
+            out.writeVarLong(data[i], false);
+        }
+    }
+}
@@ -30,10 +30,12 @@ import com.swirlds.merkledb.config.MerkleDbConfig;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.nio.channels.ClosedChannelException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -41,9 +43,12 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.LongSummaryStatistics;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -98,6 +103,12 @@ public class DataFileCollection implements FileStatisticAware, Snapshotable {
 
     private final MerkleDbConfig dbConfig;
 
+    /** Indicates whether completed data files are memory mapped for reads */
+    private final boolean memoryMappedReads;
+
+    /** Data items compression in new data files. Existing files may use a different compression */
+    private final DataFileCompression compression;
+
     /** The directory to store data files */
     private final Path storeDir;
     /**
@@ -155,6 +166,12 @@ public class DataFileCollection implements FileStatisticAware, Snapshotable {
     private final ConcurrentSkipListSet<Integer> setOfNewFileIndexes =
             logger.isTraceEnabled() ? new ConcurrentSkipListSet<>() : null;
 
+    /** Total size of data items written to this collection during flushes, in bytes */
+    private final LongAdder flushedBytes = new LongAdder();
+
+    /** Total size of data items written to this collection during compactions, in bytes */
+    private final LongAdder compactedBytes = new LongAdder();
+
     /**
      * Construct a new DataFileCollection.
      *
@@ -178,6 +195,8 @@ public class DataFileCollection implements FileStatisticAware, Snapshotable {
                 storeName,
                 null,
                 loadedDataCallback,
+                false,
+                DataFileCompression.NONE,
                 l -> new ImmutableIndexedObjectListUsingArray<>(DataFileReader[]::new, l));
     }
 
@@ -204,12 +223,83 @@ public class DataFileCollection implements FileStatisticAware, Snapshotable {
             final String legacyStoreName,
             final LoadedDataCallback loadedDataCallback)
             throws IOException {
+        this(dbConfig, storeDir, storeName, legacyStoreName, loadedDataCallback, false);
+    }
+
+    /**
+     * Construct a new DataFileCollection with a custom legacy store name, optionally with memory
+     * mapped reads. If enabled, completed data files are mapped into memory, and data items are
+     * read from them as zero-copy slices rather than using file channel reads. Completed files are
+     * immutable, until they are compacted and deleted.
+     *
+     * @param dbConfig MerkleDb dbConfig
+     * @param storeDir The directory to store data files
+     * @param storeName Base name for the data files, allowing more than one DataFileCollection to
+     *     share a directory
+     * @param legacyStoreName Base name for the data files. If not null, data files with this prefix
+     *     are processed by this file collection at startup same way as files prefixed with
+     *     storeName
+     * @param loadedDataCallback Callback for rebuilding indexes from existing files, can be null if
+     *     not needed. Using this is expensive as it requires all files to be read and parsed.
+     * @param memoryMappedReads Whether completed data files should be memory mapped for reads
+     * @throws IOException If there was a problem creating new data set or opening existing one
+     */
+    public DataFileCollection(
+            final MerkleDbConfig dbConfig,
+            final Path storeDir,
+            final String storeName,
+            final String legacyStoreName,
+            final LoadedDataCallback loadedDataCallback,
+            final boolean memoryMappedReads)
+            throws IOException {
+        this(
+                dbConfig,
+                storeDir,
+                storeName,
+                legacyStoreName,
+                loadedDataCallback,
+                memoryMappedReads,
+                DataFileCompression.NONE);
+    }
+
+    /**
+     * Construct a new DataFileCollection with a custom legacy store name, optionally with memory
+     * mapped reads and compression. If compression is enabled, all new data files, including
+     * files created during compaction, are compressed. Existing files are read using their own
+     * compression type, so uncompressed files are gradually converted to compressed files by
+     * compaction, and vice versa.
+     *
+     * @param dbConfig MerkleDb dbConfig
+     * @param storeDir The directory to store data files
+     * @param storeName Base name for the data files, allowing more than one DataFileCollection to
+     *     share a directory
+     * @param legacyStoreName Base name for the data files. If not null, data files with this prefix
+     *     are processed by this file collection at startup same way as files prefixed with
+     *     storeName
+     * @param loadedDataCallback Callback for rebuilding indexes from existing files, can be null if
+     *     not needed. Using this is expensive as it requires all files to be read and parsed.
+     * @param memoryMappedReads Whether completed data files should be memory mapped for reads.
+     *     Compressed files are never memory mapped
+     * @param compression Data items compression in new data files
+     * @throws IOException If there was a problem creating new data set or opening existing one
+     */
+    public DataFileCollection(
+            final MerkleDbConfig dbConfig,
+            final Path storeDir,
+            final String storeName,
+            final String legacyStoreName,
+            final LoadedDataCallback loadedDataCallback,
+            final boolean memoryMappedReads,
+            final DataFileCompression compression)
+            throws IOException {
         this(
                 dbConfig,
                 storeDir,
                 storeName,
                 legacyStoreName,
                 loadedDataCallback,
+                memoryMappedReads,
+                compression,
                 l -> new ImmutableIndexedObjectListUsingArray<>(DataFileReader[]::new, l));
     }
 
@@ -228,6 +318,8 @@ public class DataFileCollection implements FileStatisticAware, Snapshotable {
      *     storeName
      * @param loadedDataCallback Callback for rebuilding indexes from existing files, can be null if
      *     not needed. Using this is expensive as it requires all files to be read and parsed.
+     * @param memoryMappedReads Whether completed data files should be memory mapped for reads
+     * @param compression Data items compression in new data files
      * @param indexedObjectListConstructor Constructor for creating ImmutableIndexedObjectList
      *     instances.
      * @throws IOException If there was a problem creating new data set or opening existing one
@@ -238,10 +330,14 @@ public class DataFileCollection implements FileStatisticAware, Snapshotable {
             final String storeName,
             final String legacyStoreName,
             final LoadedDataCallback loadedDataCallback,
+            final boolean memoryMappedReads,
+            final DataFileCompression compression,
             final Function<List<DataFileReader>, ImmutableIndexedObjectList<DataFileReader>>
                     indexedObjectListConstructor)
             throws IOException {
         this.dbConfig = dbConfig;
+        this.memoryMappedReads = memoryMappedReads;
+        this.compression = compression;
         this.storeDir = storeDir;
         this.storeName = storeName;
         this.legacyStoreName = legacyStoreName;
@@ -314,6 +410,32 @@ public class DataFileCollection implements FileStatisticAware, Snapshotable {
                         .summaryStatistics();
     }
 
+    /**
+     * Get an estimated total size of obsolete data items in all fully written files. This is how
+     * much disk space compactions can reclaim.
+     *
+     * @return estimated garbage size, in bytes
+     */
+    public long getEstimatedGarbageSize() {
+        return getAllCompletedFiles().stream()
+                .mapToLong(DataFileReader::getEstimatedGarbageSize)
+                .sum();
+    }
+
+    /**
+     * Get the write amplification of this collection since it was created: the ratio of all bytes
+     * written during flushes and compactions to the bytes written during flushes.
+     *
+     * @return write amplification, or 0.0 if nothing has been flushed yet
+     */
+    public double getWriteAmplification() {
+        final long flushed = flushedBytes.sum();
+        if (flushed == 0) {
+            return 0.0;
+        }
+        return (double) (flushed + compactedBytes.sum()) / flushed;
+    }
+
     /** Close all the data files */
     public void close() throws IOException {
         // finish writing if we still are
@@ -344,8 +466,7 @@ public class DataFileCollection implements FileStatisticAware, Snapshotable {
         }
         final DataFileWriter writer = newDataFile(Instant.now(), INITIAL_COMPACTION_LEVEL);
         currentDataFileWriter.set(writer);
-        final DataFileMetadata metadata = writer.getMetadata();
-        final DataFileReader reader = addNewDataFileReader(writer.getPath(), metadata);
+        final DataFileReader reader = addNewDataFileReader(writer);
         currentDataFileReader.set(reader);
     }
 
@@ -362,7 +483,10 @@ public class DataFileCollection implements FileStatisticAware, Snapshotable {
         if (currentDataFileForWriting == null) {
             throw new IOException("Tried to put data " + dataItem + " when we never started writing.");
         }
-        return currentDataFileForWriting.storeDataItem(dataItem);
+        final long dataItemSize = dataItem.remaining();
+        final long dataLocation = currentDataFileForWriting.storeDataItem(dataItem);
+        countFlushedItem(dataItemSize);
+        return dataLocation;
     }
 
     /**
@@ -379,7 +503,49 @@ public class DataFileCollection implements FileStatisticAware, Snapshotable {
         if (currentDataFileForWriting == null) {
             throw new IOException("Tried to put data " + dataItemWriter + " when we never started writing.");
         }
-        return currentDataFileForWriting.storeDataItem(dataItemWriter, dataItemSize);
+        final long dataLocation = currentDataFileForWriting.storeDataItem(dataItemWriter, dataItemSize);
+        countFlushedItem(dataItemSize);
+        return dataLocation;
+    }
+
+    private void countFlushedItem(final long dataItemSize) {
+        flushedBytes.add(dataItemSize);
+        final DataFileReader currentReader = currentDataFileReader.get();
+        if (currentReader != null) {
+            currentReader.countWrittenItem();
+        }
+    }
+
+    /**
+     * Updates compaction stats with a data item copied to a new file during compaction.
+     *
+     * @param dataItemSize the data item size, in bytes
+     */
+    void countCompactedItem(final long dataItemSize) {
+        compactedBytes.add(dataItemSize);
+    }
+
+    /**
+     * Marks a data item at the given location as obsolete. This method should be called when an
+     * index entry that points to the data item is updated or removed, it is used to estimate how
+     * much garbage every data file contains. If the location is empty, or the corresponding file
+     * has already been compacted and deleted, this method is no-op.
+     *
+     * @param dataLocation the data item location
+     */
+    public void markItemObsolete(final long dataLocation) {
+        if (dataLocation == DataFileCommon.NON_EXISTENT_DATA_LOCATION) {
+            return;
+        }
+        final ImmutableIndexedObjectList<DataFileReader> currentIndexedFileList = dataFiles.get();
+        final int fileIndex = fileIndexFromDataLocation(dataLocation);
+        if ((currentIndexedFileList == null) || (fileIndex < 0)) {
+            return;
+        }
+        final DataFileReader file = currentIndexedFileList.get(fileIndex);
+        if (file != null) {
+            file.countObsoleteItem();
+        }
     }
 
     /**
@@ -560,6 +726,64 @@ public class DataFileCollection implements FileStatisticAware, Snapshotable {
         throw new IOException("Read failed after 5 retries");
     }
 
+    /**
+     * Read data items for the given keys asynchronously, using a LongList that maps
+     * key-&gt;dataLocation. Reads are issued immediately for all keys, whether they are in the
+     * same or different files, see {@link DataFileReader#readDataItems(long[], ExecutorService)}
+     * for details.
+     *
+     * <p>If an asynchronous read fails, for example, because the file was closed by compaction
+     * while the read was in progress, the key is read again using {@link
+     * #readDataItemUsingIndex(LongList, long)}, which checks the index again and retries.
+     *
+     * @param index key-&gt;dataLocation index
+     * @param keysIntoIndex The keys to lookup in index
+     * @param executor executor to complete reads on, owned by the caller
+     * @return futures of data items, in the same order as keys. A future is completed with null,
+     *     if the key is not found in the index
+     */
+    public List<CompletableFuture<BufferedData>> readDataItemsUsingIndex(
+            final LongList index, final long[] keysIntoIndex, @NonNull final ExecutorService executor) {
+        final List<CompletableFuture<BufferedData>> result = new ArrayList<>(keysIntoIndex.length);
+        for (final long keyIntoIndex : keysIntoIndex) {
+            result.add(readDataItemUsingIndexAsync(index, keyIntoIndex, executor));
+        }
+        return result;
+    }
+
+    private CompletableFuture<BufferedData> readDataItemUsingIndexAsync(
+            final LongList index, final long keyIntoIndex, final ExecutorService executor) {
+        final long dataLocation = index.get(keyIntoIndex, LongList.IMPERMISSIBLE_VALUE);
+        if (dataLocation == LongList.IMPERMISSIBLE_VALUE) {
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<BufferedData> read;
+        try {
+            final DataFileReader file = readerForDataLocation(dataLocation);
+            read = (file != null)
+                    ? file.readDataItemAsync(dataLocation, executor)
+                    : CompletableFuture.completedFuture(null);
+        } catch (final IOException e) {
+            read = CompletableFuture.failedFuture(e);
+        }
+        return read.handle((data, e) -> {
+                    if (data != null) {
+                        return CompletableFuture.completedFuture(data);
+                    }
+                    // The file was closed or the read failed. Fall back to synchronous reads with retries
+                    return CompletableFuture.supplyAsync(
+                            () -> {
+                                try {
+                                    return readDataItemUsingIndex(index, keyIntoIndex);
+                                } catch (final IOException ex) {
+                                    throw new UncheckedIOException(ex);
+                                }
+                            },
+                            executor);
+                })
+                .thenCompose(Function.identity());
+    }
+
     /** {@inheritDoc} */
     @Override
     public void snapshot(final Path snapshotDirectory) throws IOException {
@@ -619,7 +843,27 @@ public class DataFileCollection implements FileStatisticAware, Snapshotable {
      * @return The newly added DataFileReader.
      */
     DataFileReader addNewDataFileReader(final Path filePath, final DataFileMetadata metadata) throws IOException {
-        final DataFileReader newDataFileReader = new DataFileReader(dbConfig, filePath, metadata);
+        return addNewDataFileReader(filePath, metadata, null);
+    }
+
+    /**
+     * Create and add a new data file reader to end of indexedFileList for a file, which is being
+     * written by the given writer. If the file is compressed, the reader uses the writer to read
+     * data items that are not written to the file yet.
+     *
+     * @param writer the writer of the new data file
+     * @return The newly added DataFileReader.
+     */
+    DataFileReader addNewDataFileReader(final DataFileWriter writer) throws IOException {
+        return addNewDataFileReader(writer.getPath(), writer.getMetadata(), writer);
+    }
+
+    private DataFileReader addNewDataFileReader(
+            final Path filePath, final DataFileMetadata metadata, final DataFileWriter writer) throws IOException {
+        final DataFileReader newDataFileReader = new DataFileReader(dbConfig, filePath, metadata, memoryMappedReads);
+        if (writer != null) {
+            newDataFileReader.setWriter(writer);
+        }
         dataFiles.getAndUpdate(currentFileList -> {
             try {
                 return (currentFileList == null)
@@ -664,7 +908,14 @@ public class DataFileCollection implements FileStatisticAware, Snapshotable {
         if (logger.isTraceEnabled()) {
             setOfNewFileIndexes.add(newFileIndex);
         }
-        return new DataFileWriter(storeName, storeDir, newFileIndex, creationTime, compactionLevel);
+        return new DataFileWriter(
+                storeName,
+                storeDir,
+                newFileIndex,
+                creationTime,
+                compactionLevel,
+                compression,
+                dbConfig.compressedBlockSize());
     }
 
     /**
@@ -710,7 +961,9 @@ public class DataFileCollection implements FileStatisticAware, Snapshotable {
             try {
                 for (int i = 0; i < fullWrittenFilePaths.length; i++) {
                     assert fullWrittenFilePaths[i].toString().endsWith(FILE_EXTENSION);
-                    dataFileReaders[i] = new DataFileReader(dbConfig, fullWrittenFilePaths[i]);
+                    final Path filePath = fullWrittenFilePaths[i];
+                    dataFileReaders[i] = new DataFileReader(
+                            dbConfig, filePath, DataFileMetadata.readFromFile(filePath), memoryMappedReads);
                 }
                 // sort the readers into data file index order
                 Arrays.sort(dataFileReaders);
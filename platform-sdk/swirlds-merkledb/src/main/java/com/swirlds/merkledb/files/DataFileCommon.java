@@ -32,6 +32,8 @@ import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -81,6 +83,13 @@ public final class DataFileCommon {
             new FieldDefinition("metadata", FieldType.MESSAGE, false, false, false, 1);
     static final FieldDefinition FIELD_DATAFILE_ITEMS =
             new FieldDefinition("items", FieldType.MESSAGE, true, true, false, 11);
+    // Compressed data files only, see DataFileCompression
+    static final FieldDefinition FIELD_DATAFILE_BLOCKS =
+            new FieldDefinition("blocks", FieldType.MESSAGE, true, true, false, 12);
+    static final FieldDefinition FIELD_DATAFILE_BLOCK_INDEX =
+            new FieldDefinition("blockIndex", FieldType.MESSAGE, false, false, false, 13);
+    static final FieldDefinition FIELD_DATAFILE_BLOCK_INDEX_OFFSET =
+            new FieldDefinition("blockIndexOffset", FieldType.FIXED64, false, false, false, 14);
 
     private DataFileCommon() {
         throw new IllegalStateException("Utility class; should not be instantiated.");
@@ -161,6 +170,46 @@ public final class DataFileCommon {
         return dataLocation & ITEM_OFFSET_MASK;
     }
 
+    /**
+     * Decompresses a data item block of a compressed data file. See {@link DataFileWriter} for
+     * details about compressed data files.
+     *
+     * @param inflater the decompressor to use, it's reset before use
+     * @param src compressed block bytes
+     * @param srcOffset offset of the compressed block in the source array
+     * @param srcLength compressed block size, in bytes
+     * @param dst destination array, at least {@code dstLength} bytes long
+     * @param dstLength uncompressed block size, in bytes
+     * @throws IOException if the block is malformed, or its uncompressed size doesn't match
+     */
+    static void inflateBlock(
+            final Inflater inflater,
+            final byte[] src,
+            final int srcOffset,
+            final int srcLength,
+            final byte[] dst,
+            final int dstLength)
+            throws IOException {
+        inflater.reset();
+        inflater.setInput(src, srcOffset, srcLength);
+        int inflated = 0;
+        try {
+            while (inflated < dstLength) {
+                final int n = inflater.inflate(dst, inflated, dstLength - inflated);
+                if ((n == 0) && (inflater.finished() || inflater.needsInput())) {
+                    break;
+                }
+                inflated += n;
+            }
+        } catch (final DataFormatException e) {
+            throw new IOException("Malformed compressed data block", e);
+        }
+        if (inflated != dstLength) {
+            throw new IOException(
+                    "Compressed data block size mismatch: expected=" + dstLength + " inflated=" + inflated);
+        }
+    }
+
     /**
      * Check if a file at path, is a data file based on name. Also checks if there is an existing
      * write lock file.
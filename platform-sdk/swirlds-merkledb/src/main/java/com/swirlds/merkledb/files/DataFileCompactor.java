@@ -19,6 +19,7 @@ import java.nio.file.Path;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
@@ -47,6 +48,32 @@ public class DataFileCompactor {
      */
     public static final int INITIAL_COMPACTION_LEVEL = 0;
 
+    /**
+     * Rate limiter shared by all compaction tasks, or null if compactions are not throttled.
+     * Accessed using {@link #getRateLimiter(MerkleDbConfig)}.
+     */
+    private static CompactionRateLimiter rateLimiter = null;
+
+    /** Indicates whether {@link #rateLimiter} is initialized. Synchronized on the class */
+    private static boolean rateLimiterInitialized = false;
+
+    /**
+     * Returns the rate limiter shared by all compaction tasks. Similar to compaction executor
+     * in {@code MerkleDbCompactionCoordinator}, the limiter is initialized using the config
+     * provided by the first caller, subsequent calls reuse the same limiter.
+     *
+     * @param dbConfig MerkleDb config
+     * @return the rate limiter, or null if {@link MerkleDbConfig#compactionMaxBytesPerSecond()} is zero
+     */
+    static synchronized CompactionRateLimiter getRateLimiter(final MerkleDbConfig dbConfig) {
+        if (!rateLimiterInitialized) {
+            final long maxBytesPerSecond = dbConfig.compactionMaxBytesPerSecond();
+            rateLimiter = (maxBytesPerSecond > 0) ? new CompactionRateLimiter(maxBytesPerSecond) : null;
+            rateLimiterInitialized = true;
+        }
+        return rateLimiter;
+    }
+
     private final MerkleDbConfig dbConfig;
 
     /**
@@ -190,8 +217,27 @@ public class DataFileCompactor {
             logger.debug(MERKLE_DB.getMarker(), "No files were available for merging [{}]", storeName);
             return Collections.emptyList();
         }
+        return copyLiveItems(index, filesToCompact, targetCompactionLevel);
+    }
 
+    /**
+     * Copies all data items referenced from the index from the given files to a new file, then
+     * deletes the files. Unlike {@link #compactFiles(CASableLongIndex, List, int)}, this method
+     * doesn't check the number of files, a single file with lots of garbage may be compacted, too.
+     *
+     * @param index index to update
+     * @param filesToCompact list of files to compact, must not be empty
+     * @param targetCompactionLevel target compaction level
+     * @return list of files created during the compaction
+     * @throws IOException If there was a problem with the compaction
+     */
+    private List<Path> copyLiveItems(
+            final CASableLongIndex index,
+            final List<? extends DataFileReader> filesToCompact,
+            final int targetCompactionLevel)
+            throws IOException {
         interruptFlag = false;
+        final CompactionRateLimiter limiter = getRateLimiter(dbConfig);
 
         // create a merge time stamp, this timestamp is the newest time of the set of files we are
         // merging
@@ -242,6 +288,7 @@ public class DataFileCompactor {
                             return;
                         }
                         final long fileOffset = DataFileCommon.byteOffsetFromDataLocation(dataLocation);
+                        final long itemSize;
                         // Take the lock. If a snapshot is started in a different thread, this call
                         // will block until the snapshot is done. The current file will be flushed,
                         // and current data file writer and reader will point to a new file
@@ -250,9 +297,15 @@ public class DataFileCompactor {
                             final DataFileWriter newFileWriter = currentWriter.get();
                             final BufferedData itemBytes = reader.readDataItem(fileOffset);
                             assert itemBytes != null;
+                            itemSize = itemBytes.remaining();
                             long newLocation = newFileWriter.storeDataItem(itemBytes);
-                            // update the index
-                            index.putIfEqual(path, dataLocation, newLocation);
+                            final DataFileReader newFileReader = currentReader.get();
+                            newFileReader.countWrittenItem();
+                            // update the index. If the item has been updated since it was read, the
+                            // copy is garbage
+                            if (!index.putIfEqual(path, dataLocation, newLocation)) {
+                                newFileReader.countObsoleteItem();
+                            }
                         } catch (final IOException z) {
                             logger.error(
                                     EXCEPTION.getMarker(),
@@ -264,6 +317,11 @@ public class DataFileCompactor {
                         } finally {
                             snapshotCompactionLock.unlock();
                         }
+                        dataFileCollection.countCompactedItem(itemSize);
+                        // Throttle outside the lock, so snapshots are never blocked
+                        if (limiter != null) {
+                            limiter.acquire(itemSize, this::notInterrupted);
+                        }
                     },
                     this::notInterrupted);
         } finally {
@@ -313,10 +371,8 @@ public class DataFileCompactor {
         assert startTime != null;
         final DataFileWriter newFileWriter = dataFileCollection.newDataFile(startTime, compactionLevel);
         currentWriter.set(newFileWriter);
-        final Path newFileCreated = newFileWriter.getPath();
-        newCompactedFiles.add(newFileCreated);
-        final DataFileMetadata newFileMetadata = newFileWriter.getMetadata();
-        final DataFileReader newFileReader = dataFileCollection.addNewDataFileReader(newFileCreated, newFileMetadata);
+        newCompactedFiles.add(newFileWriter.getPath());
+        final DataFileReader newFileReader = dataFileCollection.addNewDataFileReader(newFileWriter);
         currentReader.set(newFileReader);
     }
 
@@ -426,8 +482,12 @@ public class DataFileCompactor {
     public boolean compact() throws IOException, InterruptedException {
         final List<DataFileReader> completedFiles = dataFileCollection.getAllCompletedFiles();
         reportFileSizeByLevel(completedFiles);
-        final List<DataFileReader> filesToCompact =
-                compactionPlan(completedFiles, getMinNumberOfFilesToCompact(), dbConfig.maxCompactionLevel());
+        final List<DataFileReader> filesToCompact = compactionPlan(
+                completedFiles,
+                getMinNumberOfFilesToCompact(),
+                dbConfig.maxCompactionLevel(),
+                dbConfig.compactionGarbageRatioThreshold(),
+                dbConfig.compactionMaxBytesPerTask());
         if (filesToCompact.isEmpty()) {
             logger.debug(MERKLE_DB.getMarker(), "[{}] No need to compact, as the compaction plan is empty", storeName);
             return false;
@@ -448,7 +508,7 @@ public class DataFileCompactor {
                 filesCount,
                 formatSizeBytes(filesToCompactSize));
 
-        final List<Path> newFilesCreated = compactFiles(index, filesToCompact, targetCompactionLevel);
+        final List<Path> newFilesCreated = copyLiveItems(index, filesToCompact, targetCompactionLevel);
 
         final long end = System.currentTimeMillis();
         final long tookMillis = end - start;
@@ -549,6 +609,60 @@ public class DataFileCompactor {
         return readersToCompact;
     }
 
+    /**
+     * This method creates an incremental compaction plan. First, files are selected by compaction
+     * levels, the same way as in {@link #compactionPlan(List, int, int)}. If there are not enough
+     * files on level 0, files with estimated garbage ratio of at least {@code garbageRatioThreshold}
+     * are selected instead, the files with the most garbage first, unless the threshold is zero or
+     * above 1.0. Finally, if {@code maxBytes} is
+     * positive, the selected files are limited to {@code maxBytes} in total, but at least one file
+     * with garbage or two files by levels are always included. Remaining files are compacted later.
+     *
+     * <p>The returned plan is sorted by compaction levels, so the last file has the highest level.
+     *
+     * @param dataFileReaders files to select from
+     * @param minNumberOfFilesToCompact min number of files on a level to compact
+     * @param maxCompactionLevel max compaction level
+     * @param garbageRatioThreshold min garbage ratio to compact a file regardless of its level, or
+     *      zero to not compact files by garbage
+     * @param maxBytes max total size of selected files, in bytes, or zero if not limited
+     * @return compaction plan, may be empty
+     */
+    static List<DataFileReader> compactionPlan(
+            final List<DataFileReader> dataFileReaders,
+            final int minNumberOfFilesToCompact,
+            final int maxCompactionLevel,
+            final double garbageRatioThreshold,
+            final long maxBytes) {
+        List<DataFileReader> candidates =
+                compactionPlan(dataFileReaders, minNumberOfFilesToCompact, maxCompactionLevel);
+        int minFiles = Math.min(2, candidates.size());
+        if (candidates.isEmpty() && (garbageRatioThreshold > 0)) {
+            candidates = dataFileReaders.stream()
+                    .filter(r -> r.getGarbageRatio() >= garbageRatioThreshold)
+                    .sorted(Comparator.comparingDouble(DataFileReader::getGarbageRatio)
+                            .reversed())
+                    .toList();
+            minFiles = Math.min(1, candidates.size());
+        }
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+        final List<DataFileReader> selected = new ArrayList<>();
+        long selectedBytes = 0;
+        for (final DataFileReader candidate : candidates) {
+            final long size = candidate.getSize();
+            if ((maxBytes > 0) && (selected.size() >= minFiles) && (selectedBytes + size > maxBytes)) {
+                break;
+            }
+            selected.add(candidate);
+            selectedBytes += size;
+        }
+        // Stable sort, files on the same level stay in the original order
+        selected.sort(Comparator.comparingInt(r -> r.getMetadata().getCompactionLevel()));
+        return selected;
+    }
+
     private static Map<Integer, List<DataFileReader>> getReadersByLevel(final List<DataFileReader> dataFileReaders) {
         return dataFileReaders.stream()
                 .collect(Collectors.groupingBy(r -> r.getMetadata().getCompactionLevel()));
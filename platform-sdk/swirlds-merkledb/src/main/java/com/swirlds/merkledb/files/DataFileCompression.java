@@ -0,0 +1,49 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.merkledb.files;
+
+/**
+ * Data file compression type. Uncompressed data files contain data items one after another,
+ * right after the file metadata. Compressed data files contain blocks of data items, each block
+ * is compressed independently, followed by a block index. See {@link DataFileWriter} for details.
+ *
+ * <p>Compression type ids are stored in data file metadata, they must never be changed.
+ */
+public enum DataFileCompression {
+
+    /** Data items are not compressed */
+    NONE(0),
+
+    /** Data item blocks are compressed using DEFLATE, see {@link java.util.zip.Deflater} */
+    DEFLATE(1);
+
+    private final int id;
+
+    DataFileCompression(final int id) {
+        this.id = id;
+    }
+
+    /**
+     * Compression type id, as stored in data file metadata and table configs.
+     *
+     * @return compression type id
+     */
+    public int id() {
+        return id;
+    }
+
+    /**
+     * Finds a compression type by its id.
+     *
+     * @param id compression type id
+     * @return compression type
+     * @throws IllegalArgumentException if there is no compression type with the given id
+     */
+    public static DataFileCompression fromId(final int id) {
+        for (final DataFileCompression compression : values()) {
+            if (compression.id == id) {
+                return compression;
+            }
+        }
+        throw new IllegalArgumentException("Unknown data file compression: " + id);
+    }
+}
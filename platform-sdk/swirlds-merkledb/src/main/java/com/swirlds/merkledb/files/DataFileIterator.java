@@ -2,9 +2,13 @@
 package com.swirlds.merkledb.files;
 
 import static com.hedera.pbj.runtime.ProtoParserTools.TAG_FIELD_OFFSET;
+import static com.swirlds.merkledb.files.DataFileCommon.FIELD_DATAFILE_BLOCKS;
+import static com.swirlds.merkledb.files.DataFileCommon.FIELD_DATAFILE_BLOCK_INDEX;
+import static com.swirlds.merkledb.files.DataFileCommon.FIELD_DATAFILE_BLOCK_INDEX_OFFSET;
 import static com.swirlds.merkledb.files.DataFileCommon.FIELD_DATAFILE_ITEMS;
 import static com.swirlds.merkledb.files.DataFileCommon.FIELD_DATAFILE_METADATA;
 
+import com.hedera.pbj.runtime.ProtoWriterTools;
 import com.hedera.pbj.runtime.io.ReadableSequentialData;
 import com.hedera.pbj.runtime.io.buffer.BufferedData;
 import com.hedera.pbj.runtime.io.stream.ReadableStreamingData;
@@ -12,16 +16,22 @@ import com.swirlds.base.utility.ToStringBuilder;
 import com.swirlds.merkledb.config.MerkleDbConfig;
 import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.Objects;
+import java.util.zip.Inflater;
 
 /**
  * Iterator class for iterating over data items in a data file created by {@link  DataFileWriter}.
  * It is designed to be used in a <code>while(iter.next()){...}</code>
  * loop, where you can then read the data items info for current item with {@link #getDataItemData()} and {@link #getDataItemDataLocation()}.
  *
+ * <p>Both uncompressed and compressed data files are supported. In compressed files, blocks of data
+ * items are decompressed one at a time, and data item locations are offsets in the uncompressed
+ * stream of data items, same as returned by {@link DataFileWriter}.
+ *
  * <p>It is designed to be used from a single thread.
  *
  * @see DataFileReader
@@ -41,11 +51,27 @@ public final class DataFileIterator implements AutoCloseable {
     private BufferedData dataItemBuffer;
     /** Index of current data item this iterator is reading, zero being the first item, -1 being before start */
     private long currentDataItem = -1;
-    /** The offset in bytes from start of file to the beginning of the current item. */
+    /**
+     * The offset in bytes from start of file to the beginning of the current item. For compressed
+     * files, it's the offset in the uncompressed stream of data items.
+     */
     private long currentDataItemFilePosition = 0;
     /** True if this iterator has been closed */
     private boolean closed = false;
 
+    /** Decompressor, compressed files only */
+    private Inflater inflater = null;
+    /** Reusable buffer for compressed blocks, compressed files only */
+    private byte[] compressedBlock = null;
+    /** Current decompressed block, compressed files only */
+    private byte[] block = null;
+    /** Current decompressed block size, may be less than the block array length */
+    private int blockSize = 0;
+    /** Position of the next data item in the current block */
+    private int blockPosition = 0;
+    /** Offset of the current block in the uncompressed stream of data items */
+    private long blockUncompressedOffset = 0;
+
     /**
      * Create a new DataFileIterator on an existing file.
      *
@@ -93,6 +119,10 @@ public final class DataFileIterator implements AutoCloseable {
         if (!closed) {
             closed = true;
             dataItemBuffer = null;
+            block = null;
+            if (inflater != null) {
+                inflater.end();
+            }
             inputStream.close();
         }
     }
@@ -109,6 +139,10 @@ public final class DataFileIterator implements AutoCloseable {
             throw new IllegalStateException("Cannot read from a closed iterator");
         }
 
+        if (nextInBlock()) {
+            return true;
+        }
+
         while (in.hasRemaining()) {
             currentDataItemFilePosition = in.position();
             final int tag = in.readVarInt(false);
@@ -119,9 +153,17 @@ public final class DataFileIterator implements AutoCloseable {
                 dataItemBuffer = fillBuffer(currentDataItemSize);
                 currentDataItem++;
                 return true;
-            } else if (fieldNum == FIELD_DATAFILE_METADATA.number()) {
-                final int metadataSize = in.readVarInt(false);
-                in.skip(metadataSize);
+            } else if (fieldNum == FIELD_DATAFILE_BLOCKS.number()) {
+                readBlock();
+                if (nextInBlock()) {
+                    return true;
+                }
+            } else if ((fieldNum == FIELD_DATAFILE_METADATA.number())
+                    || (fieldNum == FIELD_DATAFILE_BLOCK_INDEX.number())) {
+                final int fieldSize = in.readVarInt(false);
+                in.skip(fieldSize);
+            } else if (fieldNum == FIELD_DATAFILE_BLOCK_INDEX_OFFSET.number()) {
+                in.skip(Long.BYTES);
             } else {
                 throw new IllegalArgumentException("Unknown data file field: " + fieldNum);
             }
@@ -188,6 +230,72 @@ public final class DataFileIterator implements AutoCloseable {
     // =================================================================================================================
     // Private methods
 
+    /**
+     * Reads a compressed block of data items from the file and decompresses it. The block field
+     * tag is already read.
+     *
+     * @throws IOException if the block can't be read or decompressed
+     */
+    private void readBlock() throws IOException {
+        final int fieldSize = in.readVarInt(false);
+        final int uncompressedSize = in.readVarInt(false);
+        final int compressedSize = fieldSize - ProtoWriterTools.sizeOfUnsignedVarInt32(uncompressedSize);
+        if ((uncompressedSize <= 0) || (compressedSize <= 0)) {
+            throw new IOException("Malformed file [" + path + "], block at [" + currentDataItemFilePosition
+                    + "], compressed size [" + compressedSize + "], uncompressed size [" + uncompressedSize + "]");
+        }
+        if (inflater == null) {
+            inflater = new Inflater();
+        }
+        if ((compressedBlock == null) || (compressedBlock.length < compressedSize)) {
+            compressedBlock = new byte[compressedSize];
+        }
+        final long bytesRead = in.readBytes(BufferedData.wrap(ByteBuffer.wrap(compressedBlock, 0, compressedSize)));
+        if (bytesRead != compressedSize) {
+            throw new IOException("Couldn't read " + compressedSize + " bytes, block at ["
+                    + currentDataItemFilePosition + "] in file [" + path + "]");
+        }
+        if ((block == null) || (block.length < uncompressedSize)) {
+            block = new byte[uncompressedSize];
+        }
+        // The next block starts right after the previous one in the uncompressed stream
+        blockUncompressedOffset += blockSize;
+        DataFileCommon.inflateBlock(inflater, compressedBlock, 0, compressedSize, block, uncompressedSize);
+        blockSize = uncompressedSize;
+        blockPosition = 0;
+    }
+
+    /**
+     * Advances to the next data item in the current decompressed block, if any.
+     *
+     * @return true if a data item was read from the block, false if there are no more data items
+     *     in the current block, or if there is no current block
+     * @throws IOException if the block is malformed
+     */
+    private boolean nextInBlock() throws IOException {
+        if (blockPosition >= blockSize) {
+            return false;
+        }
+        final BufferedData blockBuf =
+                BufferedData.wrap(ByteBuffer.wrap(block, blockPosition, blockSize - blockPosition).slice());
+        final int tag = blockBuf.readVarInt(false);
+        if ((tag >> TAG_FIELD_OFFSET) != FIELD_DATAFILE_ITEMS.number()) {
+            throw new IOException("Malformed file [" + path + "], unknown data item tag [" + tag + "] in block at ["
+                    + blockUncompressedOffset + "]");
+        }
+        final int size = blockBuf.readVarInt(false);
+        final int dataStart = blockPosition + Math.toIntExact(blockBuf.position());
+        if ((size <= 0) || (dataStart + size > blockSize)) {
+            throw new IOException("Malformed file [" + path + "], data item [" + (currentDataItem + 1)
+                    + "], requested bytes [" + size + "]");
+        }
+        currentDataItemFilePosition = blockUncompressedOffset + blockPosition;
+        dataItemBuffer = BufferedData.wrap(ByteBuffer.wrap(block, dataStart, size).slice());
+        blockPosition = dataStart + size;
+        currentDataItem++;
+        return true;
+    }
+
     /**
      * Reads bytesToRead bytes from the current data item
      * @param bytesToRead bytes to read
@@ -2,6 +2,9 @@
 package com.swirlds.merkledb.files;
 
 import static com.hedera.pbj.runtime.ProtoParserTools.TAG_FIELD_OFFSET;
+import static com.swirlds.merkledb.files.DataFileCommon.FIELD_DATAFILE_BLOCKS;
+import static com.swirlds.merkledb.files.DataFileCommon.FIELD_DATAFILE_BLOCK_INDEX;
+import static com.swirlds.merkledb.files.DataFileCommon.FIELD_DATAFILE_BLOCK_INDEX_OFFSET;
 import static com.swirlds.merkledb.files.DataFileCommon.FIELD_DATAFILE_ITEMS;
 import static com.swirlds.merkledb.files.DataFileCommon.FIELD_DATAFILE_METADATA;
 
@@ -46,6 +49,13 @@ public final class DataFileMetadata {
     private static final FieldDefinition FIELD_COMPACTION_LEVEL =
             new FieldDefinition("compactionLevel", FieldType.UINT32, false, true, false, 6);
 
+    /**
+     * Data file compression type id, see {@link DataFileCompression}. Only written for compressed
+     * files, so uncompressed files can still be read by older software versions.
+     */
+    private static final FieldDefinition FIELD_COMPRESSION =
+            new FieldDefinition("compression", FieldType.UINT32, false, true, false, 7);
+
     /**
      * Maximum level of compaction for storage files.
      */
@@ -60,8 +70,11 @@ public final class DataFileMetadata {
     /** The level of compaction this file has. See {@link DataFileCompactor}*/
     private final byte compactionLevel;
 
+    /** Data items compression in this file */
+    private final DataFileCompression compression;
+
     /**
-     * Create a new metadata with complete set of data
+     * Create a new metadata for an uncompressed data file
      *
      * @param index The file index, in a data file collection
      * @param creationDate The creation data of this file, this is critical as it is used when
@@ -69,11 +82,29 @@ public final class DataFileMetadata {
      * @param compactionLevel The level of compaction this file has. See {@link DataFileCompactor}
      */
     public DataFileMetadata(final int index, final Instant creationDate, final int compactionLevel) {
+        this(index, creationDate, compactionLevel, DataFileCompression.NONE);
+    }
+
+    /**
+     * Create a new metadata with complete set of data
+     *
+     * @param index The file index, in a data file collection
+     * @param creationDate The creation data of this file, this is critical as it is used when
+     *     merging two files to know which files data is newer.
+     * @param compactionLevel The level of compaction this file has. See {@link DataFileCompactor}
+     * @param compression Data items compression in this file
+     */
+    public DataFileMetadata(
+            final int index,
+            final Instant creationDate,
+            final int compactionLevel,
+            final DataFileCompression compression) {
         assert compactionLevel >= 0 && compactionLevel < MAX_COMPACTION_LEVEL;
 
         this.index = index;
         this.creationDate = creationDate;
         this.compactionLevel = (byte) compactionLevel;
+        this.compression = Objects.requireNonNull(compression);
     }
 
     /**
@@ -88,6 +119,7 @@ public final class DataFileMetadata {
         long creationSeconds = 0;
         int creationNanos = 0;
         byte compactionLevel = 0;
+        DataFileCompression compression = DataFileCompression.NONE;
 
         // Read values from the file, skipping all data items
         try (final ReadableStreamingData in = new ReadableStreamingData(file)) {
@@ -116,6 +148,8 @@ public final class DataFileMetadata {
                                 final int compactionLevelInt = in.readVarInt(false);
                                 assert compactionLevelInt < MAX_COMPACTION_LEVEL;
                                 compactionLevel = (byte) compactionLevelInt;
+                            } else if (metadataFieldNum == FIELD_COMPRESSION.number()) {
+                                compression = DataFileCompression.fromId(in.readVarInt(false));
                             } else {
                                 throw new IllegalArgumentException(
                                         "Unknown data file metadata field: " + metadataFieldNum);
@@ -125,12 +159,16 @@ public final class DataFileMetadata {
                         in.limit(oldLimit);
                     }
                     break;
-                } else if (fieldNum == FIELD_DATAFILE_ITEMS.number()) {
+                } else if ((fieldNum == FIELD_DATAFILE_ITEMS.number())
+                        || (fieldNum == FIELD_DATAFILE_BLOCKS.number())
+                        || (fieldNum == FIELD_DATAFILE_BLOCK_INDEX.number())) {
                     // Just skip it. By default, metadata is written to the very beginning of the file,
                     // so this code should never be executed. However, with other implementations data
                     // items may come first, this code must be ready to handle it
                     final int size = in.readVarInt(false);
                     in.skip(size);
+                } else if (fieldNum == FIELD_DATAFILE_BLOCK_INDEX_OFFSET.number()) {
+                    in.readLong();
                 } else {
                     throw new IllegalArgumentException("Unknown data file field: " + fieldNum);
                 }
@@ -142,7 +180,8 @@ public final class DataFileMetadata {
             throw new IllegalArgumentException("No metadata found in file: " + file);
         }
 
-        return new DataFileMetadata(index, Instant.ofEpochSecond(creationSeconds, creationNanos), compactionLevel);
+        return new DataFileMetadata(
+                index, Instant.ofEpochSecond(creationSeconds, creationNanos), compactionLevel, compression);
     }
 
     <T extends WritableSequentialData> void writeTo(final T out) {
@@ -169,6 +208,11 @@ public final class DataFileMetadata {
             ProtoWriterTools.writeTag(out, FIELD_COMPACTION_LEVEL);
             out.writeVarInt(compactionLevel, false);
         }
+
+        if (compression != DataFileCompression.NONE) {
+            ProtoWriterTools.writeTag(out, FIELD_COMPRESSION);
+            out.writeVarInt(compression.id(), false);
+        }
     }
 
     /** Get the files index, out of a set of data files */
@@ -202,6 +246,10 @@ public final class DataFileMetadata {
             size += ProtoWriterTools.sizeOfTag(FIELD_COMPACTION_LEVEL, ProtoConstants.WIRE_TYPE_VARINT_OR_ZIGZAG);
             size += ProtoWriterTools.sizeOfVarInt32(compactionLevel);
         }
+        if (compression != DataFileCompression.NONE) {
+            size += ProtoWriterTools.sizeOfTag(FIELD_COMPRESSION, ProtoConstants.WIRE_TYPE_VARINT_OR_ZIGZAG);
+            size += ProtoWriterTools.sizeOfVarInt32(compression.id());
+        }
         return size;
     }
 
@@ -209,12 +257,23 @@ public final class DataFileMetadata {
         return compactionLevel;
     }
 
+    /** Get data items compression in this file */
+    public DataFileCompression getCompression() {
+        return compression;
+    }
+
+    /** Check if data items in this file are compressed */
+    public boolean isCompressed() {
+        return compression != DataFileCompression.NONE;
+    }
+
     /** toString for debugging */
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .append("index", index)
                 .append("creationDate", creationDate)
+                .append("compression", compression)
                 .toString();
     }
 
@@ -232,6 +291,7 @@ public final class DataFileMetadata {
         final DataFileMetadata that = (DataFileMetadata) o;
         return index == that.index
                 && compactionLevel == that.compactionLevel
+                && compression == that.compression
                 && Objects.equals(this.creationDate, that.creationDate);
     }
 
@@ -240,6 +300,6 @@ public final class DataFileMetadata {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(index, creationDate, compactionLevel);
+        return Objects.hash(index, creationDate, compactionLevel, compression);
     }
 }
@@ -2,6 +2,9 @@
 package com.swirlds.merkledb.files;
 
 import static com.hedera.pbj.runtime.ProtoParserTools.TAG_FIELD_OFFSET;
+import static com.swirlds.merkledb.files.DataFileCommon.FIELD_DATAFILE_BLOCKS;
+import static com.swirlds.merkledb.files.DataFileCommon.FIELD_DATAFILE_BLOCK_INDEX;
+import static com.swirlds.merkledb.files.DataFileCommon.FIELD_DATAFILE_BLOCK_INDEX_OFFSET;
 import static com.swirlds.merkledb.files.DataFileCommon.FIELD_DATAFILE_ITEMS;
 
 import com.hedera.pbj.runtime.ProtoConstants;
@@ -14,17 +17,27 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
 import java.nio.channels.ClosedByInterruptException;
 import java.nio.channels.ClosedChannelException;
 import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.zip.Inflater;
 
 /**
  * The aim for a DataFileReader is to facilitate fast highly concurrent random reading of items from
@@ -50,15 +63,49 @@ import java.util.concurrent.atomic.AtomicReferenceArray;
  *     // Data item version. May not be needed
  *     uint64 itemVersion = 5;
  *
- *     // Data items
+ *     // Compaction level
+ *     uint32 compactionLevel = 6;
+ *
+ *     // Compression type, see DataFileCompression
+ *     uint32 compression = 7;
+ *
+ *     // Data items, uncompressed files only
  *     repeated bytes items = 11;
+ *
+ *     // Compressed blocks of data items, compressed files only. Every block is an uncompressed
+ *     // size varint followed by compressed data items, each data item is encoded as field 11
+ *     repeated bytes blocks = 12;
+ *
+ *     // Block index, compressed files only, see DataFileBlockIndex
+ *     bytes blockIndex = 13;
+ *
+ *     // Block index offset in the file, compressed files only. Always the last field
+ *     fixed64 blockIndexOffset = 14;
  * }
  * </pre>
+ *
+ * <p>Data items in compressed files are read by decompressing the whole block that contains
+ * the item. The last decompressed block is cached per thread, so sequential reads of items from
+ * the same block are cheap. Compressed files are never memory mapped.
  */
 public final class DataFileReader implements AutoCloseable, Comparable<DataFileReader>, IndexedObject {
 
     private static final ThreadLocal<ByteBuffer> BUFFER_CACHE = new ThreadLocal<>();
     private static final ThreadLocal<BufferedData> BUFFEREDDATA_CACHE = new ThreadLocal<>();
+    private static final ThreadLocal<DecompressedBlock> DECOMPRESSED_BLOCK_CACHE =
+            ThreadLocal.withInitial(DecompressedBlock::new);
+
+    /**
+     * Buffer size to read data item tag and size. If the whole item is small and fits into this
+     * buffer, there is no need to make an extra file read
+     */
+    private static final int PRE_READ_BUF_SIZE = 2048;
+
+    /**
+     * Max size of a single memory mapped region, see {@link #mappedRegions}. Must be a power of
+     * two. Data items that cross region boundaries are read using file channels
+     */
+    static final int MAPPED_REGION_SIZE = 1 << 30;
 
     private final MerkleDbConfig dbConfig;
 
@@ -104,6 +151,51 @@ public final class DataFileReader implements AutoCloseable, Comparable<DataFileR
      */
     private final AtomicLong fileSizeBytes = new AtomicLong(0);
 
+    /**
+     * Asynchronous file channel used for batch reads, see {@link #readDataItems(long[],
+     * ExecutorService)}. The channel is opened on the first asynchronous read, using the executor
+     * provided to that read, and closed when this reader is closed. Synchronized on this
+     */
+    private AsynchronousFileChannel asyncFileChannel = null;
+
+    /** Indicates whether this file should be memory mapped for reads, once it's completed */
+    private final boolean memoryMapped;
+
+    /**
+     * Read only memory mapped regions of this file, up to {@link #MAPPED_REGION_SIZE} bytes each.
+     * Set when the file is completed, if {@link #memoryMapped} is true. Data items are returned as
+     * zero-copy slices of these regions. Regions are never unmapped explicitly, since slices may
+     * still be used after this reader is closed. Instead, when the reader is closed, the regions
+     * are released, and they are unmapped by the garbage collector after the last slice is gone
+     */
+    private volatile MappedByteBuffer[] mappedRegions = null;
+
+    /**
+     * Number of data items written to this file. Only counted for files created by this process,
+     * item counts of files loaded from disk are unknown. See {@link #getGarbageRatio()}
+     */
+    private final AtomicLong writtenItemCount = new AtomicLong(0);
+
+    /**
+     * Number of data items in this file, which are no longer referenced from the index, because
+     * they have been updated or removed. This is an estimate, see {@link #getGarbageRatio()}
+     */
+    private final AtomicLong obsoleteItemCount = new AtomicLong(0);
+
+    /**
+     * Block index of a compressed file, or null if the file is not compressed or the index has
+     * not been loaded yet. For new files, the index is shared with the writer, and it is updated
+     * as the file is written. For existing files, the index is loaded from the file on the first
+     * read. Synchronized on this
+     */
+    private volatile DataFileBlockIndex blockIndex = null;
+
+    /**
+     * Writer of a compressed file, which is still being written, or null. Used to read data
+     * items that have not been written to the file yet
+     */
+    private volatile DataFileWriter writer = null;
+
     /**
      * Open an existing data file, reading the metadata from the file
      *
@@ -122,7 +214,25 @@ public final class DataFileReader implements AutoCloseable, Comparable<DataFileR
      * @param metadata the file's metadata to save loading from file
      */
     DataFileReader(final MerkleDbConfig dbConfig, final Path path, final DataFileMetadata metadata) throws IOException {
+        this(dbConfig, path, metadata, false);
+    }
+
+    /**
+     * Open an existing data file, using the provided metadata
+     *
+     * @param dbConfig MerkleDb config
+     * @param path the path to the data file
+     * @param metadata the file's metadata to save loading from file
+     * @param memoryMapped whether to memory map the file for reads, once it's completed
+     */
+    DataFileReader(
+            final MerkleDbConfig dbConfig,
+            final Path path,
+            final DataFileMetadata metadata,
+            final boolean memoryMapped)
+            throws IOException {
         this.dbConfig = dbConfig;
+        this.memoryMapped = memoryMapped;
         maxFileChannels = dbConfig.maxFileChannelsPerFileReader();
         threadsPerFileChannel = dbConfig.maxThreadsPerFileChannel();
         fileChannels = new AtomicReferenceArray<>(maxFileChannels);
@@ -152,7 +262,13 @@ public final class DataFileReader implements AutoCloseable, Comparable<DataFileR
      */
     void setFileCompleted() {
         try {
-            fileSizeBytes.set(fileChannels.get(0).size());
+            final FileChannel fileChannel = fileChannels.get(0);
+            fileSizeBytes.set(fileChannel.size());
+            // All blocks have been written, the block index is complete
+            writer = null;
+            if (memoryMapped && !metadata.isCompressed()) {
+                mapRegions(fileChannel, fileSizeBytes.get());
+            }
         } catch (final IOException e) {
             throw new UncheckedIOException("Failed to update data file reader size", e);
         } finally {
@@ -160,6 +276,20 @@ public final class DataFileReader implements AutoCloseable, Comparable<DataFileR
         }
     }
 
+    /**
+     * Sets the writer of a compressed file, which is being written. This method must be called
+     * before the reader is available to other threads. The writer is released, when the file is
+     * completed.
+     *
+     * @param writer the writer of this file
+     */
+    void setWriter(@NonNull final DataFileWriter writer) {
+        if (metadata.isCompressed()) {
+            blockIndex = writer.getBlockIndex();
+            this.writer = writer;
+        }
+    }
+
     /**
      * Get file index, the index is an ordered integer identifying the file in a set of files.
      *
@@ -209,7 +339,70 @@ public final class DataFileReader implements AutoCloseable, Comparable<DataFileR
      */
     public BufferedData readDataItem(final long dataLocation) throws IOException {
         final long byteOffset = DataFileCommon.byteOffsetFromDataLocation(dataLocation);
-        return read(byteOffset);
+        if (metadata.isCompressed()) {
+            return readCompressed(byteOffset);
+        }
+        final BufferedData mapped = readMapped(byteOffset);
+        return (mapped != null) ? mapped : read(byteOffset);
+    }
+
+    /**
+     * Read data items from file at the given data locations asynchronously. All reads are issued
+     * immediately without waiting for any of them to complete, so the storage device can process
+     * them in parallel, without a blocked caller thread per read.
+     *
+     * <p>Unlike {@link #readDataItem(long)}, data items are read into new buffers rather than
+     * reused per thread buffers, so they can be safely used by any thread.
+     *
+     * <p>Reads are completed on the provided executor. The executor is owned by the caller, it
+     * must not be shut down before this reader is closed. The asynchronous channel of this file
+     * is bound to the executor provided to the first asynchronous read, all readers of the same
+     * file collection are expected to use the same executor.
+     *
+     * <p>If this reader is closed while some reads are still in progress, their futures complete
+     * exceptionally with {@link ClosedChannelException}.
+     *
+     * @param dataLocations data item locations, all in this file
+     * @param executor executor to complete reads on
+     * @return futures of data items, in the same order as data locations
+     * @throws IOException If there was a problem opening an asynchronous channel for this file
+     * @throws ClosedChannelException if the data file was closed
+     */
+    public List<CompletableFuture<BufferedData>> readDataItems(
+            final long[] dataLocations, @NonNull final ExecutorService executor) throws IOException {
+        final List<CompletableFuture<BufferedData>> result = new ArrayList<>(dataLocations.length);
+        if (metadata.isCompressed()) {
+            checkOpen();
+            for (final long dataLocation : dataLocations) {
+                result.add(readCompressedAsync(DataFileCommon.byteOffsetFromDataLocation(dataLocation), executor));
+            }
+            return result;
+        }
+        final AsynchronousFileChannel channel = getAsyncFileChannel(executor);
+        for (final long dataLocation : dataLocations) {
+            result.add(readAsync(channel, DataFileCommon.byteOffsetFromDataLocation(dataLocation)));
+        }
+        return result;
+    }
+
+    /**
+     * Read a single data item from file at dataLocation asynchronously. See {@link
+     * #readDataItems(long[], ExecutorService)} for details.
+     *
+     * @param dataLocation data item location, which combines data file index and offset in the file
+     * @param executor executor to complete the read on
+     * @return future of data item
+     * @throws IOException If there was a problem opening an asynchronous channel for this file
+     * @throws ClosedChannelException if the data file was closed
+     */
+    public CompletableFuture<BufferedData> readDataItemAsync(
+            final long dataLocation, @NonNull final ExecutorService executor) throws IOException {
+        final long byteOffset = DataFileCommon.byteOffsetFromDataLocation(dataLocation);
+        if (metadata.isCompressed()) {
+            checkOpen();
+            return readCompressedAsync(byteOffset, executor);
+        }
+        return readAsync(getAsyncFileChannel(executor), byteOffset);
     }
 
     /**
@@ -222,6 +415,49 @@ public final class DataFileReader implements AutoCloseable, Comparable<DataFileR
         return fileSizeBytes.get();
     }
 
+    /**
+     * Increments the number of data items written to this file. Called on every data item write
+     * during flushes and compactions.
+     */
+    void countWrittenItem() {
+        writtenItemCount.incrementAndGet();
+    }
+
+    /**
+     * Increments the number of obsolete data items in this file. Called when an index entry that
+     * points to a data item in this file is updated or removed.
+     */
+    void countObsoleteItem() {
+        obsoleteItemCount.incrementAndGet();
+    }
+
+    /**
+     * Returns an estimated ratio of obsolete data items in this file, from 0.0 to 1.0. Compacting
+     * a file with a high garbage ratio frees a lot of disk space for little I/O.
+     *
+     * <p>Item counts are only tracked in memory, so the ratio is 0.0 for files loaded from disk
+     * until they are compacted. Index updates that race with compactions may make the counts
+     * slightly inaccurate, so this value should only be used as a heuristic.
+     *
+     * @return estimated garbage ratio
+     */
+    public double getGarbageRatio() {
+        final long written = writtenItemCount.get();
+        if (written == 0) {
+            return 0.0;
+        }
+        return Math.min(1.0, (double) obsoleteItemCount.get() / written);
+    }
+
+    /**
+     * Returns an estimated size of obsolete data items in this file, in bytes.
+     *
+     * @return estimated garbage size, in bytes
+     */
+    public long getEstimatedGarbageSize() {
+        return (long) (getSize() * getGarbageRatio());
+    }
+
     /** Equals for use when comparing in collections, based on matching file paths */
     @Override
     public boolean equals(final Object o) {
@@ -269,6 +505,16 @@ public final class DataFileReader implements AutoCloseable, Comparable<DataFileR
         return threadsPerFileChannel;
     }
 
+    /**
+     * Checks if this file is memory mapped for reads. Files are only mapped after they are
+     * completed, if memory mapped reads are enabled for the file collection.
+     *
+     * @return true if the file is memory mapped
+     */
+    public boolean isMemoryMapped() {
+        return mappedRegions != null;
+    }
+
     /**
      * Get if the DataFile is open for reading.
      *
@@ -283,6 +529,8 @@ public final class DataFileReader implements AutoCloseable, Comparable<DataFileR
         if (!open.compareAndSet(true, false)) {
             return;
         }
+        // Mapped regions are unmapped by GC, when no longer used by this reader and data item slices
+        mappedRegions = null;
 
         for (int i = 0; i < maxFileChannels; i++) {
             final FileChannel fileChannel = fileChannels.getAndSet(i, null);
@@ -290,11 +538,424 @@ public final class DataFileReader implements AutoCloseable, Comparable<DataFileR
                 fileChannel.close();
             }
         }
+        synchronized (this) {
+            if (asyncFileChannel != null) {
+                asyncFileChannel.close();
+                asyncFileChannel = null;
+            }
+        }
     }
 
     // =================================================================================================================
     // Private methods
 
+    /**
+     * Returns an asynchronous file channel to read data from this file. The channel is opened
+     * on the first call, with the given executor.
+     *
+     * @param executor executor to complete reads on, if the channel is not open yet
+     * @throws ClosedChannelException if the data file was closed
+     */
+    private synchronized AsynchronousFileChannel getAsyncFileChannel(final ExecutorService executor)
+            throws IOException {
+        checkOpen();
+        if (asyncFileChannel == null) {
+            asyncFileChannel = AsynchronousFileChannel.open(
+                    path, Set.of(StandardOpenOption.READ), Objects.requireNonNull(executor));
+        }
+        return asyncFileChannel;
+    }
+
+    /**
+     * Checks that this reader is open.
+     *
+     * @throws ClosedChannelException if the data file was closed
+     */
+    private void checkOpen() throws ClosedChannelException {
+        if (!isOpen()) {
+            throw new ClosedChannelException();
+        }
+    }
+
+    /**
+     * Maps the file into memory, in read only regions of up to {@link #MAPPED_REGION_SIZE} bytes.
+     *
+     * @param fileChannel file channel to map
+     * @param fileSize file size, in bytes
+     * @throws IOException if an I/O error occurs
+     */
+    private void mapRegions(final FileChannel fileChannel, final long fileSize) throws IOException {
+        final int regionCount = Math.toIntExact((fileSize + MAPPED_REGION_SIZE - 1) / MAPPED_REGION_SIZE);
+        final MappedByteBuffer[] regions = new MappedByteBuffer[regionCount];
+        for (int i = 0; i < regionCount; i++) {
+            final long regionStart = (long) i * MAPPED_REGION_SIZE;
+            final long regionSize = Math.min(MAPPED_REGION_SIZE, fileSize - regionStart);
+            regions[i] = fileChannel.map(FileChannel.MapMode.READ_ONLY, regionStart, regionSize);
+        }
+        mappedRegions = regions;
+    }
+
+    /**
+     * Reads a data item from memory mapped regions of this file. The returned data item is a
+     * zero-copy slice of a mapped region, it can be used by any thread, and remains valid even
+     * after this reader is closed.
+     *
+     * @param byteOffsetInFile Offset to start reading at
+     * @return data item bytes, or null if the file isn't mapped, or the data item crosses region
+     *     boundaries. In the latter case the data item should be read using file channels
+     * @throws IOException if the data item tag is unknown
+     */
+    private BufferedData readMapped(final long byteOffsetInFile) throws IOException {
+        final MappedByteBuffer[] regions = mappedRegions;
+        if (regions == null) {
+            return null;
+        }
+        final int regionIndex = Math.toIntExact(byteOffsetInFile / MAPPED_REGION_SIZE);
+        if (regionIndex >= regions.length) {
+            return null;
+        }
+        final MappedByteBuffer region = regions[regionIndex];
+        final int offsetInRegion = (int) (byteOffsetInFile & (MAPPED_REGION_SIZE - 1));
+        final int bytesInRegion = region.limit() - offsetInRegion;
+        // A data item header is two varints, tag and size, 5 bytes max each
+        if (bytesInRegion < 10) {
+            return null;
+        }
+        final BufferedData buf = BufferedData.wrap(region.slice(offsetInRegion, bytesInRegion));
+        final int size = readDataItemHeader(buf, byteOffsetInFile);
+        final int headerSize = Math.toIntExact(buf.position());
+        if (headerSize + size > bytesInRegion) {
+            return null;
+        }
+        buf.limit(headerSize + size);
+        return buf;
+    }
+
+    /**
+     * Reads a data item tag and size from the given buffer, which contains the beginning of the
+     * item read from the file. Buffer position is set to the first byte of the data item.
+     *
+     * @param buf buffer with the data item header
+     * @param byteOffsetInFile data item offset in the file, used for error reporting
+     * @return data item size, in bytes, not including the header
+     * @throws IOException if the data item tag is unknown
+     */
+    private int readDataItemHeader(final BufferedData buf, final long byteOffsetInFile) throws IOException {
+        final int tag = buf.getVarInt(0, false); // tag
+        if (tag
+                != ((FIELD_DATAFILE_ITEMS.number() << TAG_FIELD_OFFSET)
+                        | ProtoConstants.WIRE_TYPE_DELIMITED.ordinal())) {
+            throw new IOException(
+                    "Unknown data item tag: tag=" + tag + " file=" + getIndex() + " off=" + byteOffsetInFile);
+        }
+        final int sizeOfTag = ProtoWriterTools.sizeOfUnsignedVarInt32(tag);
+        final int size = buf.getVarInt(sizeOfTag, false);
+        final int sizeOfSize = ProtoWriterTools.sizeOfUnsignedVarInt32(size);
+        buf.position(sizeOfTag + sizeOfSize);
+        return size;
+    }
+
+    /**
+     * Checks that a data item header is fully read.
+     *
+     * @param bytesRead number of bytes read
+     * @param byteOffsetInFile data item offset in the file
+     * @throws IOException if fewer bytes than expected were read
+     */
+    private void checkHeaderBytesRead(final int bytesRead, final long byteOffsetInFile) throws IOException {
+        if (isFileCompleted() && (bytesRead != Math.min(PRE_READ_BUF_SIZE, getSize() - byteOffsetInFile))) {
+            throw new IOException("Failed to read all bytes: toread="
+                    + Math.min(PRE_READ_BUF_SIZE, getSize() - byteOffsetInFile) + " read=" + bytesRead
+                    + " file=" + getIndex() + " off=" + byteOffsetInFile);
+        }
+    }
+
+    /**
+     * Asynchronous version of {@link #read(long)}. First, a buffer of {@link #PRE_READ_BUF_SIZE}
+     * bytes is read. If the whole data item fits into it, the future is completed, otherwise
+     * another read is issued for the rest of the item.
+     *
+     * @param channel asynchronous file channel to read from
+     * @param byteOffsetInFile data item offset in the file
+     * @return future of data item
+     */
+    private CompletableFuture<BufferedData> readAsync(
+            final AsynchronousFileChannel channel, final long byteOffsetInFile) {
+        final ByteBuffer headerBB = ByteBuffer.allocate(PRE_READ_BUF_SIZE);
+        return MerkleDbFileUtils.completelyReadAsync(channel, headerBB, byteOffsetInFile)
+                .thenCompose(headerBytesRead -> {
+                    final BufferedData headerBuf = BufferedData.wrap(headerBB);
+                    final int size;
+                    try {
+                        checkHeaderBytesRead(headerBytesRead, byteOffsetInFile);
+                        headerBuf.reset();
+                        size = readDataItemHeader(headerBuf, byteOffsetInFile);
+                    } catch (final IOException e) {
+                        return CompletableFuture.failedFuture(e);
+                    }
+                    final int headerSize = Math.toIntExact(headerBuf.position());
+                    // Check if the whole data item is already read in the header
+                    if (headerBytesRead >= headerSize + size) {
+                        headerBuf.limit(headerSize + size);
+                        return CompletableFuture.completedFuture(headerBuf);
+                    }
+                    // Otherwise read it separately
+                    final ByteBuffer itemBB = ByteBuffer.allocate(size);
+                    return MerkleDbFileUtils.completelyReadAsync(channel, itemBB, byteOffsetInFile + headerSize)
+                            .thenApply(itemBytesRead -> {
+                                if (itemBytesRead != size) {
+                                    throw new CompletionException(new IOException("Failed to read all bytes: toread="
+                                            + size + " read=" + itemBytesRead + " file=" + getIndex() + " off="
+                                            + byteOffsetInFile));
+                                }
+                                itemBB.flip();
+                                return BufferedData.wrap(itemBB);
+                            });
+                });
+    }
+
+    /**
+     * Reads a data item from a compressed file. If the file is still being written, and the data
+     * item is not written to the file yet, it's read from the writer. Otherwise, the block that
+     * contains the data item is read from the file and decompressed, unless it's the last block
+     * decompressed by the current thread.
+     *
+     * @param uncompressedOffset data item offset in the uncompressed stream
+     * @return data item bytes. This may be a reused per thread buffer, so you can use it till
+     *     your thread calls read again. Null, if the file channel was closed because of a race
+     *     with compaction
+     * @throws IOException if there was a problem reading or decompressing the block
+     */
+    private BufferedData readCompressed(final long uncompressedOffset) throws IOException {
+        final DataFileWriter currentWriter = writer;
+        if (currentWriter != null) {
+            // Blocks are added to the index before they are removed from the writer, so if
+            // the data item is not in the writer, it must be in the index
+            final BufferedData pending = currentWriter.readPendingDataItem(uncompressedOffset);
+            if (pending != null) {
+                return pending;
+            }
+        }
+        final DataFileBlockIndex index = getBlockIndex();
+        final int block = index.findBlock(uncompressedOffset);
+        if (block < 0) {
+            throw new IOException("Data item not found in block index: file=" + getIndex() + " off="
+                    + uncompressedOffset);
+        }
+        final DecompressedBlock decompressed = DECOMPRESSED_BLOCK_CACHE.get();
+        if (!decompressed.isBlock(path, block) && !readBlock(index, block, decompressed)) {
+            return null;
+        }
+        final int offsetInBlock = Math.toIntExact(uncompressedOffset - index.getUncompressedOffset(block));
+        final BufferedData buf = BufferedData.wrap(
+                ByteBuffer.wrap(decompressed.data, offsetInBlock, decompressed.size - offsetInBlock)
+                        .slice());
+        final int size = readDataItemHeader(buf, uncompressedOffset);
+        buf.limit(buf.position() + size);
+        return buf;
+    }
+
+    /**
+     * Reads a compressed block from the file and decompresses it to the given per thread block.
+     *
+     * @param index block index of this file
+     * @param block block number
+     * @param target where to decompress the block to
+     * @return true if the block is read, false if the file channel was closed because of a race
+     *     with compaction
+     * @throws IOException if there was a problem reading or decompressing the block
+     */
+    private boolean readBlock(final DataFileBlockIndex index, final int block, final DecompressedBlock target)
+            throws IOException {
+        final long blockOffsetInFile = index.getFileOffset(block);
+        final int sizeInFile = index.getCompressedSize(block);
+        final int uncompressedSize = index.getUncompressedSize(block);
+        if (target.compressed.capacity() < sizeInFile) {
+            target.compressed = ByteBuffer.allocate(sizeInFile);
+        }
+        if (target.data.length < uncompressedSize) {
+            target.data = new byte[uncompressedSize];
+        }
+        // The target block is about to be overwritten
+        target.blockPath = null;
+        final ByteBuffer readBB = target.compressed;
+        // Try a few times, see read(long) for details
+        for (int retries = 3; retries > 0; retries--) {
+            final int fcIndex = leaseFileChannel();
+            final FileChannel fileChannel = fileChannels.get(fcIndex);
+            if (fileChannel == null) {
+                return false;
+            }
+            try {
+                readBB.clear();
+                readBB.limit(sizeInFile);
+                final int bytesRead = MerkleDbFileUtils.completelyRead(fileChannel, readBB, blockOffsetInFile);
+                if (bytesRead != sizeInFile) {
+                    throw new IOException("Failed to read all bytes: toread=" + sizeInFile + " read=" + bytesRead
+                            + " file=" + getIndex() + " off=" + blockOffsetInFile);
+                }
+                final BufferedData readBuf = BufferedData.wrap(ByteBuffer.wrap(readBB.array(), 0, sizeInFile));
+                final int tag = readBuf.readVarInt(false);
+                if (tag
+                        != ((FIELD_DATAFILE_BLOCKS.number() << TAG_FIELD_OFFSET)
+                                | ProtoConstants.WIRE_TYPE_DELIMITED.ordinal())) {
+                    throw new IOException(
+                            "Unknown data block tag: tag=" + tag + " file=" + getIndex() + " off=" + blockOffsetInFile);
+                }
+                readBuf.readVarInt(false); // block size
+                final int blockUncompressedSize = readBuf.readVarInt(false);
+                if (blockUncompressedSize != uncompressedSize) {
+                    throw new IOException("Block size mismatch: expected=" + uncompressedSize + " actual="
+                            + blockUncompressedSize + " file=" + getIndex() + " off=" + blockOffsetInFile);
+                }
+                final int headerSize = Math.toIntExact(readBuf.position());
+                DataFileCommon.inflateBlock(
+                        target.inflater,
+                        readBB.array(),
+                        headerSize,
+                        sizeInFile - headerSize,
+                        target.data,
+                        uncompressedSize);
+                target.size = uncompressedSize;
+                target.blockNumber = block;
+                target.blockPath = path;
+                return true;
+            } catch (final ClosedByInterruptException e) {
+                throw e;
+            } catch (final ClosedChannelException e) {
+                reopenFileChannel(fcIndex, fileChannel);
+            } finally {
+                releaseFileChannel();
+            }
+        }
+        throw new IOException("Failed to read from file, file channel keeps getting closed");
+    }
+
+    /**
+     * Asynchronous version of {@link #readCompressed(long)}. Data items are decompressed on the
+     * given executor and copied to new buffers.
+     *
+     * @param uncompressedOffset data item offset in the uncompressed stream
+     * @param executor executor to read and decompress the data item on
+     * @return future of data item
+     */
+    private CompletableFuture<BufferedData> readCompressedAsync(
+            final long uncompressedOffset, final ExecutorService executor) {
+        return CompletableFuture.supplyAsync(
+                () -> {
+                    try {
+                        final BufferedData item = readCompressed(uncompressedOffset);
+                        if (item == null) {
+                            throw new ClosedChannelException();
+                        }
+                        final byte[] bytes = new byte[Math.toIntExact(item.remaining())];
+                        item.readBytes(bytes);
+                        return BufferedData.wrap(bytes);
+                    } catch (final IOException e) {
+                        throw new CompletionException(e);
+                    }
+                },
+                executor);
+    }
+
+    /**
+     * Returns the block index of this compressed file. If the index is not set by the writer,
+     * it's loaded from the file on the first call.
+     *
+     * @return block index
+     * @throws IOException if there was a problem loading the index
+     */
+    private DataFileBlockIndex getBlockIndex() throws IOException {
+        DataFileBlockIndex index = blockIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = blockIndex;
+                if (index == null) {
+                    index = loadBlockIndex();
+                    blockIndex = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Loads the block index of a compressed file. The last field in the file is the block index
+     * offset, it's used to find and read the block index field.
+     *
+     * @return block index
+     * @throws IOException if there was a problem reading the index, or the file is malformed
+     */
+    private DataFileBlockIndex loadBlockIndex() throws IOException {
+        try (final FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long fileSize = fileChannel.size();
+            final int tagSize = ProtoWriterTools.sizeOfTag(
+                    FIELD_DATAFILE_BLOCK_INDEX_OFFSET, ProtoConstants.WIRE_TYPE_FIXED_64_BIT);
+            final ByteBuffer trailer = ByteBuffer.allocate(tagSize + Long.BYTES);
+            if ((fileSize < trailer.capacity())
+                    || (MerkleDbFileUtils.completelyRead(fileChannel, trailer, fileSize - trailer.capacity())
+                            != trailer.capacity())) {
+                throw new IOException("Failed to read block index offset: file=" + path);
+            }
+            final BufferedData trailerBuf = BufferedData.wrap(trailer);
+            trailerBuf.reset();
+            final int trailerTag = trailerBuf.readVarInt(false);
+            if (trailerTag
+                    != ((FIELD_DATAFILE_BLOCK_INDEX_OFFSET.number() << TAG_FIELD_OFFSET)
+                            | ProtoConstants.WIRE_TYPE_FIXED_64_BIT.ordinal())) {
+                throw new IOException("Block index offset not found: file=" + path);
+            }
+            final long blockIndexOffset = trailerBuf.readLong(ByteOrder.LITTLE_ENDIAN);
+            final long blockIndexFieldSize = fileSize - trailer.capacity() - blockIndexOffset;
+            if ((blockIndexOffset <= 0) || (blockIndexFieldSize <= 0)) {
+                throw new IOException("Wrong block index offset: file=" + path + " off=" + blockIndexOffset);
+            }
+            final ByteBuffer indexBB = ByteBuffer.allocate(Math.toIntExact(blockIndexFieldSize));
+            if (MerkleDbFileUtils.completelyRead(fileChannel, indexBB, blockIndexOffset) != indexBB.capacity()) {
+                throw new IOException("Failed to read block index: file=" + path);
+            }
+            final BufferedData indexBuf = BufferedData.wrap(indexBB);
+            indexBuf.reset();
+            final int indexTag = indexBuf.readVarInt(false);
+            if (indexTag
+                    != ((FIELD_DATAFILE_BLOCK_INDEX.number() << TAG_FIELD_OFFSET)
+                            | ProtoConstants.WIRE_TYPE_DELIMITED.ordinal())) {
+                throw new IOException("Block index not found: file=" + path + " off=" + blockIndexOffset);
+            }
+            final int indexSize = indexBuf.readVarInt(false);
+            indexBuf.limit(indexBuf.position() + indexSize);
+            return new DataFileBlockIndex(indexBuf);
+        }
+    }
+
+    /**
+     * The last block decompressed by a thread. Blocks are immutable, once written, so they can
+     * be safely cached. Every thread has its own instance, see {@link #DECOMPRESSED_BLOCK_CACHE}.
+     */
+    private static final class DecompressedBlock {
+
+        private final Inflater inflater = new Inflater();
+
+        /** The file the block belongs to, or null if no block has been decompressed yet */
+        private Path blockPath = null;
+
+        /** Block number in the file */
+        private int blockNumber = -1;
+
+        /** Decompressed block data */
+        private byte[] data = new byte[0];
+
+        /** Decompressed block size, may be less than data array length */
+        private int size = 0;
+
+        /** Buffer to read compressed blocks */
+        private ByteBuffer compressed = ByteBuffer.allocate(0);
+
+        boolean isBlock(final Path path, final int block) {
+            return (blockNumber == block) && path.equals(blockPath);
+        }
+    }
+
     /**
      * Opens a new file channel for reading the file, if the total number of channels opened is
      * less than {@link #maxFileChannels}. This method is safe to call from multiple threads.
@@ -384,9 +1045,6 @@ public final class DataFileReader implements AutoCloseable, Comparable<DataFileR
      * @throws ClosedChannelException if the file was closed
      */
     private BufferedData read(final long byteOffsetInFile) throws IOException {
-        // Buffer size to read data item tag and size. If the whole item is small and
-        // fits into this buffer, there is no need to make an extra file read
-        final int PRE_READ_BUF_SIZE = 2048;
         ByteBuffer readBB = BUFFER_CACHE.get();
         BufferedData readBuf = BUFFEREDDATA_CACHE.get();
         if (readBuf == null) {
@@ -410,27 +1068,14 @@ public final class DataFileReader implements AutoCloseable, Comparable<DataFileR
                 readBB.clear();
                 readBB.limit(PRE_READ_BUF_SIZE); // No need to read more than that for a header
                 int bytesRead = MerkleDbFileUtils.completelyRead(fileChannel, readBB, byteOffsetInFile);
-                if (isFileCompleted() && (bytesRead != Math.min(PRE_READ_BUF_SIZE, getSize() - byteOffsetInFile))) {
-                    throw new IOException("Failed to read all bytes: toread="
-                            + Math.min(PRE_READ_BUF_SIZE, getSize() - byteOffsetInFile) + " read=" + bytesRead
-                            + " file=" + getIndex() + " off=" + byteOffsetInFile);
-                }
+                checkHeaderBytesRead(bytesRead, byteOffsetInFile);
                 // Then read the tag and size from the read buffer, since it's wrapped over the byte buffer
                 readBuf.reset();
-                final int tag = readBuf.getVarInt(0, false); // tag
-                if (tag
-                        != ((FIELD_DATAFILE_ITEMS.number() << TAG_FIELD_OFFSET)
-                                | ProtoConstants.WIRE_TYPE_DELIMITED.ordinal())) {
-                    throw new IOException(
-                            "Unknown data item tag: tag=" + tag + " file=" + getIndex() + " off=" + byteOffsetInFile);
-                }
-                final int sizeOfTag = ProtoWriterTools.sizeOfUnsignedVarInt32(tag);
-                final int size = readBuf.getVarInt(sizeOfTag, false);
-                final int sizeOfSize = ProtoWriterTools.sizeOfUnsignedVarInt32(size);
+                final int size = readDataItemHeader(readBuf, byteOffsetInFile);
+                final int headerSize = Math.toIntExact(readBuf.position());
                 // Check if the whole data item is already read in the header
-                if (bytesRead >= sizeOfTag + sizeOfSize + size) {
-                    readBuf.position(sizeOfTag + sizeOfSize);
-                    readBuf.limit(sizeOfTag + sizeOfSize + size);
+                if (bytesRead >= headerSize + size) {
+                    readBuf.limit(headerSize + size);
                     return readBuf;
                 }
                 // Otherwise read it separately
@@ -443,8 +1088,7 @@ public final class DataFileReader implements AutoCloseable, Comparable<DataFileR
                     readBB.position(0);
                     readBB.limit(size);
                 }
-                bytesRead = MerkleDbFileUtils.completelyRead(
-                        fileChannel, readBB, byteOffsetInFile + sizeOfTag + sizeOfSize);
+                bytesRead = MerkleDbFileUtils.completelyRead(fileChannel, readBB, byteOffsetInFile + headerSize);
                 if (bytesRead != size) {
                     throw new IOException("Failed to read all bytes: toread=" + size + " read=" + bytesRead + " file="
                             + getIndex() + " off=" + byteOffsetInFile);
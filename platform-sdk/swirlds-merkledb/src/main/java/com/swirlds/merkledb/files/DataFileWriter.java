@@ -2,13 +2,20 @@
 package com.swirlds.merkledb.files;
 
 import static com.swirlds.base.units.UnitConstants.KIBIBYTES_TO_BYTES;
+import static com.swirlds.merkledb.files.DataFileCommon.FIELD_DATAFILE_BLOCKS;
+import static com.swirlds.merkledb.files.DataFileCommon.FIELD_DATAFILE_BLOCK_INDEX;
+import static com.swirlds.merkledb.files.DataFileCommon.FIELD_DATAFILE_BLOCK_INDEX_OFFSET;
 import static com.swirlds.merkledb.files.DataFileCommon.FIELD_DATAFILE_ITEMS;
 import static com.swirlds.merkledb.files.DataFileCommon.PAGE_SIZE;
 import static com.swirlds.merkledb.files.DataFileCommon.createDataFilePath;
 
+import com.hedera.pbj.runtime.FieldDefinition;
+import com.hedera.pbj.runtime.ProtoConstants;
 import com.hedera.pbj.runtime.ProtoWriterTools;
 import com.hedera.pbj.runtime.io.buffer.BufferedData;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.channels.FileChannel.MapMode;
@@ -16,7 +23,9 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.function.Consumer;
+import java.util.zip.Deflater;
 import org.hiero.base.utility.MemoryUtils;
 
 /**
@@ -32,6 +41,14 @@ import org.hiero.base.utility.MemoryUtils;
  *
  * <p><b>This is designed to be used from a single thread.</b>
  *
+ * <p>If compression is enabled, data items are not written to the file directly. Instead, they
+ * are collected into blocks of about {@code compressedBlockSize} bytes, and every block is
+ * compressed and written to the file as a single field. When the file is closed, a block index
+ * is written after the last block, followed by a fixed size field with the block index offset in
+ * the file. In compressed files, data item locations are offsets in the uncompressed stream of
+ * all data items rather than offsets in the file, see {@link DataFileBlockIndex}. Data items
+ * that have not been written to the file yet are available using {@link #readPendingDataItem(long)}.
+ *
  * <p>{@link DataFileReader} or {@link DataFileIterator} can be used to read file back and access data items.
  */
 public final class DataFileWriter implements AutoCloseable {
@@ -69,6 +86,31 @@ public final class DataFileWriter implements AutoCloseable {
 
     private boolean closed = false;
 
+    /** Block index, or null if this file is not compressed */
+    private final DataFileBlockIndex blockIndex;
+
+    /** Target uncompressed block size, in bytes. Only used for compressed files */
+    private final int compressedBlockSize;
+
+    /** Compressor, or null if this file is not compressed */
+    private final Deflater deflater;
+
+    /**
+     * Data items of the current block, which is not written to the file yet. The current block is
+     * read by data file readers on other threads, see {@link #readPendingDataItem(long)}, so this
+     * field, {@link #pendingBlockSize}, and {@link #pendingBlockOffset} are guarded by this writer.
+     */
+    private byte[] pendingBlock;
+
+    /** Size of the current block, in bytes */
+    private int pendingBlockSize = 0;
+
+    /** Offset of the current block in the uncompressed stream of data items */
+    private long pendingBlockOffset = 0;
+
+    /** Reusable buffer for compressed blocks */
+    private byte[] compressedBlock;
+
     /**
      * Create a new data file with moving mapped byte buffer of 256Mb size.
      */
@@ -102,12 +144,85 @@ public final class DataFileWriter implements AutoCloseable {
             final int compactionLevel,
             final long dataBufferSize)
             throws IOException {
+        this(
+                filePrefix,
+                dataFileDir,
+                index,
+                creationTime,
+                compactionLevel,
+                dataBufferSize,
+                DataFileCompression.NONE,
+                0);
+    }
+
+    /**
+     * Create a new data file with moving mapped byte buffer of 256Mb size, optionally compressed.
+     */
+    public DataFileWriter(
+            final String filePrefix,
+            final Path dataFileDir,
+            final int index,
+            final Instant creationTime,
+            final int compactionLevel,
+            final DataFileCompression compression,
+            final int compressedBlockSize)
+            throws IOException {
+        this(
+                filePrefix,
+                dataFileDir,
+                index,
+                creationTime,
+                compactionLevel,
+                DEFAULT_BUF_SIZE,
+                compression,
+                compressedBlockSize);
+    }
+
+    /**
+     * Create a new data file in the given directory, in append mode. Puts the object into "writing"
+     * mode (i.e. creates a lock file. So you'd better start writing data and be sure to finish it
+     * off).
+     *
+     * @param filePrefix string prefix for all files, must not contain "_" chars
+     * @param dataFileDir the path to directory to create the data file in
+     * @param index the index number for this file
+     * @param creationTime the time stamp for the creation time for this file
+     * @param compactionLevel the compaction level for this file
+     * @param dataBufferSize the size of the memory mapped data buffer to use for writing data items
+     * @param compression data items compression
+     * @param compressedBlockSize target uncompressed block size, in bytes. Ignored if compression is
+     *     {@link DataFileCompression#NONE}
+     */
+    public DataFileWriter(
+            final String filePrefix,
+            final Path dataFileDir,
+            final int index,
+            final Instant creationTime,
+            final int compactionLevel,
+            final long dataBufferSize,
+            final DataFileCompression compression,
+            final int compressedBlockSize)
+            throws IOException {
         this.dataBufferSize = dataBufferSize;
+        if (compression != DataFileCompression.NONE) {
+            if (compressedBlockSize <= 0) {
+                throw new IllegalArgumentException("Compressed block size must be positive: " + compressedBlockSize);
+            }
+            this.compressedBlockSize = compressedBlockSize;
+            blockIndex = new DataFileBlockIndex();
+            deflater = new Deflater(Deflater.BEST_SPEED);
+            pendingBlock = new byte[compressedBlockSize];
+            compressedBlock = new byte[compressedBlockSize];
+        } else {
+            this.compressedBlockSize = 0;
+            blockIndex = null;
+            deflater = null;
+        }
 
         path = createDataFilePath(filePrefix, dataFileDir, index, creationTime, DataFileCommon.FILE_EXTENSION);
         Files.createFile(path);
         fileChannel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
-        metadata = new DataFileMetadata(index, creationTime, compactionLevel);
+        metadata = new DataFileMetadata(index, creationTime, compactionLevel, compression);
 
         bufferPositionInFile = writeHeader();
         moveWritingBuffer(bufferPositionInFile);
@@ -159,6 +274,16 @@ public final class DataFileWriter implements AutoCloseable {
         return metadata;
     }
 
+    /**
+     * Get the block index of the file. Blocks are added to the index as they are written, so
+     * the index can be used to read data items from the file while it's still being written.
+     *
+     * @return block index, or null if the file is not compressed
+     */
+    DataFileBlockIndex getBlockIndex() {
+        return blockIndex;
+    }
+
     /**
      * Store data item in file returning location it was stored at.
      *
@@ -183,9 +308,112 @@ public final class DataFileWriter implements AutoCloseable {
         if (closed) {
             throw new IOException("Data file is already closed");
         }
+        if (blockIndex != null) {
+            return storeCompressedDataItem(dataItemWriter, dataItemSize);
+        }
+        final long fileOffset = writeField(FIELD_DATAFILE_ITEMS, dataItemSize, dataItemWriter);
+        // return the offset where we wrote the data
+        return DataFileCommon.dataLocation(metadata.getIndex(), fileOffset);
+    }
 
-        final long fileOffset = getCurrentFilePosition();
+    /**
+     * Adds a data item to the current block of a compressed file. If the block is full, it's
+     * compressed and written to the file first.
+     *
+     * @param dataItemWriter the data item to write
+     * @param dataItemSize the data item size, in bytes
+     * @return the data location of the data item, the offset is in the uncompressed stream
+     * @throws IOException if there was a problem writing a block to the file
+     */
+    private synchronized long storeCompressedDataItem(
+            final Consumer<BufferedData> dataItemWriter, final int dataItemSize) throws IOException {
         final int sizeToWrite = ProtoWriterTools.sizeOfDelimited(FIELD_DATAFILE_ITEMS, dataItemSize);
+        if ((pendingBlockSize > 0) && (pendingBlockSize + sizeToWrite > compressedBlockSize)) {
+            writePendingBlock();
+        }
+        // A block always contains at least one data item, even if the item is larger than the block size
+        if (pendingBlockSize + sizeToWrite > pendingBlock.length) {
+            pendingBlock = Arrays.copyOf(pendingBlock, pendingBlockSize + sizeToWrite);
+        }
+        final BufferedData blockBuffer =
+                BufferedData.wrap(ByteBuffer.wrap(pendingBlock, pendingBlockSize, sizeToWrite).slice());
+        ProtoWriterTools.writeDelimited(blockBuffer, FIELD_DATAFILE_ITEMS, dataItemSize, dataItemWriter);
+        if (blockBuffer.position() != sizeToWrite) {
+            throw new IOException("Estimated size / written bytes mismatch: expected=" + sizeToWrite + " written="
+                    + blockBuffer.position());
+        }
+        final long uncompressedOffset = pendingBlockOffset + pendingBlockSize;
+        pendingBlockSize += sizeToWrite;
+        return DataFileCommon.dataLocation(metadata.getIndex(), uncompressedOffset);
+    }
+
+    /**
+     * Reads a data item from the current block of a compressed file, which is not written to the
+     * file yet. This method is used by data file readers, while the file is being written.
+     *
+     * @param uncompressedOffset data item offset in the uncompressed stream
+     * @return a copy of the data item bytes, or null if the data item isn't in the current block
+     */
+    synchronized BufferedData readPendingDataItem(final long uncompressedOffset) {
+        if ((blockIndex == null)
+                || (uncompressedOffset < pendingBlockOffset)
+                || (uncompressedOffset >= pendingBlockOffset + pendingBlockSize)) {
+            return null;
+        }
+        final int offsetInBlock = Math.toIntExact(uncompressedOffset - pendingBlockOffset);
+        final BufferedData buf = BufferedData.wrap(
+                ByteBuffer.wrap(pendingBlock, offsetInBlock, pendingBlockSize - offsetInBlock).slice());
+        buf.readVarInt(false); // tag
+        final int size = buf.readVarInt(false);
+        final int dataStart = offsetInBlock + Math.toIntExact(buf.position());
+        return BufferedData.wrap(Arrays.copyOfRange(pendingBlock, dataStart, dataStart + size));
+    }
+
+    /**
+     * Compresses the current block and writes it to the file. The block is added to the block
+     * index, and a new empty block is started.
+     *
+     * @throws IOException if there was a problem writing the block
+     */
+    private synchronized void writePendingBlock() throws IOException {
+        deflater.reset();
+        deflater.setInput(pendingBlock, 0, pendingBlockSize);
+        deflater.finish();
+        int compressedSize = 0;
+        while (!deflater.finished()) {
+            if (compressedSize == compressedBlock.length) {
+                compressedBlock = Arrays.copyOf(compressedBlock, compressedBlock.length * 2);
+            }
+            compressedSize +=
+                    deflater.deflate(compressedBlock, compressedSize, compressedBlock.length - compressedSize);
+        }
+        final int uncompressedSize = pendingBlockSize;
+        final int blockSize = compressedSize;
+        final long fileOffset = writeField(
+                FIELD_DATAFILE_BLOCKS, ProtoWriterTools.sizeOfUnsignedVarInt32(uncompressedSize) + blockSize, o -> {
+                    o.writeVarInt(uncompressedSize, false);
+                    o.writeBytes(compressedBlock, 0, blockSize);
+                });
+        final int sizeInFile = Math.toIntExact(getCurrentFilePosition() - fileOffset);
+        // Update the index first, then clear the pending block, see readPendingDataItem()
+        blockIndex.addBlock(pendingBlockOffset, fileOffset, sizeInFile, uncompressedSize);
+        pendingBlockOffset += uncompressedSize;
+        pendingBlockSize = 0;
+    }
+
+    /**
+     * Writes a delimited field to the file at the current position.
+     *
+     * @param field the field to write
+     * @param fieldSize the field size, in bytes, not including tag and size
+     * @param fieldWriter writes field bytes
+     * @return the field offset in the file
+     * @throws IOException if there was a problem writing the field
+     */
+    private long writeField(final FieldDefinition field, final int fieldSize, final Consumer<BufferedData> fieldWriter)
+            throws IOException {
+        final long fileOffset = getCurrentFilePosition();
+        final int sizeToWrite = ProtoWriterTools.sizeOfDelimited(field, fieldSize);
 
         if (sizeToWrite > dataBufferSize) {
             throw new IOException(
@@ -199,7 +427,7 @@ public final class DataFileWriter implements AutoCloseable {
         }
 
         // write actual data
-        ProtoWriterTools.writeDelimited(dataBuffer, FIELD_DATAFILE_ITEMS, dataItemSize, dataItemWriter);
+        ProtoWriterTools.writeDelimited(dataBuffer, field, fieldSize, fieldWriter);
 
         // double check that we wrote the expected number of bytes
         if (getCurrentFilePosition() != fileOffset + sizeToWrite) {
@@ -207,8 +435,29 @@ public final class DataFileWriter implements AutoCloseable {
                     + (getCurrentFilePosition() - fileOffset));
         }
 
-        // return the offset where we wrote the data
-        return DataFileCommon.dataLocation(metadata.getIndex(), fileOffset);
+        return fileOffset;
+    }
+
+    /**
+     * Writes the last block of a compressed file, the block index, and the block index offset.
+     *
+     * @throws IOException if there was a problem writing to the file
+     */
+    private synchronized void writeBlockIndex() throws IOException {
+        if (pendingBlockSize > 0) {
+            writePendingBlock();
+        }
+        final long blockIndexOffset =
+                writeField(FIELD_DATAFILE_BLOCK_INDEX, blockIndex.sizeInBytes(), blockIndex::writeTo);
+        final int sizeOfBlockIndexOffset =
+                ProtoWriterTools.sizeOfTag(FIELD_DATAFILE_BLOCK_INDEX_OFFSET, ProtoConstants.WIRE_TYPE_FIXED_64_BIT)
+                        + Long.BYTES;
+        if (dataBuffer.remaining() < sizeOfBlockIndexOffset) {
+            moveWritingBuffer(getCurrentFilePosition());
+        }
+        ProtoWriterTools.writeTag(dataBuffer, FIELD_DATAFILE_BLOCK_INDEX_OFFSET);
+        dataBuffer.writeLong(blockIndexOffset, ByteOrder.LITTLE_ENDIAN);
+        deflater.end();
     }
 
     /**
@@ -220,6 +469,10 @@ public final class DataFileWriter implements AutoCloseable {
             return;
         }
 
+        if (blockIndex != null) {
+            writeBlockIndex();
+        }
+
         // total file size is where the current writing pos is
         final long totalFileSize = bufferPositionInFile + dataBuffer.position();
 
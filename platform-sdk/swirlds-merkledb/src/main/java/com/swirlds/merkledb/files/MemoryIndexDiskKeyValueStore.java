@@ -14,8 +14,13 @@ import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.LongSummaryStatistics;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
+import java.util.stream.LongStream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -66,12 +71,75 @@ public class MemoryIndexDiskKeyValueStore implements AutoCloseable, Snapshotable
             final LoadedDataCallback loadedDataCallback,
             final LongList keyToDiskLocationIndex)
             throws IOException {
+        this(config, storeDir, storeName, legacyStoreName, loadedDataCallback, keyToDiskLocationIndex, false);
+    }
+
+    /**
+     * Construct a new MemoryIndexDiskKeyValueStore, optionally with memory mapped reads from
+     * completed data files.
+     *
+     * @param storeDir The directory to store data files in
+     * @param storeName The name for the data store, this allows more than one data store in a single directory.
+     * @param legacyStoreName Base name for the data store. If not null, the store will process files with this prefix
+     *     at startup. New files in the store will be prefixed with {@code storeName}
+     * @param loadedDataCallback call back for handing loaded data from existing files on startup. Can be null if not
+     *     needed.
+     * @param keyToDiskLocationIndex The index to use for keys to disk locations
+     * @param memoryMappedReads Whether completed data files should be memory mapped for reads
+     * @throws IOException If there was a problem opening data files
+     */
+    public MemoryIndexDiskKeyValueStore(
+            final MerkleDbConfig config,
+            final Path storeDir,
+            final String storeName,
+            final String legacyStoreName,
+            final LoadedDataCallback loadedDataCallback,
+            final LongList keyToDiskLocationIndex,
+            final boolean memoryMappedReads)
+            throws IOException {
+        this(
+                config,
+                storeDir,
+                storeName,
+                legacyStoreName,
+                loadedDataCallback,
+                keyToDiskLocationIndex,
+                memoryMappedReads,
+                DataFileCompression.NONE);
+    }
+
+    /**
+     * Construct a new MemoryIndexDiskKeyValueStore, optionally with memory mapped reads from
+     * completed data files and compressed data files.
+     *
+     * @param storeDir The directory to store data files in
+     * @param storeName The name for the data store, this allows more than one data store in a single directory.
+     * @param legacyStoreName Base name for the data store. If not null, the store will process files with this prefix
+     *     at startup. New files in the store will be prefixed with {@code storeName}
+     * @param loadedDataCallback call back for handing loaded data from existing files on startup. Can be null if not
+     *     needed.
+     * @param keyToDiskLocationIndex The index to use for keys to disk locations
+     * @param memoryMappedReads Whether completed data files should be memory mapped for reads
+     * @param compression Data items compression in new data files
+     * @throws IOException If there was a problem opening data files
+     */
+    public MemoryIndexDiskKeyValueStore(
+            final MerkleDbConfig config,
+            final Path storeDir,
+            final String storeName,
+            final String legacyStoreName,
+            final LoadedDataCallback loadedDataCallback,
+            final LongList keyToDiskLocationIndex,
+            final boolean memoryMappedReads,
+            final DataFileCompression compression)
+            throws IOException {
         this.storeName = storeName;
         index = keyToDiskLocationIndex;
         // create store dir
         Files.createDirectories(storeDir);
         // create file collection
-        fileCollection = new DataFileCollection(config, storeDir, storeName, legacyStoreName, loadedDataCallback);
+        fileCollection = new DataFileCollection(
+                config, storeDir, storeName, legacyStoreName, loadedDataCallback, memoryMappedReads, compression);
     }
 
     /**
@@ -82,6 +150,17 @@ public class MemoryIndexDiskKeyValueStore implements AutoCloseable, Snapshotable
      * @param max max valid key, inclusive
      */
     public void updateValidKeyRange(final long min, final long max) {
+        // Data items for the keys that are out of the new range become garbage
+        final long oldMin = index.getMinValidIndex();
+        final long oldMax = index.getMaxValidIndex();
+        if (oldMin >= 0) {
+            for (long key = oldMin; key <= Math.min(oldMax, min - 1); key++) {
+                fileCollection.markItemObsolete(index.get(key));
+            }
+            for (long key = Math.max(oldMin, max + 1); key <= oldMax; key++) {
+                fileCollection.markItemObsolete(index.get(key));
+            }
+        }
         // By calling `updateMinValidIndex` we compact the index if it's applicable.
         index.updateValidRange(min, max);
         // Data file collection key range is updated in endWriting()
@@ -108,6 +187,8 @@ public class MemoryIndexDiskKeyValueStore implements AutoCloseable, Snapshotable
     public void put(final long key, final Consumer<BufferedData> dataItemWriter, final int dataItemSize)
             throws IOException {
         final long dataLocation = fileCollection.storeDataItem(dataItemWriter, dataItemSize);
+        // the previous data item for the key, if any, becomes garbage
+        fileCollection.markItemObsolete(index.get(key));
         // store data location in index
         index.put(key, dataLocation);
     }
@@ -165,6 +246,34 @@ public class MemoryIndexDiskKeyValueStore implements AutoCloseable, Snapshotable
         return fileCollection.readDataItemUsingIndex(index, key);
     }
 
+    /**
+     * Get values for the given keys by reading them from disk asynchronously. All reads are issued
+     * at once, see {@link DataFileCollection#readDataItemsUsingIndex(LongList, long[], ExecutorService)}.
+     *
+     * @param keys The keys to find and read values for
+     * @param executor executor to complete reads on, owned by the caller
+     * @return futures of value bytes, in the same order as keys. A future is completed with null,
+     *     if the key is out of range or not found
+     */
+    public List<CompletableFuture<BufferedData>> getAll(final long[] keys, final ExecutorService executor) {
+        final LongStream.Builder keysInRange = LongStream.builder();
+        final boolean[] inRange = new boolean[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            inRange[i] = checkKeyInRange(keys[i]);
+            if (inRange[i]) {
+                keysInRange.add(keys[i]);
+            }
+        }
+        final List<CompletableFuture<BufferedData>> reads =
+                fileCollection.readDataItemsUsingIndex(index, keysInRange.build().toArray(), executor);
+        final List<CompletableFuture<BufferedData>> result = new ArrayList<>(keys.length);
+        int readIndex = 0;
+        for (int i = 0; i < keys.length; i++) {
+            result.add(inRange[i] ? reads.get(readIndex++) : CompletableFuture.completedFuture(null));
+        }
+        return result;
+    }
+
     /**
      * Close all files being used
      *
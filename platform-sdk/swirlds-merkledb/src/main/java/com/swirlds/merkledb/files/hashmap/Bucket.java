@@ -15,6 +15,7 @@ import com.hedera.pbj.runtime.io.buffer.BufferedData;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -28,6 +29,12 @@ import org.apache.logging.log4j.Logger;
  * accessed from different threads, this use case is supported. However, buckets aren't
  * designed to be updated concurrently from multiple threads.
  *
+ * <p>In addition to serialized bucket bytes, every bucket keeps entry hash codes and entry
+ * offsets in two contiguous arrays, in the same order as the entries are stored in bucket bytes.
+ * The arrays are built when a bucket is read, and kept up to date on every bucket update. Entry
+ * lookups scan the hash code array first, and only parse bucket entries with matching hash codes.
+ * The arrays aren't serialized, so bucket format on disk isn't affected.
+ *
  * <p>Protobuf schema:
  *
  * <pre>
@@ -76,6 +83,9 @@ public sealed class Bucket implements Closeable permits ParsedBucket {
     private static final int METADATA_SIZE =
             ProtoWriterTools.sizeOfTag(FIELD_BUCKET_INDEX, ProtoConstants.WIRE_TYPE_FIXED_32_BIT) + Integer.BYTES;
 
+    /** Initial capacity of entry hash code and offset arrays */
+    private static final int INITIAL_ENTRIES_CAPACITY = 16;
+
     /**
      * Bucket pool this bucket is managed by, optional. If not null, the bucket is
      * released back to the pool on close.
@@ -88,6 +98,12 @@ public sealed class Bucket implements Closeable permits ParsedBucket {
 
     private int entryCount = 0;
 
+    /** Entry hash codes, the first {@link #entryCount} elements are used */
+    private int[] entryHashCodes = new int[INITIAL_ENTRIES_CAPACITY];
+
+    /** Entry offsets in bucket bytes, the first {@link #entryCount} elements are used */
+    private long[] entryOffsets = new long[INITIAL_ENTRIES_CAPACITY];
+
     /**
      * Create a new bucket with the default size.
      */
@@ -240,7 +256,7 @@ public sealed class Bucket implements Closeable permits ParsedBucket {
                 }
                 bucketData.position(0); // limit() doesn't work if the new limit is less than the current pos
                 bucketData.limit(result.entryOffset() + remainderSize);
-                entryCount--;
+                removeEntryIndex(result.entryIndex(), result.entrySize());
             } else {
                 // entry not found, nothing to delete
             }
@@ -258,8 +274,10 @@ public sealed class Bucket implements Closeable permits ParsedBucket {
                 return;
             }
             // add a new entry
+            final long entryOffset = bucketData.limit();
             writeNewEntry(keyHashCode, value, key);
-            checkLargestBucket(++entryCount);
+            addEntryIndex(keyHashCode, entryOffset);
+            checkLargestBucket(entryCount);
         }
     }
 
@@ -300,9 +318,14 @@ public sealed class Bucket implements Closeable permits ParsedBucket {
                 bucketIndexFieldOffset = fieldOffset;
                 bucketData.skip(Integer.BYTES);
             } else if (fieldNum == FIELD_BUCKET_ENTRIES.number()) {
-                final int entryBytesSize = bucketData.readVarInt(false);
-                bucketData.skip(entryBytesSize);
-                entryCount++;
+                final int entrySize = bucketData.readVarInt(false);
+                final long nextEntryOffset = bucketData.position() + entrySize;
+                final long oldLimit = bucketData.limit();
+                bucketData.limit(nextEntryOffset);
+                final int entryHashCode = readBucketEntryHashCode(bucketData);
+                bucketData.limit(oldLimit);
+                addEntryIndex(entryHashCode, fieldOffset);
+                bucketData.position(nextEntryOffset);
             } else {
                 logger.error(
                         MERKLE_DB.getMarker(),
@@ -338,6 +361,21 @@ public sealed class Bucket implements Closeable permits ParsedBucket {
         throw new IllegalArgumentException("No bucket entry hash code found");
     }
 
+    /**
+     * Builds a key filter for this bucket from hash codes of all bucket entries. If the bucket
+     * is empty, {@link BucketKeyFilter#UNKNOWN} is returned.
+     *
+     * @return the key filter for this bucket
+     * @see BucketKeyFilter
+     */
+    public long computeKeyFilter() {
+        long filter = BucketKeyFilter.UNKNOWN;
+        for (int i = 0; i < entryCount; i++) {
+            filter |= BucketKeyFilter.bitsOf(entryHashCodes[i]);
+        }
+        return filter;
+    }
+
     public void writeTo(final WritableSequentialData out) {
         bucketData.resetPosition();
         out.writeBytes(bucketData);
@@ -364,6 +402,8 @@ public sealed class Bucket implements Closeable permits ParsedBucket {
         bucketData.resetPosition();
         long srcIndex = 0;
         long dstIndex = 0;
+        // Entry index is rebuilt from scratch
+        entryCount = 0;
         while (bucketData.hasRemaining()) {
             final long fieldOffset = bucketData.position();
             final int tag = bucketData.readVarInt(false);
@@ -383,6 +423,7 @@ public sealed class Bucket implements Closeable permits ParsedBucket {
                 bucketData.limit(oldLimit);
                 if ((entryHashCode & expectedMask) == expectedIndex) {
                     copyBucketDataBytes(srcIndex, dstIndex, entryLenWithTag);
+                    addEntryIndex(entryHashCode, dstIndex);
                     dstIndex += entryLenWithTag;
                 }
                 srcIndex += entryLenWithTag;
@@ -420,69 +461,103 @@ public sealed class Bucket implements Closeable permits ParsedBucket {
     // =================================================================================================================
     // Private API
 
+    /**
+     * Appends a new entry to entry hash code and offset arrays.
+     */
+    private void addEntryIndex(final int hashCode, final long entryOffset) {
+        if (entryCount == entryHashCodes.length) {
+            final int newCapacity = entryCount * 2;
+            entryHashCodes = Arrays.copyOf(entryHashCodes, newCapacity);
+            entryOffsets = Arrays.copyOf(entryOffsets, newCapacity);
+        }
+        entryHashCodes[entryCount] = hashCode;
+        entryOffsets[entryCount] = entryOffset;
+        entryCount++;
+    }
+
+    /**
+     * Removes an entry from entry hash code and offset arrays. Offsets of all subsequent entries
+     * are reduced by the removed entry size.
+     */
+    private void removeEntryIndex(final int index, final int entrySize) {
+        final int tail = entryCount - index - 1;
+        System.arraycopy(entryHashCodes, index + 1, entryHashCodes, index, tail);
+        System.arraycopy(entryOffsets, index + 1, entryOffsets, index, tail);
+        entryCount--;
+        for (int i = index; i < entryCount; i++) {
+            entryOffsets[i] -= entrySize;
+        }
+    }
+
     private FindResult findEntry(final int keyHashCode, final Bytes key) {
-        bucketData.resetPosition();
-        while (bucketData.hasRemaining()) {
-            final long fieldOffset = bucketData.position();
-            final int tag = bucketData.readVarInt(false);
-            final int fieldNum = tag >> TAG_FIELD_OFFSET;
-            if (fieldNum == FIELD_BUCKET_INDEX.number()) {
-                bucketData.skip(Integer.BYTES);
-            } else if (fieldNum == FIELD_BUCKET_ENTRIES.number()) {
-                final int entrySize = bucketData.readVarInt(false);
-                final long nextEntryOffset = bucketData.position() + entrySize;
-                final long oldLimit = bucketData.limit();
-                bucketData.limit(nextEntryOffset);
-                try {
-                    int entryHashCode = -1;
-                    long entryValueOffset = -1;
-                    long entryValue = 0;
-                    long entryKeyBytesOffset = -1;
-                    int entryKeyBytesSize = -1;
-                    while (bucketData.hasRemaining()) {
-                        final int entryTag = bucketData.readVarInt(false);
-                        final int entryFieldNum = entryTag >> TAG_FIELD_OFFSET;
-                        if (entryFieldNum == FIELD_BUCKETENTRY_HASHCODE.number()) {
-                            entryHashCode = bucketData.readInt();
-                            if (entryHashCode != keyHashCode) {
-                                break;
-                            }
-                        } else if (entryFieldNum == FIELD_BUCKETENTRY_VALUE.number()) {
-                            entryValueOffset = bucketData.position();
-                            entryValue = bucketData.readLong();
-                        } else if (entryFieldNum == FIELD_BUCKETENTRY_KEYBYTES.number()) {
-                            entryKeyBytesSize = bucketData.readVarInt(false);
-                            entryKeyBytesOffset = bucketData.position();
-                            bucketData.skip(entryKeyBytesSize);
-                        } else {
-                            throw new IllegalArgumentException("Unknown bucket entry field: " + entryFieldNum);
-                        }
-                    }
-                    if (entryHashCode == keyHashCode) {
-                        if ((entryValueOffset == -1) || (entryKeyBytesOffset == -1)) {
-                            logger.warn(MERKLE_DB.getMarker(), "Broken bucket entry");
-                        } else {
-                            if (keyEquals(entryKeyBytesOffset, entryKeyBytesSize, key)) {
-                                return new FindResult(
-                                        true,
-                                        fieldOffset,
-                                        Math.toIntExact(nextEntryOffset - fieldOffset),
-                                        entryValueOffset,
-                                        entryValue);
-                            }
-                        }
-                    }
-                } finally {
-                    bucketData.limit(oldLimit);
-                    bucketData.position(nextEntryOffset);
+        final int[] hashCodes = entryHashCodes;
+        final int count = entryCount;
+        for (int i = 0; i < count; i++) {
+            // Only entries with matching hash codes are parsed
+            if (hashCodes[i] == keyHashCode) {
+                final FindResult result = checkEntry(i, key);
+                if (result != null) {
+                    return result;
                 }
-            } else {
-                throw new IllegalArgumentException("Unknown bucket field: " + fieldNum);
             }
         }
         return FindResult.NOT_FOUND;
     }
 
+    /**
+     * Parses a bucket entry with the given index and checks if its key is equal to the given key.
+     *
+     * @return the find result, if the key is equal, or null otherwise
+     */
+    private FindResult checkEntry(final int entryIndex, final Bytes key) {
+        final long fieldOffset = entryOffsets[entryIndex];
+        bucketData.position(fieldOffset);
+        final int tag = bucketData.readVarInt(false);
+        assert (tag >> TAG_FIELD_OFFSET) == FIELD_BUCKET_ENTRIES.number();
+        final int entrySize = bucketData.readVarInt(false);
+        final long nextEntryOffset = bucketData.position() + entrySize;
+        final long oldLimit = bucketData.limit();
+        bucketData.limit(nextEntryOffset);
+        try {
+            long entryValueOffset = -1;
+            long entryValue = 0;
+            long entryKeyBytesOffset = -1;
+            int entryKeyBytesSize = -1;
+            while (bucketData.hasRemaining()) {
+                final int entryTag = bucketData.readVarInt(false);
+                final int entryFieldNum = entryTag >> TAG_FIELD_OFFSET;
+                if (entryFieldNum == FIELD_BUCKETENTRY_HASHCODE.number()) {
+                    bucketData.skip(Integer.BYTES);
+                } else if (entryFieldNum == FIELD_BUCKETENTRY_VALUE.number()) {
+                    entryValueOffset = bucketData.position();
+                    entryValue = bucketData.readLong();
+                } else if (entryFieldNum == FIELD_BUCKETENTRY_KEYBYTES.number()) {
+                    entryKeyBytesSize = bucketData.readVarInt(false);
+                    entryKeyBytesOffset = bucketData.position();
+                    bucketData.skip(entryKeyBytesSize);
+                } else {
+                    throw new IllegalArgumentException("Unknown bucket entry field: " + entryFieldNum);
+                }
+            }
+            if ((entryValueOffset == -1) || (entryKeyBytesOffset == -1)) {
+                logger.warn(MERKLE_DB.getMarker(), "Broken bucket entry");
+                return null;
+            }
+            if (!keyEquals(entryKeyBytesOffset, entryKeyBytesSize, key)) {
+                return null;
+            }
+            return new FindResult(
+                    true,
+                    entryIndex,
+                    fieldOffset,
+                    Math.toIntExact(nextEntryOffset - fieldOffset),
+                    entryValueOffset,
+                    entryValue);
+        } finally {
+            bucketData.limit(oldLimit);
+        }
+    }
+
     private boolean keyEquals(final long pos, final int size, final Bytes key) {
         if (size != key.length()) {
             return false;
@@ -505,12 +580,14 @@ public sealed class Bucket implements Closeable permits ParsedBucket {
 
     /**
      * Simple record for entry lookup results. If an entry is found, "found" is set to true,
-     * "entryOffset" is the entry offset in bytes in the bucket buffer, entrySize is the size of entry in
-     * bytes, and "entryValue" is the entry value. If no entity is found, "found" is false, "entryOffset"
-     * and "entrySize" are -1, and "entryValue" is undefined.
+     * "entryIndex" is the entry index in entry hash code and offset arrays, "entryOffset" is the
+     * entry offset in bytes in the bucket buffer, entrySize is the size of entry in bytes, and
+     * "entryValue" is the entry value. If no entity is found, "found" is false, "entryIndex",
+     * "entryOffset" and "entrySize" are -1, and "entryValue" is undefined.
      */
-    private record FindResult(boolean found, long entryOffset, int entrySize, long entryValueOffset, long entryValue) {
+    private record FindResult(
+            boolean found, int entryIndex, long entryOffset, int entrySize, long entryValueOffset, long entryValue) {
 
-        static FindResult NOT_FOUND = new FindResult(false, -1, -1, -1, -1);
+        static FindResult NOT_FOUND = new FindResult(false, -1, -1, -1, -1, -1);
     }
 }
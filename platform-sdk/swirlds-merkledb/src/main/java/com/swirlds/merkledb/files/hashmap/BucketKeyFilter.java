@@ -0,0 +1,64 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.merkledb.files.hashmap;
+
+/**
+ * A tiny per-bucket Bloom filter over key hash codes, packed into a single long. {@link
+ * HalfDiskHashMap} keeps one filter per bucket in RAM, next to the bucket index, and checks it
+ * before a bucket is read from disk. If the filter says a key is definitely not in the bucket,
+ * the disk read is skipped.
+ *
+ * <p>All keys in a bucket share the same lower hash code bits (the bucket index), so filter bits
+ * can't be taken from the hash code directly. Instead, the hash code is mixed with a multiplicative
+ * hash, and two 6-bit bit numbers are taken from the upper bits of the result.
+ *
+ * <p>The filter is limited to 64 bits, so that it fits a single {@code LongList} entry per bucket,
+ * and its false positive rate depends on the number of keys in the bucket. With the default
+ * average bucket size of about 32 keys, about 63% of filter bits are set, which gives a false
+ * positive rate of about 40%. No 64-bit filter does much better for 32 keys. With 16 keys per
+ * bucket the rate is about 16%, and with 8 keys it's about 5%. The average bucket size is set by
+ * {@code MerkleDbConfig.goodAverageBucketEntryCount()}, so lowering it makes filters more
+ * effective, at the cost of more buckets.
+ *
+ * <p>Filter value {@link #UNKNOWN} (zero) means there is no filter information for the bucket,
+ * e.g. the bucket was written before filters were enabled. Such buckets are always read from
+ * disk. Non-empty buckets always have non-zero filters, and empty buckets aren't stored at all,
+ * so zero can safely be used as a sentinel. It's also consistent with {@code LongList} semantics,
+ * where zero is a never-set value.
+ */
+public final class BucketKeyFilter {
+
+    /** Filter value that indicates no filter information is available for a bucket */
+    public static final long UNKNOWN = 0;
+
+    /** Multiplier used to mix key hash codes, 2^32 / golden ratio */
+    private static final int MIX = 0x9E3779B9;
+
+    private BucketKeyFilter() {}
+
+    /**
+     * Returns filter bits for a key with the given hash code. The result always has one or two
+     * bits set.
+     *
+     * @param keyHashCode the key hash code
+     * @return filter bits for the key
+     */
+    public static long bitsOf(final int keyHashCode) {
+        final int mixed = keyHashCode * MIX;
+        return (1L << (mixed >>> 26)) | (1L << ((mixed >>> 20) & 0x3F));
+    }
+
+    /**
+     * Checks if a key with the given hash code may be present in a bucket with the given filter.
+     *
+     * @param filter the bucket filter
+     * @param keyHashCode the key hash code
+     * @return false, if the key is definitely not in the bucket, true otherwise
+     */
+    public static boolean mightContain(final long filter, final int keyHashCode) {
+        if (filter == UNKNOWN) {
+            return true;
+        }
+        final long bits = bitsOf(keyHashCode);
+        return (filter & bits) == bits;
+    }
+}
@@ -36,6 +36,8 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.eclipse.collections.api.tuple.primitive.IntObjectPair;
@@ -64,6 +66,8 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
     private static final String METADATA_FILENAME_SUFFIX = "_metadata.hdhm";
     /** Bucket index file name suffix with extension */
     private static final String BUCKET_INDEX_FILENAME_SUFFIX = "_bucket_index.ll";
+    /** Bucket key filters file name suffix with extension */
+    private static final String BUCKET_FILTER_FILENAME_SUFFIX = "_bucket_filter.ll";
     /**
      * A marker to indicate that a value should be deleted from the map, or that there is
      * no old value to compare against in putIfEqual/deleteIfEqual
@@ -89,6 +93,16 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
      * bucket
      */
     private final LongList bucketIndexToBucketLocation;
+    /**
+     * Long list used for mapping bucketIndex(index into list) to bucket key filter, see {@link
+     * BucketKeyFilter}. Null, if bucket key filters are disabled
+     */
+    @Nullable
+    private final LongList bucketIndexToKeyFilter;
+    /** Number of key lookups skipped, since bucket key filters proved the keys were not in the map */
+    private final LongAdder keyFilterNegatives = new LongAdder();
+    /** Number of key lookups, where bucket key filters passed, but the keys were not found */
+    private final LongAdder keyFilterFalsePositives = new LongAdder();
     /** DataFileCollection manages the files storing the buckets on disk */
     private final DataFileCollection fileCollection;
 
@@ -215,6 +229,8 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
         final long bucketIndexCapacity = merkleDbConfig.maxNumOfKeys() * 2 / goodAverageBucketEntryCount;
         this.storeName = storeName;
         Path indexFile = storeDir.resolve(storeName + BUCKET_INDEX_FILENAME_SUFFIX);
+        final Path filterFile = storeDir.resolve(storeName + BUCKET_FILTER_FILENAME_SUFFIX);
+        final boolean keyFiltersEnabled = merkleDbConfig.bucketKeyFiltersEnabled();
         // create bucket pool
         this.bucketPool = new ReusableBucketPool(Bucket::new);
         // load or create new
@@ -259,16 +275,36 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
                 bucketIndexToBucketLocation = preferDiskBasedIndex
                         ? new LongListDisk(indexFile, bucketIndexCapacity, configuration)
                         : new LongListOffHeap(indexFile, bucketIndexCapacity, configuration);
+                // If filters file is missing, e.g. the snapshot was taken with filters disabled,
+                // all filters are unknown. They will be populated as buckets are updated
+                bucketIndexToKeyFilter = !keyFiltersEnabled
+                        ? null
+                        : Files.exists(filterFile)
+                                ? createBucketLongList(filterFile, bucketIndexCapacity, preferDiskBasedIndex)
+                                : createBucketLongList(null, bucketIndexCapacity, preferDiskBasedIndex);
                 loadedDataCallback = null;
             } else {
                 // create new index and setup call back to rebuild
                 bucketIndexToBucketLocation = preferDiskBasedIndex
                         ? new LongListDisk(bucketIndexCapacity, configuration)
                         : new LongListOffHeap(bucketIndexCapacity, configuration);
+                bucketIndexToKeyFilter = keyFiltersEnabled
+                        ? createBucketLongList(null, bucketIndexCapacity, preferDiskBasedIndex)
+                        : null;
                 loadedDataCallback = (dataLocation, bucketData) -> {
                     final Bucket bucket = bucketPool.getBucket();
                     bucket.readFrom(bucketData);
                     bucketIndexToBucketLocation.put(bucket.getBucketIndex(), dataLocation);
+                    if (bucketIndexToKeyFilter != null) {
+                        // Bucket data files may contain multiple versions of the same bucket. The
+                        // filter is a superset of all versions, which is correct, although less
+                        // efficient. Filters are narrowed down as buckets are updated
+                        final long filter = bucket.computeKeyFilter();
+                        if (filter != BucketKeyFilter.UNKNOWN) {
+                            final long oldFilter = bucketIndexToKeyFilter.get(bucket.getBucketIndex());
+                            bucketIndexToKeyFilter.put(bucket.getBucketIndex(), oldFilter | filter);
+                        }
+                    }
                 };
             }
         } else {
@@ -282,6 +318,8 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
             bucketIndexToBucketLocation = preferDiskBasedIndex
                     ? new LongListDisk(bucketIndexCapacity, configuration)
                     : new LongListOffHeap(bucketIndexCapacity, configuration);
+            bucketIndexToKeyFilter =
+                    keyFiltersEnabled ? createBucketLongList(null, bucketIndexCapacity, preferDiskBasedIndex) : null;
             // we are new, so no need for a loadedDataCallback
             loadedDataCallback = null;
             // write metadata
@@ -294,13 +332,34 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
                     numOfBuckets);
         }
         bucketIndexToBucketLocation.updateValidRange(0, numOfBuckets.get() - 1);
+        if (bucketIndexToKeyFilter != null) {
+            bucketIndexToKeyFilter.updateValidRange(0, numOfBuckets.get() - 1);
+        }
         // create file collection
         fileCollection = new DataFileCollection(
                 // Need: propagate MerkleDb merkleDbConfig from the database
-                merkleDbConfig, storeDir, storeName, legacyStoreName, loadedDataCallback);
+                merkleDbConfig,
+                storeDir,
+                storeName,
+                legacyStoreName,
+                loadedDataCallback,
+                merkleDbConfig.memoryMappedKeyToPathStore());
         fileCollection.updateValidKeyRange(0, numOfBuckets.get() - 1);
     }
 
+    /**
+     * Creates a new long list with one entry per bucket, either empty or loaded from the given file.
+     */
+    private LongList createBucketLongList(
+            @Nullable final Path file, final long capacity, final boolean preferDiskBasedIndex) throws IOException {
+        if (file == null) {
+            return preferDiskBasedIndex ? new LongListDisk(capacity, config) : new LongListOffHeap(capacity, config);
+        }
+        return preferDiskBasedIndex
+                ? new LongListDisk(file, capacity, config)
+                : new LongListOffHeap(file, capacity, config);
+    }
+
     private void writeMetadata(final Path dir) throws IOException {
         try (DataOutputStream metaOut =
                 new DataOutputStream(Files.newOutputStream(dir.resolve(storeName + METADATA_FILENAME_SUFFIX)))) {
@@ -425,6 +484,9 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
         Files.createDirectories(snapshotDirectory);
         // write index to file
         bucketIndexToBucketLocation.writeToFile(snapshotDirectory.resolve(storeName + BUCKET_INDEX_FILENAME_SUFFIX));
+        if (bucketIndexToKeyFilter != null) {
+            bucketIndexToKeyFilter.writeToFile(snapshotDirectory.resolve(storeName + BUCKET_FILTER_FILENAME_SUFFIX));
+        }
         // snapshot files
         fileCollection.snapshot(snapshotDirectory);
         // write metadata
@@ -436,10 +498,14 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
      */
     @Override
     public long getOffHeapConsumption() {
+        long consumption = 0;
         if (bucketIndexToBucketLocation instanceof LongListOffHeap offheapIndex) {
-            return offheapIndex.getOffHeapConsumption();
+            consumption += offheapIndex.getOffHeapConsumption();
         }
-        return 0;
+        if (bucketIndexToKeyFilter instanceof LongListOffHeap offheapFilters) {
+            consumption += offheapFilters.getOffHeapConsumption();
+        }
+        return consumption;
     }
 
     /**
@@ -463,6 +529,9 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
         // file operations still running, but the index is already closed
         fileCollection.close();
         bucketIndexToBucketLocation.close();
+        if (bucketIndexToKeyFilter != null) {
+            bucketIndexToKeyFilter.close();
+        }
     }
 
     // =================================================================================================================
@@ -800,14 +869,33 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
         protected boolean onExecute() throws IOException {
             try (bucket) {
                 final int bucketIndex = bucket.getBucketIndex();
+                // The previous bucket version, if any, becomes garbage
+                fileCollection.markItemObsolete(bucketIndexToBucketLocation.get(bucketIndex));
                 if (bucket.isEmpty()) {
                     // bucket is missing or empty, remove it from the index
                     bucketIndexToBucketLocation.remove(bucketIndex);
+                    if (bucketIndexToKeyFilter != null) {
+                        bucketIndexToKeyFilter.remove(bucketIndex);
+                    }
                 } else {
                     // save bucket
                     final long bucketLocation = fileCollection.storeDataItem(bucket::writeTo, bucket.sizeInBytes());
-                    // update bucketIndexToBucketLocation
-                    bucketIndexToBucketLocation.put(bucketIndex, bucketLocation);
+                    if (bucketIndexToKeyFilter != null) {
+                        // Concurrent readers may see the new bucket location with the old filter, or
+                        // vice versa. To never filter out a key that is present in either bucket
+                        // version, temporarily store a union of the old and the new filters
+                        final long filter = bucket.computeKeyFilter();
+                        final long oldFilter = bucketIndexToKeyFilter.get(bucketIndex);
+                        if (oldFilter != BucketKeyFilter.UNKNOWN) {
+                            bucketIndexToKeyFilter.put(bucketIndex, oldFilter | filter);
+                        }
+                        // update bucketIndexToBucketLocation
+                        bucketIndexToBucketLocation.put(bucketIndex, bucketLocation);
+                        bucketIndexToKeyFilter.put(bucketIndex, filter);
+                    } else {
+                        // update bucketIndexToBucketLocation
+                        bucketIndexToBucketLocation.put(bucketIndex, bucketLocation);
+                    }
                 }
                 return true;
             } finally {
@@ -870,14 +958,44 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
             throw new IllegalArgumentException("Can not get a null key");
         }
         final int bucketIndex = computeBucketIndex(keyHashCode);
+        final long filter =
+                (bucketIndexToKeyFilter != null) ? bucketIndexToKeyFilter.get(bucketIndex) : BucketKeyFilter.UNKNOWN;
+        if (!BucketKeyFilter.mightContain(filter, keyHashCode)) {
+            keyFilterNegatives.increment();
+            return notFoundValue;
+        }
         try (Bucket bucket = readBucket(bucketIndex)) {
             if (bucket != null) {
-                return bucket.findValue(keyHashCode, keyBytes, notFoundValue);
+                final long value = bucket.findValue(keyHashCode, keyBytes, notFoundValue);
+                if ((value == notFoundValue) && (filter != BucketKeyFilter.UNKNOWN)) {
+                    keyFilterFalsePositives.increment();
+                }
+                return value;
             }
         }
         return notFoundValue;
     }
 
+    /**
+     * Returns the number of key lookups, which were skipped since bucket key filters proved the
+     * keys were not in this map, since the last call to this method, and resets the counter.
+     *
+     * @return number of lookups filtered out by bucket key filters
+     */
+    public long getAndResetKeyFilterNegatives() {
+        return keyFilterNegatives.sumThenReset();
+    }
+
+    /**
+     * Returns the number of key lookups, where bucket key filters passed, but the keys were not
+     * found in their buckets, since the last call to this method, and resets the counter.
+     *
+     * @return number of bucket key filters false positives
+     */
+    public long getAndResetKeyFilterFalsePositives() {
+        return keyFilterFalsePositives.sumThenReset();
+    }
+
     private Bucket readBucket(final int bucketIndex) throws IOException {
         final BufferedData bucketData = fileCollection.readDataItemUsingIndex(bucketIndexToBucketLocation, bucketIndex);
         if (bucketData == null) {
@@ -888,6 +1006,21 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
         return bucket;
     }
 
+    /**
+     * Loads bucket indices memory-mapped from snapshot files into physical memory, see {@link
+     * LongListOffHeap#warmUp(BooleanSupplier)}. Indices that are not mapped are skipped.
+     *
+     * @param whileCondition if not null, loading is stopped as soon as the condition is false
+     */
+    public void warmUpIndices(@Nullable final BooleanSupplier whileCondition) {
+        if (bucketIndexToBucketLocation instanceof LongListOffHeap offHeapIndex) {
+            offHeapIndex.warmUp(whileCondition);
+        }
+        if (bucketIndexToKeyFilter instanceof LongListOffHeap offHeapFilters) {
+            offHeapFilters.warmUp(whileCondition);
+        }
+    }
+
     // -- Resize --
 
     /**
@@ -910,11 +1043,23 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
         logger.info(MERKLE_DB.getMarker(), "Resize HDHM {} to {} buckets", storeName, newSize);
 
         bucketIndexToBucketLocation.updateValidRange(0, newSize - 1);
+        if (bucketIndexToKeyFilter != null) {
+            bucketIndexToKeyFilter.updateValidRange(0, newSize - 1);
+        }
         // This straightforward loop works fast enough for now. If in the future it needs to be
         // even faster, let's consider copying index batches and/or parallel index updates
         for (int i = 0; i < oldSize; i++) {
             final long value = bucketIndexToBucketLocation.get(i);
             if (value != DataFileCommon.NON_EXISTENT_DATA_LOCATION) {
+                // Filters must be copied before locations, so readers never see a new bucket
+                // location without a filter. Copied filters are supersets of the filters for
+                // the new buckets, they are narrowed down when the buckets are sanitized
+                if (bucketIndexToKeyFilter != null) {
+                    final long filter = bucketIndexToKeyFilter.get(i);
+                    if (filter != BucketKeyFilter.UNKNOWN) {
+                        bucketIndexToKeyFilter.put(i + oldSize, filter);
+                    }
+                }
                 bucketIndexToBucketLocation.put(i + oldSize, value);
             }
         }
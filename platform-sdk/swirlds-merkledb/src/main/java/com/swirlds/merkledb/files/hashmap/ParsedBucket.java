@@ -176,6 +176,18 @@ public final class ParsedBucket extends Bucket {
         checkLargestBucket(entriesCount);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long computeKeyFilter() {
+        long filter = BucketKeyFilter.UNKNOWN;
+        for (final BucketEntry entry : entries) {
+            filter |= BucketKeyFilter.bitsOf(entry.getHashCode());
+        }
+        return filter;
+    }
+
     public void writeTo(final WritableSequentialData out) {
         // Bucket index is not optional, write the value even if default (zero)
         ProtoWriterTools.writeTag(out, FIELD_BUCKET_INDEX);
@@ -3,9 +3,12 @@ package com.swirlds.merkledb.utilities;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
 import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.CompletableFuture;
 
 public final class MerkleDbFileUtils {
     private MerkleDbFileUtils() {}
@@ -85,6 +88,54 @@ public final class MerkleDbFileUtils {
         return totalBytesRead;
     }
 
+    /**
+     * Asynchronously read all data available from an asynchronous file channel until either an EOF
+     * is reached or until dstBuffer is full. If a single channel read returns fewer bytes than
+     * requested, another read is issued for the remaining bytes from the completion handler.
+     * <p>
+     * ByteBuffer's position is updated. The buffer must not be accessed until the returned
+     * future is complete.
+     * See also: {@link AsynchronousFileChannel#read(ByteBuffer, long, Object, CompletionHandler)}
+     *
+     * @param fileChannel
+     * 		the AsynchronousFileChannel to read from.
+     * @param dstBuffer
+     * 		the buffer to store the read bytes in.
+     * @param startPosition
+     * 		the starting position in the file to start reading from.
+     * @return a future with the total number of bytes read.
+     */
+    public static CompletableFuture<Integer> completelyReadAsync(
+            final AsynchronousFileChannel fileChannel, final ByteBuffer dstBuffer, final long startPosition) {
+        final CompletableFuture<Integer> result = new CompletableFuture<>();
+        fileChannel.read(dstBuffer, startPosition, 0, new CompletionHandler<>() {
+            @Override
+            public void completed(final Integer bytesRead, final Integer totalBytesRead) {
+                if (bytesRead < 0) {
+                    // Reached EOF
+                    result.complete(totalBytesRead);
+                    return;
+                }
+                final int newTotalBytesRead = totalBytesRead + bytesRead;
+                if (!dstBuffer.hasRemaining()) {
+                    result.complete(newTotalBytesRead);
+                    return;
+                }
+                try {
+                    fileChannel.read(dstBuffer, startPosition + newTotalBytesRead, newTotalBytesRead, this);
+                } catch (final RuntimeException e) {
+                    result.completeExceptionally(e);
+                }
+            }
+
+            @Override
+            public void failed(final Throwable e, final Integer totalBytesRead) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
     /**
      * Completely write out all data from the provided ByteBuffer.
      * <p>
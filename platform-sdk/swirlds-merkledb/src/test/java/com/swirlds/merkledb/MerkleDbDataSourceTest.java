@@ -46,7 +46,9 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Random;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.eclipse.collections.impl.list.mutable.primitive.IntArrayList;
@@ -299,6 +301,65 @@ class MerkleDbDataSourceTest {
         });
     }
 
+    @ParameterizedTest
+    @EnumSource(TestType.class)
+    void readLeavesWhileUpdating(final TestType testType) throws IOException {
+        final int incFirstLeafPath = 1;
+        final int exclLastLeafPath = 1001;
+
+        final KeySerializer keySerializer = testType.dataType().getKeySerializer();
+        final ValueSerializer valueSerializer = testType.dataType().getValueSerializer();
+        createAndApplyDataSource(testDirectory, "test4a", testType, exclLastLeafPath - incFirstLeafPath, dataSource -> {
+            dataSource.saveRecords(
+                    incFirstLeafPath,
+                    exclLastLeafPath,
+                    IntStream.range(incFirstLeafPath, exclLastLeafPath)
+                            .mapToObj(MerkleDbDataSourceTest::createVirtualInternalRecord),
+                    IntStream.range(incFirstLeafPath, exclLastLeafPath)
+                            .mapToObj(i -> testType.dataType().createVirtualLeafRecord(i))
+                            .map(r -> r.toBytes(keySerializer, valueSerializer)),
+                    Stream.empty());
+            // Leaves are read by key, so they are put to the read cache, while the same leaves are
+            // written to the leaf store and the key to path store in parallel
+            final AtomicBoolean updating = new AtomicBoolean(true);
+            final AtomicReference<Throwable> readerError = new AtomicReference<>();
+            final Thread reader = new Thread(() -> {
+                try {
+                    while (updating.get()) {
+                        for (int i = incFirstLeafPath; i < exclLastLeafPath; i++) {
+                            final VirtualKey key = testType.dataType().createVirtualLongKey(i);
+                            dataSource.loadLeafRecord(keySerializer.toBytes(key), key.hashCode());
+                        }
+                    }
+                } catch (final Throwable e) {
+                    readerError.set(e);
+                }
+            });
+            reader.start();
+            try {
+                for (int round = 1; round <= 10; round++) {
+                    final int valueOffset = round * 10_000;
+                    dataSource.saveRecords(
+                            incFirstLeafPath,
+                            exclLastLeafPath,
+                            Stream.empty(),
+                            IntStream.range(incFirstLeafPath, exclLastLeafPath)
+                                    .mapToObj(i -> testType.dataType().createVirtualLeafRecord(i, i, i + valueOffset))
+                                    .map(r -> r.toBytes(keySerializer, valueSerializer)),
+                            Stream.empty());
+                    // No stale leaves in the read cache after the flush is complete
+                    IntStream.range(incFirstLeafPath, exclLastLeafPath)
+                            .forEach(i -> assertLeaf(
+                                    testType, keySerializer, valueSerializer, dataSource, i, i, i, i + valueOffset));
+                }
+            } finally {
+                updating.set(false);
+                reader.join();
+            }
+            assertNull(readerError.get(), "Leaves should be read without errors");
+        });
+    }
+
     @ParameterizedTest
     @EnumSource(TestType.class)
     void moveLeaf(final TestType testType) throws IOException {
@@ -544,6 +605,49 @@ class MerkleDbDataSourceTest {
         }
     }
 
+    @ParameterizedTest
+    @EnumSource(TestType.class)
+    void failedIndexLoadingReleasesOtherIndices(final TestType testType) throws IOException {
+        final int count = 1000;
+        final String tableName = "vm";
+        final Path originalDbPath = testDirectory.resolve("merkledb-failedIndexLoading-" + testType);
+        final KeySerializer keySerializer = testType.dataType().getKeySerializer();
+        final ValueSerializer valueSerializer = testType.dataType().getValueSerializer();
+        createAndApplyDataSource(originalDbPath, tableName, testType, count, count, dataSource -> {
+            final int tableId = dataSource.getTableId();
+            dataSource.saveRecords(
+                    count - 1,
+                    count * 2 - 2,
+                    IntStream.range(0, count * 2 - 1).mapToObj(i -> createVirtualInternalRecord(i, i + 1)),
+                    IntStream.range(count - 1, count * 2 - 1)
+                            .mapToObj(i -> testType.dataType().createVirtualLeafRecord(i))
+                            .map(r -> r.toBytes(keySerializer, valueSerializer)),
+                    Stream.empty());
+            final Path snapshotDbPath = testDirectory.resolve("merkledb-failedIndexLoading-" + testType + "_SNAPSHOT");
+            dataSource.getDatabase().snapshot(snapshotDbPath, dataSource);
+            dataSource.close();
+
+            final MerkleDb snapshotDb = MerkleDb.getInstance(snapshotDbPath, CONFIGURATION);
+            final MerkleDbPaths snapshotPaths = new MerkleDbPaths(snapshotDb.getTableDir(tableName, tableId));
+            // Leaf index file with an unsupported format version, all other indices and stores are loaded
+            // successfully, and must be closed when the data source fails to load
+            final Path leafIndexFile = snapshotPaths.pathToDiskLocationLeafNodesFile;
+            final byte[] leafIndexBytes = Files.readAllBytes(leafIndexFile);
+            Files.write(leafIndexFile, new byte[] {0, 0, 0, 127});
+            assertThrows(
+                    IOException.class,
+                    () -> snapshotDb.getDataSource(tableName, false),
+                    "Data source with a corrupted index should fail to load");
+
+            // The data source can be loaded, once the index is fixed
+            Files.write(leafIndexFile, leafIndexBytes);
+            final MerkleDbDataSource snapshotDataSource = snapshotDb.getDataSource(tableName, false);
+            assertHash(snapshotDataSource, 0, 1);
+            assertLeaf(testType, keySerializer, valueSerializer, snapshotDataSource, count, count, count + 1, count);
+            snapshotDataSource.close();
+        });
+    }
+
     @Test
     void preservesInterruptStatusWhenInterruptedClosing() throws IOException {
         createAndApplyDataSource(testDirectory, "test8", TestType.fixed_fixed, 1000, dataSource -> {
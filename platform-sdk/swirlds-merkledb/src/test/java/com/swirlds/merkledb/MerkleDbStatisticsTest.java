@@ -69,6 +69,9 @@ class MerkleDbStatisticsTest {
         assertDoesNotThrow(statistics::countHashReads);
         assertDoesNotThrow(statistics::countLeafReads);
         assertDoesNotThrow(statistics::countLeafKeyReads);
+        assertDoesNotThrow(() -> statistics.countLeafKeyFilterNegatives(42));
+        assertDoesNotThrow(() -> statistics.setLeafKeyFilterFalsePositiveRate(0.25));
+        assertDoesNotThrow(() -> statistics.countLeafCacheAccesses(42, 7, 3));
         assertDoesNotThrow(() -> statistics.setHashesStoreFileCount(42));
         assertDoesNotThrow(() -> statistics.setHashesStoreFileSizeMb(31415));
         assertDoesNotThrow(() -> statistics.setLeafKeysStoreFileCount(42));
@@ -76,6 +79,12 @@ class MerkleDbStatisticsTest {
         assertDoesNotThrow(() -> statistics.setLeavesStoreFileCount(42));
         assertDoesNotThrow(() -> statistics.setLeavesStoreFileSizeMb(31415));
         assertDoesNotThrow(() -> statistics.setTotalFileSizeMb(314159));
+        assertDoesNotThrow(() -> statistics.setHashesStoreGarbageMb(42));
+        assertDoesNotThrow(() -> statistics.setLeavesStoreGarbageMb(42));
+        assertDoesNotThrow(() -> statistics.setLeafKeysStoreGarbageMb(42));
+        assertDoesNotThrow(() -> statistics.setHashesStoreWriteAmplification(1.5));
+        assertDoesNotThrow(() -> statistics.setLeavesStoreWriteAmplification(1.5));
+        assertDoesNotThrow(() -> statistics.setLeafKeysStoreWriteAmplification(1.5));
         assertDoesNotThrow(() -> statistics.setHashesStoreCompactionTimeMs(compactionLevel, 314));
         assertDoesNotThrow(() -> statistics.setHashesStoreCompactionSavedSpaceMb(compactionLevel, Math.PI));
         assertDoesNotThrow(() -> statistics.setHashesStoreFileSizeByLevelMb(compactionLevel, Math.PI));
@@ -151,6 +160,56 @@ class MerkleDbStatisticsTest {
         assertValueSet(metric);
     }
 
+    @Test
+    void testLeafKeyFilterNegatives() {
+        // given
+        final Metric metric = getMetric("reads_", "leafKeysFilterNegatives_" + LABEL);
+        // when
+        statistics.countLeafKeyFilterNegatives(42);
+        // then
+        assertValueSet(metric);
+    }
+
+    @Test
+    void testLeafKeyFilterFalsePositiveRate() {
+        // given
+        final Metric metric = getMetric("reads_", "leafKeysFilterFpRate_" + LABEL);
+        // when
+        statistics.setLeafKeyFilterFalsePositiveRate(0.25);
+        // then
+        assertValueSet(metric);
+    }
+
+    @Test
+    void testLeafCacheHits() {
+        // given
+        final Metric metric = getMetric("reads_", "leafCacheHits_" + LABEL);
+        // when
+        statistics.countLeafCacheAccesses(42, 0, 0);
+        // then
+        assertValueSet(metric);
+    }
+
+    @Test
+    void testLeafCacheMisses() {
+        // given
+        final Metric metric = getMetric("reads_", "leafCacheMisses_" + LABEL);
+        // when
+        statistics.countLeafCacheAccesses(0, 42, 0);
+        // then
+        assertValueSet(metric);
+    }
+
+    @Test
+    void testLeafCacheEvictions() {
+        // given
+        final Metric metric = getMetric("reads_", "leafCacheEvictions_" + LABEL);
+        // when
+        statistics.countLeafCacheAccesses(0, 0, 42);
+        // then
+        assertValueSet(metric);
+    }
+
     @Test
     void testSetHashesStoreFileCount() {
         // given
@@ -171,6 +230,52 @@ class MerkleDbStatisticsTest {
         assertValueSet(metric);
     }
 
+    @Test
+    void testSetHashesStoreGarbageMb() {
+        // given
+        final Metric metric = getMetric("files_", "hashesStoreGarbageMb_" + LABEL);
+        // when
+        statistics.setHashesStoreGarbageMb(42);
+        // then
+        assertValueSet(metric);
+    }
+
+    @Test
+    void testSetLeavesStoreGarbageMb() {
+        // given
+        final Metric metric = getMetric("files_", "leavesStoreGarbageMb_" + LABEL);
+        // when
+        statistics.setLeavesStoreGarbageMb(42);
+        // then
+        assertValueSet(metric);
+    }
+
+    @Test
+    void testSetLeafKeysStoreGarbageMb() {
+        // given
+        final Metric metric = getMetric("files_", "leafKeysStoreGarbageMb_" + LABEL);
+        // when
+        statistics.setLeafKeysStoreGarbageMb(42);
+        // then
+        assertValueSet(metric);
+    }
+
+    @Test
+    void testSetWriteAmplification() {
+        // given
+        final Metric hashesMetric = getMetric("compactions_", "hashesWriteAmplification_" + LABEL);
+        final Metric leavesMetric = getMetric("compactions_", "leavesWriteAmplification_" + LABEL);
+        final Metric leafKeysMetric = getMetric("compactions_", "leafKeysWriteAmplification_" + LABEL);
+        // when
+        statistics.setHashesStoreWriteAmplification(1.5);
+        statistics.setLeavesStoreWriteAmplification(1.5);
+        statistics.setLeafKeysStoreWriteAmplification(1.5);
+        // then
+        assertValueSet(hashesMetric);
+        assertValueSet(leavesMetric);
+        assertValueSet(leafKeysMetric);
+    }
+
     @Test
     void testSetLeavesStoreFileCount() {
         // given
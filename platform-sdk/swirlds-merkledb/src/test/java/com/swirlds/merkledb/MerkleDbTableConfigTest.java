@@ -6,10 +6,14 @@ import static com.swirlds.merkledb.test.fixtures.MerkleDbTestUtils.CONFIGURATION
 import com.hedera.pbj.runtime.io.stream.ReadableStreamingData;
 import com.hedera.pbj.runtime.io.stream.WritableStreamingData;
 import com.swirlds.merkledb.config.MerkleDbConfig;
+import com.swirlds.merkledb.files.DataFileCompression;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import org.hiero.base.constructable.ConstructableRegistry;
 import org.hiero.base.crypto.DigestType;
+import org.hiero.base.io.streams.SerializableDataInputStream;
+import org.hiero.base.io.streams.SerializableDataOutputStream;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -65,4 +69,62 @@ class MerkleDbTableConfigTest {
         // default MerkleDbConfig values
         Assertions.assertEquals(0, restored.getHashesRamToDiskThreshold());
     }
+
+    @Test
+    void leafStoreCompressionTest() throws IOException {
+        final MerkleDbTableConfig tableConfig =
+                new MerkleDbTableConfig((short) 1, DigestType.SHA_384, 1_000, 0, DataFileCompression.DEFLATE);
+        Assertions.assertEquals(DataFileCompression.DEFLATE, tableConfig.getLeafStoreCompression());
+        Assertions.assertEquals(tableConfig, tableConfig.copy());
+        Assertions.assertNotEquals(tableConfig, new MerkleDbTableConfig((short) 1, DigestType.SHA_384, 1_000, 0));
+
+        final ByteArrayOutputStream bout = new ByteArrayOutputStream();
+        try (final WritableStreamingData out = new WritableStreamingData(bout)) {
+            tableConfig.writeTo(out);
+        }
+        final MerkleDbTableConfig restored;
+        try (final ReadableStreamingData in = new ReadableStreamingData(bout.toByteArray())) {
+            restored = new MerkleDbTableConfig(in);
+        }
+        Assertions.assertEquals(DataFileCompression.DEFLATE, restored.getLeafStoreCompression());
+        Assertions.assertEquals(tableConfig, restored);
+    }
+
+    @Test
+    void serializeWithoutCompressionInOriginalFormatTest() throws IOException {
+        final MerkleDbTableConfig tableConfig = new MerkleDbTableConfig((short) 1, DigestType.SHA_384, 1_000, 0);
+        // Older software versions only support the original format
+        Assertions.assertEquals(1, tableConfig.getVersion());
+
+        final ByteArrayOutputStream bout = new ByteArrayOutputStream();
+        try (final SerializableDataOutputStream out = new SerializableDataOutputStream(bout)) {
+            tableConfig.serialize(out);
+        }
+        final MerkleDbTableConfig restored = new MerkleDbTableConfig();
+        try (final SerializableDataInputStream in =
+                new SerializableDataInputStream(new ByteArrayInputStream(bout.toByteArray()))) {
+            restored.deserialize(in, 1);
+            Assertions.assertEquals(-1, in.read(), "All bytes should be read by the original format");
+        }
+        Assertions.assertEquals(tableConfig, restored);
+    }
+
+    @Test
+    void serializeWithCompressionTest() throws IOException {
+        final MerkleDbTableConfig tableConfig =
+                new MerkleDbTableConfig((short) 1, DigestType.SHA_384, 1_000, 0, DataFileCompression.DEFLATE);
+        Assertions.assertEquals(2, tableConfig.getVersion());
+
+        final ByteArrayOutputStream bout = new ByteArrayOutputStream();
+        try (final SerializableDataOutputStream out = new SerializableDataOutputStream(bout)) {
+            out.writeSerializable(tableConfig, true);
+        }
+        final MerkleDbTableConfig restored;
+        try (final SerializableDataInputStream in =
+                new SerializableDataInputStream(new ByteArrayInputStream(bout.toByteArray()))) {
+            restored = in.readSerializable();
+        }
+        Assertions.assertEquals(DataFileCompression.DEFLATE, restored.getLeafStoreCompression());
+        Assertions.assertEquals(tableConfig, restored);
+    }
 }
@@ -0,0 +1,99 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.merkledb.cache;
+
+import static com.swirlds.merkledb.test.fixtures.MerkleDbTestUtils.hash;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+class HashChunkCacheTest {
+
+    private static final int CHUNK = HashChunkCache.CHUNK_SIZE;
+
+    @Test
+    void tooSmallCache() {
+        assertThrows(IllegalArgumentException.class, () -> new HashChunkCache(0));
+        assertThrows(IllegalArgumentException.class, () -> new HashChunkCache(HashChunkCache.CHUNK_BYTES - 1));
+    }
+
+    @Test
+    void getAndPut() {
+        final HashChunkCache cache = new HashChunkCache(HashChunkCache.CHUNK_BYTES * 4L);
+        assertNull(cache.get(10));
+        cache.put(10, hash(10), cache.readStamp());
+        cache.put(11, hash(11), cache.readStamp());
+        cache.put(CHUNK * 3 + 1, hash(CHUNK * 3 + 1), cache.readStamp());
+        assertEquals(hash(10), cache.get(10));
+        assertEquals(hash(11), cache.get(11));
+        assertEquals(hash(CHUNK * 3 + 1), cache.get(CHUNK * 3 + 1));
+        // Same chunk, but not cached
+        assertNull(cache.get(12));
+        assertEquals(3, cache.getAndResetHits());
+        assertEquals(2, cache.getAndResetMisses());
+        assertEquals(0, cache.getAndResetEvictions());
+        // Counters are reset
+        assertEquals(0, cache.getAndResetHits());
+        assertEquals(0, cache.getAndResetMisses());
+    }
+
+    @Test
+    void updateOnlyCachedChunks() {
+        final HashChunkCache cache = new HashChunkCache(HashChunkCache.CHUNK_BYTES * 4L);
+        cache.put(1, hash(1), cache.readStamp());
+        cache.startUpdates();
+        cache.update(1, hash(101));
+        cache.update(2, hash(102));
+        // No chunk for this path, it must not be created by updates
+        cache.update(CHUNK * 2, hash(103));
+        cache.endUpdates();
+        assertEquals(hash(101), cache.get(1));
+        assertEquals(hash(102), cache.get(2));
+        assertNull(cache.get(CHUNK * 2));
+    }
+
+    @Test
+    void staleReadsNotCached() {
+        final HashChunkCache cache = new HashChunkCache(HashChunkCache.CHUNK_BYTES * 4L);
+        // Read before updates
+        final long beforeUpdates = cache.readStamp();
+        cache.startUpdates();
+        // Read while updates are in progress
+        final long duringUpdates = cache.readStamp();
+        cache.put(1, hash(1), beforeUpdates);
+        cache.put(2, hash(2), duringUpdates);
+        cache.endUpdates();
+        cache.put(3, hash(3), duringUpdates);
+        assertNull(cache.get(1));
+        assertNull(cache.get(2));
+        assertNull(cache.get(3));
+        // Read after updates
+        cache.put(4, hash(4), cache.readStamp());
+        assertEquals(hash(4), cache.get(4));
+    }
+
+    @Test
+    void clockEviction() {
+        final HashChunkCache cache = new HashChunkCache(HashChunkCache.CHUNK_BYTES * 3L);
+        cache.put(0, hash(0), cache.readStamp());
+        cache.put(CHUNK, hash(CHUNK), cache.readStamp());
+        cache.put(CHUNK * 2, hash(CHUNK * 2), cache.readStamp());
+        assertEquals(0, cache.getAndResetEvictions());
+
+        // All chunks are referenced, the hand clears all flags and evicts chunk 0
+        cache.put(CHUNK * 3, hash(CHUNK * 3), cache.readStamp());
+        assertEquals(1, cache.getAndResetEvictions());
+        assertNull(cache.get(0));
+
+        // Chunk 1 is read, so it gets a second chance, and chunk 2 is evicted instead
+        assertNotNull(cache.get(CHUNK));
+        cache.put(CHUNK * 4, hash(CHUNK * 4), cache.readStamp());
+        assertEquals(1, cache.getAndResetEvictions());
+        assertNotNull(cache.get(CHUNK));
+        assertNull(cache.get(CHUNK * 2));
+        assertNotNull(cache.get(CHUNK * 3));
+        assertNotNull(cache.get(CHUNK * 4));
+    }
+}
@@ -0,0 +1,188 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.merkledb.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
+import com.swirlds.merkledb.config.MerkleDbConfig;
+import com.swirlds.virtualmap.datasource.VirtualLeafBytes;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class LeafRecordCacheTest {
+
+    private static Bytes key(final int i) {
+        return Bytes.wrap(("key" + i).getBytes());
+    }
+
+    private static VirtualLeafBytes record(final int i, final int valueSize) {
+        final Bytes keyBytes = key(i);
+        return new VirtualLeafBytes(i, keyBytes, keyBytes.hashCode(), Bytes.wrap(new byte[valueSize]));
+    }
+
+    private static LeafRecordCache createCache(final LeafRecordCacheType type) {
+        return switch (type) {
+            case DIRECT_MAPPED -> new DirectMappedLeafRecordCache(1024);
+            case TINY_LFU -> new TinyLfuLeafRecordCache(1024 * 1024);
+            case NONE -> throw new IllegalArgumentException();
+        };
+    }
+
+    @ParameterizedTest
+    @EnumSource(
+            value = LeafRecordCacheType.class,
+            names = {"DIRECT_MAPPED", "TINY_LFU"})
+    void putGetInvalidate(final LeafRecordCacheType type) {
+        final LeafRecordCache cache = createCache(type);
+        final VirtualLeafBytes record = record(1, 16);
+        final int hashCode = record.keyHashCode();
+        assertNull(cache.get(record.keyBytes(), hashCode), "Cache should be empty");
+        cache.put(hashCode, record);
+        assertEquals(record, cache.get(record.keyBytes(), hashCode), "Cached record should be returned");
+        assertNull(cache.get(key(2), hashCode), "Different key should not be returned");
+        cache.invalidate(record.keyBytes(), hashCode);
+        assertNull(cache.get(record.keyBytes(), hashCode), "Invalidated record should not be returned");
+        assertEquals(1, cache.getAndResetHits(), "Wrong number of hits");
+        assertEquals(3, cache.getAndResetMisses(), "Wrong number of misses");
+        assertEquals(0, cache.getAndResetHits(), "Hits should be reset");
+        assertEquals(0, cache.getAndResetMisses(), "Misses should be reset");
+    }
+
+    @ParameterizedTest
+    @EnumSource(
+            value = LeafRecordCacheType.class,
+            names = {"DIRECT_MAPPED", "TINY_LFU"})
+    void updateExistingRecord(final LeafRecordCacheType type) {
+        final LeafRecordCache cache = createCache(type);
+        final Bytes keyBytes = key(1);
+        final int hashCode = keyBytes.hashCode();
+        // Key to path only, then full record
+        cache.put(hashCode, new VirtualLeafBytes(1, keyBytes, hashCode, null));
+        final VirtualLeafBytes full = record(1, 32);
+        cache.put(hashCode, full);
+        assertEquals(full, cache.get(keyBytes, hashCode), "Updated record should be returned");
+        assertEquals(0, cache.getAndResetEvictions(), "Record updates should not be counted as evictions");
+    }
+
+    @Test
+    void tinyLfuRespectsByteBudget() {
+        final long maxBytes = 64 * 1024;
+        final TinyLfuLeafRecordCache cache = new TinyLfuLeafRecordCache(maxBytes);
+        final int count = 10_000;
+        for (int i = 0; i < count; i++) {
+            final VirtualLeafBytes record = record(i, 100);
+            cache.put(record.keyHashCode(), record);
+            assertTrue(cache.getWeightedSize() <= maxBytes, "Cache size should not exceed the budget");
+        }
+        final long evictions = cache.getAndResetEvictions();
+        assertTrue(evictions > 0, "Some records should be evicted");
+        final long cached = IntStream.range(0, count)
+                .filter(i -> cache.get(key(i), key(i).hashCode()) != null)
+                .count();
+        assertEquals(count - evictions, cached, "Every record should be either cached or evicted");
+    }
+
+    @Test
+    void tinyLfuKeepsFrequentRecords() {
+        final TinyLfuLeafRecordCache cache = new TinyLfuLeafRecordCache(64 * 1024);
+        // Hot records, accessed many times
+        final int hotCount = 100;
+        for (int i = 0; i < hotCount; i++) {
+            final VirtualLeafBytes record = record(i, 100);
+            cache.put(record.keyHashCode(), record);
+        }
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < hotCount; i++) {
+                assertNotNull(cache.get(key(i), key(i).hashCode()), "Hot record should be cached");
+            }
+        }
+        // A scan over many records, each accessed once. Hot records are still accessed from time
+        // to time, but not often enough to stay in an LRU cache of the same size
+        for (int i = hotCount; i < hotCount + 10_000; i++) {
+            final Bytes keyBytes = key(i);
+            cache.get(keyBytes, keyBytes.hashCode());
+            final VirtualLeafBytes record = record(i, 100);
+            cache.put(record.keyHashCode(), record);
+            if (i % 1000 == 0) {
+                for (int j = 0; j < hotCount; j++) {
+                    if (cache.get(key(j), key(j).hashCode()) == null) {
+                        final VirtualLeafBytes hotRecord = record(j, 100);
+                        cache.put(hotRecord.keyHashCode(), hotRecord);
+                    }
+                }
+            }
+        }
+        final long hotCached = IntStream.range(0, hotCount)
+                .filter(i -> cache.get(key(i), key(i).hashCode()) != null)
+                .count();
+        assertTrue(hotCached >= hotCount * 9 / 10, "Most hot records should survive the scan");
+    }
+
+    @Test
+    void tinyLfuRejectsHugeRecords() {
+        final TinyLfuLeafRecordCache cache = new TinyLfuLeafRecordCache(1024);
+        final VirtualLeafBytes record = record(1, 4096);
+        cache.put(record.keyHashCode(), record);
+        assertNull(cache.get(record.keyBytes(), record.keyHashCode()), "Huge record should not be cached");
+        assertEquals(1, cache.getAndResetEvictions(), "Rejected record should be counted as eviction");
+        assertEquals(0, cache.getWeightedSize(), "Cache should be empty");
+    }
+
+    @Test
+    void directMappedEvictsOnCollision() {
+        final DirectMappedLeafRecordCache cache = new DirectMappedLeafRecordCache(1);
+        final VirtualLeafBytes record1 = record(1, 16);
+        final VirtualLeafBytes record2 = record(2, 16);
+        cache.put(record1.keyHashCode(), record1);
+        cache.put(record2.keyHashCode(), record2);
+        assertNull(cache.get(record1.keyBytes(), record1.keyHashCode()), "Evicted record should not be returned");
+        assertEquals(record2, cache.get(record2.keyBytes(), record2.keyHashCode()), "Last record should be cached");
+        assertEquals(1, cache.getAndResetEvictions(), "Wrong number of evictions");
+    }
+
+    @Test
+    void invalidCacheSizes() {
+        assertThrows(IllegalArgumentException.class, () -> new DirectMappedLeafRecordCache(0));
+        assertThrows(IllegalArgumentException.class, () -> new TinyLfuLeafRecordCache(0));
+    }
+
+    @Test
+    void createFromConfig() {
+        final MerkleDbConfig defaultConfig = new TestConfigBuilder()
+                .getOrCreateConfig()
+                .getConfigData(MerkleDbConfig.class);
+        assertInstanceOf(
+                DirectMappedLeafRecordCache.class,
+                LeafRecordCache.create(defaultConfig, "test"),
+                "Direct mapped cache should be used by default");
+
+        final MerkleDbConfig noCacheConfig = new TestConfigBuilder()
+                .withValue("merkleDb.leafRecordCacheType", "NONE")
+                .getOrCreateConfig()
+                .getConfigData(MerkleDbConfig.class);
+        assertNull(LeafRecordCache.create(noCacheConfig, "test"), "Cache should be disabled");
+
+        final MerkleDbConfig tinyLfuConfig = new TestConfigBuilder()
+                .withValue("merkleDb.leafRecordCacheType", "TINY_LFU")
+                .withValue("merkleDb.leafRecordCacheTableBudgets", "accounts:1048576, disabled:0")
+                .getOrCreateConfig()
+                .getConfigData(MerkleDbConfig.class);
+        assertInstanceOf(
+                TinyLfuLeafRecordCache.class,
+                LeafRecordCache.create(tinyLfuConfig, "accounts"),
+                "TinyLFU cache should be used for tables with budgets");
+        assertInstanceOf(
+                TinyLfuLeafRecordCache.class,
+                LeafRecordCache.create(tinyLfuConfig, "tokens"),
+                "TinyLFU cache should be used for tables without budgets");
+        assertNull(LeafRecordCache.create(tinyLfuConfig, "disabled"), "Zero budget should disable the cache");
+    }
+}
@@ -22,6 +22,7 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 import com.swirlds.common.config.StateCommonConfig;
 import com.swirlds.common.io.config.TemporaryFileConfig;
+import com.swirlds.common.io.utility.FileUtils;
 import com.swirlds.common.test.fixtures.io.ResourceLoader;
 import com.swirlds.config.api.Configuration;
 import com.swirlds.config.api.ConfigurationBuilder;
@@ -31,6 +32,7 @@ import java.io.IOException;
 import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -86,6 +88,9 @@ abstract class AbstractLongListTest<T extends AbstractLongList<?>> {
             final Path file, final int longsPerChunk, final long capacity, final long reservedBufferLength)
             throws IOException;
 
+    protected abstract T createLongList(final Path file, final long capacity, final Configuration config)
+            throws IOException;
+
     // Ordered tests
 
     @Test
@@ -386,6 +391,116 @@ abstract class AbstractLongListTest<T extends AbstractLongList<?>> {
         assertThrows(IllegalArgumentException.class, () -> createLongList(file, 100, CAPACITY - 100, 0));
     }
 
+    @Test
+    void testIncrementalSnapshots(@TempDir final Path tempDir) throws IOException {
+        final Configuration config = ConfigurationBuilder.create()
+                .withConfigDataType(MerkleDbConfig.class)
+                .withConfigDataType(StateCommonConfig.class)
+                .withConfigDataType(TemporaryFileConfig.class)
+                .withSource(new SimpleConfigSource("merkleDb.longListChunkSize", "100"))
+                .withSource(new SimpleConfigSource("merkleDb.longListReservedBufferSize", "100"))
+                .withSource(new SimpleConfigSource("merkleDb.longListMaxIncrementalSnapshots", "2"))
+                .build();
+        final long CAPACITY = 10_000;
+        final String fileName = "testIncrementalSnapshots.ll";
+        final Path[] dirs = new Path[4];
+        for (int i = 0; i < dirs.length; i++) {
+            dirs[i] = Files.createDirectories(tempDir.resolve("snapshot" + i));
+        }
+        try (final LongList longList = createLongList(CAPACITY, config)) {
+            longList.updateValidRange(0, 999);
+            for (int i = 0; i < 1000; i++) {
+                longList.put(i, i + 1000);
+            }
+            longList.writeToFile(dirs[0].resolve(fileName));
+            assertFalse(Files.exists(dirs[0].resolve(fileName + ".0")), "The first snapshot should be full");
+
+            longList.put(150, 5150);
+            longList.updateValidRange(10, 1199);
+            longList.put(1100, 6100);
+            longList.writeToFile(dirs[1].resolve(fileName));
+            assertTrue(Files.exists(dirs[1].resolve(fileName + ".0")), "The full snapshot should be linked");
+            assertTrue(
+                    Files.size(dirs[1].resolve(fileName)) < Files.size(dirs[0].resolve(fileName)),
+                    "Only changed chunks should be written");
+            // Snapshot directories are self-contained
+            Files.delete(dirs[0].resolve(fileName));
+
+            longList.put(999, 7999);
+            longList.writeToFile(dirs[2].resolve(fileName));
+            assertTrue(Files.exists(dirs[2].resolve(fileName + ".1")), "Both base snapshots should be linked");
+
+            longList.writeToFile(dirs[3].resolve(fileName));
+            assertFalse(
+                    Files.exists(dirs[3].resolve(fileName + ".0")),
+                    "A full snapshot should be written after max incremental snapshots");
+        }
+
+        try (final LongList longList = createLongList(dirs[2].resolve(fileName), 100, CAPACITY, 0)) {
+            assertEquals(10, longList.getMinValidIndex());
+            assertEquals(1101, longList.size());
+            assertEquals(1500, longList.get(500));
+            assertEquals(5150, longList.get(150));
+            assertEquals(7999, longList.get(999));
+            assertEquals(IMPERMISSIBLE_VALUE, longList.get(1000));
+            assertEquals(6100, longList.get(1100));
+        }
+        assertThrows(IOException.class, () -> createLongList(dirs[2].resolve(fileName), 200, CAPACITY, 0));
+    }
+
+    @Test
+    void testIncrementalSnapshotsAfterDirectoryMove(@TempDir final Path tempDir) throws IOException {
+        final Configuration config = ConfigurationBuilder.create()
+                .withConfigDataType(MerkleDbConfig.class)
+                .withConfigDataType(StateCommonConfig.class)
+                .withConfigDataType(TemporaryFileConfig.class)
+                .withSource(new SimpleConfigSource("merkleDb.longListChunkSize", "100"))
+                .withSource(new SimpleConfigSource("merkleDb.longListReservedBufferSize", "100"))
+                .withSource(new SimpleConfigSource("merkleDb.longListMaxIncrementalSnapshots", "2"))
+                .build();
+        final long CAPACITY = 10_000;
+        final String fileName = "testIncrementalSnapshotsAfterDirectoryMove.ll";
+        // Snapshots are written to temporary directories, which are then moved, like in FileUtils.executeAndRename()
+        final Path tmpDir = tempDir.resolve("tmp");
+        final Path movedDir = tempDir.resolve("moved");
+        final Path nextDir = Files.createDirectories(tempDir.resolve("next"));
+        try (final LongList longList = createLongList(CAPACITY, config)) {
+            longList.updateValidRange(0, 999);
+            for (int i = 0; i < 1000; i++) {
+                longList.put(i, i + 1000);
+            }
+            longList.writeToFile(Files.createDirectories(tmpDir).resolve(fileName));
+            Files.move(tmpDir, movedDir, StandardCopyOption.ATOMIC_MOVE);
+
+            longList.put(150, 5150);
+            longList.writeToFile(nextDir.resolve(fileName));
+            assertTrue(Files.exists(nextDir.resolve(fileName + ".0")), "The moved full snapshot should be linked");
+            assertTrue(
+                    Files.size(nextDir.resolve(fileName)) < Files.size(movedDir.resolve(fileName)),
+                    "Only changed chunks should be written");
+        }
+        FileUtils.deleteDirectory(movedDir);
+
+        // Snapshots loaded from a directory, which is then deleted, are used as bases, too
+        final Path lastDir = Files.createDirectories(tempDir.resolve("last"));
+        try (final LongList longList = createLongList(nextDir.resolve(fileName), CAPACITY, config)) {
+            assertEquals(1500, longList.get(500));
+            assertEquals(5150, longList.get(150));
+            FileUtils.deleteDirectory(nextDir);
+
+            longList.put(999, 7999);
+            longList.writeToFile(lastDir.resolve(fileName));
+            assertTrue(Files.exists(lastDir.resolve(fileName + ".1")), "Both base snapshots should be linked");
+        }
+
+        try (final LongList longList = createLongList(lastDir.resolve(fileName), 100, CAPACITY, 0)) {
+            assertEquals(1000, longList.size());
+            assertEquals(1500, longList.get(500));
+            assertEquals(5150, longList.get(150));
+            assertEquals(7999, longList.get(999));
+        }
+    }
+
     // SAMPLE_SIZE should be 10K for this test
     @Test
     void testBackwardCompatibilityHalfEmpty_10K() throws URISyntaxException, IOException {
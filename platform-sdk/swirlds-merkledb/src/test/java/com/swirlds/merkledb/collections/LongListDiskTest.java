@@ -29,6 +29,12 @@ public class LongListDiskTest extends AbstractLongListTest<LongListDisk> {
         return new LongListDisk(file, longsPerChunk, capacity, reservedBufferLength, CONFIGURATION);
     }
 
+    @Override
+    protected LongListDisk createLongList(final Path file, final long capacity, final Configuration config)
+            throws IOException {
+        return new LongListDisk(file, capacity, config);
+    }
+
     /**
      * Provides a stream of writer-reader pairs specifically for the {@link LongListDisk} implementation.
      * The writer is always {@link LongListDisk}, and it is paired with three reader implementations
@@ -29,6 +29,12 @@ public class LongListHeapTest extends AbstractLongListTest<LongListHeap> {
         return new LongListHeap(file, longsPerChunk, capacity, reservedBufferLength, CONFIGURATION);
     }
 
+    @Override
+    protected LongListHeap createLongList(final Path file, final long capacity, final Configuration config)
+            throws IOException {
+        return new LongListHeap(file, capacity, config);
+    }
+
     /**
      * Provides a stream of writer-reader pairs specifically for the {@link LongListHeap} implementation.
      * The writer is always {@link LongListHeap}, and it is paired with three reader implementations
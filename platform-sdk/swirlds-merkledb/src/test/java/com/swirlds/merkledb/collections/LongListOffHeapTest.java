@@ -2,11 +2,21 @@
 package com.swirlds.merkledb.collections;
 
 import static com.swirlds.merkledb.test.fixtures.MerkleDbTestUtils.CONFIGURATION;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import com.swirlds.common.config.StateCommonConfig;
+import com.swirlds.common.io.config.TemporaryFileConfig;
 import com.swirlds.config.api.Configuration;
+import com.swirlds.config.api.ConfigurationBuilder;
+import com.swirlds.config.extensions.sources.SimpleConfigSource;
+import com.swirlds.merkledb.config.MerkleDbConfig;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.provider.Arguments;
 
 class LongListOffHeapTest extends AbstractLongListTest<LongListOffHeap> {
@@ -29,6 +39,55 @@ class LongListOffHeapTest extends AbstractLongListTest<LongListOffHeap> {
         return new LongListOffHeap(file, longsPerChunk, capacity, reservedBufferLength, CONFIGURATION);
     }
 
+    @Override
+    protected LongListOffHeap createLongList(final Path file, final long capacity, final Configuration config)
+            throws IOException {
+        return new LongListOffHeap(file, capacity, config);
+    }
+
+    @Test
+    void testMemoryMappedChunks(@TempDir final Path tempDir) throws IOException {
+        final Configuration config = ConfigurationBuilder.create()
+                .withConfigDataType(MerkleDbConfig.class)
+                .withConfigDataType(StateCommonConfig.class)
+                .withConfigDataType(TemporaryFileConfig.class)
+                .withSource(new SimpleConfigSource("merkleDb.longListChunkSize", "100"))
+                .withSource(new SimpleConfigSource("merkleDb.longListReservedBufferSize", "100"))
+                .withSource(new SimpleConfigSource("merkleDb.longListMemoryMappedChunks", "true"))
+                .build();
+        final long CAPACITY = 10_000;
+        final Path file = tempDir.resolve("testMemoryMappedChunks.ll");
+        try (final LongListOffHeap longList = new LongListOffHeap(CAPACITY, config)) {
+            longList.updateValidRange(50, 1049);
+            for (int i = 50; i < 1050; i++) {
+                longList.put(i, i + 1000);
+            }
+            longList.writeToFile(file);
+        }
+        final byte[] fileBytes = Files.readAllBytes(file);
+
+        try (final LongListOffHeap longList = new LongListOffHeap(file, CAPACITY, config)) {
+            longList.warmUp(null);
+            for (int i = 50; i < 1050; i++) {
+                assertEquals(i + 1000, longList.get(i), "Mismatch in value at index " + i);
+            }
+            // Mapped chunks are updated, shrunk, and released, but the file is never changed
+            for (int i = 50; i < 1050; i++) {
+                longList.put(i, i + 2000);
+            }
+            longList.updateValidRange(320, 1049);
+            longList.updateValidRange(320, 760);
+            assertArrayEquals(fileBytes, Files.readAllBytes(file), "Snapshot file should not be changed");
+            // Mapped chunks are still accessible after the file is deleted
+            Files.delete(file);
+            longList.put(500, 7500);
+            assertEquals(7500, longList.get(500));
+            assertEquals(2501, longList.get(501));
+            assertEquals(0, longList.get(300));
+            assertEquals(0, longList.get(800));
+        }
+    }
+
     /**
      * Provides a stream of writer-reader pairs specifically for the {@link LongListOffHeap} implementation.
      * The writer is always {@link LongListOffHeap}, and it is paired with three reader implementations
@@ -34,4 +34,32 @@ class MerkleDbConfigTest {
         // then
         Assertions.assertEquals(1, configViolationException.getViolations().size());
     }
+
+    @Test
+    public void testLeafRecordCacheTableBudgetsViolation() {
+        // given
+        final ConfigurationBuilder configurationBuilder = ConfigurationBuilder.create()
+                .withConfigDataTypes(MerkleDbConfig.class)
+                .withSources(new SimpleConfigSource("merkleDb.leafRecordCacheTableBudgets", "accounts:1MB"));
+
+        // when
+        final ConfigViolationException configViolationException = Assertions.assertThrows(
+                ConfigViolationException.class,
+                () -> configurationBuilder.build(),
+                "A malformed budget should cancel the initialization");
+
+        // then
+        Assertions.assertEquals(1, configViolationException.getViolations().size());
+    }
+
+    @Test
+    public void testLeafRecordCacheTableBudgetsValid() {
+        // given
+        final ConfigurationBuilder configurationBuilder = ConfigurationBuilder.create()
+                .withConfigDataTypes(MerkleDbConfig.class)
+                .withSources(new SimpleConfigSource(
+                        "merkleDb.leafRecordCacheTableBudgets", "accounts:1048576, tokens : 0,"));
+        // then
+        Assertions.assertDoesNotThrow(() -> configurationBuilder.build(), "Well-formed budgets should be valid");
+    }
 }
@@ -0,0 +1,62 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.merkledb.files;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class CompactionRateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void burstWithinRate() {
+        final AtomicLong clock = new AtomicLong(0);
+        final CompactionRateLimiter limiter = new CompactionRateLimiter(1000, clock::get);
+        assertEquals(0, limiter.reserve(600), "Bytes within the bucket should not wait");
+        assertEquals(0, limiter.reserve(400), "Bytes within the bucket should not wait");
+        assertEquals(SECOND / 10, limiter.reserve(100), "Debt should be paid off at the configured rate");
+    }
+
+    @Test
+    void refill() {
+        final AtomicLong clock = new AtomicLong(0);
+        final CompactionRateLimiter limiter = new CompactionRateLimiter(1000, clock::get);
+        assertEquals(SECOND, limiter.reserve(2000), "Wait time should cover the debt");
+        clock.addAndGet(SECOND);
+        assertEquals(0, limiter.reserve(0), "Debt should be paid off after a second");
+        clock.addAndGet(10 * SECOND);
+        assertEquals(0, limiter.reserve(1000), "Bucket should be full");
+        assertEquals(SECOND / 1000, limiter.reserve(1), "Bucket should not hold more than a second of bytes");
+    }
+
+    @Test
+    void slowRate() {
+        final AtomicLong clock = new AtomicLong(0);
+        final CompactionRateLimiter limiter = new CompactionRateLimiter(1, clock::get);
+        assertEquals(0, limiter.reserve(1), "Initial byte should not wait");
+        for (int i = 0; i < 10; i++) {
+            // Less than a byte is refilled on every call
+            clock.addAndGet(SECOND / 10);
+            limiter.reserve(0);
+        }
+        assertEquals(0, limiter.reserve(1), "Partial refills should not be lost");
+    }
+
+    @Test
+    void acquireStopsWhenInterrupted() {
+        final CompactionRateLimiter limiter = new CompactionRateLimiter(1);
+        // A debt of one hour
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> limiter.acquire(3600, () -> false));
+    }
+
+    @Test
+    void invalidRate() {
+        assertThrows(IllegalArgumentException.class, () -> new CompactionRateLimiter(0));
+    }
+}
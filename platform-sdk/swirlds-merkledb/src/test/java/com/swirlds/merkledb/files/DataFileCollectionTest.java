@@ -2,6 +2,7 @@
 package com.swirlds.merkledb.files;
 
 import static com.swirlds.common.test.fixtures.AssertionUtils.assertEventuallyTrue;
+import static com.swirlds.merkledb.files.DataFileCommon.getSizeOfFiles;
 import static com.swirlds.merkledb.test.fixtures.MerkleDbTestUtils.*;
 import static com.swirlds.merkledb.test.fixtures.files.DataFileCollectionTestUtils.checkData;
 import static com.swirlds.merkledb.test.fixtures.files.DataFileCollectionTestUtils.getVariableSizeDataForI;
@@ -20,6 +21,7 @@ import static org.mockito.Mockito.when;
 
 import com.hedera.pbj.runtime.io.buffer.BufferedData;
 import com.swirlds.base.units.UnitConstants;
+import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
 import com.swirlds.merkledb.KeyRange;
 import com.swirlds.merkledb.collections.CASableLongIndex;
 import com.swirlds.merkledb.collections.ImmutableIndexedObjectListUsingArray;
@@ -30,6 +32,7 @@ import com.swirlds.merkledb.test.fixtures.files.FilesTestType;
 import com.swirlds.merkledb.test.fixtures.files.MockAppender;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.channels.ClosedChannelException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
@@ -41,7 +44,10 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BooleanSupplier;
@@ -779,6 +785,319 @@ class DataFileCollectionTest {
         }
     }
 
+    @Test
+    void readDataItemsAsync() throws Exception {
+        final Path dbDir = tempFileDir.resolve("readDataItemsAsync");
+        final DataFileCollection fileCollection =
+                new DataFileCollection(MERKLE_DB_CONFIG, dbDir, "readDataItemsAsync", null);
+        final ExecutorService asyncReadExecutor = Executors.newFixedThreadPool(4);
+        final int count = 1000;
+        final LongListHeap storedOffsets = new LongListHeap(1000, count + 1, 0);
+        storedOffsets.updateValidRange(0, count);
+        // Some items are larger than a single pre-read buffer, they are read in two steps
+        final Function<Integer, long[]> dataForI = i -> {
+            final long[] data = new long[1 + (i % 10 == 0 ? 500 : i % 20)];
+            Arrays.fill(data, i + 10_000);
+            data[0] = i;
+            return data;
+        };
+        for (int f = 0; f < 4; f++) {
+            fileCollection.startWriting();
+            for (int i = f * count / 4; i < (f + 1) * count / 4; i++) {
+                storedOffsets.put(i, storeDataItem(fileCollection, dataForI.apply(i)));
+            }
+            fileCollection.updateValidKeyRange(0, count);
+            fileCollection.endWriting();
+        }
+
+        // Read all items in random order, plus a key not in the index
+        final List<Integer> keys = new ArrayList<>(IntStream.range(0, count).boxed().toList());
+        Collections.shuffle(keys);
+        keys.add(count);
+        final long[] keysArray = keys.stream().mapToLong(Integer::longValue).toArray();
+        final List<CompletableFuture<BufferedData>> reads =
+                fileCollection.readDataItemsUsingIndex(storedOffsets, keysArray, asyncReadExecutor);
+        assertEquals(keysArray.length, reads.size(), "One future per key expected");
+        for (int k = 0; k < count; k++) {
+            final int i = keys.get(k);
+            final BufferedData data = reads.get(k).get();
+            assertNotNull(data, "Data item should be read for key " + i);
+            final long[] items = new long[Math.toIntExact(data.remaining() / Long.BYTES)];
+            for (int j = 0; j < items.length; j++) {
+                items[j] = data.readLong();
+            }
+            assertEquals(Arrays.toString(dataForI.apply(i)), Arrays.toString(items), "Unexpected data item");
+        }
+        assertNull(reads.get(count).get(), "Missing key should be read as null");
+
+        // Async reads fail after the file is closed
+        final DataFileReader reader = fileCollection.getAllCompletedFiles().getFirst();
+        reader.close();
+        assertThrows(
+                ClosedChannelException.class,
+                () -> reader.readDataItems(new long[] {storedOffsets.get(0)}, asyncReadExecutor));
+
+        fileCollection.close();
+        asyncReadExecutor.shutdown();
+    }
+
+    @Test
+    void memoryMappedReads() throws Exception {
+        final Path dbDir = tempFileDir.resolve("memoryMappedReads");
+        final String storeName = "memoryMappedReads";
+        final DataFileCollection fileCollection =
+                new DataFileCollection(MERKLE_DB_CONFIG, dbDir, storeName, null, null, true);
+        final int count = 1000;
+        // Some items are larger than a single pre-read buffer
+        final Function<Integer, long[]> dataForI = i -> {
+            final long[] data = new long[1 + (i % 10 == 0 ? 500 : i % 20)];
+            Arrays.fill(data, i + 10_000);
+            data[0] = i;
+            return data;
+        };
+        final long[] locations = new long[count];
+        for (int f = 0; f < 2; f++) {
+            fileCollection.startWriting();
+            for (int i = f * count / 2; i < (f + 1) * count / 2; i++) {
+                locations[i] = storeDataItem(fileCollection, dataForI.apply(i));
+            }
+            fileCollection.updateValidKeyRange(0, count);
+            fileCollection.endWriting();
+        }
+        for (final DataFileReader reader : fileCollection.getAllCompletedFiles()) {
+            assertTrue(reader.isMemoryMapped(), "Completed files should be memory mapped");
+        }
+        for (int i = 0; i < count; i++) {
+            assertEquals(
+                    Arrays.toString(dataForI.apply(i)),
+                    Arrays.toString(readDataItem(fileCollection, locations[i])),
+                    "Unexpected data item");
+        }
+        fileCollection.close();
+
+        // Existing files are memory mapped on load, too
+        final DataFileCollection reopened =
+                new DataFileCollection(MERKLE_DB_CONFIG, dbDir, storeName, null, null, true);
+        assertEquals(2, reopened.getAllCompletedFiles().size(), "Both files should be loaded");
+        for (final DataFileReader reader : reopened.getAllCompletedFiles()) {
+            assertTrue(reader.isMemoryMapped(), "Loaded files should be memory mapped");
+        }
+        final BufferedData slice = reopened.readDataItem(locations[10]);
+        assertNotNull(slice, "Data item should be read");
+
+        // Slices remain valid after the files are closed and deleted
+        final List<DataFileReader> filesToDelete = reopened.getAllCompletedFiles();
+        reopened.deleteFiles(filesToDelete);
+        for (final DataFileReader reader : filesToDelete) {
+            assertFalse(reader.isMemoryMapped(), "Closed files should not be memory mapped");
+        }
+        final long[] items = new long[Math.toIntExact(slice.remaining() / Long.BYTES)];
+        for (int j = 0; j < items.length; j++) {
+            items[j] = slice.readLong();
+        }
+        assertEquals(Arrays.toString(dataForI.apply(10)), Arrays.toString(items), "Unexpected data item");
+        reopened.close();
+    }
+
+    @Test
+    void memoryMappedReadsDisabledByDefault() throws Exception {
+        final Path dbDir = tempFileDir.resolve("memoryMappedReadsDisabledByDefault");
+        final DataFileCollection fileCollection =
+                new DataFileCollection(MERKLE_DB_CONFIG, dbDir, "memoryMappedReadsDisabledByDefault", null);
+        fileCollection.startWriting();
+        final long location = storeDataItem(fileCollection, new long[] {1, 2, 3});
+        fileCollection.updateValidKeyRange(0, 1);
+        fileCollection.endWriting();
+        assertFalse(fileCollection.getAllCompletedFiles().getFirst().isMemoryMapped(), "Files should not be mapped");
+        assertEquals("[1, 2, 3]", Arrays.toString(readDataItem(fileCollection, location)), "Unexpected data item");
+        fileCollection.close();
+    }
+
+    @Test
+    void garbageTrackingAndCompaction() throws Exception {
+        final Path dbDir = tempFileDir.resolve("garbageTrackingAndCompaction");
+        final DataFileCollection fileCollection =
+                new DataFileCollection(MERKLE_DB_CONFIG, dbDir, "garbageTrackingAndCompaction", null);
+        final int count = 100;
+        final LongListHeap index = new LongListHeap(1000, count, 0);
+        index.updateValidRange(0, count - 1);
+        fileCollection.startWriting();
+        for (int i = 0; i < count; i++) {
+            index.put(i, storeDataItem(fileCollection, new long[] {i, i}));
+        }
+        fileCollection.updateValidKeyRange(0, count - 1);
+        final DataFileReader firstFile = fileCollection.endWriting();
+        assertEquals(0.0, firstFile.getGarbageRatio(), "New file should have no garbage");
+
+        // Update half of the items
+        fileCollection.startWriting();
+        for (int i = 0; i < count / 2; i++) {
+            fileCollection.markItemObsolete(index.get(i));
+            index.put(i, storeDataItem(fileCollection, new long[] {i, i + 1}));
+        }
+        final DataFileReader secondFile = fileCollection.endWriting();
+        assertEquals(0.5, firstFile.getGarbageRatio(), "Half of the first file should be garbage");
+        assertEquals(0.0, secondFile.getGarbageRatio(), "New file should have no garbage");
+        assertEquals(
+                firstFile.getEstimatedGarbageSize(),
+                fileCollection.getEstimatedGarbageSize(),
+                "Only the first file should contain garbage");
+        assertEquals(1.0, fileCollection.getWriteAmplification(), "Nothing has been compacted yet");
+
+        // Not enough files to compact by levels, but the first file has enough garbage
+        final DataFileCompactor compactor = new DataFileCompactor(
+                MERKLE_DB_CONFIG, "garbageTrackingAndCompaction", fileCollection, index, null, null, null, null);
+        assertTrue(compactor.compact(), "The file with garbage should be compacted");
+        final List<DataFileReader> filesAfterCompaction = fileCollection.getAllCompletedFiles();
+        assertEquals(2, filesAfterCompaction.size(), "Unexpected number of files after compaction");
+        assertFalse(filesAfterCompaction.contains(firstFile), "The file with garbage should be deleted");
+        assertTrue(filesAfterCompaction.contains(secondFile), "The file without garbage should be kept");
+        assertEquals(0, fileCollection.getEstimatedGarbageSize(), "No garbage should be left");
+        assertEquals(
+                (double) (count + count / 2 + count / 2) / (count + count / 2),
+                fileCollection.getWriteAmplification(),
+                1e-9,
+                "Unexpected write amplification");
+        for (int i = 0; i < count; i++) {
+            final long expected = i < count / 2 ? i + 1 : i;
+            assertEquals(
+                    Arrays.toString(new long[] {i, expected}),
+                    Arrays.toString(readDataItem(fileCollection, index.get(i))),
+                    "Unexpected data item");
+        }
+        fileCollection.close();
+    }
+
+    @Test
+    void compressedDataFiles() throws Exception {
+        final Path dbDir = tempFileDir.resolve("compressedDataFiles");
+        final String storeName = "compressedDataFiles";
+        // Small blocks, so every file has lots of them
+        final MerkleDbConfig dbConfig = new TestConfigBuilder()
+                .withValue("merkleDb.compressedBlockSize", "1024")
+                .getOrCreateConfig()
+                .getConfigData(MerkleDbConfig.class);
+        final DataFileCollection fileCollection =
+                new DataFileCollection(dbConfig, dbDir, storeName, null, null, false, DataFileCompression.DEFLATE);
+        final int count = 1000;
+        // Some items are larger than a single block
+        final Function<Integer, long[]> dataForI = i -> {
+            final long[] data = new long[1 + (i % 10 == 0 ? 500 : i % 20)];
+            Arrays.fill(data, i + 10_000);
+            data[0] = i;
+            return data;
+        };
+        final LongListHeap index = new LongListHeap(1000, count, 0);
+        index.updateValidRange(0, count - 1);
+        long uncompressedSize = 0;
+        for (int f = 0; f < 2; f++) {
+            fileCollection.startWriting();
+            final int first = f * count / 2;
+            for (int i = first; i < (f + 1) * count / 2; i++) {
+                final long[] data = dataForI.apply(i);
+                uncompressedSize += (long) data.length * Long.BYTES;
+                index.put(i, storeDataItem(fileCollection, data));
+                // Items can be read while the file is being written, both from the current block
+                // and from blocks already written to disk
+                assertEquals(
+                        Arrays.toString(data),
+                        Arrays.toString(readDataItem(fileCollection, index.get(i))),
+                        "Unexpected data item in the current block");
+                assertEquals(
+                        Arrays.toString(dataForI.apply(first)),
+                        Arrays.toString(readDataItem(fileCollection, index.get(first))),
+                        "Unexpected data item in a written block");
+            }
+            fileCollection.updateValidKeyRange(0, count - 1);
+            final DataFileReader reader = fileCollection.endWriting();
+            assertTrue(reader.getMetadata().isCompressed(), "New files should be compressed");
+        }
+        final List<DataFileReader> files = fileCollection.getAllCompletedFiles();
+        assertEquals(2, files.size(), "Unexpected number of files");
+        assertTrue(getSizeOfFiles(files) < uncompressedSize / 2, "Files should be compressed");
+        for (int i = 0; i < count; i++) {
+            assertEquals(
+                    Arrays.toString(dataForI.apply(i)),
+                    Arrays.toString(readDataItem(fileCollection, index.get(i))),
+                    "Unexpected data item");
+        }
+
+        // Async reads
+        final long[] keys = IntStream.range(0, count).asLongStream().toArray();
+        final ExecutorService asyncReadExecutor = Executors.newFixedThreadPool(4);
+        final List<CompletableFuture<BufferedData>> futures =
+                fileCollection.readDataItemsUsingIndex(index, keys, asyncReadExecutor);
+        for (int i = 0; i < count; i++) {
+            final BufferedData data = futures.get(i).get();
+            assertNotNull(data, "Data item should be read");
+            assertEquals(i, data.readLong(), "Unexpected data item");
+        }
+        asyncReadExecutor.shutdown();
+
+        // Compacted files are compressed, too
+        final DataFileCompactor compactor =
+                new DataFileCompactor(dbConfig, storeName, fileCollection, index, null, null, null, null);
+        compactor.compactFiles(index, files, 1);
+        assertEquals(1, fileCollection.getAllCompletedFiles().size(), "Files should be compacted");
+        assertTrue(
+                fileCollection.getAllCompletedFiles().getFirst().getMetadata().isCompressed(),
+                "Compacted file should be compressed");
+        for (int i = 0; i < count; i++) {
+            assertEquals(
+                    Arrays.toString(dataForI.apply(i)),
+                    Arrays.toString(readDataItem(fileCollection, index.get(i))),
+                    "Unexpected data item after compaction");
+        }
+        fileCollection.close();
+
+        // Block indices are loaded from files on reopen, data items are iterated in blocks
+        final LoadedDataCallbackImpl callback = new LoadedDataCallbackImpl();
+        final DataFileCollection reopened =
+                new DataFileCollection(dbConfig, dbDir, storeName, null, callback, false, DataFileCompression.DEFLATE);
+        for (int i = 0; i < count; i++) {
+            assertEquals(index.get(i), callback.dataLocationMap.get((long) i), "Unexpected data location");
+            assertEquals(
+                    Arrays.toString(dataForI.apply(i)),
+                    Arrays.toString(readDataItem(reopened, index.get(i))),
+                    "Unexpected data item after reopen");
+        }
+        reopened.close();
+    }
+
+    @Test
+    void compressionIsAppliedOnCompaction() throws Exception {
+        final Path dbDir = tempFileDir.resolve("compressionIsAppliedOnCompaction");
+        final String storeName = "compressionIsAppliedOnCompaction";
+        final int count = 100;
+        final LongListHeap index = new LongListHeap(1000, count, 0);
+        index.updateValidRange(0, count - 1);
+        final DataFileCollection fileCollection = new DataFileCollection(MERKLE_DB_CONFIG, dbDir, storeName, null);
+        fileCollection.startWriting();
+        for (int i = 0; i < count; i++) {
+            index.put(i, storeDataItem(fileCollection, new long[] {i, i * 2L}));
+        }
+        fileCollection.updateValidKeyRange(0, count - 1);
+        assertFalse(fileCollection.endWriting().getMetadata().isCompressed(), "Files should not be compressed");
+        fileCollection.close();
+
+        // Existing uncompressed files are still readable, and they are compressed on compaction
+        final DataFileCollection reopened = new DataFileCollection(
+                MERKLE_DB_CONFIG, dbDir, storeName, null, null, false, DataFileCompression.DEFLATE);
+        final DataFileCompactor compactor =
+                new DataFileCompactor(MERKLE_DB_CONFIG, storeName, reopened, index, null, null, null, null);
+        compactor.compactFiles(index, reopened.getAllCompletedFiles(), 1);
+        final List<DataFileReader> files = reopened.getAllCompletedFiles();
+        assertEquals(1, files.size(), "Unexpected number of files");
+        assertTrue(files.getFirst().getMetadata().isCompressed(), "Compacted file should be compressed");
+        for (int i = 0; i < count; i++) {
+            assertEquals(
+                    Arrays.toString(new long[] {i, i * 2L}),
+                    Arrays.toString(readDataItem(reopened, index.get(i))),
+                    "Unexpected data item");
+        }
+        reopened.close();
+    }
+
     /**
      * Keep track of initial direct memory used already, so we can check if we leek over and above
      * what we started with
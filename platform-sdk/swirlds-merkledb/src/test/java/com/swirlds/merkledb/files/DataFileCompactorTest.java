@@ -142,4 +142,74 @@ class DataFileCompactorTest {
                 compactionPlan(Arrays.asList(firstLevel1, secondLevel1, secondLevel2), 3, 5);
         assertEquals(0, result.size());
     }
+
+    @Test
+    void testGarbageCompactionPlan() {
+        when(firstLevel1.getGarbageRatio()).thenReturn(0.6);
+        when(secondLevel1.getGarbageRatio()).thenReturn(0.9);
+        when(secondLevel2.getGarbageRatio()).thenReturn(0.3);
+        final List<DataFileReader> result =
+                compactionPlan(Arrays.asList(initialLevel1, firstLevel1, secondLevel1, secondLevel2), 3, 5, 0.5, 0);
+        assertEquals(List.of(firstLevel1, secondLevel1), result, "Files with garbage should be sorted by level");
+    }
+
+    @Test
+    void testGarbageCompactionPlan_disabled() {
+        when(firstLevel1.getGarbageRatio()).thenReturn(1.0);
+        assertEquals(0, compactionPlan(Arrays.asList(initialLevel1, firstLevel1), 3, 5, 1.1, 0).size());
+        assertEquals(
+                0,
+                compactionPlan(Arrays.asList(initialLevel1, firstLevel1), 3, 5, 0, 0).size(),
+                "Zero threshold should disable garbage based compactions");
+    }
+
+    @Test
+    void testGarbageCompactionPlan_levelsFirst() {
+        when(firstLevel1.getGarbageRatio()).thenReturn(0.9);
+        final List<DataFileReader> result =
+                compactionPlan(Arrays.asList(initialLevel1, initialLevel2, initialLevel3, firstLevel1), 3, 5, 0.5, 0);
+        assertEquals(
+                List.of(initialLevel1, initialLevel2, initialLevel3),
+                result,
+                "Files should be compacted by levels, if there are enough of them");
+    }
+
+    @Test
+    void testCompactionPlan_maxBytes() {
+        when(initialLevel1.getSize()).thenReturn(100L);
+        when(initialLevel2.getSize()).thenReturn(100L);
+        when(initialLevel3.getSize()).thenReturn(100L);
+        when(firstLevel1.getSize()).thenReturn(1000L);
+        when(firstLevel2.getSize()).thenReturn(1000L);
+        final List<DataFileReader> files =
+                Arrays.asList(initialLevel1, initialLevel2, initialLevel3, firstLevel1, firstLevel2);
+        assertEquals(
+                List.of(initialLevel1, initialLevel2, initialLevel3),
+                compactionPlan(files, 3, 5, 0.5, 500),
+                "Only files that fit should be compacted");
+        assertEquals(
+                List.of(initialLevel1, initialLevel2),
+                compactionPlan(files, 3, 5, 0.5, 10),
+                "At least two files should be compacted");
+        assertEquals(5, compactionPlan(files, 3, 5, 0.5, 0).size(), "Zero max bytes should not limit the plan");
+    }
+
+    @Test
+    void testGarbageCompactionPlan_maxBytes() {
+        when(firstLevel1.getGarbageRatio()).thenReturn(0.6);
+        when(firstLevel1.getSize()).thenReturn(100L);
+        when(secondLevel1.getGarbageRatio()).thenReturn(0.9);
+        when(secondLevel1.getSize()).thenReturn(100L);
+        when(secondLevel2.getGarbageRatio()).thenReturn(0.7);
+        when(secondLevel2.getSize()).thenReturn(1000L);
+        final List<DataFileReader> files = Arrays.asList(firstLevel1, secondLevel1, secondLevel2);
+        assertEquals(
+                List.of(secondLevel1),
+                compactionPlan(files, 3, 5, 0.5, 150),
+                "Files with the most garbage should be compacted first");
+        assertEquals(
+                List.of(secondLevel1),
+                compactionPlan(files, 3, 5, 0.5, 10),
+                "At least one file should be compacted");
+    }
 }
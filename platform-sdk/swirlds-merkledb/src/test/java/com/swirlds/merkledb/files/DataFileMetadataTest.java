@@ -5,12 +5,14 @@ import static com.swirlds.merkledb.files.DataFileCompactor.INITIAL_COMPACTION_LE
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.hedera.pbj.runtime.io.buffer.BufferedData;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -41,6 +43,25 @@ class DataFileMetadataTest {
                 BASE.metadataSizeInBytes(), buffer.position(), "Number of bytes written should match calculated size");
     }
 
+    @Test
+    void compressionRoundTrip() throws IOException {
+        final DataFileMetadata compressed = new DataFileMetadata(
+                BASE.getIndex(), BASE.getCreationDate(), BASE.getCompactionLevel(), DataFileCompression.DEFLATE);
+        final byte[] bytes = new byte[64];
+        final BufferedData buffer = BufferedData.wrap(bytes);
+        compressed.writeTo(buffer);
+        assertEquals(compressed.metadataSizeInBytes(), buffer.position(), "Compression should be included in size");
+        final Path file = Files.createTempFile(null, null);
+        try {
+            Files.write(file, Arrays.copyOf(bytes, (int) buffer.position()));
+            final DataFileMetadata restored = DataFileMetadata.readFromFile(file);
+            assertEquals(compressed, restored, "Compression should be restored");
+            assertTrue(restored.isCompressed(), "Restored metadata should be compressed");
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
     @Test
     void sameObjectsEquality() {
         DataFileMetadata copy =
@@ -70,6 +91,13 @@ class DataFileMetadataTest {
                         "Different creation dates are unequal"),
                 Arguments.arguments(
                         new DataFileMetadata(BASE.getIndex(), BASE.getCreationDate(), BASE.getCompactionLevel() + 1),
-                        "Different compaction level are unequal"));
+                        "Different compaction level are unequal"),
+                Arguments.arguments(
+                        new DataFileMetadata(
+                                BASE.getIndex(),
+                                BASE.getCreationDate(),
+                                BASE.getCompactionLevel(),
+                                DataFileCompression.DEFLATE),
+                        "Different compression types are unequal"));
     }
 }
@@ -232,6 +232,56 @@ class BucketTest {
         assertEquals(bucket3.toString(), bucket.toString(), "Expect bucket toStrings to match");
     }
 
+    @Test
+    void collidingHashCodesAddDeleteSanitize() throws IOException {
+        final Bucket bucket = new Bucket();
+        bucket.setBucketIndex(1);
+        final int count = 40;
+        // Every other key has the same hash code
+        for (int i = 0; i < count; i++) {
+            final int hashCode = (i % 2 == 0) ? 1 : (i << 4) | 1;
+            bucket.putValue(Bytes.wrap(new byte[] {(byte) i, (byte) i}), hashCode, i * 10L);
+        }
+        assertEquals(count, bucket.getBucketEntryCount(), "Wrong entry count");
+        // Delete some keys in the middle, entries after them are shifted
+        for (int i = 5; i < count; i += 3) {
+            final int hashCode = (i % 2 == 0) ? 1 : (i << 4) | 1;
+            bucket.putValue(Bytes.wrap(new byte[] {(byte) i, (byte) i}), hashCode, INVALID_VALUE);
+        }
+        // Update a key after deleted keys
+        bucket.putValue(Bytes.wrap(new byte[] {(byte) 36, (byte) 36}), 1, 12345);
+        for (int i = 0; i < count; i++) {
+            final int hashCode = (i % 2 == 0) ? 1 : (i << 4) | 1;
+            final long expected = ((i >= 5) && ((i - 5) % 3 == 0)) ? -1 : (i == 36 ? 12345 : i * 10L);
+            assertEquals(
+                    expected,
+                    bucket.findValue(hashCode, Bytes.wrap(new byte[] {(byte) i, (byte) i}), -1),
+                    "Wrong value for key " + i);
+        }
+
+        // Serialize and read to a new bucket, entry hash codes are rebuilt
+        final BufferedData buf = BufferedData.allocate(bucket.sizeInBytes());
+        bucket.writeTo(buf);
+        buf.flip();
+        final Bucket copy = new Bucket();
+        copy.readFrom(buf);
+        assertEquals(bucket.getBucketEntryCount(), copy.getBucketEntryCount(), "Wrong entry count");
+        assertEquals(bucket.computeKeyFilter(), copy.computeKeyFilter(), "Key filters should be equal");
+
+        // Only entries with hash code 1 are left for bucket 1 with 5 bits mask
+        copy.sanitize(1, 5);
+        for (int i = 0; i < count; i++) {
+            final int hashCode = (i % 2 == 0) ? 1 : (i << 4) | 1;
+            final long expected = ((i % 2 != 0) || ((i >= 5) && ((i - 5) % 3 == 0)))
+                    ? -1
+                    : (i == 36 ? 12345 : i * 10L);
+            assertEquals(
+                    expected,
+                    copy.findValue(hashCode, Bytes.wrap(new byte[] {(byte) i, (byte) i}), -1),
+                    "Wrong value after sanitize for key " + i);
+        }
+    }
+
     @Test
     void toStringAsExpectedForBucket() {
         final ExampleLongKeyFixedSize.Serializer keySerializer = new ExampleLongKeyFixedSize.Serializer();
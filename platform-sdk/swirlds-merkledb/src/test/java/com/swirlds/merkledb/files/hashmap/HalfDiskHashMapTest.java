@@ -6,9 +6,12 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.hedera.pbj.runtime.io.buffer.BufferedData;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.config.api.Configuration;
+import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
 import com.swirlds.merkledb.collections.LongList;
 import com.swirlds.merkledb.collections.LongListHeap;
 import com.swirlds.merkledb.config.MerkleDbConfig;
@@ -563,6 +566,79 @@ class HalfDiskHashMapTest {
         }
     }
 
+    @Test
+    void bucketKeyFiltersSkipMissingKeys() throws Exception {
+        final Configuration config = new TestConfigBuilder()
+                .withValue("merkleDb.bucketKeyFiltersEnabled", true)
+                .getOrCreateConfig();
+        final Path snapshotDir = tempDirPath.resolve("bucketKeyFiltersSkipMissingKeysSnapshot");
+        final int count = 10_000;
+        try (HalfDiskHashMap map = new HalfDiskHashMap(
+                config, count, tempDirPath.resolve("bucketKeyFiltersSkipMissingKeys"), "filters", null, false)) {
+            map.startWriting();
+            for (int i = 0; i < count; i++) {
+                map.put(Bytes.wrap(intToByteArray(i)), i, i + 1);
+            }
+            map.endWriting();
+            for (int i = 0; i < count; i++) {
+                assertEquals(i + 1, map.get(Bytes.wrap(intToByteArray(i)), i, -1));
+            }
+            // Existing keys are never filtered out
+            assertEquals(0, map.getAndResetKeyFilterNegatives());
+            for (int i = count; i < count * 2; i++) {
+                assertEquals(-1, map.get(Bytes.wrap(intToByteArray(i)), i, -1));
+            }
+            final long negatives = map.getAndResetKeyFilterNegatives();
+            final long falsePositives = map.getAndResetKeyFilterFalsePositives();
+            assertEquals(count, negatives + falsePositives);
+            assertTrue(negatives > falsePositives, "Filters should filter out most missing keys");
+            // Delete some keys, they must not be found
+            map.startWriting();
+            for (int i = 0; i < count; i += 2) {
+                map.delete(Bytes.wrap(intToByteArray(i)), i);
+            }
+            map.endWriting();
+            for (int i = 0; i < count; i++) {
+                assertEquals(i % 2 == 0 ? -1 : i + 1, map.get(Bytes.wrap(intToByteArray(i)), i, -1));
+            }
+            map.snapshot(snapshotDir);
+        }
+        // Filters are loaded from the snapshot
+        try (HalfDiskHashMap map = new HalfDiskHashMap(config, count, snapshotDir, "filters", null, false)) {
+            for (int i = 0; i < count; i++) {
+                assertEquals(i % 2 == 0 ? -1 : i + 1, map.get(Bytes.wrap(intToByteArray(i)), i, -1));
+            }
+            for (int i = count; i < count * 2; i++) {
+                assertEquals(-1, map.get(Bytes.wrap(intToByteArray(i)), i, -1));
+            }
+            assertTrue(map.getAndResetKeyFilterNegatives() > 0);
+        }
+    }
+
+    @Test
+    void bucketKeyFiltersAfterResize() throws Exception {
+        final Configuration config = new TestConfigBuilder()
+                .withValue("merkleDb.bucketKeyFiltersEnabled", true)
+                .getOrCreateConfig();
+        try (HalfDiskHashMap map = new HalfDiskHashMap(
+                config, 200, tempDirPath.resolve("bucketKeyFiltersAfterResize"), "filters", null, false)) {
+            final int initialNumOfBuckets = calcExpectedNumOfBuckets(200);
+            map.startWriting();
+            for (int i = 0; i < 100; i++) {
+                map.put(Bytes.wrap(new byte[] {(byte) i, (byte) i}), i, i * 2);
+                map.put(Bytes.wrap(new byte[] {(byte) (i + 100), 11}), i + initialNumOfBuckets, i + 2);
+            }
+            map.endWriting();
+            map.resizeIfNeeded(499, 998);
+            assertEquals(initialNumOfBuckets * 2, map.getNumOfBuckets());
+            for (int i = 0; i < 100; i++) {
+                assertEquals(i * 2, map.get(Bytes.wrap(new byte[] {(byte) i, (byte) i}), i, -1));
+                assertEquals(
+                        i + 2, map.get(Bytes.wrap(new byte[] {(byte) (i + 100), 11}), i + initialNumOfBuckets, -1));
+            }
+        }
+    }
+
     private int calcExpectedNumOfBuckets(final long mapSizeHint) {
         int goodAverageBucketEntryCount =
                 CONFIGURATION.getConfigData(MerkleDbConfig.class).goodAverageBucketEntryCount();
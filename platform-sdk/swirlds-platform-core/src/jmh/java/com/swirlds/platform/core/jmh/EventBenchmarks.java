@@ -2,6 +2,7 @@
 package com.swirlds.platform.core.jmh;
 
 import com.hedera.hapi.platform.event.GossipEvent;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.common.io.streams.MerkleDataInputStream;
 import com.swirlds.common.io.streams.MerkleDataOutputStream;
 import java.io.IOException;
@@ -10,8 +11,10 @@ import java.io.PipedOutputStream;
 import java.util.Random;
 import java.util.concurrent.TimeUnit;
 import org.hiero.base.constructable.ConstructableRegistryException;
+import org.hiero.consensus.crypto.DefaultEventHasher;
 import org.hiero.consensus.crypto.EventHasher;
 import org.hiero.consensus.crypto.PbjStreamHasher;
+import org.hiero.consensus.crypto.SerializedEventHasher;
 import org.hiero.consensus.model.event.PlatformEvent;
 import org.hiero.consensus.model.test.fixtures.event.TestingEventBuilder;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -42,13 +45,15 @@ public class EventBenchmarks {
     @Param({"10"})
     public int numSys;
 
-    @Param({"PBJ_STREAM_DIGEST"})
+    @Param({"PBJ_STREAM_DIGEST", "DEFAULT"})
     public HasherType hasherType;
 
     private PlatformEvent event;
+    private Bytes serializedEvent;
     private MerkleDataOutputStream outStream;
     private MerkleDataInputStream inStream;
     private EventHasher eventHasher;
+    private SerializedEventHasher serializedEventHasher;
 
     @Setup
     public void setup() throws IOException, ConstructableRegistryException {
@@ -65,6 +70,8 @@ public class EventBenchmarks {
         outStream = new MerkleDataOutputStream(outputStream);
         inStream = new MerkleDataInputStream(inputStream);
         eventHasher = hasherType.newHasher();
+        serializedEvent = GossipEvent.PROTOBUF.toBytes(event.getGossipEvent());
+        serializedEventHasher = new SerializedEventHasher();
     }
 
     @Benchmark
@@ -94,12 +101,25 @@ public class EventBenchmarks {
         bh.consume(eventHasher.hashEvent(event));
     }
 
+    /**
+     * Hashes the event from its serialized form, as received from a peer or read from a file, to compare with
+     * {@link #hashing(Blackhole)}. Run with {@code -prof gc} to compare the allocation rates as well.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void hashingSerialized(final Blackhole bh) {
+        bh.consume(serializedEventHasher.hashEvent(event, serializedEvent));
+    }
+
     public enum HasherType {
-        PBJ_STREAM_DIGEST;
+        PBJ_STREAM_DIGEST,
+        DEFAULT;
 
         public EventHasher newHasher() {
             return switch (this) {
                 case PBJ_STREAM_DIGEST -> new PbjStreamHasher();
+                case DEFAULT -> new DefaultEventHasher();
             };
         }
     }
@@ -0,0 +1,146 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.core.jmh;
+
+import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
+import com.swirlds.platform.gossip.NoOpIntakeEventCounter;
+import com.swirlds.platform.gossip.shadowgraph.ReservedEventWindow;
+import com.swirlds.platform.gossip.shadowgraph.ShadowEvent;
+import com.swirlds.platform.gossip.shadowgraph.Shadowgraph;
+import com.swirlds.platform.gossip.shadowgraph.ShadowgraphInsertionException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.hiero.base.crypto.Hash;
+import org.hiero.consensus.model.event.PlatformEvent;
+import org.hiero.consensus.model.hashgraph.EventWindow;
+import org.hiero.consensus.model.node.NodeId;
+import org.hiero.consensus.model.test.fixtures.event.TestingEventBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Simulates many peers syncing against a single shadowgraph, while new events are added and old events are expired.
+ * Every sync reserves the event window, reads the tips, looks up the peer's tips by hash, and walks the ancestors of
+ * the tips. The number of syncing peers is set with {@link GroupThreads} on {@link #sync(Blackhole)}, or with the JMH
+ * {@code -tg} option, for example {@code -tg 32,1}.
+ */
+@State(Scope.Group)
+@Fork(value = 1)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+public class ShadowgraphBenchmark {
+
+    /** Number of nodes creating events */
+    @Param({"32"})
+    public int numNodes;
+
+    /** Number of non-expired birth rounds kept in the shadowgraph */
+    @Param({"20"})
+    public int roundsNonExpired;
+
+    /** Number of events in a birth round */
+    @Param({"200"})
+    public int eventsPerRound;
+
+    @Param({"0"})
+    public long seed;
+
+    private Shadowgraph shadowgraph;
+
+    // Event creation state, only used by the event adding thread
+    private Random random;
+    private PlatformEvent[] latestEvents;
+    private long birthRound;
+    private int eventsInRound;
+
+    @Setup(Level.Iteration)
+    public void setup() throws ShadowgraphInsertionException {
+        final PlatformContext platformContext =
+                TestPlatformContextBuilder.create().build();
+        shadowgraph = new Shadowgraph(platformContext, numNodes, new NoOpIntakeEventCounter());
+        random = new Random(seed);
+        latestEvents = new PlatformEvent[numNodes];
+        birthRound = 1;
+        eventsInRound = 0;
+        shadowgraph.updateEventWindow(EventWindow.getGenesisEventWindow());
+        for (int i = 0; i < roundsNonExpired * eventsPerRound; i++) {
+            addNextEvent();
+        }
+    }
+
+    private void addNextEvent() throws ShadowgraphInsertionException {
+        final int creator = random.nextInt(numNodes);
+        int otherCreator = random.nextInt(numNodes - 1);
+        if (otherCreator >= creator) {
+            otherCreator++;
+        }
+        final PlatformEvent event = new TestingEventBuilder(random)
+                .setCreatorId(NodeId.of(creator))
+                .setSelfParent(latestEvents[creator])
+                .setOtherParent(latestEvents[otherCreator])
+                .setBirthRound(birthRound)
+                .build();
+        shadowgraph.addEvent(event);
+        latestEvents[creator] = event;
+
+        if (++eventsInRound == eventsPerRound) {
+            eventsInRound = 0;
+            birthRound++;
+            final long expiredThreshold = Math.max(1, birthRound - roundsNonExpired);
+            shadowgraph.updateEventWindow(
+                    new EventWindow(birthRound - 1, birthRound, expiredThreshold, expiredThreshold));
+        }
+    }
+
+    @Benchmark
+    @Group("all")
+    @GroupThreads(32)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void sync(final Blackhole bh) {
+        try (final ReservedEventWindow reservation = shadowgraph.reserve()) {
+            final List<ShadowEvent> tips = shadowgraph.getTips();
+            if (tips.isEmpty()) {
+                return;
+            }
+            // The peer knows about a few of our tips
+            final List<Hash> peerTips = new ArrayList<>();
+            final ThreadLocalRandom threadRandom = ThreadLocalRandom.current();
+            for (int i = 0; i < 4; i++) {
+                peerTips.add(tips.get(threadRandom.nextInt(tips.size())).getEventBaseHash());
+            }
+            bh.consume(shadowgraph.shadows(peerTips));
+            // Send the peer everything from the last couple of rounds
+            final long minBirthRound = reservation.getEventWindow().newEventBirthRound() - 2;
+            final Set<ShadowEvent> ancestors =
+                    shadowgraph.findAncestors(tips, e -> e.getEvent().getBirthRound() >= minBirthRound);
+            bh.consume(ancestors);
+        }
+    }
+
+    @Benchmark
+    @Group("all")
+    @GroupThreads(1)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void addEvent() throws ShadowgraphInsertionException {
+        addNextEvent();
+    }
+}
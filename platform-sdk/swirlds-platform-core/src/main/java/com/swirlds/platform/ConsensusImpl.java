@@ -7,6 +7,7 @@ import static java.util.stream.Collectors.toSet;
 import static org.hiero.consensus.model.hashgraph.ConsensusConstants.FIRST_CONSENSUS_NUMBER;
 
 import com.hedera.hapi.node.state.roster.Roster;
+import com.hedera.hapi.node.state.roster.RosterEntry;
 import com.hedera.hapi.platform.event.EventConsensusData;
 import com.hedera.hapi.platform.state.ConsensusSnapshot;
 import com.hedera.hapi.platform.state.JudgeId;
@@ -157,6 +158,10 @@ public class ConsensusImpl implements Consensus {
     private final long rosterTotalWeight;
     /** roster indices map. */
     private final Map<Long, Integer> rosterIndicesMap;
+    /** the weight of each roster entry, by roster index */
+    private final long[] weights;
+    /** if true, lastSee and stronglySeeP are calculated for all members at once, see {@link #calculateLastSee} */
+    private final boolean incrementalMetadata;
     /** metrics related to consensus */
     private final ConsensusMetrics consensusMetrics;
     /** used for searching the hashgraph */
@@ -222,6 +227,10 @@ public class ConsensusImpl implements Consensus {
         this.roster = roster;
         this.rosterTotalWeight = RosterUtils.computeTotalWeight(roster);
         this.rosterIndicesMap = RosterUtils.toIndicesMap(roster);
+        this.weights = roster.rosterEntries().stream()
+                .mapToLong(RosterEntry::weight)
+                .toArray();
+        this.incrementalMetadata = config.incrementalMetadata();
 
         this.rounds = new ConsensusRounds(config, roster);
 
@@ -977,6 +986,10 @@ public class ConsensusImpl implements Consensus {
         if (x.sizeLastSee() != 0) { // return memoized answer, if available
             return x.getLastSee((int) m);
         }
+        if (incrementalMetadata) {
+            calculateLastSee(x);
+            return x.getLastSee((int) m);
+        }
         // memoize answers for all choices of m, then return answer for just this m
         numMembers = roster.rosterEntries().size();
         x.initLastSee(numMembers);
@@ -1051,6 +1064,10 @@ public class ConsensusImpl implements Consensus {
         if (x.sizeStronglySeeP() != 0) { // return memoized answer, if available
             return x.getStronglySeeP((int) m);
         }
+        if (incrementalMetadata) {
+            calculateStronglySeeP(x);
+            return x.getStronglySeeP((int) m);
+        }
         // calculate the answer, and remember it for next time
         // find and memoize answers for all choices of m, then return answer for just this m
         final int numMembers = roster.rosterEntries().size(); // number of members
@@ -1172,10 +1189,22 @@ public class ConsensusImpl implements Consensus {
         // sum of stake involved
         long weight = 0;
         int numStronglySeen = 0;
-        for (int m = 0; m < numMembers; m++) {
-            if (timedStronglySeeP(x, m) != null) {
-                weight += getWeight(m);
-                numStronglySeen++;
+        if (incrementalMetadata) {
+            // the first call memoizes the answers for all members, so there is no need to call it for each member
+            timedStronglySeeP(x, 0);
+            final EventImpl[] stronglySeen = x.getStronglySeeP();
+            for (int m = 0; m < numMembers; m++) {
+                if (stronglySeen[m] != null) {
+                    weight += weights[m];
+                    numStronglySeen++;
+                }
+            }
+        } else {
+            for (int m = 0; m < numMembers; m++) {
+                if (timedStronglySeeP(x, m) != null) {
+                    weight += getWeight(m);
+                    numStronglySeen++;
+                }
             }
         }
         consensusMetrics.witnessesStronglySeen(numStronglySeen);
@@ -1190,6 +1219,167 @@ public class ConsensusImpl implements Consensus {
         return x.getRoundCreated();
     }
 
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Incremental calculation of lastSee and stronglySeeP, used if ConsensusConfig.incrementalMetadata() is true.
+    // These produce the same results as the functions above, but calculate the answers for all members at once from
+    // the memoized answers of the parents.
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Calculate and memoize {@link #lastSee(EventImpl, long)} of x for all members. The creator of x and the lastSee
+     * arrays of its parents are looked up once, instead of once per member.
+     *
+     * @param x the event being queried, must be relevant for consensus
+     */
+    private void calculateLastSee(@NonNull final EventImpl x) {
+        final int numMembers = weights.length;
+        final int creator = creatorIndex(x);
+        final EventImpl sp = selfParent(x);
+        final EventImpl op = otherParent(x);
+        final EventImpl[] spLastSee = lastSeeAll(sp);
+        final EventImpl[] opLastSee = lastSeeAll(op);
+
+        x.initLastSee(numMembers);
+        for (int mm = 0; mm < numMembers; mm++) {
+            if (mm == creator) {
+                x.setLastSee(mm, x);
+            } else if (sp != null || op != null) {
+                final EventImpl lsop = opLastSee == null ? null : opLastSee[mm];
+                final EventImpl lssp = spLastSee == null ? null : spLastSee[mm];
+                final long lsopGen = lsop == null ? DeGen.GENERATION_UNDEFINED : lsop.getDeGen();
+                final long lsspGen = lssp == null ? DeGen.GENERATION_UNDEFINED : lssp.getDeGen();
+                if ((round(lsop) > round(lssp))
+                        || ((lsopGen > lsspGen) && (firstSelfWitnessS(lsop) == firstSelfWitnessS(lssp)))) {
+                    x.setLastSee(mm, lsop);
+                } else {
+                    x.setLastSee(mm, lssp);
+                }
+            }
+        }
+    }
+
+    /**
+     * Calculate and memoize {@link #stronglySeeP(EventImpl, long)} of x for all members. Answers inherited from a
+     * parent are copied from the parent's array. For the remaining members, the intermediate events are visited once,
+     * and each one adds its weight to every member whose canonical witness it sees, instead of visiting all
+     * intermediate events once per member.
+     *
+     * @param x the event being queried, must be relevant for consensus
+     */
+    private void calculateStronglySeeP(@NonNull final EventImpl x) {
+        final int numMembers = weights.length;
+        final EventImpl sp = selfParent(x);
+        final EventImpl op = otherParent(x);
+        final long prx = parentRound(x);
+        final long prsp = parentRound(sp);
+        final long prop = parentRound(op);
+        final EventImpl[] spStronglySeeP = stronglySeePAll(sp);
+        // the other parent is only queried if an answer is not inherited from the self parent
+        EventImpl[] opStronglySeeP = null;
+        boolean opQueried = false;
+
+        final int creator = creatorIndex(x);
+        final EventImpl[] xLastSee = lastSeeAll(x);
+        final EventImpl spFirstSelfWitness = firstSelfWitnessS(sp);
+        // the canonical witness of each member that still needs its intermediates counted, null if none
+        final EventImpl[] canonical = new EventImpl[numMembers];
+        final boolean[] counting = new boolean[numMembers];
+        final long[] weight = new long[numMembers];
+        boolean anyCounting = false;
+
+        x.initStronglySeeP(numMembers);
+        for (int mm = 0; mm < numMembers; mm++) {
+            if (spStronglySeeP != null && spStronglySeeP[mm] != null && prx == prsp) {
+                x.setStronglySeeP(mm, spStronglySeeP[mm]);
+                continue;
+            }
+            if (!opQueried) {
+                opStronglySeeP = stronglySeePAll(op);
+                opQueried = true;
+            }
+            if (opStronglySeeP != null && opStronglySeeP[mm] != null && prx == prop) {
+                x.setStronglySeeP(mm, opStronglySeeP[mm]);
+                continue;
+            }
+            // the canonical witness by mm that is seen by x thru someone else
+            final EventImpl st = seeThru(lastSeeAll(xLastSee[mm]), creator, spFirstSelfWitness, mm, mm);
+            // ignore if the canonical is in the wrong round, or doesn't exist
+            if (round(st) == prx) {
+                canonical[mm] = st;
+                counting[mm] = true;
+                anyCounting = true;
+            }
+        }
+        if (!anyCounting) {
+            return;
+        }
+
+        for (int m3 = 0; m3 < numMembers; m3++) {
+            final EventImpl[] intermediateLastSee = lastSeeAll(xLastSee[m3]);
+            for (int mm = 0; mm < numMembers; mm++) {
+                // only count intermediates that see the canonical witness
+                if (counting[mm]
+                        && seeThru(intermediateLastSee, creator, spFirstSelfWitness, mm, m3) == canonical[mm]) {
+                    weight[mm] += weights[m3];
+                }
+            }
+        }
+        for (int mm = 0; mm < numMembers; mm++) {
+            // strongly see supermajority of intermediates
+            if (counting[mm] && Threshold.SUPER_MAJORITY.isSatisfiedBy(weight[mm], rosterTotalWeight)) {
+                x.setStronglySeeP(mm, canonical[mm]);
+            }
+        }
+    }
+
+    /**
+     * Same as {@link #seeThru(EventImpl, int, int)}, but using values that were looked up once by the caller.
+     *
+     * @param zLastSee           the lastSee array of z, the last event by m2 seen by x
+     * @param creator            the roster index of the creator of x
+     * @param spFirstSelfWitness firstSelfWitnessS of the self parent of x
+     * @param m                  the creator of y, the event seen
+     * @param m2                 the creator of z, the intermediate event through which x sees y
+     * @return the event y that is created by m and seen by x through an event by m2
+     */
+    private @Nullable EventImpl seeThru(
+            @Nullable final EventImpl[] zLastSee,
+            final int creator,
+            @Nullable final EventImpl spFirstSelfWitness,
+            final int m,
+            final int m2) {
+        if (m == m2 && creator == m2) {
+            return spFirstSelfWitness;
+        }
+        return firstSelfWitnessS(zLastSee == null ? null : zLastSee[m]);
+    }
+
+    /**
+     * @return the memoized lastSee array of x, or null if x is null or not relevant for consensus
+     */
+    private @Nullable EventImpl[] lastSeeAll(@Nullable final EventImpl x) {
+        if (x == null || notRelevantForConsensus(x)) {
+            return null;
+        }
+        if (x.sizeLastSee() == 0) {
+            calculateLastSee(x);
+        }
+        return x.getLastSee();
+    }
+
+    /**
+     * @return the memoized stronglySeeP array of x, or null if x is null or not relevant for consensus
+     */
+    private @Nullable EventImpl[] stronglySeePAll(@Nullable final EventImpl x) {
+        if (x == null || notRelevantForConsensus(x)) {
+            return null;
+        }
+        if (x.sizeStronglySeeP() == 0) {
+            calculateStronglySeeP(x);
+        }
+        return x.getStronglySeeP();
+    }
+
     /**
      * The self-ancestor of x in the same round that is a witness (function from
      * SWIRLDS-TR-2020-01). This result is memoized.
@@ -1293,6 +1483,16 @@ public class ConsensusImpl implements Consensus {
         return roster.rosterEntries().get(nodeIndex).weight();
     }
 
+    /**
+     * Get the index in the address book of the creator of the event
+     * @param e the event whose creator to look up
+     * @return the index of the creator, or -1 if the creator is not in the address book
+     */
+    private int creatorIndex(@NonNull final EventImpl e) {
+        final Integer index = rosterIndicesMap.get(e.getCreatorId().id());
+        return index == null ? -1 : index;
+    }
+
     /**
      * Check the index in the address book of the creator of the event
      * @param e the event whose creator to check
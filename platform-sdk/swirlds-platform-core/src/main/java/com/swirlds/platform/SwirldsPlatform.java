@@ -393,7 +393,10 @@ public class SwirldsPlatform implements Platform {
         platformWiring.getStatusActionSubmitter().submitStatusAction(new StartedReplayingEventsAction());
 
         final IOIterator<PlatformEvent> iterator =
-                initialPcesFiles.getEventIterator(pcesReplayLowerBound, startingRound);
+                platformContext.getConfiguration().getConfigData(PcesConfig.class).parallelReplay()
+                        ? initialPcesFiles.getPrefetchingEventIterator(
+                                platformContext, pcesReplayLowerBound, startingRound)
+                        : initialPcesFiles.getEventIterator(pcesReplayLowerBound, startingRound);
 
         logger.info(STARTUP.getMarker(), "replaying preconsensus event stream starting at {}", pcesReplayLowerBound);
 
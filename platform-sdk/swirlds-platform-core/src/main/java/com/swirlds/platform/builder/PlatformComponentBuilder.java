@@ -25,7 +25,9 @@ import com.swirlds.platform.event.deduplication.EventDeduplicator;
 import com.swirlds.platform.event.deduplication.StandardEventDeduplicator;
 import com.swirlds.platform.event.orphan.DefaultOrphanBuffer;
 import com.swirlds.platform.event.orphan.OrphanBuffer;
+import com.swirlds.platform.event.preconsensus.DefaultGroupCommitPcesWriter;
 import com.swirlds.platform.event.preconsensus.DefaultInlinePcesWriter;
+import com.swirlds.platform.event.preconsensus.GroupCommitPcesWriter;
 import com.swirlds.platform.event.preconsensus.InlinePcesWriter;
 import com.swirlds.platform.event.preconsensus.PcesConfig;
 import com.swirlds.platform.event.preconsensus.PcesFileManager;
@@ -34,8 +36,10 @@ import com.swirlds.platform.event.resubmitter.DefaultTransactionResubmitter;
 import com.swirlds.platform.event.resubmitter.TransactionResubmitter;
 import com.swirlds.platform.event.stream.ConsensusEventStream;
 import com.swirlds.platform.event.stream.DefaultConsensusEventStream;
+import com.swirlds.platform.event.validation.BatchingEventSignatureValidator;
 import com.swirlds.platform.event.validation.DefaultEventSignatureValidator;
 import com.swirlds.platform.event.validation.DefaultInternalEventValidator;
+import com.swirlds.platform.event.validation.EventSignatureBatchValidator;
 import com.swirlds.platform.event.validation.EventSignatureValidator;
 import com.swirlds.platform.event.validation.InternalEventValidator;
 import com.swirlds.platform.eventhandling.DefaultTransactionHandler;
@@ -113,6 +117,7 @@ public class PlatformComponentBuilder {
     private InternalEventValidator internalEventValidator;
     private EventDeduplicator eventDeduplicator;
     private EventSignatureValidator eventSignatureValidator;
+    private EventSignatureBatchValidator eventSignatureBatchValidator;
     private SelfEventSigner selfEventSigner;
     private StateGarbageCollector stateGarbageCollector;
     private OrphanBuffer orphanBuffer;
@@ -123,6 +128,7 @@ public class PlatformComponentBuilder {
     private StatusStateMachine statusStateMachine;
     private TransactionPrehandler transactionPrehandler;
     private InlinePcesWriter inlinePcesWriter;
+    private GroupCommitPcesWriter groupCommitPcesWriter;
     private IssDetector issDetector;
     private IssHandler issHandler;
     private Gossip gossip;
@@ -352,6 +358,43 @@ public class PlatformComponentBuilder {
         return eventSignatureValidator;
     }
 
+    /**
+     * Provide a batching event signature validator in place of the platform's default batching event signature
+     * validator.
+     *
+     * @param eventSignatureBatchValidator the batching event signature validator to use
+     * @return this builder
+     */
+    @NonNull
+    public PlatformComponentBuilder withEventSignatureBatchValidator(
+            @NonNull final EventSignatureBatchValidator eventSignatureBatchValidator) {
+        throwIfAlreadyUsed();
+        if (this.eventSignatureBatchValidator != null) {
+            throw new IllegalStateException("Event signature batch validator has already been set");
+        }
+        this.eventSignatureBatchValidator = Objects.requireNonNull(eventSignatureBatchValidator);
+
+        return this;
+    }
+
+    /**
+     * Build the batching event signature validator if it has not yet been built. If one has been provided via
+     * {@link #withEventSignatureBatchValidator(EventSignatureBatchValidator)}, that validator will be used. If this
+     * method is called more than once, only the first call will build the batching event signature validator.
+     * Otherwise, the default batching validator will be created and returned.
+     */
+    @NonNull
+    public EventSignatureBatchValidator buildEventSignatureBatchValidator() {
+        if (eventSignatureBatchValidator == null) {
+            eventSignatureBatchValidator = new BatchingEventSignatureValidator(
+                    blocks.platformContext(),
+                    CryptoStatic::verifySignature,
+                    blocks.rosterHistory(),
+                    blocks.intakeEventCounter());
+        }
+        return eventSignatureBatchValidator;
+    }
+
     /**
      * Provide a state garbage collector in place of the platform's default state garbage collector.
      *
@@ -716,6 +759,49 @@ public class PlatformComponentBuilder {
         return inlinePcesWriter;
     }
 
+    /**
+     * Provide a group commit PCES writer in place of the platform's default group commit PCES writer.
+     *
+     * @param groupCommitPcesWriter the PCES writer to use
+     * @return this builder
+     */
+    @NonNull
+    public PlatformComponentBuilder withGroupCommitPcesWriter(
+            @NonNull final GroupCommitPcesWriter groupCommitPcesWriter) {
+        throwIfAlreadyUsed();
+        if (this.groupCommitPcesWriter != null) {
+            throw new IllegalStateException("Group commit PCES writer has already been set");
+        }
+        this.groupCommitPcesWriter = Objects.requireNonNull(groupCommitPcesWriter);
+        return this;
+    }
+
+    /**
+     * Build the group commit PCES writer if it has not yet been built. If one has been provided via
+     * {@link #withGroupCommitPcesWriter(GroupCommitPcesWriter)}, that writer will be used. If this method is called
+     * more than once, only the first call will build the group commit PCES writer. Otherwise, the default writer will
+     * be created and returned.
+     *
+     * @return the group commit PCES writer
+     */
+    @NonNull
+    public GroupCommitPcesWriter buildGroupCommitPcesWriter() {
+        if (groupCommitPcesWriter == null) {
+            try {
+                final PcesFileManager preconsensusEventFileManager = new PcesFileManager(
+                        blocks.platformContext(),
+                        blocks.initialPcesFiles(),
+                        PcesUtilities.getDatabaseDirectory(blocks.platformContext(), blocks.selfId()),
+                        blocks.initialState().get().getRound());
+                groupCommitPcesWriter = new DefaultGroupCommitPcesWriter(
+                        blocks.platformContext(), preconsensusEventFileManager, blocks.selfId());
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return groupCommitPcesWriter;
+    }
+
     /**
      * Provide an ISS detector in place of the platform's default ISS detector.
      *
@@ -0,0 +1,445 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.event;
+
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import org.hiero.base.crypto.DigestType;
+import org.hiero.consensus.model.event.EventDescriptorWrapper;
+
+/**
+ * A map from event descriptors to values, for the non-ancient events in a window of birth rounds. This is a
+ * specialized replacement of a {@link org.hiero.consensus.model.sequence.map.SequenceMap SequenceMap} keyed by
+ * descriptors, built so that adding, finding and removing entries does not allocate once the structure has grown to the
+ * size of the workload.
+ * <p>
+ * Each birth round in the window has its own open addressing table, and the tables form a ring indexed by birth round.
+ * A table keeps the 48 byte hashes and the creators of its descriptors in flat primitive arrays, so a lookup compares
+ * primitives in place instead of calling {@code equals()} on descriptor objects. The descriptor and the value are only
+ * referenced, never copied. When the window moves, the tables of the rounds that became ancient are cleared and reused
+ * for new rounds, they keep their capacity.
+ * <p>
+ * Slots are chosen from the hash mixed with a random seed, so that peers can not craft descriptors that all land in the
+ * same part of a table. This class is not thread safe.
+ *
+ * @param <V> the type of the values
+ */
+public class EventDescriptorIndex<V> {
+
+    /** The number of longs needed to hold a hash. */
+    private static final int HASH_LONGS = DigestType.SHA_384.digestLength() / Long.BYTES;
+
+    /** The number of slots of a new table, must be a power of two. */
+    private static final int INITIAL_TABLE_CAPACITY = 64;
+
+    /**
+     * A table for the descriptors of one birth round, with linear probing.
+     */
+    private static final class RoundTable {
+        /** The number of entries. */
+        private int size;
+        /** The hashes, {@link #HASH_LONGS} longs per slot. */
+        private long[] hashes;
+        /** The creator of each slot. */
+        private long[] creators;
+        /** The descriptor of each slot, null if the slot is empty. */
+        private EventDescriptorWrapper[] keys;
+        /** The value of each slot. */
+        private Object[] values;
+
+        private RoundTable(final int capacity) {
+            allocate(capacity);
+        }
+
+        private void allocate(final int capacity) {
+            hashes = new long[capacity * HASH_LONGS];
+            creators = new long[capacity];
+            keys = new EventDescriptorWrapper[capacity];
+            values = new Object[capacity];
+        }
+
+        private int mask() {
+            return keys.length - 1;
+        }
+    }
+
+    private final long seed = new SecureRandom().nextLong();
+
+    /**
+     * The ring of tables, the table for a birth round is at the index {@code round % tables.length}. A table is created
+     * the first time a descriptor is added for its index, so that a window that grows far ahead only costs the ring.
+     */
+    private RoundTable[] tables;
+
+    /** The smallest birth round in the window. */
+    private long firstRound;
+
+    /** The number of entries in all tables. */
+    private int size;
+
+    /**
+     * Constructor.
+     *
+     * @param firstRound  the smallest birth round in the initial window
+     * @param roundCapacity the number of birth rounds the window initially spans, grows when needed
+     */
+    public EventDescriptorIndex(final long firstRound, final int roundCapacity) {
+        if (roundCapacity < 1) {
+            throw new IllegalArgumentException("The round capacity must be positive, got " + roundCapacity);
+        }
+        this.firstRound = firstRound;
+        tables = new RoundTable[roundCapacity];
+    }
+
+    /**
+     * Get the number of entries.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Get the smallest birth round in the window.
+     *
+     * @return the smallest birth round in the window
+     */
+    public long getFirstRound() {
+        return firstRound;
+    }
+
+    /**
+     * Get the value for a descriptor.
+     *
+     * @param descriptor the descriptor
+     * @return the value, or null if the descriptor is not in the index
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public V get(@NonNull final EventDescriptorWrapper descriptor) {
+        final RoundTable table = tableFor(descriptor.birthRound());
+        if (table == null) {
+            return null;
+        }
+        final int slot = find(table, descriptor);
+        return slot < 0 ? null : (V) table.values[slot];
+    }
+
+    /**
+     * Check if a descriptor is in the index.
+     *
+     * @param descriptor the descriptor
+     * @return true if the descriptor is in the index
+     */
+    public boolean containsKey(@NonNull final EventDescriptorWrapper descriptor) {
+        final RoundTable table = tableFor(descriptor.birthRound());
+        return table != null && find(table, descriptor) >= 0;
+    }
+
+    /**
+     * Add a descriptor, or replace its value. A descriptor with a birth round below the window is ignored, the window
+     * grows for a descriptor with a birth round above it.
+     *
+     * @param descriptor the descriptor
+     * @param value      the value
+     * @return the previous value, or null if there was none
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public V put(@NonNull final EventDescriptorWrapper descriptor, @NonNull final V value) {
+        Objects.requireNonNull(value);
+        final long round = descriptor.birthRound();
+        if (round < firstRound) {
+            return null;
+        }
+        if (round >= firstRound + tables.length) {
+            growRing(round);
+        }
+        final int index = tableIndex(round, tables.length);
+        if (tables[index] == null) {
+            tables[index] = new RoundTable(INITIAL_TABLE_CAPACITY);
+        }
+        final RoundTable table = tables[index];
+        if ((table.size + 1) * 2 > table.keys.length) {
+            growTable(table);
+        }
+
+        final Bytes hash = checkHash(descriptor);
+        final long creator = descriptor.eventDescriptor().creatorNodeId();
+        final int mask = table.mask();
+        int slot = slotOf(hash, mask);
+        while (table.keys[slot] != null) {
+            if (matches(table, slot, hash, creator)) {
+                final V previous = (V) table.values[slot];
+                table.values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        write(table, slot, hash, creator, descriptor, value);
+        table.size++;
+        size++;
+        return null;
+    }
+
+    /**
+     * Remove a descriptor.
+     *
+     * @param descriptor the descriptor
+     * @return the value of the descriptor, or null if it was not in the index
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public V remove(@NonNull final EventDescriptorWrapper descriptor) {
+        final RoundTable table = tableFor(descriptor.birthRound());
+        if (table == null) {
+            return null;
+        }
+        int slot = find(table, descriptor);
+        if (slot < 0) {
+            return null;
+        }
+        final V value = (V) table.values[slot];
+        table.size--;
+        size--;
+
+        // Backward shift deletion, move later entries of the probe sequence into the gap so lookups never need
+        // tombstones
+        final int mask = table.mask();
+        int next = (slot + 1) & mask;
+        while (table.keys[next] != null) {
+            final int home = slotOf(table.hashes[next * HASH_LONGS], mask);
+            // move the entry unless its home slot is cyclically in (slot, next]
+            if (((next - home) & mask) >= ((next - slot) & mask)) {
+                System.arraycopy(table.hashes, next * HASH_LONGS, table.hashes, slot * HASH_LONGS, HASH_LONGS);
+                table.creators[slot] = table.creators[next];
+                table.keys[slot] = table.keys[next];
+                table.values[slot] = table.values[next];
+                slot = next;
+            }
+            next = (next + 1) & mask;
+        }
+        table.keys[slot] = null;
+        table.values[slot] = null;
+        return value;
+    }
+
+    /**
+     * Move the window so that it starts at the given birth round. The entries of the rounds that leave the window are
+     * removed.
+     *
+     * @param newFirstRound       the new smallest birth round in the window
+     * @param removedValueHandler called for each removed entry, may be null
+     * @throws IllegalStateException if the window would move towards a smaller round
+     */
+    @SuppressWarnings("unchecked")
+    public void shiftWindow(
+            final long newFirstRound, @Nullable final BiConsumer<EventDescriptorWrapper, V> removedValueHandler) {
+        if (newFirstRound < firstRound) {
+            throw new IllegalStateException("Window can only be shifted towards larger value. Current first round = "
+                    + firstRound + ", requested first round = " + newFirstRound);
+        }
+        final long lastRoundToClear = Math.min(newFirstRound, firstRound + tables.length);
+        for (long round = firstRound; round < lastRoundToClear; round++) {
+            final RoundTable table = tables[tableIndex(round, tables.length)];
+            if (table != null && table.size > 0) {
+                for (int slot = 0; slot < table.keys.length; slot++) {
+                    if (table.keys[slot] != null && removedValueHandler != null) {
+                        removedValueHandler.accept(table.keys[slot], (V) table.values[slot]);
+                    }
+                }
+                size -= table.size;
+                clearTable(table);
+            }
+        }
+        // the emptied tables are now used for the rounds that entered the window
+        firstRound = newFirstRound;
+    }
+
+    /**
+     * Remove all entries. The window does not move.
+     */
+    public void clear() {
+        for (final RoundTable table : tables) {
+            if (table != null && table.size > 0) {
+                clearTable(table);
+            }
+        }
+        size = 0;
+    }
+
+    /**
+     * Find the table for a birth round.
+     *
+     * @param round the birth round
+     * @return the table, or null if the round is not in the window or has no table yet
+     */
+    @Nullable
+    private RoundTable tableFor(final long round) {
+        if (round < firstRound || round >= firstRound + tables.length) {
+            return null;
+        }
+        return tables[tableIndex(round, tables.length)];
+    }
+
+    /**
+     * Find the slot of a descriptor in a table.
+     *
+     * @param table      the table for the birth round of the descriptor
+     * @param descriptor the descriptor
+     * @return the slot, or -1 if the descriptor is not in the table
+     */
+    private int find(@NonNull final RoundTable table, @NonNull final EventDescriptorWrapper descriptor) {
+        final Bytes hash = checkHash(descriptor);
+        final long creator = descriptor.eventDescriptor().creatorNodeId();
+        final int mask = table.mask();
+        int slot = slotOf(hash, mask);
+        while (table.keys[slot] != null) {
+            if (matches(table, slot, hash, creator)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Check if a slot holds the given hash and creator.
+     */
+    private static boolean matches(
+            @NonNull final RoundTable table, final int slot, @NonNull final Bytes hash, final long creator) {
+        if (table.creators[slot] != creator) {
+            return false;
+        }
+        final int base = slot * HASH_LONGS;
+        for (int i = 0; i < HASH_LONGS; i++) {
+            if (table.hashes[base + i] != hash.getLong((long) i * Long.BYTES)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Write an entry into an empty slot.
+     */
+    private static void write(
+            @NonNull final RoundTable table,
+            final int slot,
+            @NonNull final Bytes hash,
+            final long creator,
+            @NonNull final EventDescriptorWrapper descriptor,
+            @NonNull final Object value) {
+        final int base = slot * HASH_LONGS;
+        for (int i = 0; i < HASH_LONGS; i++) {
+            table.hashes[base + i] = hash.getLong((long) i * Long.BYTES);
+        }
+        table.creators[slot] = creator;
+        table.keys[slot] = descriptor;
+        table.values[slot] = value;
+    }
+
+    /**
+     * Double the capacity of a table.
+     */
+    private void growTable(@NonNull final RoundTable table) {
+        final long[] oldHashes = table.hashes;
+        final long[] oldCreators = table.creators;
+        final EventDescriptorWrapper[] oldKeys = table.keys;
+        final Object[] oldValues = table.values;
+
+        table.allocate(oldKeys.length * 2);
+        final int mask = table.mask();
+        for (int oldSlot = 0; oldSlot < oldKeys.length; oldSlot++) {
+            if (oldKeys[oldSlot] == null) {
+                continue;
+            }
+            int slot = slotOf(oldHashes[oldSlot * HASH_LONGS], mask);
+            while (table.keys[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            System.arraycopy(oldHashes, oldSlot * HASH_LONGS, table.hashes, slot * HASH_LONGS, HASH_LONGS);
+            table.creators[slot] = oldCreators[oldSlot];
+            table.keys[slot] = oldKeys[oldSlot];
+            table.values[slot] = oldValues[oldSlot];
+        }
+    }
+
+    /**
+     * Grow the ring of tables so that the window reaches the given round.
+     */
+    private void growRing(final long round) {
+        int newLength = tables.length;
+        while (round >= firstRound + newLength) {
+            if (newLength > Integer.MAX_VALUE / 2) {
+                throw new IllegalStateException("Can not grow the window to birth round " + round);
+            }
+            newLength *= 2;
+        }
+        final RoundTable[] newTables = new RoundTable[newLength];
+        for (int index = 0; index < tables.length; index++) {
+            newTables[tableIndex(roundForIndex(index), newLength)] = tables[index];
+        }
+        tables = newTables;
+    }
+
+    /**
+     * Empty a table, keeping its capacity.
+     */
+    private static void clearTable(@NonNull final RoundTable table) {
+        Arrays.fill(table.keys, null);
+        Arrays.fill(table.values, null);
+        table.size = 0;
+    }
+
+    /**
+     * Get the index of the table for a birth round.
+     */
+    private static int tableIndex(final long round, final int length) {
+        return (int) Math.floorMod(round, (long) length);
+    }
+
+    /**
+     * Get the birth round of the table at an index of the current ring.
+     */
+    private long roundForIndex(final int index) {
+        return firstRound + Math.floorMod(index - tableIndex(firstRound, tables.length), tables.length);
+    }
+
+    /**
+     * Get the home slot of a hash.
+     */
+    private int slotOf(@NonNull final Bytes hash, final int mask) {
+        return slotOf(hash.getLong(0), mask);
+    }
+
+    /**
+     * Get the home slot of a hash from its first eight bytes.
+     */
+    private int slotOf(final long firstHashLong, final int mask) {
+        long h = firstHashLong ^ seed;
+        // the finalizer of SplitMix64
+        h = (h ^ (h >>> 30)) * 0xbf58476d1ce4e5b9L;
+        h = (h ^ (h >>> 27)) * 0x94d049bb133111ebL;
+        h = h ^ (h >>> 31);
+        return (int) h & mask;
+    }
+
+    /**
+     * Get the hash of a descriptor, checking its length.
+     */
+    @NonNull
+    private static Bytes checkHash(@NonNull final EventDescriptorWrapper descriptor) {
+        final Bytes hash = descriptor.eventDescriptor().hash();
+        if (hash.length() != (long) HASH_LONGS * Long.BYTES) {
+            throw new IllegalArgumentException("Descriptor hash has " + hash.length() + " bytes, expected "
+                    + HASH_LONGS * Long.BYTES + ": " + descriptor.shortString());
+        }
+        return hash;
+    }
+}
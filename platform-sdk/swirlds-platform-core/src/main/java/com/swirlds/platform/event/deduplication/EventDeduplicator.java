@@ -5,6 +5,8 @@ import com.swirlds.component.framework.component.InputWireLabel;
 import com.swirlds.platform.wiring.NoInput;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.ArrayList;
+import java.util.List;
 import org.hiero.consensus.model.event.PlatformEvent;
 import org.hiero.consensus.model.hashgraph.EventWindow;
 
@@ -36,6 +38,26 @@ public interface EventDeduplicator {
     @InputWireLabel("non-deduplicated events")
     PlatformEvent handleEvent(@NonNull PlatformEvent event);
 
+    /**
+     * Handle a batch of potentially duplicate events, in order. Equivalent to calling
+     * {@link #handleEvent(PlatformEvent)} for each event.
+     *
+     * @param events the events to handle
+     * @return the events that are not duplicates, in order
+     */
+    @NonNull
+    @InputWireLabel("non-deduplicated event batches")
+    default List<PlatformEvent> handleEvents(@NonNull final List<PlatformEvent> events) {
+        final List<PlatformEvent> uniqueEvents = new ArrayList<>(events.size());
+        for (final PlatformEvent event : events) {
+            final PlatformEvent uniqueEvent = handleEvent(event);
+            if (uniqueEvent != null) {
+                uniqueEvents.add(uniqueEvent);
+            }
+        }
+        return uniqueEvents;
+    }
+
     /**
      * Set the EventWindow, defines the minimum threshold for an event to be non-ancient.
      *
@@ -10,6 +10,7 @@ import com.swirlds.common.metrics.RunningAverageMetric;
 import com.swirlds.common.metrics.extensions.CountPerSecond;
 import com.swirlds.metrics.api.LongAccumulator;
 import com.swirlds.metrics.api.Metrics;
+import com.swirlds.platform.event.EventDescriptorIndex;
 import com.swirlds.platform.gossip.IntakeEventCounter;
 import com.swirlds.platform.wiring.NoInput;
 import edu.umd.cs.findbugs.annotations.NonNull;
@@ -17,26 +18,17 @@ import edu.umd.cs.findbugs.annotations.Nullable;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
-import java.util.function.Function;
-import org.hiero.consensus.model.event.EventDescriptorWrapper;
 import org.hiero.consensus.model.event.PlatformEvent;
 import org.hiero.consensus.model.hashgraph.EventWindow;
-import org.hiero.consensus.model.sequence.map.SequenceMap;
-import org.hiero.consensus.model.sequence.map.StandardSequenceMap;
 
 /**
  * A standard implementation of an {@link EventDeduplicator}.
  */
 public class StandardEventDeduplicator implements EventDeduplicator {
     /**
-     * Avoid the creation of lambdas for Map.computeIfAbsent() by reusing this lambda.
+     * Initial number of birth rounds covered by {@link #observedEvents}.
      */
-    private static final Function<EventDescriptorWrapper, Set<Bytes>> NEW_HASH_SET = ignored -> new HashSet<>();
-
-    /**
-     * Initial capacity of {@link #observedEvents}.
-     */
-    private static final int INITIAL_CAPACITY = 1024;
+    private static final int INITIAL_ROUND_CAPACITY = 32;
 
     /**
      * The current event window.
@@ -49,9 +41,11 @@ public class StandardEventDeduplicator implements EventDeduplicator {
     private final IntakeEventCounter intakeEventCounter;
 
     /**
-     * A map from event descriptor to a set of signatures that have been received for that event.
+     * A map from event descriptor to the signatures that have been received for that event. The value is the signature
+     * itself while a single one has been received, which is the norm, so that no collection needs to be allocated. It
+     * becomes a {@code Set<Bytes>} if different signatures are received for the same descriptor.
      */
-    private final SequenceMap<EventDescriptorWrapper, Set<Bytes>> observedEvents;
+    private final EventDescriptorIndex<Object> observedEvents;
 
     private static final LongAccumulator.Config DISPARATE_SIGNATURE_CONFIG = new LongAccumulator.Config(
                     PLATFORM_CATEGORY, "eventsWithDisparateSignature")
@@ -89,7 +83,7 @@ public class StandardEventDeduplicator implements EventDeduplicator {
                         .withUnit("hz"));
         this.avgDuplicatePercent = metrics.getOrCreate(AVG_DUPLICATE_PERCENT_CONFIG);
         this.eventWindow = EventWindow.getGenesisEventWindow();
-        this.observedEvents = new StandardSequenceMap<>(0, INITIAL_CAPACITY, true, EventDescriptorWrapper::birthRound);
+        this.observedEvents = new EventDescriptorIndex<>(0, INITIAL_ROUND_CAPACITY);
     }
 
     /**
@@ -104,13 +98,7 @@ public class StandardEventDeduplicator implements EventDeduplicator {
             return null;
         }
 
-        final Set<Bytes> signatures = observedEvents.computeIfAbsent(event.getDescriptor(), NEW_HASH_SET);
-        if (signatures.add(event.getSignature())) {
-            if (signatures.size() != 1) {
-                // signature is unique, but descriptor is not
-                disparateSignatureAccumulator.update(1);
-            }
-
+        if (addSignature(event)) {
             // move toward 0%
             avgDuplicatePercent.update(0);
 
@@ -126,6 +114,41 @@ public class StandardEventDeduplicator implements EventDeduplicator {
         }
     }
 
+    /**
+     * Record the signature of an event.
+     *
+     * @param event the event
+     * @return true if the signature had not been received before for the descriptor of the event
+     */
+    @SuppressWarnings("unchecked")
+    private boolean addSignature(@NonNull final PlatformEvent event) {
+        final Bytes signature = event.getSignature();
+        final Object observed = observedEvents.get(event.getDescriptor());
+        if (observed == null) {
+            observedEvents.put(event.getDescriptor(), signature);
+            return true;
+        }
+
+        final boolean added;
+        if (observed instanceof final Bytes observedSignature) {
+            if (observedSignature.equals(signature)) {
+                return false;
+            }
+            final Set<Bytes> signatures = new HashSet<>();
+            signatures.add(observedSignature);
+            signatures.add(signature);
+            observedEvents.put(event.getDescriptor(), signatures);
+            added = true;
+        } else {
+            added = ((Set<Bytes>) observed).add(signature);
+        }
+        if (added) {
+            // signature is unique, but descriptor is not
+            disparateSignatureAccumulator.update(1);
+        }
+        return added;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -133,7 +156,7 @@ public class StandardEventDeduplicator implements EventDeduplicator {
     public void setEventWindow(@NonNull final EventWindow eventWindow) {
         this.eventWindow = Objects.requireNonNull(eventWindow);
 
-        observedEvents.shiftWindow(eventWindow.ancientThreshold());
+        observedEvents.shiftWindow(eventWindow.ancientThreshold(), null);
     }
 
     /**
@@ -7,19 +7,18 @@ import static org.hiero.consensus.model.event.NonDeterministicGeneration.assignN
 import com.swirlds.common.metrics.FunctionGauge;
 import com.swirlds.config.api.Configuration;
 import com.swirlds.metrics.api.Metrics;
+import com.swirlds.platform.event.EventDescriptorIndex;
 import com.swirlds.platform.gossip.IntakeEventCounter;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 import org.hiero.consensus.model.event.EventDescriptorWrapper;
 import org.hiero.consensus.model.event.PlatformEvent;
 import org.hiero.consensus.model.hashgraph.EventWindow;
-import org.hiero.consensus.model.sequence.map.SequenceMap;
-import org.hiero.consensus.model.sequence.map.StandardSequenceMap;
 
 /**
  * Takes as input an unordered stream of {@link PlatformEvent}s and emits a stream of {@link PlatformEvent}s in
@@ -27,15 +26,9 @@ import org.hiero.consensus.model.sequence.map.StandardSequenceMap;
  */
 public class DefaultOrphanBuffer implements OrphanBuffer {
     /**
-     * Initial capacity of {@link #eventsWithParents} and {@link #missingParentMap}.
+     * Initial number of birth rounds covered by {@link #eventsWithParents} and {@link #missingParentMap}.
      */
-    private static final int INITIAL_CAPACITY = 1024;
-
-    /**
-     * Avoid the creation of lambdas for Map.computeIfAbsent() by reusing this lambda.
-     */
-    private static final Function<EventDescriptorWrapper, List<OrphanedEvent>> EMPTY_LIST =
-            ignored -> new ArrayList<>();
+    private static final int INITIAL_ROUND_CAPACITY = 32;
 
     /**
      * The current event window.
@@ -56,13 +49,24 @@ public class DefaultOrphanBuffer implements OrphanBuffer {
      * A map of descriptors to events for all non-ancient events that have found their parents (or whose parents have
      * become ancient).
      */
-    private final SequenceMap<EventDescriptorWrapper, PlatformEvent> eventsWithParents;
+    private final EventDescriptorIndex<PlatformEvent> eventsWithParents;
+
+    /**
+     * Looks up events in {@link #eventsWithParents}, kept in a field to avoid creating a lambda for every event.
+     */
+    private final Function<EventDescriptorWrapper, PlatformEvent> parentLookup;
 
     /**
      * A map where the key is the descriptor of a missing parent, and the value is a list of orphans that are missing
      * that parent.
      */
-    private final SequenceMap<EventDescriptorWrapper, List<OrphanedEvent>> missingParentMap;
+    private final EventDescriptorIndex<List<OrphanedEvent>> missingParentMap;
+
+    /**
+     * Events that have been found to not be orphans, and whose children have not been checked yet. Only used within
+     * {@link #eventIsNotAnOrphan(PlatformEvent, List)}, kept in a field to avoid creating it for every event.
+     */
+    private final Deque<PlatformEvent> nonOrphanStack = new ArrayDeque<>();
 
     /**
      * Constructor
@@ -84,8 +88,9 @@ public class DefaultOrphanBuffer implements OrphanBuffer {
                 .withDescription("number of orphaned events currently in the orphan buffer")
                 .withUnit("events"));
         this.eventWindow = EventWindow.getGenesisEventWindow();
-        missingParentMap = new StandardSequenceMap<>(0, INITIAL_CAPACITY, true, EventDescriptorWrapper::birthRound);
-        eventsWithParents = new StandardSequenceMap<>(0, INITIAL_CAPACITY, true, EventDescriptorWrapper::birthRound);
+        missingParentMap = new EventDescriptorIndex<>(0, INITIAL_ROUND_CAPACITY);
+        eventsWithParents = new EventDescriptorIndex<>(0, INITIAL_ROUND_CAPACITY);
+        parentLookup = eventsWithParents::get;
     }
 
     /**
@@ -94,24 +99,52 @@ public class DefaultOrphanBuffer implements OrphanBuffer {
     @Override
     @NonNull
     public List<PlatformEvent> handleEvent(@NonNull final PlatformEvent event) {
+        final List<PlatformEvent> unorphanedEvents = new ArrayList<>();
+        handleEvent(event, unorphanedEvents);
+        return unorphanedEvents;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @NonNull
+    public List<List<PlatformEvent>> handleEvents(@NonNull final List<PlatformEvent> events) {
+        final List<PlatformEvent> unorphanedEvents = new ArrayList<>();
+        for (final PlatformEvent event : events) {
+            handleEvent(event, unorphanedEvents);
+        }
+        return unorphanedEvents.isEmpty() ? List.of() : List.of(unorphanedEvents);
+    }
+
+    /**
+     * Add a new event to the buffer if it is an orphan.
+     *
+     * @param event            the event to handle
+     * @param unorphanedEvents receives the events that are no longer orphans as a result of this event being handled
+     */
+    private void handleEvent(@NonNull final PlatformEvent event, @NonNull final List<PlatformEvent> unorphanedEvents) {
         if (eventWindow.isAncient(event)) {
             // Ancient events can be safely ignored.
             intakeEventCounter.eventExitedIntakePipeline(event.getSenderId());
-            return List.of();
+            return;
         }
 
         currentOrphanCount++;
 
         final List<EventDescriptorWrapper> missingParents = getMissingParents(event);
         if (missingParents.isEmpty()) {
-            return eventIsNotAnOrphan(event);
+            eventIsNotAnOrphan(event, unorphanedEvents);
         } else {
             final OrphanedEvent orphanedEvent = new OrphanedEvent(event, missingParents);
             for (final EventDescriptorWrapper missingParent : missingParents) {
-                this.missingParentMap.computeIfAbsent(missingParent, EMPTY_LIST).add(orphanedEvent);
+                List<OrphanedEvent> orphans = missingParentMap.get(missingParent);
+                if (orphans == null) {
+                    orphans = new ArrayList<>();
+                    missingParentMap.put(missingParent, orphans);
+                }
+                orphans.add(orphanedEvent);
             }
-
-            return List.of();
         }
     }
 
@@ -123,7 +156,7 @@ public class DefaultOrphanBuffer implements OrphanBuffer {
     public List<PlatformEvent> setEventWindow(@NonNull final EventWindow eventWindow) {
         this.eventWindow = Objects.requireNonNull(eventWindow);
 
-        eventsWithParents.shiftWindow(eventWindow.ancientThreshold());
+        eventsWithParents.shiftWindow(eventWindow.ancientThreshold(), null);
 
         // As the map is cleared out, we need to gather the ancient parents and their orphans. We can't
         // modify the data structure as the window is being shifted, so we collect that data and act on
@@ -158,7 +191,7 @@ public class DefaultOrphanBuffer implements OrphanBuffer {
             orphan.missingParents().remove(parentDescriptor);
 
             if (orphan.missingParents().isEmpty()) {
-                unorphanedEvents.addAll(eventIsNotAnOrphan(orphan.orphan()));
+                eventIsNotAnOrphan(orphan.orphan(), unorphanedEvents);
             }
         }
 
@@ -169,14 +202,18 @@ public class DefaultOrphanBuffer implements OrphanBuffer {
      * Get the parents of an event that are currently missing.
      *
      * @param event the event whose missing parents to find
-     * @return the list of missing parents, empty if no parents are missing
+     * @return the list of missing parents, an immutable empty list if no parents are missing
      */
     @NonNull
     private List<EventDescriptorWrapper> getMissingParents(@NonNull final PlatformEvent event) {
-        final List<EventDescriptorWrapper> missingParents = new ArrayList<>();
+        // Most events are not orphans, only create a list when a parent is missing
+        List<EventDescriptorWrapper> missingParents = List.of();
 
         for (final EventDescriptorWrapper parent : event.getAllParents()) {
             if (!eventsWithParents.containsKey(parent) && !eventWindow.isAncient(parent)) {
+                if (missingParents.isEmpty()) {
+                    missingParents = new ArrayList<>();
+                }
                 missingParents.add(parent);
             }
         }
@@ -189,14 +226,12 @@ public class DefaultOrphanBuffer implements OrphanBuffer {
      * <p>
      * Accounts for events potentially becoming un-orphaned as a result of this event not being an orphan.
      *
-     * @param event the event that is not an orphan
-     * @return the list of events that are no longer orphans as a result of this event not being an orphan
+     * @param event            the event that is not an orphan
+     * @param unorphanedEvents receives the events that are no longer orphans as a result of this event not being an
+     *                         orphan
      */
-    @NonNull
-    private List<PlatformEvent> eventIsNotAnOrphan(@NonNull final PlatformEvent event) {
-        final List<PlatformEvent> unorphanedEvents = new ArrayList<>();
-
-        final Deque<PlatformEvent> nonOrphanStack = new LinkedList<>();
+    private void eventIsNotAnOrphan(
+            @NonNull final PlatformEvent event, @NonNull final List<PlatformEvent> unorphanedEvents) {
         nonOrphanStack.push(event);
 
         // When a missing parent is found, there may be many descendants of that parent who end up
@@ -216,7 +251,7 @@ public class DefaultOrphanBuffer implements OrphanBuffer {
 
             unorphanedEvents.add(nonOrphan);
             eventsWithParents.put(nonOrphanDescriptor, nonOrphan);
-            assignNGen(nonOrphan, eventsWithParents);
+            assignNGen(nonOrphan, parentLookup);
 
             // since this event is no longer an orphan, we need to recheck all of its children to see if any might
             // not be orphans anymore
@@ -232,8 +267,6 @@ public class DefaultOrphanBuffer implements OrphanBuffer {
                 }
             }
         }
-
-        return unorphanedEvents;
     }
 
     /**
@@ -255,6 +288,7 @@ public class DefaultOrphanBuffer implements OrphanBuffer {
         // clearing this map here is safe, under the assumption that the intake event counter will be reset
         // before gossip starts back up
         missingParentMap.clear();
+        nonOrphanStack.clear();
         currentOrphanCount = 0;
     }
 }
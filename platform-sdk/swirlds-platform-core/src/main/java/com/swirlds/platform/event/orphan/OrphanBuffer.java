@@ -3,6 +3,7 @@ package com.swirlds.platform.event.orphan;
 
 import com.swirlds.component.framework.component.InputWireLabel;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayList;
 import java.util.List;
 import org.hiero.consensus.model.event.PlatformEvent;
 import org.hiero.consensus.model.hashgraph.EventWindow;
@@ -26,6 +27,24 @@ public interface OrphanBuffer {
     @NonNull
     List<PlatformEvent> handleEvent(@NonNull PlatformEvent event);
 
+    /**
+     * Handle a batch of events, in order. Equivalent to calling {@link #handleEvent(PlatformEvent)} for each event, but
+     * all events that are no longer orphans are returned together.
+     *
+     * @param events the events to handle
+     * @return empty if no event is released, otherwise a single list with all events that are no longer orphans as a
+     * result of these events being handled
+     */
+    @InputWireLabel("unordered event batches")
+    @NonNull
+    default List<List<PlatformEvent>> handleEvents(@NonNull final List<PlatformEvent> events) {
+        final List<PlatformEvent> unorphanedEvents = new ArrayList<>();
+        for (final PlatformEvent event : events) {
+            unorphanedEvents.addAll(handleEvent(event));
+        }
+        return unorphanedEvents.isEmpty() ? List.of() : List.of(unorphanedEvents);
+    }
+
     /**
      * Sets the event window that defines when an event is considered ancient.
      *
@@ -18,7 +18,7 @@ import org.hiero.consensus.model.hashgraph.EventWindow;
 
 /**
  * This class provides the common functionality for writing preconsensus events to disk. It is used by the
- * {@link DefaultInlinePcesWriter}.
+ * {@link DefaultInlinePcesWriter} and the {@link DefaultGroupCommitPcesWriter}.
  */
 public class CommonPcesWriter {
     private static final Logger logger = LogManager.getLogger(CommonPcesWriter.class);
@@ -246,8 +246,7 @@ public class CommonPcesWriter {
         boolean fileClosed = false;
         if (currentMutableFile != null) {
             final boolean fileCanContainEvent = currentMutableFile.canContain(eventToWrite.getBirthRound());
-            final boolean fileIsFull =
-                    UNIT_BYTES.convertTo(currentMutableFile.fileSize(), UNIT_MEGABYTES) >= preferredFileSizeMegabytes;
+            final boolean fileIsFull = isCurrentFileFull();
 
             if (!fileCanContainEvent || fileIsFull) {
                 closeFile();
@@ -272,6 +271,26 @@ public class CommonPcesWriter {
         return fileClosed;
     }
 
+    /**
+     * Check if writing a particular event would require the current file to be closed first, i.e. if a call to
+     * {@link #prepareOutputStream(PlatformEvent)} with the event would return {@code true}.
+     *
+     * @param eventToWrite the event that is about to be written
+     * @return true if the current file would be closed before the event is written
+     */
+    public boolean wouldCloseCurrentFile(@NonNull final PlatformEvent eventToWrite) {
+        return currentMutableFile != null
+                && (!currentMutableFile.canContain(eventToWrite.getBirthRound()) || isCurrentFileFull());
+    }
+
+    /**
+     * Check if the current file has reached the preferred file size. Should only be called if
+     * {@link #currentMutableFile} is not null.
+     */
+    private boolean isCurrentFileFull() {
+        return UNIT_BYTES.convertTo(currentMutableFile.fileSize(), UNIT_MEGABYTES) >= preferredFileSizeMegabytes;
+    }
+
     /**
      * Calculate the span for a new file that is about to be created.
      *
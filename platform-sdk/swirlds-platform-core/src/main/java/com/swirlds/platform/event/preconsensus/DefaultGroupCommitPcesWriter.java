@@ -0,0 +1,229 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.event.preconsensus;
+
+import com.swirlds.base.time.Time;
+import com.swirlds.common.context.PlatformContext;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import org.hiero.consensus.model.event.PlatformEvent;
+import org.hiero.consensus.model.hashgraph.EventWindow;
+import org.hiero.consensus.model.node.NodeId;
+
+/**
+ * A {@link GroupCommitPcesWriter} that uses the {@link PcesConfig#inlinePcesSyncOption()} to decide which events need
+ * to be synced. Events that don't need to be synced are output as soon as they are written, unless an earlier event is
+ * waiting for a group commit, in which case they wait behind it so that the output order is preserved.
+ * <p>
+ * A group is committed when the bytes written since the last sync reach {@link PcesConfig#groupCommitMaxBytes()}, when
+ * {@link #commitPendingEvents()} is called, or before the current file is closed.
+ */
+public class DefaultGroupCommitPcesWriter implements GroupCommitPcesWriter {
+
+    private final CommonPcesWriter commonPcesWriter;
+    private final NodeId selfId;
+    private final FileSyncOption fileSyncOption;
+    private final long maxUnsyncedBytes;
+    private final Time time;
+    private final PcesMetrics metrics;
+
+    /**
+     * Events waiting for the next group commit, in the order they were received.
+     */
+    private List<PlatformEvent> pendingEvents = new ArrayList<>();
+
+    /**
+     * The time each pending event was received, in nanoseconds. Index {@code i} is the time of pending event {@code i}.
+     */
+    private long[] pendingEventTimes = new long[64];
+
+    /**
+     * The number of bytes written to the current file since it was last synced.
+     */
+    private long unsyncedBytes;
+
+    /**
+     * Constructor
+     *
+     * @param platformContext the platform context
+     * @param fileManager     manages all preconsensus event stream files currently on disk
+     * @param selfId          the ID of this node
+     */
+    public DefaultGroupCommitPcesWriter(
+            @NonNull final PlatformContext platformContext,
+            @NonNull final PcesFileManager fileManager,
+            @NonNull final NodeId selfId) {
+        Objects.requireNonNull(platformContext, "platformContext is required");
+        Objects.requireNonNull(fileManager, "fileManager is required");
+        this.commonPcesWriter = new CommonPcesWriter(platformContext, fileManager);
+        this.selfId = Objects.requireNonNull(selfId, "selfId is required");
+
+        final PcesConfig pcesConfig = platformContext.getConfiguration().getConfigData(PcesConfig.class);
+        this.fileSyncOption = pcesConfig.inlinePcesSyncOption();
+        this.maxUnsyncedBytes = pcesConfig.groupCommitMaxBytes();
+
+        this.time = platformContext.getTime();
+        this.metrics = new PcesMetrics(platformContext.getMetrics());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void beginStreamingNewEvents() {
+        commonPcesWriter.beginStreamingNewEvents();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nullable
+    @Override
+    public List<PlatformEvent> writeEvent(@NonNull final PlatformEvent event) {
+        final long receivedTime = time.nanoTime();
+
+        // if we aren't streaming new events yet, assume that the given event is already durable
+        if (!commonPcesWriter.isStreamingNewEvents()
+                // don't write ancient events, but don't let them overtake events that are waiting to be synced
+                || event.getBirthRound() < commonPcesWriter.getNonAncientBoundary()) {
+            if (pendingEvents.isEmpty()) {
+                return List.of(event);
+            }
+            addPendingEvent(event, receivedTime);
+            return null;
+        }
+
+        try {
+            List<PlatformEvent> durableEvents = null;
+            if (!pendingEvents.isEmpty() && commonPcesWriter.wouldCloseCurrentFile(event)) {
+                // closing a file does not sync it, so the pending events must be committed first
+                durableEvents = commit();
+            }
+
+            commonPcesWriter.prepareOutputStream(event);
+            unsyncedBytes += commonPcesWriter.getCurrentMutableFile().writeEvent(event);
+
+            if (pendingEvents.isEmpty() && !requiresSync(event)) {
+                return append(durableEvents, event);
+            }
+
+            addPendingEvent(event, receivedTime);
+            if (unsyncedBytes >= maxUnsyncedBytes) {
+                final List<PlatformEvent> committedEvents = commit();
+                if (durableEvents == null) {
+                    return committedEvents;
+                }
+                durableEvents.addAll(committedEvents);
+            }
+            return durableEvents;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nullable
+    @Override
+    public List<PlatformEvent> commitPendingEvents() {
+        try {
+            return commit();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nullable
+    @Override
+    public List<PlatformEvent> registerDiscontinuity(@NonNull final Long newOriginRound) {
+        final List<PlatformEvent> durableEvents = commitPendingEvents();
+        commonPcesWriter.registerDiscontinuity(newOriginRound);
+        unsyncedBytes = 0;
+        return durableEvents;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void updateNonAncientEventBoundary(@NonNull final EventWindow nonAncientBoundary) {
+        commonPcesWriter.updateNonAncientEventBoundary(nonAncientBoundary);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setMinimumAncientIdentifierToStore(@NonNull final Long minimumAncientIdentifierToStore) {
+        commonPcesWriter.setMinimumAncientIdentifierToStore(minimumAncientIdentifierToStore);
+    }
+
+    /**
+     * Check if an event must be synced to disk before it is output.
+     */
+    private boolean requiresSync(@NonNull final PlatformEvent event) {
+        return fileSyncOption == FileSyncOption.EVERY_EVENT
+                || (fileSyncOption == FileSyncOption.EVERY_SELF_EVENT
+                        && event.getCreatorId().equals(selfId));
+    }
+
+    /**
+     * Add an event to the pending events.
+     */
+    private void addPendingEvent(@NonNull final PlatformEvent event, final long receivedTime) {
+        if (pendingEvents.size() == pendingEventTimes.length) {
+            pendingEventTimes = Arrays.copyOf(pendingEventTimes, pendingEventTimes.length * 2);
+        }
+        pendingEventTimes[pendingEvents.size()] = receivedTime;
+        pendingEvents.add(event);
+    }
+
+    /**
+     * Sync the current file and release all pending events.
+     *
+     * @return the events that were pending, or null if there were none
+     */
+    @Nullable
+    private List<PlatformEvent> commit() throws IOException {
+        if (pendingEvents.isEmpty()) {
+            return null;
+        }
+
+        // Pending events start with an event that was written, so there is always a file to sync
+        final long syncStart = time.nanoTime();
+        commonPcesWriter.getCurrentMutableFile().sync();
+        final long syncEnd = time.nanoTime();
+        unsyncedBytes = 0;
+
+        final List<PlatformEvent> committedEvents = pendingEvents;
+        metrics.reportGroupCommit(committedEvents.size(), syncEnd - syncStart);
+        for (int i = 0; i < committedEvents.size(); i++) {
+            metrics.reportEventCommitLatency(syncEnd - pendingEventTimes[i]);
+        }
+
+        pendingEvents = new ArrayList<>();
+        return committedEvents;
+    }
+
+    /**
+     * Append an event to a possibly null list of events.
+     */
+    @NonNull
+    private static List<PlatformEvent> append(
+            @Nullable final List<PlatformEvent> events, @NonNull final PlatformEvent event) {
+        if (events == null) {
+            return List.of(event);
+        }
+        events.add(event);
+        return events;
+    }
+}
@@ -0,0 +1,73 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.event.preconsensus;
+
+import com.swirlds.component.framework.component.InputWireLabel;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.List;
+import org.hiero.consensus.model.event.PlatformEvent;
+import org.hiero.consensus.model.hashgraph.EventWindow;
+
+/**
+ * Writes preconsensus events to disk, and outputs them once they are durable. Unlike the {@link InlinePcesWriter}, an
+ * event that needs to be synced is not synced on its own. It is held back until the next group commit, which makes all
+ * events written since the previous commit durable with a single sync. Events are always output in the order they were
+ * written.
+ */
+public interface GroupCommitPcesWriter {
+
+    /**
+     * Prior to this method being called, all events added to the preconsensus event stream are assumed to be events
+     * read from the preconsensus event stream on disk. The events from the stream on disk are not re-written to the
+     * disk, and are considered to be durable immediately upon ingest.
+     */
+    @InputWireLabel("done streaming pces")
+    void beginStreamingNewEvents();
+
+    /**
+     * Write an event to the stream.
+     *
+     * @param event the event to be written
+     * @return the events that are now durable, in the order they were written, or null if no events are durable yet
+     */
+    @InputWireLabel("events to write")
+    @Nullable
+    List<PlatformEvent> writeEvent(@NonNull PlatformEvent event);
+
+    /**
+     * Sync all events waiting for a group commit, even if the group commit byte budget has not been reached.
+     *
+     * @return the events that are now durable, in the order they were written, or null if no events were waiting
+     */
+    @InputWireLabel("commit pending events")
+    @Nullable
+    List<PlatformEvent> commitPendingEvents();
+
+    /**
+     * Inform the preconsensus event writer that a discontinuity has occurred in the preconsensus event stream. Events
+     * waiting for a group commit are committed before the current file is closed.
+     *
+     * @param newOriginRound the round of the state that the new stream will be starting from
+     * @return the events that are now durable, in the order they were written, or null if no events were waiting
+     */
+    @InputWireLabel("discontinuity")
+    @Nullable
+    List<PlatformEvent> registerDiscontinuity(@NonNull Long newOriginRound);
+
+    /**
+     * Let the event writer know the current non-ancient event boundary. Ancient events will be ignored if added to the
+     * event writer.
+     *
+     * @param nonAncientBoundary describes the boundary between ancient and non-ancient events
+     */
+    @InputWireLabel("event window")
+    void updateNonAncientEventBoundary(@NonNull EventWindow nonAncientBoundary);
+
+    /**
+     * Set the minimum ancient indicator needed to be kept on disk.
+     *
+     * @param minimumAncientIdentifierToStore the minimum ancient indicator required to be stored on disk
+     */
+    @InputWireLabel("minimum identifier to store")
+    void setMinimumAncientIdentifierToStore(@NonNull Long minimumAncientIdentifierToStore);
+}
@@ -76,6 +76,20 @@ import java.time.Duration;
  *                                             PCES)
  * @param pcesFileWriterType                   type of pces writer to be used in default environment (Linux for now, Mac has its override at {@link #macPcesFileWriterType}
  * @param macPcesFileWriterType                override for pcesFileWriterType to be used on Mac, as FileChannel is 150x slower there
+ * @param parallelReplay                       if true, then preconsensus events are read ahead and deserialized and
+ *                                             hashed in parallel during replay, using {@link #replayQueueSize} and
+ *                                             {@link #replayHashPoolSize}. Events are still replayed in order.
+ * @param replayReadBufferSize                 the size in bytes of the read buffer used for each file when
+ *                                             {@link #parallelReplay} is enabled
+ * @param groupCommitEnabled                   if true, then events are written by a group commit writer instead of the
+ *                                             inline writer. Events that need to be synced according to
+ *                                             {@link #inlinePcesSyncOption} are held back, together with all events
+ *                                             written after them, and are made durable by a single sync per group.
+ * @param groupCommitMaxDelay                  the maximum time between group commits while events are waiting to be
+ *                                             synced (applies only to group commit)
+ * @param groupCommitMaxBytes                  a group is committed as soon as the bytes written since the last sync
+ *                                             reach this value, without waiting for {@link #groupCommitMaxDelay}
+ *                                             (applies only to group commit)
  */
 @ConfigData("event.preconsensus")
 public record PcesConfig(
@@ -101,4 +115,9 @@ public record PcesConfig(
         @ConfigProperty(defaultValue = "5000") int maxEventReplayFrequency,
         @ConfigProperty(defaultValue = "EVERY_SELF_EVENT") FileSyncOption inlinePcesSyncOption,
         @ConfigProperty(defaultValue = "OUTPUT_STREAM") PcesFileWriterType pcesFileWriterType,
-        @ConfigProperty(defaultValue = "OUTPUT_STREAM") PcesFileWriterType macPcesFileWriterType) {}
+        @ConfigProperty(defaultValue = "OUTPUT_STREAM") PcesFileWriterType macPcesFileWriterType,
+        @ConfigProperty(defaultValue = "false") boolean parallelReplay,
+        @Min(1) @ConfigProperty(defaultValue = "1048576") int replayReadBufferSize,
+        @ConfigProperty(defaultValue = "false") boolean groupCommitEnabled,
+        @ConfigProperty(defaultValue = "1ms") Duration groupCommitMaxDelay,
+        @Min(1) @ConfigProperty(defaultValue = "262144") int groupCommitMaxBytes) {}
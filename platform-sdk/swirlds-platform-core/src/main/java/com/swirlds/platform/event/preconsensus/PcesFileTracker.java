@@ -4,6 +4,7 @@ package com.swirlds.platform.event.preconsensus;
 import static com.swirlds.logging.legacy.LogMarker.STARTUP;
 import static com.swirlds.platform.event.preconsensus.PcesFileManager.NO_LOWER_BOUND;
 
+import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.utility.RandomAccessDeque;
 import com.swirlds.common.utility.UnmodifiableIterator;
 import edu.umd.cs.findbugs.annotations.NonNull;
@@ -149,6 +150,24 @@ public class PcesFileTracker {
         return new PcesMultiFileIterator(lowerBound, getFileIterator(lowerBound, startingRound));
     }
 
+    /**
+     * Get an iterator that walks over all events starting with a specified lower bound, and reads ahead, deserializes
+     * and hashes events in parallel. See {@link PcesPrefetchingIterator}.
+     * <p>
+     * Note: this method only works at system startup time, using this iterator after startup has undefined behavior.
+     *
+     * @param platformContext the platform context
+     * @param lowerBound      the desired lower bound, iterator is guaranteed to return all available events with an
+     *                        ancient indicator (the birth round of events) greater or equal to this value
+     * @param startingRound   the round to start iterating from
+     * @return an iterator that walks over events, must be closed if it is not iterated to the end
+     */
+    @NonNull
+    public PcesPrefetchingIterator getPrefetchingEventIterator(
+            @NonNull final PlatformContext platformContext, final long lowerBound, final long startingRound) {
+        return new PcesPrefetchingIterator(platformContext, lowerBound, getFileIterator(lowerBound, startingRound));
+    }
+
     /**
      * Get an iterator that walks over all event files currently being tracked, in order.
      * <p>
@@ -0,0 +1,66 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.event.preconsensus;
+
+import com.swirlds.metrics.api.Counter;
+import com.swirlds.metrics.api.Metrics;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Objects;
+
+/**
+ * A latency histogram built from counters, one counter per bucket. A bucket counts the durations that are less than or
+ * equal to its upper bound and greater than the upper bound of the previous bucket. The last bucket counts everything
+ * that is larger than the largest bound.
+ * <p>
+ * Bucket counters are named {@code <name>_<bound>us}, and {@code <name>_inf} for the last bucket, so that the
+ * distribution can be reconstructed from the exported counters.
+ * <p>
+ * This class is thread safe.
+ */
+final class PcesLatencyHistogram {
+
+    /**
+     * The upper bounds of the buckets, in microseconds. Chosen to cover the range of fsync latencies seen on local and
+     * cloud disks.
+     */
+    private static final long[] BUCKET_BOUNDS_MICROS = {250, 500, 1_000, 2_000, 4_000, 8_000, 16_000};
+
+    private final Counter[] buckets;
+
+    /**
+     * Constructor.
+     *
+     * @param metrics     the metrics manager for the platform
+     * @param category    the category of the bucket counters
+     * @param name        the name of the histogram, used as a prefix for the bucket counter names
+     * @param description a description of the measured duration
+     */
+    PcesLatencyHistogram(
+            @NonNull final Metrics metrics,
+            @NonNull final String category,
+            @NonNull final String name,
+            @NonNull final String description) {
+        Objects.requireNonNull(metrics);
+        buckets = new Counter[BUCKET_BOUNDS_MICROS.length + 1];
+        for (int i = 0; i < BUCKET_BOUNDS_MICROS.length; i++) {
+            buckets[i] = metrics.getOrCreate(new Counter.Config(category, name + "_" + BUCKET_BOUNDS_MICROS[i] + "us")
+                    .withDescription(description + ", count of durations up to " + BUCKET_BOUNDS_MICROS[i] + "us"));
+        }
+        buckets[BUCKET_BOUNDS_MICROS.length] = metrics.getOrCreate(new Counter.Config(category, name + "_inf")
+                .withDescription(description + ", count of durations over "
+                        + BUCKET_BOUNDS_MICROS[BUCKET_BOUNDS_MICROS.length - 1] + "us"));
+    }
+
+    /**
+     * Record a duration.
+     *
+     * @param nanos the duration, in nanoseconds
+     */
+    void record(final long nanos) {
+        final long micros = nanos / 1_000;
+        int bucket = 0;
+        while (bucket < BUCKET_BOUNDS_MICROS.length && micros > BUCKET_BOUNDS_MICROS[bucket]) {
+            bucket++;
+        }
+        buckets[bucket].increment();
+    }
+}
@@ -69,6 +69,15 @@ public class PcesMetrics {
             .withDescription("The age of the oldest preconsensus event file, in seconds.");
     private final LongGauge preconsensusEventFileOldestSeconds;
 
+    private static final RunningAverageMetric.Config PCES_GROUP_COMMIT_SIZE_CONFIG = new RunningAverageMetric.Config(
+                    CATEGORY, "pcesGroupCommitSize")
+            .withUnit("count")
+            .withDescription("The average number of events made durable by a single group commit.");
+    private final RunningAverageMetric pcesGroupCommitSize;
+
+    private final PcesLatencyHistogram pcesGroupCommitSyncDuration;
+    private final PcesLatencyHistogram pcesEventCommitLatency;
+
     /**
      * Construct preconsensus event metrics.
      *
@@ -86,6 +95,17 @@ public class PcesMetrics {
         preconsensusEventFileYoungestIdentifier =
                 metrics.getOrCreate(PRECONSENSUS_EVENT_FILE_YOUNGEST_IDENTIFIER_CONFIG);
         preconsensusEventFileOldestSeconds = metrics.getOrCreate(PRECONSENSUS_EVENT_FILE_OLDEST_SECONDS_CONFIG);
+        pcesGroupCommitSize = metrics.getOrCreate(PCES_GROUP_COMMIT_SIZE_CONFIG);
+        pcesGroupCommitSyncDuration = new PcesLatencyHistogram(
+                metrics,
+                CATEGORY,
+                "pcesGroupCommitSyncDuration",
+                "The time it takes to sync a group of events to disk");
+        pcesEventCommitLatency = new PcesLatencyHistogram(
+                metrics,
+                CATEGORY,
+                "pcesEventCommitLatency",
+                "The time from an event being passed to the group commit writer until it is durable");
     }
 
     /**
@@ -150,4 +170,24 @@ public class PcesMetrics {
     public LongGauge getPreconsensusEventFileOldestSeconds() {
         return preconsensusEventFileOldestSeconds;
     }
+
+    /**
+     * Report a group commit.
+     *
+     * @param groupSize the number of events made durable by the commit
+     * @param syncNanos the time it took to sync the file, in nanoseconds
+     */
+    public void reportGroupCommit(final int groupSize, final long syncNanos) {
+        pcesGroupCommitSize.update(groupSize);
+        pcesGroupCommitSyncDuration.record(syncNanos);
+    }
+
+    /**
+     * Report the time an event waited before it was made durable by a group commit.
+     *
+     * @param nanos the time from the event being received by the writer until it was durable, in nanoseconds
+     */
+    public void reportEventCommitLatency(final long nanos) {
+        pcesEventCommitLatency.record(nanos);
+    }
 }
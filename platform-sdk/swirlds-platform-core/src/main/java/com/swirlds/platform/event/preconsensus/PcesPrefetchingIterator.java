@@ -0,0 +1,260 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.event.preconsensus;
+
+import com.hedera.hapi.platform.event.GossipEvent;
+import com.hedera.pbj.runtime.io.buffer.BufferedData;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.io.IOIterator;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import org.hiero.consensus.crypto.SerializedEventHasher;
+import org.hiero.consensus.model.event.PlatformEvent;
+
+/**
+ * Iterates over events from a sequence of preconsensus event files, like {@link PcesMultiFileIterator}, but reads ahead
+ * and prepares events in parallel. A reader thread walks the files with large sequential reads and hands the raw bytes
+ * of each event to a pool of workers, which deserialize and hash the events. Events are returned in the order they
+ * appear in the files, and are already hashed.
+ * <p>
+ * A file is read until its end, or until an event that is incomplete or malformed is found. Events after such an event
+ * in the same file are not returned, and reading continues with the next file. {@link PcesFileIterator} reports a
+ * malformed event by throwing an {@link IOException}, which {@link PcesMultiFileIterator} ignores before it moves on to
+ * the next file, so both iterators return the same events. If a file can not be read at all, for example because of
+ * an I/O error or an unsupported file version, {@link #hasNext()} and {@link #next()} throw an {@link IOException}.
+ * <p>
+ * The number of events read ahead is bounded by {@link PcesConfig#replayQueueSize()}. Threads are released when the
+ * last event has been read, or when the iterator is closed.
+ */
+public class PcesPrefetchingIterator implements IOIterator<PlatformEvent> {
+
+    /**
+     * An event being prepared by a worker.
+     *
+     * @param fileIndex the index of the file the event was read from
+     * @param event     the event, completes with null if the event is below the lower bound. Null at the end of the
+     *                  stream.
+     */
+    private record PendingEvent(int fileIndex, @Nullable Future<PlatformEvent> event) {}
+
+    /**
+     * Marks the end of the stream.
+     */
+    private static final PendingEvent END_OF_STREAM = new PendingEvent(-1, null);
+
+    /**
+     * The file index of the record that reports a failure of the reader thread. Can not collide with the index of a
+     * file, or with the initial value of {@link #skippedFileIndex}.
+     */
+    private static final int READER_FAILURE = Integer.MIN_VALUE;
+
+    private final Iterator<PcesFile> fileIterator;
+    private final long lowerBound;
+    private final int readBufferSize;
+    private final BlockingQueue<PendingEvent> pendingEvents;
+    private final ExecutorService workers;
+    private final Thread reader;
+    private final ThreadLocal<SerializedEventHasher> hashers = ThreadLocal.withInitial(SerializedEventHasher::new);
+
+    /**
+     * The file that had an incomplete or malformed event, remaining events from this file are skipped.
+     */
+    private int skippedFileIndex = -1;
+
+    private PlatformEvent next;
+    private boolean done = false;
+
+    /**
+     * Create an iterator that walks over events in a series of event files.
+     *
+     * @param platformContext the platform context
+     * @param lowerBound      the minimum ancient indicator of events to return, events with lower ancient indicators
+     *                        are not returned
+     * @param fileIterator    an iterator that walks over event files
+     */
+    public PcesPrefetchingIterator(
+            @NonNull final PlatformContext platformContext,
+            final long lowerBound,
+            @NonNull final Iterator<PcesFile> fileIterator) {
+        this.fileIterator = Objects.requireNonNull(fileIterator);
+        this.lowerBound = lowerBound;
+
+        final PcesConfig config = platformContext.getConfiguration().getConfigData(PcesConfig.class);
+        this.readBufferSize = config.replayReadBufferSize();
+        this.pendingEvents = new ArrayBlockingQueue<>(config.replayQueueSize());
+        this.workers = platformContext.getExecutorFactory().createExecutorService(config.replayHashPoolSize());
+        this.reader = platformContext.getExecutorFactory().createThread(this::readFiles);
+        reader.start();
+    }
+
+    /**
+     * Read all files and submit their events to the workers. Runs on the reader thread.
+     */
+    private void readFiles() {
+        try {
+            int fileIndex = 0;
+            while (fileIterator.hasNext()) {
+                readFile(fileIterator.next(), fileIndex++);
+            }
+            pendingEvents.put(END_OF_STREAM);
+        } catch (final IOException | RuntimeException e) {
+            try {
+                pendingEvents.put(new PendingEvent(READER_FAILURE, CompletableFuture.failedFuture(e)));
+            } catch (final InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+        } catch (final InterruptedException e) {
+            // the iterator was closed
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Read a single file and submit its events to the workers.
+     *
+     * @param file      the file to read
+     * @param fileIndex the index of the file
+     */
+    private void readFile(@NonNull final PcesFile file, final int fileIndex) throws IOException, InterruptedException {
+        long remainingBytes = file.getPath().toFile().length();
+        try (final DataInputStream stream = new DataInputStream(
+                new BufferedInputStream(new FileInputStream(file.getPath().toFile()), readBufferSize))) {
+            final int fileVersionNumber;
+            try {
+                fileVersionNumber = stream.readInt();
+            } catch (final EOFException e) {
+                // Empty file. Possible if the node crashed right after it created this file.
+                return;
+            }
+            if (PcesFileVersion.fromVersionNumber(fileVersionNumber) == null) {
+                throw new IOException("unsupported file version: " + fileVersionNumber);
+            }
+            remainingBytes -= Integer.BYTES;
+
+            while (remainingBytes >= Integer.BYTES) {
+                final int size = stream.readInt();
+                remainingBytes -= Integer.BYTES;
+                if (size < 0 || size > remainingBytes) {
+                    // A partial event, possible when a node is shut down abruptly
+                    return;
+                }
+                final byte[] bytes = new byte[size];
+                try {
+                    stream.readFully(bytes);
+                } catch (final EOFException e) {
+                    // The file is shorter than it was when we started reading it
+                    return;
+                }
+                remainingBytes -= size;
+                pendingEvents.put(new PendingEvent(fileIndex, workers.submit(() -> prepareEvent(bytes))));
+            }
+        }
+    }
+
+    /**
+     * Deserialize and hash an event. Runs on a worker thread.
+     *
+     * @param bytes the serialized event
+     * @return the event, or null if it is below the lower bound
+     */
+    @Nullable
+    private PlatformEvent prepareEvent(@NonNull final byte[] bytes) throws Exception {
+        final PlatformEvent event = new PlatformEvent(GossipEvent.PROTOBUF.parse(BufferedData.wrap(bytes)));
+        if (event.getBirthRound() < lowerBound) {
+            return null;
+        }
+        // the file holds the exact bytes the event was written with, so they can be hashed without encoding again
+        hashers.get().hashEvent(event, Bytes.wrap(bytes));
+        return event;
+    }
+
+    /**
+     * Find the next event that should be returned.
+     */
+    private void findNext() throws IOException {
+        while (next == null && !done) {
+            final PendingEvent pendingEvent;
+            try {
+                pendingEvent = pendingEvents.take();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("interrupted while waiting for the next event", e);
+            }
+
+            if (pendingEvent == END_OF_STREAM) {
+                close();
+                return;
+            }
+            if (pendingEvent.fileIndex() == READER_FAILURE) {
+                // the reader thread has stopped, nothing else will be added to the queue
+                close();
+                throw new IOException(
+                        "unable to read preconsensus event files",
+                        Objects.requireNonNull(pendingEvent.event()).exceptionNow());
+            }
+            if (pendingEvent.fileIndex() == skippedFileIndex) {
+                continue;
+            }
+
+            try {
+                next = Objects.requireNonNull(pendingEvent.event()).get();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("interrupted while waiting for the next event", e);
+            } catch (final ExecutionException e) {
+                // The event could not be parsed, ignore the rest of the file and move on to the next file
+                skippedFileIndex = pendingEvent.fileIndex();
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasNext() throws IOException {
+        findNext();
+        return next != null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @NonNull
+    public PlatformEvent next() throws IOException {
+        if (!hasNext()) {
+            throw new NoSuchElementException("iterator is empty, can not get next element");
+        }
+        try {
+            return next;
+        } finally {
+            next = null;
+        }
+    }
+
+    /**
+     * Stop reading ahead and release the threads used by this iterator.
+     */
+    @Override
+    public void close() {
+        done = true;
+        reader.interrupt();
+        workers.shutdownNow();
+        pendingEvents.clear();
+    }
+}
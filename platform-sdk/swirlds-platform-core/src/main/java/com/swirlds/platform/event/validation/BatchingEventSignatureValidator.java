@@ -0,0 +1,363 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.event.validation;
+
+import static com.swirlds.logging.legacy.LogMarker.EXCEPTION;
+import static com.swirlds.metrics.api.FloatFormats.FORMAT_10_2;
+import static com.swirlds.metrics.api.FloatFormats.FORMAT_16_2;
+import static com.swirlds.metrics.api.Metrics.PLATFORM_CATEGORY;
+
+import com.hedera.hapi.node.state.roster.Roster;
+import com.hedera.hapi.node.state.roster.RosterEntry;
+import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.metrics.RunningAverageMetric;
+import com.swirlds.common.metrics.SpeedometerMetric;
+import com.swirlds.common.utility.throttle.RateLimitedLogger;
+import com.swirlds.metrics.api.LongAccumulator;
+import com.swirlds.platform.crypto.SignatureVerifier;
+import com.swirlds.platform.gossip.IntakeEventCounter;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.security.PublicKey;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hiero.consensus.model.event.PlatformEvent;
+import org.hiero.consensus.model.hashgraph.EventWindow;
+import org.hiero.consensus.model.node.NodeId;
+import org.hiero.consensus.roster.RosterEntryNotFoundException;
+import org.hiero.consensus.roster.RosterHistory;
+import org.hiero.consensus.roster.RosterUtils;
+
+/**
+ * An event signature validator that verifies signatures in batches. Public keys are looked up on the component thread
+ * and cached per roster, then all signatures in a batch are verified in parallel on a bounded thread pool. Events with
+ * valid signatures are returned in the order they were added.
+ * <p>
+ * This class is not thread safe, its methods must be called sequentially. Only signature verification itself runs on
+ * other threads.
+ */
+public class BatchingEventSignatureValidator implements EventSignatureBatchValidator {
+    private static final Logger logger = LogManager.getLogger(BatchingEventSignatureValidator.class);
+
+    /**
+     * The minimum period between log messages reporting a specific type of validation failure
+     */
+    private static final Duration MINIMUM_LOG_PERIOD = Duration.ofMinutes(1);
+
+    /**
+     * A verifier for checking event signatures.
+     */
+    private final SignatureVerifier signatureVerifier;
+
+    /**
+     * The complete roster history, i.e. all rosters for non-ancient rounds.
+     */
+    private RosterHistory rosterHistory;
+
+    /**
+     * Public keys of event creators by roster. Rosters are compared by identity, all rosters come from the current
+     * roster history. The cache is reset when the roster history is updated.
+     */
+    private final Map<Roster, Map<NodeId, PublicKey>> publicKeys = new IdentityHashMap<>();
+
+    /**
+     * The current event window.
+     */
+    private EventWindow eventWindow;
+
+    /**
+     * Keeps track of the number of events in the intake pipeline from each peer
+     */
+    private final IntakeEventCounter intakeEventCounter;
+
+    /**
+     * A logger for validation errors
+     */
+    private final RateLimitedLogger rateLimitedLogger;
+
+    /**
+     * The maximum number of events in a batch
+     */
+    private final int maxBatchSize;
+
+    /**
+     * The number of threads used to verify signatures in a batch, including the component thread
+     */
+    private final int verificationThreads;
+
+    /**
+     * Verifies signatures in parallel with the component thread. Null if signatures are verified on the component
+     * thread only. Shut down, when the validator is stopped.
+     */
+    @Nullable
+    private final ExecutorService verificationPool;
+
+    /**
+     * Events in the current batch, in the order they were added
+     */
+    private List<PlatformEvent> pendingEvents;
+
+    private final LongAccumulator validationFailedAccumulator;
+
+    private static final RunningAverageMetric.Config BATCH_SIZE_CONFIG = new RunningAverageMetric.Config(
+                    PLATFORM_CATEGORY, "eventSignatureBatchSize")
+            .withDescription("Number of events in a verified event signature batch")
+            .withFormat(FORMAT_10_2);
+    private final RunningAverageMetric batchSize;
+
+    private static final SpeedometerMetric.Config SIGNATURES_VERIFIED_CONFIG = new SpeedometerMetric.Config(
+                    PLATFORM_CATEGORY, "eventSignaturesVerified_per_sec")
+            .withDescription("Number of event signatures verified per second")
+            .withFormat(FORMAT_16_2);
+    private final SpeedometerMetric signaturesVerified;
+
+    /**
+     * Constructor
+     *
+     * @param platformContext        the platform context
+     * @param signatureVerifier      a verifier for checking event signatures, must be thread safe
+     * @param rosterHistory          the complete roster history
+     * @param intakeEventCounter     keeps track of the number of events in the intake pipeline from each peer
+     */
+    public BatchingEventSignatureValidator(
+            @NonNull final PlatformContext platformContext,
+            @NonNull final SignatureVerifier signatureVerifier,
+            @NonNull final RosterHistory rosterHistory,
+            @NonNull final IntakeEventCounter intakeEventCounter) {
+
+        this.signatureVerifier = Objects.requireNonNull(signatureVerifier);
+        this.rosterHistory = Objects.requireNonNull(rosterHistory);
+        this.intakeEventCounter = Objects.requireNonNull(intakeEventCounter);
+
+        this.rateLimitedLogger = new RateLimitedLogger(logger, platformContext.getTime(), MINIMUM_LOG_PERIOD);
+
+        final EventSignatureValidationConfig config =
+                platformContext.getConfiguration().getConfigData(EventSignatureValidationConfig.class);
+        this.maxBatchSize = config.maxBatchSize();
+        this.verificationThreads = config.verificationThreads() > 0
+                ? config.verificationThreads()
+                : Runtime.getRuntime().availableProcessors();
+        // The component thread verifies signatures, too
+        this.verificationPool = verificationThreads > 1
+                ? platformContext.getExecutorFactory().createExecutorService(verificationThreads - 1)
+                : null;
+        this.pendingEvents = new ArrayList<>(maxBatchSize);
+
+        this.validationFailedAccumulator =
+                platformContext.getMetrics().getOrCreate(DefaultEventSignatureValidator.VALIDATION_FAILED_CONFIG);
+        this.batchSize = platformContext.getMetrics().getOrCreate(BATCH_SIZE_CONFIG);
+        this.signaturesVerified = platformContext.getMetrics().getOrCreate(SIGNATURES_VERIFIED_CONFIG);
+
+        eventWindow = EventWindow.getGenesisEventWindow();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Nullable
+    public List<PlatformEvent> addEvent(@NonNull final PlatformEvent event) {
+        if (eventWindow.isAncient(event)) {
+            // ancient events can be safely ignored
+            intakeEventCounter.eventExitedIntakePipeline(event.getSenderId());
+            return null;
+        }
+
+        pendingEvents.add(event);
+        if (pendingEvents.size() >= maxBatchSize) {
+            return verifyPendingEvents();
+        }
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Nullable
+    public List<PlatformEvent> verifyPendingEvents() {
+        if (pendingEvents.isEmpty()) {
+            return null;
+        }
+        // The event window may have advanced since the events were added, don't verify events that became ancient
+        final List<PlatformEvent> batch = new ArrayList<>(pendingEvents.size());
+        for (final PlatformEvent event : pendingEvents) {
+            if (eventWindow.isAncient(event)) {
+                intakeEventCounter.eventExitedIntakePipeline(event.getSenderId());
+            } else {
+                batch.add(event);
+            }
+        }
+        pendingEvents.clear();
+        if (batch.isEmpty()) {
+            return null;
+        }
+
+        final int size = batch.size();
+        final PublicKey[] keys = new PublicKey[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = getPublicKey(batch.get(i));
+        }
+
+        final boolean[] valid = new boolean[size];
+        verifySignatures(batch, keys, valid);
+
+        final List<PlatformEvent> validEvents = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            final PlatformEvent event = batch.get(i);
+            if (valid[i]) {
+                validEvents.add(event);
+                continue;
+            }
+            if (keys[i] != null) {
+                rateLimitedLogger.error(
+                        EXCEPTION.getMarker(),
+                        "Event failed signature check. Event: {}, Signature: {}, Hash: {}",
+                        event,
+                        event.getSignature().toHex(),
+                        event.getHash());
+            }
+            intakeEventCounter.eventExitedIntakePipeline(event.getSenderId());
+            validationFailedAccumulator.update(1);
+        }
+
+        batchSize.update(size);
+        signaturesVerified.update(size);
+
+        return validEvents;
+    }
+
+    /**
+     * Get the public key of the creator of the given event, using the roster applicable to the event birth round.
+     *
+     * @param event the event
+     * @return the public key, or null if the key cannot be found. In this case, the reason is logged
+     */
+    @Nullable
+    private PublicKey getPublicKey(@NonNull final PlatformEvent event) {
+        final Roster applicableRoster = rosterHistory.getRosterForRound(event.getBirthRound());
+        if (applicableRoster == null) {
+            rateLimitedLogger.error(
+                    EXCEPTION.getMarker(),
+                    "Cannot validate events for birth round {} without a roster",
+                    event.getBirthRound());
+            return null;
+        }
+        final NodeId eventCreatorId = event.getCreatorId();
+        final Map<NodeId, PublicKey> rosterKeys =
+                publicKeys.computeIfAbsent(applicableRoster, roster -> new HashMap<>());
+        final PublicKey cachedKey = rosterKeys.get(eventCreatorId);
+        if (cachedKey != null) {
+            return cachedKey;
+        }
+
+        final RosterEntry rosterEntry;
+        try {
+            rosterEntry = RosterUtils.getRosterEntry(applicableRoster, eventCreatorId.id());
+        } catch (RosterEntryNotFoundException e) {
+            rateLimitedLogger.error(
+                    EXCEPTION.getMarker(),
+                    "Node {} doesn't exist in applicable roster. Event: {}",
+                    eventCreatorId,
+                    event);
+            return null;
+        }
+
+        final X509Certificate cert = RosterUtils.fetchGossipCaCertificate(rosterEntry);
+
+        final PublicKey publicKey = cert == null ? null : cert.getPublicKey();
+        if (publicKey == null) {
+            rateLimitedLogger.error(
+                    EXCEPTION.getMarker(), "Cannot find publicKey for creator with ID: {}", eventCreatorId);
+            return null;
+        }
+        rosterKeys.put(eventCreatorId, publicKey);
+        return publicKey;
+    }
+
+    /**
+     * Verify signatures of all events in a batch. The batch is split into slices, one slice per verification thread.
+     * The first slice is verified on the current thread.
+     *
+     * @param batch the events to verify
+     * @param keys  the public keys of event creators, null if a key is unknown
+     * @param valid the array to store verification results to
+     */
+    private void verifySignatures(
+            @NonNull final List<PlatformEvent> batch, @NonNull final PublicKey[] keys, @NonNull final boolean[] valid) {
+        final int size = batch.size();
+        final int slices = verificationPool == null ? 1 : Math.min(verificationThreads, size);
+        final List<Future<?>> futures = new ArrayList<>(slices - 1);
+        for (int slice = 1; slice < slices; slice++) {
+            final int from = (int) ((long) size * slice / slices);
+            final int to = (int) ((long) size * (slice + 1) / slices);
+            futures.add(verificationPool.submit(() -> verifySignatures(batch, keys, valid, from, to)));
+        }
+        verifySignatures(batch, keys, valid, 0, size / slices);
+
+        for (final Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while verifying event signatures", e);
+            } catch (final ExecutionException e) {
+                if (e.getCause() instanceof final RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new IllegalStateException("Failed to verify event signatures", e.getCause());
+            }
+        }
+    }
+
+    private void verifySignatures(
+            @NonNull final List<PlatformEvent> batch,
+            @NonNull final PublicKey[] keys,
+            @NonNull final boolean[] valid,
+            final int from,
+            final int to) {
+        for (int i = from; i < to; i++) {
+            if (keys[i] != null) {
+                final PlatformEvent event = batch.get(i);
+                valid[i] = signatureVerifier.verifySignature(event.getHash().getBytes(), event.getSignature(), keys[i]);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setEventWindow(@NonNull final EventWindow eventWindow) {
+        this.eventWindow = Objects.requireNonNull(eventWindow);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void updateRosterHistory(@NonNull final RosterHistory rosterHistory) {
+        this.rosterHistory = Objects.requireNonNull(rosterHistory);
+        publicKeys.clear();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void stop() {
+        if (verificationPool != null) {
+            verificationPool.shutdownNow();
+        }
+    }
+}
@@ -62,7 +62,7 @@ public class DefaultEventSignatureValidator implements EventSignatureValidator {
      */
     private final RateLimitedLogger rateLimitedLogger;
 
-    private static final LongAccumulator.Config VALIDATION_FAILED_CONFIG = new LongAccumulator.Config(
+    static final LongAccumulator.Config VALIDATION_FAILED_CONFIG = new LongAccumulator.Config(
                     PLATFORM_CATEGORY, "eventsFailedSignatureValidation")
             .withDescription("Events for which signature validation failed")
             .withUnit("events");
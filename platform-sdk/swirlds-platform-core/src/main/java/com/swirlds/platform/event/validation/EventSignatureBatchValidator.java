@@ -0,0 +1,58 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.event.validation;
+
+import com.swirlds.component.framework.component.InputWireLabel;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.List;
+import org.hiero.consensus.model.event.PlatformEvent;
+import org.hiero.consensus.model.hashgraph.EventWindow;
+import org.hiero.consensus.roster.RosterHistory;
+
+/**
+ * Verifies event signatures in batches. Events are collected into a batch, and all signatures in the batch are verified
+ * at once. Events with valid signatures are returned in the same order as they were added.
+ */
+public interface EventSignatureBatchValidator {
+
+    /**
+     * Add an event to the current batch. If the batch is full, all signatures in the batch are verified.
+     *
+     * @param event the event to verify the signature of
+     * @return the events with valid signatures, if the batch was verified, otherwise null
+     */
+    @InputWireLabel("PlatformEvent")
+    @Nullable
+    List<PlatformEvent> addEvent(@NonNull PlatformEvent event);
+
+    /**
+     * Verify all signatures in the current batch, even if the batch is not full.
+     *
+     * @return the events with valid signatures, or null if the batch is empty
+     */
+    @InputWireLabel("verify pending events")
+    @Nullable
+    List<PlatformEvent> verifyPendingEvents();
+
+    /**
+     * Set the event window that defines the minimum threshold required for an event to be non-ancient
+     *
+     * @param eventWindow the event window
+     */
+    @InputWireLabel("event window")
+    void setEventWindow(@NonNull EventWindow eventWindow);
+
+    /**
+     * Set the rosterHistory
+     *
+     * @param rosterHistory the roster history read from state
+     */
+    @InputWireLabel("roster history")
+    void updateRosterHistory(@NonNull RosterHistory rosterHistory);
+
+    /**
+     * Stop the validator and release its resources, e.g. signature verification threads. No events may be added or
+     * verified after the validator is stopped.
+     */
+    void stop();
+}
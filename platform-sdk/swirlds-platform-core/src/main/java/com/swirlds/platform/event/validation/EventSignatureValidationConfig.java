@@ -0,0 +1,26 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.event.validation;
+
+import com.swirlds.config.api.ConfigData;
+import com.swirlds.config.api.ConfigProperty;
+import com.swirlds.config.api.validation.annotation.Min;
+import java.time.Duration;
+
+/**
+ * Configuration for event signature validation.
+ *
+ * @param batchingEnabled     if true, event signatures are verified in batches by a
+ *                            {@link BatchingEventSignatureValidator}, otherwise every event signature is verified
+ *                            separately by a {@link DefaultEventSignatureValidator}
+ * @param maxBatchSize        the maximum number of events in a batch. A batch is verified as soon as it is full
+ * @param maxBatchDelay       the maximum time an event may wait in a batch that is not full, before the batch is
+ *                            verified
+ * @param verificationThreads the number of threads used to verify signatures in a batch. If zero, the number of
+ *                            available processors is used
+ */
+@ConfigData("event.signatureValidation")
+public record EventSignatureValidationConfig(
+        @ConfigProperty(defaultValue = "false") boolean batchingEnabled,
+        @Min(1) @ConfigProperty(defaultValue = "128") int maxBatchSize,
+        @ConfigProperty(defaultValue = "5ms") Duration maxBatchDelay,
+        @Min(0) @ConfigProperty(defaultValue = "0") int verificationThreads) {}
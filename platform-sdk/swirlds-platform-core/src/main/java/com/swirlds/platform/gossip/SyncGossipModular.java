@@ -22,10 +22,12 @@ import com.swirlds.platform.gossip.shadowgraph.RpcShadowgraphSynchronizer;
 import com.swirlds.platform.gossip.shadowgraph.Shadowgraph;
 import com.swirlds.platform.gossip.shadowgraph.ShadowgraphSynchronizer;
 import com.swirlds.platform.gossip.sync.SyncManagerImpl;
+import com.swirlds.platform.gossip.sync.config.SyncConfig;
 import com.swirlds.platform.metrics.ReconnectMetrics;
 import com.swirlds.platform.metrics.SyncMetrics;
 import com.swirlds.platform.network.PeerCommunication;
 import com.swirlds.platform.network.PeerInfo;
+import com.swirlds.platform.network.communication.handshake.SyncVersionHandshake;
 import com.swirlds.platform.network.communication.handshake.VersionCompareHandshake;
 import com.swirlds.platform.network.protocol.AbstractSyncProtocol;
 import com.swirlds.platform.network.protocol.HeartbeatProtocol;
@@ -150,6 +152,12 @@ public class SyncGossipModular implements Gossip {
         final int rosterSize = peers.size() + 1;
         final SyncMetrics syncMetrics = new SyncMetrics(platformContext.getMetrics(), platformContext.getTime());
 
+        final SyncConfig syncConfig = platformContext.getConfiguration().getConfigData(SyncConfig.class);
+        final SyncVersionHandshake syncVersionHandshake = new SyncVersionHandshake(
+                syncConfig.eventFilterEnabled()
+                        ? SyncVersionHandshake.EVENT_FILTER_SYNC_VERSION
+                        : SyncVersionHandshake.BASE_SYNC_VERSION);
+
         if (protocolConfig.rpcGossip()) {
 
             final RpcShadowgraphSynchronizer rpcSynchronizer = new RpcShadowgraphSynchronizer(
@@ -183,7 +191,8 @@ public class SyncGossipModular implements Gossip {
                     event -> receivedEventHandler.accept(event),
                     syncManager,
                     intakeEventCounter,
-                    new CachedPoolParallelExecutor(threadManager, "node-sync"));
+                    new CachedPoolParallelExecutor(threadManager, "node-sync"),
+                    syncVersionHandshake::getNegotiatedVersion);
 
             this.synchronizer = shadowgraphSynchronizer;
 
@@ -209,7 +218,11 @@ public class SyncGossipModular implements Gossip {
 
         final VersionCompareHandshake versionCompareHandshake =
                 new VersionCompareHandshake(appVersion, !protocolConfig.tolerateMismatchedVersion());
-        final List<ProtocolRunnable> handshakeProtocols = List.of(versionCompareHandshake);
+        // Without the event filter the sync version handshake is not run, and connections are the same as for nodes
+        // that do not know about it. Syncs then use the base version, since no version is ever negotiated.
+        final List<ProtocolRunnable> handshakeProtocols = syncConfig.eventFilterEnabled()
+                ? List.of(versionCompareHandshake, syncVersionHandshake)
+                : List.of(versionCompareHandshake);
 
         network.initialize(threadManager, handshakeProtocols, protocols);
     }
@@ -10,6 +10,7 @@ import com.swirlds.platform.gossip.IntakeEventCounter;
 import com.swirlds.platform.gossip.sync.config.SyncConfig;
 import com.swirlds.platform.metrics.SyncMetrics;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
@@ -161,6 +162,38 @@ public class AbstractShadowgraphSynchronizer {
         return status;
     }
 
+    /**
+     * Build a filter of the hashes of all non-ancient events in the shadowgraph, to be sent to the peer.
+     *
+     * @param myTips            the current tips, all non-ancient events are ancestors of these
+     * @param myEventWindow     the event window of this node
+     * @param falsePositiveRate the desired false positive rate of the filter
+     * @param maxSizeBytes      the maximum size of the filter in bytes
+     * @param seed              the seed of the filter
+     * @return the filter
+     */
+    @NonNull
+    protected EventHashFilter createEventFilter(
+            @NonNull final List<ShadowEvent> myTips,
+            @NonNull final EventWindow myEventWindow,
+            final double falsePositiveRate,
+            final int maxSizeBytes,
+            final long seed) {
+
+        final long ancientThreshold = myEventWindow.ancientThreshold();
+        final Predicate<ShadowEvent> nonAncient = s -> s.getEvent().getBirthRound() >= ancientThreshold;
+
+        final Set<ShadowEvent> nonAncientEvents = shadowGraph.findAncestors(myTips, nonAncient);
+        myTips.stream().filter(nonAncient).forEach(nonAncientEvents::add);
+
+        final EventHashFilter filter =
+                EventHashFilter.create(nonAncientEvents.size(), falsePositiveRate, maxSizeBytes, seed);
+        for (final ShadowEvent event : nonAncientEvents) {
+            filter.add(event.getEventBaseHash());
+        }
+        return filter;
+    }
+
     /**
      * Create a list of events to send to the peer.
      *
@@ -177,6 +210,28 @@ public class AbstractShadowgraphSynchronizer {
             @NonNull final Set<ShadowEvent> knownSet,
             @NonNull final EventWindow myEventWindow,
             @NonNull final EventWindow theirEventWindow) {
+        return createSendList(selfId, knownSet, myEventWindow, theirEventWindow, null);
+    }
+
+    /**
+     * Create a list of events to send to the peer.
+     *
+     * @param selfId           the id of this node
+     * @param knownSet         the set of events that the peer already has (this is incomplete at this stage and is
+     *                         added to during this method)
+     * @param myEventWindow    the event window of this node
+     * @param theirEventWindow the event window of the peer
+     * @param theirEventFilter a filter of the events the peer has, events in the filter are not sent. Null if the peer
+     *                         did not send a filter.
+     * @return a list of events to send to the peer
+     */
+    @NonNull
+    protected List<PlatformEvent> createSendList(
+            @NonNull final NodeId selfId,
+            @NonNull final Set<ShadowEvent> knownSet,
+            @NonNull final EventWindow myEventWindow,
+            @NonNull final EventWindow theirEventWindow,
+            @Nullable final EventHashFilter theirEventFilter) {
 
         Objects.requireNonNull(selfId);
         Objects.requireNonNull(knownSet);
@@ -210,6 +265,12 @@ public class AbstractShadowgraphSynchronizer {
         final List<PlatformEvent> eventsTheyMayNeed =
                 sendSet.stream().map(ShadowEvent::getEvent).collect(Collectors.toCollection(ArrayList::new));
 
+        if (theirEventFilter != null) {
+            final int sizeBeforeFilter = eventsTheyMayNeed.size();
+            eventsTheyMayNeed.removeIf(event -> theirEventFilter.mightContain(event.getHash()));
+            syncMetrics.eventsSkippedByFilter(sizeBeforeFilter - eventsTheyMayNeed.size());
+        }
+
         SyncUtils.sort(eventsTheyMayNeed);
 
         List<PlatformEvent> sendList;
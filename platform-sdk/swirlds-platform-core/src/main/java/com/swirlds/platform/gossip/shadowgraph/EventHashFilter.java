@@ -0,0 +1,175 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.gossip.shadowgraph;
+
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.util.Objects;
+import org.hiero.base.crypto.Hash;
+import org.hiero.base.io.streams.SerializableDataInputStream;
+import org.hiero.base.io.streams.SerializableDataOutputStream;
+
+/**
+ * A Bloom filter over event hashes. During a sync, each peer sends a filter with the hashes of the non-ancient events
+ * it has, so that the other peer can avoid sending events the peer already knows about.
+ * <p>
+ * A Bloom filter has no false negatives, so an event that is in the filter is always reported as present. It can have
+ * false positives, meaning an event that the peer does not have may not be sent to it. Each filter uses a different
+ * seed, so an event that is a false positive in one sync will almost certainly not be a false positive in the next.
+ * <p>
+ * This class is not thread safe.
+ */
+public final class EventHashFilter {
+
+    /**
+     * The maximum number of hash functions a filter may use. Protects against a malicious peer that sends a filter
+     * that is very expensive to query.
+     */
+    static final int MAX_HASH_FUNCTIONS = 32;
+
+    /**
+     * The bits of the filter
+     */
+    private final long[] bits;
+
+    /**
+     * The number of bits in the filter
+     */
+    private final long numBits;
+
+    /**
+     * The number of bits set for each hash
+     */
+    private final int numHashFunctions;
+
+    /**
+     * Mixed into every hash, so that each filter sets different bits for the same event
+     */
+    private final long seed;
+
+    private EventHashFilter(@NonNull final long[] bits, final int numHashFunctions, final long seed) {
+        this.bits = bits;
+        this.numBits = (long) bits.length * Long.SIZE;
+        this.numHashFunctions = numHashFunctions;
+        this.seed = seed;
+    }
+
+    /**
+     * Create an empty filter sized for the given number of hashes.
+     *
+     * @param expectedHashes    the number of hashes that will be added to the filter
+     * @param falsePositiveRate the desired probability that a hash not in the filter is reported as present
+     * @param maxSizeBytes      the maximum size of the filter in bytes, if the desired false positive rate requires a
+     *                          larger filter then the filter is capped at this size and the false positive rate will be
+     *                          higher
+     * @param seed              the seed for this filter
+     * @return a new, empty filter
+     */
+    @NonNull
+    public static EventHashFilter create(
+            final int expectedHashes, final double falsePositiveRate, final int maxSizeBytes, final long seed) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("false positive rate must be between 0 and 1: " + falsePositiveRate);
+        }
+        if (maxSizeBytes < Long.BYTES) {
+            throw new IllegalArgumentException("max size must be at least " + Long.BYTES + " bytes: " + maxSizeBytes);
+        }
+
+        final int hashCount = Math.max(1, expectedHashes);
+        final double optimalBits = -hashCount * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+        final int maxLongs = maxSizeBytes / Long.BYTES;
+        final int numLongs = (int) Math.min(maxLongs, Math.max(1, Math.ceil(optimalBits / Long.SIZE)));
+        final double bitsPerHash = (double) numLongs * Long.SIZE / hashCount;
+        final int numHashFunctions =
+                (int) Math.min(MAX_HASH_FUNCTIONS, Math.max(1, Math.round(bitsPerHash * Math.log(2))));
+
+        return new EventHashFilter(new long[numLongs], numHashFunctions, seed);
+    }
+
+    /**
+     * Add a hash to the filter.
+     *
+     * @param hash the hash to add
+     */
+    public void add(@NonNull final Hash hash) {
+        final Bytes bytes = hash.getBytes();
+        final long h1 = mix(bytes.getLong(0) ^ seed);
+        final long h2 = mix(bytes.getLong(Long.BYTES) + seed) | 1;
+        for (int i = 0; i < numHashFunctions; i++) {
+            final long bit = Math.floorMod(h1 + i * h2, numBits);
+            bits[(int) (bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    /**
+     * Check if a hash might have been added to the filter.
+     *
+     * @param hash the hash to check
+     * @return false if the hash was definitely not added to the filter, true if it probably was
+     */
+    public boolean mightContain(@NonNull final Hash hash) {
+        final Bytes bytes = hash.getBytes();
+        final long h1 = mix(bytes.getLong(0) ^ seed);
+        final long h2 = mix(bytes.getLong(Long.BYTES) + seed) | 1;
+        for (int i = 0; i < numHashFunctions; i++) {
+            final long bit = Math.floorMod(h1 + i * h2, numBits);
+            if ((bits[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the size of the filter bits in bytes
+     */
+    public int getSizeBytes() {
+        return bits.length * Long.BYTES;
+    }
+
+    /**
+     * Write this filter to a stream.
+     *
+     * @param out the stream to write to
+     * @throws IOException if the stream throws
+     */
+    public void serialize(@NonNull final SerializableDataOutputStream out) throws IOException {
+        out.writeInt(numHashFunctions);
+        out.writeLong(seed);
+        out.writeLongArray(bits);
+    }
+
+    /**
+     * Read a filter from a stream.
+     *
+     * @param in           the stream to read from
+     * @param maxSizeBytes the maximum size of the filter bits in bytes
+     * @return the filter that was read
+     * @throws IOException if the stream throws, or if the filter is not valid
+     */
+    @NonNull
+    public static EventHashFilter deserialize(@NonNull final SerializableDataInputStream in, final int maxSizeBytes)
+            throws IOException {
+        Objects.requireNonNull(in);
+        final int numHashFunctions = in.readInt();
+        if (numHashFunctions < 1 || numHashFunctions > MAX_HASH_FUNCTIONS) {
+            throw new IOException("invalid number of hash functions: " + numHashFunctions);
+        }
+        final long seed = in.readLong();
+        final long[] bits = in.readLongArray(Math.max(1, maxSizeBytes / Long.BYTES));
+        if (bits == null || bits.length == 0) {
+            throw new IOException("event filter has no bits");
+        }
+        return new EventHashFilter(bits, numHashFunctions, seed);
+    }
+
+    /**
+     * Spread the bits of a value, so that similar seeds produce unrelated bit positions.
+     */
+    private static long mix(final long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
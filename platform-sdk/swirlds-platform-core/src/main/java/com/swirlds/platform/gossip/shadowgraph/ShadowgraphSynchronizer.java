@@ -5,9 +5,11 @@ import static com.swirlds.logging.legacy.LogMarker.SYNC_INFO;
 import static com.swirlds.platform.gossip.shadowgraph.SyncUtils.getMyTipsTheyKnow;
 import static com.swirlds.platform.gossip.shadowgraph.SyncUtils.getTheirTipsIHave;
 import static com.swirlds.platform.gossip.shadowgraph.SyncUtils.readEventsINeed;
+import static com.swirlds.platform.gossip.shadowgraph.SyncUtils.readTheirEventFilter;
 import static com.swirlds.platform.gossip.shadowgraph.SyncUtils.readMyTipsTheyHave;
 import static com.swirlds.platform.gossip.shadowgraph.SyncUtils.readTheirTipsAndEventWindow;
 import static com.swirlds.platform.gossip.shadowgraph.SyncUtils.sendEventsTheyNeed;
+import static com.swirlds.platform.gossip.shadowgraph.SyncUtils.writeMyEventFilter;
 import static com.swirlds.platform.gossip.shadowgraph.SyncUtils.writeMyTipsAndEventWindow;
 import static com.swirlds.platform.gossip.shadowgraph.SyncUtils.writeTheirTipsIHave;
 
@@ -21,6 +23,7 @@ import com.swirlds.platform.gossip.SyncException;
 import com.swirlds.platform.gossip.sync.config.SyncConfig;
 import com.swirlds.platform.metrics.SyncMetrics;
 import com.swirlds.platform.network.Connection;
+import com.swirlds.platform.network.communication.handshake.SyncVersionHandshake;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
@@ -31,13 +34,16 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.hiero.consensus.gossip.FallenBehindManager;
 import org.hiero.consensus.model.event.PlatformEvent;
 import org.hiero.consensus.model.hashgraph.EventWindow;
+import org.hiero.consensus.model.node.NodeId;
 
 /**
  * The goal of the ShadowgraphSynchronizer is to compare graphs with a remote node, and update them so both sides have
@@ -56,6 +62,26 @@ public class ShadowgraphSynchronizer extends AbstractShadowgraphSynchronizer {
      */
     private final ParallelExecutor executor;
 
+    /**
+     * Supplies the sync version negotiated with each peer
+     */
+    private final ToIntFunction<NodeId> peerSyncVersion;
+
+    /**
+     * If true, exchange event filters with peers that support it
+     */
+    private final boolean eventFilterEnabled;
+
+    /**
+     * The desired false positive rate of the event filters we send
+     */
+    private final double eventFilterFalsePositiveRate;
+
+    /**
+     * The maximum size of an event filter, both sent and received
+     */
+    private final int eventFilterMaxSizeBytes;
+
     /**
      * Constructs a new ShadowgraphSynchronizer.
      *
@@ -77,6 +103,42 @@ public class ShadowgraphSynchronizer extends AbstractShadowgraphSynchronizer {
             @NonNull final FallenBehindManager fallenBehindManager,
             @NonNull final IntakeEventCounter intakeEventCounter,
             @NonNull final ParallelExecutor executor) {
+        this(
+                platformContext,
+                shadowGraph,
+                numberOfNodes,
+                syncMetrics,
+                receivedEventHandler,
+                fallenBehindManager,
+                intakeEventCounter,
+                executor,
+                peerId -> SyncVersionHandshake.BASE_SYNC_VERSION);
+    }
+
+    /**
+     * Constructs a new ShadowgraphSynchronizer.
+     *
+     * @param platformContext      the platform context
+     * @param shadowGraph          stores events to sync
+     * @param numberOfNodes        number of nodes in the network
+     * @param syncMetrics          metrics for sync
+     * @param receivedEventHandler events that are received are passed here
+     * @param fallenBehindManager  tracks if we have fallen behind
+     * @param intakeEventCounter   used for tracking events in the intake pipeline per peer
+     * @param executor             for executing read/write tasks in parallel
+     * @param peerSyncVersion      supplies the sync version negotiated with each peer, see
+     *                             {@link SyncVersionHandshake}
+     */
+    public ShadowgraphSynchronizer(
+            @NonNull final PlatformContext platformContext,
+            @NonNull final Shadowgraph shadowGraph,
+            final int numberOfNodes,
+            @NonNull final SyncMetrics syncMetrics,
+            @NonNull final Consumer<PlatformEvent> receivedEventHandler,
+            @NonNull final FallenBehindManager fallenBehindManager,
+            @NonNull final IntakeEventCounter intakeEventCounter,
+            @NonNull final ParallelExecutor executor,
+            @NonNull final ToIntFunction<NodeId> peerSyncVersion) {
 
         super(
                 platformContext,
@@ -87,8 +149,12 @@ public class ShadowgraphSynchronizer extends AbstractShadowgraphSynchronizer {
                 fallenBehindManager,
                 intakeEventCounter);
         this.executor = Objects.requireNonNull(executor);
+        this.peerSyncVersion = Objects.requireNonNull(peerSyncVersion);
 
         final SyncConfig syncConfig = platformContext.getConfiguration().getConfigData(SyncConfig.class);
+        this.eventFilterEnabled = syncConfig.eventFilterEnabled();
+        this.eventFilterFalsePositiveRate = syncConfig.eventFilterFalsePositiveRate();
+        this.eventFilterMaxSizeBytes = syncConfig.eventFilterMaxSizeBytes();
     }
 
     /**
@@ -174,9 +240,31 @@ public class ShadowgraphSynchronizer extends AbstractShadowgraphSynchronizer {
             final List<ShadowEvent> knownTips = getMyTipsTheyKnow(connection, myTips, theirBooleans);
             eventsTheyHave.addAll(knownTips);
 
+            // Optional step: each peer tells the other which non-ancient events it has, so that only events
+            // the other side is missing are sent. Both sides agree on this step when the connection is established.
+            EventHashFilter theirEventFilter = null;
+            if (eventFilterEnabled
+                    && peerSyncVersion.applyAsInt(connection.getOtherId())
+                            >= SyncVersionHandshake.EVENT_FILTER_SYNC_VERSION) {
+                final EventHashFilter myEventFilter = createEventFilter(
+                        myTips,
+                        myWindow,
+                        eventFilterFalsePositiveRate,
+                        eventFilterMaxSizeBytes,
+                        ThreadLocalRandom.current().nextLong());
+                theirEventFilter = readWriteParallel(
+                        readTheirEventFilter(connection, eventFilterMaxSizeBytes),
+                        writeMyEventFilter(connection, myEventFilter),
+                        connection);
+            }
+
             // create a send list based on the known set
             sendList = createSendList(
-                    connection.getSelfId(), eventsTheyHave, myWindow, theirTipsAndEventWindow.eventWindow());
+                    connection.getSelfId(),
+                    eventsTheyHave,
+                    myWindow,
+                    theirTipsAndEventWindow.eventWindow(),
+                    theirEventFilter);
         }
 
         final SyncConfig syncConfig = platformContext.getConfiguration().getConfigData(SyncConfig.class);
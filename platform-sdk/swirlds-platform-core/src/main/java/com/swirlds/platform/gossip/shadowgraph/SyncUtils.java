@@ -171,6 +171,53 @@ public final class SyncUtils {
         };
     }
 
+    /**
+     * Send the peer a filter of the events I have. The complementary function to
+     * {@link #readTheirEventFilter(Connection, int)}.
+     *
+     * @param connection the connection to write to
+     * @param filter     the filter of the hashes of my non-ancient events
+     * @return a {@link Callable} that writes the filter
+     */
+    public static Callable<Void> writeMyEventFilter(
+            @NonNull final Connection connection, @NonNull final EventHashFilter filter) {
+        return () -> {
+            filter.serialize(connection.getDos());
+            connection.getDos().flush();
+            if (logger.isDebugEnabled(SYNC_INFO.getMarker())) {
+                logger.debug(
+                        SYNC_INFO.getMarker(),
+                        "{} sent event filter of {} bytes",
+                        connection.getDescription(),
+                        filter.getSizeBytes());
+            }
+            return null;
+        };
+    }
+
+    /**
+     * Read a filter of the events the peer has. The complementary function to
+     * {@link #writeMyEventFilter(Connection, EventHashFilter)}.
+     *
+     * @param connection   the connection to read from
+     * @param maxSizeBytes the maximum size of the filter in bytes
+     * @return a {@link Callable} that reads the filter
+     */
+    public static Callable<EventHashFilter> readTheirEventFilter(
+            @NonNull final Connection connection, final int maxSizeBytes) {
+        return () -> {
+            final EventHashFilter filter = EventHashFilter.deserialize(connection.getDis(), maxSizeBytes);
+            if (logger.isDebugEnabled(SYNC_INFO.getMarker())) {
+                logger.debug(
+                        SYNC_INFO.getMarker(),
+                        "{} received event filter of {} bytes",
+                        connection.getDescription(),
+                        filter.getSizeBytes());
+            }
+            return filter;
+        };
+    }
+
     /**
      * Send the events the peer needs. The complementary function to
      * {@link #readEventsINeed(Connection, Consumer, int, SyncMetrics, CountDownLatch, IntakeEventCounter, Duration)}.
@@ -47,6 +47,17 @@ import java.time.Duration;
  *                                           second, regardless of this setting)
  * @param rpcIdleDispatchPollTimeout         how long should gossip rpc mechanism wait between dispatch actions if no
  *                                           events are ready to be processed (for example synchronization start)
+ * @param eventFilterEnabled                 if true, and the peer supports it, each side of a sync sends a Bloom filter
+ *                                           of the hashes of its non-ancient events before events are exchanged, and
+ *                                           events the peer already has are not sent. Ignored for rpc sync. When
+ *                                           enabled, a sync version handshake is added to every new connection, so
+ *                                           this must be enabled on all nodes of the network together. When disabled,
+ *                                           connections and syncs are unchanged.
+ * @param eventFilterFalsePositiveRate       the desired probability that the event filter reports an event as known
+ *                                           to the peer when it is not, such an event is not sent during that sync
+ * @param eventFilterMaxSizeBytes            the maximum size of an event filter in bytes, if a filter would need to be
+ *                                           larger to achieve {@link #eventFilterFalsePositiveRate}, it is capped at
+ *                                           this size and will have more false positives
  */
 @ConfigData("sync")
 public record SyncConfig(
@@ -66,4 +77,7 @@ public record SyncConfig(
         @ConfigProperty(defaultValue = "1") int minimumHealthyUnrevokedPermitCount,
         @ConfigProperty(defaultValue = "0ms") Duration rpcSleepAfterSync,
         @ConfigProperty(defaultValue = "5ms") Duration rpcIdleWritePollTimeout,
-        @ConfigProperty(defaultValue = "5ms") Duration rpcIdleDispatchPollTimeout) {}
+        @ConfigProperty(defaultValue = "5ms") Duration rpcIdleDispatchPollTimeout,
+        @ConfigProperty(defaultValue = "false") boolean eventFilterEnabled,
+        @ConfigProperty(defaultValue = "0.01") double eventFilterFalsePositiveRate,
+        @ConfigProperty(defaultValue = "65536") int eventFilterMaxSizeBytes) {}
@@ -236,6 +236,13 @@ public class EventImpl implements Clearable {
         return lastSee[m];
     }
 
+    /**
+     * @return last ancestor created by each member (memoizes lastSee function from Swirlds-TR-2020-01)
+     */
+    public EventImpl[] getLastSee() {
+        return lastSee;
+    }
+
     /**
      * remember event, the last ancestor created by m (memoizes lastSee function from
      * Swirlds-TR-2020-01)
@@ -0,0 +1,124 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.metrics;
+
+import static com.swirlds.metrics.api.Metrics.PLATFORM_CATEGORY;
+import static java.util.Objects.requireNonNull;
+
+import com.swirlds.base.time.Time;
+import com.swirlds.common.context.PlatformContext;
+import com.swirlds.metrics.api.LongGauge;
+import com.swirlds.metrics.api.Metrics;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import org.hiero.consensus.model.status.PlatformStatus;
+
+/**
+ * Metrics for the time it takes to start a node, from the JVM start to the moment the platform becomes
+ * {@link PlatformStatus#ACTIVE} for the first time. The startup time is broken down by phase: loading the saved
+ * state from disk, every platform status before the first ACTIVE status, and the rest of the time, which is mostly
+ * spent initializing the application and the platform.
+ */
+public class StartupMetrics {
+
+    private static final String STARTUP_TIME_NAME = "startupTime";
+
+    private static final LongGauge.Config TOTAL_TIME_CONFIG = new LongGauge.Config(PLATFORM_CATEGORY, STARTUP_TIME_NAME)
+            .withDescription("The time from the JVM start to the moment the platform became ACTIVE for the first time")
+            .withUnit("milliseconds");
+    private final LongGauge totalTime;
+
+    private static final LongGauge.Config STATE_LOADING_TIME_CONFIG = new LongGauge.Config(
+                    PLATFORM_CATEGORY, STARTUP_TIME_NAME + "_stateLoading")
+            .withDescription("The time spent reading and hashing the saved state at startup")
+            .withUnit("milliseconds");
+    private final LongGauge stateLoadingTime;
+
+    private static final LongGauge.Config OTHER_TIME_CONFIG = new LongGauge.Config(
+                    PLATFORM_CATEGORY, STARTUP_TIME_NAME + "_other")
+            .withDescription("The part of the startup time not spent loading the saved state or in any platform "
+                    + "status, mostly initialization of the application and the platform")
+            .withUnit("milliseconds");
+    private final LongGauge otherTime;
+
+    /** Time spent in every platform status before the platform became ACTIVE for the first time */
+    private final Map<PlatformStatus, LongGauge> statusTimes = new EnumMap<>(PlatformStatus.class);
+
+    private final Time time;
+
+    private final Instant processStartTime;
+
+    /** Total time spent in all platform statuses so far, in milliseconds */
+    private long totalStatusMillis = 0;
+
+    /** Whether the platform has already become ACTIVE */
+    private boolean startupComplete = false;
+
+    /**
+     * Constructor
+     *
+     * @param platformContext  the platform context
+     * @param processStartTime the time when the JVM was started
+     */
+    public StartupMetrics(@NonNull final PlatformContext platformContext, @NonNull final Instant processStartTime) {
+        this.time = platformContext.getTime();
+        this.processStartTime = requireNonNull(processStartTime);
+
+        final Metrics metrics = platformContext.getMetrics();
+        totalTime = metrics.getOrCreate(TOTAL_TIME_CONFIG);
+        stateLoadingTime = metrics.getOrCreate(STATE_LOADING_TIME_CONFIG);
+        otherTime = metrics.getOrCreate(OTHER_TIME_CONFIG);
+        for (final PlatformStatus status : PlatformStatus.values()) {
+            if (status == PlatformStatus.ACTIVE) {
+                continue;
+            }
+            final String name = STARTUP_TIME_NAME + "_" + status.name();
+            final LongGauge.Config config = new LongGauge.Config(PLATFORM_CATEGORY, name)
+                    .withDescription("The time spent in " + status.name()
+                            + " status before the platform became ACTIVE for the first time")
+                    .withUnit("milliseconds");
+            statusTimes.put(status, metrics.getOrCreate(config));
+        }
+    }
+
+    /**
+     * Records the time spent loading the saved state at startup. The state is loaded before the platform is built,
+     * so this method doesn't require a {@link StartupMetrics} instance.
+     *
+     * @param metrics  the metrics system
+     * @param duration the time spent reading and hashing the saved state
+     */
+    public static void recordStateLoadingTime(@NonNull final Metrics metrics, @NonNull final Duration duration) {
+        metrics.getOrCreate(STATE_LOADING_TIME_CONFIG).set(duration.toMillis());
+    }
+
+    /**
+     * Records a platform status change. Nothing is recorded after the platform becomes ACTIVE for the first time.
+     *
+     * @param previousStatus         the previous status
+     * @param previousStatusDuration the time spent in the previous status
+     * @param newStatus              the new status
+     */
+    public void statusChanged(
+            @NonNull final PlatformStatus previousStatus,
+            @NonNull final Duration previousStatusDuration,
+            @NonNull final PlatformStatus newStatus) {
+        if (startupComplete) {
+            return;
+        }
+        // A status may be entered more than once during startup, e.g. CHECKING after BEHIND
+        final LongGauge statusTime = statusTimes.get(previousStatus);
+        final long statusMillis = previousStatusDuration.toMillis();
+        statusTime.set(statusTime.get() + statusMillis);
+        totalStatusMillis += statusMillis;
+
+        if (newStatus == PlatformStatus.ACTIVE) {
+            startupComplete = true;
+            final long totalMillis = Math.max(0, Duration.between(processStartTime, time.now()).toMillis());
+            totalTime.set(totalMillis);
+            otherTime.set(Math.max(0, totalMillis - totalStatusMillis - stateLoadingTime.get()));
+        }
+    }
+}
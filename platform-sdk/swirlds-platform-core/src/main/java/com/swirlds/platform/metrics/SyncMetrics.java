@@ -169,6 +169,7 @@ public class SyncMetrics {
     private final AverageTimeStat avgSyncDuration5;
     private final AverageAndMaxTimeStat avgSyncDuration;
     private final AverageStat knownSetSize;
+    private final AverageStat eventsSkippedByFilter;
     private final AverageAndMax avgEventsPerSyncSent;
     private final AverageAndMax avgEventsPerSyncRec;
     private final MaxStat multiTipsPerSync;
@@ -289,6 +290,14 @@ public class SyncMetrics {
                 FORMAT_10_3,
                 AverageStat.WEIGHT_VOLATILE);
 
+        eventsSkippedByFilter = new AverageStat(
+                metrics,
+                PLATFORM_CATEGORY,
+                "eventFilterSkipped",
+                "the average number of events per sync not sent because the peer's event filter contained them",
+                FORMAT_10_3,
+                AverageStat.WEIGHT_VOLATILE);
+
         multiTipsPerSync = new MaxStat(
                 metrics,
                 PLATFORM_CATEGORY,
@@ -363,6 +372,15 @@ public class SyncMetrics {
         this.knownSetSize.update(knownSetSize);
     }
 
+    /**
+     * Records the number of events that were not sent during a sync because the peer's event filter contained them.
+     *
+     * @param eventsSkipped the number of events not sent
+     */
+    public void eventsSkippedByFilter(final int eventsSkipped) {
+        this.eventsSkippedByFilter.update(eventsSkipped);
+    }
+
     /**
      * Notifies the stats that a sync is done
      *
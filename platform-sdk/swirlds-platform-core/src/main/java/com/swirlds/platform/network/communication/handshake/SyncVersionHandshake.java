@@ -0,0 +1,68 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.network.communication.handshake;
+
+import com.swirlds.platform.network.Connection;
+import com.swirlds.platform.network.NetworkProtocolException;
+import com.swirlds.platform.network.protocol.ProtocolRunnable;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import org.hiero.consensus.model.node.NodeId;
+
+/**
+ * Exchanges the highest sync version supported with the peer. The version used for syncs over the connection is the
+ * lower of the two, so that a node can enable a new sync phase without breaking syncs with peers that have not.
+ * <p>
+ * The negotiated version is kept per peer, and is replaced every time a new connection to the peer is established.
+ */
+public class SyncVersionHandshake implements ProtocolRunnable {
+
+    /**
+     * Sync that exchanges tips, then events
+     */
+    public static final int BASE_SYNC_VERSION = 1;
+
+    /**
+     * Sync that exchanges tips, then filters of known events, then events
+     */
+    public static final int EVENT_FILTER_SYNC_VERSION = 2;
+
+    private final int supportedVersion;
+    private final Map<NodeId, Integer> negotiatedVersions = new ConcurrentHashMap<>();
+
+    /**
+     * @param supportedVersion the highest sync version this node supports
+     */
+    public SyncVersionHandshake(final int supportedVersion) {
+        if (supportedVersion < BASE_SYNC_VERSION) {
+            throw new IllegalArgumentException("invalid sync version: " + supportedVersion);
+        }
+        this.supportedVersion = supportedVersion;
+    }
+
+    @Override
+    public void runProtocol(@NonNull final Connection connection)
+            throws NetworkProtocolException, IOException, InterruptedException {
+        connection.getDos().writeInt(supportedVersion);
+        connection.getDos().flush();
+        final int peerVersion = connection.getDis().readInt();
+        if (peerVersion < BASE_SYNC_VERSION) {
+            throw new HandshakeException(String.format(
+                    "Invalid sync version. Self version is %d, peer version is %d", supportedVersion, peerVersion));
+        }
+        negotiatedVersions.put(connection.getOtherId(), Math.min(supportedVersion, peerVersion));
+    }
+
+    /**
+     * Get the sync version agreed with a peer on the latest connection to it.
+     *
+     * @param peerId the peer
+     * @return the negotiated version, or {@link #BASE_SYNC_VERSION} if no connection to the peer has completed the
+     * handshake
+     */
+    public int getNegotiatedVersion(@NonNull final NodeId peerId) {
+        return negotiatedVersions.getOrDefault(Objects.requireNonNull(peerId), BASE_SYNC_VERSION);
+    }
+}
@@ -18,6 +18,7 @@ import com.swirlds.platform.config.BasicConfig;
 import com.swirlds.platform.config.StateConfig;
 import com.swirlds.platform.crypto.CryptoStatic;
 import com.swirlds.platform.internal.SignedStateLoadingException;
+import com.swirlds.platform.metrics.StartupMetrics;
 import com.swirlds.platform.state.MerkleNodeState;
 import com.swirlds.platform.state.service.PlatformStateFacade;
 import com.swirlds.platform.state.snapshot.DeserializedSignedState;
@@ -29,6 +30,7 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.function.Supplier;
@@ -141,8 +143,12 @@ public final class StartupStateUtils {
             return createNullReservation();
         }
 
-        return loadLatestState(
+        final Instant loadingStartTime = platformContext.getTime().now();
+        final ReservedSignedState state = loadLatestState(
                 recycleBin, currentSoftwareVersion, savedStateFiles, platformStateFacade, platformContext);
+        StartupMetrics.recordStateLoadingTime(
+                platformContext.getMetrics(), Duration.between(loadingStartTime, platformContext.getTime().now()));
+        return state;
     }
 
     /**
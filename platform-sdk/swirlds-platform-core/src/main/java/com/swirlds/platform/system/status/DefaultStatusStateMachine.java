@@ -9,6 +9,7 @@ import com.swirlds.base.time.Time;
 import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.formatting.UnitFormatter;
 import com.swirlds.logging.legacy.payload.PlatformStatusPayload;
+import com.swirlds.platform.metrics.StartupMetrics;
 import com.swirlds.platform.system.status.actions.CatastrophicFailureAction;
 import com.swirlds.platform.system.status.actions.DoneReplayingEventsAction;
 import com.swirlds.platform.system.status.actions.FallenBehindAction;
@@ -23,6 +24,7 @@ import com.swirlds.platform.system.status.logic.PlatformStatusLogic;
 import com.swirlds.platform.system.status.logic.StartingUpStatusLogic;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
+import java.lang.management.ManagementFactory;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Objects;
@@ -53,6 +55,11 @@ public class DefaultStatusStateMachine implements StatusStateMachine {
 
     private final PlatformStatusMetrics metrics;
 
+    /**
+     * Time spent in every status until the platform becomes active for the first time
+     */
+    private final StartupMetrics startupMetrics;
+
     /**
      * Constructor
      *
@@ -64,6 +71,8 @@ public class DefaultStatusStateMachine implements StatusStateMachine {
                 new StartingUpStatusLogic(platformContext.getConfiguration().getConfigData(PlatformStatusConfig.class));
         this.currentStatusStartTime = time.now();
         this.metrics = new PlatformStatusMetrics(platformContext);
+        this.startupMetrics = new StartupMetrics(
+                platformContext, Instant.ofEpochMilli(ManagementFactory.getRuntimeMXBean().getStartTime()));
     }
 
     /**
@@ -144,12 +153,14 @@ public class DefaultStatusStateMachine implements StatusStateMachine {
                 PLATFORM_STATUS.getMarker(),
                 () -> new PlatformStatusPayload(statusChangeMessage, previousStatusName, newStatusName).toString());
 
+        final PlatformStatus previousStatus = currentStatusLogic.getStatus();
         currentStatusLogic = newLogic;
 
         final PlatformStatus newStatus = currentStatusLogic.getStatus();
         currentStatusStartTime = time.now();
 
         metrics.setCurrentStatus(newStatus);
+        startupMetrics.statusChanged(previousStatus, statusDuration, newStatus);
         return newStatus;
     }
 
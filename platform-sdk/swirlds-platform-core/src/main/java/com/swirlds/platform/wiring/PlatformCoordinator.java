@@ -9,8 +9,6 @@ import com.swirlds.platform.event.branching.BranchDetector;
 import com.swirlds.platform.event.branching.BranchReporter;
 import com.swirlds.platform.event.deduplication.EventDeduplicator;
 import com.swirlds.platform.event.orphan.OrphanBuffer;
-import com.swirlds.platform.event.preconsensus.InlinePcesWriter;
-import com.swirlds.platform.event.validation.EventSignatureValidator;
 import com.swirlds.platform.event.validation.InternalEventValidator;
 import com.swirlds.platform.eventhandling.TransactionHandler;
 import com.swirlds.platform.eventhandling.TransactionHandlerResult;
@@ -21,7 +19,6 @@ import com.swirlds.platform.state.signed.StateSignatureCollector;
 import com.swirlds.platform.system.status.StatusStateMachine;
 import com.swirlds.platform.wiring.components.GossipWiring;
 import edu.umd.cs.findbugs.annotations.NonNull;
-import edu.umd.cs.findbugs.annotations.Nullable;
 import java.util.List;
 import java.util.Objects;
 import java.util.Queue;
@@ -46,7 +43,11 @@ public class PlatformCoordinator {
 
     private final ComponentWiring<InternalEventValidator, PlatformEvent> internalEventValidatorWiring;
     private final ComponentWiring<EventDeduplicator, PlatformEvent> eventDeduplicatorWiring;
-    private final ComponentWiring<EventSignatureValidator, PlatformEvent> eventSignatureValidatorWiring;
+    /**
+     * Flushes the event signature validator.
+     */
+    private final Runnable flushTheEventSignatureValidator;
+
     private final ComponentWiring<OrphanBuffer, List<PlatformEvent>> orphanBufferWiring;
     private final GossipWiring gossipWiring;
     private final ComponentWiring<ConsensusEngine, List<ConsensusRound>> consensusEngineWiring;
@@ -62,7 +63,10 @@ public class PlatformCoordinator {
     private final ComponentWiring<StatusStateMachine, PlatformStatus> statusStateMachineWiring;
     private final ComponentWiring<BranchDetector, PlatformEvent> branchDetectorWiring;
     private final ComponentWiring<BranchReporter, Void> branchReporterWiring;
-    private final ComponentWiring<InlinePcesWriter, PlatformEvent> pcesInlineWriterWiring;
+    /**
+     * Flushes the PCES writer.
+     */
+    private final Runnable flushThePcesWriter;
 
     /**
      * Constructor
@@ -70,7 +74,8 @@ public class PlatformCoordinator {
      * @param flushTheEventHasher                    a lambda that flushes the event hasher
      * @param internalEventValidatorWiring           the internal event validator wiring
      * @param eventDeduplicatorWiring                the event deduplicator wiring
-     * @param eventSignatureValidatorWiring          the event signature validator wiring
+     * @param flushTheEventSignatureValidator        a lambda that flushes the event signature validator, including
+     *                                               events waiting in a signature verification batch
      * @param orphanBufferWiring                     the orphan buffer wiring
      * @param gossipWiring                           gossip wiring
      * @param consensusEngineWiring                  the consensus engine wiring
@@ -84,13 +89,14 @@ public class PlatformCoordinator {
      * @param statusStateMachineWiring               the status state machine wiring
      * @param branchDetectorWiring                   the branch detector wiring
      * @param branchReporterWiring                   the branch reporter wiring
-     * @param pcesInlineWriterWiring                 the inline PCES writer wiring
+     * @param flushThePcesWriter                     a lambda that flushes the PCES writer, including events waiting
+     *                                               for a group commit
      */
     public PlatformCoordinator(
             @NonNull final Runnable flushTheEventHasher,
             @NonNull final ComponentWiring<InternalEventValidator, PlatformEvent> internalEventValidatorWiring,
             @NonNull final ComponentWiring<EventDeduplicator, PlatformEvent> eventDeduplicatorWiring,
-            @NonNull final ComponentWiring<EventSignatureValidator, PlatformEvent> eventSignatureValidatorWiring,
+            @NonNull final Runnable flushTheEventSignatureValidator,
             @NonNull final ComponentWiring<OrphanBuffer, List<PlatformEvent>> orphanBufferWiring,
             @NonNull final GossipWiring gossipWiring,
             @NonNull final ComponentWiring<ConsensusEngine, List<ConsensusRound>> consensusEngineWiring,
@@ -111,12 +117,12 @@ public class PlatformCoordinator {
             @NonNull final ComponentWiring<StatusStateMachine, PlatformStatus> statusStateMachineWiring,
             @NonNull final ComponentWiring<BranchDetector, PlatformEvent> branchDetectorWiring,
             @NonNull final ComponentWiring<BranchReporter, Void> branchReporterWiring,
-            @Nullable final ComponentWiring<InlinePcesWriter, PlatformEvent> pcesInlineWriterWiring) {
+            @NonNull final Runnable flushThePcesWriter) {
 
         this.flushTheEventHasher = Objects.requireNonNull(flushTheEventHasher);
         this.internalEventValidatorWiring = Objects.requireNonNull(internalEventValidatorWiring);
         this.eventDeduplicatorWiring = Objects.requireNonNull(eventDeduplicatorWiring);
-        this.eventSignatureValidatorWiring = Objects.requireNonNull(eventSignatureValidatorWiring);
+        this.flushTheEventSignatureValidator = Objects.requireNonNull(flushTheEventSignatureValidator);
         this.orphanBufferWiring = Objects.requireNonNull(orphanBufferWiring);
         this.gossipWiring = Objects.requireNonNull(gossipWiring);
         this.consensusEngineWiring = Objects.requireNonNull(consensusEngineWiring);
@@ -130,7 +136,7 @@ public class PlatformCoordinator {
         this.statusStateMachineWiring = Objects.requireNonNull(statusStateMachineWiring);
         this.branchDetectorWiring = Objects.requireNonNull(branchDetectorWiring);
         this.branchReporterWiring = Objects.requireNonNull(branchReporterWiring);
-        this.pcesInlineWriterWiring = pcesInlineWriterWiring;
+        this.flushThePcesWriter = Objects.requireNonNull(flushThePcesWriter);
     }
 
     /**
@@ -147,11 +153,9 @@ public class PlatformCoordinator {
         flushTheEventHasher.run();
         internalEventValidatorWiring.flush();
         eventDeduplicatorWiring.flush();
-        eventSignatureValidatorWiring.flush();
+        flushTheEventSignatureValidator.run();
         orphanBufferWiring.flush();
-        if (pcesInlineWriterWiring != null) {
-            pcesInlineWriterWiring.flush();
-        }
+        flushThePcesWriter.run();
         gossipWiring.flush();
         consensusEngineWiring.flush();
         applicationTransactionPrehandlerWiring.flush();
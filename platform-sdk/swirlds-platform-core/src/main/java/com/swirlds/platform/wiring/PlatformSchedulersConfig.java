@@ -10,12 +10,19 @@ import java.time.Duration;
  * Contains configuration values for the platform schedulers.
  *
  * @param internalEventValidator               configuration for the internal event validator scheduler
- * @param eventDeduplicator                    configuration for the event deduplicator scheduler
+ * @param eventDeduplicator                    configuration for the event deduplicator scheduler. If it is backed by
+ *                                             a ring buffer (RING_BUFFER(n)), events are deduplicated in batches
  * @param eventSignatureValidator              configuration for the event signature validator scheduler
- * @param orphanBuffer                         configuration for the orphan buffer scheduler
+ * @param eventSignatureBatchValidator         configuration for the batching event signature validator scheduler,
+ *                                             used instead of the event signature validator if batching is enabled
+ * @param orphanBuffer                         configuration for the orphan buffer scheduler. If it is backed by a
+ *                                             ring buffer (RING_BUFFER(n)), events are buffered in batches
  * @param consensusEngine                      configuration for the consensus engine scheduler
  * @param eventCreationManager                 configuration for the event creation manager scheduler
  * @param stateSigner                          configuration for the state signer scheduler
+ * @param pcesInlineWriter                     configuration for the inline preconsensus event writer scheduler
+ * @param pcesGroupCommitWriter                configuration for the group commit preconsensus event writer scheduler,
+ *                                             used instead of the inline writer if group commit is enabled
  * @param pcesSequencer                        configuration for the preconsensus event sequencer scheduler
  * @param applicationTransactionPrehandler     configuration for the application transaction prehandler scheduler
  * @param stateSignatureCollector              configuration for the state signature collector scheduler
@@ -51,6 +58,8 @@ public record PlatformSchedulersConfig(
                 TaskSchedulerConfiguration eventDeduplicator,
         @ConfigProperty(defaultValue = "CONCURRENT CAPACITY(500) FLUSHABLE UNHANDLED_TASK_METRIC")
                 TaskSchedulerConfiguration eventSignatureValidator,
+        @ConfigProperty(defaultValue = "SEQUENTIAL CAPACITY(5000) FLUSHABLE UNHANDLED_TASK_METRIC BUSY_FRACTION_METRIC")
+                TaskSchedulerConfiguration eventSignatureBatchValidator,
         @ConfigProperty(defaultValue = "SEQUENTIAL CAPACITY(500) FLUSHABLE UNHANDLED_TASK_METRIC")
                 TaskSchedulerConfiguration orphanBuffer,
         @ConfigProperty(
@@ -65,6 +74,8 @@ public record PlatformSchedulersConfig(
                 TaskSchedulerConfiguration stateSigner,
         @ConfigProperty(defaultValue = "SEQUENTIAL CAPACITY(500) FLUSHABLE UNHANDLED_TASK_METRIC BUSY_FRACTION_METRIC")
                 TaskSchedulerConfiguration pcesInlineWriter,
+        @ConfigProperty(defaultValue = "SEQUENTIAL CAPACITY(500) FLUSHABLE UNHANDLED_TASK_METRIC BUSY_FRACTION_METRIC")
+                TaskSchedulerConfiguration pcesGroupCommitWriter,
         @ConfigProperty(defaultValue = "SEQUENTIAL CAPACITY(500) FLUSHABLE UNHANDLED_TASK_METRIC BUSY_FRACTION_METRIC")
                 TaskSchedulerConfiguration futureEventBuffer,
         @ConfigProperty(defaultValue = "DIRECT") TaskSchedulerConfiguration pcesSequencer,
@@ -34,10 +34,14 @@ import com.swirlds.platform.event.branching.BranchDetector;
 import com.swirlds.platform.event.branching.BranchReporter;
 import com.swirlds.platform.event.deduplication.EventDeduplicator;
 import com.swirlds.platform.event.orphan.OrphanBuffer;
+import com.swirlds.platform.event.preconsensus.GroupCommitPcesWriter;
 import com.swirlds.platform.event.preconsensus.InlinePcesWriter;
+import com.swirlds.platform.event.preconsensus.PcesConfig;
 import com.swirlds.platform.event.preconsensus.PcesReplayer;
 import com.swirlds.platform.event.resubmitter.TransactionResubmitter;
 import com.swirlds.platform.event.stream.ConsensusEventStream;
+import com.swirlds.platform.event.validation.EventSignatureBatchValidator;
+import com.swirlds.platform.event.validation.EventSignatureValidationConfig;
 import com.swirlds.platform.event.validation.EventSignatureValidator;
 import com.swirlds.platform.event.validation.InternalEventValidator;
 import com.swirlds.platform.eventhandling.StateWithHashComplexity;
@@ -102,6 +106,14 @@ public class PlatformWiring {
     private final ComponentWiring<InternalEventValidator, PlatformEvent> internalEventValidatorWiring;
     private final ComponentWiring<EventDeduplicator, PlatformEvent> eventDeduplicatorWiring;
     private final ComponentWiring<EventSignatureValidator, PlatformEvent> eventSignatureValidatorWiring;
+    private final ComponentWiring<EventSignatureBatchValidator, List<PlatformEvent>>
+            eventSignatureBatchValidatorWiring;
+    private final boolean batchEventSignatureValidation;
+    /**
+     * The batching event signature validator, it's stopped when the platform is stopped. Null if batching is disabled.
+     */
+    @Nullable
+    private EventSignatureBatchValidator eventSignatureBatchValidator;
     private final ComponentWiring<OrphanBuffer, List<PlatformEvent>> orphanBufferWiring;
     private final ComponentWiring<ConsensusEngine, List<ConsensusRound>> consensusEngineWiring;
     private final ComponentWiring<EventCreationManager, PlatformEvent> eventCreationManagerWiring;
@@ -109,6 +121,8 @@ public class PlatformWiring {
     private final ComponentWiring<StateSigner, StateSignatureTransaction> stateSignerWiring;
     private final PcesReplayerWiring pcesReplayerWiring;
     private final ComponentWiring<InlinePcesWriter, PlatformEvent> pcesInlineWriterWiring;
+    private final ComponentWiring<GroupCommitPcesWriter, List<PlatformEvent>> pcesGroupCommitWriterWiring;
+    private final boolean pcesGroupCommit;
     private final ComponentWiring<TransactionPrehandler, Queue<ScopedSystemTransaction<StateSignatureTransaction>>>
             applicationTransactionPrehandlerWiring;
     private final ComponentWiring<StateSignatureCollector, List<ReservedSignedState>> stateSignatureCollectorWiring;
@@ -167,8 +181,19 @@ public class PlatformWiring {
         internalEventValidatorWiring =
                 new ComponentWiring<>(model, InternalEventValidator.class, config.internalEventValidator());
         eventDeduplicatorWiring = new ComponentWiring<>(model, EventDeduplicator.class, config.eventDeduplicator());
-        eventSignatureValidatorWiring =
-                new ComponentWiring<>(model, EventSignatureValidator.class, config.eventSignatureValidator());
+        // Only one of the signature validators is used, the other one gets a no-op scheduler
+        batchEventSignatureValidation = platformContext
+                .getConfiguration()
+                .getConfigData(EventSignatureValidationConfig.class)
+                .batchingEnabled();
+        eventSignatureValidatorWiring = new ComponentWiring<>(
+                model,
+                EventSignatureValidator.class,
+                batchEventSignatureValidation ? NO_OP_CONFIGURATION : config.eventSignatureValidator());
+        eventSignatureBatchValidatorWiring = new ComponentWiring<>(
+                model,
+                EventSignatureBatchValidator.class,
+                batchEventSignatureValidation ? config.eventSignatureBatchValidator() : NO_OP_CONFIGURATION);
         orphanBufferWiring = new ComponentWiring<>(model, OrphanBuffer.class, config.orphanBuffer());
         consensusEngineWiring = new ComponentWiring<>(model, ConsensusEngine.class, config.consensusEngine());
 
@@ -203,7 +228,17 @@ public class PlatformWiring {
 
         pcesReplayerWiring = PcesReplayerWiring.create(model);
 
-        pcesInlineWriterWiring = new ComponentWiring<>(model, InlinePcesWriter.class, config.pcesInlineWriter());
+        // Only one of the PCES writers is used, the other one gets a no-op scheduler
+        pcesGroupCommit = platformContext
+                .getConfiguration()
+                .getConfigData(PcesConfig.class)
+                .groupCommitEnabled();
+        pcesInlineWriterWiring = new ComponentWiring<>(
+                model, InlinePcesWriter.class, pcesGroupCommit ? NO_OP_CONFIGURATION : config.pcesInlineWriter());
+        pcesGroupCommitWriterWiring = new ComponentWiring<>(
+                model,
+                GroupCommitPcesWriter.class,
+                pcesGroupCommit ? config.pcesGroupCommitWriter() : NO_OP_CONFIGURATION);
 
         eventWindowManagerWiring =
                 new ComponentWiring<>(model, EventWindowManager.class, DIRECT_THREADSAFE_CONFIGURATION);
@@ -254,7 +289,9 @@ public class PlatformWiring {
                 eventHasherWiring::flush,
                 internalEventValidatorWiring,
                 eventDeduplicatorWiring,
-                eventSignatureValidatorWiring,
+                batchEventSignatureValidation
+                        ? this::flushEventSignatureBatchValidator
+                        : eventSignatureValidatorWiring::flush,
                 orphanBufferWiring,
                 gossipWiring,
                 consensusEngineWiring,
@@ -268,7 +305,7 @@ public class PlatformWiring {
                 statusStateMachineWiring,
                 branchDetectorWiring,
                 branchReporterWiring,
-                pcesInlineWriterWiring);
+                pcesGroupCommit ? this::flushPcesGroupCommitWriter : pcesInlineWriterWiring::flush);
 
         wire();
     }
@@ -292,10 +329,15 @@ public class PlatformWiring {
         eventWindowOutputWire.solderTo(eventDeduplicatorWiring.getInputWire(EventDeduplicator::setEventWindow), INJECT);
         eventWindowOutputWire.solderTo(
                 eventSignatureValidatorWiring.getInputWire(EventSignatureValidator::setEventWindow), INJECT);
+        eventWindowOutputWire.solderTo(
+                eventSignatureBatchValidatorWiring.getInputWire(EventSignatureBatchValidator::setEventWindow), INJECT);
         eventWindowOutputWire.solderTo(orphanBufferWiring.getInputWire(OrphanBuffer::setEventWindow), INJECT);
         eventWindowOutputWire.solderTo(gossipWiring.getEventWindowInput(), INJECT);
         eventWindowOutputWire.solderTo(
                 pcesInlineWriterWiring.getInputWire(InlinePcesWriter::updateNonAncientEventBoundary), INJECT);
+        eventWindowOutputWire.solderTo(
+                pcesGroupCommitWriterWiring.getInputWire(GroupCommitPcesWriter::updateNonAncientEventBoundary),
+                INJECT);
         eventWindowOutputWire.solderTo(
                 eventCreationManagerWiring.getInputWire(EventCreationManager::setEventWindow), INJECT);
         eventWindowOutputWire.solderTo(
@@ -336,32 +378,66 @@ public class PlatformWiring {
                 .getOutputWire()
                 .solderTo(internalEventValidatorWiring.getInputWire(InternalEventValidator::validateEvent));
 
-        internalEventValidatorWiring
-                .getOutputWire()
-                .solderTo(eventDeduplicatorWiring.getInputWire(EventDeduplicator::handleEvent));
-        eventDeduplicatorWiring
-                .getOutputWire()
-                .solderTo(eventSignatureValidatorWiring.getInputWire(EventSignatureValidator::validateSignature));
-        eventSignatureValidatorWiring
-                .getOutputWire()
-                .solderTo(orphanBufferWiring.getInputWire(OrphanBuffer::handleEvent));
+        // Schedulers backed by a ring buffer hand events to these components in batches
+        final InputWire<PlatformEvent> deduplicatorInputWire = config.eventDeduplicator().ringBufferSize() == null
+                ? eventDeduplicatorWiring.getInputWire(EventDeduplicator::handleEvent)
+                : eventDeduplicatorWiring.getBatchInputWire(EventDeduplicator::handleEvents);
+        final InputWire<PlatformEvent> orphanBufferInputWire = config.orphanBuffer().ringBufferSize() == null
+                ? orphanBufferWiring.getInputWire(OrphanBuffer::handleEvent)
+                : orphanBufferWiring.getBatchInputWire(OrphanBuffer::handleEvents);
+
+        internalEventValidatorWiring.getOutputWire().solderTo(deduplicatorInputWire);
+        if (batchEventSignatureValidation) {
+            eventDeduplicatorWiring
+                    .getOutputWire()
+                    .solderTo(eventSignatureBatchValidatorWiring.getInputWire(EventSignatureBatchValidator::addEvent));
+            eventSignatureBatchValidatorWiring.<PlatformEvent>getSplitOutput().solderTo(orphanBufferInputWire);
+            // Batches that aren't full are verified periodically
+            model.buildHeartbeatWire(platformContext
+                            .getConfiguration()
+                            .getConfigData(EventSignatureValidationConfig.class)
+                            .maxBatchDelay())
+                    .solderTo(
+                            eventSignatureBatchValidatorWiring.getInputWire(
+                                    EventSignatureBatchValidator::verifyPendingEvents),
+                            OFFER);
+        } else {
+            eventDeduplicatorWiring
+                    .getOutputWire()
+                    .solderTo(eventSignatureValidatorWiring.getInputWire(EventSignatureValidator::validateSignature));
+            eventSignatureValidatorWiring.getOutputWire().solderTo(orphanBufferInputWire);
+        }
         final OutputWire<PlatformEvent> splitOrphanBufferOutput = orphanBufferWiring.getSplitOutput();
 
-        splitOrphanBufferOutput.solderTo(pcesInlineWriterWiring.getInputWire(InlinePcesWriter::writeEvent));
+        final OutputWire<PlatformEvent> durableEventOutput;
+        if (pcesGroupCommit) {
+            splitOrphanBufferOutput.solderTo(
+                    pcesGroupCommitWriterWiring.getInputWire(GroupCommitPcesWriter::writeEvent));
+            durableEventOutput = pcesGroupCommitWriterWiring.getSplitOutput();
+            // Events waiting for a group commit are committed periodically
+            model.buildHeartbeatWire(platformContext
+                            .getConfiguration()
+                            .getConfigData(PcesConfig.class)
+                            .groupCommitMaxDelay())
+                    .solderTo(
+                            pcesGroupCommitWriterWiring.getInputWire(GroupCommitPcesWriter::commitPendingEvents),
+                            OFFER);
+        } else {
+            splitOrphanBufferOutput.solderTo(pcesInlineWriterWiring.getInputWire(InlinePcesWriter::writeEvent));
+            durableEventOutput = pcesInlineWriterWiring.getOutputWire();
+        }
 
         // Make sure that an event is persisted before being sent to consensus. This avoids the situation where we
         // reach consensus with events that might be lost due to a crash
-        pcesInlineWriterWiring.getOutputWire().solderTo(consensusEngineWiring.getInputWire(ConsensusEngine::addEvent));
+        durableEventOutput.solderTo(consensusEngineWiring.getInputWire(ConsensusEngine::addEvent));
 
         // Make sure events are persisted before being gossipped. This prevents accidental branching in the case
         // where an event is created, gossipped, and then the node crashes before the event is persisted.
         // After restart, a node will not be aware of this event, so it can create a branch
-        pcesInlineWriterWiring.getOutputWire().solderTo(gossipWiring.getEventInput(), INJECT);
+        durableEventOutput.solderTo(gossipWiring.getEventInput(), INJECT);
 
         // Avoid using events as parents before they are persisted
-        pcesInlineWriterWiring
-                .getOutputWire()
-                .solderTo(eventCreationManagerWiring.getInputWire(EventCreationManager::registerEvent));
+        durableEventOutput.solderTo(eventCreationManagerWiring.getInputWire(EventCreationManager::registerEvent));
 
         model.getHealthMonitorWire()
                 .solderTo(eventCreationManagerWiring.getInputWire(EventCreationManager::reportUnhealthyDuration));
@@ -458,7 +534,14 @@ public class PlatformWiring {
 
         solderEventWindow();
 
-        pcesReplayerWiring.eventOutput().solderTo(hasherInputWire);
+        if (platformContext.getConfiguration().getConfigData(PcesConfig.class).parallelReplay()) {
+            // events are hashed while they are read ahead, so they skip the hasher
+            pcesReplayerWiring
+                    .eventOutput()
+                    .solderTo(internalEventValidatorWiring.getInputWire(InternalEventValidator::validateEvent));
+        } else {
+            pcesReplayerWiring.eventOutput().solderTo(hasherInputWire);
+        }
 
         final OutputWire<ConsensusRound> consensusRoundOutputWire = consensusEngineWiring.getSplitOutput();
 
@@ -467,6 +550,9 @@ public class PlatformWiring {
         pcesReplayerWiring
                 .doneStreamingPcesOutputWire()
                 .solderTo(pcesInlineWriterWiring.getInputWire(InlinePcesWriter::beginStreamingNewEvents));
+        pcesReplayerWiring
+                .doneStreamingPcesOutputWire()
+                .solderTo(pcesGroupCommitWriterWiring.getInputWire(GroupCommitPcesWriter::beginStreamingNewEvents));
         // with inline PCES, the round bypasses the round durability buffer and goes directly to the round handler
         consensusRoundOutputWire.solderTo(
                 transactionHandlerWiring.getInputWire(TransactionHandler::handleConsensusRound));
@@ -548,11 +634,13 @@ public class PlatformWiring {
         hashedStateOutputWire.solderTo(
                 stateSignatureCollectorWiring.getInputWire(StateSignatureCollector::addReservedState));
 
-        stateSnapshotManagerWiring
-                .getTransformedOutput(StateSnapshotManager::extractOldestMinimumBirthRoundOnDisk)
-                .solderTo(
-                        pcesInlineWriterWiring.getInputWire(InlinePcesWriter::setMinimumAncientIdentifierToStore),
-                        INJECT);
+        final OutputWire<Long> minimumBirthRoundOnDiskOutput = stateSnapshotManagerWiring.getTransformedOutput(
+                StateSnapshotManager::extractOldestMinimumBirthRoundOnDisk);
+        minimumBirthRoundOnDiskOutput.solderTo(
+                pcesInlineWriterWiring.getInputWire(InlinePcesWriter::setMinimumAncientIdentifierToStore), INJECT);
+        minimumBirthRoundOnDiskOutput.solderTo(
+                pcesGroupCommitWriterWiring.getInputWire(GroupCommitPcesWriter::setMinimumAncientIdentifierToStore),
+                INJECT);
 
         stateSnapshotManagerWiring
                 .getTransformedOutput(StateSnapshotManager::toStateWrittenToDiskAction)
@@ -610,9 +698,13 @@ public class PlatformWiring {
         notifierWiring.getInputWire(AppNotifier::sendReconnectCompleteNotification);
         notifierWiring.getInputWire(AppNotifier::sendPlatformStatusChangeNotification);
         eventSignatureValidatorWiring.getInputWire(EventSignatureValidator::updateRosterHistory);
+        eventSignatureBatchValidatorWiring.getInputWire(EventSignatureBatchValidator::updateRosterHistory);
+        eventSignatureBatchValidatorWiring.getInputWire(EventSignatureBatchValidator::verifyPendingEvents);
         eventWindowManagerWiring.getInputWire(EventWindowManager::updateEventWindow);
         orphanBufferWiring.getInputWire(OrphanBuffer::clear);
         pcesInlineWriterWiring.getInputWire(InlinePcesWriter::registerDiscontinuity);
+        pcesGroupCommitWriterWiring.getInputWire(GroupCommitPcesWriter::registerDiscontinuity);
+        pcesGroupCommitWriterWiring.getInputWire(GroupCommitPcesWriter::commitPendingEvents);
         stateSignatureCollectorWiring.getInputWire(StateSignatureCollector::clear);
         issDetectorWiring.getInputWire(IssDetector::overridingState);
         issDetectorWiring.getInputWire(IssDetector::signalEndOfPreconsensusReplay);
@@ -653,6 +745,10 @@ public class PlatformWiring {
         internalEventValidatorWiring.bind(builder::buildInternalEventValidator);
         eventDeduplicatorWiring.bind(builder::buildEventDeduplicator);
         eventSignatureValidatorWiring.bind(builder::buildEventSignatureValidator);
+        if (batchEventSignatureValidation) {
+            eventSignatureBatchValidator = builder.buildEventSignatureBatchValidator();
+            eventSignatureBatchValidatorWiring.bind(eventSignatureBatchValidator);
+        }
         orphanBufferWiring.bind(builder::buildOrphanBuffer);
         consensusEngineWiring.bind(builder::buildConsensusEngine);
         stateSnapshotManagerWiring.bind(builder::buildStateSnapshotManager);
@@ -663,6 +759,7 @@ public class PlatformWiring {
         } else {
             pcesInlineWriterWiring.bind(builder::buildInlinePcesWriter);
         }
+        pcesGroupCommitWriterWiring.bind(builder::buildGroupCommitPcesWriter);
         eventCreationManagerWiring.bind(builder::buildEventCreationManager);
         stateSignatureCollectorWiring.bind(stateSignatureCollector);
         eventWindowManagerWiring.bind(eventWindowManager);
@@ -706,9 +803,36 @@ public class PlatformWiring {
      */
     @NonNull
     public InputWire<RosterHistory> getRosterHistoryInput() {
+        if (batchEventSignatureValidation) {
+            return eventSignatureBatchValidatorWiring.getInputWire(EventSignatureBatchValidator::updateRosterHistory);
+        }
         return eventSignatureValidatorWiring.getInputWire(EventSignatureValidator::updateRosterHistory);
     }
 
+    /**
+     * Flush the batching event signature validator. Events waiting in a batch that is not full are verified and sent
+     * further down the intake pipeline.
+     */
+    private void flushEventSignatureBatchValidator() {
+        eventSignatureBatchValidatorWiring.flush();
+        eventSignatureBatchValidatorWiring
+                .getInputWire(EventSignatureBatchValidator::verifyPendingEvents)
+                .inject(NoInput.getInstance());
+        eventSignatureBatchValidatorWiring.flush();
+    }
+
+    /**
+     * Flush the group commit PCES writer. Events waiting for a group commit are synced and sent to the components that
+     * need durable events.
+     */
+    private void flushPcesGroupCommitWriter() {
+        pcesGroupCommitWriterWiring.flush();
+        pcesGroupCommitWriterWiring
+                .getInputWire(GroupCommitPcesWriter::commitPendingEvents)
+                .inject(NoInput.getInstance());
+        pcesGroupCommitWriterWiring.flush();
+    }
+
     /**
      * Get the input wire for dumping a state to disk
      * <p>
@@ -783,6 +907,9 @@ public class PlatformWiring {
      */
     @NonNull
     public InputWire<Long> getPcesMinimumGenerationToStoreInput() {
+        if (pcesGroupCommit) {
+            return pcesGroupCommitWriterWiring.getInputWire(GroupCommitPcesWriter::setMinimumAncientIdentifierToStore);
+        }
         return pcesInlineWriterWiring.getInputWire(InlinePcesWriter::setMinimumAncientIdentifierToStore);
     }
 
@@ -793,6 +920,9 @@ public class PlatformWiring {
      */
     @NonNull
     public InputWire<Long> getPcesWriterRegisterDiscontinuityInput() {
+        if (pcesGroupCommit) {
+            return pcesGroupCommitWriterWiring.getInputWire(GroupCommitPcesWriter::registerDiscontinuity);
+        }
         return pcesInlineWriterWiring.getInputWire(InlinePcesWriter::registerDiscontinuity);
     }
 
@@ -936,6 +1066,9 @@ public class PlatformWiring {
      */
     public void stop() {
         model.stop();
+        if (eventSignatureBatchValidator != null) {
+            eventSignatureBatchValidator.stop();
+        }
     }
 
     /**
@@ -42,11 +42,15 @@ class ConsensusTests extends PlatformTest {
     }
 
     /**
-     * Create a list of platform contexts to use for testing.
+     * Create a list of platform contexts to use for testing. Every test runs with consensus metadata calculated one
+     * member at a time, and calculated incrementally.
      * @return a list of platform contexts
      */
     private List<PlatformContext> contexts() {
-        return List.of(createPlatformContext(null, null));
+        return List.of(
+                createPlatformContext(null, null),
+                createPlatformContext(
+                        null, builder -> builder.withValue(ConsensusConfig_.INCREMENTAL_METADATA, true)));
     }
 
     @ParameterizedTest
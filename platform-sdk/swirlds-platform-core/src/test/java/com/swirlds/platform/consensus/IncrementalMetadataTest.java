@@ -0,0 +1,112 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.consensus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.hapi.node.state.roster.Roster;
+import com.hedera.hapi.platform.state.ConsensusSnapshot;
+import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.test.fixtures.Randotron;
+import com.swirlds.common.test.fixtures.WeightGenerators;
+import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
+import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
+import com.swirlds.platform.internal.EventImpl;
+import com.swirlds.platform.test.fixtures.addressbook.RandomRosterBuilder;
+import com.swirlds.platform.test.fixtures.consensus.TestIntake;
+import com.swirlds.platform.test.fixtures.consensus.framework.validation.ConsensusRoundValidator;
+import com.swirlds.platform.test.fixtures.event.generator.StandardGraphGenerator;
+import com.swirlds.platform.test.fixtures.event.source.EventSource;
+import com.swirlds.platform.test.fixtures.event.source.StandardEventSource;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Verifies that calculating consensus metadata incrementally produces exactly the same consensus as calculating it one
+ * member at a time.
+ */
+class IncrementalMetadataTest {
+
+    private static final int NUM_EVENTS = 10_000;
+
+    private static PlatformContext createContext(final boolean incrementalMetadata) {
+        return TestPlatformContextBuilder.create()
+                .withConfiguration(new TestConfigBuilder()
+                        .withValue(ConsensusConfig_.INCREMENTAL_METADATA, incrementalMetadata)
+                        .getOrCreateConfig())
+                .build();
+    }
+
+    private static StandardGraphGenerator createGenerator(final long seed, final int numNodes) {
+        final Randotron random = Randotron.create(seed);
+        final Roster roster = RandomRosterBuilder.create(random)
+                .withSize(numNodes)
+                .withWeightGenerator(WeightGenerators.GAUSSIAN)
+                .build();
+        final List<EventSource> eventSources = Stream.generate(StandardEventSource::new)
+                .map(ses -> (EventSource) ses)
+                .limit(numNodes)
+                .toList();
+        return new StandardGraphGenerator(createContext(false), random.nextLong(), eventSources, roster);
+    }
+
+    private static void addEvents(final List<EventImpl> events, final TestIntake... nodes) {
+        for (final EventImpl event : events) {
+            for (final TestIntake node : nodes) {
+                node.addEvent(event.getBaseEvent().copyGossipedData());
+            }
+        }
+    }
+
+    private static void assertSameConsensus(final TestIntake perMember, final TestIntake incremental) {
+        assertThat(incremental.getConsensusRounds())
+                .withFailMessage("the test graph should reach consensus")
+                .isNotEmpty();
+        ConsensusRoundValidator.validate(incremental.getConsensusRounds());
+        ConsensusRoundValidator.validate(perMember.getConsensusRounds(), incremental.getConsensusRounds());
+        for (int i = 0; i < perMember.getConsensusRounds().size(); i++) {
+            assertThat(incremental.getConsensusRounds().get(i).getSnapshot())
+                    .isEqualTo(perMember.getConsensusRounds().get(i).getSnapshot());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {4, 10, 39})
+    void sameConsensusAsPerMemberCalculation(final int numNodes) {
+        final StandardGraphGenerator generator = createGenerator(numNodes, numNodes);
+        final TestIntake perMember = new TestIntake(createContext(false), generator.getRoster());
+        final TestIntake incremental = new TestIntake(createContext(true), generator.getRoster());
+
+        addEvents(generator.generateEvents(NUM_EVENTS), perMember, incremental);
+
+        assertSameConsensus(perMember, incremental);
+    }
+
+    @Test
+    void sameConsensusAfterLoadingSnapshot() {
+        final int numNodes = 10;
+        final StandardGraphGenerator generator = createGenerator(0, numNodes);
+        final TestIntake perMember = new TestIntake(createContext(false), generator.getRoster());
+        final TestIntake incremental = new TestIntake(createContext(true), generator.getRoster());
+
+        final List<EventImpl> events = generator.generateEvents(NUM_EVENTS / 2);
+        addEvents(events, perMember, incremental);
+        assertSameConsensus(perMember, incremental);
+
+        // restart both from the same snapshot, all the events are added again, followed by new events
+        final ConsensusSnapshot snapshot = Objects.requireNonNull(
+                        perMember.getConsensusRounds().peekLast())
+                .getSnapshot();
+        for (final TestIntake node : List.of(perMember, incremental)) {
+            node.reset();
+            node.loadSnapshot(snapshot);
+        }
+        addEvents(events, perMember, incremental);
+        addEvents(generator.generateEvents(NUM_EVENTS / 2), perMember, incremental);
+
+        assertSameConsensus(perMember, incremental);
+    }
+}
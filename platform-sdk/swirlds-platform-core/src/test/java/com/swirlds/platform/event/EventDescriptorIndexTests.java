@@ -0,0 +1,148 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.event;
+
+import static org.hiero.base.utility.test.fixtures.RandomUtils.getRandomPrintSeed;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hedera.hapi.platform.event.EventDescriptor;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.hiero.base.crypto.DigestType;
+import org.hiero.consensus.model.event.EventDescriptorWrapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class EventDescriptorIndexTests {
+
+    private static EventDescriptorWrapper randomDescriptor(
+            final Random random, final long creator, final long birthRound) {
+        final byte[] hash = new byte[DigestType.SHA_384.digestLength()];
+        random.nextBytes(hash);
+        return new EventDescriptorWrapper(new EventDescriptor(Bytes.wrap(hash), creator, birthRound));
+    }
+
+    @Test
+    @DisplayName("Compare against a map under random operations")
+    void randomOperationsTest() {
+        final Random random = getRandomPrintSeed();
+        final EventDescriptorIndex<Integer> index = new EventDescriptorIndex<>(0, 4);
+        final Map<EventDescriptorWrapper, Integer> expected = new HashMap<>();
+        final List<EventDescriptorWrapper> known = new ArrayList<>();
+
+        long firstRound = 0;
+        for (int i = 0; i < 100_000; i++) {
+            final int operation = random.nextInt(100);
+            if (operation < 50 || known.isEmpty()) {
+                // rounds up to 40 ahead of the window, so that the ring has to grow
+                final long round = firstRound - 2 + random.nextInt(42);
+                final EventDescriptorWrapper descriptor = randomDescriptor(random, random.nextInt(8), round);
+                final Integer previous = index.put(descriptor, i);
+                assertNull(previous);
+                if (round >= firstRound) {
+                    expected.put(descriptor, i);
+                    known.add(descriptor);
+                }
+            } else if (operation < 60) {
+                // replace the value of a known descriptor
+                final EventDescriptorWrapper descriptor = known.get(random.nextInt(known.size()));
+                if (expected.containsKey(descriptor)) {
+                    assertEquals(expected.put(descriptor, i), index.put(descriptor, i));
+                }
+            } else if (operation < 75) {
+                final EventDescriptorWrapper descriptor = known.get(random.nextInt(known.size()));
+                assertEquals(expected.remove(descriptor), index.remove(descriptor));
+            } else if (operation < 98) {
+                final EventDescriptorWrapper descriptor = known.get(random.nextInt(known.size()));
+                assertEquals(expected.get(descriptor), index.get(descriptor));
+                assertEquals(expected.containsKey(descriptor), index.containsKey(descriptor));
+            } else {
+                final long newFirstRound = firstRound + random.nextInt(3);
+                final Map<EventDescriptorWrapper, Integer> removed = new HashMap<>();
+                index.shiftWindow(newFirstRound, removed::put);
+                for (final EventDescriptorWrapper descriptor : new ArrayList<>(expected.keySet())) {
+                    if (descriptor.birthRound() < newFirstRound) {
+                        assertEquals(expected.remove(descriptor), removed.remove(descriptor));
+                    }
+                }
+                assertTrue(removed.isEmpty(), "unexpected entries were removed");
+                known.removeIf(descriptor -> descriptor.birthRound() < newFirstRound);
+                firstRound = newFirstRound;
+            }
+            assertEquals(expected.size(), index.size());
+        }
+
+        for (final Map.Entry<EventDescriptorWrapper, Integer> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), index.get(entry.getKey()));
+        }
+    }
+
+    @Test
+    @DisplayName("Descriptors are equal only if hash, creator and birth round are equal")
+    void keyEqualityTest() {
+        final Random random = getRandomPrintSeed();
+        final EventDescriptorIndex<String> index = new EventDescriptorIndex<>(0, 8);
+
+        final EventDescriptorWrapper descriptor = randomDescriptor(random, 3, 5);
+        final Bytes hash = descriptor.eventDescriptor().hash();
+        index.put(descriptor, "value");
+
+        assertEquals("value", index.get(new EventDescriptorWrapper(new EventDescriptor(hash, 3, 5))));
+        assertFalse(index.containsKey(new EventDescriptorWrapper(new EventDescriptor(hash, 4, 5))));
+        assertFalse(index.containsKey(new EventDescriptorWrapper(new EventDescriptor(hash, 3, 6))));
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> index.put(new EventDescriptorWrapper(new EventDescriptor(Bytes.wrap(new byte[10]), 3, 5)), "x"));
+    }
+
+    @Test
+    @DisplayName("Shifting the window removes old rounds and reuses their tables")
+    void shiftWindowTest() {
+        final Random random = getRandomPrintSeed();
+        final EventDescriptorIndex<Long> index = new EventDescriptorIndex<>(0, 4);
+
+        final List<EventDescriptorWrapper> descriptors = new ArrayList<>();
+        for (long round = 0; round < 4; round++) {
+            for (int i = 0; i < 100; i++) {
+                final EventDescriptorWrapper descriptor = randomDescriptor(random, i, round);
+                descriptors.add(descriptor);
+                index.put(descriptor, round);
+            }
+        }
+        assertEquals(400, index.size());
+
+        final List<Long> removedRounds = new ArrayList<>();
+        index.shiftWindow(2, (descriptor, round) -> removedRounds.add(round));
+        assertEquals(200, removedRounds.size());
+        assertTrue(removedRounds.stream().allMatch(round -> round < 2));
+        assertEquals(200, index.size());
+        assertEquals(2, index.getFirstRound());
+
+        // descriptors below the window are ignored
+        assertNull(index.put(randomDescriptor(random, 0, 1), 1L));
+        assertEquals(200, index.size());
+
+        // rounds 4 and 5 take the tables of rounds 0 and 1
+        final EventDescriptorWrapper round5 = randomDescriptor(random, 0, 5);
+        index.put(round5, 5L);
+        assertEquals(5L, index.get(round5));
+        for (final EventDescriptorWrapper descriptor : descriptors) {
+            assertEquals(descriptor.birthRound() >= 2, index.containsKey(descriptor));
+        }
+
+        // a shift past the whole window empties it
+        index.shiftWindow(100, null);
+        assertEquals(0, index.size());
+        assertFalse(index.containsKey(round5));
+
+        assertThrows(IllegalStateException.class, () -> index.shiftWindow(99, null));
+    }
+}
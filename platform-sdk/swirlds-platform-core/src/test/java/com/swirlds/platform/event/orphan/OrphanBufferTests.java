@@ -292,6 +292,39 @@ class OrphanBufferTests {
         }
     }
 
+    @Test
+    @DisplayName("Test that handling events in batches releases parents before children")
+    void batchedOperation() {
+        final Configuration configuration =
+                ConfigurationBuilder.create().autoDiscoverExtensions().build();
+        final Metrics metrics = new NoOpMetrics();
+        final IntakeEventCounter intakeEventCounter = mock(IntakeEventCounter.class);
+        final DefaultOrphanBuffer orphanBuffer = new DefaultOrphanBuffer(configuration, metrics, intakeEventCounter);
+
+        final Set<Hash> emittedEventHashes = new HashSet<>();
+        int index = 0;
+        while (index < intakeEvents.size()) {
+            final int end = Math.min(intakeEvents.size(), index + 1 + random.nextInt(50));
+            final List<List<PlatformEvent>> output = orphanBuffer.handleEvents(intakeEvents.subList(index, end));
+            assertThat(output.size()).isLessThanOrEqualTo(1);
+            for (final List<PlatformEvent> unorphanedEvents : output) {
+                assertThat(unorphanedEvents).isNotEmpty();
+                assertValidNgen(unorphanedEvents);
+                for (final PlatformEvent event : unorphanedEvents) {
+                    for (final EventDescriptorWrapper parentDescriptor : event.getAllParents()) {
+                        assertThat(emittedEventHashes).contains(parentDescriptor.hash());
+                    }
+                    emittedEventHashes.add(event.getHash());
+                }
+            }
+            index = end;
+        }
+
+        // The event window was never shifted, so every event is released exactly once
+        assertThat(orphanBuffer.getCurrentOrphanCount()).isEqualTo(0);
+        assertThat(emittedEventHashes.size()).isEqualTo(intakeEvents.size());
+    }
+
     @Test
     @DisplayName("Test All Parents Iterator")
     void testParentIterator() {
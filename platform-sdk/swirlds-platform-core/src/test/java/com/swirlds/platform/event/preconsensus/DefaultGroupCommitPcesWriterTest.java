@@ -0,0 +1,140 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.event.preconsensus;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.swirlds.base.test.fixtures.time.FakeTime;
+import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
+import com.swirlds.config.api.Configuration;
+import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
+import com.swirlds.platform.test.fixtures.event.PcesWriterTestUtils;
+import com.swirlds.platform.test.fixtures.event.generator.StandardGraphGenerator;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.hiero.base.utility.test.fixtures.RandomUtils;
+import org.hiero.consensus.model.event.PlatformEvent;
+import org.hiero.consensus.model.node.NodeId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DefaultGroupCommitPcesWriterTest {
+
+    @TempDir
+    private Path tempDir;
+
+    private final int numEvents = 1_000;
+
+    @NonNull
+    private PlatformContext getPlatformContext(final int groupCommitMaxBytes) {
+        final Configuration configuration = new TestConfigBuilder()
+                .withValue(PcesConfig_.DATABASE_DIRECTORY, tempDir.toString())
+                .withValue(PcesConfig_.INLINE_PCES_SYNC_OPTION, FileSyncOption.EVERY_SELF_EVENT)
+                .withValue(PcesConfig_.GROUP_COMMIT_MAX_BYTES, groupCommitMaxBytes)
+                .getOrCreateConfig();
+        return TestPlatformContextBuilder.create()
+                .withConfiguration(configuration)
+                .withTime(new FakeTime(Duration.ofMillis(1)))
+                .build();
+    }
+
+    @NonNull
+    private static List<PlatformEvent> generateEvents(
+            @NonNull final PlatformContext platformContext, @NonNull final Random random, final int count) {
+        final StandardGraphGenerator generator = PcesWriterTestUtils.buildGraphGenerator(platformContext, random);
+        final List<PlatformEvent> events = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            events.add(generator.generateEventWithoutIndex().getBaseEvent());
+        }
+        return events;
+    }
+
+    private static void collect(
+            @NonNull final List<PlatformEvent> durableEvents, @Nullable final List<PlatformEvent> output) {
+        if (output != null) {
+            durableEvents.addAll(output);
+        }
+    }
+
+    @Test
+    void standardOperationTest() throws Exception {
+        final PlatformContext platformContext = getPlatformContext(512 * 1024);
+        final Random random = RandomUtils.getRandomPrintSeed();
+        final List<PlatformEvent> events = generateEvents(platformContext, random, numEvents);
+        final NodeId selfId = events.getFirst().getCreatorId();
+
+        final PcesFileManager fileManager = new PcesFileManager(platformContext, new PcesFileTracker(), tempDir, 0);
+        final DefaultGroupCommitPcesWriter writer =
+                new DefaultGroupCommitPcesWriter(platformContext, fileManager, selfId);
+
+        writer.beginStreamingNewEvents();
+        final List<PlatformEvent> durableEvents = new ArrayList<>();
+        for (final PlatformEvent event : events) {
+            collect(durableEvents, writer.writeEvent(event));
+            if (random.nextInt(10) == 0) {
+                collect(durableEvents, writer.commitPendingEvents());
+            }
+        }
+
+        // forces the writer to commit pending events and close the current file so that we can verify the stream
+        collect(durableEvents, writer.registerDiscontinuity(1L));
+
+        assertEquals(events, durableEvents, "All events should be output once, in the order they were written");
+        PcesWriterTestUtils.verifyStream(tempDir, events, platformContext, 0);
+    }
+
+    @Test
+    void eventsWaitBehindSelfEventTest() {
+        final PlatformContext platformContext = getPlatformContext(Integer.MAX_VALUE);
+        final Random random = RandomUtils.getRandomPrintSeed();
+        final List<PlatformEvent> events = generateEvents(platformContext, random, 20);
+        final NodeId selfId = events.getFirst().getCreatorId();
+
+        final PcesFileManager fileManager = new PcesFileManager(platformContext, new PcesFileTracker(), tempDir, 0);
+        final DefaultGroupCommitPcesWriter writer =
+                new DefaultGroupCommitPcesWriter(platformContext, fileManager, selfId);
+        writer.beginStreamingNewEvents();
+
+        // The first event is a self event, so it and every event after it wait for a group commit
+        for (final PlatformEvent event : events) {
+            assertNull(writer.writeEvent(event), "Events should wait for the group commit");
+        }
+        assertEquals(events, writer.commitPendingEvents());
+        assertNull(writer.commitPendingEvents(), "Events should only be committed once");
+
+        // Events that don't need to be synced are output immediately if nothing is waiting
+        final PlatformEvent otherEvent = generateEvents(platformContext, random, 40).stream()
+                .filter(event -> !event.getCreatorId().equals(selfId))
+                .filter(event -> !events.contains(event))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(List.of(otherEvent), writer.writeEvent(otherEvent));
+        assertNull(writer.registerDiscontinuity(1L));
+    }
+
+    @Test
+    void byteBudgetTest() {
+        // Every event that is written exceeds the budget, so each self event is committed as soon as it is written
+        final PlatformContext platformContext = getPlatformContext(1);
+        final Random random = RandomUtils.getRandomPrintSeed();
+        final List<PlatformEvent> events = generateEvents(platformContext, random, 100);
+        final NodeId selfId = events.getFirst().getCreatorId();
+
+        final PcesFileManager fileManager = new PcesFileManager(platformContext, new PcesFileTracker(), tempDir, 0);
+        final DefaultGroupCommitPcesWriter writer =
+                new DefaultGroupCommitPcesWriter(platformContext, fileManager, selfId);
+        writer.beginStreamingNewEvents();
+
+        for (final PlatformEvent event : events) {
+            assertEquals(List.of(event), writer.writeEvent(event));
+        }
+        assertNull(writer.commitPendingEvents(), "Nothing should be waiting for a group commit");
+        assertNull(writer.registerDiscontinuity(1L));
+    }
+}
@@ -0,0 +1,199 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.event.preconsensus;
+
+import static com.swirlds.common.test.fixtures.io.FileManipulation.truncateFile;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
+import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
+import com.swirlds.platform.test.fixtures.event.generator.StandardGraphGenerator;
+import com.swirlds.platform.test.fixtures.event.source.StandardEventSource;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import org.hiero.base.utility.test.fixtures.RandomUtils;
+import org.hiero.consensus.model.event.PlatformEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("PCES Prefetching Iterator Tests")
+class PcesPrefetchingIteratorTests {
+
+    private static final int FILE_COUNT = 3;
+    private static final int EVENTS_PER_FILE = 50;
+
+    @TempDir
+    Path testDirectory;
+
+    private Random random;
+    private PlatformContext platformContext;
+
+    @BeforeEach
+    void beforeEach() {
+        random = RandomUtils.getRandomPrintSeed();
+        platformContext = TestPlatformContextBuilder.create()
+                .withConfiguration(new TestConfigBuilder()
+                        .withValue(PcesConfig_.REPLAY_QUEUE_SIZE, 4)
+                        .withValue(PcesConfig_.REPLAY_HASH_POOL_SIZE, 3)
+                        .withValue(PcesConfig_.REPLAY_READ_BUFFER_SIZE, 1024)
+                        .getOrCreateConfig())
+                .build();
+    }
+
+    /**
+     * Write events to a sequence of files, and return the files.
+     */
+    private List<PcesFile> writeFiles(final List<PlatformEvent> events) throws IOException {
+        final StandardGraphGenerator generator = new StandardGraphGenerator(
+                platformContext,
+                random.nextLong(),
+                new StandardEventSource(),
+                new StandardEventSource(),
+                new StandardEventSource(),
+                new StandardEventSource());
+
+        final List<PcesFile> files = new ArrayList<>();
+        final Instant timestamp = RandomUtils.randomInstant(random);
+        for (int fileIndex = 0; fileIndex < FILE_COUNT; fileIndex++) {
+            final PcesFile file =
+                    PcesFile.of(timestamp.plusSeconds(fileIndex), fileIndex, 0, 1_000_000, 0, testDirectory);
+            final PcesMutableFile mutableFile = file.getMutableFile(PcesFileWriterType.OUTPUT_STREAM);
+            for (int i = 0; i < EVENTS_PER_FILE; i++) {
+                final PlatformEvent event = generator.generateEvent().getBaseEvent();
+                mutableFile.writeEvent(event);
+                events.add(event);
+            }
+            mutableFile.close();
+            files.add(file);
+        }
+        return files;
+    }
+
+    private static List<PlatformEvent> readAll(final PcesMultiFileIterator iterator) throws IOException {
+        final List<PlatformEvent> events = new ArrayList<>();
+        iterator.forEachRemaining(events::add);
+        return events;
+    }
+
+    private static List<PlatformEvent> readAll(final PcesPrefetchingIterator iterator) throws IOException {
+        final List<PlatformEvent> events = new ArrayList<>();
+        iterator.forEachRemaining(events::add);
+        return events;
+    }
+
+    @Test
+    @DisplayName("Events are returned in order and hashed")
+    void readInOrderTest() throws IOException {
+        final List<PlatformEvent> events = new ArrayList<>();
+        final List<PcesFile> files = writeFiles(events);
+
+        final PcesPrefetchingIterator iterator =
+                new PcesPrefetchingIterator(platformContext, Long.MIN_VALUE, files.iterator());
+        final List<PlatformEvent> readEvents = readAll(iterator);
+
+        assertEquals(events, readEvents);
+        for (int i = 0; i < events.size(); i++) {
+            assertNotNull(readEvents.get(i).getHash(), "Events should be hashed");
+            assertEquals(events.get(i).getHash(), readEvents.get(i).getHash());
+        }
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    @DisplayName("Events below the lower bound are skipped")
+    void lowerBoundTest() throws IOException {
+        final List<PlatformEvent> events = new ArrayList<>();
+        final List<PcesFile> files = writeFiles(events);
+        final long lowerBound = events.get(events.size() / 2).getBirthRound();
+
+        final List<PlatformEvent> expected = readAll(new PcesMultiFileIterator(lowerBound, files.iterator()));
+        final List<PlatformEvent> readEvents =
+                readAll(new PcesPrefetchingIterator(platformContext, lowerBound, files.iterator()));
+
+        assertEquals(expected, readEvents);
+    }
+
+    @Test
+    @DisplayName("A truncated file is read up to the partial event")
+    void truncatedFileTest() throws IOException {
+        final List<PlatformEvent> events = new ArrayList<>();
+        final List<PcesFile> files = writeFiles(events);
+
+        // cut the middle file in the middle of an event
+        final Path middleFile = files.get(1).getPath();
+        truncateFile(middleFile, (int) (middleFile.toFile().length() / 2));
+
+        final List<PlatformEvent> expected = readAll(new PcesMultiFileIterator(Long.MIN_VALUE, files.iterator()));
+        final List<PlatformEvent> readEvents =
+                readAll(new PcesPrefetchingIterator(platformContext, Long.MIN_VALUE, files.iterator()));
+
+        assertEquals(expected, readEvents);
+    }
+
+    @Test
+    @DisplayName("Closing the iterator early stops reading")
+    void closeEarlyTest() throws IOException {
+        final List<PlatformEvent> events = new ArrayList<>();
+        final List<PcesFile> files = writeFiles(events);
+
+        final PcesPrefetchingIterator iterator =
+                new PcesPrefetchingIterator(platformContext, Long.MIN_VALUE, files.iterator());
+        assertEquals(events.getFirst(), iterator.next());
+        iterator.close();
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    @DisplayName("A malformed event ends its file, the same as with the multi file iterator")
+    void malformedEventTest() throws IOException {
+        final List<PlatformEvent> events = new ArrayList<>();
+        final List<PcesFile> files = writeFiles(events);
+
+        // overwrite the start of the second event in the middle file with bytes that can not be parsed
+        try (final RandomAccessFile file = new RandomAccessFile(files.get(1).getPath().toFile(), "rw")) {
+            file.seek(Integer.BYTES);
+            final int firstEventSize = file.readInt();
+            file.seek(Integer.BYTES * 3L + firstEventSize);
+            file.write(new byte[] {-1, -1, -1, -1});
+        }
+
+        final List<PlatformEvent> expected = readAll(new PcesMultiFileIterator(Long.MIN_VALUE, files.iterator()));
+        final List<PlatformEvent> readEvents =
+                readAll(new PcesPrefetchingIterator(platformContext, Long.MIN_VALUE, files.iterator()));
+
+        assertEquals(EVENTS_PER_FILE * 2 + 1, expected.size(), "Only the first event of the middle file is readable");
+        assertEquals(expected, readEvents);
+    }
+
+    @Test
+    @DisplayName("A file that can not be read fails the iterator")
+    void readerFailureTest() throws IOException {
+        final List<PlatformEvent> events = new ArrayList<>();
+        final List<PcesFile> files = writeFiles(events);
+
+        // the middle file has an unsupported version
+        try (final RandomAccessFile file = new RandomAccessFile(files.get(1).getPath().toFile(), "rw")) {
+            file.writeInt(Integer.MAX_VALUE);
+        }
+
+        final PcesPrefetchingIterator iterator =
+                new PcesPrefetchingIterator(platformContext, Long.MIN_VALUE, files.iterator());
+        for (int i = 0; i < EVENTS_PER_FILE; i++) {
+            assertEquals(events.get(i), iterator.next());
+        }
+        assertThrows(IOException.class, iterator::next, "The reader failure should be reported");
+        assertFalse(iterator.hasNext(), "The iterator should be closed after a failure");
+    }
+}
@@ -0,0 +1,220 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.event.validation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.hedera.hapi.node.state.roster.Roster;
+import com.hedera.hapi.node.state.roster.RosterEntry;
+import com.hedera.hapi.node.state.roster.RoundRosterPair;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.test.fixtures.Randotron;
+import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
+import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
+import com.swirlds.platform.crypto.SignatureVerifier;
+import com.swirlds.platform.gossip.IntakeEventCounter;
+import com.swirlds.platform.test.fixtures.crypto.PreGeneratedX509Certs;
+import java.security.cert.CertificateEncodingException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import org.hiero.base.concurrent.ExecutorFactory;
+import org.hiero.consensus.model.event.PlatformEvent;
+import org.hiero.consensus.model.node.NodeId;
+import org.hiero.consensus.model.test.fixtures.event.TestingEventBuilder;
+import org.hiero.consensus.model.test.fixtures.hashgraph.EventWindowBuilder;
+import org.hiero.consensus.roster.RosterHistory;
+import org.hiero.consensus.roster.RosterUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BatchingEventSignatureValidatorTests {
+    private static final int ROSTER_ROUND = 3;
+    private static final NodeId ROSTER_NODE_ID = NodeId.of(77);
+    private static final int MAX_BATCH_SIZE = 8;
+
+    private Randotron random;
+    private PlatformContext platformContext;
+    private AtomicLong exitedIntakePipelineCount;
+    private IntakeEventCounter intakeEventCounter;
+    private RosterHistory rosterHistory;
+
+    /**
+     * Hashes of events with signatures that don't verify.
+     */
+    private final Set<Bytes> invalidHashes = ConcurrentHashMap.newKeySet();
+
+    /**
+     * A verifier that rejects events with hashes in {@link #invalidHashes}. Thread safe.
+     */
+    private final SignatureVerifier verifier = (data, signature, publicKey) -> !invalidHashes.contains(data);
+
+    @BeforeEach
+    void setup() throws CertificateEncodingException {
+        random = Randotron.create();
+        platformContext = TestPlatformContextBuilder.create()
+                .withConfiguration(new TestConfigBuilder()
+                        .withValue("event.signatureValidation.maxBatchSize", MAX_BATCH_SIZE)
+                        .withValue("event.signatureValidation.verificationThreads", 3)
+                        .getOrCreateConfig())
+                .build();
+
+        exitedIntakePipelineCount = new AtomicLong(0);
+        intakeEventCounter = mock(IntakeEventCounter.class);
+        doAnswer(invocation -> {
+                    exitedIntakePipelineCount.incrementAndGet();
+                    return null;
+                })
+                .when(intakeEventCounter)
+                .eventExitedIntakePipeline(any());
+
+        final RosterEntry rosterEntry = new RosterEntry(
+                ROSTER_NODE_ID.id(),
+                10,
+                Bytes.wrap(PreGeneratedX509Certs.getSigCert(ROSTER_NODE_ID.id())
+                        .getCertificate()
+                        .getEncoded()),
+                List.of());
+        final Roster roster = new Roster(List.of(rosterEntry));
+        final Bytes rosterHash = RosterUtils.hash(roster).getBytes();
+        rosterHistory = new RosterHistory(
+                List.of(new RoundRosterPair(ROSTER_ROUND, rosterHash)), Map.of(rosterHash, roster));
+    }
+
+    private PlatformEvent buildEvent(final NodeId creatorId) {
+        return new TestingEventBuilder(random)
+                .setCreatorId(creatorId)
+                .setBirthRound(ROSTER_ROUND)
+                .build();
+    }
+
+    private BatchingEventSignatureValidator buildValidator() {
+        return new BatchingEventSignatureValidator(platformContext, verifier, rosterHistory, intakeEventCounter);
+    }
+
+    @Test
+    @DisplayName("A full batch is verified, valid events are returned in order")
+    void fullBatch() {
+        final BatchingEventSignatureValidator validator = buildValidator();
+
+        final List<PlatformEvent> events = new ArrayList<>();
+        for (int i = 0; i < MAX_BATCH_SIZE; i++) {
+            events.add(buildEvent(ROSTER_NODE_ID));
+        }
+        invalidHashes.add(events.get(1).getHash().getBytes());
+        invalidHashes.add(events.get(6).getHash().getBytes());
+
+        for (int i = 0; i < MAX_BATCH_SIZE - 1; i++) {
+            assertNull(validator.addEvent(events.get(i)), "Batch should not be verified before it is full");
+        }
+        final List<PlatformEvent> validEvents = validator.addEvent(events.get(MAX_BATCH_SIZE - 1));
+        assertNotNull(validEvents, "Full batch should be verified");
+
+        final List<PlatformEvent> expected = new ArrayList<>(events);
+        expected.remove(6);
+        expected.remove(1);
+        assertEquals(expected, validEvents, "Valid events should be returned in order");
+        assertEquals(2, exitedIntakePipelineCount.get());
+
+        assertNull(validator.verifyPendingEvents(), "Nothing should be pending after a full batch");
+    }
+
+    @Test
+    @DisplayName("Pending events are verified on demand")
+    void pendingEvents() {
+        final BatchingEventSignatureValidator validator = buildValidator();
+        assertNull(validator.verifyPendingEvents(), "Empty batch should not be verified");
+
+        final PlatformEvent event1 = buildEvent(ROSTER_NODE_ID);
+        final PlatformEvent event2 = buildEvent(ROSTER_NODE_ID);
+        assertNull(validator.addEvent(event1));
+        assertNull(validator.addEvent(event2));
+
+        assertEquals(List.of(event1, event2), validator.verifyPendingEvents());
+        assertNull(validator.verifyPendingEvents(), "Events should only be verified once");
+        assertEquals(0, exitedIntakePipelineCount.get());
+    }
+
+    @Test
+    @DisplayName("Events without a known public key fail validation")
+    void unknownPublicKey() {
+        final BatchingEventSignatureValidator validator = buildValidator();
+
+        final PlatformEvent valid = buildEvent(ROSTER_NODE_ID);
+        final PlatformEvent missingNode = buildEvent(NodeId.of(99));
+        final PlatformEvent missingRoster = new TestingEventBuilder(random)
+                .setCreatorId(ROSTER_NODE_ID)
+                .setBirthRound(ROSTER_ROUND - 1)
+                .build();
+        validator.addEvent(missingNode);
+        validator.addEvent(valid);
+        validator.addEvent(missingRoster);
+
+        assertEquals(List.of(valid), validator.verifyPendingEvents());
+        assertEquals(2, exitedIntakePipelineCount.get());
+    }
+
+    @Test
+    @DisplayName("Ancient events are discarded before they are batched")
+    void ancientEvent() {
+        final BatchingEventSignatureValidator validator = buildValidator();
+        validator.setEventWindow(EventWindowBuilder.builder().setAncientThreshold(100).build());
+
+        assertNull(validator.addEvent(buildEvent(ROSTER_NODE_ID)));
+        assertEquals(1, exitedIntakePipelineCount.get());
+        assertNull(validator.verifyPendingEvents(), "Ancient event should not be batched");
+    }
+
+    @Test
+    @DisplayName("Events that become ancient while they are pending are not verified")
+    void eventBecomesAncient() {
+        final BatchingEventSignatureValidator validator = buildValidator();
+
+        assertNull(validator.addEvent(buildEvent(ROSTER_NODE_ID)));
+        assertNull(validator.addEvent(buildEvent(ROSTER_NODE_ID)));
+        validator.setEventWindow(EventWindowBuilder.builder().setAncientThreshold(100).build());
+
+        assertNull(validator.verifyPendingEvents(), "Ancient events should be dropped from the batch");
+        assertEquals(2, exitedIntakePipelineCount.get());
+        assertNull(validator.verifyPendingEvents(), "Nothing should be pending");
+    }
+
+    @Test
+    @DisplayName("Verification threads are shut down when the validator is stopped")
+    void stop() {
+        final ExecutorService verificationPool = Executors.newFixedThreadPool(2);
+        final ExecutorFactory executorFactory = mock(ExecutorFactory.class);
+        when(executorFactory.createExecutorService(anyInt())).thenReturn(verificationPool);
+        final PlatformContext context = mock(PlatformContext.class);
+        when(context.getConfiguration()).thenReturn(platformContext.getConfiguration());
+        when(context.getMetrics()).thenReturn(platformContext.getMetrics());
+        when(context.getTime()).thenReturn(platformContext.getTime());
+        when(context.getExecutorFactory()).thenReturn(executorFactory);
+        final BatchingEventSignatureValidator validator =
+                new BatchingEventSignatureValidator(context, verifier, rosterHistory, intakeEventCounter);
+
+        for (int i = 0; i < MAX_BATCH_SIZE - 1; i++) {
+            validator.addEvent(buildEvent(ROSTER_NODE_ID));
+        }
+        assertNotNull(validator.addEvent(buildEvent(ROSTER_NODE_ID)), "Full batch should be verified");
+        assertFalse(verificationPool.isShutdown(), "Verification threads should be running");
+
+        validator.stop();
+        assertTrue(verificationPool.isShutdown(), "Verification threads should be shut down");
+    }
+}
@@ -0,0 +1,101 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.gossip.shadowgraph;
+
+import static org.hiero.base.crypto.test.fixtures.CryptoRandomUtils.randomHash;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.hiero.base.crypto.Hash;
+import org.hiero.base.io.streams.SerializableDataInputStream;
+import org.hiero.base.io.streams.SerializableDataOutputStream;
+import org.hiero.base.utility.test.fixtures.RandomUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class EventHashFilterTests {
+
+    private static List<Hash> randomHashes(final Random random, final int count) {
+        final List<Hash> hashes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            hashes.add(randomHash(random));
+        }
+        return hashes;
+    }
+
+    @Test
+    @DisplayName("Added hashes are always reported as present")
+    void noFalseNegatives() {
+        final Random random = RandomUtils.getRandomPrintSeed();
+        final List<Hash> hashes = randomHashes(random, 5_000);
+        final EventHashFilter filter = EventHashFilter.create(hashes.size(), 0.01, 1024 * 1024, random.nextLong());
+        hashes.forEach(filter::add);
+
+        for (final Hash hash : hashes) {
+            assertTrue(filter.mightContain(hash), "Added hash should be present");
+        }
+    }
+
+    @Test
+    @DisplayName("False positive rate is close to the requested rate")
+    void falsePositiveRate() {
+        final Random random = RandomUtils.getRandomPrintSeed();
+        final int count = 5_000;
+        final EventHashFilter filter = EventHashFilter.create(count, 0.01, 1024 * 1024, random.nextLong());
+        randomHashes(random, count).forEach(filter::add);
+
+        final int checks = 20_000;
+        int falsePositives = 0;
+        for (final Hash hash : randomHashes(random, checks)) {
+            if (filter.mightContain(hash)) {
+                falsePositives++;
+            }
+        }
+        // generous margin, the expected number of false positives is 200
+        assertTrue(falsePositives < checks * 0.03, "Too many false positives: " + falsePositives);
+    }
+
+    @Test
+    @DisplayName("Filter size is capped")
+    void maxSize() {
+        final EventHashFilter filter = EventHashFilter.create(1_000_000, 0.001, 1024, 0);
+        assertEquals(1024, filter.getSizeBytes());
+    }
+
+    @Test
+    @DisplayName("Serialized filter reports the same hashes as present")
+    void serialization() throws IOException {
+        final Random random = RandomUtils.getRandomPrintSeed();
+        final List<Hash> hashes = randomHashes(random, 1_000);
+        final EventHashFilter filter = EventHashFilter.create(hashes.size(), 0.01, 1024 * 1024, random.nextLong());
+        hashes.forEach(filter::add);
+
+        final ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
+        try (final SerializableDataOutputStream out = new SerializableDataOutputStream(byteOut)) {
+            filter.serialize(out);
+        }
+        final byte[] bytes = byteOut.toByteArray();
+
+        final EventHashFilter copy = EventHashFilter.deserialize(
+                new SerializableDataInputStream(new ByteArrayInputStream(bytes)), filter.getSizeBytes());
+        assertEquals(filter.getSizeBytes(), copy.getSizeBytes());
+        for (final Hash hash : hashes) {
+            assertTrue(copy.mightContain(hash), "Added hash should be present after deserialization");
+        }
+        for (final Hash hash : randomHashes(random, 1_000)) {
+            assertEquals(filter.mightContain(hash), copy.mightContain(hash));
+        }
+
+        assertThrows(
+                IOException.class,
+                () -> EventHashFilter.deserialize(
+                        new SerializableDataInputStream(new ByteArrayInputStream(bytes)), filter.getSizeBytes() / 2),
+                "A filter larger than the maximum should be rejected");
+    }
+}
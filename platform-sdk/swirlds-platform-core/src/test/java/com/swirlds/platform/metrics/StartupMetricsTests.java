@@ -0,0 +1,84 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.metrics;
+
+import static com.swirlds.metrics.api.Metrics.PLATFORM_CATEGORY;
+import static org.hiero.consensus.model.status.PlatformStatus.ACTIVE;
+import static org.hiero.consensus.model.status.PlatformStatus.BEHIND;
+import static org.hiero.consensus.model.status.PlatformStatus.CHECKING;
+import static org.hiero.consensus.model.status.PlatformStatus.OBSERVING;
+import static org.hiero.consensus.model.status.PlatformStatus.RECONNECT_COMPLETE;
+import static org.hiero.consensus.model.status.PlatformStatus.REPLAYING_EVENTS;
+import static org.hiero.consensus.model.status.PlatformStatus.STARTING_UP;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.swirlds.base.test.fixtures.time.FakeTime;
+import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.metrics.config.MetricsConfig;
+import com.swirlds.common.metrics.platform.DefaultPlatformMetrics;
+import com.swirlds.common.metrics.platform.MetricKeyRegistry;
+import com.swirlds.common.metrics.platform.PlatformMetricsFactoryImpl;
+import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
+import com.swirlds.config.api.Configuration;
+import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
+import com.swirlds.metrics.api.LongGauge;
+import com.swirlds.metrics.api.Metrics;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ScheduledExecutorService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StartupMetricsTests {
+
+    @Test
+    @DisplayName("Startup time is broken down by phase until the platform becomes active")
+    void startupPhases() {
+        final Configuration configuration = new TestConfigBuilder().getOrCreateConfig();
+        final MetricsConfig metricsConfig = configuration.getConfigData(MetricsConfig.class);
+        final MetricKeyRegistry registry = mock(MetricKeyRegistry.class);
+        when(registry.register(any(), any(), any())).thenReturn(true);
+        final Metrics metrics = new DefaultPlatformMetrics(
+                null,
+                registry,
+                mock(ScheduledExecutorService.class),
+                new PlatformMetricsFactoryImpl(metricsConfig),
+                metricsConfig);
+        final FakeTime time = new FakeTime(Instant.ofEpochSecond(1_000_000), Duration.ZERO);
+        final PlatformContext platformContext = TestPlatformContextBuilder.create()
+                .withConfiguration(configuration)
+                .withMetrics(metrics)
+                .withTime(time)
+                .build();
+
+        StartupMetrics.recordStateLoadingTime(metrics, Duration.ofSeconds(3));
+        final StartupMetrics startupMetrics = new StartupMetrics(platformContext, time.now());
+        time.tick(Duration.ofSeconds(15));
+
+        startupMetrics.statusChanged(STARTING_UP, Duration.ofSeconds(1), REPLAYING_EVENTS);
+        startupMetrics.statusChanged(REPLAYING_EVENTS, Duration.ofSeconds(2), OBSERVING);
+        startupMetrics.statusChanged(OBSERVING, Duration.ofSeconds(1), CHECKING);
+        startupMetrics.statusChanged(CHECKING, Duration.ofMillis(500), BEHIND);
+        startupMetrics.statusChanged(BEHIND, Duration.ofSeconds(1), RECONNECT_COMPLETE);
+        startupMetrics.statusChanged(RECONNECT_COMPLETE, Duration.ofSeconds(1), CHECKING);
+        startupMetrics.statusChanged(CHECKING, Duration.ofMillis(500), ACTIVE);
+        // Status changes after the platform is active are not a part of startup
+        startupMetrics.statusChanged(ACTIVE, Duration.ofSeconds(60), CHECKING);
+        startupMetrics.statusChanged(CHECKING, Duration.ofSeconds(60), ACTIVE);
+
+        assertEquals(15_000, getValue(metrics, "startupTime"), "Wrong total startup time");
+        assertEquals(3_000, getValue(metrics, "startupTime_stateLoading"), "Wrong state loading time");
+        assertEquals(1_000, getValue(metrics, "startupTime_STARTING_UP"), "Wrong time in STARTING_UP");
+        assertEquals(2_000, getValue(metrics, "startupTime_REPLAYING_EVENTS"), "Wrong time in REPLAYING_EVENTS");
+        assertEquals(1_000, getValue(metrics, "startupTime_CHECKING"), "Time in CHECKING should be accumulated");
+        assertEquals(1_000, getValue(metrics, "startupTime_BEHIND"), "Wrong time in BEHIND");
+        assertEquals(0, getValue(metrics, "startupTime_FREEZING"), "No time should be spent in FREEZING");
+        assertEquals(5_000, getValue(metrics, "startupTime_other"), "Wrong time not spent in any phase");
+    }
+
+    private static long getValue(final Metrics metrics, final String name) {
+        return ((LongGauge) metrics.getMetric(PLATFORM_CATEGORY, name)).get();
+    }
+}
@@ -0,0 +1,69 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.network.communication.handshake;
+
+import static com.swirlds.platform.network.communication.handshake.SyncVersionHandshake.BASE_SYNC_VERSION;
+import static com.swirlds.platform.network.communication.handshake.SyncVersionHandshake.EVENT_FILTER_SYNC_VERSION;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.swirlds.base.utility.Pair;
+import com.swirlds.platform.network.Connection;
+import com.swirlds.platform.test.fixtures.sync.ConnectionFactory;
+import java.io.IOException;
+import org.hiero.consensus.model.node.NodeId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link SyncVersionHandshake}
+ */
+class SyncVersionHandshakeTests {
+    private static final NodeId THEIR_ID = NodeId.of(1);
+
+    private Connection theirConnection;
+    private Connection myConnection;
+
+    @BeforeEach
+    void setup() throws IOException {
+        final Pair<Connection, Connection> connections =
+                ConnectionFactory.createLocalConnections(NodeId.of(0L), THEIR_ID);
+        myConnection = connections.left();
+        theirConnection = connections.right();
+    }
+
+    private void writeTheirVersion(final int version) throws IOException {
+        theirConnection.getDos().writeInt(version);
+        theirConnection.getDos().flush();
+    }
+
+    @Test
+    @DisplayName("The lower of the two versions is used")
+    void lowerVersionIsUsed() throws Exception {
+        final SyncVersionHandshake handshake = new SyncVersionHandshake(EVENT_FILTER_SYNC_VERSION);
+        assertEquals(BASE_SYNC_VERSION, handshake.getNegotiatedVersion(THEIR_ID), "No handshake has been done yet");
+
+        writeTheirVersion(EVENT_FILTER_SYNC_VERSION);
+        handshake.runProtocol(myConnection);
+        assertEquals(EVENT_FILTER_SYNC_VERSION, handshake.getNegotiatedVersion(THEIR_ID));
+        assertEquals(EVENT_FILTER_SYNC_VERSION, theirConnection.getDis().readInt());
+
+        writeTheirVersion(BASE_SYNC_VERSION);
+        handshake.runProtocol(myConnection);
+        assertEquals(
+                BASE_SYNC_VERSION, handshake.getNegotiatedVersion(THEIR_ID), "A new connection replaces the version");
+
+        final SyncVersionHandshake baseHandshake = new SyncVersionHandshake(BASE_SYNC_VERSION);
+        writeTheirVersion(EVENT_FILTER_SYNC_VERSION);
+        baseHandshake.runProtocol(myConnection);
+        assertEquals(BASE_SYNC_VERSION, baseHandshake.getNegotiatedVersion(THEIR_ID));
+    }
+
+    @Test
+    @DisplayName("An invalid version is rejected")
+    void invalidVersion() throws IOException {
+        final SyncVersionHandshake handshake = new SyncVersionHandshake(EVENT_FILTER_SYNC_VERSION);
+        writeTheirVersion(0);
+        assertThrows(HandshakeException.class, () -> handshake.runProtocol(myConnection));
+    }
+}
@@ -32,6 +32,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -696,4 +701,58 @@ class ShadowgraphByBirthRoundTests {
                 shadowGraph.getTips().size(),
                 "Shadow graph tips should be included in expiry.");
     }
+
+    @Test
+    @DisplayName("Reads are consistent while events are added and expired concurrently")
+    void testConcurrentReads() throws Exception {
+        final Random random = RandomUtils.getRandomPrintSeed();
+        initShadowGraph(random, 100, 10);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final AtomicBoolean done = new AtomicBoolean(false);
+            final List<Future<?>> readers = new ArrayList<>();
+            for (int r = 0; r < 3; r++) {
+                readers.add(executor.submit(() -> {
+                    while (!done.get()) {
+                        try (final ReservedEventWindow reservation = shadowGraph.reserve()) {
+                            final List<ShadowEvent> tips = shadowGraph.getTips();
+                            assertEquals(tips.size(), new HashSet<>(tips).size(), "Tips should not repeat");
+                            final List<Hash> tipHashes =
+                                    tips.stream().map(ShadowEvent::getEventBaseHash).toList();
+                            assertEquals(tips.size(), shadowGraph.shadows(tipHashes).size());
+                            final long expiredThreshold =
+                                    reservation.getEventWindow().expiredThreshold();
+                            for (final ShadowEvent ancestor : shadowGraph.findAncestors(tips, e -> true)) {
+                                if (ancestor.getEvent().getBirthRound() >= expiredThreshold) {
+                                    assertTrue(
+                                            shadowGraph.isHashInGraph(ancestor.getEventBaseHash()),
+                                            "Reserved events should not be expired");
+                                }
+                            }
+                        }
+                    }
+                }));
+            }
+
+            // Add more events, and expire old ones
+            for (int i = 0; i < 2000; i++) {
+                final EventImpl event = emitter.emitEvent();
+                shadowGraph.addEvent(event.getBaseEvent());
+                if (i % 100 == 0) {
+                    final long expiredThreshold = Math.max(ROUND_FIRST, event.getBirthRound() - 2);
+                    shadowGraph.updateEventWindow(EventWindowBuilder.builder()
+                            .setExpiredThreshold(expiredThreshold)
+                            .setAncientThreshold(expiredThreshold)
+                            .build());
+                }
+            }
+            done.set(true);
+            for (final Future<?> reader : readers) {
+                reader.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
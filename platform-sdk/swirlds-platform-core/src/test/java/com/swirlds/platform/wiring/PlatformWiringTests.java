@@ -23,6 +23,7 @@ import com.swirlds.platform.event.branching.BranchDetector;
 import com.swirlds.platform.event.branching.BranchReporter;
 import com.swirlds.platform.event.deduplication.EventDeduplicator;
 import com.swirlds.platform.event.orphan.OrphanBuffer;
+import com.swirlds.platform.event.preconsensus.GroupCommitPcesWriter;
 import com.swirlds.platform.event.preconsensus.InlinePcesWriter;
 import com.swirlds.platform.event.preconsensus.PcesReplayer;
 import com.swirlds.platform.event.resubmitter.TransactionResubmitter;
@@ -72,6 +73,12 @@ class PlatformWiringTests {
                                 .autoDiscoverExtensions()
                                 .withValue("platformWiring.inlinePces", "true")
                                 .build())
+                        .build(),
+                TestPlatformContextBuilder.create()
+                        .withConfiguration(ConfigurationBuilder.create()
+                                .autoDiscoverExtensions()
+                                .withValue("event.preconsensus.groupCommitEnabled", "true")
+                                .build())
                         .build());
     }
 
@@ -105,6 +112,7 @@ class PlatformWiringTests {
                 .withStatusStateMachine(mock(StatusStateMachine.class))
                 .withTransactionPrehandler(mock(TransactionPrehandler.class))
                 .withInlinePcesWriter(mock(InlinePcesWriter.class))
+                .withGroupCommitPcesWriter(mock(GroupCommitPcesWriter.class))
                 .withSignedStateSentinel(mock(SignedStateSentinel.class))
                 .withIssDetector(mock(IssDetector.class))
                 .withIssHandler(mock(IssHandler.class))
@@ -0,0 +1,127 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.virtualmap.internal.cache; // NOSONAR: Needed to benchmark internal classes
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares {@link ConcurrentLongObjectMap} with a {@link ConcurrentHashMap} of {@link Long} keys, which
+ * {@link VirtualNodeCache} used for its path indexes before. Operations are the ones the cache runs on the
+ * indexes: concurrent {@code compute()} calls when leaves and hashes are updated, lock-free {@code get()}
+ * calls when they are looked up, iteration when copies are merged and flushed, and filling a new index.
+ * <p>
+ * Keys are leaf paths in the range {@code [size, 2 * size)}, the same as in a virtual map of {@link #size}
+ * leaves. Run with {@code -prof gc} to compare allocation rates.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+public class ConcurrentLongObjectMapBench {
+
+    private static final Object VALUE = new Object();
+
+    @Param({"1000000"})
+    public int size;
+
+    private ConcurrentHashMap<Long, Object> hashMap;
+
+    private ConcurrentLongObjectMap<Object> longMap;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        hashMap = new ConcurrentHashMap<>();
+        longMap = new ConcurrentLongObjectMap<>();
+        for (long path = size; path < 2L * size; path++) {
+            hashMap.put(path, VALUE);
+            longMap.put(path, VALUE);
+        }
+    }
+
+    private long randomPath() {
+        return size + ThreadLocalRandom.current().nextInt(size);
+    }
+
+    @Benchmark
+    @Threads(4)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Object computeHashMap() {
+        return hashMap.compute(randomPath(), (path, value) -> value == null ? VALUE : value);
+    }
+
+    @Benchmark
+    @Threads(4)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Object computeLongMap() {
+        return longMap.compute(randomPath(), (path, value) -> value == null ? VALUE : value);
+    }
+
+    @Benchmark
+    @Threads(4)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Object getHashMap() {
+        return hashMap.get(randomPath());
+    }
+
+    @Benchmark
+    @Threads(4)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Object getLongMap() {
+        return longMap.get(randomPath());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void forEachHashMap(final Blackhole blackhole) {
+        hashMap.forEach((path, value) -> blackhole.consume(path));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void forEachLongMap(final Blackhole blackhole) {
+        longMap.forEach((path, value) -> blackhole.consume(path));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Object fillHashMap() {
+        final ConcurrentHashMap<Long, Object> map = new ConcurrentHashMap<>();
+        for (long path = size; path < 2L * size; path++) {
+            map.put(path, VALUE);
+        }
+        return map;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Object fillLongMap() {
+        final ConcurrentLongObjectMap<Object> map = new ConcurrentLongObjectMap<>();
+        for (long path = size; path < 2L * size; path++) {
+            map.put(path, VALUE);
+        }
+        return map;
+    }
+}
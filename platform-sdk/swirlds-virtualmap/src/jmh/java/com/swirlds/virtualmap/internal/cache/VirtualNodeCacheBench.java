@@ -0,0 +1,135 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.virtualmap.internal.cache; // NOSONAR: Needed to benchmark internal classes
+
+import static com.swirlds.virtualmap.test.fixtures.VirtualMapTestUtils.VIRTUAL_MAP_CONFIG;
+
+import com.swirlds.virtualmap.datasource.VirtualLeafRecord;
+import com.swirlds.virtualmap.test.fixtures.TestKey;
+import com.swirlds.virtualmap.test.fixtures.TestValue;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.hiero.base.crypto.Hash;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks {@link VirtualNodeCache} rounds. Every round updates random leaves in the mutable cache copy,
+ * makes a new copy, puts hashes for all dirty leaves and their parents to the previous copy, and seals it.
+ * Every {@link #roundsPerFlush} rounds, all sealed copies are merged, and dirty leaves and hashes are
+ * collected for flush, same as virtual pipeline does. Time spent in {@link VirtualNodeCache#dirtyLeavesForFlush}
+ * and {@link VirtualNodeCache#dirtyHashesForFlush} is reported as auxiliary counters, in microseconds.
+ * <p>
+ * Run with {@code -prof gc} to get allocation rate per round.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class VirtualNodeCacheBench {
+
+    private static final Hash HASH = new Hash();
+
+    @Param({"1000000"})
+    public int mapSize;
+
+    @Param({"10000"})
+    public int updatesPerRound;
+
+    @Param({"10"})
+    public int roundsPerFlush;
+
+    private Random random;
+
+    private long firstLeafPath;
+
+    private long lastLeafPath;
+
+    // The mutable copy
+    private VirtualNodeCache<TestKey, TestValue> cache;
+
+    // Sealed copies, the oldest copy first
+    private final Deque<VirtualNodeCache<TestKey, TestValue>> sealedCopies = new ArrayDeque<>();
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class FlushCounters {
+        public long dirtyLeavesForFlushUs;
+        public long dirtyHashesForFlushUs;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            dirtyLeavesForFlushUs = 0;
+            dirtyHashesForFlushUs = 0;
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        random = new Random(12341);
+        firstLeafPath = mapSize - 1L;
+        lastLeafPath = 2L * mapSize - 2;
+        cache = new VirtualNodeCache<>(VIRTUAL_MAP_CONFIG);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        while (!sealedCopies.isEmpty()) {
+            sealedCopies.pollFirst().release();
+        }
+        cache.release();
+    }
+
+    @Benchmark
+    public void round(final FlushCounters counters, final Blackhole blackhole) {
+        for (int i = 0; i < updatesPerRound; i++) {
+            final long path = firstLeafPath + random.nextInt(mapSize);
+            cache.putLeaf(new VirtualLeafRecord<>(path, new TestKey(path), new TestValue(i)));
+        }
+        final VirtualNodeCache<TestKey, TestValue> toHash = cache;
+        cache = cache.copy();
+        toHash.dirtyLeavesForHash(firstLeafPath, lastLeafPath).forEach(leaf -> {
+            for (long path = leaf.getPath(); path > 0; path = (path - 1) / 2) {
+                toHash.putHash(path, HASH);
+            }
+            toHash.putHash(0, HASH);
+        });
+        toHash.seal();
+        sealedCopies.addLast(toHash);
+        if (sealedCopies.size() >= roundsPerFlush) {
+            flush(counters, blackhole);
+        }
+    }
+
+    private void flush(final FlushCounters counters, final Blackhole blackhole) {
+        VirtualNodeCache<TestKey, TestValue> toFlush = sealedCopies.pollFirst();
+        while (!sealedCopies.isEmpty()) {
+            toFlush.merge();
+            toFlush = sealedCopies.pollFirst();
+        }
+        final long start = System.nanoTime();
+        toFlush.dirtyLeavesForFlush(firstLeafPath, lastLeafPath).forEach(blackhole::consume);
+        final long leavesDone = System.nanoTime();
+        toFlush.dirtyHashesForFlush(lastLeafPath).forEach(blackhole::consume);
+        final long hashesDone = System.nanoTime();
+        counters.dirtyLeavesForFlushUs += TimeUnit.NANOSECONDS.toMicros(leavesDone - start);
+        counters.dirtyHashesForFlushUs += TimeUnit.NANOSECONDS.toMicros(hashesDone - leavesDone);
+        toFlush.release();
+    }
+}
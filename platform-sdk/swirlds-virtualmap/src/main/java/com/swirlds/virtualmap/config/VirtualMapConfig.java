@@ -29,6 +29,18 @@ import java.time.Duration;
  *      During reconnect, virtual nodes are periodically flushed to disk after they are hashed. This
  *      interval indicates the number of nodes to hash before they are flushed to disk. If zero, all
  *      hashed nodes are flushed in the end of reconnect hashing only.
+ * @param reconnectFileChunkSize
+ *      The size of file chunks in the {@link VirtualMapReconnectMode#FILES files} reconnect mode, in bytes. Every
+ *      snapshot file is split into chunks of this size, and a chunk is only sent to the learner if the learner
+ *      doesn't have a chunk with the same hash. Only the teacher's value is used.
+ * @param reconnectPullStreams
+ *      The number of parallel streams in the {@link VirtualMapReconnectMode#PULL_PARALLEL parallel pull} reconnect
+ *      mode. On the learner, this is the number of virtual tree partitions requested independently. On the teacher,
+ *      this is the number of threads to process learner requests.
+ * @param reconnectPullStreamCredits
+ *      The max number of requests in flight per stream in the {@link VirtualMapReconnectMode#PULL_PARALLEL parallel
+ *      pull} reconnect mode. The learner doesn't send more requests in a stream until responses for previous requests
+ *      are received. Only the learner's value is used.
  * @param percentCleanerThreads
  * 		Gets the percentage (from 0.0 to 100.0) of available processors to devote to cache
  * 		cleaner threads. Ignored if an explicit number of threads is given via {@code virtualMap.numCleanerThreads}.
@@ -69,6 +81,16 @@ import java.time.Duration;
  * 		increase the amount of time required to make a fast copy by this amount of time.
  * @param maximumFlushThrottlePeriod
  * 		The maximum amount of time that any virtual map fast copy will be delayed due to a flush backlog.
+ * @param adaptiveFlushEnabled
+ *      If true, virtual pipeline learns copy flush and hash throughputs, flushes copies that are predicted
+ *      to take at least {@link #adaptiveFlushTargetDuration} to flush, and slows down fast copies, when the
+ *      predicted time to hash and flush all copies exceeds {@link #adaptiveBacklogTargetDuration}.
+ * @param adaptiveFlushTargetDuration
+ *      Target duration of a single copy flush. Only used if {@link #adaptiveFlushEnabled} is true.
+ * @param adaptiveBacklogTargetDuration
+ *      Target time to hash and flush all copies in a virtual pipeline. If the predicted time is greater,
+ *      fast copies are slowed down, up to {@link #maximumFlushThrottlePeriod}. Only used if {@link
+ *      #adaptiveFlushEnabled} is true.
  */
 @ConfigData("virtualMap")
 public record VirtualMapConfig(
@@ -77,6 +99,9 @@ public record VirtualMapConfig(
         @Min(1) @Max(64) @ConfigProperty(defaultValue = "3") int virtualHasherChunkHeight,
         @ConfigProperty(defaultValue = PUSH) String reconnectMode,
         @Min(0) @ConfigProperty(defaultValue = "500000") int reconnectFlushInterval,
+        @Min(4096) @ConfigProperty(defaultValue = "8388608") int reconnectFileChunkSize,
+        @Min(1) @ConfigProperty(defaultValue = "8") int reconnectPullStreams,
+        @Min(1) @ConfigProperty(defaultValue = "4096") int reconnectPullStreamCredits,
         @Min(0) @Max(100) @ConfigProperty(defaultValue = "25.0")
                 double percentCleanerThreads, // FUTURE WORK: We need to add min/max support for double values
         @Min(-1) @ConfigProperty(defaultValue = "-1") int numCleanerThreads,
@@ -90,7 +115,10 @@ public record VirtualMapConfig(
         @ConfigProperty(defaultValue = "2000000000") long familyThrottleThreshold,
         @ConfigProperty(defaultValue = "10000") int preferredFlushQueueSize,
         @ConfigProperty(defaultValue = "200ms") Duration flushThrottleStepSize,
-        @ConfigProperty(defaultValue = "5s") Duration maximumFlushThrottlePeriod) {
+        @ConfigProperty(defaultValue = "5s") Duration maximumFlushThrottlePeriod,
+        @ConfigProperty(defaultValue = "false") boolean adaptiveFlushEnabled,
+        @ConfigProperty(defaultValue = "2s") Duration adaptiveFlushTargetDuration,
+        @ConfigProperty(defaultValue = "10s") Duration adaptiveBacklogTargetDuration) {
 
     private static final double UNIT_FRACTION_PERCENT = 100.0;
 
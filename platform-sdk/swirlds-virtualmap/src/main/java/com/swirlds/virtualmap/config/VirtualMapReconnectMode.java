@@ -24,5 +24,19 @@ public final class VirtualMapReconnectMode {
      */
     public static final String PULL_TWO_PHASE_PESSIMISTIC = "pullTwoPhasePessimistic";
 
+    /**
+     * "Pull / parallel" reconnect mode, when the virtual tree is split into partitions by sub-tree path
+     * ranges, and learner sends requests for every partition in a separate stream, top to bottom. All
+     * streams share the same connection, every stream has its own flow control credits
+     */
+    public static final String PULL_PARALLEL = "pullParallel";
+
+    /**
+     * "Files" reconnect mode, when teacher takes a snapshot of its virtual map, and learner only
+     * requests the snapshot file chunks it doesn't have locally, identified by their hashes. The
+     * learner then verifies the received snapshot by hashing all its leaves
+     */
+    public static final String FILES = "files";
+
     private VirtualMapReconnectMode() {}
 }
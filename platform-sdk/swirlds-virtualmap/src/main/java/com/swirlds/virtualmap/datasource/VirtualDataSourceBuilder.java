@@ -2,6 +2,8 @@
 package com.swirlds.virtualmap.datasource;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import org.hiero.base.io.SelfSerializable;
 
@@ -89,4 +91,48 @@ public interface VirtualDataSourceBuilder extends SelfSerializable {
      */
     @NonNull
     VirtualDataSource restore(String label, Path source);
+
+    /**
+     * Creates a new empty directory to be used as a snapshot destination in {@link #snapshot(Path,
+     * VirtualDataSource)} or as a snapshot source in {@link #importSnapshot(Path, VirtualDataSource)}.
+     * The caller owns the directory and is responsible for deleting it when it is no longer needed.
+     *
+     * <p>Implementations that hard link data files to snapshots should create the directory on the
+     * same file system as data source files.
+     *
+     * @param postfix
+     * 		A postfix to make the directory name easier to understand. Cannot be null
+     * @return
+     * 		The created directory
+     * @throws IOException
+     * 		If the directory cannot be created
+     */
+    @NonNull
+    default Path createSnapshotDirectory(@NonNull final String postfix) throws IOException {
+        return Files.createTempDirectory(postfix);
+    }
+
+    /**
+     * Builds a new {@link VirtualDataSource} by importing a data source snapshot from the given folder
+     * to the storage of the given data source. The new data source has the same label as the given
+     * data source and becomes active instead of it. The given data source isn't used any longer, the
+     * caller is responsible for closing it. Unlike {@link #restore(String, Path)}, this method may be
+     * called while other data sources of this builder are in use.
+     *
+     * <p>This method is used by learners in the {@code files} reconnect mode, when a snapshot of the
+     * teacher's data source is assembled from files received from the teacher.
+     *
+     * @param source
+     * 		The snapshot folder. Cannot be null
+     * @param replaceMe
+     * 		The data source to replace. Cannot be null
+     * @return
+     * 		An opened {@link VirtualDataSource}
+     * @throws UnsupportedOperationException
+     * 		If this builder doesn't support snapshot imports
+     */
+    @NonNull
+    default VirtualDataSource importSnapshot(@NonNull final Path source, @NonNull final VirtualDataSource replaceMe) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " doesn't support snapshot imports");
+    }
 }
@@ -0,0 +1,360 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.virtualmap.internal.cache;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A concurrent map from primitive longs to objects, optimized for use by the {@link VirtualNodeCache}
+ * path indexes.
+ * <p>
+ * Compared to a {@link java.util.concurrent.ConcurrentHashMap} of {@link Long} keys, this map doesn't box
+ * keys and doesn't allocate a node object per entry. Entries are stored in open-addressing tables with
+ * linear probing, one table per segment. Reads are lock-free. Updates lock a single segment, so updates
+ * to different segments don't contend with each other. The number of segments is fixed.
+ * <p>
+ * Once a key is stored in a table slot, the slot is never reused for a different key. When an entry is
+ * removed, its value is set to null, but the key is kept in the slot, so lock-free readers probing the
+ * table never miss a key because of a concurrent removal. Removed entries are dropped, when the segment
+ * table is rebuilt on resize. When an update needs to resize a table, a new table is built and then
+ * published, readers that still use the old table see the state before the update.
+ * <p>
+ * Null values aren't supported, a null value means there is no entry for the key. {@link #NO_KEY} can't
+ * be used as a key. Iteration with {@link #forEach(EntryConsumer)} is weakly consistent, same as
+ * iteration over a concurrent hash map.
+ *
+ * @param <V>
+ * 		the value type
+ */
+final class ConcurrentLongObjectMap<V> {
+
+    /**
+     * A marker for empty table slots. It can't be used as a key. Paths are never negative, so
+     * it's not a limitation for path indexes.
+     */
+    static final long NO_KEY = Long.MIN_VALUE;
+
+    /**
+     * Default number of segments.
+     */
+    private static final int DEFAULT_SEGMENT_COUNT = 64;
+
+    /**
+     * Initial number of slots in every segment table.
+     */
+    private static final int MIN_TABLE_CAPACITY = 16;
+
+    /**
+     * Segments, the length is a power of two.
+     */
+    private final Segment<V>[] segments;
+
+    /**
+     * Number of bits to shift a key hash to get a segment index.
+     */
+    private final int segmentShift;
+
+    /**
+     * A function to compute a new value for a key, see {@link #compute(long, RemappingFunction)}.
+     *
+     * @param <V>
+     * 		the value type
+     */
+    @FunctionalInterface
+    interface RemappingFunction<V> {
+        /**
+         * Computes a new value for a key.
+         *
+         * @param key
+         * 		the key
+         * @param value
+         * 		the current value, or null if there is no entry for the key
+         * @return the new value, or null to remove the entry
+         */
+        V apply(long key, V value);
+    }
+
+    /**
+     * An action to perform on every entry in the map, see {@link #forEach(EntryConsumer)}.
+     *
+     * @param <V>
+     * 		the value type
+     * @param <E>
+     * 		the exception type the action may throw
+     */
+    @FunctionalInterface
+    interface EntryConsumer<V, E extends Exception> {
+        /**
+         * Performs the action on an entry.
+         *
+         * @param key
+         * 		the key
+         * @param value
+         * 		the value, never null
+         * @throws E
+         * 		if the action fails
+         */
+        void accept(long key, V value) throws E;
+    }
+
+    /**
+     * Create a new empty map with the default number of segments.
+     */
+    ConcurrentLongObjectMap() {
+        this(DEFAULT_SEGMENT_COUNT);
+    }
+
+    /**
+     * Create a new empty map.
+     *
+     * @param segmentCount
+     * 		the number of segments, must be a power of two, at least 2
+     * @throws IllegalArgumentException
+     * 		if the segment count is not a power of two, or is less than 2
+     */
+    @SuppressWarnings("unchecked")
+    ConcurrentLongObjectMap(final int segmentCount) {
+        // With a single segment, the segment shift would be 64, but Java only uses the lower six bits
+        // of a long shift distance, so hash >>> 64 is the hash itself
+        if ((segmentCount < 2) || (Integer.bitCount(segmentCount) != 1)) {
+            throw new IllegalArgumentException("Segment count must be a power of two, at least 2: " + segmentCount);
+        }
+        segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment<>();
+        }
+        segmentShift = Long.SIZE - Integer.numberOfTrailingZeros(segmentCount);
+    }
+
+    /**
+     * Gets the value for the given key. This method is lock-free.
+     *
+     * @param key
+     * 		the key
+     * @return the value, or null if there is no entry for the key
+     */
+    V get(final long key) {
+        final long hash = hash(key);
+        final Table<V> table = segmentFor(hash).table;
+        final int slot = table.find(key, hash);
+        return (slot >= 0) ? table.values.get(slot) : null;
+    }
+
+    /**
+     * Computes a new value for the given key, same as {@link java.util.Map#compute}. The function is called
+     * exactly once, while the key segment is locked, so it should be short and must not update this map.
+     *
+     * @param key
+     * 		the key, must not be {@link #NO_KEY}
+     * @param function
+     * 		the function to compute the new value
+     * @return the new value, or null if the entry is removed
+     */
+    V compute(final long key, final RemappingFunction<V> function) {
+        assert key != NO_KEY : "Illegal key";
+        final long hash = hash(key);
+        final Segment<V> segment = segmentFor(hash);
+        synchronized (segment) {
+            Table<V> table = segment.table;
+            int slot = table.find(key, hash);
+            final V oldValue = (slot >= 0) ? table.values.get(slot) : null;
+            final V newValue = function.apply(key, oldValue);
+            if (slot >= 0) {
+                table.values.set(slot, newValue);
+            } else if (newValue != null) {
+                if (segment.usedSlots + 1 > table.threshold()) {
+                    table = segment.rebuild(segment.size + 1);
+                }
+                slot = table.insert(key, hash, newValue);
+                segment.usedSlots++;
+            }
+            if ((oldValue == null) && (newValue != null)) {
+                segment.size++;
+            } else if ((oldValue != null) && (newValue == null)) {
+                segment.size--;
+            }
+            return newValue;
+        }
+    }
+
+    /**
+     * Puts a value for the given key.
+     *
+     * @param key
+     * 		the key, must not be {@link #NO_KEY}
+     * @param value
+     * 		the value, null to remove the entry
+     */
+    void put(final long key, final V value) {
+        compute(key, (k, v) -> value);
+    }
+
+    /**
+     * Gets the number of entries in the map. Under contention, the result is an estimate.
+     *
+     * @return the number of entries
+     */
+    int size() {
+        int size = 0;
+        for (final Segment<V> segment : segments) {
+            size += segment.size;
+        }
+        return size;
+    }
+
+    /**
+     * Performs the given action on every entry in the map. This method doesn't lock the map. Entries
+     * added or removed concurrently may or may not be visited.
+     *
+     * @param action
+     * 		the action
+     * @param <E>
+     * 		the exception type the action may throw
+     * @throws E
+     * 		if the action fails
+     */
+    <E extends Exception> void forEach(final EntryConsumer<V, E> action) throws E {
+        for (final Segment<V> segment : segments) {
+            final Table<V> table = segment.table;
+            for (int i = 0; i < table.capacity(); i++) {
+                final long key = table.keys.get(i);
+                if (key != NO_KEY) {
+                    final V value = table.values.get(i);
+                    if (value != null) {
+                        action.accept(key, value);
+                    }
+                }
+            }
+        }
+    }
+
+    private Segment<V> segmentFor(final long hash) {
+        return segments[(int) (hash >>> segmentShift)];
+    }
+
+    /**
+     * Key hash function. Paths are sequential, so they have to be spread over all segments and
+     * slots. High bits are used for segments, low bits for slots.
+     */
+    private static long hash(final long key) {
+        final long h = key * 0x9E3779B97F4A7C15L;
+        return h ^ (h >>> 32);
+    }
+
+    /**
+     * A segment of the map. All updates are synchronized on the segment.
+     */
+    private static final class Segment<V> {
+
+        /**
+         * The current table. Replaced on resize.
+         */
+        private volatile Table<V> table = new Table<>(MIN_TABLE_CAPACITY);
+
+        /**
+         * The number of entries with non-null values in the segment. Only updated under the segment lock.
+         */
+        private volatile int size = 0;
+
+        /**
+         * The number of table slots with keys, including removed entries. Guarded by the segment lock.
+         */
+        private int usedSlots = 0;
+
+        /**
+         * Builds a new table for at least the given number of entries, copies all entries with non-null
+         * values from the current table to it, and publishes the new table. Must be called under the
+         * segment lock.
+         *
+         * @param minSize
+         * 		the min number of entries in the new table
+         * @return the new table
+         */
+        Table<V> rebuild(final int minSize) {
+            final Table<V> oldTable = table;
+            // Keep the new table at most half full
+            final int capacity = Math.max(MIN_TABLE_CAPACITY, Integer.highestOneBit(minSize * 2 - 1) << 1);
+            final Table<V> newTable = new Table<>(capacity);
+            int used = 0;
+            for (int i = 0; i < oldTable.capacity(); i++) {
+                final long key = oldTable.keys.get(i);
+                final V value = oldTable.values.get(i);
+                if ((key != NO_KEY) && (value != null)) {
+                    newTable.insert(key, hash(key), value);
+                    used++;
+                }
+            }
+            usedSlots = used;
+            table = newTable;
+            return newTable;
+        }
+    }
+
+    /**
+     * An open-addressing table with linear probing.
+     */
+    private static final class Table<V> {
+
+        private final AtomicLongArray keys;
+
+        private final AtomicReferenceArray<V> values;
+
+        private final int mask;
+
+        Table(final int capacity) {
+            keys = new AtomicLongArray(capacity);
+            for (int i = 0; i < capacity; i++) {
+                keys.setPlain(i, NO_KEY);
+            }
+            values = new AtomicReferenceArray<>(capacity);
+            mask = capacity - 1;
+        }
+
+        int capacity() {
+            return mask + 1;
+        }
+
+        /**
+         * The max number of used slots, 3/4 of the capacity.
+         */
+        int threshold() {
+            return capacity() - (capacity() >>> 2);
+        }
+
+        /**
+         * Finds the slot with the given key.
+         *
+         * @return the slot, or -1 if the key isn't in the table
+         */
+        int find(final long key, final long hash) {
+            int slot = (int) hash & mask;
+            while (true) {
+                final long slotKey = keys.get(slot);
+                if (slotKey == key) {
+                    return slot;
+                }
+                if (slotKey == NO_KEY) {
+                    return -1;
+                }
+                slot = (slot + 1) & mask;
+            }
+        }
+
+        /**
+         * Inserts a new key to the first empty slot. The key must not be in the table yet, and the
+         * table must have empty slots. The value is set before the key, so readers never see the key
+         * without the value.
+         *
+         * @return the slot
+         */
+        int insert(final long key, final long hash, final V value) {
+            int slot = (int) hash & mask;
+            while (keys.get(slot) != NO_KEY) {
+                slot = (slot + 1) & mask;
+            }
+            values.set(slot, value);
+            keys.set(slot, key);
+            return slot;
+        }
+    }
+}
@@ -4,6 +4,7 @@ package com.swirlds.virtualmap.internal.cache;
 import static com.swirlds.common.threading.manager.AdHocThreadManager.getStaticThreadManager;
 import static com.swirlds.logging.legacy.LogMarker.EXCEPTION;
 import static com.swirlds.logging.legacy.LogMarker.VIRTUAL_MERKLE_STATS;
+import static com.swirlds.virtualmap.internal.Path.INVALID_PATH;
 import static com.swirlds.virtualmap.internal.cache.VirtualNodeCache.CLASS_ID;
 import static java.util.Objects.requireNonNull;
 
@@ -82,7 +83,8 @@ import org.hiero.base.io.streams.SerializableDataOutputStream;
  * <p>
  * To fulfill these design requirements, each "chain" of caches share three different indexes:
  * {@link #keyToDirtyLeafIndex}, {@link #pathToDirtyLeafIndex}, and {@link #pathToDirtyHashIndex}.
- * Each of these is a map from either the leaf key or a path (long) to a custom linked list data structure. Each element
+ * Each of these is a map from either the leaf key or a path (long) to a custom linked list data structure. Path
+ * indexes are {@link ConcurrentLongObjectMap}s, so paths are never boxed. Each element
  * in the list is a {@link Mutation} with a reference to the data item (either a {@link VirtualHashRecord}
  * or a {@link VirtualLeafRecord}, depending on the list), and a reference to the next {@link Mutation}
  * in the list. In this way, given a leaf key or path (based on the index), you can get the linked list and
@@ -208,21 +210,21 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
      * <p>
      * <strong>ONE PER CHAIN OF CACHES</strong>.
      */
-    private final Map<K, Mutation<K, VirtualLeafRecord<K, V>>> keyToDirtyLeafIndex;
+    private final Map<K, Mutation<VirtualLeafRecord<K, V>>> keyToDirtyLeafIndex;
 
     /**
      * A shared index of paths to leaves, via {@link Mutation}s. Works the same as {@link #keyToDirtyLeafIndex}.
      * <p>
      * <strong>ONE PER CHAIN OF CACHES</strong>.
      */
-    private final Map<Long, Mutation<Long, K>> pathToDirtyLeafIndex;
+    private final ConcurrentLongObjectMap<Mutation<K>> pathToDirtyLeafIndex;
 
     /**
      * A shared index of paths to internals, via {@link Mutation}s. Works the same as {@link #keyToDirtyLeafIndex}.
      * <p>
      * <strong>ONE PER CHAIN OF CACHES</strong>.
      */
-    private final Map<Long, Mutation<Long, Hash>> pathToDirtyHashIndex;
+    private final ConcurrentLongObjectMap<Mutation<Hash>> pathToDirtyHashIndex;
 
     /**
      * Whether this instance is released. A released cache is often the last in the
@@ -258,7 +260,7 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
      * <p>
      * <strong>ONE PER CACHE INSTANCE</strong>.
      */
-    private volatile ConcurrentArray<Mutation<K, VirtualLeafRecord<K, V>>> dirtyLeaves = new ConcurrentArray<>();
+    private volatile ConcurrentArray<Mutation<VirtualLeafRecord<K, V>>> dirtyLeaves = new ConcurrentArray<>();
 
     /**
      * A set of leaf path changes that occurred in this version of the cache. This is separate
@@ -268,7 +270,7 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
      * <p>
      * <strong>ONE PER CACHE INSTANCE</strong>.
      */
-    private volatile ConcurrentArray<Mutation<Long, K>> dirtyLeafPaths = new ConcurrentArray<>();
+    private volatile ConcurrentArray<Mutation<K>> dirtyLeafPaths = new ConcurrentArray<>();
 
     /**
      * A set of all modifications to node hashes that occurred in this version of the cache.
@@ -278,7 +280,7 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
      * <p>
      * <strong>ONE PER CACHE INSTANCE</strong>.
      */
-    private volatile ConcurrentArray<Mutation<Long, Hash>> dirtyHashes = new ConcurrentArray<>();
+    private volatile ConcurrentArray<Mutation<Hash>> dirtyHashes = new ConcurrentArray<>();
 
     /**
      * Indicates if this virtual cache instance contains mutations from older cache versions
@@ -334,8 +336,8 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
      */
     public VirtualNodeCache(final @NonNull VirtualMapConfig virtualMapConfig, long fastCopyVersion) {
         this.keyToDirtyLeafIndex = new ConcurrentHashMap<>();
-        this.pathToDirtyLeafIndex = new ConcurrentHashMap<>();
-        this.pathToDirtyHashIndex = new ConcurrentHashMap<>();
+        this.pathToDirtyLeafIndex = new ConcurrentLongObjectMap<>();
+        this.pathToDirtyHashIndex = new ConcurrentLongObjectMap<>();
         this.releaseLock = new ReentrantLock();
         this.lastReleased = new AtomicLong(-1L);
         this.fastCopyVersion.set(fastCopyVersion);
@@ -450,9 +452,9 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
 
         // Fire off the cleaning threads to go and clear out data in the indexes that doesn't need
         // to be there anymore.
-        purge(dirtyLeaves, keyToDirtyLeafIndex, virtualMapConfig);
-        purge(dirtyLeafPaths, pathToDirtyLeafIndex, virtualMapConfig);
-        purge(dirtyHashes, pathToDirtyHashIndex, virtualMapConfig);
+        purgeKeys(dirtyLeaves, keyToDirtyLeafIndex, virtualMapConfig);
+        purgePaths(dirtyLeafPaths, pathToDirtyLeafIndex, virtualMapConfig);
+        purgePaths(dirtyHashes, pathToDirtyHashIndex, virtualMapConfig);
 
         dirtyLeaves = null;
         dirtyLeafPaths = null;
@@ -669,7 +671,7 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
 
         // Get the newest mutation that is less or equal to this fastCopyVersion. If forModify and
         // the mutation does not exactly equal this fastCopyVersion, then create a mutation.
-        final Mutation<K, VirtualLeafRecord<K, V>> mutation = lookup(keyToDirtyLeafIndex.get(key));
+        final Mutation<VirtualLeafRecord<K, V>> mutation = lookup(keyToDirtyLeafIndex.get(key));
 
         // Always return null if there is no mutation regardless of forModify
         if (mutation == null) {
@@ -733,7 +735,7 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
         // Note that the mutations in pathToDirtyLeafIndex contain the *path* as the key,
         // and a leaf record *key* as the value. Thus, we look up a mutation first in the
         // pathToDirtyLeafIndex, get the leaf key, and then lookup based on that key.
-        final Mutation<Long, K> mutation = lookup(pathToDirtyLeafIndex.get(path));
+        final Mutation<K> mutation = lookup(pathToDirtyLeafIndex.get(path));
         // If mutation is null (path is unknown), return null regardless of forModify
         if (mutation == null) {
             return null;
@@ -853,8 +855,8 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
         final Map<K, VirtualLeafRecord<K, V>> leaves = new ConcurrentHashMap<>();
         final StandardFuture<Void> result = dirtyLeaves.parallelTraverse(getCleaningPool(virtualMapConfig), element -> {
             if (element.isDeleted()) {
-                final K key = element.key;
-                final Mutation<K, VirtualLeafRecord<K, V>> mutation = lookup(keyToDirtyLeafIndex.get(key));
+                final K key = element.value.getKey();
+                final Mutation<VirtualLeafRecord<K, V>> mutation = lookup(keyToDirtyLeafIndex.get(key));
                 if (mutation != null && mutation.isDeleted()) {
                     leaves.putIfAbsent(key, element.value);
                 }
@@ -956,7 +958,7 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
             return null;
         }
 
-        final Mutation<Long, Hash> mutation = lookup(pathToDirtyHashIndex.get(path));
+        final Mutation<Hash> mutation = lookup(pathToDirtyHashIndex.get(path));
 
         // Always return null if there is no mutation regardless of forModify
         if ((mutation == null) || (mutation.value == NULL_HASH)) {
@@ -1000,10 +1002,10 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
         // Mark obsolete mutations to filter later
         filterMutations(dirtyHashes, virtualMapConfig);
         return dirtyHashes.stream()
-                .filter(mutation -> mutation.key <= lastLeafPath)
+                .filter(mutation -> mutation.path <= lastLeafPath)
                 .filter(mutation -> !mutation.isFiltered())
                 .map(mutation ->
-                        new VirtualHashRecord(mutation.key, mutation.value != NULL_HASH ? mutation.value : null));
+                        new VirtualHashRecord(mutation.path, mutation.value != NULL_HASH ? mutation.value : null));
     }
 
     /**
@@ -1085,9 +1087,9 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
     public VirtualNodeCache<K, V> snapshot() {
         synchronized (lastReleased) {
             final VirtualNodeCache<K, V> newSnapshot = new VirtualNodeCache<>(virtualMapConfig);
-            setMapSnapshotAndArray(
+            setPathMapSnapshotAndArray(
                     this.pathToDirtyHashIndex, newSnapshot.pathToDirtyHashIndex, newSnapshot.dirtyHashes);
-            setMapSnapshotAndArray(
+            setPathMapSnapshotAndArray(
                     this.pathToDirtyLeafIndex, newSnapshot.pathToDirtyLeafIndex, newSnapshot.dirtyLeafPaths);
             setMapSnapshotAndArray(this.keyToDirtyLeafIndex, newSnapshot.keyToDirtyLeafIndex, newSnapshot.dirtyLeaves);
             newSnapshot.snapshot.set(true);
@@ -1181,14 +1183,14 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
     private <V1> void updatePaths(
             final V1 value,
             final long path,
-            final Map<Long, Mutation<Long, V1>> index,
-            final ConcurrentArray<Mutation<Long, V1>> dirtyPaths) {
+            final ConcurrentLongObjectMap<Mutation<V1>> index,
+            final ConcurrentArray<Mutation<V1>> dirtyPaths) {
         index.compute(path, (key, mutation) -> {
             // If there is no mutation or the mutation isn't for this version, then we need to create a new mutation.
             // Note that this code DEPENDS on hashing only a single round at a time. VirtualPipeline
             // enforces this constraint.
-            Mutation<Long, V1> nextMutation = mutation;
-            Mutation<Long, V1> previousMutation = null;
+            Mutation<V1> nextMutation = mutation;
+            Mutation<V1> previousMutation = null;
             while (nextMutation != null && nextMutation.version > fastCopyVersion.get()) {
                 previousMutation = nextMutation;
                 nextMutation = nextMutation.next;
@@ -1224,12 +1226,11 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
      *
      * @param mutation
      * 		The mutation list, can be null.
-     * @param <K1> The key type held by the mutation. Either a Key or a path.
-     * @param <V1>>
+     * @param <V1>
      * 		The value type held by the mutation. It will be either a Key, leaf record, or a hash.
      * @return null if the mutation could be found, or the mutation.
      */
-    private <K1, V1> Mutation<K1, V1> lookup(Mutation<K1, V1> mutation) {
+    private <V1> Mutation<V1> lookup(Mutation<V1> mutation) {
         // Walk the list of values until we find the best match for our version
         for (; ; ) {
             // If mutation is null, then there is nothing else to look for. We're done.
@@ -1255,8 +1256,8 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
      * 		The list of mutations for this leaf. This can be null.
      * @return The mutation for this leaf.
      */
-    private Mutation<K, VirtualLeafRecord<K, V>> mutate(
-            final VirtualLeafRecord<K, V> leaf, Mutation<K, VirtualLeafRecord<K, V>> mutation) {
+    private Mutation<VirtualLeafRecord<K, V>> mutate(
+            final VirtualLeafRecord<K, V> leaf, Mutation<VirtualLeafRecord<K, V>> mutation) {
 
         // We only create a new mutation if one of the following is true:
         //  - There is no mutation in the cache (mutation == null)
@@ -1266,8 +1267,8 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
             // So it should be true that this cache does not have this leaf in dirtyLeaves.
 
             // Create a new mutation
-            final Mutation<K, VirtualLeafRecord<K, V>> newerMutation =
-                    new Mutation<>(mutation, leaf.getKey(), leaf, fastCopyVersion.get());
+            final Mutation<VirtualLeafRecord<K, V>> newerMutation =
+                    new Mutation<>(mutation, INVALID_PATH, leaf, fastCopyVersion.get());
             dirtyLeaves.add(newerMutation);
             mutation = newerMutation;
         } else if (mutation.value != leaf) {
@@ -1286,8 +1287,8 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
     }
 
     /**
-     * Called by one of the purge threads to purge entries from the index that no longer have a referent
-     * for the mutation list. This can be called concurrently.
+     * Called by one of the purge threads to purge entries from the leaf key index that no longer have
+     * a referent for the mutation list. This can be called concurrently.
      *
      * BE AWARE: this method is called from the other NON-static method with providing the configuration.
      *
@@ -1296,27 +1297,60 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
      * @param <K>
      * 		The key type used in the index
      * @param <V>
+     * 		The leaf value type
+     */
+    private static <K extends VirtualKey, V extends VirtualValue> void purgeKeys(
+            final ConcurrentArray<Mutation<VirtualLeafRecord<K, V>>> array,
+            final Map<K, Mutation<VirtualLeafRecord<K, V>>> index,
+            @NonNull final VirtualMapConfig virtualMapConfig) {
+        array.parallelTraverse(
+                getCleaningPool(virtualMapConfig),
+                element -> index.compute(element.value.getKey(), (key, mutation) -> purge(element, mutation)));
+    }
+
+    /**
+     * Called by one of the purge threads to purge entries from a path index that no longer have a referent
+     * for the mutation list. This can be called concurrently.
+     *
+     * BE AWARE: this method is called from the other NON-static method with providing the configuration.
+     *
+     * @param index
+     * 		The index to look through for entries to purge
+     * @param <V>
      * 		The value type referenced by the mutation list
      */
-    private static <K, V> void purge(
-            final ConcurrentArray<Mutation<K, V>> array,
-            final Map<K, Mutation<K, V>> index,
+    private static <V> void purgePaths(
+            final ConcurrentArray<Mutation<V>> array,
+            final ConcurrentLongObjectMap<Mutation<V>> index,
             @NonNull final VirtualMapConfig virtualMapConfig) {
         array.parallelTraverse(
                 getCleaningPool(virtualMapConfig),
-                element -> index.compute(element.key, (key, mutation) -> {
-                    if (mutation == null || element.equals(mutation)) {
-                        // Already removed for a more recent mutation
-                        return null;
-                    }
-                    for (Mutation<K, V> m = mutation; m.next != null; m = m.next) {
-                        if (element.equals(m.next)) {
-                            m.next = null;
-                            break;
-                        }
-                    }
-                    return mutation;
-                }));
+                element -> index.compute(element.path, (path, mutation) -> purge(element, mutation)));
+    }
+
+    /**
+     * Removes the given mutation and all older mutations from a mutation list.
+     *
+     * @param element
+     * 		The mutation to remove
+     * @param mutation
+     * 		The mutation list, can be null
+     * @param <V>
+     * 		The value type referenced by the mutation list
+     * @return the new mutation list, or null if the list is empty
+     */
+    private static <V> Mutation<V> purge(final Mutation<V> element, final Mutation<V> mutation) {
+        if (mutation == null || element.equals(mutation)) {
+            // Already removed for a more recent mutation
+            return null;
+        }
+        for (Mutation<V> m = mutation; m.next != null; m = m.next) {
+            if (element.equals(m.next)) {
+                m.next = null;
+                break;
+            }
+        }
+        return mutation;
     }
 
     /**
@@ -1332,17 +1366,15 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
      * BE AWARE: this method is called from the other NON-static method with providing the configuration.
      *
      * @param array the list of mutations to process
-     * @param <K>
-     * 		The key type used in the index
      * @param <V>
      * 		The value type referenced by the mutation list
      */
-    private static <K, V> void filterMutations(
-            final ConcurrentArray<Mutation<K, V>> array, @NonNull final VirtualMapConfig virtualMapConfig) {
-        final Consumer<Mutation<K, V>> action = mutation -> {
+    private static <V> void filterMutations(
+            final ConcurrentArray<Mutation<V>> array, @NonNull final VirtualMapConfig virtualMapConfig) {
+        final Consumer<Mutation<V>> action = mutation -> {
             // local variable is required because mutation.next can be changed by another thread to null
             // see https://github.com/hashgraph/hedera-services/issues/7046 for the context
-            final Mutation<K, V> nextMutation = mutation.next;
+            final Mutation<V> nextMutation = mutation.next;
             if (nextMutation != null) {
                 nextMutation.setFiltered();
             }
@@ -1375,25 +1407,60 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
      * 		Value type
      */
     private <K2, L2> void setMapSnapshotAndArray(
-            final Map<K2, Mutation<K2, L2>> src,
-            final Map<K2, Mutation<K2, L2>> dst,
-            final ConcurrentArray<Mutation<K2, L2>> array) {
-        final long accepted = fastCopyVersion.get();
-        final long rejected = lastReleased.get();
-        for (final Map.Entry<K2, Mutation<K2, L2>> entry : src.entrySet()) {
-            Mutation<K2, L2> mutation = entry.getValue();
-
-            while (mutation != null && mutation.version > accepted) {
-                mutation = mutation.next;
+            final Map<K2, Mutation<L2>> src,
+            final Map<K2, Mutation<L2>> dst,
+            final ConcurrentArray<Mutation<L2>> array) {
+        for (final Map.Entry<K2, Mutation<L2>> entry : src.entrySet()) {
+            final Mutation<L2> mutation = snapshotMutation(entry.getValue());
+            if (mutation != null) {
+                dst.put(entry.getKey(), mutation);
+                array.add(mutation);
             }
+        }
+    }
 
-            if (mutation == null || mutation.version <= rejected) {
-                continue;
+    /**
+     * Copies the mutations from path index {@code src} into {@code dst}, same as
+     * {@link #setMapSnapshotAndArray(Map, Map, ConcurrentArray)}.
+     *
+     * @param src
+     * 		Path index that contains the original mutations
+     * @param dst
+     * 		Path index that acts as the destination of mutations
+     * @param <L2>
+     * 		Value type
+     */
+    private <L2> void setPathMapSnapshotAndArray(
+            final ConcurrentLongObjectMap<Mutation<L2>> src,
+            final ConcurrentLongObjectMap<Mutation<L2>> dst,
+            final ConcurrentArray<Mutation<L2>> array) {
+        src.forEach((path, value) -> {
+            final Mutation<L2> mutation = snapshotMutation(value);
+            if (mutation != null) {
+                dst.put(path, mutation);
+                array.add(mutation);
             }
+        });
+    }
 
-            dst.put(entry.getKey(), mutation);
-            array.add(mutation);
+    /**
+     * Finds the latest mutation in a mutation list with version less than or equal to the
+     * {@code fastCopyVersion}, which is not released yet.
+     *
+     * @param mutation
+     * 		The mutation list, can be null
+     * @return the mutation to include to a snapshot, or null if there is no such mutation
+     */
+    private <L2> Mutation<L2> snapshotMutation(Mutation<L2> mutation) {
+        final long accepted = fastCopyVersion.get();
+        final long rejected = lastReleased.get();
+        while (mutation != null && mutation.version > accepted) {
+            mutation = mutation.next;
+        }
+        if (mutation == null || mutation.version <= rejected) {
+            return null;
         }
+        return mutation;
     }
 
     /**
@@ -1407,13 +1474,12 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
      * 		If something fails.
      */
     private void serializePathToDirtyHashIndex(
-            final Map<Long, Mutation<Long, Hash>> map, final SerializableDataOutputStream out) throws IOException {
+            final ConcurrentLongObjectMap<Mutation<Hash>> map, final SerializableDataOutputStream out)
+            throws IOException {
         assert snapshot.get() : "Only snapshots can be serialized";
         out.writeInt(map.size());
-        for (final Map.Entry<Long, Mutation<Long, Hash>> entry : map.entrySet()) {
-            out.writeLong(entry.getKey());
-            final Mutation<Long, Hash> mutation = entry.getValue();
-            assert mutation != null : "Mutations cannot be null in a snapshot";
+        map.forEach((path, mutation) -> {
+            out.writeLong(path);
             assert mutation.version <= this.fastCopyVersion.get()
                     : "Trying to serialize pathToDirtyInternalIndex with a version ahead";
             out.writeLong(mutation.version);
@@ -1421,7 +1487,7 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
             if (!mutation.isDeleted()) {
                 out.writeSerializable(mutation.value, true);
             }
-        }
+        });
     }
 
     /**
@@ -1435,7 +1501,9 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
      * 		In case of trouble.
      */
     private void deserializePathToDirtyHashIndex(
-            final Map<Long, Mutation<Long, Hash>> map, final SerializableDataInputStream in, final int version)
+            final ConcurrentLongObjectMap<Mutation<Hash>> map,
+            final SerializableDataInputStream in,
+            final int version)
             throws IOException {
         final int sizeOfMap = in.readInt();
         for (int index = 0; index < sizeOfMap; index++) {
@@ -1450,7 +1518,7 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
                 }
                 hash = in.readSerializable();
             }
-            final Mutation<Long, Hash> mutation = new Mutation<>(null, key, hash, mutationVersion);
+            final Mutation<Hash> mutation = new Mutation<>(null, key, hash, mutationVersion);
             mutation.setDeleted(isDeleted);
             map.put(key, mutation);
             dirtyHashes.add(mutation);
@@ -1468,20 +1536,19 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
      * 		If something fails.
      */
     private void serializePathToDirtyLeafIndex(
-            final Map<Long, Mutation<Long, K>> map, final SerializableDataOutputStream out) throws IOException {
+            final ConcurrentLongObjectMap<Mutation<K>> map, final SerializableDataOutputStream out)
+            throws IOException {
         assert snapshot.get() : "Only snapshots can be serialized";
         out.writeInt(map.size());
-        for (final Map.Entry<Long, Mutation<Long, K>> entry : map.entrySet()) {
-            out.writeLong(entry.getKey());
-            final Mutation<Long, K> mutation = entry.getValue();
-            assert mutation != null : "Mutations cannot be null in a snapshot";
+        map.forEach((path, mutation) -> {
+            out.writeLong(path);
             assert mutation.version <= this.fastCopyVersion.get()
                     : "Trying to serialize pathToDirtyLeafIndex with a version ahead";
 
             out.writeSerializable(mutation.value, true);
             out.writeLong(mutation.version);
             out.writeBoolean(mutation.isDeleted());
-        }
+        });
     }
 
     /**
@@ -1495,15 +1562,16 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
      * 		In case of trouble.
      */
     private void deserializePathToDirtyLeafIndex(
-            final Map<Long, Mutation<Long, K>> map, final SerializableDataInputStream in) throws IOException {
+            final ConcurrentLongObjectMap<Mutation<K>> map, final SerializableDataInputStream in)
+            throws IOException {
         final int sizeOfMap = in.readInt();
         for (int index = 0; index < sizeOfMap; index++) {
-            final Long path = in.readLong();
+            final long path = in.readLong();
             final K key = in.readSerializable();
             final long mutationVersion = in.readLong();
             final boolean deleted = in.readBoolean();
 
-            final Mutation<Long, K> mutation = new Mutation<>(null, path, key, mutationVersion);
+            final Mutation<K> mutation = new Mutation<>(null, path, key, mutationVersion);
             mutation.setDeleted(deleted);
             map.put(path, mutation);
             dirtyLeafPaths.add(mutation);
@@ -1521,12 +1589,12 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
      * 		If something fails.
      */
     private void serializeKeyToDirtyLeafIndex(
-            final Map<K, Mutation<K, VirtualLeafRecord<K, V>>> map, final SerializableDataOutputStream out)
+            final Map<K, Mutation<VirtualLeafRecord<K, V>>> map, final SerializableDataOutputStream out)
             throws IOException {
         assert snapshot.get() : "Only snapshots can be serialized";
         out.writeInt(map.size());
-        for (final Map.Entry<K, Mutation<K, VirtualLeafRecord<K, V>>> entry : map.entrySet()) {
-            final Mutation<K, VirtualLeafRecord<K, V>> mutation = entry.getValue();
+        for (final Map.Entry<K, Mutation<VirtualLeafRecord<K, V>>> entry : map.entrySet()) {
+            final Mutation<VirtualLeafRecord<K, V>> mutation = entry.getValue();
             assert mutation != null : "Mutations cannot be null in a snapshot";
             assert mutation.version <= this.fastCopyVersion.get()
                     : "Trying to serialize keyToDirtyLeafIndex with a version ahead";
@@ -1549,7 +1617,7 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
      * 		In case of trouble.
      */
     private void deserializeKeyToDirtyLeafIndex(
-            final Map<K, Mutation<K, VirtualLeafRecord<K, V>>> map,
+            final Map<K, Mutation<VirtualLeafRecord<K, V>>> map,
             final SerializableDataInputStream in,
             final int version)
             throws IOException {
@@ -1562,8 +1630,8 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
             }
             final long mutationVersion = in.readLong();
             final boolean deleted = in.readBoolean();
-            final Mutation<K, VirtualLeafRecord<K, V>> mutation =
-                    new Mutation<>(null, leafRecord.getKey(), leafRecord, mutationVersion);
+            final Mutation<VirtualLeafRecord<K, V>> mutation =
+                    new Mutation<>(null, INVALID_PATH, leafRecord, mutationVersion);
             mutation.setDeleted(deleted);
             map.put(leafRecord.getKey(), mutation);
             dirtyLeaves.add(mutation);
@@ -1591,13 +1659,16 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
     /**
      * A mutation. Mutations are linked together within the mutation list. Each mutation
      * has a pointer to the next oldest mutation in the list.
-     * @param <K> The key type of data held by the mutation.
+     * <p>
+     * Mutations in path indexes store their paths as primitive longs, so no boxed keys are
+     * allocated per mutation. Mutations in the leaf key index don't store keys, the key is
+     * always the key of the mutation leaf record.
      * @param <V> The type of data held by the mutation.
      */
-    private static final class Mutation<K, V> {
-        private volatile Mutation<K, V> next;
+    private static final class Mutation<V> {
+        private volatile Mutation<V> next;
         private final long version; // The version of the cache that owns this mutation
-        private final K key;
+        private final long path; // The path, or INVALID_PATH for mutations in the leaf key index
         private volatile V value;
         private volatile byte flags = 0;
 
@@ -1607,9 +1678,9 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
         // into resulting stream of dirty hashes / leaves
         private static final int FLAG_BIT_FILTERED = 1;
 
-        Mutation(Mutation<K, V> next, K key, V value, long version) {
+        Mutation(Mutation<V> next, long path, V value, long version) {
             this.next = next;
-            this.key = key;
+            this.path = path;
             this.value = value;
             this.version = version;
         }
@@ -1661,12 +1732,12 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
         builder.append(toDebugStringIndex("keyToDirtyLeafIndex", (Map<Object, Mutation>) (Object) keyToDirtyLeafIndex))
                 .append("\n");
         //noinspection unchecked
-        builder.append(toDebugStringIndex(
-                        "pathToDirtyLeafIndex", (Map<Object, Mutation>) (Object) pathToDirtyLeafIndex))
+        builder.append(toDebugStringPathIndex(
+                        "pathToDirtyLeafIndex", (ConcurrentLongObjectMap<Mutation>) (Object) pathToDirtyLeafIndex))
                 .append("\n");
         //noinspection unchecked
-        builder.append(toDebugStringIndex(
-                        "pathToDirtyHashIndex", (Map<Object, Mutation>) (Object) pathToDirtyHashIndex))
+        builder.append(toDebugStringPathIndex(
+                        "pathToDirtyHashIndex", (ConcurrentLongObjectMap<Mutation>) (Object) pathToDirtyHashIndex))
                 .append("\n");
         //noinspection unchecked
         builder.append(toDebugStringArray("dirtyLeaves", (ConcurrentArray<Mutation>) (Object) dirtyLeaves));
@@ -1704,27 +1775,40 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
         final StringBuilder builder = new StringBuilder();
         builder.append(indexName).append(":\n");
 
-        index.forEach((key, mutation) -> {
-            builder.append("\t").append(key).append(":==> ");
-            while (mutation != null) {
-                builder.append("[")
-                        .append(mutation.key)
-                        .append(",")
-                        .append(mutation.value)
-                        .append(",")
-                        .append(mutation.isDeleted() ? "D," : "")
-                        .append("V")
-                        .append(mutation.version)
-                        .append(mutation.version == this.fastCopyVersion.get() ? "*" : "")
-                        .append("]->");
-                mutation = mutation.next;
-            }
-            builder.append("\n");
-        });
+        index.forEach((key, mutation) -> toDebugStringMutationList(builder, key, mutation));
 
         return builder.toString();
     }
 
+    private String toDebugStringPathIndex(
+            final String indexName, @SuppressWarnings("rawtypes") final ConcurrentLongObjectMap<Mutation> index) {
+        final StringBuilder builder = new StringBuilder();
+        builder.append(indexName).append(":\n");
+
+        index.forEach((path, mutation) -> toDebugStringMutationList(builder, path, mutation));
+
+        return builder.toString();
+    }
+
+    private void toDebugStringMutationList(
+            final StringBuilder builder, final Object key, @SuppressWarnings("rawtypes") Mutation mutation) {
+        builder.append("\t").append(key).append(":==> ");
+        while (mutation != null) {
+            builder.append("[")
+                    .append(key)
+                    .append(",")
+                    .append(mutation.value)
+                    .append(",")
+                    .append(mutation.isDeleted() ? "D," : "")
+                    .append("V")
+                    .append(mutation.version)
+                    .append(mutation.version == this.fastCopyVersion.get() ? "*" : "")
+                    .append("]->");
+            mutation = mutation.next;
+        }
+        builder.append("\n");
+    }
+
     private String toDebugStringArray(
             final String name, @SuppressWarnings("rawtypes") final ConcurrentArray<Mutation> arr) {
         final StringBuilder builder = new StringBuilder();
@@ -1734,8 +1818,7 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
         for (int i = 0; i < size; i++) {
             final var mutation = arr.get(i);
             builder.append("\t")
-                    .append(mutation.key)
-                    .append(",")
+                    .append(mutation.path != INVALID_PATH ? mutation.path + "," : "")
                     .append(mutation.value)
                     .append(",")
                     .append(mutation.isDeleted() ? "D," : "")
@@ -54,6 +54,16 @@ public class VirtualMapStatistics {
     private Counter flushCount;
     /** The average time to hash virtual map copy, ms */
     private LongAccumulator hashDurationMs;
+    /** Learned virtual map copy flush throughput, bytes per ms */
+    private LongGauge flushRateBpms;
+    /** Learned virtual map copy hash throughput, bytes per ms */
+    private LongGauge hashRateBpms;
+    /** Predicted time to hash and flush all copies in the pipeline, ms */
+    private LongGauge predictedBacklogMs;
+    /** The number of copies flushed because of their predicted flush time */
+    private Counter adaptiveFlushCount;
+    /** Adaptive backpressure duration, ms */
+    private IntegerAccumulator adaptiveBackpressureMs;
 
     private static LongAccumulator buildLongAccumulator(
             final Metrics metrics, final String name, final String description) {
@@ -146,6 +156,23 @@ public class VirtualMapStatistics {
                 metrics,
                 VMAP_PREFIX + LIFECYCLE_PREFIX + "hashDurationMs_" + label,
                 "Virtual root copy hash duration, " + label + ", ms");
+        flushRateBpms = metrics.getOrCreate(
+                new LongGauge.Config(STAT_CATEGORY, VMAP_PREFIX + LIFECYCLE_PREFIX + "flushRateBpms_" + label)
+                        .withDescription("Virtual root copy learned flush throughput, " + label + ", bytes/ms"));
+        hashRateBpms = metrics.getOrCreate(
+                new LongGauge.Config(STAT_CATEGORY, VMAP_PREFIX + LIFECYCLE_PREFIX + "hashRateBpms_" + label)
+                        .withDescription("Virtual root copy learned hash throughput, " + label + ", bytes/ms"));
+        predictedBacklogMs = metrics.getOrCreate(
+                new LongGauge.Config(STAT_CATEGORY, VMAP_PREFIX + LIFECYCLE_PREFIX + "predictedBacklogMs_" + label)
+                        .withDescription("Virtual pipeline predicted time to hash and flush all copies, " + label
+                                + ", ms"));
+        adaptiveFlushCount = metrics.getOrCreate(
+                new Counter.Config(STAT_CATEGORY, VMAP_PREFIX + LIFECYCLE_PREFIX + "adaptiveFlushCount_" + label)
+                        .withDescription("Virtual root copies flushed based on predicted flush time, " + label));
+        adaptiveBackpressureMs = buildIntegerAccumulator(
+                metrics,
+                VMAP_PREFIX + LIFECYCLE_PREFIX + "adaptiveBackpressureMs_" + label,
+                "Virtual pipeline adaptive backpressure, " + label + ", ms");
     }
 
     /**
@@ -274,4 +301,50 @@ public class VirtualMapStatistics {
             this.hashDurationMs.update(hashDurationMs);
         }
     }
+
+    /**
+     * Updates {@link #flushRateBpms} and {@link #hashRateBpms} stats to the given values.
+     *
+     * @param flushRate flush throughput, bytes per ms
+     * @param hashRate hash throughput, bytes per ms
+     */
+    public void setFlushAndHashRates(final long flushRate, final long hashRate) {
+        if (this.flushRateBpms != null) {
+            this.flushRateBpms.set(flushRate);
+        }
+        if (this.hashRateBpms != null) {
+            this.hashRateBpms.set(hashRate);
+        }
+    }
+
+    /**
+     * Updates {@link #predictedBacklogMs} stat to the given value.
+     *
+     * @param value predicted time to hash and flush all copies, ms
+     */
+    public void setPredictedBacklogMs(final long value) {
+        if (this.predictedBacklogMs != null) {
+            this.predictedBacklogMs.set(value);
+        }
+    }
+
+    /**
+     * Increments {@link #adaptiveFlushCount} stat by 1.
+     */
+    public void countAdaptiveFlush() {
+        if (adaptiveFlushCount != null) {
+            adaptiveFlushCount.increment();
+        }
+    }
+
+    /**
+     * Updates {@link #adaptiveBackpressureMs} stat.
+     *
+     * @param backpressureMs adaptive backpressure, ms
+     */
+    public void recordAdaptiveBackpressureMs(final int backpressureMs) {
+        if (adaptiveBackpressureMs != null) {
+            adaptiveBackpressureMs.update(backpressureMs);
+        }
+    }
 }
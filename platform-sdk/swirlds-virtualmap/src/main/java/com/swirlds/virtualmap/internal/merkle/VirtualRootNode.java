@@ -60,13 +60,16 @@ import com.swirlds.virtualmap.internal.hash.VirtualHasher;
 import com.swirlds.virtualmap.internal.pipeline.VirtualPipeline;
 import com.swirlds.virtualmap.internal.pipeline.VirtualRoot;
 import com.swirlds.virtualmap.internal.reconnect.ConcurrentBlockingIterator;
+import com.swirlds.virtualmap.internal.reconnect.LearnerFileVirtualTreeView;
 import com.swirlds.virtualmap.internal.reconnect.LearnerPullVirtualTreeView;
 import com.swirlds.virtualmap.internal.reconnect.LearnerPushVirtualTreeView;
 import com.swirlds.virtualmap.internal.reconnect.NodeTraversalOrder;
+import com.swirlds.virtualmap.internal.reconnect.PartitionedTraversalOrder;
 import com.swirlds.virtualmap.internal.reconnect.ReconnectHashLeafFlusher;
 import com.swirlds.virtualmap.internal.reconnect.ReconnectHashListener;
 import com.swirlds.virtualmap.internal.reconnect.ReconnectNodeRemover;
 import com.swirlds.virtualmap.internal.reconnect.ReconnectState;
+import com.swirlds.virtualmap.internal.reconnect.TeacherFileVirtualTreeView;
 import com.swirlds.virtualmap.internal.reconnect.TeacherPullVirtualTreeView;
 import com.swirlds.virtualmap.internal.reconnect.TeacherPushVirtualTreeView;
 import com.swirlds.virtualmap.internal.reconnect.TopToBottomTraversalOrder;
@@ -79,6 +82,8 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.channels.ClosedByInterruptException;
 import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
@@ -86,6 +91,7 @@ import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongFunction;
 import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -1434,6 +1440,20 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
                     getStaticThreadManager(), reconnectConfig, this, state, pipeline);
             case VirtualMapReconnectMode.PULL_TWO_PHASE_PESSIMISTIC -> new TeacherPullVirtualTreeView<>(
                     getStaticThreadManager(), reconnectConfig, this, state, pipeline);
+            case VirtualMapReconnectMode.PULL_PARALLEL -> new TeacherPullVirtualTreeView<>(
+                    getStaticThreadManager(),
+                    reconnectConfig,
+                    this,
+                    state,
+                    pipeline,
+                    virtualMapConfig.reconnectPullStreams());
+            case VirtualMapReconnectMode.FILES -> new TeacherFileVirtualTreeView<>(
+                    getStaticThreadManager(),
+                    this,
+                    state,
+                    pipeline,
+                    dataSourceBuilder,
+                    virtualMapConfig.reconnectFileChunkSize());
             default -> throw new UnsupportedOperationException(
                     "Unknown reconnect mode: " + virtualMapConfig.reconnectMode());
         };
@@ -1548,6 +1568,27 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
                         twoPhasePessimistic,
                         mapStats);
             }
+            case VirtualMapReconnectMode.PULL_PARALLEL -> {
+                final PartitionedTraversalOrder partitioned =
+                        new PartitionedTraversalOrder(virtualMapConfig.reconnectPullStreams());
+                yield new LearnerPullVirtualTreeView<>(
+                        reconnectConfig,
+                        this,
+                        originalMap.records,
+                        originalState,
+                        reconnectState,
+                        nodeRemover,
+                        partitioned,
+                        virtualMapConfig.reconnectPullStreamCredits(),
+                        mapStats);
+            }
+            case VirtualMapReconnectMode.FILES -> new LearnerFileVirtualTreeView<>(
+                    this,
+                    originalMap.records,
+                    originalState,
+                    reconnectState,
+                    dataSourceBuilder,
+                    reconnectRecords.getDataSource());
             default -> throw new UnsupportedOperationException(
                     "Unknown reconnect mode: " + virtualMapConfig.reconnectMode());
         };
@@ -1616,6 +1657,83 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
         reconnectHashingStarted.set(true);
     }
 
+    /**
+     * Completes the learner part of a reconnect in the {@link VirtualMapReconnectMode#FILES files} mode. The data
+     * source of this copy is replaced with a data source imported from the given snapshot, which is assembled from
+     * the teacher's snapshot files. Then all leaves from the snapshot are hashed again, and every computed hash is
+     * checked against the hash stored in the snapshot. The computed root hash becomes the hash of this copy in
+     * {@link #endLearnerReconnect()}.
+     *
+     * @param snapshotDir the assembled snapshot directory
+     * @param firstLeafPath the first leaf path in the teacher's tree
+     * @param lastLeafPath the last leaf path in the teacher's tree
+     * @return the computed root hash, or null if the tree is empty
+     * @throws MerkleSynchronizationException if a computed hash doesn't match the hash in the snapshot
+     */
+    public Hash loadReconnectSnapshot(
+            @NonNull final Path snapshotDir, final long firstLeafPath, final long lastLeafPath) {
+        assert originalMap != null : "Cannot load reconnect snapshot, since reconnect is not started";
+        final VirtualDataSource replacedDataSource = dataSource;
+        dataSource = dataSourceBuilder.importSnapshot(snapshotDir, replacedDataSource);
+        dataSource.copyStatisticsFrom(originalMap.dataSource);
+        try {
+            replacedDataSource.close();
+        } catch (final IOException e) {
+            logger.error(EXCEPTION.getMarker(), "Failed to close the replaced reconnect data source", e);
+        }
+
+        final LongFunction<Hash> hashReader = path -> {
+            try {
+                return dataSource.loadHash(path);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+        // All leaves are dirty, so every internal node is hashed again rather than read from the snapshot
+        final Iterator<VirtualLeafRecord<K, V>> leaves = new Iterator<>() {
+            private long path = firstLeafPath;
+
+            @Override
+            public boolean hasNext() {
+                return (firstLeafPath > 0) && (path <= lastLeafPath);
+            }
+
+            @Override
+            public VirtualLeafRecord<K, V> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                try {
+                    final VirtualLeafBytes leafBytes = dataSource.loadLeafRecord(path);
+                    if (leafBytes == null) {
+                        throw new MerkleSynchronizationException("Leaf not found in the snapshot, path=" + path);
+                    }
+                    path++;
+                    return leafBytes.toRecord(keySerializer, valueSerializer);
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+        final AtomicLong mismatchedPath = new AtomicLong(INVALID_PATH);
+        final VirtualHashListener<K, V> verifier = new VirtualHashListener<>() {
+            @Override
+            public void onNodeHashed(final long path, final Hash hash) {
+                if (!hash.equals(hashReader.apply(path))) {
+                    mismatchedPath.compareAndSet(INVALID_PATH, path);
+                }
+            }
+        };
+        final Hash hash = hasher.hash(hashReader, leaves, firstLeafPath, lastLeafPath, verifier, virtualMapConfig);
+        if (mismatchedPath.get() != INVALID_PATH) {
+            throw new MerkleSynchronizationException(
+                    "VirtualMap@" + getRoute() + " snapshot hash mismatch, path=" + mismatchedPath.get());
+        }
+        reconnectHashingFuture.complete(hash);
+        reconnectHashingStarted.set(true);
+        return hash;
+    }
+
     public void endLearnerReconnect() {
         try {
             logger.info(RECONNECT.getMarker(), "call reconnectIterator.close()");
@@ -0,0 +1,175 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.virtualmap.internal.pipeline;
+
+import com.swirlds.virtualmap.config.VirtualMapConfig;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Objects;
+
+/**
+ * Learns how fast virtual root copies are flushed and hashed, and uses this knowledge to make flush
+ * and backpressure decisions in {@link VirtualPipeline}.
+ *
+ * <p>Flush and hash throughputs, in bytes per millisecond, are exponentially weighted moving averages
+ * over recent flushes and hashes. Copy sizes are taken from {@link VirtualRoot#estimatedSize()}. Until
+ * the first sample is recorded, throughputs are unknown, and the controller makes no decisions.
+ *
+ * <p>Two decisions are made based on the throughputs:
+ * <ul>
+ *     <li>A copy is flushed, even if it isn't marked to flush, if its predicted flush time reaches
+ *     {@link VirtualMapConfig#adaptiveFlushTargetDuration()}. This keeps every flush close to the
+ *     target duration. Flushes aren't too small, so compaction doesn't have to deal with lots of small
+ *     files, and they aren't too large to stall the pipeline</li>
+ *     <li>Creating new copies is slowed down, if the predicted time to hash and flush all copies in
+ *     the pipeline exceeds {@link VirtualMapConfig#adaptiveBacklogTargetDuration()}. The pause grows
+ *     with the excess the same way as in family size backpressure, but is limited to
+ *     {@link VirtualMapConfig#maximumFlushThrottlePeriod()}</li>
+ * </ul>
+ *
+ * <p>This class is thread safe.
+ */
+class AdaptiveFlushController {
+
+    /**
+     * Weight of the most recent sample in throughput moving averages.
+     */
+    static final double SAMPLE_WEIGHT = 0.2;
+
+    private final boolean enabled;
+
+    private final long targetFlushMs;
+
+    private final long targetBacklogMs;
+
+    private final long maxPauseMs;
+
+    /** Flush throughput, bytes per ms. Zero, if unknown */
+    private double flushBytesPerMs = 0;
+
+    /** Hash throughput, bytes per ms. Zero, if unknown */
+    private double hashBytesPerMs = 0;
+
+    /**
+     * Create a new controller.
+     *
+     * @param config virtual map config
+     */
+    AdaptiveFlushController(@NonNull final VirtualMapConfig config) {
+        Objects.requireNonNull(config);
+        this.enabled = config.adaptiveFlushEnabled();
+        this.targetFlushMs = config.adaptiveFlushTargetDuration().toMillis();
+        this.targetBacklogMs = config.adaptiveBacklogTargetDuration().toMillis();
+        this.maxPauseMs = config.maximumFlushThrottlePeriod().toMillis();
+    }
+
+    /**
+     * Indicates whether adaptive flushes and backpressure are enabled. Throughputs are learned
+     * even when disabled.
+     */
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Record a copy flush.
+     *
+     * @param size the estimated copy size, bytes
+     * @param durationMs the flush duration, ms
+     */
+    synchronized void recordFlush(final long size, final long durationMs) {
+        flushBytesPerMs = updateAverage(flushBytesPerMs, size, durationMs);
+    }
+
+    /**
+     * Record a copy hash.
+     *
+     * @param size the estimated copy size, bytes
+     * @param durationMs the hash duration, ms
+     */
+    synchronized void recordHash(final long size, final long durationMs) {
+        hashBytesPerMs = updateAverage(hashBytesPerMs, size, durationMs);
+    }
+
+    private static double updateAverage(final double average, final long size, final long durationMs) {
+        if (size <= 0) {
+            // Copy size is unknown
+            return average;
+        }
+        // Copies flushed or hashed in less than a millisecond are accounted as a millisecond
+        final double sample = (double) size / Math.max(1, durationMs);
+        if (average == 0) {
+            return sample;
+        }
+        return average + SAMPLE_WEIGHT * (sample - average);
+    }
+
+    /**
+     * Get the learned flush throughput.
+     *
+     * @return flush throughput, bytes per ms, or zero if unknown
+     */
+    synchronized double getFlushBytesPerMs() {
+        return flushBytesPerMs;
+    }
+
+    /**
+     * Get the learned hash throughput.
+     *
+     * @return hash throughput, bytes per ms, or zero if unknown
+     */
+    synchronized double getHashBytesPerMs() {
+        return hashBytesPerMs;
+    }
+
+    /**
+     * Check if a copy of the given size should be flushed, even if it isn't marked to flush.
+     *
+     * @param size the estimated copy size, bytes
+     * @return true if enabled, flush throughput is known, and the predicted copy flush time
+     *      reaches the target flush duration
+     */
+    boolean shouldFlush(final long size) {
+        if (!enabled || (size <= 0) || (targetFlushMs <= 0)) {
+            return false;
+        }
+        final double rate = getFlushBytesPerMs();
+        return (rate > 0) && (size / rate >= targetFlushMs);
+    }
+
+    /**
+     * Predict time to hash and flush all copies in a pipeline.
+     *
+     * @param unflushedSize total estimated size of all immutable copies, bytes
+     * @param unhashedSize total estimated size of all immutable copies that aren't hashed yet, bytes
+     * @return predicted time, ms, or -1 if either flush or hash throughput is unknown
+     */
+    long predictBacklogMs(final long unflushedSize, final long unhashedSize) {
+        final double flushRate;
+        final double hashRate;
+        synchronized (this) {
+            flushRate = flushBytesPerMs;
+            hashRate = hashBytesPerMs;
+        }
+        if ((flushRate <= 0) || (hashRate <= 0)) {
+            return -1;
+        }
+        return Math.round(Math.max(0, unflushedSize) / flushRate + Math.max(0, unhashedSize) / hashRate);
+    }
+
+    /**
+     * Calculate how long to pause creating a new copy, given the predicted backlog time.
+     *
+     * @param predictedBacklogMs predicted time to hash and flush all copies, ms, or -1 if unknown
+     * @return the pause, ms, or zero if no pause is needed
+     */
+    long calculatePause(final long predictedBacklogMs) {
+        if (!enabled || (predictedBacklogMs <= 0) || (targetBacklogMs <= 0)) {
+            return 0;
+        }
+        final double ratio = (double) predictedBacklogMs / targetBacklogMs;
+        final int over100percentExcess = (int) Math.round((ratio - 1.0) * 100);
+        if (over100percentExcess <= 0) {
+            return 0;
+        }
+        return Math.min(maxPauseMs, (long) over100percentExcess * over100percentExcess);
+    }
+}
@@ -26,6 +26,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -152,6 +153,11 @@ public class VirtualPipeline<K extends VirtualKey, V extends VirtualValue> {
 
     private final VirtualMapStatistics statistics;
 
+    /**
+     * Learns copy flush and hash throughputs, and makes adaptive flush and backpressure decisions.
+     */
+    private final AdaptiveFlushController flushController;
+
     /**
      * Create a new pipeline for a family of fast copies on a virtual root.
      */
@@ -168,6 +174,7 @@ public class VirtualPipeline<K extends VirtualKey, V extends VirtualValue> {
                 .buildFactory());
 
         statistics = new VirtualMapStatistics(label);
+        flushController = new AdaptiveFlushController(config);
     }
 
     /**
@@ -197,14 +204,48 @@ public class VirtualPipeline<K extends VirtualKey, V extends VirtualValue> {
      * in this pipeline exceeds {@link VirtualMapConfig#familyThrottleThreshold()}.
      */
     private void applyFamilySizeBackpressure() {
-        final long sleepTimeMillis = calculateFamilySizeBackpressurePause();
-        if (sleepTimeMillis <= 0) {
+        final long timeSlept = applyBackpressure(this::calculateFamilySizeBackpressurePause);
+        if (timeSlept > 0) {
+            // Record actual sleep time
+            logger.info(VIRTUAL_MERKLE_STATS.getMarker(), "Total size backpressure: {} ms", timeSlept);
+            statistics.recordFamilySizeBackpressureMs((int) timeSlept);
+        }
+    }
+
+    /**
+     * Slow down the fast copy operation if predicted time to hash and flush all copies in this
+     * pipeline exceeds {@link VirtualMapConfig#adaptiveBacklogTargetDuration()}. See {@link
+     * AdaptiveFlushController} for details.
+     */
+    private void applyAdaptiveBackpressure() {
+        if (!flushController.isEnabled()) {
             return;
         }
+        final long timeSlept = applyBackpressure(this::calculateAdaptiveBackpressurePause);
+        if (timeSlept > 0) {
+            // Record actual sleep time
+            logger.info(VIRTUAL_MERKLE_STATS.getMarker(), "Adaptive backpressure: {} ms", timeSlept);
+            statistics.recordAdaptiveBackpressureMs((int) timeSlept);
+        }
+    }
 
+    /**
+     * Sleeps on the current thread for the duration provided by the given pause calculator. The
+     * duration is re-calculated every millisecond, the current thread stops sleeping as soon as
+     * it has slept longer than the current pause.
+     *
+     * @param pauseCalculator provides the pause duration, ms
+     * @return the time slept, ms
+     */
+    private long applyBackpressure(final LongSupplier pauseCalculator) {
+        final long sleepTimeMillis = pauseCalculator.getAsLong();
+        if (sleepTimeMillis <= 0) {
+            return 0;
+        }
+
+        final long sleepStartTime = System.currentTimeMillis();
+        long timeSleptSoFar = 0;
         try {
-            final long sleepStartTime = System.currentTimeMillis();
-            long timeSleptSoFar;
             do {
                 MILLISECONDS.sleep(1);
                 timeSleptSoFar = System.currentTimeMillis() - sleepStartTime;
@@ -212,18 +253,15 @@ public class VirtualPipeline<K extends VirtualKey, V extends VirtualValue> {
                 // sleeping. After any flush, total family size is reduced, and the current thread
                 // may not sleep any longer. Re-calculate backpressure duration as of now and
                 // check it against the time this thread has slept so far
-                final long currentSleepTimeMillis = calculateFamilySizeBackpressurePause();
+                final long currentSleepTimeMillis = pauseCalculator.getAsLong();
                 if ((currentSleepTimeMillis <= 0) || (timeSleptSoFar >= currentSleepTimeMillis)) {
                     break;
                 }
             } while (timeSleptSoFar < sleepTimeMillis);
-
-            // Record actual sleep time
-            logger.info(VIRTUAL_MERKLE_STATS.getMarker(), "Total size backpressure: {} ms", timeSleptSoFar);
-            statistics.recordFamilySizeBackpressureMs((int) timeSleptSoFar);
         } catch (final InterruptedException ex) {
             Thread.currentThread().interrupt();
         }
+        return timeSleptSoFar;
     }
 
     long calculateFamilySizeBackpressurePause() {
@@ -240,6 +278,12 @@ public class VirtualPipeline<K extends VirtualKey, V extends VirtualValue> {
         return (long) over100percentExcess * over100percentExcess;
     }
 
+    long calculateAdaptiveBackpressurePause() {
+        final long predictedBacklogMs = predictBacklogMs();
+        statistics.setPredictedBacklogMs(predictedBacklogMs);
+        return flushController.calculatePause(predictedBacklogMs);
+    }
+
     /**
      * Register a fast copy of the map.
      *
@@ -276,6 +320,7 @@ public class VirtualPipeline<K extends VirtualKey, V extends VirtualValue> {
         statistics.setPipelineSize(copies.getSize());
 
         applyFamilySizeBackpressure();
+        applyAdaptiveBackpressure();
     }
 
     /**
@@ -346,7 +391,10 @@ public class VirtualPipeline<K extends VirtualKey, V extends VirtualValue> {
                 // outside of the synchronized block. When it finally enters the block, unhashedCopy
                 // is already hashed by the other thread
                 if (!unhashedCopy.isHashed()) {
+                    final long size = unhashedCopy.estimatedSize();
+                    final long start = System.currentTimeMillis();
                     unhashedCopy.computeHash();
+                    flushController.recordHash(size, System.currentTimeMillis() - start);
                 }
                 assert unhashedCopy.isHashed();
                 unhashedCopies.remove(unhashedCopy);
@@ -443,6 +491,32 @@ public class VirtualPipeline<K extends VirtualKey, V extends VirtualValue> {
                 && (copy.isDestroyed() || copy.isDetached()); // destroyed or detached
     }
 
+    /**
+     * Check if this copy isn't marked to flush, but should be flushed anyway, because its
+     * predicted flush time reaches the target flush duration. Copies not marked to flush may
+     * be flushed, see {@link VirtualRoot#flush()}.
+     */
+    private boolean shouldBeFlushedAdaptively(final VirtualRoot<K, V> copy) {
+        return !copy.shouldBeFlushed() // otherwise flushed anyway
+                && (copy.isDestroyed() || copy.isDetached()) // destroyed or detached
+                && flushController.shouldFlush(copy.estimatedSize());
+    }
+
+    /**
+     * Predicted time to hash and flush all copies currently registered in this pipeline.
+     *
+     * @return predicted time, ms, or -1 if unknown
+     */
+    private long predictBacklogMs() {
+        long unhashedSize = 0;
+        for (final VirtualRoot<K, V> copy : unhashedCopies) {
+            if (copy.isImmutable()) {
+                unhashedSize += Math.max(0, copy.estimatedSize());
+            }
+        }
+        return flushController.predictBacklogMs(currentTotalSize(), unhashedSize);
+    }
+
     /**
      * Total estimated size of all copies currently registered in this pipeline.
      *
@@ -473,7 +547,12 @@ public class VirtualPipeline<K extends VirtualKey, V extends VirtualValue> {
         if (!copy.isHashed()) {
             hashCopy(copy);
         }
+        final long size = copy.estimatedSize();
+        final long start = System.currentTimeMillis();
         copy.flush();
+        flushController.recordFlush(size, System.currentTimeMillis() - start);
+        statistics.setFlushAndHashRates(
+                Math.round(flushController.getFlushBytesPerMs()), Math.round(flushController.getHashBytesPerMs()));
     }
 
     /**
@@ -531,6 +610,11 @@ public class VirtualPipeline<K extends VirtualKey, V extends VirtualValue> {
                 logger.debug(VIRTUAL_MERKLE_STATS.getMarker(), "Flush {}", copy.getFastCopyVersion());
                 flush(copy);
                 copies.remove(next);
+            } else if ((next == copies.getFirst()) && shouldBeFlushedAdaptively(copy)) {
+                logger.debug(VIRTUAL_MERKLE_STATS.getMarker(), "Adaptive flush {}", copy.getFastCopyVersion());
+                flush(copy);
+                copies.remove(next);
+                statistics.countAdaptiveFlush();
             } else if (canBeMerged(next)) {
                 assert !copy.isMerged();
                 logger.debug(VIRTUAL_MERKLE_STATS.getMarker(), "Merge {}", copy.getFastCopyVersion());
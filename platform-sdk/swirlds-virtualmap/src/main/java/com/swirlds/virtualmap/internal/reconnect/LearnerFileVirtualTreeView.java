@@ -0,0 +1,554 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.virtualmap.internal.reconnect;
+
+import static com.swirlds.logging.legacy.LogMarker.EXCEPTION;
+import static com.swirlds.logging.legacy.LogMarker.RECONNECT;
+import static com.swirlds.virtualmap.internal.Path.ROOT_PATH;
+import static com.swirlds.virtualmap.internal.reconnect.TeacherFileVirtualTreeView.KEEP_ALIVE;
+import static com.swirlds.virtualmap.internal.reconnect.TeacherFileVirtualTreeView.NO_MORE_REQUESTS;
+import static com.swirlds.virtualmap.internal.reconnect.TeacherFileVirtualTreeView.PROTOCOL_VERSION;
+
+import com.swirlds.common.io.streams.MerkleDataInputStream;
+import com.swirlds.common.io.streams.MerkleDataOutputStream;
+import com.swirlds.common.io.utility.FileUtils;
+import com.swirlds.common.merkle.MerkleNode;
+import com.swirlds.common.merkle.synchronization.LearningSynchronizer;
+import com.swirlds.common.merkle.synchronization.task.ExpectedLesson;
+import com.swirlds.common.merkle.synchronization.utility.MerkleSynchronizationException;
+import com.swirlds.common.merkle.synchronization.views.LearnerTreeView;
+import com.swirlds.common.threading.pool.StandardWorkGroup;
+import com.swirlds.virtualmap.VirtualKey;
+import com.swirlds.virtualmap.VirtualValue;
+import com.swirlds.virtualmap.datasource.VirtualDataSource;
+import com.swirlds.virtualmap.datasource.VirtualDataSourceBuilder;
+import com.swirlds.virtualmap.internal.RecordAccessor;
+import com.swirlds.virtualmap.internal.VirtualStateAccessor;
+import com.swirlds.virtualmap.internal.merkle.VirtualMapState;
+import com.swirlds.virtualmap.internal.merkle.VirtualRootNode;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hiero.base.crypto.Cryptography;
+import org.hiero.base.crypto.Hash;
+import org.hiero.base.io.streams.SerializableDataInputStream;
+
+/**
+ * An implementation of {@link LearnerTreeView} for the files reconnect mode. The learner receives a
+ * manifest of the teacher's virtual map snapshot, takes a snapshot of its own virtual map, and
+ * assembles a copy of the teacher's snapshot in a new directory. Chunks the learner already has,
+ * as identified by their hashes, are copied from the local snapshot, all other chunks are requested
+ * from the teacher. Finally, the assembled snapshot is imported to the virtual map, and the whole
+ * tree is hashed again from its leaves to verify it.
+ *
+ * <p>The learner runs two tasks. The sender task builds the local snapshot, copies local chunks, and
+ * sends chunk requests to the teacher. The receiver task reads the manifest and the requested chunks.
+ *
+ * <p>This implementation is supposed to work with {@link TeacherFileVirtualTreeView} on the teacher side.
+ *
+ * @param <K>
+ * 		The key
+ * @param <V>
+ * 		The value
+ */
+public final class LearnerFileVirtualTreeView<K extends VirtualKey, V extends VirtualValue>
+        extends VirtualTreeViewBase<K, V> implements LearnerTreeView<Long> {
+
+    private static final Logger logger = LogManager.getLogger(LearnerFileVirtualTreeView.class);
+
+    private static final String SENDER_NAME = "reconnect-file-learner-sender";
+    private static final String RECEIVER_NAME = "reconnect-file-learner-receiver";
+
+    /**
+     * Buffer size to read chunk bytes from the teacher.
+     */
+    private static final int BUFFER_SIZE = 1024 * 1024;
+
+    /**
+     * Max number of files in a snapshot.
+     */
+    private static final int MAX_FILES = 1024 * 1024;
+
+    /**
+     * Marks the end of the chunk request queue.
+     */
+    private static final ChunkRequest NO_MORE_CHUNKS = new ChunkRequest(null, null, -1);
+
+    /**
+     * A {@link RecordAccessor} for getting access to the original records.
+     */
+    private final RecordAccessor<K, V> originalRecords;
+
+    /**
+     * The data source builder, used to take the local snapshot and create snapshot directories.
+     */
+    private final VirtualDataSourceBuilder dataSourceBuilder;
+
+    /**
+     * The data source with the learner's original data, used as a source of local chunks.
+     */
+    private final VirtualDataSource localDataSource;
+
+    /**
+     * The directory of the local snapshot. Set by the sender task.
+     */
+    private volatile Path localDir;
+
+    /**
+     * The directory where the teacher's snapshot is assembled.
+     */
+    private volatile Path assembledDir;
+
+    /**
+     * Counts down when the receiver has read the header, before the manifest entries.
+     */
+    private final CountDownLatch headerReceived = new CountDownLatch(1);
+
+    // Header fields sent by the teacher, read by the receiver task before headerReceived is released
+    private long firstLeafPath;
+    private long lastLeafPath;
+    private Hash teacherRootHash;
+    private int chunkSize;
+    private int fileCount;
+
+    /**
+     * Manifest entries received from the teacher, in the order of file indices.
+     */
+    private final BlockingQueue<ReconnectFileManifest.Entry> entries = new LinkedBlockingQueue<>();
+
+    /**
+     * Chunks requested from the teacher, in the order of requests.
+     */
+    private final BlockingQueue<ChunkRequest> requestedChunks = new LinkedBlockingQueue<>();
+
+    /**
+     * A chunk requested from the teacher.
+     *
+     * @param file the file in the assembled snapshot
+     * @param entry the manifest entry of the file
+     * @param chunkIndex the chunk index
+     */
+    private record ChunkRequest(Path file, ReconnectFileManifest.Entry entry, int chunkIndex) {}
+
+    /**
+     * A chunk in the local snapshot.
+     *
+     * @param file the file in the local snapshot
+     * @param offset the chunk offset in the file
+     * @param length the chunk length
+     */
+    private record LocalChunk(Path file, long offset, int length) {}
+
+    /**
+     * Create a new {@link LearnerFileVirtualTreeView}.
+     *
+     * @param root
+     * 		The root node of the <strong>reconnect</strong> tree. Cannot be null.
+     * @param originalRecords
+     * 		A {@link RecordAccessor} for accessing records from the unmodified <strong>original</strong> tree.
+     * 		Cannot be null.
+     * @param originalState
+     * 		A {@link VirtualStateAccessor} for accessing state (first and last paths) from the
+     * 		unmodified <strong>original</strong> tree. Cannot be null.
+     * @param reconnectState
+     * 		A {@link VirtualStateAccessor} for accessing state (first and last paths) from the
+     * 		modified <strong>reconnect</strong> tree. We only use first and last leaf path from this state.
+     * 		Cannot be null.
+     * @param dataSourceBuilder
+     * 		The data source builder of the virtual map. Cannot be null.
+     * @param localDataSource
+     * 		The data source with the learner's original data. Cannot be null.
+     */
+    public LearnerFileVirtualTreeView(
+            final VirtualRootNode<K, V> root,
+            final RecordAccessor<K, V> originalRecords,
+            final VirtualStateAccessor originalState,
+            final VirtualStateAccessor reconnectState,
+            final VirtualDataSourceBuilder dataSourceBuilder,
+            final VirtualDataSource localDataSource) {
+        super(root, originalState, reconnectState);
+        this.originalRecords = Objects.requireNonNull(originalRecords);
+        this.dataSourceBuilder = Objects.requireNonNull(dataSourceBuilder);
+        this.localDataSource = Objects.requireNonNull(localDataSource);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void startLearnerTasks(
+            final LearningSynchronizer learningSynchronizer,
+            final StandardWorkGroup workGroup,
+            final MerkleDataInputStream inputStream,
+            final MerkleDataOutputStream outputStream,
+            final Queue<MerkleNode> rootsToReceive,
+            final AtomicReference<Long> reconstructedRoot) {
+        reconstructedRoot.set(ROOT_PATH);
+        workGroup.execute(RECEIVER_NAME, () -> {
+            try {
+                receive(inputStream);
+            } catch (final InterruptedException e) {
+                logger.warn(RECONNECT.getMarker(), "Learner's file receiving task is interrupted");
+                Thread.currentThread().interrupt();
+            } catch (final IOException e) {
+                throw new MerkleSynchronizationException("Exception in the learner's file receiving task", e);
+            }
+        });
+        workGroup.execute(SENDER_NAME, () -> {
+            try {
+                send(outputStream);
+            } catch (final InterruptedException e) {
+                logger.warn(RECONNECT.getMarker(), "Learner's file sending task is interrupted");
+                Thread.currentThread().interrupt();
+            } catch (final IOException e) {
+                throw new MerkleSynchronizationException("Exception in the learner's file sending task", e);
+            }
+        });
+    }
+
+    /**
+     * Read the header and the manifest from the teacher, then read all requested chunks to the assembled
+     * snapshot. When all chunks are received, import the snapshot to the virtual map.
+     *
+     * @param in the input stream to read from the teacher
+     * @throws IOException if an I/O error occurs
+     * @throws InterruptedException if the thread is interrupted
+     */
+    private void receive(final MerkleDataInputStream in) throws IOException, InterruptedException {
+        final int version = in.readInt();
+        if (version != PROTOCOL_VERSION) {
+            throw new MerkleSynchronizationException("Unsupported files reconnect protocol version: " + version);
+        }
+        final String label = in.readNormalisedString(VirtualMapState.MAX_LABEL_LENGTH);
+        if (!label.equals(originalState.getLabel())) {
+            throw new MerkleSynchronizationException("Teacher's virtual map label doesn't match: " + label);
+        }
+        firstLeafPath = in.readLong();
+        lastLeafPath = in.readLong();
+        teacherRootHash = in.readSerializable(false, Hash::new);
+        chunkSize = in.readInt();
+        fileCount = in.readInt();
+        if ((chunkSize <= 0) || (fileCount < 0) || (fileCount > MAX_FILES)) {
+            throw new MerkleSynchronizationException(
+                    "Invalid chunk size or file count: " + chunkSize + ", " + fileCount);
+        }
+        reconnectState.setFirstLeafPath(firstLeafPath);
+        reconnectState.setLastLeafPath(lastLeafPath);
+        headerReceived.countDown();
+
+        for (int i = 0; i < fileCount; i++) {
+            entries.put(ReconnectFileManifest.Entry.deserialize(in, chunkSize));
+        }
+
+        final MessageDigest digest = ReconnectFileManifest.CHUNK_DIGEST_TYPE.buildDigest();
+        final byte[] buffer = new byte[Math.min(chunkSize, BUFFER_SIZE)];
+        long chunksReceived = 0;
+        long bytesReceived = 0;
+        while (true) {
+            final ChunkRequest request = requestedChunks.take();
+            if (request == NO_MORE_CHUNKS) {
+                break;
+            }
+            final ReconnectFileManifest.Entry entry = request.entry();
+            final int chunkIndex = request.chunkIndex();
+            try (final FileChannel channel = FileChannel.open(request.file(), StandardOpenOption.WRITE)) {
+                long position = entry.chunkOffset(chunkIndex, chunkSize);
+                int remaining = entry.chunkLength(chunkIndex, chunkSize);
+                while (remaining > 0) {
+                    final int length = Math.min(remaining, buffer.length);
+                    in.readFully(buffer, 0, length);
+                    digest.update(buffer, 0, length);
+                    final ByteBuffer bb = ByteBuffer.wrap(buffer, 0, length);
+                    while (bb.hasRemaining()) {
+                        position += channel.write(bb, position);
+                    }
+                    remaining -= length;
+                    bytesReceived += length;
+                }
+            }
+            final Hash hash = new Hash(digest.digest(), ReconnectFileManifest.CHUNK_DIGEST_TYPE);
+            if (!hash.equals(entry.chunkHashes().get(chunkIndex))) {
+                throw new MerkleSynchronizationException(
+                        "Hash mismatch in chunk " + chunkIndex + " of snapshot file " + entry.path());
+            }
+            chunksReceived++;
+        }
+        logger.info(
+                RECONNECT.getMarker(),
+                "Learner received {} snapshot file chunks, {} bytes total",
+                chunksReceived,
+                bytesReceived);
+
+        final Hash hash = root.loadReconnectSnapshot(assembledDir, firstLeafPath, lastLeafPath);
+        if ((lastLeafPath > 0) && !teacherRootHash.equals(hash)) {
+            throw new MerkleSynchronizationException(
+                    "Reconnect snapshot root hash " + hash + " doesn't match teacher's hash " + teacherRootHash);
+        }
+        logger.info(RECONNECT.getMarker(), "Learner verified the reconnect snapshot, root hash {}", hash);
+    }
+
+    /**
+     * Take a snapshot of the learner's data, then assemble the teacher's snapshot from the manifest. Local
+     * chunks are copied from the local snapshot, other chunks are requested from the teacher.
+     *
+     * @param out the output stream to write to the teacher
+     * @throws IOException if an I/O error occurs
+     * @throws InterruptedException if the thread is interrupted
+     */
+    private void send(final MerkleDataOutputStream out) throws IOException, InterruptedException {
+        localDir = dataSourceBuilder.createSnapshotDirectory("reconnect-learner-local");
+        assembledDir = dataSourceBuilder.createSnapshotDirectory("reconnect-learner");
+        dataSourceBuilder.snapshot(localDir, localDataSource);
+
+        headerReceived.await();
+        final Map<Hash, LocalChunk> localChunks = indexLocalChunks(out);
+
+        long chunksCopied = 0;
+        long chunksRequested = 0;
+        for (int fileIndex = 0; fileIndex < fileCount; fileIndex++) {
+            final ReconnectFileManifest.Entry entry = entries.take();
+            final Path file = ReconnectFileManifest.resolve(assembledDir, entry.path());
+            Files.createDirectories(file.getParent());
+            try (final FileChannel channel =
+                    FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                final List<Hash> chunkHashes = entry.chunkHashes();
+                for (int chunkIndex = 0; chunkIndex < chunkHashes.size(); chunkIndex++) {
+                    final LocalChunk localChunk = localChunks.get(chunkHashes.get(chunkIndex));
+                    if ((localChunk != null) && (localChunk.length() == entry.chunkLength(chunkIndex, chunkSize))) {
+                        copyChunk(localChunk, channel, entry.chunkOffset(chunkIndex, chunkSize));
+                        chunksCopied++;
+                    } else {
+                        requestedChunks.put(new ChunkRequest(file, entry, chunkIndex));
+                        out.writeInt(fileIndex);
+                        out.writeInt(chunkIndex);
+                        chunksRequested++;
+                    }
+                }
+            }
+            out.flush();
+        }
+        logger.info(
+                RECONNECT.getMarker(),
+                "Learner copied {} local snapshot file chunks, requested {} chunks from the teacher",
+                chunksCopied,
+                chunksRequested);
+        // If this task fails, the receiver is interrupted by the work group instead
+        requestedChunks.put(NO_MORE_CHUNKS);
+        out.writeInt(NO_MORE_REQUESTS);
+        out.flush();
+    }
+
+    /**
+     * Hash all chunks in the local snapshot. A keep-alive is sent to the teacher after every file, since
+     * hashing a large snapshot may take a while.
+     *
+     * @param out the output stream to write keep-alive requests to
+     * @return local chunks by their hashes
+     * @throws IOException if an I/O error occurs
+     */
+    private Map<Hash, LocalChunk> indexLocalChunks(final MerkleDataOutputStream out) throws IOException {
+        final Map<Hash, LocalChunk> localChunks = new HashMap<>();
+        for (final String path : ReconnectFileManifest.listFiles(localDir)) {
+            final ReconnectFileManifest.Entry entry = ReconnectFileManifest.buildEntry(localDir, path, chunkSize);
+            final Path file = ReconnectFileManifest.resolve(localDir, path);
+            final List<Hash> chunkHashes = entry.chunkHashes();
+            for (int chunkIndex = 0; chunkIndex < chunkHashes.size(); chunkIndex++) {
+                localChunks.putIfAbsent(
+                        chunkHashes.get(chunkIndex),
+                        new LocalChunk(
+                                file,
+                                entry.chunkOffset(chunkIndex, chunkSize),
+                                entry.chunkLength(chunkIndex, chunkSize)));
+            }
+            out.writeInt(KEEP_ALIVE);
+            out.flush();
+        }
+        return localChunks;
+    }
+
+    /**
+     * Copy a local chunk to a file in the assembled snapshot. Bytes are transferred between file channels
+     * directly, without copying them to the heap.
+     *
+     * @param localChunk the local chunk
+     * @param target the channel of the assembled snapshot file
+     * @param position the chunk position in the assembled snapshot file
+     * @throws IOException if an I/O error occurs
+     */
+    private static void copyChunk(final LocalChunk localChunk, final FileChannel target, final long position)
+            throws IOException {
+        try (final FileChannel source = FileChannel.open(localChunk.file(), StandardOpenOption.READ)) {
+            target.position(position);
+            long offset = localChunk.offset();
+            long remaining = localChunk.length();
+            while (remaining > 0) {
+                final long transferred = source.transferTo(offset, remaining, target);
+                if (transferred <= 0) {
+                    throw new IOException("Local snapshot file " + localChunk.file() + " was truncated");
+                }
+                offset += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+
+    /**
+     * Delete the local and the assembled snapshot directories.
+     */
+    private void deleteSnapshots() {
+        for (final Path dir : new Path[] {localDir, assembledDir}) {
+            if (dir == null) {
+                continue;
+            }
+            try {
+                FileUtils.deleteDirectory(dir);
+            } catch (final IOException e) {
+                logger.error(EXCEPTION.getMarker(), "Failed to delete reconnect snapshot {}", dir, e);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isRootOfState() {
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Long getOriginalRoot() {
+        return ROOT_PATH;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Hash getNodeHash(final Long originalChild) {
+        // Make sure the path is valid for the original state
+        if (originalChild > originalState.getLastLeafPath()) {
+            return Cryptography.NULL_HASH;
+        }
+        final Hash hash = originalRecords.findHash(originalChild);
+        if (hash == null) {
+            throw new MerkleSynchronizationException("Node found, but hash was null. path=" + originalChild);
+        }
+        return hash;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void expectLessonFor(
+            final Long parent, final int childIndex, final Long original, final boolean nodeAlreadyPresent) {
+        throw new UnsupportedOperationException("LearnerFileVirtualTreeView.expectLessonFor()");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ExpectedLesson<Long> getNextExpectedLesson() {
+        throw new UnsupportedOperationException("LearnerFileVirtualTreeView.getNextExpectedLesson()");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasNextExpectedLesson() {
+        throw new UnsupportedOperationException("LearnerFileVirtualTreeView.hasNextExpectedLesson()");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Long deserializeLeaf(final SerializableDataInputStream in) throws IOException {
+        throw new UnsupportedOperationException("LearnerFileVirtualTreeView.deserializeLeaf()");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Long deserializeInternal(final SerializableDataInputStream in) throws IOException {
+        throw new UnsupportedOperationException("LearnerFileVirtualTreeView.deserializeInternal()");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void initialize() {
+        // no-op
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        deleteSnapshots();
+        root.endLearnerReconnect();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void abort() {
+        deleteSnapshots();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void markForInitialization(final Long node) {
+        // no-op
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void releaseNode(final Long node) {
+        // no-op
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setChild(final Long parent, final int childIndex, final Long child) {
+        // No-op
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Long convertMerkleRootToViewType(final MerkleNode node) {
+        throw new UnsupportedOperationException("Nested virtual maps not supported");
+    }
+}
@@ -6,6 +6,7 @@ import static com.swirlds.logging.legacy.LogMarker.RECONNECT;
 import com.swirlds.common.merkle.synchronization.utility.MerkleSynchronizationException;
 import com.swirlds.common.threading.pool.StandardWorkGroup;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import org.apache.logging.log4j.LogManager;
@@ -20,6 +21,10 @@ import org.hiero.base.io.streams.SerializableDataInputStream;
  *
  * <p>For every response from the teacher, the learner view is notified, which in turn notifies
  * the current traversal order, so it can recalculate the next virtual path to request.
+ *
+ * <p>If multiple reconnect streams are used, every response contains the index of the stream,
+ * in which the corresponding request was sent. When a response is received, a flow control
+ * credit is released for its stream, so the stream's sending task can send the next request.
  */
 public class LearnerPullVirtualTreeReceiveTask {
 
@@ -41,6 +46,9 @@ public class LearnerPullVirtualTreeReceiveTask {
     // Indicates if a response for path 0 (virtual root node) has been received
     private final CountDownLatch rootResponseReceived;
 
+    // Flow control credits for every stream, or null if a single stream is used
+    private final Semaphore[] streamCredits;
+
     /**
      * Create a thread for receiving responses to queries from the teacher.
      *
@@ -60,6 +68,32 @@ public class LearnerPullVirtualTreeReceiveTask {
             final AtomicBoolean senderIsFinished,
             final AtomicLong expectedResponses,
             final CountDownLatch rootResponseReceived) {
+        this(workGroup, in, view, senderIsFinished, expectedResponses, rootResponseReceived, null);
+    }
+
+    /**
+     * Create a thread for receiving responses to queries from the teacher in multiple streams.
+     *
+     * @param workGroup
+     * 		the work group that will manage this thread
+     * @param in
+     * 		the input stream, this object is responsible for closing this when finished
+     * @param view
+     * 		the view to be used when touching the merkle tree
+     * @param senderIsFinished
+     * 		becomes true once all sending threads have finished
+     * @param streamCredits
+     *      flow control credits for every stream, or null if a single stream is used
+     */
+    public LearnerPullVirtualTreeReceiveTask(
+            final StandardWorkGroup workGroup,
+            final SerializableDataInputStream in,
+            final LearnerPullVirtualTreeView view,
+            final AtomicBoolean senderIsFinished,
+            final AtomicLong expectedResponses,
+            final CountDownLatch rootResponseReceived,
+            final Semaphore[] streamCredits) {
+        this.streamCredits = streamCredits;
         this.workGroup = workGroup;
         this.in = in;
         this.view = view;
@@ -81,8 +115,17 @@ public class LearnerPullVirtualTreeReceiveTask {
                 if (responseExpected) {
                     final PullVirtualTreeResponse response = new PullVirtualTreeResponse(view);
                     // the learner tree is notified about the new response in deserialize() method below
-                    response.deserialize(in, 0);
+                    response.deserialize(
+                            in, (streamCredits == null) ? 0 : PullVirtualTreeResponse.ClassVersion.STREAMS);
                     view.getMapStats().incrementTransfersFromTeacher();
+                    if (streamCredits != null) {
+                        final int stream = response.getStream();
+                        if ((stream < 0) || (stream >= streamCredits.length)) {
+                            throw new MerkleSynchronizationException("Wrong stream index from the teacher: " + stream);
+                        }
+                        streamCredits[stream].release();
+                        view.getMapStats().incrementStreamTransfersFromTeacher(stream);
+                    }
                     logger.debug(RECONNECT.getMarker(), "Learner receive path: " + response.getPath());
                     if (response.getPath() == 0) {
                         rootResponseReceived.countDown();
@@ -10,8 +10,10 @@ import com.swirlds.common.threading.pool.StandardWorkGroup;
 import com.swirlds.virtualmap.internal.Path;
 import java.time.Duration;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -28,6 +30,13 @@ import org.hiero.base.crypto.Hash;
  * the provided {@link NodeTraversalOrder}. After the next path to request is {@link
  * Path#INVALID_PATH}, this request is sent to indicate that there will be no more requests from
  * the learner, and this task is finished.
+ *
+ * <p>If multiple reconnect streams are used, there is one such task per stream, and every task
+ * sends requests for its own partition of the virtual tree. Only the task for the first stream
+ * sends the request for the root node, the other tasks wait for the root response, too. Before
+ * a request is sent, a flow control credit for the stream is acquired. Credits are released by
+ * the receiving task when responses are received. The terminating request is sent by the task
+ * that finishes last.
  */
 public class LearnerPullVirtualTreeSendTask {
 
@@ -53,6 +62,15 @@ public class LearnerPullVirtualTreeSendTask {
     // this task, decreased in the receiving task
     private final AtomicLong responsesExpected;
 
+    // Reconnect stream index, or -1 if a single stream is used
+    private final int stream;
+
+    // Flow control credits of this task's stream, or null if a single stream is used
+    private final Semaphore credits;
+
+    // Number of sending tasks that are still running, shared between all sending tasks
+    private final AtomicInteger activeSenders;
+
     /**
      * Create a thread for sending node requests to the teacher.
      *
@@ -79,6 +97,62 @@ public class LearnerPullVirtualTreeSendTask {
             final AtomicBoolean senderIsFinished,
             final CountDownLatch rootResponseReceived,
             final AtomicLong responsesExpected) {
+        this(
+                reconnectConfig,
+                workGroup,
+                out,
+                view,
+                traversalOrder,
+                senderIsFinished,
+                rootResponseReceived,
+                responsesExpected,
+                -1,
+                null,
+                new AtomicInteger());
+    }
+
+    /**
+     * Create a thread for sending node requests to the teacher in one of multiple streams.
+     *
+     * @param reconnectConfig
+     *      the reconnect configuration
+     * @param workGroup
+     * 		the work group that will manage this thread
+     * @param out
+     * 		the output stream, shared between all sending tasks
+     * @param view
+     * 		the view to be used when touching the merkle tree
+     * @param traversalOrder
+     *      the traversal order for the stream's partition of the virtual tree
+     * @param senderIsFinished
+     * 		becomes true once all sending threads have finished
+     * @param responsesExpected
+     *      number of responses expected from the teacher, increased by one every time a request
+     *      is sent
+     * @param stream
+     *      the stream index, or -1 if a single stream is used
+     * @param credits
+     *      flow control credits for the stream, or null if a single stream is used
+     * @param activeSenders
+     *      number of running sending tasks, shared between all sending tasks
+     */
+    public LearnerPullVirtualTreeSendTask(
+            final ReconnectConfig reconnectConfig,
+            final StandardWorkGroup workGroup,
+            final AsyncOutputStream<PullVirtualTreeRequest> out,
+            final LearnerPullVirtualTreeView view,
+            final NodeTraversalOrder traversalOrder,
+            final AtomicBoolean senderIsFinished,
+            final CountDownLatch rootResponseReceived,
+            final AtomicLong responsesExpected,
+            final int stream,
+            final Semaphore credits,
+            final AtomicInteger activeSenders) {
+        assert (stream < 0) == (credits == null);
+        this.stream = stream;
+        this.credits = credits;
+        this.activeSenders = activeSenders;
+        activeSenders.incrementAndGet();
         this.workGroup = workGroup;
         this.out = out;
         this.view = view;
@@ -95,11 +169,13 @@ public class LearnerPullVirtualTreeSendTask {
     }
 
     private void run() {
-        try (out) {
-            // Send a request for the root node first. The response will contain virtual tree path range
-            out.sendAsync(new PullVirtualTreeRequest(Path.ROOT_PATH, new Hash()));
-            view.getMapStats().incrementTransfersFromLearner();
-            responsesExpected.incrementAndGet();
+        // Indicates that this task has finished last or failed, so it's responsible for closing the stream
+        boolean lastSender = false;
+        try {
+            if (stream <= 0) {
+                // Send a request for the root node first. The response will contain virtual tree path range
+                send(Path.ROOT_PATH, new Hash());
+            }
             if (!rootResponseReceived.await(rootResponseTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
                 throw new MerkleSynchronizationException("Timed out waiting for root node response from the teacher");
             }
@@ -111,22 +187,47 @@ public class LearnerPullVirtualTreeSendTask {
                     Thread.onSpinWait();
                     continue;
                 }
-                final Hash hash = path == Path.INVALID_PATH ? null : view.getNodeHash(path);
-                out.sendAsync(new PullVirtualTreeRequest(path, hash));
-                view.getMapStats().incrementTransfersFromLearner();
                 if (path == Path.INVALID_PATH) {
                     break;
                 }
-                responsesExpected.incrementAndGet();
+                send(path, view.getNodeHash(path));
+            }
+            lastSender = activeSenders.decrementAndGet() == 0;
+            if (lastSender) {
+                out.sendAsync(
+                        (stream < 0)
+                                ? new PullVirtualTreeRequest(Path.INVALID_PATH, null)
+                                : new PullVirtualTreeRequest(stream, Path.INVALID_PATH, null));
+                view.getMapStats().incrementTransfersFromLearner();
             }
             logger.debug(RECONNECT.getMarker(), "Learner send done");
         } catch (final InterruptedException ex) {
+            lastSender = true;
             logger.warn(RECONNECT.getMarker(), "Learner's sending task interrupted");
             Thread.currentThread().interrupt();
         } catch (final Exception ex) {
+            lastSender = true;
             throw new MerkleSynchronizationException("Exception in the learner's sending task", ex);
         } finally {
-            senderIsFinished.set(true);
+            if (lastSender) {
+                out.close();
+                senderIsFinished.set(true);
+            }
+        }
+    }
+
+    private void send(final long path, final Hash hash) throws InterruptedException {
+        if (stream < 0) {
+            out.sendAsync(new PullVirtualTreeRequest(path, hash));
+        } else {
+            if (!credits.tryAcquire()) {
+                view.getMapStats().incrementStreamCreditWaits(stream);
+                credits.acquire();
+            }
+            out.sendAsync(new PullVirtualTreeRequest(stream, path, hash));
+            view.getMapStats().incrementStreamTransfersFromLearner(stream);
         }
+        view.getMapStats().incrementTransfersFromLearner();
+        responsesExpected.incrementAndGet();
     }
 }
@@ -24,10 +24,14 @@ import com.swirlds.virtualmap.internal.VirtualStateAccessor;
 import com.swirlds.virtualmap.internal.merkle.VirtualRootNode;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Queue;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import org.hiero.base.crypto.Cryptography;
@@ -44,6 +48,11 @@ import org.hiero.base.io.streams.SerializableDataOutputStream;
  * <p>This implementation is supposed to work with {@link TeacherPullVirtualTreeView} on the
  * teacher side.
  *
+ * <p>If this view is created with a {@link PartitionedTraversalOrder}, requests are sent in
+ * multiple streams, one stream per partition, over the same connection. Every stream has its own
+ * sending task and a limited number of flow control credits, i.e. requests in flight. Responses
+ * for all streams are processed by a single receiving task.
+ *
  * @param <K>
  * 		The key
  * @param <V>
@@ -79,6 +88,12 @@ public final class LearnerPullVirtualTreeView<K extends VirtualKey, V extends Vi
 
     private final ReconnectMapStats mapStats;
 
+    /**
+     * The max number of requests in flight per stream, if multiple streams are used. Zero if a
+     * single stream is used.
+     */
+    private final int streamCredits;
+
     /**
      * Indicates if no responses from the teacher have been received yet. The very first response
      * must be for path 0 (root virtual node)
@@ -112,7 +127,78 @@ public final class LearnerPullVirtualTreeView<K extends VirtualKey, V extends Vi
             final ReconnectNodeRemover<K, V> nodeRemover,
             final NodeTraversalOrder traversalOrder,
             @NonNull final ReconnectMapStats mapStats) {
+        this(
+                reconnectConfig,
+                root,
+                originalRecords,
+                originalState,
+                reconnectState,
+                nodeRemover,
+                traversalOrder,
+                0,
+                mapStats);
+    }
+
+    /**
+     * Create a new {@link LearnerPullVirtualTreeView}, which sends requests to the teacher in multiple
+     * streams, one stream per traversal order partition.
+     *
+     * @param root
+     * 		The root node of the <strong>reconnect</strong> tree. Cannot be null.
+     * @param originalRecords
+     * 		A {@link RecordAccessor} for accessing records from the unmodified <strong>original</strong> tree.
+     * 		Cannot be null.
+     * @param originalState
+     * 		A {@link VirtualStateAccessor} for accessing state (first and last paths) from the
+     * 		unmodified <strong>original</strong> tree. Cannot be null.
+     * @param reconnectState
+     * 		A {@link VirtualStateAccessor} for accessing state (first and last paths) from the
+     * 		modified <strong>reconnect</strong> tree. We only use first and last leaf path from this state.
+     * 		Cannot be null.
+     * @param traversalOrder
+     *      The traversal order, which defines virtual tree partitions for the streams
+     * @param streamCredits
+     *      The max number of requests in flight per stream
+     * @param mapStats
+     *      A ReconnectMapStats object to collect reconnect metrics
+     */
+    public LearnerPullVirtualTreeView(
+            final ReconnectConfig reconnectConfig,
+            final VirtualRootNode<K, V> root,
+            final RecordAccessor<K, V> originalRecords,
+            final VirtualStateAccessor originalState,
+            final VirtualStateAccessor reconnectState,
+            final ReconnectNodeRemover<K, V> nodeRemover,
+            final PartitionedTraversalOrder traversalOrder,
+            final int streamCredits,
+            @NonNull final ReconnectMapStats mapStats) {
+        this(
+                reconnectConfig,
+                root,
+                originalRecords,
+                originalState,
+                reconnectState,
+                nodeRemover,
+                (NodeTraversalOrder) traversalOrder,
+                streamCredits,
+                mapStats);
+        if (streamCredits <= 0) {
+            throw new IllegalArgumentException("Stream credits must be positive: " + streamCredits);
+        }
+    }
+
+    private LearnerPullVirtualTreeView(
+            final ReconnectConfig reconnectConfig,
+            final VirtualRootNode<K, V> root,
+            final RecordAccessor<K, V> originalRecords,
+            final VirtualStateAccessor originalState,
+            final VirtualStateAccessor reconnectState,
+            final ReconnectNodeRemover<K, V> nodeRemover,
+            final NodeTraversalOrder traversalOrder,
+            final int streamCredits,
+            @NonNull final ReconnectMapStats mapStats) {
         super(root, originalState, reconnectState);
+        this.streamCredits = streamCredits;
         this.reconnectConfig = reconnectConfig;
         this.originalRecords = Objects.requireNonNull(originalRecords);
         this.nodeRemover = nodeRemover;
@@ -138,6 +224,19 @@ public final class LearnerPullVirtualTreeView<K extends VirtualKey, V extends Vi
         final CountDownLatch rootResponseReceived = new CountDownLatch(1);
         final AtomicLong expectedResponses = new AtomicLong(0);
 
+        if (streamCredits > 0) {
+            startStreamTasks(
+                    workGroup,
+                    inputStream,
+                    out,
+                    (PartitionedTraversalOrder) traversalOrder,
+                    senderIsFinished,
+                    rootResponseReceived,
+                    expectedResponses);
+            reconstructedRoot.set(0L);
+            return;
+        }
+
         final LearnerPullVirtualTreeReceiveTask learnerReceiveTask = new LearnerPullVirtualTreeReceiveTask(
                 workGroup, inputStream, this, senderIsFinished, expectedResponses, rootResponseReceived);
         learnerReceiveTask.exec();
@@ -155,6 +254,43 @@ public final class LearnerPullVirtualTreeView<K extends VirtualKey, V extends Vi
         learnerSendTask.exec();
     }
 
+    private void startStreamTasks(
+            final StandardWorkGroup workGroup,
+            final MerkleDataInputStream inputStream,
+            final AsyncOutputStream<PullVirtualTreeRequest> out,
+            final PartitionedTraversalOrder partitionedOrder,
+            final AtomicBoolean senderIsFinished,
+            final CountDownLatch rootResponseReceived,
+            final AtomicLong expectedResponses) {
+        final int streams = partitionedOrder.getPartitionCount();
+        final Semaphore[] credits = new Semaphore[streams];
+        for (int i = 0; i < streams; i++) {
+            credits[i] = new Semaphore(streamCredits);
+        }
+        final LearnerPullVirtualTreeReceiveTask learnerReceiveTask = new LearnerPullVirtualTreeReceiveTask(
+                workGroup, inputStream, this, senderIsFinished, expectedResponses, rootResponseReceived, credits);
+        learnerReceiveTask.exec();
+        // All sending tasks must be created before any of them is started, so none of them can see
+        // zero active senders until all streams are done
+        final AtomicInteger activeSenders = new AtomicInteger();
+        final List<LearnerPullVirtualTreeSendTask> sendTasks = new ArrayList<>(streams);
+        for (int i = 0; i < streams; i++) {
+            sendTasks.add(new LearnerPullVirtualTreeSendTask(
+                    reconnectConfig,
+                    workGroup,
+                    out,
+                    this,
+                    partitionedOrder.partition(i),
+                    senderIsFinished,
+                    rootResponseReceived,
+                    expectedResponses,
+                    i,
+                    credits[i],
+                    activeSenders));
+        }
+        sendTasks.forEach(LearnerPullVirtualTreeSendTask::exec);
+    }
+
     /**
      * Determines if a given path refers to a leaf of the tree.
      * @param path a path
@@ -0,0 +1,214 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.virtualmap.internal.reconnect;
+
+import static com.swirlds.virtualmap.internal.Path.ROOT_PATH;
+
+import com.swirlds.common.merkle.synchronization.task.ReconnectNodeCount;
+import com.swirlds.virtualmap.internal.Path;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Virtual node traversal policy to traverse the virtual tree in multiple independent partitions,
+ * one partition per reconnect stream. The tree is split into sub-trees at the partition rank, which
+ * is the lowest rank with at least as many nodes as there are partitions. Sub-trees are assigned to
+ * partitions in a round-robin manner, so every partition owns a set of contiguous path ranges at
+ * every rank below the partition rank. Nodes above the partition rank belong to the first partition.
+ *
+ * <p>Within a partition, nodes are traversed rank by rank, top to bottom, like in {@link
+ * TopToBottomTraversalOrder}. Nodes with clean parents are skipped. Clean nodes are shared between
+ * all partitions, since a clean node in the first partition may be a parent of nodes in all other
+ * partitions.
+ *
+ * <p>{@link #start(long, long, ReconnectNodeCount)} and {@link #nodeReceived(long, boolean)} are
+ * called on the learner's receiving thread for all partitions. The next path to send for a partition
+ * is provided by {@link #partition(int)}, which is expected to be used by a single sending thread per
+ * partition.
+ */
+public class PartitionedTraversalOrder implements NodeTraversalOrder {
+
+    private final int partitionCount;
+
+    private ReconnectNodeCount nodeCount;
+
+    private long reconnectFirstLeafPath;
+    private long reconnectLastLeafPath;
+
+    // Rank of the top-most nodes of partition sub-trees
+    private int partitionRank;
+
+    // The first path at the partition rank
+    private long firstPartitionPath;
+
+    // Number of sub-trees at the partition rank. Always a power of two, not less than the number
+    // of partitions
+    private long subTreeCount;
+
+    // Last sent path for every partition. Initialized to 0, since the root path is always sent first
+    private final long[] lastPaths;
+
+    // Clean internal node paths, as received from the teacher. Populated on the receiving thread and
+    // queried on all sending threads
+    private final Set<Long> cleanNodes = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Create a new partitioned traversal order.
+     *
+     * @param partitionCount the number of partitions, must be positive
+     */
+    public PartitionedTraversalOrder(final int partitionCount) {
+        if (partitionCount < 1) {
+            throw new IllegalArgumentException("Partition count must be positive: " + partitionCount);
+        }
+        this.partitionCount = partitionCount;
+        this.lastPaths = new long[partitionCount];
+    }
+
+    /**
+     * Get the number of partitions.
+     *
+     * @return the number of partitions
+     */
+    public int getPartitionCount() {
+        return partitionCount;
+    }
+
+    @Override
+    public void start(final long firstLeafPath, final long lastLeafPath, final ReconnectNodeCount nodeCount) {
+        this.reconnectFirstLeafPath = firstLeafPath;
+        this.reconnectLastLeafPath = lastLeafPath;
+        this.nodeCount = nodeCount;
+        partitionRank = 32 - Integer.numberOfLeadingZeros(partitionCount - 1);
+        firstPartitionPath = Path.getLeftGrandChildPath(ROOT_PATH, partitionRank);
+        subTreeCount = 1L << partitionRank;
+    }
+
+    @Override
+    public void nodeReceived(final long path, final boolean isClean) {
+        final boolean isLeaf = path >= reconnectFirstLeafPath;
+        if (isClean && !isLeaf) {
+            cleanNodes.add(path);
+        }
+        if (isLeaf) {
+            nodeCount.incrementLeafCount();
+            if (isClean) {
+                nodeCount.incrementRedundantLeafCount();
+            }
+        } else {
+            nodeCount.incrementInternalCount();
+            if (isClean) {
+                nodeCount.incrementRedundantInternalCount();
+            }
+        }
+    }
+
+    /**
+     * This method is not supported, paths to send are provided per partition.
+     */
+    @Override
+    public long getNextPathToSend() {
+        throw new UnsupportedOperationException("PartitionedTraversalOrder.getNextPathToSend()");
+    }
+
+    /**
+     * Get a traversal order to provide paths to send for a single partition. Only {@link
+     * NodeTraversalOrder#getNextPathToSend()} is supported by the returned object.
+     *
+     * @param partition the partition index
+     * @return the traversal order for the partition
+     */
+    public NodeTraversalOrder partition(final int partition) {
+        if ((partition < 0) || (partition >= partitionCount)) {
+            throw new IllegalArgumentException("Wrong partition index: " + partition);
+        }
+        return new NodeTraversalOrder() {
+            @Override
+            public void start(final long firstLeafPath, final long lastLeafPath, final ReconnectNodeCount nodeCount) {
+                throw new UnsupportedOperationException("PartitionedTraversalOrder.partition().start()");
+            }
+
+            @Override
+            public long getNextPathToSend() {
+                return PartitionedTraversalOrder.this.getNextPathToSend(partition);
+            }
+
+            @Override
+            public void nodeReceived(final long path, final boolean isClean) {
+                throw new UnsupportedOperationException("PartitionedTraversalOrder.partition().nodeReceived()");
+            }
+        };
+    }
+
+    private long getNextPathToSend(final int partition) {
+        long path = lastPaths[partition];
+        assert path != Path.INVALID_PATH;
+        path = nextPartitionPath(partition, path + 1);
+        while (path != Path.INVALID_PATH) {
+            // Skip sub-trees of clean nodes. The next path after a clean sub-tree may belong to
+            // another partition, so the partition check is repeated
+            final long result = skipCleanPaths(path);
+            if (result == path) {
+                break;
+            }
+            path = (result == Path.INVALID_PATH) ? Path.INVALID_PATH : nextPartitionPath(partition, result);
+        }
+        return lastPaths[partition] = path;
+    }
+
+    /**
+     * Find the first path not less than the given path, which belongs to the given partition.
+     * If there is no such path in the virtual tree, {@link Path#INVALID_PATH} is returned.
+     */
+    private long nextPartitionPath(final int partition, final long startPath) {
+        long path = startPath;
+        while (path <= reconnectLastLeafPath) {
+            if (path < firstPartitionPath) {
+                if (partition == 0) {
+                    return path;
+                }
+                path = firstPartitionPath;
+                continue;
+            }
+            final int rank = Path.getRank(path);
+            final int depth = rank - partitionRank;
+            final long subTree = Path.getIndexInRank(path) >> depth;
+            final long owner = subTree % partitionCount;
+            if (owner == partition) {
+                return path;
+            }
+            // The next sub-tree owned by the partition at the current rank, or the first one at the next rank
+            final long nextSubTree = subTree - owner + partition + ((partition < owner) ? partitionCount : 0);
+            path = (nextSubTree < subTreeCount)
+                    ? Path.getPathForRankAndIndex(rank, nextSubTree << depth)
+                    : Path.getPathForRankAndIndex(rank + 1, (long) partition << (depth + 1));
+        }
+        return Path.INVALID_PATH;
+    }
+
+    /**
+     * For the given path, find the highest clean parent path on the way to the root. If such a clean
+     * parent is found, the next path after the parent's sub-tree at the rank of the given path is
+     * returned, or {@link Path#INVALID_PATH} if the sub-tree spans up to the last leaf path. If no
+     * clean parents are found, the given path is returned.
+     */
+    private long skipCleanPaths(final long path) {
+        assert path > 0;
+        long parent = Path.getParentPath(path);
+        long cleanParent = Path.INVALID_PATH;
+        int parentRanksAbove = 1;
+        int cleanParentRanksAbove = 1;
+        while (parent != ROOT_PATH) {
+            if (cleanNodes.contains(parent)) {
+                cleanParent = parent;
+                cleanParentRanksAbove = parentRanksAbove;
+            }
+            parentRanksAbove++;
+            parent = Path.getParentPath(parent);
+        }
+        final long result = (cleanParent == Path.INVALID_PATH)
+                ? path
+                : Path.getRightGrandChildPath(cleanParent, cleanParentRanksAbove) + 1;
+        assert result >= path;
+        return (result <= reconnectLastLeafPath) ? result : Path.INVALID_PATH;
+    }
+}
@@ -15,15 +15,22 @@ import org.hiero.base.io.streams.SerializableDataOutputStream;
  * <p>On the learner side, a request is created with a path and a hash in the old learner
  * tree (if exists), then sent to the teacher. On the teacher side, requests are deserialized
  * from the stream, and for every request a response is sent back to the learner.
+ *
+ * <p>If multiple reconnect streams are used, every request also includes the stream index. This
+ * format corresponds to {@link ClassVersion#STREAMS} class version.
  */
 public class PullVirtualTreeRequest implements SelfSerializable {
 
     private static final long CLASS_ID = 0xecfbef49a90334ffL;
 
-    private static class ClassVersion {
+    static class ClassVersion {
         public static final int ORIGINAL = 1;
+        public static final int STREAMS = 2;
     }
 
+    // Reconnect stream index, or -1 if a single stream is used
+    private int stream = -1;
+
     // Virtual node path. If the path is Path.INVALID_PATH, it indicates that the learner will
     // not send any more node requests to the teacher
     private long path;
@@ -47,11 +54,23 @@ public class PullVirtualTreeRequest implements SelfSerializable {
         this.hash = hash;
     }
 
+    /**
+     * This constructor is used by the learner to send requests to the teacher in the given stream.
+     */
+    public PullVirtualTreeRequest(final int stream, final long path, final Hash hash) {
+        this(path, hash);
+        assert stream >= 0;
+        this.stream = stream;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public void serialize(final SerializableDataOutputStream out) throws IOException {
+        if (stream >= 0) {
+            out.writeInt(stream);
+        }
         out.writeLong(path);
         if (hash != null) {
             hash.getBytes().writeTo(out);
@@ -63,6 +82,12 @@ public class PullVirtualTreeRequest implements SelfSerializable {
      */
     @Override
     public void deserialize(final SerializableDataInputStream in, final int version) throws IOException {
+        if (version >= ClassVersion.STREAMS) {
+            stream = in.readInt();
+            if (stream < 0) {
+                throw new IOException("Invalid stream index from the learner: " + stream);
+            }
+        }
         path = in.readLong();
         if (path >= 0) {
             final byte[] hashBytes = new byte[DigestType.SHA_384.digestLength()];
@@ -73,6 +98,10 @@ public class PullVirtualTreeRequest implements SelfSerializable {
         }
     }
 
+    public int getStream() {
+        return stream;
+    }
+
     public long getPath() {
         return path;
     }
@@ -94,6 +123,6 @@ public class PullVirtualTreeRequest implements SelfSerializable {
      */
     @Override
     public int getVersion() {
-        return ClassVersion.ORIGINAL;
+        return (stream >= 0) ? ClassVersion.STREAMS : ClassVersion.ORIGINAL;
     }
 }
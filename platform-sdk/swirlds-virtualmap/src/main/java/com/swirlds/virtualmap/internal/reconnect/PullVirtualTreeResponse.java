@@ -1,6 +1,7 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.swirlds.virtualmap.internal.reconnect;
 
+import com.swirlds.virtualmap.datasource.VirtualLeafRecord;
 import java.io.IOException;
 import org.hiero.base.crypto.Hash;
 import org.hiero.base.io.SelfSerializable;
@@ -16,14 +17,21 @@ import org.hiero.base.io.streams.SerializableDataOutputStream;
  * value). If the path corresponds to a leaf node, and the node is not clear, a {@link
  * com.swirlds.virtualmap.datasource.VirtualLeafRecord} for the node is included in the end of the
  * response.
+ *
+ * <p>If multiple reconnect streams are used, every response starts with the index of the stream,
+ * in which the corresponding request was received. This format corresponds to {@link
+ * ClassVersion#STREAMS} class version. In this case, leaf records are loaded by the teacher when
+ * a response is created rather than when it's serialized, so the records are loaded in parallel
+ * by stream threads.
  */
 @SuppressWarnings("rawtypes")
 public class PullVirtualTreeResponse implements SelfSerializable {
 
     private static final long CLASS_ID = 0xecfbef49a90334e3L;
 
-    private static class ClassVersion {
+    static class ClassVersion {
         public static final int ORIGINAL = 1;
+        public static final int STREAMS = 2;
     }
 
     // Only used on the teacher side
@@ -32,6 +40,9 @@ public class PullVirtualTreeResponse implements SelfSerializable {
     // Only used on the learner side
     private final LearnerPullVirtualTreeView learnerView;
 
+    // Reconnect stream index, or -1 if a single stream is used
+    private int stream = -1;
+
     // Virtual node path
     private long path;
 
@@ -41,6 +52,10 @@ public class PullVirtualTreeResponse implements SelfSerializable {
 
     private Hash teacherHash;
 
+    // Leaf record to send, only used on the teacher side if multiple streams are used. May be null
+    // if the node is not a leaf or the leaf is clean
+    private VirtualLeafRecord leaf;
+
     /**
      * Zero-arg constructor for constructable registry.
      */
@@ -66,6 +81,22 @@ public class PullVirtualTreeResponse implements SelfSerializable {
         // teacherHash may be null (in case the tree is empty)
     }
 
+    /**
+     * This constructor is used by the teacher to create new responses in the given stream. If the node
+     * is a dirty leaf, its leaf record is loaded in this constructor.
+     */
+    public PullVirtualTreeResponse(
+            final TeacherPullVirtualTreeView teacherView,
+            final int stream,
+            final long path,
+            final Hash learnerHash,
+            final Hash teacherHash) {
+        this(teacherView, path, learnerHash, teacherHash);
+        assert stream >= 0;
+        this.stream = stream;
+        this.leaf = teacherView.loadLeafRecord(path, isClean());
+    }
+
     /**
      * This constructor is used by the learner when deserializing responses.
      *
@@ -83,10 +114,21 @@ public class PullVirtualTreeResponse implements SelfSerializable {
     @Override
     public void serialize(final SerializableDataOutputStream out) throws IOException {
         assert teacherView != null;
-        out.writeLong(path);
-        final boolean isClean = (teacherHash == null) || teacherHash.equals(learnerHash);
-        out.write(isClean ? 0 : 1);
-        teacherView.writeNode(out, path, isClean);
+        final boolean isClean = isClean();
+        if (stream >= 0) {
+            out.writeInt(stream);
+            out.writeLong(path);
+            out.write(isClean ? 0 : 1);
+            teacherView.writeNode(out, path, leaf);
+        } else {
+            out.writeLong(path);
+            out.write(isClean ? 0 : 1);
+            teacherView.writeNode(out, path, isClean);
+        }
+    }
+
+    private boolean isClean() {
+        return (teacherHash == null) || teacherHash.equals(learnerHash);
     }
 
     /**
@@ -95,6 +137,9 @@ public class PullVirtualTreeResponse implements SelfSerializable {
     @Override
     public void deserialize(final SerializableDataInputStream in, final int version) throws IOException {
         assert learnerView != null;
+        if (version >= ClassVersion.STREAMS) {
+            stream = in.readInt();
+        }
         path = in.readLong();
         final boolean isClean = in.read() == 0;
         learnerView.readNode(in, path, isClean);
@@ -105,6 +150,10 @@ public class PullVirtualTreeResponse implements SelfSerializable {
         }
     }
 
+    public int getStream() {
+        return stream;
+    }
+
     public long getPath() {
         return path;
     }
@@ -122,6 +171,6 @@ public class PullVirtualTreeResponse implements SelfSerializable {
      */
     @Override
     public int getVersion() {
-        return ClassVersion.ORIGINAL;
+        return (stream >= 0) ? ClassVersion.STREAMS : ClassVersion.ORIGINAL;
     }
 }
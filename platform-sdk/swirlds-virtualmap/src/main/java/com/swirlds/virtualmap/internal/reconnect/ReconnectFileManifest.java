@@ -0,0 +1,235 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.virtualmap.internal.reconnect;
+
+import static java.util.Objects.requireNonNull;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.hiero.base.crypto.DigestType;
+import org.hiero.base.crypto.Hash;
+import org.hiero.base.io.streams.SerializableDataInputStream;
+import org.hiero.base.io.streams.SerializableDataOutputStream;
+
+/**
+ * Utilities to describe files of a virtual map snapshot in the files reconnect mode. Every file is
+ * split into chunks of a fixed size, and every chunk is identified by the hash of its content. The
+ * last chunk of a file may be shorter than the chunk size.
+ *
+ * <p>The teacher sends an {@link Entry} for every file in its snapshot. The learner builds entries
+ * for the files of its own snapshot to find chunks it already has, so only the missing chunks are
+ * sent over the network.
+ */
+public final class ReconnectFileManifest {
+
+    /**
+     * Digest type used to hash file chunks.
+     */
+    public static final DigestType CHUNK_DIGEST_TYPE = DigestType.SHA_384;
+
+    /**
+     * Max length of a relative file path in a snapshot, in bytes.
+     */
+    private static final int MAX_PATH_LENGTH = 4096;
+
+    /**
+     * Max number of chunks in a file. With the minimum chunk size of 4KB, files up to 64GB are supported.
+     */
+    static final int MAX_CHUNK_COUNT = 1 << 24;
+
+    /**
+     * Max initial capacity of a list of chunk hashes read from a stream. Longer lists grow as hashes
+     * are actually read, so a malformed entry can't force a large allocation.
+     */
+    private static final int MAX_INITIAL_CHUNK_HASHES = 1024;
+
+    /**
+     * Buffer size to read files when chunks are hashed.
+     */
+    private static final int BUFFER_SIZE = 1024 * 1024;
+
+    private ReconnectFileManifest() {}
+
+    /**
+     * A file in a snapshot.
+     *
+     * @param path relative file path in the snapshot, with "/" as a name separator
+     * @param size file size, in bytes
+     * @param chunkHashes hashes of file chunks, in the order the chunks appear in the file
+     */
+    public record Entry(@NonNull String path, long size, @NonNull List<Hash> chunkHashes) {
+
+        /**
+         * Get the offset of a chunk in the file.
+         *
+         * @param chunkIndex the chunk index
+         * @param chunkSize the chunk size
+         * @return the offset of the chunk
+         */
+        public long chunkOffset(final int chunkIndex, final int chunkSize) {
+            return (long) chunkIndex * chunkSize;
+        }
+
+        /**
+         * Get the length of a chunk in the file. All chunks but the last one are {@code chunkSize} long.
+         *
+         * @param chunkIndex the chunk index
+         * @param chunkSize the chunk size
+         * @return the length of the chunk
+         */
+        public int chunkLength(final int chunkIndex, final int chunkSize) {
+            return (int) Math.min(chunkSize, size - chunkOffset(chunkIndex, chunkSize));
+        }
+
+        /**
+         * Serialize this entry to a stream.
+         *
+         * @param out the output stream
+         * @throws IOException if an I/O error occurs
+         */
+        public void serialize(@NonNull final SerializableDataOutputStream out) throws IOException {
+            out.writeNormalisedString(path);
+            out.writeLong(size);
+            out.writeInt(chunkHashes.size());
+            for (final Hash hash : chunkHashes) {
+                out.write(hash.copyToByteArray());
+            }
+        }
+
+        /**
+         * Deserialize an entry from a stream.
+         *
+         * @param in the input stream
+         * @param chunkSize the chunk size
+         * @return the entry
+         * @throws IOException if an I/O error occurs, or if the entry is malformed, for example if the
+         *     file has more than {@link #MAX_CHUNK_COUNT} chunks
+         */
+        @NonNull
+        public static Entry deserialize(@NonNull final SerializableDataInputStream in, final int chunkSize)
+                throws IOException {
+            if (chunkSize <= 0) {
+                throw new IOException("Invalid chunk size: " + chunkSize);
+            }
+            final String path = in.readNormalisedString(MAX_PATH_LENGTH);
+            final long size = in.readLong();
+            final int chunkCount = in.readInt();
+            // Check the size before the chunk count is computed, so it can't overflow
+            if ((size < 0)
+                    || (size > (long) MAX_CHUNK_COUNT * chunkSize)
+                    || (chunkCount != chunkCount(size, chunkSize))) {
+                throw new IOException("Invalid size or chunk count of " + path + ": " + size + ", " + chunkCount);
+            }
+            final List<Hash> chunkHashes = new ArrayList<>(Math.min(chunkCount, MAX_INITIAL_CHUNK_HASHES));
+            for (int i = 0; i < chunkCount; i++) {
+                final byte[] hash = new byte[CHUNK_DIGEST_TYPE.digestLength()];
+                in.readFully(hash);
+                chunkHashes.add(new Hash(hash, CHUNK_DIGEST_TYPE));
+            }
+            return new Entry(path, size, chunkHashes);
+        }
+    }
+
+    /**
+     * Get the number of chunks in a file.
+     *
+     * @param size the file size
+     * @param chunkSize the chunk size
+     * @return the number of chunks
+     */
+    public static int chunkCount(final long size, final int chunkSize) {
+        return Math.toIntExact((size + chunkSize - 1) / chunkSize);
+    }
+
+    /**
+     * List all regular files in a snapshot directory, including subdirectories. The files are sorted
+     * by their relative paths, so the order is the same every time the directory is listed.
+     *
+     * @param directory the snapshot directory
+     * @return relative file paths, with "/" as a name separator
+     * @throws IOException if an I/O error occurs
+     */
+    @NonNull
+    public static List<String> listFiles(@NonNull final Path directory) throws IOException {
+        requireNonNull(directory);
+        try (final Stream<Path> files = Files.walk(directory)) {
+            return files.filter(Files::isRegularFile)
+                    .map(file -> toRelativePath(directory, file))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    /**
+     * Build a manifest entry for a file in a snapshot directory. All file chunks are read and hashed.
+     *
+     * @param directory the snapshot directory
+     * @param path the relative file path
+     * @param chunkSize the chunk size
+     * @return the entry
+     * @throws IOException if an I/O error occurs
+     */
+    @NonNull
+    public static Entry buildEntry(@NonNull final Path directory, @NonNull final String path, final int chunkSize)
+            throws IOException {
+        final MessageDigest digest = CHUNK_DIGEST_TYPE.buildDigest();
+        final ByteBuffer buffer = ByteBuffer.allocate(Math.min(chunkSize, BUFFER_SIZE));
+        try (final FileChannel channel = FileChannel.open(resolve(directory, path), StandardOpenOption.READ)) {
+            final long size = channel.size();
+            final int chunkCount = chunkCount(size, chunkSize);
+            final List<Hash> chunkHashes = new ArrayList<>(chunkCount);
+            for (int i = 0; i < chunkCount; i++) {
+                long remaining = Math.min(chunkSize, size - (long) i * chunkSize);
+                while (remaining > 0) {
+                    buffer.clear().limit((int) Math.min(remaining, buffer.capacity()));
+                    final int read = channel.read(buffer);
+                    if (read < 0) {
+                        throw new IOException("File " + path + " was truncated while it was hashed");
+                    }
+                    digest.update(buffer.array(), 0, read);
+                    remaining -= read;
+                }
+                chunkHashes.add(new Hash(digest.digest(), CHUNK_DIGEST_TYPE));
+            }
+            return new Entry(path, size, chunkHashes);
+        }
+    }
+
+    /**
+     * Resolve a relative file path against a snapshot directory. Paths received from a peer must not
+     * point outside the directory.
+     *
+     * @param directory the snapshot directory
+     * @param path the relative file path
+     * @return the file path
+     * @throws IOException if the path is not inside the directory
+     */
+    @NonNull
+    public static Path resolve(@NonNull final Path directory, @NonNull final String path) throws IOException {
+        final Path base = directory.toAbsolutePath().normalize();
+        final Path file = base.resolve(path).normalize();
+        if (!file.startsWith(base) || file.equals(base)) {
+            throw new IOException("File path is outside the snapshot directory: " + path);
+        }
+        return file;
+    }
+
+    private static String toRelativePath(final Path directory, final Path file) {
+        final StringBuilder sb = new StringBuilder();
+        for (final Path name : directory.relativize(file)) {
+            if (!sb.isEmpty()) {
+                sb.append('/');
+            }
+            sb.append(name);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,383 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.virtualmap.internal.reconnect;
+
+import static com.swirlds.logging.legacy.LogMarker.EXCEPTION;
+import static com.swirlds.logging.legacy.LogMarker.RECONNECT;
+import static com.swirlds.virtualmap.internal.Path.ROOT_PATH;
+
+import com.swirlds.base.time.Time;
+import com.swirlds.common.io.streams.MerkleDataInputStream;
+import com.swirlds.common.io.streams.MerkleDataOutputStream;
+import com.swirlds.common.io.utility.FileUtils;
+import com.swirlds.common.merkle.synchronization.TeachingSynchronizer;
+import com.swirlds.common.merkle.synchronization.task.TeacherSubtree;
+import com.swirlds.common.merkle.synchronization.utility.MerkleSynchronizationException;
+import com.swirlds.common.merkle.synchronization.views.TeacherTreeView;
+import com.swirlds.common.threading.framework.config.ThreadConfiguration;
+import com.swirlds.common.threading.manager.ThreadManager;
+import com.swirlds.common.threading.pool.StandardWorkGroup;
+import com.swirlds.virtualmap.VirtualKey;
+import com.swirlds.virtualmap.VirtualValue;
+import com.swirlds.virtualmap.datasource.VirtualDataSourceBuilder;
+import com.swirlds.virtualmap.internal.VirtualStateAccessor;
+import com.swirlds.virtualmap.internal.merkle.VirtualRootNode;
+import com.swirlds.virtualmap.internal.pipeline.VirtualPipeline;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hiero.base.io.streams.SerializableDataOutputStream;
+
+/**
+ * An implementation of {@link TeacherTreeView} for the files reconnect mode. Instead of sending
+ * virtual nodes one by one, the teacher takes a snapshot of the virtual map and sends the snapshot
+ * file chunks the learner doesn't have.
+ *
+ * <p>The teacher sends the map state, the root hash, and a {@link ReconnectFileManifest.Entry
+ * manifest entry} for every snapshot file. In parallel, the learner sends requests for the chunks
+ * it's missing, each request is a file index and a chunk index. The teacher streams requested chunk
+ * bytes to the learner as is, in the same order as the requests. While the learner is busy with its
+ * local files, it sends keep-alive requests, so the teacher doesn't time out.
+ *
+ * <p>This implementation is supposed to work with {@link LearnerFileVirtualTreeView} on the learner side.
+ *
+ * @param <K>
+ * 		The key
+ * @param <V>
+ * 		The value
+ */
+public final class TeacherFileVirtualTreeView<K extends VirtualKey, V extends VirtualValue>
+        extends VirtualTreeViewBase<K, V> implements TeacherTreeView<Long> {
+
+    private static final Logger logger = LogManager.getLogger(TeacherFileVirtualTreeView.class);
+
+    private static final String NAME = "reconnect-file-teacher";
+
+    /**
+     * The files reconnect protocol version. Both the teacher and the learner must use the same version.
+     */
+    static final int PROTOCOL_VERSION = 1;
+
+    /**
+     * A file index sent by the learner when it doesn't need any more chunks.
+     */
+    static final int NO_MORE_REQUESTS = -1;
+
+    /**
+     * A file index sent by the learner to keep the connection alive while it's busy.
+     */
+    static final int KEEP_ALIVE = -2;
+
+    /**
+     * The size of snapshot file chunks.
+     */
+    private final int chunkSize;
+
+    /**
+     * The snapshot directory. Set when the view is ready.
+     */
+    private Path snapshotDir;
+
+    /**
+     * This latch counts down when the snapshot is taken, and the view is ready for use.
+     */
+    private final CountDownLatch readyLatch = new CountDownLatch(1);
+
+    /**
+     * Indicates whether this teacher view is ready after {@link #readyLatch} is released.
+     */
+    private final AtomicBoolean ready = new AtomicBoolean(false);
+
+    /**
+     * Create a new {@link TeacherFileVirtualTreeView}.
+     *
+     * @param threadManager
+     * 		responsible for creating and managing threads
+     * @param root
+     * 		The root node on the teacher side of the saved state that we are going to reconnect.
+     * @param state
+     * 		The state of the virtual tree that we are synchronizing.
+     * @param pipeline
+     * 		The pipeline managing the virtual map.
+     * @param dataSourceBuilder
+     * 		The data source builder of the virtual map, used to create the snapshot directory.
+     * @param chunkSize
+     * 		The size of snapshot file chunks.
+     */
+    public TeacherFileVirtualTreeView(
+            final ThreadManager threadManager,
+            final VirtualRootNode<K, V> root,
+            final VirtualStateAccessor state,
+            final VirtualPipeline<K, V> pipeline,
+            final VirtualDataSourceBuilder dataSourceBuilder,
+            final int chunkSize) {
+        // There is no distinction between originalState and reconnectState in this implementation
+        super(root, state, state);
+        this.chunkSize = chunkSize;
+        new ThreadConfiguration(threadManager)
+                .setRunnable(() -> {
+                    try {
+                        final Path dir = dataSourceBuilder.createSnapshotDirectory("reconnect-teacher");
+                        snapshotDir = dir;
+                        pipeline.snapshot(root, dir);
+                        ready.set(true);
+                    } catch (final IOException e) {
+                        logger.error(EXCEPTION.getMarker(), "Failed to take a snapshot for reconnect", e);
+                    } finally {
+                        readyLatch.countDown();
+                    }
+                })
+                .setComponent("virtualmap")
+                .setThreadName("snapshotter")
+                .build()
+                .start();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void startTeacherTasks(
+            final TeachingSynchronizer teachingSynchronizer,
+            final Time time,
+            final StandardWorkGroup workGroup,
+            final MerkleDataInputStream inputStream,
+            final MerkleDataOutputStream outputStream,
+            final Queue<TeacherSubtree> subtrees) {
+        workGroup.execute(NAME, () -> {
+            try {
+                teach(inputStream, outputStream);
+            } catch (final IOException e) {
+                throw new MerkleSynchronizationException("Exception in the teacher's file task", e);
+            }
+        });
+    }
+
+    /**
+     * Send the snapshot manifest to the learner, then send all chunks requested by the learner.
+     *
+     * @param in the input stream to read requests from
+     * @param out the output stream to write the manifest and the chunks to
+     * @throws IOException if an I/O error occurs
+     */
+    private void teach(final MerkleDataInputStream in, final MerkleDataOutputStream out) throws IOException {
+        out.writeInt(PROTOCOL_VERSION);
+        out.writeNormalisedString(reconnectState.getLabel());
+        out.writeLong(reconnectState.getFirstLeafPath());
+        out.writeLong(reconnectState.getLastLeafPath());
+        out.writeSerializable(root.getHash(), false);
+        out.writeInt(chunkSize);
+
+        final List<String> paths = ReconnectFileManifest.listFiles(snapshotDir);
+        out.writeInt(paths.size());
+        out.flush();
+        // Entries are flushed one by one, hashing all files may take a while
+        final List<ReconnectFileManifest.Entry> entries = new ArrayList<>(paths.size());
+        for (final String path : paths) {
+            final ReconnectFileManifest.Entry entry = ReconnectFileManifest.buildEntry(snapshotDir, path, chunkSize);
+            entries.add(entry);
+            entry.serialize(out);
+            out.flush();
+        }
+        logger.info(RECONNECT.getMarker(), "Teacher sent a manifest of {} snapshot files", entries.size());
+
+        // Channels.newChannel() doesn't buffer, chunk bytes are written directly to the stream
+        final WritableByteChannel target = Channels.newChannel(out);
+        long chunksSent = 0;
+        long bytesSent = 0;
+        while (true) {
+            final int fileIndex = in.readInt();
+            if (fileIndex == NO_MORE_REQUESTS) {
+                break;
+            }
+            if (fileIndex == KEEP_ALIVE) {
+                continue;
+            }
+            final int chunkIndex = in.readInt();
+            if ((fileIndex < 0) || (fileIndex >= entries.size())) {
+                throw new MerkleSynchronizationException("Invalid file index requested: " + fileIndex);
+            }
+            final ReconnectFileManifest.Entry entry = entries.get(fileIndex);
+            if ((chunkIndex < 0) || (chunkIndex >= entry.chunkHashes().size())) {
+                throw new MerkleSynchronizationException("Invalid chunk index requested: " + chunkIndex);
+            }
+            bytesSent += sendChunk(entry, chunkIndex, target);
+            chunksSent++;
+            out.flush();
+        }
+        logger.info(
+                RECONNECT.getMarker(), "Teacher sent {} snapshot file chunks, {} bytes total", chunksSent, bytesSent);
+    }
+
+    /**
+     * Send a snapshot file chunk to the learner. The chunk is transferred from the file channel to the
+     * target channel without copying it to the heap, if the target channel permits.
+     *
+     * @param entry the snapshot file
+     * @param chunkIndex the chunk index
+     * @param target the channel to send the chunk to
+     * @return the number of bytes sent
+     * @throws IOException if an I/O error occurs
+     */
+    private long sendChunk(
+            final ReconnectFileManifest.Entry entry, final int chunkIndex, final WritableByteChannel target)
+            throws IOException {
+        final Path file = ReconnectFileManifest.resolve(snapshotDir, entry.path());
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long position = entry.chunkOffset(chunkIndex, chunkSize);
+            long remaining = entry.chunkLength(chunkIndex, chunkSize);
+            final long length = remaining;
+            while (remaining > 0) {
+                final long transferred = channel.transferTo(position, remaining, target);
+                if (transferred <= 0) {
+                    throw new IOException("Snapshot file " + entry.path() + " was truncated");
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+            return length;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void waitUntilReady() throws InterruptedException {
+        readyLatch.await();
+        if (!ready.get()) {
+            throw new RuntimeException("Failed to wait until teacher view is ready");
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Long getRoot() {
+        return ROOT_PATH;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addToHandleQueue(final Long node) {
+        throw new UnsupportedOperationException("TeacherFileVirtualTreeView.addToHandleQueue()");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Long getNextNodeToHandle() {
+        throw new UnsupportedOperationException("TeacherFileVirtualTreeView.getNextNodeToHandle()");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean areThereNodesToHandle() {
+        throw new UnsupportedOperationException("TeacherFileVirtualTreeView.areThereNodesToHandle()");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Long getChildAndPrepareForQueryResponse(final Long parent, final int childIndex) {
+        throw new UnsupportedOperationException("TeacherFileVirtualTreeView.getChildAndPrepareForQueryResponse()");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Long getNodeForNextResponse() {
+        throw new UnsupportedOperationException("TeacherFileVirtualTreeView.getNodeForNextResponse()");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isResponseExpected() {
+        throw new UnsupportedOperationException("TeacherFileVirtualTreeView.isResponseExpected()");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void registerResponseForNode(final Long node, final boolean learnerHasNode) {
+        throw new UnsupportedOperationException("TeacherFileVirtualTreeView.registerResponseForNode()");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasLearnerConfirmedFor(final Long node) {
+        throw new UnsupportedOperationException("TeacherFileVirtualTreeView.hasLearnerConfirmedFor()");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void serializeLeaf(final SerializableDataOutputStream out, final Long leaf) throws IOException {
+        throw new UnsupportedOperationException("TeacherFileVirtualTreeView.serializeLeaf()");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void serializeInternal(final SerializableDataOutputStream out, final Long internal) throws IOException {
+        throw new UnsupportedOperationException("TeacherFileVirtualTreeView.serializeInternal()");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeChildHashes(final Long parent, final SerializableDataOutputStream out) throws IOException {
+        throw new UnsupportedOperationException("TeacherFileVirtualTreeView.writeChildHashes()");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isCustomReconnectRoot(final Long node) {
+        return node == ROOT_PATH;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        try {
+            readyLatch.await();
+            if (snapshotDir != null) {
+                FileUtils.deleteDirectory(snapshotDir);
+            }
+        } catch (final IOException e) {
+            logger.error(EXCEPTION.getMarker(), "Failed to delete reconnect snapshot {}", snapshotDir, e);
+        } catch (final InterruptedException e) {
+            logger.error(EXCEPTION.getMarker(), "Interrupted while waiting for reconnect snapshot", e);
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -13,6 +13,7 @@ import com.swirlds.common.threading.pool.StandardWorkGroup;
 import com.swirlds.common.utility.throttle.RateLimiter;
 import com.swirlds.virtualmap.internal.Path;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.hiero.base.crypto.Hash;
@@ -24,6 +25,12 @@ import org.hiero.base.io.streams.SerializableDataInputStream;
  * streams serialize objects to the underlying output streams in a separate thread. This is
  * where the provided hash from the learner is compared with the corresponding hash on the
  * teacher.
+ *
+ * <p>If the learner uses multiple reconnect streams, this task only reads requests from the
+ * connection and dispatches them to {@link TeacherPullVirtualTreeStreamTask stream tasks}, which
+ * process the requests in parallel. Requests from the same stream are always processed by the
+ * same stream task, in order. In this mode, the number of requests in flight is limited by
+ * per-stream flow control credits on the learner side, so the teacher rate limiter isn't used.
  */
 public class TeacherPullVirtualTreeReceiveTask {
 
@@ -36,6 +43,9 @@ public class TeacherPullVirtualTreeReceiveTask {
     private final AsyncOutputStream<PullVirtualTreeResponse> out;
     private final TeacherPullVirtualTreeView view;
 
+    // Tasks to process requests, if the learner uses multiple streams. Empty otherwise
+    private final List<TeacherPullVirtualTreeStreamTask> streamTasks;
+
     private final RateLimiter rateLimiter;
     private final int sleepNanos;
 
@@ -56,13 +66,37 @@ public class TeacherPullVirtualTreeReceiveTask {
             final SerializableDataInputStream in,
             final AsyncOutputStream<PullVirtualTreeResponse> out,
             final TeacherPullVirtualTreeView view) {
+        this(time, reconnectConfig, workGroup, in, out, view, List.of());
+    }
+
+    /**
+     * Create new thread that will receive learner requests and dispatch them to the given stream tasks.
+     *
+     * @param time                  the wall clock time
+     * @param reconnectConfig       the configuration for reconnect
+     * @param workGroup             the work group managing the reconnect
+     * @param in                    the input stream
+     * @param out                   the output stream
+     * @param view                  an object that interfaces with the subtree
+     * @param streamTasks           the tasks to process requests from multiple streams, or an empty
+     *                              list if the learner uses a single stream
+     */
+    public TeacherPullVirtualTreeReceiveTask(
+            @NonNull final Time time,
+            @NonNull final ReconnectConfig reconnectConfig,
+            final StandardWorkGroup workGroup,
+            final SerializableDataInputStream in,
+            final AsyncOutputStream<PullVirtualTreeResponse> out,
+            final TeacherPullVirtualTreeView view,
+            @NonNull final List<TeacherPullVirtualTreeStreamTask> streamTasks) {
         this.workGroup = workGroup;
         this.in = in;
         this.out = out;
         this.view = view;
+        this.streamTasks = streamTasks;
 
         final int maxRate = reconnectConfig.teacherMaxNodesPerSecond();
-        if (maxRate > 0) {
+        if ((maxRate > 0) && streamTasks.isEmpty()) {
             rateLimiter = new RateLimiter(time, maxRate);
             sleepNanos = (int) reconnectConfig.teacherRateLimiterSleep().toNanos();
         } else {
@@ -75,7 +109,7 @@ public class TeacherPullVirtualTreeReceiveTask {
      * Start the thread that sends lessons and queries to the learner.
      */
     void exec() {
-        workGroup.execute(NAME, this::run);
+        workGroup.execute(NAME, streamTasks.isEmpty() ? this::run : this::runStreams);
     }
 
     /**
@@ -100,7 +134,7 @@ public class TeacherPullVirtualTreeReceiveTask {
                 rateLimit();
                 final PullVirtualTreeRequest request = new PullVirtualTreeRequest();
                 request.deserialize(in, 0);
-                logger.debug(RECONNECT.getMarker(), "Teacher receive path: " + request.getPath());
+                logger.debug(RECONNECT.getMarker(), "Teacher receive path: {}", request.getPath());
                 if (request.getPath() == Path.INVALID_PATH) {
                     logger.info(RECONNECT.getMarker(), "Teacher receiver is complete as requested by the learner");
                     break;
@@ -127,4 +161,30 @@ public class TeacherPullVirtualTreeReceiveTask {
             throw new MerkleSynchronizationException("Exception in the teacher's receiving task", ex);
         }
     }
+
+    /**
+     * This thread is responsible for dispatching learner requests from multiple streams to stream tasks.
+     */
+    private void runStreams() {
+        try {
+            while (true) {
+                final PullVirtualTreeRequest request = new PullVirtualTreeRequest();
+                request.deserialize(in, PullVirtualTreeRequest.ClassVersion.STREAMS);
+                logger.debug(
+                        RECONNECT.getMarker(),
+                        "Teacher receive path: {}, stream: {}",
+                        request.getPath(),
+                        request.getStream());
+                if (request.getPath() == Path.INVALID_PATH) {
+                    logger.info(RECONNECT.getMarker(), "Teacher receiver is complete as requested by the learner");
+                    streamTasks.forEach(task -> task.addRequest(request));
+                    break;
+                }
+                streamTasks.get(request.getStream() % streamTasks.size()).addRequest(request);
+            }
+            logger.debug(RECONNECT.getMarker(), "Teacher receive done");
+        } catch (final Exception ex) {
+            throw new MerkleSynchronizationException("Exception in the teacher's receiving task", ex);
+        }
+    }
 }
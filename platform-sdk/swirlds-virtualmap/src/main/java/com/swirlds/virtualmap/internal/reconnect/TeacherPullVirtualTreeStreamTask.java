@@ -0,0 +1,112 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.virtualmap.internal.reconnect;
+
+import static com.swirlds.logging.legacy.LogMarker.RECONNECT;
+
+import com.swirlds.common.io.exceptions.MerkleSerializationException;
+import com.swirlds.common.merkle.synchronization.streams.AsyncOutputStream;
+import com.swirlds.common.merkle.synchronization.utility.MerkleSynchronizationException;
+import com.swirlds.common.threading.pool.StandardWorkGroup;
+import com.swirlds.virtualmap.internal.Path;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hiero.base.crypto.Hash;
+
+/**
+ * A task running on the teacher side, which is responsible for processing learner requests from
+ * one or more reconnect streams. Requests are provided by {@link TeacherPullVirtualTreeReceiveTask},
+ * which reads them from the connection. For every request, node hash and leaf record (if needed)
+ * are loaded, and a response is sent to the provided async output stream. Multiple such tasks
+ * load data in parallel.
+ *
+ * <p>The number of requests in this task's queue is limited by the learner, since the learner
+ * doesn't send more requests in a stream than the number of flow control credits per stream.
+ */
+public class TeacherPullVirtualTreeStreamTask {
+
+    private static final Logger logger = LogManager.getLogger(TeacherPullVirtualTreeStreamTask.class);
+
+    private static final String NAME = "reconnect-teacher-stream";
+
+    private final StandardWorkGroup workGroup;
+    private final AsyncOutputStream<PullVirtualTreeResponse> out;
+    private final TeacherPullVirtualTreeView view;
+
+    // Requests to process. A request with Path.INVALID_PATH indicates there will be no more requests
+    private final BlockingQueue<PullVirtualTreeRequest> requests = new LinkedBlockingQueue<>();
+
+    // Number of stream tasks that are still running. The last task to finish closes the output stream
+    private final AtomicInteger activeTasks;
+
+    /**
+     * Create a new task to process learner requests.
+     *
+     * @param workGroup     the work group managing the reconnect
+     * @param out           the output stream, shared between all stream tasks
+     * @param view          an object that interfaces with the subtree
+     * @param activeTasks   number of running stream tasks, shared between all stream tasks
+     */
+    public TeacherPullVirtualTreeStreamTask(
+            final StandardWorkGroup workGroup,
+            final AsyncOutputStream<PullVirtualTreeResponse> out,
+            final TeacherPullVirtualTreeView view,
+            final AtomicInteger activeTasks) {
+        this.workGroup = workGroup;
+        this.out = out;
+        this.view = view;
+        this.activeTasks = activeTasks;
+        activeTasks.incrementAndGet();
+    }
+
+    /**
+     * Start the task.
+     */
+    void exec() {
+        workGroup.execute(NAME, this::run);
+    }
+
+    /**
+     * Add a learner request to process.
+     *
+     * @param request the request
+     */
+    void addRequest(final PullVirtualTreeRequest request) {
+        requests.add(request);
+    }
+
+    private void run() {
+        try {
+            while (true) {
+                final PullVirtualTreeRequest request = requests.take();
+                final long path = request.getPath();
+                if (path == Path.INVALID_PATH) {
+                    break;
+                }
+                final Hash learnerHash = request.getHash();
+                final Hash teacherHash = view.loadHash(path);
+                // The only valid scenario, when teacherHash may be null, is the empty tree
+                if ((teacherHash == null) && (path != 0)) {
+                    throw new MerkleSerializationException(
+                            "Cannot load node hash (bad request from learner?), path = " + path);
+                }
+                // Leaf record, if needed, is loaded right here rather than in the async output thread
+                final PullVirtualTreeResponse response =
+                        new PullVirtualTreeResponse(view, request.getStream(), path, learnerHash, teacherHash);
+                out.sendAsync(response);
+            }
+            logger.debug(RECONNECT.getMarker(), "Teacher stream task done");
+        } catch (final InterruptedException ex) {
+            logger.warn(RECONNECT.getMarker(), "Teacher's stream task is interrupted");
+            Thread.currentThread().interrupt();
+        } catch (final Exception ex) {
+            throw new MerkleSynchronizationException("Exception in the teacher's stream task", ex);
+        } finally {
+            if (activeTasks.decrementAndGet() == 0) {
+                out.close();
+            }
+        }
+    }
+}
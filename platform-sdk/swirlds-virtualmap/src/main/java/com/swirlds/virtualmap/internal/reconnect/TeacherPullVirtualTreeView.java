@@ -17,14 +17,19 @@ import com.swirlds.common.threading.manager.ThreadManager;
 import com.swirlds.common.threading.pool.StandardWorkGroup;
 import com.swirlds.virtualmap.VirtualKey;
 import com.swirlds.virtualmap.VirtualValue;
+import com.swirlds.virtualmap.datasource.VirtualLeafRecord;
 import com.swirlds.virtualmap.internal.RecordAccessor;
 import com.swirlds.virtualmap.internal.VirtualStateAccessor;
 import com.swirlds.virtualmap.internal.merkle.VirtualRootNode;
 import com.swirlds.virtualmap.internal.pipeline.VirtualPipeline;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.hiero.base.crypto.Hash;
@@ -53,6 +58,12 @@ public final class TeacherPullVirtualTreeView<K extends VirtualKey, V extends Vi
 
     private final ReconnectConfig reconnectConfig;
 
+    /**
+     * The number of tasks to process learner requests, if the learner uses multiple streams. Zero
+     * if the learner uses a single stream.
+     */
+    private final int streams;
+
     /**
      * The {@link RecordAccessor} used for accessing the original map state.
      */
@@ -86,9 +97,35 @@ public final class TeacherPullVirtualTreeView<K extends VirtualKey, V extends Vi
             final VirtualRootNode<K, V> root,
             final VirtualStateAccessor state,
             final VirtualPipeline<K, V> pipeline) {
+        this(threadManager, reconnectConfig, root, state, pipeline, 0);
+    }
+
+    /**
+     * Create a new {@link TeacherPullVirtualTreeView}.
+     *
+     * @param threadManager
+     * 		responsible for creating and managing threads
+     * @param root
+     * 		The root node on the teacher side of the saved state that we are going to reconnect.
+     * @param state
+     * 		The state of the virtual tree that we are synchronizing.
+     * @param pipeline
+     * 		The pipeline managing the virtual map.
+     * @param streams
+     * 		The number of tasks to process learner requests in parallel, if the learner uses multiple
+     * 		streams. Zero if the learner uses a single stream.
+     */
+    public TeacherPullVirtualTreeView(
+            final ThreadManager threadManager,
+            final ReconnectConfig reconnectConfig,
+            final VirtualRootNode<K, V> root,
+            final VirtualStateAccessor state,
+            final VirtualPipeline<K, V> pipeline,
+            final int streams) {
         // There is no distinction between originalState and reconnectState in this implementation
         super(root, state, state);
         this.reconnectConfig = reconnectConfig;
+        this.streams = streams;
         new ThreadConfiguration(threadManager)
                 .setRunnable(() -> {
                     try {
@@ -116,8 +153,15 @@ public final class TeacherPullVirtualTreeView<K extends VirtualKey, V extends Vi
                 teachingSynchronizer.buildOutputStream(workGroup, outputStream);
         out.start();
 
-        final TeacherPullVirtualTreeReceiveTask teacherReceiveTask =
-                new TeacherPullVirtualTreeReceiveTask(time, reconnectConfig, workGroup, inputStream, out, this);
+        final List<TeacherPullVirtualTreeStreamTask> streamTasks = new ArrayList<>(streams);
+        final AtomicInteger activeStreamTasks = new AtomicInteger();
+        for (int i = 0; i < streams; i++) {
+            streamTasks.add(new TeacherPullVirtualTreeStreamTask(workGroup, out, this, activeStreamTasks));
+        }
+        streamTasks.forEach(TeacherPullVirtualTreeStreamTask::exec);
+
+        final TeacherPullVirtualTreeReceiveTask teacherReceiveTask = new TeacherPullVirtualTreeReceiveTask(
+                time, reconnectConfig, workGroup, inputStream, out, this, streamTasks);
         teacherReceiveTask.exec();
     }
 
@@ -141,14 +185,46 @@ public final class TeacherPullVirtualTreeView<K extends VirtualKey, V extends Vi
      */
     public void writeNode(final SerializableDataOutputStream out, final long path, final boolean isClean)
             throws IOException {
+        writeNode(out, path, loadLeafRecord(path, isClean));
+    }
+
+    /**
+     * Writes the virtual node identified by a given path to the output stream. This method is similar
+     * to {@link #writeNode(SerializableDataOutputStream, long, boolean)}, but the leaf record to write,
+     * if any, is provided by the caller, as loaded using {@link #loadLeafRecord(long, boolean)}.
+     *
+     * @param out the output stream
+     * @param path the virtual path
+     * @param leaf the leaf record to write, or null if the node is not a leaf, or the leaf is clean
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeNode(
+            final SerializableDataOutputStream out, final long path, @Nullable final VirtualLeafRecord<K, V> leaf)
+            throws IOException {
         checkValidNode(path, reconnectState);
         if (path == 0) {
             out.writeLong(reconnectState.getFirstLeafPath());
             out.writeLong(reconnectState.getLastLeafPath());
         }
+        if (leaf != null) {
+            out.writeSerializable(leaf, false);
+        }
+    }
+
+    /**
+     * Loads the leaf record to send to the learner for the virtual node identified by a given path.
+     *
+     * @param path the virtual path
+     * @param isClean indicates if the virtual node on the learner side matches what's on the teacher
+     * @return the leaf record, or null if the node is not a leaf, or the leaf is clean
+     */
+    @Nullable
+    public VirtualLeafRecord<K, V> loadLeafRecord(final long path, final boolean isClean) {
+        checkValidNode(path, reconnectState);
         if (!isClean && isLeaf(path) && (reconnectState.getFirstLeafPath() > 0)) {
-            out.writeSerializable(records.findLeafRecord(path, false), false);
+            return records.findLeafRecord(path, false);
         }
+        return null;
     }
 
     /**
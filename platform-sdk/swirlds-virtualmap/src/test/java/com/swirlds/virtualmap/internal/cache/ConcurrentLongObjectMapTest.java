@@ -0,0 +1,176 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.virtualmap.internal.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentLongObjectMapTest {
+
+    @Test
+    @Tags({@Tag("VirtualMerkle"), @Tag("VirtualNodeCache")})
+    @DisplayName("Segment count must be a power of two, at least 2")
+    void illegalSegmentCount() {
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentLongObjectMap<String>(0), "Expected IAE");
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentLongObjectMap<String>(1), "Expected IAE");
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentLongObjectMap<String>(-4), "Expected IAE");
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentLongObjectMap<String>(3), "Expected IAE");
+    }
+
+    @Test
+    @Tags({@Tag("VirtualMerkle"), @Tag("VirtualNodeCache")})
+    @DisplayName("The smallest segment count is supported")
+    void smallestSegmentCount() {
+        final ConcurrentLongObjectMap<Long> map = new ConcurrentLongObjectMap<>(2);
+        final int count = 1_000;
+        for (long i = 0; i < count; i++) {
+            map.put(i, i * 3);
+        }
+        map.put(Long.MIN_VALUE, 0L);
+        map.put(Long.MAX_VALUE, 1L);
+        assertEquals(count + 2, map.size(), "Wrong size");
+        for (long i = 0; i < count; i++) {
+            assertEquals(i * 3, (long) map.get(i), "Wrong value");
+        }
+        assertEquals(0L, (long) map.get(Long.MIN_VALUE), "Wrong value");
+        assertEquals(1L, (long) map.get(Long.MAX_VALUE), "Wrong value");
+        for (long i = 0; i < count; i++) {
+            map.put(i, null);
+        }
+        map.put(Long.MIN_VALUE, null);
+        map.put(Long.MAX_VALUE, null);
+        assertEquals(0, map.size(), "Map should be empty");
+    }
+
+    @Test
+    @Tags({@Tag("VirtualMerkle"), @Tag("VirtualNodeCache")})
+    @DisplayName("Put, get, and remove")
+    void putGetRemove() {
+        final ConcurrentLongObjectMap<String> map = new ConcurrentLongObjectMap<>();
+        assertNull(map.get(0), "Empty map should have no entries");
+        map.put(0, "zero");
+        map.put(1, "one");
+        map.put(Long.MAX_VALUE, "max");
+        assertEquals("zero", map.get(0), "Wrong value");
+        assertEquals("one", map.get(1), "Wrong value");
+        assertEquals("max", map.get(Long.MAX_VALUE), "Wrong value");
+        assertEquals(3, map.size(), "Wrong size");
+
+        map.put(1, "uno");
+        assertEquals("uno", map.get(1), "Value should be replaced");
+        assertEquals(3, map.size(), "Replacing a value should not change the size");
+
+        map.put(1, null);
+        assertNull(map.get(1), "Entry should be removed");
+        assertEquals(2, map.size(), "Wrong size after remove");
+
+        map.put(1, "one again");
+        assertEquals("one again", map.get(1), "Removed key should be added again");
+        assertEquals(3, map.size(), "Wrong size after re-adding");
+    }
+
+    @Test
+    @Tags({@Tag("VirtualMerkle"), @Tag("VirtualNodeCache")})
+    @DisplayName("Compute gets the current value and stores the new one")
+    void compute() {
+        final ConcurrentLongObjectMap<String> map = new ConcurrentLongObjectMap<>();
+        assertEquals("a", map.compute(5, (k, v) -> v == null ? "a" : v + "b"), "Wrong computed value");
+        assertEquals("ab", map.compute(5, (k, v) -> v == null ? "a" : v + "b"), "Wrong computed value");
+        assertEquals("ab", map.get(5), "Computed value should be stored");
+        assertNull(map.compute(6, (k, v) -> null), "Null should not be stored");
+        assertEquals(1, map.size(), "Wrong size");
+        assertNull(map.compute(5, (k, v) -> null), "Entry should be removed");
+        assertNull(map.get(5), "Entry should be removed");
+        assertEquals(0, map.size(), "Map should be empty");
+    }
+
+    @Test
+    @Tags({@Tag("VirtualMerkle"), @Tag("VirtualNodeCache")})
+    @DisplayName("Many entries are added, removed, and iterated")
+    void manyEntries() {
+        final ConcurrentLongObjectMap<Long> map = new ConcurrentLongObjectMap<>(4);
+        final int count = 100_000;
+        for (long i = 0; i < count; i++) {
+            map.put(i, i * 3);
+        }
+        assertEquals(count, map.size(), "Wrong size");
+        // Remove every other entry, then add new entries, so tables are rebuilt with removed entries
+        for (long i = 0; i < count; i += 2) {
+            map.put(i, null);
+        }
+        for (long i = count; i < count * 2L; i++) {
+            map.put(i, i * 3);
+        }
+        assertEquals(count / 2 + count, map.size(), "Wrong size");
+        final Map<Long, Long> copy = new HashMap<>();
+        map.forEach(copy::put);
+        assertEquals(map.size(), copy.size(), "All entries should be iterated");
+        for (long i = 0; i < count * 2L; i++) {
+            final Long expected = ((i < count) && (i % 2 == 0)) ? null : i * 3;
+            assertEquals(expected, map.get(i), "Wrong value");
+            assertEquals(expected, copy.get(i), "Wrong iterated value");
+        }
+    }
+
+    @Test
+    @Tags({@Tag("VirtualMerkle"), @Tag("VirtualNodeCache")})
+    @DisplayName("Lock-free reads never miss keys that are not updated")
+    void concurrentReadsAndUpdates() throws Exception {
+        final ConcurrentLongObjectMap<Long> map = new ConcurrentLongObjectMap<>(2);
+        final int stableCount = 1000;
+        // Even keys are stable, they're never updated after this
+        for (long i = 0; i < stableCount; i++) {
+            map.put(i * 2, i);
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final AtomicBoolean done = new AtomicBoolean(false);
+            final CountDownLatch started = new CountDownLatch(3);
+            final Future<?> writer = executor.submit(() -> {
+                // Odd keys are added and removed, tables are resized and rebuilt
+                for (int round = 0; round < 20; round++) {
+                    for (long i = 0; i < 10_000; i++) {
+                        map.put(i * 2 + 1, i);
+                    }
+                    for (long i = 0; i < 10_000; i++) {
+                        map.compute(i * 2 + 1, (k, v) -> null);
+                    }
+                }
+                done.set(true);
+            });
+            final Future<?>[] readers = new Future<?>[3];
+            for (int r = 0; r < readers.length; r++) {
+                readers[r] = executor.submit(() -> {
+                    started.countDown();
+                    while (!done.get()) {
+                        for (long i = 0; i < stableCount; i++) {
+                            assertEquals(i, map.get(i * 2), "Stable key is missing");
+                        }
+                    }
+                });
+            }
+            assertTrue(started.await(10, TimeUnit.SECONDS), "Readers should start");
+            writer.get(60, TimeUnit.SECONDS);
+            for (final Future<?> reader : readers) {
+                reader.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(stableCount, map.size(), "Only stable keys should be left");
+    }
+}
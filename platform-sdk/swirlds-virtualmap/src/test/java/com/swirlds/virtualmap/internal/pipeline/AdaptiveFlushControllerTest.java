@@ -0,0 +1,100 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.virtualmap.internal.pipeline;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.config.extensions.sources.SimpleConfigSource;
+import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
+import com.swirlds.virtualmap.config.VirtualMapConfig;
+import com.swirlds.virtualmap.config.VirtualMapConfig_;
+import org.hiero.base.utility.test.fixtures.tags.TestComponentTags;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveFlushControllerTest {
+
+    private static VirtualMapConfig config(final boolean enabled) {
+        return new TestConfigBuilder()
+                .withSource(new SimpleConfigSource()
+                        .withValue(VirtualMapConfig_.ADAPTIVE_FLUSH_ENABLED, enabled)
+                        .withValue(VirtualMapConfig_.ADAPTIVE_FLUSH_TARGET_DURATION, "1s")
+                        .withValue(VirtualMapConfig_.ADAPTIVE_BACKLOG_TARGET_DURATION, "2s")
+                        .withValue(VirtualMapConfig_.MAXIMUM_FLUSH_THROTTLE_PERIOD, "1s"))
+                .withConfigDataType(VirtualMapConfig.class)
+                .getOrCreateConfig()
+                .getConfigData(VirtualMapConfig.class);
+    }
+
+    @Test
+    @Tag(TestComponentTags.VMAP)
+    @DisplayName("No decisions are made until throughputs are known")
+    void unknownThroughputs() {
+        final AdaptiveFlushController controller = new AdaptiveFlushController(config(true));
+        assertEquals(0, controller.getFlushBytesPerMs(), "Flush throughput should be unknown");
+        assertEquals(0, controller.getHashBytesPerMs(), "Hash throughput should be unknown");
+        assertFalse(controller.shouldFlush(Long.MAX_VALUE / 2), "No flush without known throughput");
+        assertEquals(-1, controller.predictBacklogMs(1000, 1000), "Backlog should be unknown");
+        assertEquals(0, controller.calculatePause(-1), "No pause for unknown backlog");
+
+        // Copies of unknown size are ignored
+        controller.recordFlush(-1, 10);
+        controller.recordHash(0, 10);
+        assertEquals(0, controller.getFlushBytesPerMs(), "Flush throughput should be unknown");
+        assertEquals(0, controller.getHashBytesPerMs(), "Hash throughput should be unknown");
+    }
+
+    @Test
+    @Tag(TestComponentTags.VMAP)
+    @DisplayName("Throughputs are moving averages over recent samples")
+    void throughputAverages() {
+        final AdaptiveFlushController controller = new AdaptiveFlushController(config(true));
+        controller.recordFlush(10_000, 10);
+        assertEquals(1000, controller.getFlushBytesPerMs(), 0.001, "First sample should be used as is");
+        controller.recordFlush(20_000, 10);
+        final double expected = 1000 + AdaptiveFlushController.SAMPLE_WEIGHT * (2000 - 1000);
+        assertEquals(expected, controller.getFlushBytesPerMs(), 0.001, "Wrong moving average");
+        // Zero duration is accounted as 1ms
+        controller.recordHash(500, 0);
+        assertEquals(500, controller.getHashBytesPerMs(), 0.001, "Wrong hash throughput");
+    }
+
+    @Test
+    @Tag(TestComponentTags.VMAP)
+    @DisplayName("Copies are flushed when predicted flush time reaches the target")
+    void flushDecisions() {
+        final AdaptiveFlushController controller = new AdaptiveFlushController(config(true));
+        // 1000 bytes per ms, target flush duration is 1s, so copies of 1MB and larger should be flushed
+        controller.recordFlush(1_000_000, 1000);
+        assertFalse(controller.shouldFlush(999_000), "Small copy should not be flushed");
+        assertTrue(controller.shouldFlush(1_000_000), "Large copy should be flushed");
+        assertFalse(controller.shouldFlush(-1), "Copy of unknown size should not be flushed");
+
+        final AdaptiveFlushController disabled = new AdaptiveFlushController(config(false));
+        disabled.recordFlush(1_000_000, 1000);
+        assertEquals(1000, disabled.getFlushBytesPerMs(), 0.001, "Throughput should be learned when disabled");
+        assertFalse(disabled.shouldFlush(10_000_000), "Disabled controller should not flush");
+    }
+
+    @Test
+    @Tag(TestComponentTags.VMAP)
+    @DisplayName("Pause grows with predicted backlog over the target")
+    void backlogPauses() {
+        final AdaptiveFlushController controller = new AdaptiveFlushController(config(true));
+        controller.recordFlush(1_000_000, 1000); // 1000 bytes per ms
+        controller.recordHash(4_000_000, 1000); // 4000 bytes per ms
+        assertEquals(1500, controller.predictBacklogMs(1_000_000, 2_000_000), "Wrong predicted backlog");
+
+        // Target backlog is 2s
+        assertEquals(0, controller.calculatePause(1500), "No pause under the target");
+        assertEquals(0, controller.calculatePause(2000), "No pause at the target");
+        assertEquals(100, controller.calculatePause(2200), "10% excess should result in 10^2 ms pause");
+        assertEquals(400, controller.calculatePause(2400), "20% excess should result in 20^2 ms pause");
+        assertEquals(1000, controller.calculatePause(10_000), "Pause should be limited by max throttle period");
+
+        final AdaptiveFlushController disabled = new AdaptiveFlushController(config(false));
+        assertEquals(0, disabled.calculatePause(10_000), "Disabled controller should not pause");
+    }
+}
@@ -0,0 +1,81 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.virtualmap.internal.reconnect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.common.merkle.synchronization.task.ReconnectNodeCount;
+import com.swirlds.virtualmap.internal.Path;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class PartitionedTraversalOrderTest {
+
+    private static final ReconnectNodeCount NODE_COUNT = new ReconnectNodeCount() {
+        @Override
+        public void incrementLeafCount() {}
+
+        @Override
+        public void incrementRedundantLeafCount() {}
+
+        @Override
+        public void incrementInternalCount() {}
+
+        @Override
+        public void incrementRedundantInternalCount() {}
+    };
+
+    @Test
+    @DisplayName("Partition count must be positive")
+    void invalidPartitionCount() {
+        assertThrows(IllegalArgumentException.class, () -> new PartitionedTraversalOrder(0), "Should throw");
+        final PartitionedTraversalOrder order = new PartitionedTraversalOrder(2);
+        assertThrows(IllegalArgumentException.class, () -> order.partition(2), "Should throw");
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1, 1", "1, 100", "2, 2", "2, 1001", "3, 6", "3, 1000", "5, 10", "8, 5000", "13, 4097"})
+    @DisplayName("Every path is sent in exactly one partition")
+    void allPathsInOnePartition(final int partitionCount, final long lastLeafPath) throws InterruptedException {
+        final PartitionedTraversalOrder order = new PartitionedTraversalOrder(partitionCount);
+        order.start(lastLeafPath / 2, lastLeafPath, NODE_COUNT);
+        final Set<Long> sent = new HashSet<>();
+        for (int i = 0; i < partitionCount; i++) {
+            final NodeTraversalOrder partition = order.partition(i);
+            long lastPath = Path.ROOT_PATH;
+            long path;
+            while ((path = partition.getNextPathToSend()) != Path.INVALID_PATH) {
+                assertTrue(path > lastPath, "Paths in a partition should be sent in order");
+                assertTrue(sent.add(path), "Path " + path + " is sent more than once");
+                lastPath = path;
+            }
+        }
+        assertEquals(lastLeafPath, sent.size(), "All paths but the root should be sent");
+    }
+
+    @Test
+    @DisplayName("Sub-trees of clean nodes are skipped in all partitions")
+    void cleanNodesSkipped() throws InterruptedException {
+        final long firstLeafPath = 1023;
+        final long lastLeafPath = 2046;
+        final PartitionedTraversalOrder order = new PartitionedTraversalOrder(4);
+        order.start(firstLeafPath, lastLeafPath, NODE_COUNT);
+        // Path 1 is above the partition rank, path 6 is the top of the last partition sub-tree
+        order.nodeReceived(1, true);
+        order.nodeReceived(6, true);
+        for (int i = 0; i < 4; i++) {
+            final NodeTraversalOrder partition = order.partition(i);
+            long path;
+            while ((path = partition.getNextPathToSend()) != Path.INVALID_PATH) {
+                assertFalse(path != 1 && Path.isInSubTree(1, path), "Path " + path + " should be skipped");
+                assertFalse(path != 6 && Path.isInSubTree(6, path), "Path " + path + " should be skipped");
+            }
+        }
+    }
+}
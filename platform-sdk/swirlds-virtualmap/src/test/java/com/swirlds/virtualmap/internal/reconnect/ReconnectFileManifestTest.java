@@ -0,0 +1,124 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.virtualmap.internal.reconnect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import org.hiero.base.io.streams.SerializableDataInputStream;
+import org.hiero.base.io.streams.SerializableDataOutputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class ReconnectFileManifestTest {
+
+    private static final int CHUNK_SIZE = 4096;
+
+    @TempDir
+    Path dir;
+
+    @ParameterizedTest
+    @CsvSource({"0, 0", "1, 1", "4095, 1", "4096, 1", "4097, 2", "12288, 3"})
+    @DisplayName("Chunk count is rounded up")
+    void chunkCount(final long size, final int expected) {
+        assertEquals(expected, ReconnectFileManifest.chunkCount(size, CHUNK_SIZE), "Wrong chunk count");
+    }
+
+    @Test
+    @DisplayName("Entries of files with the same chunks have the same chunk hashes")
+    void sameChunksSameHashes() throws IOException {
+        final byte[] data = randomBytes(CHUNK_SIZE * 2 + 100);
+        Files.write(dir.resolve("a"), data);
+        final byte[] changed = data.clone();
+        changed[CHUNK_SIZE + 1]++;
+        Files.createDirectories(dir.resolve("sub"));
+        Files.write(dir.resolve("sub").resolve("b"), changed);
+
+        assertEquals(List.of("a", "sub/b"), ReconnectFileManifest.listFiles(dir), "Wrong file list");
+        final ReconnectFileManifest.Entry a = ReconnectFileManifest.buildEntry(dir, "a", CHUNK_SIZE);
+        final ReconnectFileManifest.Entry b = ReconnectFileManifest.buildEntry(dir, "sub/b", CHUNK_SIZE);
+        assertEquals(data.length, a.size(), "Wrong file size");
+        assertEquals(3, a.chunkHashes().size(), "Wrong chunk count");
+        assertEquals(CHUNK_SIZE, a.chunkLength(1, CHUNK_SIZE), "Wrong chunk length");
+        assertEquals(100, a.chunkLength(2, CHUNK_SIZE), "Wrong last chunk length");
+        assertEquals(a.chunkHashes().get(0), b.chunkHashes().get(0), "Same chunks should have same hashes");
+        assertNotEquals(a.chunkHashes().get(1), b.chunkHashes().get(1), "Changed chunk should have new hash");
+        assertEquals(a.chunkHashes().get(2), b.chunkHashes().get(2), "Same chunks should have same hashes");
+    }
+
+    @Test
+    @DisplayName("Serialized entry is deserialized")
+    void serializeDeserialize() throws IOException {
+        Files.write(dir.resolve("file"), randomBytes(CHUNK_SIZE + 1));
+        final ReconnectFileManifest.Entry entry = ReconnectFileManifest.buildEntry(dir, "file", CHUNK_SIZE);
+
+        final ByteArrayOutputStream bout = new ByteArrayOutputStream();
+        try (final SerializableDataOutputStream out = new SerializableDataOutputStream(bout)) {
+            entry.serialize(out);
+        }
+        try (final SerializableDataInputStream in =
+                new SerializableDataInputStream(new ByteArrayInputStream(bout.toByteArray()))) {
+            assertEquals(entry, ReconnectFileManifest.Entry.deserialize(in, CHUNK_SIZE), "Wrong entry");
+        }
+        try (final SerializableDataInputStream in =
+                new SerializableDataInputStream(new ByteArrayInputStream(bout.toByteArray()))) {
+            assertThrows(
+                    IOException.class,
+                    () -> ReconnectFileManifest.Entry.deserialize(in, CHUNK_SIZE * 2),
+                    "Chunk count mismatch should be rejected");
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "4096, -1, 0",
+        "4096, 9223372036854775807, -1",
+        "4096, 68719476737, 16777217",
+        "0, 0, 0",
+        "-4096, 4096, 1"
+    })
+    @DisplayName("Entries with invalid sizes or chunk counts are rejected")
+    void deserializeInvalidSize(final int chunkSize, final long size, final int chunkCount) throws IOException {
+        final ByteArrayOutputStream bout = new ByteArrayOutputStream();
+        try (final SerializableDataOutputStream out = new SerializableDataOutputStream(bout)) {
+            out.writeNormalisedString("file");
+            out.writeLong(size);
+            out.writeInt(chunkCount);
+        }
+        try (final SerializableDataInputStream in =
+                new SerializableDataInputStream(new ByteArrayInputStream(bout.toByteArray()))) {
+            assertThrows(
+                    IOException.class,
+                    () -> ReconnectFileManifest.Entry.deserialize(in, chunkSize),
+                    "Invalid entry should be rejected");
+        }
+    }
+
+    @Test
+    @DisplayName("Paths outside the snapshot directory are rejected")
+    void resolveOutsideDirectory() throws IOException {
+        assertEquals(
+                dir.toAbsolutePath().normalize().resolve("x").resolve("y"),
+                ReconnectFileManifest.resolve(dir, "x/y"),
+                "Wrong resolved path");
+        assertThrows(IOException.class, () -> ReconnectFileManifest.resolve(dir, "../x"), "Should throw");
+        assertThrows(IOException.class, () -> ReconnectFileManifest.resolve(dir, "x/../.."), "Should throw");
+        assertThrows(IOException.class, () -> ReconnectFileManifest.resolve(dir, "."), "Should throw");
+    }
+
+    private static byte[] randomBytes(final int length) {
+        final byte[] bytes = new byte[length];
+        new Random(42).nextBytes(bytes);
+        return bytes;
+    }
+}